@@ -155,6 +155,9 @@ CREATE TABLE `student_application` (
   `application_date` DATE NULL,
   `status_id` BIGINT UNSIGNED NULL,
   PRIMARY KEY (`id`),
+  INDEX `idx_student_application_user_semester` (`user_id`, `semester_id`),
+  INDEX `idx_student_application_semester_status` (`semester_id`, `status_id`, `user_id`),
+  INDEX `idx_student_application_semester_id` (`semester_id`, `id`),
   CONSTRAINT `fk_student_application_user`
     FOREIGN KEY (`user_id`) REFERENCES `users` (`id`)
     ON DELETE SET NULL ON UPDATE CASCADE,
@@ -185,6 +188,7 @@ CREATE TABLE `academic_request` (
   `accepted` BOOLEAN NULL,
   `combined` BOOLEAN NULL,
   PRIMARY KEY (`id`),
+  INDEX `idx_academic_request_semester_id` (`semester_id`, `id`),
   CONSTRAINT `fk_academic_request_user`
     FOREIGN KEY (`user_id`) REFERENCES `users` (`id`)
     ON DELETE SET NULL ON UPDATE CASCADE,
@@ -228,6 +232,8 @@ CREATE TABLE `class` (
   `capacity` INT NULL,
   `status_id` BIGINT UNSIGNED NULL,
   PRIMARY KEY (`id`),
+  INDEX `idx_class_course_semester` (`course_id`, `semester_id`),
+  INDEX `idx_class_semester_id` (`semester_id`, `id`),
   CONSTRAINT `fk_class_course`
     FOREIGN KEY (`course_id`) REFERENCES `course` (`id`)
     ON DELETE SET NULL ON UPDATE CASCADE,
@@ -249,6 +255,8 @@ CREATE TABLE `class_schedule` (
   `modality_id` BIGINT UNSIGNED NULL,
   `disability` BOOLEAN NULL,
   PRIMARY KEY (`id`),
+  INDEX `idx_class_schedule_classroom_day` (`classroom_id`, `day`, `start_time`, `end_time`),
+  INDEX `idx_class_schedule_class_day` (`class_id`, `day`),
   CONSTRAINT `fk_class_schedule_class`
     FOREIGN KEY (`class_id`) REFERENCES `class` (`id`)
     ON DELETE SET NULL ON UPDATE CASCADE,
@@ -268,6 +276,7 @@ CREATE TABLE `teaching_assistant` (
   `weeks` INT NULL,
   `total_hours` INT NULL,
   PRIMARY KEY (`id`),
+  INDEX `idx_teaching_assistant_class_application` (`class_id`, `student_application_id`),
   CONSTRAINT `fk_teaching_assistant_class`
     FOREIGN KEY (`class_id`) REFERENCES `class` (`id`)
     ON DELETE SET NULL ON UPDATE CASCADE,
@@ -283,6 +292,7 @@ CREATE TABLE `teaching_assistant_schedule` (
   `start_time` TIME NULL,
   `end_time` TIME NULL,
   PRIMARY KEY (`id`),
+  INDEX `idx_teaching_assistant_schedule_day_time` (`teaching_assistant_id`, `day`, `start_time`, `end_time`),
   CONSTRAINT `fk_teaching_assistant_schedule_teaching_assistant`
     FOREIGN KEY (`teaching_assistant_id`) REFERENCES `teaching_assistant` (`id`)
     ON DELETE SET NULL ON UPDATE CASCADE
@@ -302,6 +312,9 @@ CREATE TABLE `teacher_class` (
   `start_date` DATE NULL,
   `end_date` DATE NULL,
   PRIMARY KEY (`id`),
+  INDEX `idx_teacher_class_semester_teacher` (`semester_id`, `teacher_id`, `work_hours`),
+  INDEX `idx_teacher_class_class_status` (`class_id`, `status_id`),
+  INDEX `idx_teacher_class_semester_id` (`semester_id`, `id`),
   CONSTRAINT `fk_teacher_class_semester`
     FOREIGN KEY (`semester_id`) REFERENCES `semester` (`id`)
     ON DELETE SET NULL ON UPDATE CASCADE,
@@ -351,6 +364,16 @@ CREATE TABLE `audit_log` (
   INDEX `idx_timestamp` (`timestamp`)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
 
+CREATE TABLE `cache_invalidation` (
+  `id` BIGINT UNSIGNED NOT NULL AUTO_INCREMENT,
+  `cache_name` VARCHAR(100) NOT NULL,
+  `cache_key` VARCHAR(255) DEFAULT NULL,
+  `origin` VARCHAR(36) NOT NULL,
+  `created_at` DATETIME(3) NOT NULL DEFAULT CURRENT_TIMESTAMP(3),
+  PRIMARY KEY (`id`),
+  INDEX `idx_created_at` (`created_at`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
+
 -- =========================
 -- Spring Modulith Events
 -- =========================
@@ -0,0 +1,108 @@
+import http from 'k6/http';
+import { check, sleep } from 'k6';
+import * as AdmissionScenario from './scenarios/scenarioAdmission.js';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+
+// Users sharing the report storm, so both the per-user rate and the class concurrency limit reject
+const STORM_USERS = ['admin@secchub.com', 'program@secchub.com'];
+
+// Keeps a steady interactive load while a storm of report requests ramps up against the admission limits
+export const options = {
+  scenarios: {
+    interactive: {
+      executor: 'constant-arrival-rate',
+      exec: 'interactive',
+      rate: 20,                       // 20 interactive requests per second
+      timeUnit: '1s',
+      duration: '4m',
+      preAllocatedVUs: 20,
+      maxVUs: 50,
+    },
+    report_storm: {
+      executor: 'ramping-vus',
+      exec: 'reportStorm',
+      startTime: '30s',               // Interactive baseline before the storm
+      stages: [
+        { duration: '30s', target: 50 },   // Ramp up to 50 report users
+        { duration: '2m', target: 100 },   // Storm at 100 report users
+        { duration: '30s', target: 0 },    // Ramp down
+      ],
+    },
+  },
+  thresholds: {
+    'interactive_duration_ms': ['p(99)<500'],     // Interactive p99 holds during the storm
+    'interactive_errors': ['rate<0.01'],          // Interactive requests are never shed
+    'report_errors': ['rate<0.01'],               // Reports answer 200 or 429, never 5xx or timeouts
+    'report_rejected': ['rate>0'],                // The storm is actually limited
+    'http_req_failed': ['rate<0.05'],             // Failed requests < 5% (429s on reports are expected)
+  },
+};
+
+/**
+ * Authenticate a user
+ * @param {string} email - Seed user email
+ * @returns {string|null} JWT token or null if authentication fails
+ */
+function authenticate(email) {
+  const payload = JSON.stringify({
+    email,
+    password: 'password',
+  });
+
+  const response = http.post(`${BASE_URL}/auth/login`, payload, {
+    headers: { 'Content-Type': 'application/json' },
+    tags: { name: 'authenticate' },
+  });
+
+  const success = check(response, {
+    'authentication successful': (r) => r.status === 200,
+    'token received': (r) => r.json('accessToken') !== undefined,
+  });
+
+  if (!success) {
+    console.error(`Authentication failed for ${email}: ${response.status} - ${response.body}`);
+    return null;
+  }
+
+  return response.json('accessToken');
+}
+
+/**
+ * Setup function - runs once before test
+ */
+export function setup() {
+  console.log('Starting SecHub Backend Admission Control Load Test');
+  console.log(`Base URL: ${BASE_URL}`);
+
+  const token = authenticate('admin@secchub.com');
+  if (!token) {
+    throw new Error('Failed to authenticate admin user');
+  }
+
+  const stormTokens = STORM_USERS.map(authenticate).filter((stormToken) => stormToken !== null);
+  if (stormTokens.length === 0) {
+    throw new Error('Failed to authenticate report storm users');
+  }
+
+  return { token, stormTokens, baseUrl: BASE_URL };
+}
+
+/**
+ * Interactive scenario - runs at a constant arrival rate
+ * @param {Object} data - Shared data from setup()
+ */
+export function interactive(data) {
+  AdmissionScenario.interactive(data.token, data.baseUrl);
+}
+
+/**
+ * Report storm scenario - each VU retries quickly, as an impatient user would
+ * @param {Object} data - Shared data from setup()
+ */
+export function reportStorm(data) {
+  const token = data.stormTokens[__VU % data.stormTokens.length];
+  AdmissionScenario.reportStorm(token, data.baseUrl);
+
+  sleep(Math.random() * 0.5); // Random 0-0.5 seconds
+}
@@ -0,0 +1,83 @@
+import http from 'k6/http';
+import { check, sleep } from 'k6';
+import * as ConditionalScenario from './scenarios/scenarioConditional.js';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+
+// Compares full responses of the catalog endpoints against revalidations with If-None-Match
+export const options = {
+  stages: [
+    { duration: '30s', target: 20 },  // Ramp up to 20 users
+    { duration: '1m', target: 50 },   // Ramp up to 50 users (max)
+    { duration: '3m', target: 50 },   // Maintain 50 users for 3 minutes
+    { duration: '30s', target: 0 },   // Ramp down
+  ],
+  thresholds: {
+    'conditional_errors': ['rate<0.05'],          // Error rate < 5%
+    'conditional_not_modified': ['rate>0.9'],     // Revalidations answered with 304 while nothing changes
+    'conditional_duration_ms': ['p(95)<200'],     // 304s skip the service and serialization
+    'http_req_failed': ['rate<0.05'],             // Failed requests < 5%
+  },
+};
+
+/**
+ * Authenticate admin user
+ * @returns {string|null} JWT token or null if authentication fails
+ */
+function authenticate() {
+  const payload = JSON.stringify({
+    email: 'admin@secchub.com',
+    password: 'password',
+  });
+
+  const response = http.post(`${BASE_URL}/auth/login`, payload, {
+    headers: { 'Content-Type': 'application/json' },
+    tags: { name: 'authenticate' },
+  });
+
+  const success = check(response, {
+    'authentication successful': (r) => r.status === 200,
+    'token received': (r) => r.json('accessToken') !== undefined,
+  });
+
+  if (!success) {
+    console.error(`Authentication failed: ${response.status} - ${response.body}`);
+    return null;
+  }
+
+  return response.json('accessToken');
+}
+
+/**
+ * Setup function - runs once before test
+ */
+export function setup() {
+  console.log('Starting SecHub Backend Conditional GET Load Test');
+  console.log(`Base URL: ${BASE_URL}`);
+
+  const token = authenticate();
+
+  if (!token) {
+    throw new Error('Failed to authenticate admin user');
+  }
+
+  return { token, baseUrl: BASE_URL };
+}
+
+/**
+ * Main test function - runs for each VU iteration
+ * @param {Object} data - Shared data from setup()
+ */
+export default function (data) {
+  const { token, baseUrl } = data;
+
+  if (!token) {
+    console.error('No authentication token available');
+    return;
+  }
+
+  ConditionalScenario.default(token, baseUrl, data);
+
+  // Think time (realistic user behavior)
+  sleep(Math.random() + 0.5); // Random 0.5-1.5 seconds
+}
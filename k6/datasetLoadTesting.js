@@ -0,0 +1,83 @@
+import http from 'k6/http';
+import { check, sleep } from 'k6';
+import * as DatasetScenario from './scenarios/scenarioDataset.js';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+
+// Load test against a database filled by SyntheticDatasetGenerator (mvn -Pdataset process-test-classes)
+export const options = {
+  stages: [
+    { duration: '30s', target: 20 },  // Ramp up to 20 users
+    { duration: '1m', target: 50 },   // Ramp up to 50 users (max)
+    { duration: '5m', target: 50 },   // Maintain 50 users for 5 minutes
+    { duration: '30s', target: 0 },   // Ramp down
+  ],
+  thresholds: {
+    'dataset_errors': ['rate<0.05'],                             // Error rate < 5%
+    'dataset_lookup_duration_ms': ['p(95)<500', 'p(99)<1000'],   // Lookups by id stay fast at scale
+    'dataset_conflict_duration_ms': ['p(95)<3000'],              // Conflict reports scan the whole semester
+    'http_req_failed': ['rate<0.05'],                            // Failed requests < 5%
+  },
+};
+
+/**
+ * Authenticate the admin user created by the dataset
+ * @returns {string|null} JWT token or null if authentication fails
+ */
+function authenticate() {
+  const payload = JSON.stringify({
+    email: 'admin@secchub.com',
+    password: 'password',
+  });
+
+  const response = http.post(`${BASE_URL}/auth/login`, payload, {
+    headers: { 'Content-Type': 'application/json' },
+    tags: { name: 'authenticate' },
+  });
+
+  const success = check(response, {
+    'authentication successful': (r) => r.status === 200,
+    'token received': (r) => r.json('accessToken') !== undefined,
+  });
+
+  if (!success) {
+    console.error(`Authentication failed: ${response.status} - ${response.body}`);
+    return null;
+  }
+
+  return response.json('accessToken');
+}
+
+/**
+ * Setup function - runs once before test
+ */
+export function setup() {
+  console.log('Starting SecHub Backend Dataset Load Test');
+  console.log(`Base URL: ${BASE_URL}`);
+
+  const token = authenticate();
+
+  if (!token) {
+    throw new Error('Failed to authenticate admin user');
+  }
+
+  return { token, baseUrl: BASE_URL };
+}
+
+/**
+ * Main test function - runs for each VU iteration
+ * @param {Object} data - Shared data from setup()
+ */
+export default function (data) {
+  const { token, baseUrl } = data;
+
+  if (!token) {
+    console.error('No authentication token available');
+    return;
+  }
+
+  DatasetScenario.default(token, baseUrl, data);
+
+  // Think time (realistic user behavior)
+  sleep(Math.random() + 0.5); // Random 0.5-1.5 seconds
+}
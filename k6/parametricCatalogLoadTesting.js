@@ -0,0 +1,131 @@
+import http from 'k6/http';
+import { check } from 'k6';
+import * as CatalogScenario from './scenarios/scenarioParametricCatalog.js';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+
+// Measures the server CPU spent per parametric list request.
+// Run it against builds before and after the pre-encoded catalog and compare the CPU per request
+// printed at the end; run it alone so other traffic does not count.
+export const options = {
+  scenarios: {
+    catalog: {
+      executor: 'constant-arrival-rate',
+      rate: 500,                          // Same request rate for every build
+      timeUnit: '1s',
+      duration: '2m',
+      preAllocatedVUs: 50,
+      maxVUs: 200,
+    },
+  },
+  thresholds: {
+    'catalog_errors': ['rate<0.01'],              // Error rate < 1%
+    'catalog_duration_ms': ['p(95)<100'],         // Small lists stay fast
+    'http_req_failed': ['rate<0.01'],             // Failed requests < 1%
+  },
+};
+
+/**
+ * Authenticate admin user
+ * @returns {string|null} JWT token or null if authentication fails
+ */
+function authenticate() {
+  const payload = JSON.stringify({
+    email: 'admin@secchub.com',
+    password: 'password',
+  });
+
+  const response = http.post(`${BASE_URL}/auth/login`, payload, {
+    headers: { 'Content-Type': 'application/json' },
+    tags: { name: 'authenticate' },
+  });
+
+  const success = check(response, {
+    'authentication successful': (r) => r.status === 200,
+    'token received': (r) => r.json('accessToken') !== undefined,
+  });
+
+  if (!success) {
+    console.error(`Authentication failed: ${response.status} - ${response.body}`);
+    return null;
+  }
+
+  return response.json('accessToken');
+}
+
+/**
+ * Reads a measurement of an actuator metric, which requires an admin token
+ * @returns {number} Measurement value, 0 when the metric is not published yet
+ */
+function metric(token, name, statistic, tag) {
+  const query = tag ? `?tag=${encodeURIComponent(tag)}` : '';
+  const response = http.get(`${BASE_URL}/actuator/metrics/${name}${query}`, {
+    headers: { Authorization: `Bearer ${token}` },
+    tags: { name: 'actuator' },
+  });
+  if (response.status !== 200) {
+    return 0;
+  }
+  const measurement = response.json('measurements').find((m) => m.statistic === statistic);
+  return measurement ? measurement.value : 0;
+}
+
+/**
+ * Samples the server CPU time and the number of catalog requests it handled
+ */
+function sample(token) {
+  return {
+    cpuNanos: metric(token, 'process.cpu.time', 'COUNT'),
+    requests: CatalogScenario.CATALOG_PATHS
+      .map((path) => metric(token, 'http.server.requests', 'COUNT', `uri:${path}`))
+      .reduce((sum, count) => sum + count, 0),
+  };
+}
+
+/**
+ * Setup function - runs once before test
+ */
+export function setup() {
+  console.log('Starting SecHub Backend Parametric Catalog Load Test');
+  console.log(`Base URL: ${BASE_URL}`);
+
+  const token = authenticate();
+
+  if (!token) {
+    throw new Error('Failed to authenticate admin user');
+  }
+
+  return { token, baseUrl: BASE_URL, before: sample(token) };
+}
+
+/**
+ * Main test function - runs for each scheduled iteration
+ * @param {Object} data - Shared data from setup()
+ */
+export default function (data) {
+  const { token, baseUrl } = data;
+
+  if (!token) {
+    console.error('No authentication token available');
+    return;
+  }
+
+  CatalogScenario.default(token, baseUrl, data);
+}
+
+/**
+ * Teardown function - prints the server CPU time per catalog request
+ * @param {Object} data - Shared data from setup()
+ */
+export function teardown(data) {
+  const after = sample(data.token);
+  const requests = after.requests - data.before.requests;
+  const cpuMillis = (after.cpuNanos - data.before.cpuNanos) / 1e6;
+
+  if (requests <= 0 || cpuMillis <= 0) {
+    console.warn('process.cpu.time or http.server.requests not available from /actuator/metrics');
+    return;
+  }
+  console.log(`Catalog requests: ${requests}, server CPU: ${cpuMillis.toFixed(0)} ms`);
+  console.log(`Server CPU per request: ${(cpuMillis / requests * 1000).toFixed(1)} µs`);
+}
@@ -0,0 +1,97 @@
+import http from 'k6/http';
+import { check, group } from 'k6';
+import { Counter, Rate, Trend } from 'k6/metrics';
+
+// Custom metrics separating interactive traffic from the report storm
+const interactiveErrorRate = new Rate('interactive_errors');
+const interactiveDuration = new Trend('interactive_duration_ms', true);
+const reportDuration = new Trend('report_duration_ms', true);
+const reportRejectedRate = new Rate('report_rejected');
+const reportErrorRate = new Rate('report_errors');
+const reportRejected = new Counter('report_rejected_total');
+
+// Cheap endpoints a user navigates while others export reports
+const INTERACTIVE_ENDPOINTS = [
+  { weight: 30, path: '/semesters/current', name: 'current_semester' },
+  { weight: 20, path: '/courses', name: 'courses' },
+  { weight: 20, path: '/classrooms', name: 'classrooms' },
+  { weight: 20, path: '/planning/classes', name: 'classes' },
+  { weight: 10, path: '/parametric/statuses', name: 'statuses' },
+];
+
+// Endpoints of the report admission class
+const REPORT_ENDPOINTS = [
+  { weight: 35, path: '/planning/conflicts/teachers', name: 'teacher_conflicts' },
+  { weight: 35, path: '/planning/conflicts/classrooms', name: 'classroom_conflicts' },
+  { weight: 20, path: '/sections/summary', name: 'sections_summary' },
+  { weight: 10, path: '/teaching-assistants/conflicts', name: 'assistant_conflicts' },
+];
+
+/**
+ * Utility function for weighted random selection
+ */
+function weightedRandom(items) {
+  const totalWeight = items.reduce((sum, item) => sum + item.weight, 0);
+  let random = Math.random() * totalWeight;
+
+  for (const item of items) {
+    random -= item.weight;
+    if (random <= 0) {
+      return item;
+    }
+  }
+  return items[0];
+}
+
+/**
+ * Interactive scenario: must keep its latency while the report storm runs
+ * @param {string} token - JWT authentication token
+ * @param {string} baseUrl - Base URL of the API
+ */
+export function interactive(token, baseUrl) {
+  const endpoint = weightedRandom(INTERACTIVE_ENDPOINTS);
+
+  group('Admission - Interactive', () => {
+    const response = http.get(`${baseUrl}${endpoint.path}`, {
+      headers: { 'Authorization': `Bearer ${token}` },
+      tags: { operation: `interactive_${endpoint.name}` },
+    });
+
+    interactiveDuration.add(response.timings.duration);
+    const success = check(response, {
+      [`interactive ${endpoint.name} (200)`]: (r) => r.status === 200,
+    });
+    interactiveErrorRate.add(!success);
+  });
+}
+
+/**
+ * Report storm scenario: admitted requests answer 200, the rest a fast 429 with Retry-After
+ * @param {string} token - JWT authentication token
+ * @param {string} baseUrl - Base URL of the API
+ */
+export function reportStorm(token, baseUrl) {
+  const endpoint = weightedRandom(REPORT_ENDPOINTS);
+
+  group('Admission - Report Storm', () => {
+    const response = http.get(`${baseUrl}${endpoint.path}`, {
+      headers: { 'Authorization': `Bearer ${token}` },
+      tags: { operation: `report_${endpoint.name}` },
+      responseCallback: http.expectedStatuses(200, 429),
+    });
+
+    const rejected = response.status === 429;
+    reportRejectedRate.add(rejected);
+    if (rejected) {
+      reportRejected.add(1);
+    } else {
+      reportDuration.add(response.timings.duration);
+    }
+
+    const success = check(response, {
+      [`report ${endpoint.name} (200/429)`]: (r) => r.status === 200 || r.status === 429,
+      [`report ${endpoint.name} 429 has Retry-After`]: (r) => r.status !== 429 || r.headers['Retry-After'] !== undefined,
+    });
+    reportErrorRate.add(!success);
+  });
+}
@@ -0,0 +1,113 @@
+import http from 'k6/http';
+import { check, group } from 'k6';
+import { Counter, Rate, Trend } from 'k6/metrics';
+
+// Custom metrics comparing full responses against revalidations with If-None-Match
+const conditionalErrorRate = new Rate('conditional_errors');
+const notModifiedRate = new Rate('conditional_not_modified');
+const unconditionalDuration = new Trend('unconditional_duration_ms', true);
+const conditionalDuration = new Trend('conditional_duration_ms', true);
+const unconditionalBytes = new Counter('unconditional_body_bytes');
+const conditionalBytes = new Counter('conditional_body_bytes');
+
+// Near-static endpoints versioned with ETags
+const ENDPOINTS = [
+  { weight: 10, path: '/parametric/statuses', name: 'statuses' },
+  { weight: 10, path: '/parametric/roles', name: 'roles' },
+  { weight: 5, path: '/parametric/document-types', name: 'document_types' },
+  { weight: 5, path: '/parametric/employment-types', name: 'employment_types' },
+  { weight: 10, path: '/parametric/modalities', name: 'modalities' },
+  { weight: 10, path: '/parametric/classroom-types', name: 'classroom_types' },
+  { weight: 20, path: '/semesters/current', name: 'current_semester' },
+  { weight: 5, path: '/semesters/all', name: 'all_semesters' },
+  { weight: 15, path: '/courses', name: 'courses' },
+  { weight: 10, path: '/classrooms', name: 'classrooms' },
+];
+
+// ETags seen by this VU, as a browser cache would keep them
+const etags = {};
+
+/**
+ * Utility function for weighted random selection
+ */
+function weightedRandom(items) {
+  const totalWeight = items.reduce((sum, item) => sum + item.weight, 0);
+  let random = Math.random() * totalWeight;
+
+  for (const item of items) {
+    random -= item.weight;
+    if (random <= 0) {
+      return item;
+    }
+  }
+  return items[0];
+}
+
+function bodyBytes(response) {
+  return response.body ? response.body.length : 0;
+}
+
+/**
+ * Fetches the endpoint without validators, as the frontend does today
+ */
+function unconditionalGet(token, baseUrl, endpoint) {
+  const response = http.get(`${baseUrl}${endpoint.path}`, {
+    headers: { 'Authorization': `Bearer ${token}` },
+    tags: { operation: `unconditional_${endpoint.name}` },
+  });
+
+  unconditionalDuration.add(response.timings.duration);
+  unconditionalBytes.add(bodyBytes(response));
+  const success = check(response, {
+    [`unconditional ${endpoint.name} (200)`]: (r) => r.status === 200,
+    [`unconditional ${endpoint.name} has ETag`]: (r) => r.headers['Etag'] !== undefined,
+  });
+  conditionalErrorRate.add(!success);
+
+  if (response.status === 200 && response.headers['Etag']) {
+    etags[endpoint.path] = response.headers['Etag'];
+  }
+}
+
+/**
+ * Revalidates the endpoint with the last ETag, expecting a 304 while nothing changed
+ */
+function conditionalGet(token, baseUrl, endpoint) {
+  const headers = { 'Authorization': `Bearer ${token}` };
+  if (etags[endpoint.path]) {
+    headers['If-None-Match'] = etags[endpoint.path];
+  }
+
+  const response = http.get(`${baseUrl}${endpoint.path}`, {
+    headers,
+    tags: { operation: `conditional_${endpoint.name}` },
+  });
+
+  conditionalDuration.add(response.timings.duration);
+  conditionalBytes.add(bodyBytes(response));
+  notModifiedRate.add(response.status === 304);
+  const success = check(response, {
+    [`conditional ${endpoint.name} (200/304)`]: (r) => r.status === 200 || r.status === 304,
+  });
+  conditionalErrorRate.add(!success);
+
+  if (response.status === 200 && response.headers['Etag']) {
+    etags[endpoint.path] = response.headers['Etag'];
+  }
+}
+
+/**
+ * Main scenario function
+ * Requests the same endpoint with and without If-None-Match so both trends share the same mix
+ * @param {string} token - JWT authentication token
+ * @param {string} baseUrl - Base URL of the API
+ * @param {Object} data - Shared data from setup()
+ */
+export default function (token, baseUrl, data) {
+  const endpoint = weightedRandom(ENDPOINTS);
+
+  group('Conditional - Catalogs', () => {
+    unconditionalGet(token, baseUrl, endpoint);
+    conditionalGet(token, baseUrl, endpoint);
+  });
+}
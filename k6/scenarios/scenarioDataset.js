@@ -0,0 +1,135 @@
+import http from 'k6/http';
+import { check, group } from 'k6';
+import { Rate, Trend } from 'k6/metrics';
+import { SharedArray } from 'k6/data';
+
+// Custom metrics for the synthetic dataset scenario
+const datasetErrorRate = new Rate('dataset_errors');
+const lookupDuration = new Trend('dataset_lookup_duration_ms', true);
+const conflictDuration = new Trend('dataset_conflict_duration_ms', true);
+
+// Ids written by SyntheticDatasetGenerator next to the dataset, relative to this file or absolute
+const DATASET_IDS = __ENV.DATASET_IDS || '../../target/dataset/k6-ids.json';
+
+function loadIds(name) {
+  return new SharedArray(name, function () {
+    const ids = JSON.parse(open(DATASET_IDS))[name];
+    return ids && ids.length > 0 ? ids : [1];
+  });
+}
+
+const courseIds = loadIds('courseIds');
+const classroomIds = loadIds('classroomIds');
+const teacherIds = loadIds('teacherIds');
+const classIds = loadIds('classIds');
+const studentApplicationIds = loadIds('studentApplicationIds');
+const conflictingClassroomIds = loadIds('conflictingClassroomIds');
+const conflictingTeacherIds = loadIds('conflictingTeacherIds');
+
+/**
+ * Utility function for weighted random selection
+ */
+function weightedRandom(items) {
+  const totalWeight = items.reduce((sum, item) => sum + item.weight, 0);
+  let random = Math.random() * totalWeight;
+
+  for (const item of items) {
+    random -= item.weight;
+    if (random <= 0) {
+      return item;
+    }
+  }
+  return items[0];
+}
+
+function pick(ids) {
+  return ids[Math.floor(Math.random() * ids.length)];
+}
+
+/**
+ * GET request checked for a 200 response, recorded in the given trend
+ */
+function get(token, url, operation, trend) {
+  const response = http.get(url, {
+    headers: { 'Authorization': `Bearer ${token}` },
+    tags: { operation },
+  });
+
+  trend.add(response.timings.duration);
+  const success = check(response, {
+    [`${operation} (200)`]: (r) => r.status === 200,
+  });
+  datasetErrorRate.add(!success);
+  return response;
+}
+
+// ====================
+// LOOKUPS BY ID (60%)
+// ====================
+
+/**
+ * Reads classes, teacher assignments and applications of the current semester by id
+ */
+function lookupOperations(token, baseUrl) {
+  group('Dataset - Lookups', () => {
+    get(token, `${baseUrl}/planning/classes/${pick(classIds)}`, 'dataset_class_by_id', lookupDuration);
+    get(token, `${baseUrl}/planning/classes/${pick(classIds)}/schedules`, 'dataset_class_schedules', lookupDuration);
+    get(token, `${baseUrl}/planning/classes/current-semester/course/${pick(courseIds)}`,
+      'dataset_classes_by_course', lookupDuration);
+    get(token, `${baseUrl}/teachers/${pick(teacherIds)}/classes`, 'dataset_teacher_classes', lookupDuration);
+    get(token, `${baseUrl}/student-applications/${pick(studentApplicationIds)}`,
+      'dataset_student_application_by_id', lookupDuration);
+  });
+}
+
+// ====================
+// SCHEDULE READS (25%)
+// ====================
+
+/**
+ * Reads the schedules of classrooms, including the double-booked ones
+ */
+function scheduleOperations(token, baseUrl) {
+  group('Dataset - Schedules', () => {
+    get(token, `${baseUrl}/planning/schedules/classroom/${pick(classroomIds)}`,
+      'dataset_schedules_by_classroom', lookupDuration);
+    get(token, `${baseUrl}/planning/schedules/classroom/${pick(conflictingClassroomIds)}`,
+      'dataset_schedules_by_conflicting_classroom', lookupDuration);
+    get(token, `${baseUrl}/teachers/${pick(conflictingTeacherIds)}/classes`,
+      'dataset_conflicting_teacher_classes', lookupDuration);
+  });
+}
+
+// ====================
+// CONFLICT REPORTS (15%)
+// ====================
+
+/**
+ * Runs the conflict reports, whose cost grows with the dataset and its conflict density
+ */
+function conflictOperations(token, baseUrl) {
+  group('Dataset - Conflicts', () => {
+    const operation = weightedRandom([
+      { weight: 40, url: `${baseUrl}/planning/conflicts/classrooms`, name: 'dataset_classroom_conflicts' },
+      { weight: 40, url: `${baseUrl}/planning/conflicts/teachers`, name: 'dataset_teacher_conflicts' },
+      { weight: 20, url: `${baseUrl}/teaching-assistants/conflicts`, name: 'dataset_teaching_assistant_conflicts' },
+    ]);
+    get(token, operation.url, operation.name, conflictDuration);
+  });
+}
+
+/**
+ * Main scenario function
+ * @param {string} token - JWT authentication token
+ * @param {string} baseUrl - Base URL of the API
+ * @param {Object} data - Shared data from setup()
+ */
+export default function (token, baseUrl, data) {
+  const operation = weightedRandom([
+    { weight: 60, name: 'lookup', fn: lookupOperations },
+    { weight: 25, name: 'schedule', fn: scheduleOperations },
+    { weight: 15, name: 'conflict', fn: conflictOperations },
+  ]);
+
+  operation.fn(token, baseUrl);
+}
@@ -0,0 +1,48 @@
+import http from 'k6/http';
+import { check, group } from 'k6';
+import { Rate, Trend } from 'k6/metrics';
+
+// Custom metrics for the parametric list endpoints
+const catalogErrorRate = new Rate('catalog_errors');
+const catalogDuration = new Trend('catalog_duration_ms', true);
+
+// Whole-list endpoints served from the pre-encoded catalog
+export const CATALOG_PATHS = [
+  '/parametric/statuses',
+  '/parametric/roles',
+  '/parametric/document-types',
+  '/parametric/employment-types',
+  '/parametric/modalities',
+  '/parametric/classroom-types',
+];
+
+// 'gzip' or 'identity'; both variants are pre-encoded
+const ENCODING = __ENV.ENCODING || 'gzip';
+
+/**
+ * Main scenario function
+ * Requests the lists without If-None-Match so every request produces a full body
+ * @param {string} token - JWT authentication token
+ * @param {string} baseUrl - Base URL of the API
+ * @param {Object} data - Shared data from setup()
+ */
+export default function (token, baseUrl, data) {
+  const path = CATALOG_PATHS[Math.floor(Math.random() * CATALOG_PATHS.length)];
+
+  group('Parametric Catalog - Lists', () => {
+    const response = http.get(`${baseUrl}${path}`, {
+      headers: {
+        'Authorization': `Bearer ${token}`,
+        'Accept-Encoding': ENCODING,
+      },
+      tags: { operation: `catalog_${path.substring(path.lastIndexOf('/') + 1)}` },
+    });
+
+    catalogDuration.add(response.timings.duration);
+    const success = check(response, {
+      [`${path} (200)`]: (r) => r.status === 200,
+      [`${path} is a JSON array`]: (r) => Array.isArray(r.json()),
+    });
+    catalogErrorRate.add(!success);
+  });
+}
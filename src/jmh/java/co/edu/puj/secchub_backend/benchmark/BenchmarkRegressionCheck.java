@@ -0,0 +1,87 @@
+package co.edu.puj.secchub_backend.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Compares a JMH JSON result file against the committed baseline and fails when the throughput
+ * of any benchmark dropped more than the allowed percentage.
+ * Only throughput-mode results are compared; benchmarks missing from the baseline are reported and skipped.
+ * To accept new numbers, copy the result file over the baseline.
+ */
+public final class BenchmarkRegressionCheck {
+
+    private static final String THROUGHPUT_MODE = "thrpt";
+
+    private BenchmarkRegressionCheck() {
+    }
+
+    /**
+     * @param args Result file, baseline file and maximum allowed throughput drop in percent
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 3) {
+            throw new IllegalArgumentException("Usage: BenchmarkRegressionCheck <results.json> <baseline.json> <max-drop-percent>");
+        }
+        Map<String, Double> results = readScores(new File(args[0]));
+        Map<String, Double> baseline = readScores(new File(args[1]));
+        double maxDropPercent = Double.parseDouble(args[2]);
+
+        List<String> regressions = new ArrayList<>();
+        for (Map.Entry<String, Double> result : results.entrySet()) {
+            Double baselineScore = baseline.get(result.getKey());
+            if (baselineScore == null) {
+                System.out.printf("[no baseline] %s: %.3f%n", result.getKey(), result.getValue());
+                continue;
+            }
+            double changePercent = (result.getValue() - baselineScore) / baselineScore * 100;
+            String line = String.format("%s: %.3f (baseline %.3f, %+.1f%%)",
+                result.getKey(), result.getValue(), baselineScore, changePercent);
+            if (-changePercent > maxDropPercent) {
+                regressions.add(line);
+                System.out.println("[regression] " + line);
+            } else {
+                System.out.println("[ok] " + line);
+            }
+        }
+
+        if (!regressions.isEmpty()) {
+            throw new IllegalStateException(regressions.size() + " benchmark(s) lost more than "
+                + maxDropPercent + "% throughput:\n" + String.join("\n", regressions));
+        }
+    }
+
+    /**
+     * Reads the throughput scores of a JMH JSON result file.
+     * @param file JMH result file
+     * @return Score per benchmark name and parameters
+     */
+    static Map<String, Double> readScores(File file) throws IOException {
+        Map<String, Double> scores = new TreeMap<>();
+        for (JsonNode run : new ObjectMapper().readTree(file)) {
+            if (!THROUGHPUT_MODE.equals(run.path("mode").asText())) {
+                continue;
+            }
+            scores.put(key(run), run.path("primaryMetric").path("score").asDouble());
+        }
+        return scores;
+    }
+
+    private static String key(JsonNode run) {
+        Map<String, String> params = new TreeMap<>();
+        Iterator<Map.Entry<String, JsonNode>> fields = run.path("params").fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            params.put(field.getKey(), field.getValue().asText());
+        }
+        return params.isEmpty() ? run.path("benchmark").asText() : run.path("benchmark").asText() + params;
+    }
+}
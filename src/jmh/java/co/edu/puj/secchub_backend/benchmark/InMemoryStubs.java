@@ -0,0 +1,43 @@
+package co.edu.puj.secchub_backend.benchmark;
+
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Builds in-memory stubs of repositories and module contracts for benchmarks.
+ * Mocking frameworks record every invocation, which would dominate the measured time,
+ * so the stubs answer from plain lambdas keyed by method name.
+ */
+public final class InMemoryStubs {
+
+    private InMemoryStubs() {
+    }
+
+    /**
+     * Creates a stub of the given interface.
+     * @param type Interface to stub
+     * @param answers Answer per method name, receiving the invocation arguments
+     * @return Stub that fails on methods without an answer
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T stub(Class<T> type, Map<String, Function<Object[], Object>> answers) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "toString":
+                    return "InMemoryStub[" + type.getSimpleName() + "]";
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "equals":
+                    return proxy == args[0];
+                default:
+                    break;
+            }
+            Function<Object[], Object> answer = answers.get(method.getName());
+            if (answer == null) {
+                throw new UnsupportedOperationException(type.getSimpleName() + "." + method.getName() + " is not stubbed");
+            }
+            return answer.apply(args);
+        });
+    }
+}
@@ -0,0 +1,78 @@
+package co.edu.puj.secchub_backend.config;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.concurrent.TimeUnit;
+
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import co.edu.puj.secchub_backend.planning.dto.ClassResponseDTO;
+import co.edu.puj.secchub_backend.planning.dto.ClassScheduleResponseDTO;
+import co.edu.puj.secchub_backend.planning.model.Class;
+import co.edu.puj.secchub_backend.planning.model.ClassSchedule;
+
+/**
+ * Benchmarks the entity to DTO mappings done once per row by the planning endpoints,
+ * using the application's ModelMapper configuration.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ModelMapperBenchmark {
+
+    private ModelMapper modelMapper;
+    private Class classEntity;
+    private ClassSchedule classSchedule;
+
+    @Setup
+    public void setUp() {
+        modelMapper = new ModelMapperConfig().modelMapper();
+        classEntity = Class.builder()
+            .id(1L)
+            .section(3L)
+            .courseId(12L)
+            .semesterId(10L)
+            .startDate(LocalDate.of(2025, 1, 20))
+            .endDate(LocalDate.of(2025, 5, 30))
+            .observation("Benchmark class")
+            .capacity(30)
+            .statusId(8L)
+            .build();
+        classSchedule = ClassSchedule.builder()
+            .id(1L)
+            .classId(1L)
+            .classroomId(5L)
+            .day("MONDAY")
+            .startTime(LocalTime.of(7, 0))
+            .endTime(LocalTime.of(9, 0))
+            .modalityId(1L)
+            .disability(false)
+            .build();
+        // Type maps are created lazily on the first mapping; keep that out of the measurement
+        mapClass();
+        mapClassSchedule();
+    }
+
+    @Benchmark
+    public ClassResponseDTO mapClass() {
+        return modelMapper.map(classEntity, ClassResponseDTO.class);
+    }
+
+    @Benchmark
+    public ClassScheduleResponseDTO mapClassSchedule() {
+        return modelMapper.map(classSchedule, ClassScheduleResponseDTO.class);
+    }
+}
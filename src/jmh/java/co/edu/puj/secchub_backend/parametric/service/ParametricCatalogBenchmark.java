@@ -0,0 +1,87 @@
+package co.edu.puj.secchub_backend.parametric.service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import co.edu.puj.secchub_backend.parametric.contracts.StatusDTO;
+
+/**
+ * Benchmarks the per-request work of the parametric list endpoints: encoding the cached DTOs with the
+ * WebFlux Jackson encoder, as before the catalog, against wrapping the bytes pre-encoded by
+ * {@link ParametricCatalog}, each with and without gzip.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParametricCatalogBenchmark {
+
+    private static final ResolvableType STATUS_LIST = ResolvableType.forClassWithGenerics(List.class, StatusDTO.class);
+
+    private final DefaultDataBufferFactory bufferFactory = DefaultDataBufferFactory.sharedInstance;
+    private Jackson2JsonEncoder encoder;
+    private List<StatusDTO> statuses;
+    private ParametricCatalog.EncodedList encoded;
+
+    @Setup
+    public void setUp() throws IOException {
+        ObjectMapper objectMapper = new ObjectMapper();
+        encoder = new Jackson2JsonEncoder(objectMapper);
+        // Same size as the statuses loaded by init-parameters.sql
+        statuses = LongStream.rangeClosed(1, 14)
+            .mapToObj(id -> new StatusDTO(id, "Status " + id))
+            .toList();
+        encoded = ParametricCatalog.encode(objectMapper, statuses);
+    }
+
+    @Benchmark
+    public DataBuffer encodePerRequest() {
+        return encoder.encodeValue(statuses, bufferFactory, STATUS_LIST, MediaType.APPLICATION_JSON, null);
+    }
+
+    @Benchmark
+    public byte[] encodeAndGzipPerRequest() throws IOException {
+        DataBuffer json = encodePerRequest();
+        byte[] bytes = new byte[json.readableByteCount()];
+        json.read(bytes);
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(bytes.length);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write(bytes);
+        }
+        return compressed.toByteArray();
+    }
+
+    @Benchmark
+    public DataBuffer preEncoded() {
+        return bufferFactory.wrap(encoded.getJson());
+    }
+
+    @Benchmark
+    public DataBuffer preEncodedGzip() {
+        return bufferFactory.wrap(encoded.getGzip());
+    }
+}
@@ -0,0 +1,66 @@
+package co.edu.puj.secchub_backend.planning.service;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import co.edu.puj.secchub_backend.planning.model.ClassSchedule;
+
+/**
+ * Benchmarks the overlap clustering used by the classroom and teacher conflict reports.
+ * The schedule count matches what a single classroom or teacher can accumulate in a semester.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ScheduleClusteringBenchmark {
+
+    private static final String[] DAYS = {"MONDAY", "TUESDAY", "WEDNESDAY"};
+
+    @Param({"8", "32", "64"})
+    private int scheduleCount;
+
+    private PlanningService planningService;
+    private List<ClassSchedule> schedules;
+
+    @Setup
+    public void setUp() {
+        // Only the pure clustering logic is measured, no collaborator is used
+        planningService = new PlanningService(null, null, null, null, null, null, null, null, null, null, null, null, null);
+
+        Random random = new Random(42);
+        schedules = new ArrayList<>(scheduleCount);
+        for (long id = 1; id <= scheduleCount; id++) {
+            LocalTime start = LocalTime.of(7 + random.nextInt(10), random.nextBoolean() ? 0 : 30);
+            schedules.add(ClassSchedule.builder()
+                .id(id)
+                .classId(id)
+                .day(DAYS[random.nextInt(DAYS.length)])
+                .startTime(start)
+                .endTime(start.plusHours(2))
+                .build());
+        }
+    }
+
+    @Benchmark
+    public List<List<ClassSchedule>> groupSchedulesIntoOverlapClusters() {
+        return planningService.groupSchedulesIntoOverlapClusters(schedules);
+    }
+}
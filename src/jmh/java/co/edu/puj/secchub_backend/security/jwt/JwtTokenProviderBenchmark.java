@@ -0,0 +1,51 @@
+package co.edu.puj.secchub_backend.security.jwt;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks token validation, which runs on every authenticated request.
+ * validateAccessToken parses the token twice (signature check and type claim), so it is measured
+ * next to validateToken.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtTokenProviderBenchmark {
+
+    private JwtTokenProvider jwtTokenProvider;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        String secret = Base64.getEncoder().encodeToString(
+            "benchmark-secret-key-with-at-least-256-bits".getBytes(StandardCharsets.UTF_8));
+        jwtTokenProvider = new JwtTokenProvider(secret, 3_600_000L, 86_400_000L, "secchub.javeriana.edu.co");
+        accessToken = jwtTokenProvider.generateToken("admin@javeriana.edu.co", "ROLE_ADMIN");
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return jwtTokenProvider.validateToken(accessToken);
+    }
+
+    @Benchmark
+    public boolean validateAccessToken() {
+        return jwtTokenProvider.validateAccessToken(accessToken);
+    }
+}
@@ -2,10 +2,14 @@ package co.edu.puj.secchub_backend;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.ImportRuntimeHints;
 import org.springframework.modulith.Modulithic;
 
+import co.edu.puj.secchub_backend.config.ApplicationRuntimeHints;
+
 @SpringBootApplication
 @Modulithic
+@ImportRuntimeHints(ApplicationRuntimeHints.class)
 public class SecchubBackendApplication {
 
     public static void main(String[] args) {
@@ -0,0 +1,16 @@
+package co.edu.puj.secchub_backend.admin.contract;
+
+import co.edu.puj.secchub_backend.config.AccessScope;
+import reactor.core.publisher.Mono;
+
+/**
+ * Contract interface for resolving what the logged-in user can see.
+ * Section-scoped listings in every module resolve the scope once and filter their queries with it.
+ */
+public interface AdminModuleAccessScopeContract {
+    /**
+     * Obtains the access scope of the logged-in user.
+     * @return Scope with the user's roles, section and teacher, or an anonymous scope without a logged-in user
+     */
+    Mono<AccessScope> getCurrentAccessScope();
+}
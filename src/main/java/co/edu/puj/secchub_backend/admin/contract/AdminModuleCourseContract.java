@@ -1,5 +1,8 @@
 package co.edu.puj.secchub_backend.admin.contract;
 
+import java.util.Collection;
+import java.util.Map;
+
 import reactor.core.publisher.Mono;
 
 /**
@@ -14,10 +17,24 @@ public interface AdminModuleCourseContract {
      */
     Mono<String> getCourseName(Long courseId);
 
+    /**
+     * Obtains the names of several courses in a single lookup.
+     * @param courseIds the IDs of the courses
+     * @return map from course ID to course name, with "N/A" for courses not found
+     */
+    Mono<Map<Long, String>> getCourseNames(Collection<Long> courseIds);
+
     /**
      * Obtains the section ID associated with a given course ID.
      * @param courseId the ID of the course
      * @return the section ID associated with the course, or null if not found
      */
     Mono<Long> getCourseSectionId(Long courseId);
+
+    /**
+     * Obtains the section IDs of several courses in a single lookup.
+     * @param courseIds the IDs of the courses
+     * @return map from course ID to section ID, without the courses not found
+     */
+    Mono<Map<Long, Long>> getCourseSectionIds(Collection<Long> courseIds);
 }
\ No newline at end of file
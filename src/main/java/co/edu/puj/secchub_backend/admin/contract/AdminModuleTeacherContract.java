@@ -1,5 +1,7 @@
 package co.edu.puj.secchub_backend.admin.contract;
 
+import java.util.Collection;
+
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
@@ -23,4 +25,11 @@ public interface AdminModuleTeacherContract {
      * @return All teachers
      */
     Flux<TeacherResponseDTO> getAllTeachers();
+
+    /**
+     * Obtains several teachers in a single lookup.
+     * @param teacherIds Teacher IDs
+     * @return Teachers found, unknown IDs are skipped
+     */
+    Flux<TeacherResponseDTO> getTeachersByIds(Collection<Long> teacherIds);
 }
@@ -0,0 +1,8 @@
+package co.edu.puj.secchub_backend.admin.contract;
+
+/**
+ * Published once a course has been created, changed or deleted and the change is committed.
+ * @param courseId ID of the changed course
+ */
+public record CourseChangedEvent(Long courseId) {
+}
@@ -0,0 +1,9 @@
+package co.edu.puj.secchub_backend.admin.contract;
+
+/**
+ * Published once a section has been created or changed and the change is committed,
+ * including changes to the user in charge of the section and to its planning state.
+ * @param sectionId ID of the changed section, null when every section changed at once
+ */
+public record SectionChangedEvent(Long sectionId) {
+}
@@ -0,0 +1,9 @@
+package co.edu.puj.secchub_backend.admin.contract;
+
+/**
+ * Published once a semester has been created or changed and the change is committed.
+ * Creating a semester also changes which semester is the current one.
+ * @param semesterId ID of the changed semester
+ */
+public record SemesterChangedEvent(Long semesterId) {
+}
@@ -0,0 +1,33 @@
+package co.edu.puj.secchub_backend.admin.contract;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Extension point for the modules that keep semester-scoped data, called when a new semester becomes current.
+ * Implementations are beans of the modules depending on the admin module, so the rollover can reach them
+ * without the admin module depending back on them.
+ */
+public interface SemesterRolloverParticipant {
+
+    /**
+     * Copies the planning of the previous semester into the new one.
+     * Runs inside the rollover transaction, so it must use the reactive repositories of the application.
+     * Must copy nothing when the new semester already has planning, so the rollover can be run again.
+     * @param previousSemesterId ID of the semester to copy from
+     * @param semesterId ID of the new current semester
+     * @return Mono with the number of copied rows
+     */
+    default Mono<Long> clonePlanning(Long previousSemesterId, Long semesterId) {
+        return Mono.just(0L);
+    }
+
+    /**
+     * Loads the caches and read models of the new semester once the rollover is committed,
+     * so the first requests of the semester do not pay for it.
+     * @param semesterId ID of the new current semester
+     * @return empty Mono when done
+     */
+    default Mono<Void> warm(Long semesterId) {
+        return Mono.empty();
+    }
+}
@@ -4,6 +4,14 @@
  * The interfaces in this package include:
  * - {@link co.edu.puj.secchub_backend.admin.contract.AdminModuleSemesterContract} for semester-related operations.
  * - {@link co.edu.puj.secchub_backend.admin.contract.AdminModuleCourseContract} for course-related operations.
+ *
+ * The events in this package are published after semester, course and section changes commit,
+ * so other modules can invalidate what they cache from the admin module:
+ * - {@link co.edu.puj.secchub_backend.admin.contract.SemesterChangedEvent}
+ * - {@link co.edu.puj.secchub_backend.admin.contract.CourseChangedEvent}
+ * - {@link co.edu.puj.secchub_backend.admin.contract.SectionChangedEvent}
+ * Modules with semester-scoped data take part in the semester rollover by implementing
+ * {@link co.edu.puj.secchub_backend.admin.contract.SemesterRolloverParticipant}.
  */
 @org.springframework.modulith.NamedInterface("admin-contracts")
 package co.edu.puj.secchub_backend.admin.contract;
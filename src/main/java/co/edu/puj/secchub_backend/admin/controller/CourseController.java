@@ -3,14 +3,17 @@ package co.edu.puj.secchub_backend.admin.controller;
 import co.edu.puj.secchub_backend.admin.dto.CourseRequestDTO;
 import co.edu.puj.secchub_backend.admin.dto.CourseResponseDTO;
 import co.edu.puj.secchub_backend.admin.service.CourseService;
+import co.edu.puj.secchub_backend.config.ResourceFamily;
+import co.edu.puj.secchub_backend.config.ResourceVersions;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
-import reactor.core.publisher.Flux;
 
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -23,6 +26,7 @@ import java.util.Map;
 public class CourseController {
 
     private final CourseService courseService;
+    private final ResourceVersions resourceVersions;
 
     /**
      * Creates a new course.
@@ -38,22 +42,33 @@ public class CourseController {
 
     /**
      * List all existing courses.
+     * @param exchange Current exchange
      * @return List of courses
      */
     @GetMapping
     @PreAuthorize("isAuthenticated()")
-    public Flux<CourseResponseDTO> findAllCourses() {
-        return courseService.findAllCourses();
+    public Mono<ResponseEntity<List<CourseResponseDTO>>> findAllCourses(ServerWebExchange exchange) {
+        if (resourceVersions.checkNotModified(exchange, ResourceFamily.COURSES)) {
+            return Mono.empty();
+        }
+        return courseService.findAllCourses()
+                .collectList()
+                .map(ResponseEntity::ok);
     }
 
     /**
      * Get a course by its ID.
      * @param courseId Course ID
+     * @param exchange Current exchange
      * @return Course with the given ID
      */
     @GetMapping("/{courseId}")
     @PreAuthorize("isAuthenticated()")
-    public Mono<ResponseEntity<CourseResponseDTO>> findCourseById(@PathVariable Long courseId) {
+    public Mono<ResponseEntity<CourseResponseDTO>> findCourseById(@PathVariable Long courseId,
+            ServerWebExchange exchange) {
+        if (resourceVersions.checkNotModified(exchange, ResourceFamily.COURSES)) {
+            return Mono.empty();
+        }
         return courseService.findCourseById(courseId)
                 .map(ResponseEntity::ok);
     }
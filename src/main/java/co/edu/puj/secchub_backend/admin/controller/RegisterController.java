@@ -1,6 +1,7 @@
 package co.edu.puj.secchub_backend.admin.controller;
 
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -12,9 +13,12 @@ import co.edu.puj.secchub_backend.admin.contract.TeacherResponseDTO;
 import co.edu.puj.secchub_backend.admin.dto.SectionRegisterRequestDTO;
 import co.edu.puj.secchub_backend.admin.dto.SectionResponseDTO;
 import co.edu.puj.secchub_backend.admin.dto.TeacherRegisterRequestDTO;
+import co.edu.puj.secchub_backend.admin.dto.UserImportResultDTO;
 import co.edu.puj.secchub_backend.admin.dto.UserRegisterRequestDTO;
 import co.edu.puj.secchub_backend.admin.service.RegisterService;
+import co.edu.puj.secchub_backend.admin.service.UserImportReader;
 import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 /**
@@ -25,12 +29,19 @@ import reactor.core.publisher.Mono;
  * - Register admins
  * - Register sections
  * - Register programs
+ * - Import users in bulk from CSV or NDJSON files
  */
 @RestController
 @RequestMapping("/admin/register")
 @RequiredArgsConstructor
 public class RegisterController {
     private final RegisterService registerService;
+    private final UserImportReader userImportReader;
+
+    /**
+     * Media type of CSV import files.
+     */
+    private static final String TEXT_CSV_VALUE = "text/csv";
     
     /**
      * Post a new student
@@ -91,4 +102,26 @@ public class RegisterController {
         return registerService.registerSection(request)
                 .map(createdSection -> ResponseEntity.status(HttpStatus.CREATED).body(createdSection));
     }
+
+    /**
+     * Post a CSV file of users to import. The file is read and imported while it is uploaded.
+     * @param lines lines of the CSV file, starting with its header
+     * @return Stream with the result of each row
+     */
+    @PostMapping(value = "/import", consumes = TEXT_CSV_VALUE, produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @PreAuthorize("hasRole('ROLE_ADMIN')")
+    public Flux<UserImportResultDTO> importUsersFromCsv(@RequestBody Flux<String> lines) {
+        return registerService.importUsers(userImportReader.readCsv(lines));
+    }
+
+    /**
+     * Post an NDJSON file of users to import. The file is read and imported while it is uploaded.
+     * @param lines lines of the NDJSON file, one user per line
+     * @return Stream with the result of each row
+     */
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_NDJSON_VALUE, produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @PreAuthorize("hasRole('ROLE_ADMIN')")
+    public Flux<UserImportResultDTO> importUsersFromNdjson(@RequestBody Flux<String> lines) {
+        return registerService.importUsers(userImportReader.readNdjson(lines));
+    }
 }
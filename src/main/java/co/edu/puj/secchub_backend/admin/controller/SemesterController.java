@@ -11,10 +11,15 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.server.ServerWebExchange;
 
 import co.edu.puj.secchub_backend.admin.dto.SemesterRequestDTO;
 import co.edu.puj.secchub_backend.admin.dto.SemesterResponseDTO;
+import co.edu.puj.secchub_backend.admin.dto.SemesterRolloverResponseDTO;
+import co.edu.puj.secchub_backend.admin.service.SemesterRolloverService;
 import co.edu.puj.secchub_backend.admin.service.SemesterService;
+import co.edu.puj.secchub_backend.config.ResourceFamily;
+import co.edu.puj.secchub_backend.config.ResourceVersions;
 import lombok.RequiredArgsConstructor;
 import reactor.core.publisher.Mono;
 
@@ -27,26 +32,51 @@ import reactor.core.publisher.Mono;
 @RequiredArgsConstructor
 public class SemesterController {
     private final SemesterService semesterService;
+    private final SemesterRolloverService semesterRolloverService;
+    private final ResourceVersions resourceVersions;
 
     /**
      * Creates the following semester.
      * @param semesterRequestDTO with semester data
+     * @param clonePreviousPlanning whether to copy the planning of the previous semester
      * @return Created semester with status 201
      */
     @PostMapping
     @PreAuthorize("hasRole('ROLE_ADMIN')")
-    public Mono<ResponseEntity<SemesterResponseDTO>> createSemester(@RequestBody SemesterRequestDTO semesterRequestDTO) {
-        return semesterService.createSemester(semesterRequestDTO)
-                .map(saved -> ResponseEntity.status(HttpStatus.CREATED).body(saved));
+    public Mono<ResponseEntity<SemesterResponseDTO>> createSemester(
+            @RequestBody SemesterRequestDTO semesterRequestDTO,
+            @RequestParam(defaultValue = "false") boolean clonePreviousPlanning) {
+        return semesterRolloverService.createSemester(semesterRequestDTO, clonePreviousPlanning)
+                .map(rollover -> ResponseEntity.status(HttpStatus.CREATED).body(rollover.getSemester()));
+    }
+
+    /**
+     * Rolls over to the following semester and reports the result and duration of each phase.
+     * Can be run again for the same semester.
+     * @param semesterRequestDTO with semester data
+     * @param clonePreviousPlanning whether to copy the planning of the previous semester
+     * @return Rollover result with status 200
+     */
+    @PostMapping("/rollover")
+    @PreAuthorize("hasRole('ROLE_ADMIN')")
+    public Mono<ResponseEntity<SemesterRolloverResponseDTO>> rolloverSemester(
+            @RequestBody SemesterRequestDTO semesterRequestDTO,
+            @RequestParam(defaultValue = "false") boolean clonePreviousPlanning) {
+        return semesterRolloverService.createSemester(semesterRequestDTO, clonePreviousPlanning)
+                .map(ResponseEntity::ok);
     }
 
     /**
      * Obtains current semester.
+     * @param exchange Current exchange
      * @return Current semester with status 200
      */
     @GetMapping("/current")
     @PreAuthorize("isAuthenticated()")
-    public Mono<ResponseEntity<SemesterResponseDTO>> getCurrentSemester() {
+    public Mono<ResponseEntity<SemesterResponseDTO>> getCurrentSemester(ServerWebExchange exchange) {
+        if (resourceVersions.checkNotModified(exchange, ResourceFamily.SEMESTERS)) {
+            return Mono.empty();
+        }
         return semesterService.getCurrentSemester()
                 .map(ResponseEntity::ok);
     }
@@ -55,24 +85,33 @@ public class SemesterController {
      * Obtains semester by year and period.
      * @param year The year of the semester
      * @param period The period of the semester (1 or 2)
+     * @param exchange Current exchange
      * @return Semester matching the criteria with status 200
      */
     @GetMapping
     @PreAuthorize("hasRole('ROLE_ADMIN') or hasRole('ROLE_USER') or hasRole('ROLE_PROGRAM')")
     public Mono<ResponseEntity<SemesterResponseDTO>> getSemesterByYearAndPeriod(
             @RequestParam Integer year, 
-            @RequestParam Integer period) {
+            @RequestParam Integer period,
+            ServerWebExchange exchange) {
+        if (resourceVersions.checkNotModified(exchange, ResourceFamily.SEMESTERS)) {
+            return Mono.empty();
+        }
         return semesterService.getSemesterByYearAndPeriod(year, period)
                 .map(ResponseEntity::ok);
     }
 
     /**
      * Obtains all semesters.
+     * @param exchange Current exchange
      * @return All semesters with status 200
      */
     @GetMapping("/all")
     @PreAuthorize("isAuthenticated()")
-    public Mono<ResponseEntity<List<SemesterResponseDTO>>> getAllSemesters() {
+    public Mono<ResponseEntity<List<SemesterResponseDTO>>> getAllSemesters(ServerWebExchange exchange) {
+        if (resourceVersions.checkNotModified(exchange, ResourceFamily.SEMESTERS)) {
+            return Mono.empty();
+        }
         return semesterService.getAllSemesters()
                 .collectList()
                 .map(ResponseEntity::ok);
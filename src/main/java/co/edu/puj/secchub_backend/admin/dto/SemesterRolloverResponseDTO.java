@@ -0,0 +1,26 @@
+package co.edu.puj.secchub_backend.admin.dto;
+
+import java.util.Map;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for returning the result of a semester rollover.
+ * Reports what each phase changed and how long it took, in milliseconds by phase name.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class SemesterRolloverResponseDTO {
+    private SemesterResponseDTO semester;
+    private Long previousSemesterId;
+    private boolean created;
+    private boolean madeCurrent;
+    private long reopenedSections;
+    private long clonedPlanningRows;
+    private Map<String, Long> phaseTimings;
+}
@@ -0,0 +1,38 @@
+package co.edu.puj.secchub_backend.admin.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO that represents the result of one row of a bulk user import.
+ * The line is the line of the row in the uploaded file; the ids are only set for the created rows.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class UserImportResultDTO {
+    private Long line;
+    private String email;
+    private Status status;
+    private Long userId;
+    private Long teacherId;
+    private Long sectionId;
+    private String message;
+
+    /**
+     * Outcome of the import of one row.
+     */
+    public enum Status {
+        /** The user, and its teacher or section when applicable, was created. */
+        CREATED,
+        /** The email already belongs to a user or to an earlier row of the file. */
+        DUPLICATE_EMAIL,
+        /** The row could not be read or misses required values. */
+        INVALID,
+        /** The user was created but its teacher or section could not be. */
+        FAILED
+    }
+}
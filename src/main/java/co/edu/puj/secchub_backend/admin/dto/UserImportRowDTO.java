@@ -0,0 +1,30 @@
+package co.edu.puj.secchub_backend.admin.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO that represents one row of a bulk user import.
+ * The type selects the role of the user (STUDENT, TEACHER, ADMIN, PROGRAM or SECTION);
+ * employment type and maximum hours only apply to teachers and the section name only to sections.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class UserImportRowDTO {
+    private String type;
+    private String username;
+    private String password;
+    private String faculty;
+    private String name;
+    private String lastName;
+    private String email;
+    private Long documentTypeId;
+    private String documentNumber;
+    private Long employmentTypeId;
+    private Integer maxHours;
+    private String sectionName;
+}
@@ -102,4 +102,19 @@ public class AdminExceptionHandler {
                 MESSAGE_KEY, ex.getMessage()
         )));
     }
+
+    /**
+     * Manages user import bad request exceptions and returns a 400 error with details.
+     * @param ex User import bad request exception
+     * @return HTTP response with error information
+     */
+    @ExceptionHandler(UserImportBadRequestException.class)
+    public Mono<ResponseEntity<Object>> handleBadRequest(UserImportBadRequestException ex) {
+        log.warn("User import bad request exception occurred: {}", ex.getMessage());
+        return Mono.just(ResponseEntity.status(HttpStatus.BAD_REQUEST).body(Map.of(
+                TIMESTAMP_KEY, Instant.now().toString(),
+                ERROR_KEY, BAD_REQUEST_ERROR_MESSAGE,
+                MESSAGE_KEY, ex.getMessage()
+        )));
+    }
 }
@@ -0,0 +1,10 @@
+package co.edu.puj.secchub_backend.admin.exception;
+
+/**
+ * Exception thrown when a bulk user import file cannot be read as a whole.
+ */
+public class UserImportBadRequestException extends RuntimeException {
+    public UserImportBadRequestException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,164 @@
+package co.edu.puj.secchub_backend.admin.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.DatabaseClient.GenericExecuteSpec;
+import org.springframework.stereotype.Repository;
+
+import co.edu.puj.secchub_backend.admin.model.Section;
+import co.edu.puj.secchub_backend.admin.model.Teacher;
+import co.edu.puj.secchub_backend.config.AutoIncrementCheck;
+import io.r2dbc.spi.Parameter;
+import io.r2dbc.spi.Parameters;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+
+/**
+ * Batched write operations for the teachers and sections of registered users.
+ * Uses DatabaseClient to issue multi-row INSERT statements instead of one statement per entity.
+ * Generated keys are derived from the first generated id of each statement, since InnoDB assigns
+ * consecutive auto-increment values to the rows of a single multi-row insert. That needs
+ * {@code auto_increment_increment} set to 1, checked at startup by {@link AutoIncrementCheck}.
+ */
+@Repository
+@RequiredArgsConstructor
+public class RegisterBatchRepository {
+
+    /**
+     * Maximum number of rows written by a single INSERT statement.
+     * Keeps statements well below the server packet and placeholder limits.
+     */
+    static final int MAX_ROWS_PER_STATEMENT = 500;
+
+    private final DatabaseClient databaseClient;
+
+    /**
+     * Inserts the given teachers using multi-row INSERT statements.
+     * The generated ids are set on the given entities, preserving their order.
+     * @param teachers Teachers to insert
+     * @return Flux of inserted teachers with their generated ids
+     */
+    public Flux<Teacher> insertAllTeachers(List<Teacher> teachers) {
+        return Flux.fromIterable(partition(teachers))
+            .concatMap(this::insertTeacherChunk);
+    }
+
+    /**
+     * Inserts the given sections using multi-row INSERT statements.
+     * The generated ids are set on the given entities, preserving their order.
+     * @param sections Sections to insert
+     * @return Flux of inserted sections with their generated ids
+     */
+    public Flux<Section> insertAllSections(List<Section> sections) {
+        return Flux.fromIterable(partition(sections))
+            .concatMap(this::insertSectionChunk);
+    }
+
+    // ==============================================
+    // Private Methods
+    // ==============================================
+
+    /**
+     * Inserts a chunk of teachers in one statement.
+     * @param chunk Teachers to insert
+     * @return Flux of inserted teachers
+     */
+    private Flux<Teacher> insertTeacherChunk(List<Teacher> chunk) {
+        StringBuilder sql = new StringBuilder("""
+            INSERT INTO teacher
+                (user_id, employment_type_id, max_hours)
+            VALUES
+            """);
+        for (int i = 0; i < chunk.size(); i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(String.format("(:userId%1$d, :employmentTypeId%1$d, :maxHours%1$d)", i));
+        }
+
+        GenericExecuteSpec spec = databaseClient.sql(sql.toString())
+            .filter(statement -> statement.returnGeneratedValues("id"));
+        for (int i = 0; i < chunk.size(); i++) {
+            Teacher teacher = chunk.get(i);
+            spec = spec
+                .bind("userId" + i, parameter(teacher.getUserId(), Long.class))
+                .bind("employmentTypeId" + i, parameter(teacher.getEmploymentTypeId(), Long.class))
+                .bind("maxHours" + i, parameter(teacher.getMaxHours(), Integer.class));
+        }
+
+        return spec.map(row -> row.get("id", Long.class))
+            .first()
+            .flatMapMany(firstId -> {
+                for (int i = 0; i < chunk.size(); i++) {
+                    chunk.get(i).setId(firstId + i);
+                }
+                return Flux.fromIterable(chunk);
+            });
+    }
+
+    /**
+     * Inserts a chunk of sections in one statement.
+     * @param chunk Sections to insert
+     * @return Flux of inserted sections
+     */
+    private Flux<Section> insertSectionChunk(List<Section> chunk) {
+        StringBuilder sql = new StringBuilder("""
+            INSERT INTO section
+                (user_id, name, planning_closed)
+            VALUES
+            """);
+        for (int i = 0; i < chunk.size(); i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(String.format("(:userId%1$d, :name%1$d, :planningClosed%1$d)", i));
+        }
+
+        GenericExecuteSpec spec = databaseClient.sql(sql.toString())
+            .filter(statement -> statement.returnGeneratedValues("id"));
+        for (int i = 0; i < chunk.size(); i++) {
+            Section section = chunk.get(i);
+            spec = spec
+                .bind("userId" + i, parameter(section.getUserId(), Long.class))
+                .bind("name" + i, parameter(section.getName(), String.class))
+                .bind("planningClosed" + i, section.isPlanningClosed());
+        }
+
+        return spec.map(row -> row.get("id", Long.class))
+            .first()
+            .flatMapMany(firstId -> {
+                for (int i = 0; i < chunk.size(); i++) {
+                    chunk.get(i).setId(firstId + i);
+                }
+                return Flux.fromIterable(chunk);
+            });
+    }
+
+    /**
+     * Splits a list into chunks of at most {@link #MAX_ROWS_PER_STATEMENT} elements.
+     * @param items Items to split
+     * @return List of chunks
+     */
+    private static <T> List<List<T>> partition(List<T> items) {
+        List<List<T>> chunks = new ArrayList<>();
+        if (items == null) {
+            return chunks;
+        }
+        for (int start = 0; start < items.size(); start += MAX_ROWS_PER_STATEMENT) {
+            chunks.add(items.subList(start, Math.min(start + MAX_ROWS_PER_STATEMENT, items.size())));
+        }
+        return chunks;
+    }
+
+    /**
+     * Wraps a column value as a typed bind parameter, so null values still carry their SQL type.
+     * @param value Value to bind, may be null
+     * @param type Java type of the column
+     * @return Bind parameter for the value
+     */
+    private static Parameter parameter(Object value, Class<?> type) {
+        return value == null ? Parameters.in(type) : Parameters.in(value);
+    }
+}
@@ -2,10 +2,21 @@ package co.edu.puj.secchub_backend.admin.repository;
 
 import reactor.core.publisher.Mono;
 
+import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.data.repository.query.Param;
+
 import co.edu.puj.secchub_backend.admin.model.Semester;
 
 public interface SemesterRepository extends R2dbcRepository<Semester, Long> {
     Mono<Semester> findByIsCurrentTrue();
     Mono<Semester> findByYearAndPeriod(Integer year, Integer period);
+
+    @Query("""
+        SELECT * FROM semester
+        WHERE year < :year OR (year = :year AND period < :period)
+        ORDER BY year DESC, period DESC
+        LIMIT 1
+        """)
+    Mono<Semester> findPreviousSemester(@Param("year") Integer year, @Param("period") Integer period);
 }
@@ -0,0 +1,52 @@
+package co.edu.puj.secchub_backend.admin.repository;
+
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+
+/**
+ * Set-based statements of the semester rollover.
+ * Every statement changes all the affected rows at once instead of loading, mutating and saving each one.
+ */
+@Repository
+@RequiredArgsConstructor
+public class SemesterRolloverRepository {
+
+    private final DatabaseClient databaseClient;
+
+    /**
+     * Locks the current semester row until the surrounding transaction ends,
+     * so concurrent rollovers run one after the other.
+     * @return Mono with the ID of the current semester, empty when there is none
+     */
+    public Mono<Long> lockCurrentSemester() {
+        return databaseClient.sql("SELECT id FROM semester WHERE is_current = TRUE FOR UPDATE")
+            .map(row -> row.get("id", Long.class))
+            .all()
+            .next();
+    }
+
+    /**
+     * Clears the current flag of every semester but the given one.
+     * @param semesterId ID of the semester that stays current
+     * @return Mono with the number of affected rows
+     */
+    public Mono<Long> clearCurrentExcept(Long semesterId) {
+        return databaseClient.sql("UPDATE semester SET is_current = FALSE WHERE is_current = TRUE AND id <> :semesterId")
+            .bind("semesterId", semesterId)
+            .fetch()
+            .rowsUpdated();
+    }
+
+    /**
+     * Opens the planning of every section whose planning is closed.
+     * @return Mono with the number of affected rows
+     */
+    public Mono<Long> openPlanningForAllSections() {
+        return databaseClient.sql("UPDATE section SET planning_closed = FALSE WHERE planning_closed = TRUE")
+            .fetch()
+            .rowsUpdated();
+    }
+}
@@ -0,0 +1,71 @@
+package co.edu.puj.secchub_backend.admin.service;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.stereotype.Service;
+
+import co.edu.puj.secchub_backend.admin.contract.AdminModuleAccessScopeContract;
+import co.edu.puj.secchub_backend.admin.contract.AdminModuleSectionContract;
+import co.edu.puj.secchub_backend.admin.contract.AdminModuleTeacherContract;
+import co.edu.puj.secchub_backend.admin.exception.TeacherNotFoundException;
+import co.edu.puj.secchub_backend.config.AccessScope;
+import co.edu.puj.secchub_backend.security.contract.SecurityModuleUserContract;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+
+/**
+ * Service that resolves the access scope of the logged-in user.
+ * Administrators need no lookup; any other user is resolved to their user ID, the section they are head of
+ * and, for teachers, their teacher ID.
+ */
+@Service
+@RequiredArgsConstructor
+public class AccessScopeService implements AdminModuleAccessScopeContract {
+
+    private final SecurityModuleUserContract userService;
+    private final AdminModuleSectionContract sectionService;
+    private final AdminModuleTeacherContract teacherService;
+
+    /**
+     * Implements method to get the access scope of the logged-in user.
+     * @return Access scope, anonymous without an authenticated user
+     */
+    @Override
+    public Mono<AccessScope> getCurrentAccessScope() {
+        return ReactiveSecurityContextHolder.getContext()
+            .mapNotNull(SecurityContext::getAuthentication)
+            .flatMap(this::resolve)
+            .defaultIfEmpty(AccessScope.anonymous());
+    }
+
+    private Mono<AccessScope> resolve(Authentication authentication) {
+        Set<String> roles = authentication.getAuthorities().stream()
+            .map(GrantedAuthority::getAuthority)
+            .collect(Collectors.toSet());
+        if (roles.contains(AccessScope.ROLE_ADMIN)) {
+            return Mono.just(new AccessScope(null, roles, null, null));
+        }
+
+        return userService.getUserIdByEmail(authentication.getName())
+            .flatMap(userId -> Mono.zip(
+                    sectionService.getSectionIdByUserId(userId).map(Optional::of).defaultIfEmpty(Optional.empty()),
+                    teacherIdOf(userId, roles))
+                .map(ids -> new AccessScope(userId, roles, ids.getT1().orElse(null), ids.getT2().orElse(null))));
+    }
+
+    private Mono<Optional<Long>> teacherIdOf(Long userId, Set<String> roles) {
+        if (!roles.contains(AccessScope.ROLE_TEACHER)) {
+            return Mono.just(Optional.empty());
+        }
+        return teacherService.getTeacherIdByUserId(userId)
+            .map(Optional::of)
+            .onErrorResume(TeacherNotFoundException.class, e -> Mono.just(Optional.empty()))
+            .defaultIfEmpty(Optional.empty());
+    }
+}
@@ -1,19 +1,25 @@
 package co.edu.puj.secchub_backend.admin.service;
 
 import co.edu.puj.secchub_backend.admin.contract.AdminModuleCourseContract;
+import co.edu.puj.secchub_backend.admin.contract.CourseChangedEvent;
 import co.edu.puj.secchub_backend.admin.dto.CourseRequestDTO;
 import co.edu.puj.secchub_backend.admin.dto.CourseResponseDTO;
 import co.edu.puj.secchub_backend.admin.exception.CourseNotFoundException;
 import co.edu.puj.secchub_backend.admin.model.Course;
 import co.edu.puj.secchub_backend.admin.repository.CourseRepository;
+import co.edu.puj.secchub_backend.config.ChangesResource;
+import co.edu.puj.secchub_backend.config.ResourceFamily;
 import lombok.RequiredArgsConstructor;
 
 import org.modelmapper.ModelMapper;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.Map;
 
 @Service
@@ -22,12 +28,14 @@ public class CourseService implements AdminModuleCourseContract {
     private final ModelMapper modelMapper;
     private final CourseRepository courseRepository;
     private final SectionService sectionService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Creates a new course.
      * @param courseRequestDTO dto with course data
      * @return Created course
      */
+    @ChangesResource(ResourceFamily.COURSES)
     public Mono<CourseResponseDTO> createCourse(CourseRequestDTO courseRequestDTO) {
         return courseRepository.existsByName(courseRequestDTO.getName())
                 .flatMap(exists -> {
@@ -41,7 +49,8 @@ public class CourseService implements AdminModuleCourseContract {
                                 return courseRepository.save(course)
                                         .map(savedCourse -> modelMapper.map(savedCourse, CourseResponseDTO.class));
                             });
-                });
+                })
+                .doOnNext(this::publishCourseChanged);
     }    
     
     /**
@@ -70,6 +79,7 @@ public class CourseService implements AdminModuleCourseContract {
      * @param courseRequestDTO with updated data
      * @return Updated course
      */
+    @ChangesResource(ResourceFamily.COURSES)
     public Mono<CourseResponseDTO> updateCourse(Long courseId, CourseRequestDTO courseRequestDTO) {
         return courseRepository.findById(courseId)
                 .switchIfEmpty(Mono.error(new CourseNotFoundException("Course for update not found with id: " + courseId)))
@@ -77,7 +87,8 @@ public class CourseService implements AdminModuleCourseContract {
                     modelMapper.map(courseRequestDTO, existingCourse);
                     return courseRepository.save(existingCourse)
                             .map(updatedCourse -> modelMapper.map(updatedCourse, CourseResponseDTO.class));
-                });
+                })
+                .doOnNext(this::publishCourseChanged);
     }
 
     /**
@@ -86,6 +97,7 @@ public class CourseService implements AdminModuleCourseContract {
      * @param updates Map of fields to update
      * @return Updated course
      */
+    @ChangesResource(ResourceFamily.COURSES)
     public Mono<CourseResponseDTO> patchCourse(Long id, Map<String, Object> updates) {
         return courseRepository.findById(id)
                 .switchIfEmpty(Mono.error(new CourseNotFoundException("Course for patch not found with id: " + id)))
@@ -93,7 +105,8 @@ public class CourseService implements AdminModuleCourseContract {
                     modelMapper.map(updates, existingCourse);
                     return courseRepository.save(existingCourse)
                             .map(updatedCourse -> modelMapper.map(updatedCourse, CourseResponseDTO.class));
-                });
+                })
+                .doOnNext(this::publishCourseChanged);
     }
 
     /**
@@ -101,10 +114,12 @@ public class CourseService implements AdminModuleCourseContract {
      * @param courseId Course ID
      * @return Mono signaling completion
      */
+    @ChangesResource(ResourceFamily.COURSES)
     public Mono<Void> deleteCourse(Long courseId) {
         return courseRepository.findById(courseId)
                 .switchIfEmpty(Mono.error(new CourseNotFoundException("Course for deletion not found with id: " + courseId)))
-                .flatMap(courseRepository::delete);
+                .flatMap(courseRepository::delete)
+                .doOnSuccess(deleted -> eventPublisher.publishEvent(new CourseChangedEvent(courseId)));
     }
 
     /**
@@ -118,6 +133,24 @@ public class CourseService implements AdminModuleCourseContract {
                 .defaultIfEmpty("N/A");
     }
 
+    /**
+     * Implementation of AdminModuleCourseContract.
+     * Gets the names of several courses with a single query.
+     */
+    @Override
+    public Mono<Map<Long, String>> getCourseNames(Collection<Long> courseIds) {
+        if (courseIds == null || courseIds.isEmpty()) {
+            return Mono.just(Map.of());
+        }
+        return courseRepository.findAllById(courseIds)
+                .collectMap(Course::getId, Course::getName)
+                .map(courseNames -> {
+                    Map<Long, String> result = new HashMap<>(courseNames);
+                    courseIds.forEach(courseId -> result.putIfAbsent(courseId, "N/A"));
+                    return result;
+                });
+    }
+
     /**
      * Implementation of AdminModuleCourseContract.
      * Gets the section ID associated with a course.
@@ -129,4 +162,22 @@ public class CourseService implements AdminModuleCourseContract {
                 .map(Long::valueOf)
                 .switchIfEmpty(Mono.error(new CourseNotFoundException("Course not found for section ID retrieval: " + courseId)));
     }
+
+    /**
+     * Implementation of AdminModuleCourseContract.
+     * Gets the section IDs of several courses with one query.
+     */
+    @Override
+    public Mono<Map<Long, Long>> getCourseSectionIds(Collection<Long> courseIds) {
+        if (courseIds == null || courseIds.isEmpty()) {
+            return Mono.just(Map.of());
+        }
+        return courseRepository.findAllById(courseIds)
+                .filter(course -> course.getSectionId() != null)
+                .collectMap(Course::getId, Course::getSectionId);
+    }
+
+        private void publishCourseChanged(CourseResponseDTO course) {
+        eventPublisher.publishEvent(new CourseChangedEvent(course.getId()));
+    }
 }
@@ -1,5 +1,10 @@
 package co.edu.puj.secchub_backend.admin.service;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
 import org.modelmapper.ModelMapper;
 import org.springframework.stereotype.Service;
 
@@ -9,12 +14,18 @@ import co.edu.puj.secchub_backend.admin.dto.SectionRegisterRequestDTO;
 import co.edu.puj.secchub_backend.admin.dto.SectionResponseDTO;
 import co.edu.puj.secchub_backend.admin.dto.TeacherCreateRequestDTO;
 import co.edu.puj.secchub_backend.admin.dto.TeacherRegisterRequestDTO;
+import co.edu.puj.secchub_backend.admin.dto.UserImportResultDTO;
+import co.edu.puj.secchub_backend.admin.dto.UserImportRowDTO;
 import co.edu.puj.secchub_backend.admin.dto.UserRegisterRequestDTO;
 import co.edu.puj.secchub_backend.parametric.contracts.ParametricContract;
+import co.edu.puj.secchub_backend.parametric.contracts.RoleDTO;
+import co.edu.puj.secchub_backend.parametric.contracts.StatusDTO;
 import co.edu.puj.secchub_backend.security.contract.SecurityModuleUserContract;
 import co.edu.puj.secchub_backend.security.contract.UserCreationRequestDTO;
+import co.edu.puj.secchub_backend.security.contract.UserCreationResultDTO;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 @Service
@@ -34,6 +45,24 @@ public class RegisterService {
     private static final String ROLE_USER = "ROLE_USER";
     private static final String ROLE_PROGRAM = "ROLE_PROGRAM";
 
+    /**
+     * Rows of an import handled together: one lookup of existing emails and one multi-row insert per table.
+     */
+    static final int IMPORT_BATCH_SIZE = 500;
+
+    private static final String TYPE_TEACHER = "TEACHER";
+    private static final String TYPE_SECTION = "SECTION";
+
+    /**
+     * Roles of the user import types.
+     */
+    private static final Map<String, String> IMPORT_TYPE_ROLES = Map.of(
+        "STUDENT", ROLE_STUDENT,
+        "ADMIN", ROLE_ADMIN,
+        "PROGRAM", ROLE_PROGRAM,
+        TYPE_TEACHER, ROLE_TEACHER,
+        TYPE_SECTION, ROLE_USER);
+
     /**
      * Private method to create a user in the security module.
      * @param userRegisterRequestDTO with user data
@@ -119,4 +148,180 @@ public class RegisterService {
                                                 response.getId(), response.getUserId()))
             .doOnError(error -> log.error("Error during section registration", error));
     }
+
+    /**
+     * Imports users in batches of {@link #IMPORT_BATCH_SIZE} rows as they are read, so memory does not grow
+     * with the size of the file. Roles and status are resolved once per import; each batch hashes its
+     * passwords on the bounded hashing pool and inserts its users, teachers and sections with multi-row
+     * statements. As with single registrations, a user stays created if its teacher or section fails.
+     * @param rows rows of the import file
+     * @return one result per row, in the order of the rows
+     */
+    public Flux<UserImportResultDTO> importUsers(Flux<UserImportRow> rows) {
+        Mono<Long> statusId = parametricService.getStatusByName(STATUS).map(StatusDTO::getId);
+        Mono<Map<String, Long>> roleIds = Flux.fromIterable(IMPORT_TYPE_ROLES.entrySet())
+            .concatMap(typeRole -> parametricService.getRoleByName(typeRole.getValue())
+                .map(RoleDTO::getId)
+                .map(roleId -> Map.entry(typeRole.getKey(), roleId)))
+            .collectMap(Map.Entry::getKey, Map.Entry::getValue);
+
+        return Mono.zip(statusId, roleIds)
+            .flatMapMany(ids -> rows
+                .buffer(IMPORT_BATCH_SIZE)
+                .concatMap(batch -> importBatch(batch, ids.getT1(), ids.getT2()), 0))
+            .doOnError(error -> log.error("Error during user import", error));
+    }
+
+    /**
+     * Imports a batch of rows.
+     * @param batch rows to import
+     * @param statusId id of the active status
+     * @param roleIds role ids by import type
+     * @return one result per row, in the order of the rows
+     */
+    private Flux<UserImportResultDTO> importBatch(List<UserImportRow> batch, Long statusId, Map<String, Long> roleIds) {
+        log.debug("Importing batch of {} users starting at line {}", batch.size(), batch.get(0).line());
+        List<UserImportResultDTO> results = new ArrayList<>(batch.size());
+        List<Integer> userRows = new ArrayList<>();
+        List<UserCreationRequestDTO> userRequests = new ArrayList<>();
+        for (int i = 0; i < batch.size(); i++) {
+            UserImportRow row = batch.get(i);
+            String error = row.error() != null ? row.error() : validateImportRow(row.data());
+            UserImportResultDTO result = UserImportResultDTO.builder()
+                .line(row.line())
+                .email(row.data() != null ? row.data().getEmail() : null)
+                .build();
+            results.add(result);
+            if (error != null) {
+                result.setStatus(UserImportResultDTO.Status.INVALID);
+                result.setMessage(error);
+                continue;
+            }
+            userRows.add(i);
+            userRequests.add(toUserCreationRequest(row.data(), statusId, roleIds));
+        }
+
+        return userService.createUsers(userRequests)
+            .collectList()
+            .flatMapMany(createdUsers -> {
+                List<Integer> teacherRows = new ArrayList<>();
+                List<TeacherCreateRequestDTO> teacherRequests = new ArrayList<>();
+                List<Integer> sectionRows = new ArrayList<>();
+                List<SectionCreateRequestDTO> sectionRequests = new ArrayList<>();
+                for (int i = 0; i < userRows.size(); i++) {
+                    int rowIndex = userRows.get(i);
+                    UserCreationResultDTO createdUser = createdUsers.get(i);
+                    UserImportResultDTO result = results.get(rowIndex);
+                    if (createdUser.getStatus() == UserCreationResultDTO.Status.DUPLICATE_EMAIL) {
+                        result.setStatus(UserImportResultDTO.Status.DUPLICATE_EMAIL);
+                        result.setMessage("Email already registered");
+                        continue;
+                    }
+                    result.setStatus(UserImportResultDTO.Status.CREATED);
+                    result.setUserId(createdUser.getUserId());
+                    UserImportRowDTO data = batch.get(rowIndex).data();
+                    String type = importType(data);
+                    if (TYPE_TEACHER.equals(type)) {
+                        teacherRows.add(rowIndex);
+                        teacherRequests.add(new TeacherCreateRequestDTO(createdUser.getUserId(),
+                            data.getEmploymentTypeId(), data.getMaxHours()));
+                    } else if (TYPE_SECTION.equals(type)) {
+                        sectionRows.add(rowIndex);
+                        sectionRequests.add(new SectionCreateRequestDTO(createdUser.getUserId(), data.getSectionName()));
+                    }
+                }
+                return importTeachers(teacherRequests, teacherRows, results)
+                    .then(importSections(sectionRequests, sectionRows, results))
+                    .thenMany(Flux.fromIterable(results));
+            });
+    }
+
+    private Mono<Void> importTeachers(List<TeacherCreateRequestDTO> requests, List<Integer> rows,
+            List<UserImportResultDTO> results) {
+        if (requests.isEmpty()) {
+            return Mono.empty();
+        }
+        return teacherService.createTeachers(requests)
+            .index()
+            .doOnNext(teacher -> results.get(rows.get(teacher.getT1().intValue())).setTeacherId(teacher.getT2().getId()))
+            .then()
+            .onErrorResume(error -> {
+                log.error("Error creating imported teachers", error);
+                rows.forEach(row -> markFailed(results.get(row), "User created but teacher profile could not be created"));
+                return Mono.empty();
+            });
+    }
+
+    private Mono<Void> importSections(List<SectionCreateRequestDTO> requests, List<Integer> rows,
+            List<UserImportResultDTO> results) {
+        if (requests.isEmpty()) {
+            return Mono.empty();
+        }
+        return sectionService.createSections(requests)
+            .index()
+            .doOnNext(section -> results.get(rows.get(section.getT1().intValue())).setSectionId(section.getT2().getId()))
+            .then()
+            .onErrorResume(error -> {
+                log.error("Error creating imported sections", error);
+                rows.forEach(row -> markFailed(results.get(row), "User created but section could not be created"));
+                return Mono.empty();
+            });
+    }
+
+    private static void markFailed(UserImportResultDTO result, String message) {
+        result.setStatus(UserImportResultDTO.Status.FAILED);
+        result.setTeacherId(null);
+        result.setSectionId(null);
+        result.setMessage(message);
+    }
+
+    /**
+     * Checks the values required to create the user of a row.
+     * @param data values of the row
+     * @return why the row cannot be imported, or null
+     */
+    private static String validateImportRow(UserImportRowDTO data) {
+        if (data == null) {
+            return "Empty row";
+        }
+        String type = importType(data);
+        if (type == null || !IMPORT_TYPE_ROLES.containsKey(type)) {
+            return "Type must be one of " + String.join(", ", IMPORT_TYPE_ROLES.keySet().stream().sorted().toList());
+        }
+        if (isBlank(data.getEmail()) || !data.getEmail().contains("@")) {
+            return "A valid email is required";
+        }
+        if (isBlank(data.getUsername()) || isBlank(data.getPassword())
+                || isBlank(data.getName()) || isBlank(data.getLastName())) {
+            return "Username, password, name and last name are required";
+        }
+        if (TYPE_SECTION.equals(type) && isBlank(data.getSectionName())) {
+            return "Section name is required for sections";
+        }
+        return null;
+    }
+
+    private static UserCreationRequestDTO toUserCreationRequest(UserImportRowDTO data, Long statusId,
+            Map<String, Long> roleIds) {
+        return UserCreationRequestDTO.builder()
+            .username(data.getUsername())
+            .password(data.getPassword())
+            .faculty(data.getFaculty())
+            .name(data.getName())
+            .lastName(data.getLastName())
+            .email(data.getEmail().trim())
+            .statusId(statusId)
+            .roleId(roleIds.get(importType(data)))
+            .documentTypeId(data.getDocumentTypeId())
+            .documentNumber(data.getDocumentNumber())
+            .build();
+    }
+
+    private static String importType(UserImportRowDTO data) {
+        return data.getType() == null ? null : data.getType().trim().toUpperCase(Locale.ROOT);
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
 }
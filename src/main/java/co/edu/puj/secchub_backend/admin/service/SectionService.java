@@ -1,18 +1,28 @@
 package co.edu.puj.secchub_backend.admin.service;
 
 import co.edu.puj.secchub_backend.admin.contract.AdminModuleSectionContract;
+import co.edu.puj.secchub_backend.admin.contract.SectionChangedEvent;
 import co.edu.puj.secchub_backend.admin.dto.PlanningStatusStatsDTO;
 import co.edu.puj.secchub_backend.admin.dto.SectionCreateRequestDTO;
 import co.edu.puj.secchub_backend.admin.dto.SectionResponseDTO;
 import co.edu.puj.secchub_backend.admin.dto.SectionSummaryDTO;
 import co.edu.puj.secchub_backend.admin.exception.SectionNotFoundException;
+import co.edu.puj.secchub_backend.admin.exception.SemesterNotFoundException;
 import co.edu.puj.secchub_backend.admin.model.Section;
+import co.edu.puj.secchub_backend.admin.repository.RegisterBatchRepository;
 import co.edu.puj.secchub_backend.admin.repository.SectionRepository;
+import co.edu.puj.secchub_backend.config.ReadOnlyRoute;
+import co.edu.puj.secchub_backend.config.ReportingDatabase;
+import co.edu.puj.secchub_backend.config.SingleFlight;
 import co.edu.puj.secchub_backend.security.contract.SecurityModuleUserContract;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import org.modelmapper.ModelMapper;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
 import org.springframework.r2dbc.core.DatabaseClient;
 import org.springframework.security.core.context.ReactiveSecurityContextHolder;
 import org.springframework.stereotype.Service;
@@ -21,6 +31,9 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Schedulers;
 
+import java.util.List;
+import java.util.Optional;
+
 /**
  * Service for managing sections business logic.
  * Handles operations for creating, querying, updating sections.
@@ -29,11 +42,43 @@ import reactor.core.scheduler.Schedulers;
 @Slf4j
 @RequiredArgsConstructor
 public class SectionService implements AdminModuleSectionContract{
-    
+    static final String SUMMARY_OPERATION = "sections-summary";
+
+    /**
+     * Counts the classes of a section in the current semester.
+     */
+    static final String COUNT_CLASSES_IN_CURRENT_SEMESTER_SQL = """
+        SELECT COUNT(c.id) as count
+        FROM class c
+        INNER JOIN course co ON c.course_id = co.id
+        INNER JOIN semester s ON c.semester_id = s.id
+        WHERE co.section_id = :sectionId
+        AND s.is_current = TRUE
+        """;
+
+    /**
+     * Counts the pending (status 4) teacher class assignments of a section in the current semester.
+     */
+    static final String COUNT_PENDING_TEACHER_CLASSES_SQL = """
+        SELECT COUNT(tc.id) as count
+        FROM teacher_class tc
+        INNER JOIN class c ON tc.class_id = c.id
+        INNER JOIN course co ON c.course_id = co.id
+        INNER JOIN semester s ON c.semester_id = s.id
+        WHERE co.section_id = :sectionId
+        AND s.is_current = TRUE
+        AND tc.status_id = 4
+        """;
+
     private final ModelMapper modelMapper;
+    @ReportingDatabase
     private final DatabaseClient databaseClient;
     private final SectionRepository sectionRepository;
+    private final RegisterBatchRepository registerBatchRepository;
     private final SecurityModuleUserContract userService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SemesterService semesterService;
+    private final SingleFlight singleFlight;
 
     /**
      * Creates a new section.
@@ -54,9 +99,25 @@ public class SectionService implements AdminModuleSectionContract{
                     log.debug("Mapped to SectionResponseDTO: {}", responseDTO);
                     return responseDTO;
                 })
+                .doOnNext(createdSection -> eventPublisher.publishEvent(new SectionChangedEvent(createdSection.getId())))
                 .subscribeOn(Schedulers.boundedElastic());
     }
 
+    /**
+     * Creates several sections with multi-row inserts.
+     * @param sectionCreateRequestDTOs dtos with sections data
+     * @return Created sections, in the order of the requests
+     */
+    public Flux<SectionResponseDTO> createSections(List<SectionCreateRequestDTO> sectionCreateRequestDTOs) {
+        log.debug("Creating {} sections", sectionCreateRequestDTOs.size());
+        List<Section> sections = sectionCreateRequestDTOs.stream()
+                .map(sectionCreateRequestDTO -> modelMapper.map(sectionCreateRequestDTO, Section.class))
+                .toList();
+        return registerBatchRepository.insertAllSections(sections)
+                .map(savedSection -> modelMapper.map(savedSection, SectionResponseDTO.class))
+                .doOnNext(createdSection -> eventPublisher.publishEvent(new SectionChangedEvent(createdSection.getId())));
+    }
+
     /**
      * Lists all existing sections.
      * @return List of sections
@@ -103,23 +164,10 @@ public class SectionService implements AdminModuleSectionContract{
                                     return sectionRepository.save(section);
                                 })
                 )
+                .doOnNext(updatedSection -> eventPublisher.publishEvent(new SectionChangedEvent(updatedSection.getId())))
                 .map(updatedSection -> modelMapper.map(updatedSection, SectionResponseDTO.class));
     }
 
-    /**
-     * Opens planning for all sections.
-     * Used when a new semester is created.
-     * @return void
-     */
-    public void openPlanningForAllSections() {
-        sectionRepository.findAll()
-                .flatMap(section -> {
-                    section.setPlanningClosed(false);
-                    return sectionRepository.save(section);
-                })
-                .subscribe();
-    }
-
     /**
      * Gets if planning is closed for current user's section
      * @return true if planning is closed, false otherwise
@@ -136,17 +184,32 @@ public class SectionService implements AdminModuleSectionContract{
     
     /**
      * Implements method to get section ID by user ID.
+     * Cached since every section-scoped request resolves it; the cache is cleared on section changes.
      * @param userId User ID
      * @return Section ID
      */
     @Override
+    @Cacheable("section-id-by-user-id")
     public Mono<Long> getSectionIdByUserId(Long userId) {
         return sectionRepository.findByUserId(userId)
                 .map(Section::getId);
     }
 
+    /**
+     * Evicts the section by user cache when any section changes, since a change may move a user
+     * to another section.
+     * @param event Section change
+     */
+    @EventListener
+    @CacheEvict(value = "section-id-by-user-id", allEntries = true)
+    public void onSectionChanged(SectionChangedEvent event) {
+        log.debug("Evicting section by user cache after change of section {}", event.sectionId());
+    }
+
     /**
      * Gets planning status statistics (count of open and closed sections)
+     * Read right after sections close their planning, so it stays on the primary: a single read of the sections
+     * is cheaper there than the GTID check a read-your-writes replica read needs.
      * @return PlanningStatusStatsDTO with openCount, closedCount and totalCount
      */
     public Mono<PlanningStatusStatsDTO> getPlanningStatusStats() {
@@ -171,11 +234,27 @@ public class SectionService implements AdminModuleSectionContract{
 
     /**
      * Gets a summary of all sections.
+     * The summary of a semester is computed once for concurrent callers.
      * @return Flux of SectionSummaryDTO
      */
+    @ReadOnlyRoute
     public Flux<SectionSummaryDTO> getSectionsSummary() {
+        return semesterService.getCurrentSemesterId()
+            .map(Optional::of)
+            // Without a current semester every count is zero, still worth sharing
+            .onErrorReturn(SemesterNotFoundException.class, Optional.empty())
+            .flatMap(currentSemesterId -> singleFlight.execute(SUMMARY_OPERATION, currentSemesterId,
+                this::computeSectionsSummary))
+            .flatMapIterable(summaries -> summaries);
+    }
+
+    /**
+     * Computes the summary of all sections in the current semester.
+     * @return Mono with the summary of each section
+     */
+    private Mono<List<SectionSummaryDTO>> computeSectionsSummary() {
         return sectionRepository.findAll()
-            .flatMap(section -> {
+            .flatMapSequential(section -> {
                 Mono<Integer> classCountMono = countClassesInCurrentSemesterForSection(section.getId());
                 Mono<Integer> pendingTeachersMono = countPendingTeacherClassesForSection(section.getId());
 
@@ -187,7 +266,8 @@ public class SectionService implements AdminModuleSectionContract{
                         .unconfirmedTeachers(tuple.getT2())
                         .build()
                     );
-            });
+            })
+            .collectList();
     }
 
     /**
@@ -198,16 +278,7 @@ public class SectionService implements AdminModuleSectionContract{
      * @return Mono with the count of classes in current semester
      */
     private Mono<Integer> countClassesInCurrentSemesterForSection(Long sectionId) {
-        String sql = """
-            SELECT COUNT(c.id) as count
-            FROM class c
-            INNER JOIN course co ON c.course_id = co.id
-            INNER JOIN semester s ON c.semester_id = s.id
-            WHERE co.section_id = :sectionId
-            AND s.is_current = TRUE
-            """;
-
-        return databaseClient.sql(sql)
+        return databaseClient.sql(COUNT_CLASSES_IN_CURRENT_SEMESTER_SQL)
             .bind("sectionId", sectionId)
             .map(row -> row.get("count", Long.class))
             .one()
@@ -224,18 +295,7 @@ public class SectionService implements AdminModuleSectionContract{
      * @return Mono with the count of pending teacher class assignments in current semester
      */
     private Mono<Integer> countPendingTeacherClassesForSection(Long sectionId) {
-        String sql = """
-            SELECT COUNT(tc.id) as count
-            FROM teacher_class tc
-            INNER JOIN class c ON tc.class_id = c.id
-            INNER JOIN course co ON c.course_id = co.id
-            INNER JOIN semester s ON c.semester_id = s.id
-            WHERE co.section_id = :sectionId
-            AND s.is_current = TRUE
-            AND tc.status_id = 4
-            """;
-
-        return databaseClient.sql(sql)
+        return databaseClient.sql(COUNT_PENDING_TEACHER_CLASSES_SQL)
             .bind("sectionId", sectionId)
             .map(row -> row.get("count", Long.class))
             .one()
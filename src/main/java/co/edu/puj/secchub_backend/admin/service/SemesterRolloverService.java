@@ -0,0 +1,211 @@
+package co.edu.puj.secchub_backend.admin.service;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.modelmapper.ModelMapper;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+
+import co.edu.puj.secchub_backend.admin.contract.SectionChangedEvent;
+import co.edu.puj.secchub_backend.admin.contract.SemesterChangedEvent;
+import co.edu.puj.secchub_backend.admin.contract.SemesterRolloverParticipant;
+import co.edu.puj.secchub_backend.admin.dto.SemesterRequestDTO;
+import co.edu.puj.secchub_backend.admin.dto.SemesterResponseDTO;
+import co.edu.puj.secchub_backend.admin.dto.SemesterRolloverResponseDTO;
+import co.edu.puj.secchub_backend.admin.exception.SemesterBadRequestException;
+import co.edu.puj.secchub_backend.admin.model.Semester;
+import co.edu.puj.secchub_backend.admin.repository.SemesterRepository;
+import co.edu.puj.secchub_backend.admin.repository.SemesterRolloverRepository;
+import co.edu.puj.secchub_backend.config.ChangesResource;
+import co.edu.puj.secchub_backend.config.ResourceFamily;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Orchestrates the rollover to a new semester.
+ * In one transaction it makes the semester current, reopens the planning of every section and optionally
+ * copies the planning of the previous semester through the {@link SemesterRolloverParticipant} beans,
+ * using set-based statements. Once committed it warms the caches and read models of the new semester.
+ * <p>
+ * The rollover can be run again for the same year and period: the existing semester is updated instead of
+ * duplicated, sections are only reopened when the semester was not current yet and planning is only copied
+ * into a semester without planning.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class SemesterRolloverService {
+    static final String SEMESTER_PHASE = "semester";
+    static final String SECTIONS_PHASE = "sections";
+    static final String PLANNING_PHASE = "planning";
+    static final String WARM_PHASE = "warm";
+
+    private final TransactionalOperator transactionalOperator;
+    private final SemesterRepository semesterRepository;
+    private final SemesterRolloverRepository semesterRolloverRepository;
+    private final SemesterService semesterService;
+    private final ModelMapper modelMapper;
+    private final List<SemesterRolloverParticipant> participants;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Creates the following semester, or updates it when it already exists, and makes it the current one.
+     * @param semesterRequestDTO with semester data
+     * @param clonePreviousPlanning whether to copy the planning of the previous semester
+     * @return SemesterRolloverResponseDTO with the semester and the result of each phase
+     * @throws SemesterBadRequestException if semester data is invalid
+     */
+    @ChangesResource(ResourceFamily.SEMESTERS)
+    public Mono<SemesterRolloverResponseDTO> createSemester(SemesterRequestDTO semesterRequestDTO, boolean clonePreviousPlanning) {
+        if (semesterRequestDTO.getYear() == null ||
+            semesterRequestDTO.getStartDate() == null ||
+            semesterRequestDTO.getEndDate() == null ||
+            semesterRequestDTO.getPeriod() == null ||
+            semesterRequestDTO.getStartSpecialWeek() == null) {
+            return Mono.error(new SemesterBadRequestException(
+                "Semester year, start date, end date, period or start special week cannot be null"
+            ));
+        }
+
+        return Mono.defer(() -> {
+            Map<String, Long> phaseTimings = new LinkedHashMap<>();
+            SemesterRolloverResponseDTO report = SemesterRolloverResponseDTO.builder()
+                .phaseTimings(phaseTimings)
+                .build();
+
+            return timed(SEMESTER_PHASE, phaseTimings, activateSemester(semesterRequestDTO, report))
+                .flatMap(semester -> timed(SECTIONS_PHASE, phaseTimings, reopenPlanning(report))
+                    .then(timed(PLANNING_PHASE, phaseTimings, clonePlanning(semester, clonePreviousPlanning, report)))
+                    .thenReturn(semester))
+                .as(transactionalOperator::transactional)
+                .doOnNext(semester -> publishChanges(semester, report))
+                .flatMap(semester -> timed(WARM_PHASE, phaseTimings, warm(semester.getId()))
+                    .thenReturn(semester))
+                .map(semester -> {
+                    report.setSemester(modelMapper.map(semester, SemesterResponseDTO.class));
+                    log.info("Semester {} rollover done: created={}, madeCurrent={}, reopenedSections={}, " +
+                            "clonedPlanningRows={}, phaseTimings={}", semester.getId(), report.isCreated(),
+                        report.isMadeCurrent(), report.getReopenedSections(), report.getClonedPlanningRows(), phaseTimings);
+                    return report;
+                });
+        });
+    }
+
+    // ==============================================
+    // Private Methods
+    // ==============================================
+
+    /**
+     * Saves the semester as the current one and clears the flag of the others with one UPDATE.
+     * Takes the lock of the current semester first so concurrent rollovers do not both insert it.
+     * @param semesterRequestDTO with semester data
+     * @param report Rollover result to fill
+     * @return Mono with the saved semester
+     */
+    private Mono<Semester> activateSemester(SemesterRequestDTO semesterRequestDTO, SemesterRolloverResponseDTO report) {
+        return semesterRolloverRepository.lockCurrentSemester()
+            .then(semesterRepository.findByYearAndPeriod(semesterRequestDTO.getYear(), semesterRequestDTO.getPeriod()))
+            .map(existingSemester -> {
+                report.setMadeCurrent(!Boolean.TRUE.equals(existingSemester.getIsCurrent()));
+                modelMapper.map(semesterRequestDTO, existingSemester);
+                return existingSemester;
+            })
+            .switchIfEmpty(Mono.fromSupplier(() -> {
+                report.setCreated(true);
+                report.setMadeCurrent(true);
+                return modelMapper.map(semesterRequestDTO, Semester.class);
+            }))
+            .flatMap(semester -> {
+                semester.setIsCurrent(true);
+                return semesterRepository.save(semester);
+            })
+            .flatMap(savedSemester -> semesterRolloverRepository.clearCurrentExcept(savedSemester.getId())
+                .thenReturn(savedSemester));
+    }
+
+    /**
+     * Reopens the planning of every section with one UPDATE when the semester has just become current.
+     * @param report Rollover result to fill
+     * @return Mono with the number of reopened sections
+     */
+    private Mono<Long> reopenPlanning(SemesterRolloverResponseDTO report) {
+        if (!report.isMadeCurrent()) {
+            return Mono.just(0L);
+        }
+        return semesterRolloverRepository.openPlanningForAllSections()
+            .doOnNext(report::setReopenedSections);
+    }
+
+    /**
+     * Copies the planning of the semester preceding the new one by year and period.
+     * @param semester New current semester
+     * @param clonePreviousPlanning whether to copy the planning
+     * @param report Rollover result to fill
+     * @return Mono with the number of copied rows
+     */
+    private Mono<Long> clonePlanning(Semester semester, boolean clonePreviousPlanning, SemesterRolloverResponseDTO report) {
+        if (!clonePreviousPlanning) {
+            return Mono.just(0L);
+        }
+        return semesterRepository.findPreviousSemester(semester.getYear(), semester.getPeriod())
+            .flatMap(previousSemester -> {
+                report.setPreviousSemesterId(previousSemester.getId());
+                return Flux.fromIterable(participants)
+                    .concatMap(participant -> participant.clonePlanning(previousSemester.getId(), semester.getId()))
+                    .reduce(0L, (total, rows) -> total + rows);
+            })
+            .defaultIfEmpty(0L)
+            .doOnNext(report::setClonedPlanningRows);
+    }
+
+    /**
+     * Publishes the semester change, which clears the current semester caches on every instance,
+     * and the change of the sections whose planning was reopened.
+     * @param semester New current semester
+     * @param report Rollover result
+     */
+    private void publishChanges(Semester semester, SemesterRolloverResponseDTO report) {
+        eventPublisher.publishEvent(new SemesterChangedEvent(semester.getId()));
+        if (report.getReopenedSections() > 0) {
+            eventPublisher.publishEvent(new SectionChangedEvent(null));
+        }
+    }
+
+    /**
+     * Loads the current semester caches and the read models of the participants.
+     * The rollover is already committed, so a failure is logged instead of failing the request.
+     * @param semesterId ID of the new current semester
+     * @return empty Mono when done
+     */
+    private Mono<Void> warm(Long semesterId) {
+        return Mono.when(semesterService.getCurrentSemester(), semesterService.getCurrentSemesterId())
+            .thenMany(Flux.fromIterable(participants))
+            .concatMap(participant -> participant.warm(semesterId))
+            .then()
+            .onErrorResume(error -> {
+                log.warn("Could not warm the caches of semester {}: {}", semesterId, error.getMessage());
+                return Mono.empty();
+            });
+    }
+
+    /**
+     * Records how long a phase took once it completes.
+     * @param phase Phase name
+     * @param phaseTimings Milliseconds by phase name
+     * @param step Phase to run
+     * @return The phase, timed
+     */
+    private static <T> Mono<T> timed(String phase, Map<String, Long> phaseTimings, Mono<T> step) {
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            return step.doOnTerminate(() ->
+                phaseTimings.put(phase, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)));
+        });
+    }
+}
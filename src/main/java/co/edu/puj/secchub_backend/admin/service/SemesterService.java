@@ -3,11 +3,11 @@ package co.edu.puj.secchub_backend.admin.service;
 import org.modelmapper.ModelMapper;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.reactive.TransactionalOperator;
 
 import co.edu.puj.secchub_backend.admin.contract.AdminModuleSemesterContract;
-import co.edu.puj.secchub_backend.admin.dto.SemesterRequestDTO;
+import co.edu.puj.secchub_backend.admin.contract.SemesterChangedEvent;
 import co.edu.puj.secchub_backend.admin.dto.SemesterResponseDTO;
 import co.edu.puj.secchub_backend.admin.exception.SemesterBadRequestException;
 import co.edu.puj.secchub_backend.admin.exception.SemesterNotFoundException;
@@ -20,53 +20,24 @@ import reactor.core.publisher.Mono;
 
 /**
  * Service class for managing semesters.
- * Provides methods to create, query, update and delete semesters.
+ * Provides methods to query semesters; new semesters are created by {@link SemesterRolloverService}.
  */
 @Service
 @Slf4j
 @RequiredArgsConstructor
 public class SemesterService implements AdminModuleSemesterContract {
-    private final TransactionalOperator transactionalOperator;
     private final SemesterRepository semesterRepository;
     private final ModelMapper modelMapper;
-    private final SectionService sectionService;
 
     /**
-     * Creates a new semester and sets to false the last semester's active field.
-     * Also changes all sections' planningClosed field to false.
-     * @param semesterRequestDTO with semester data
-     * @return semesterResponseDTO with created semester data
-     * @throws SemesterBadRequestException if semester data is invalid
+     * Evicts the current semester caches when any semester changes.
+     * Runs on the publishing thread, so the caches are clear before the change is answered.
+     * @param event Semester change
      */
+    @EventListener
     @CacheEvict(value = {"current-semester", "current-semester-id"}, allEntries = true)
-    public Mono<SemesterResponseDTO> createSemester(SemesterRequestDTO semesterRequestDTO) {
-        if (semesterRequestDTO.getYear() == null ||
-            semesterRequestDTO.getStartDate() == null ||
-            semesterRequestDTO.getEndDate() == null ||
-            semesterRequestDTO.getPeriod() == null ||
-            semesterRequestDTO.getStartSpecialWeek() == null) {
-            return Mono.error(new SemesterBadRequestException(
-                "Semester year, start date, end date, period or start special week cannot be null"
-            ));
-        }
-
-        return semesterRepository.findByIsCurrentTrue()
-        .flatMap(existingSemester -> {
-            existingSemester.setIsCurrent(false);
-            return semesterRepository.save(existingSemester);
-        })
-        .then(Mono.defer(() -> {
-            Semester semester = modelMapper.map(semesterRequestDTO, Semester.class);
-            semester.setIsCurrent(true);
-            return semesterRepository.save(semester);
-        }))
-        .flatMap(savedSemester ->
-            Mono.fromRunnable(sectionService::openPlanningForAllSections)
-                .thenReturn(savedSemester)
-        )
-        .map(savedSemester -> modelMapper.map(savedSemester, SemesterResponseDTO.class))
-        .as(transactionalOperator::transactional);
-
+    public void onSemesterChanged(SemesterChangedEvent event) {
+        log.debug("Evicting current semester caches after change of semester {}", event.semesterId());
     }
 
     /**
@@ -6,6 +6,7 @@ import co.edu.puj.secchub_backend.admin.dto.TeacherCreateRequestDTO;
 import co.edu.puj.secchub_backend.admin.dto.TeacherUpdateRequestDTO;
 import co.edu.puj.secchub_backend.admin.exception.TeacherNotFoundException;
 import co.edu.puj.secchub_backend.admin.model.Teacher;
+import co.edu.puj.secchub_backend.admin.repository.RegisterBatchRepository;
 import co.edu.puj.secchub_backend.admin.repository.TeacherRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -15,6 +16,9 @@ import org.springframework.stereotype.Service;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.Collection;
+import java.util.List;
+
 /**
  * Service for managing teacher operations.
  * Provides business logic for teacher creation, retrieval, and updates.
@@ -25,6 +29,7 @@ import reactor.core.publisher.Mono;
 public class TeacherService implements AdminModuleTeacherContract{
 
     private final TeacherRepository teacherRepository;
+    private final RegisterBatchRepository registerBatchRepository;
     private final ModelMapper modelMapper;
 
     /**
@@ -50,6 +55,20 @@ public class TeacherService implements AdminModuleTeacherContract{
                 .map(teacher -> modelMapper.map(teacher, TeacherResponseDTO.class));
     }
 
+    /**
+     * Gets several teachers by their IDs.
+     * @param teacherIds Teacher IDs
+     * @return Teachers found with the specified IDs
+     */
+    @Override
+    public Flux<TeacherResponseDTO> getTeachersByIds(Collection<Long> teacherIds) {
+        if (teacherIds == null || teacherIds.isEmpty()) {
+            return Flux.empty();
+        }
+        return teacherRepository.findAllById(teacherIds)
+                .map(teacher -> modelMapper.map(teacher, TeacherResponseDTO.class));
+    }
+
     /**
      * Creates a new teacher.
      * @param teacherCreateRequestDTO DTO with teacher creation data
@@ -72,6 +91,20 @@ public class TeacherService implements AdminModuleTeacherContract{
                 });
     }
 
+    /**
+     * Creates several teachers with multi-row inserts.
+     * @param teacherCreateRequestDTOs DTOs with teachers creation data
+     * @return Created teachers, in the order of the requests
+     */
+    public Flux<TeacherResponseDTO> createTeachers(List<TeacherCreateRequestDTO> teacherCreateRequestDTOs) {
+        log.debug("Creating {} teachers", teacherCreateRequestDTOs.size());
+        List<Teacher> teachers = teacherCreateRequestDTOs.stream()
+                .map(teacherCreateRequestDTO -> modelMapper.map(teacherCreateRequestDTO, Teacher.class))
+                .toList();
+        return registerBatchRepository.insertAllTeachers(teachers)
+                .map(savedTeacher -> modelMapper.map(savedTeacher, TeacherResponseDTO.class));
+    }
+
     /**
      * Updates a teacher's employment type and max hours.
      * @param teacherId Teacher ID
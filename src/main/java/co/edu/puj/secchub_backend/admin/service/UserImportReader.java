@@ -0,0 +1,173 @@
+package co.edu.puj.secchub_backend.admin.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import co.edu.puj.secchub_backend.admin.dto.UserImportRowDTO;
+import co.edu.puj.secchub_backend.admin.exception.UserImportBadRequestException;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+
+/**
+ * Reads the rows of bulk user import files line by line, so files of any size are read with flat memory.
+ * Lines that cannot be read become invalid rows instead of failing the whole import.
+ * <p>
+ * CSV files start with a header naming the columns of {@link UserImportRowDTO}, in any order and either
+ * in camelCase or snake_case; values may be quoted with double quotes but cannot span lines.
+ * NDJSON files hold one {@link UserImportRowDTO} object per line.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserImportReader {
+
+    private static final Set<String> COLUMNS = Set.of("type", "username", "password", "faculty", "name", "lastname",
+        "email", "documenttypeid", "documentnumber", "employmenttypeid", "maxhours", "sectionname");
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Reads the rows of a CSV file.
+     * @param lines lines of the file, header first
+     * @return rows of the file
+     */
+    public Flux<UserImportRow> readCsv(Flux<String> lines) {
+        return lines.index()
+            .switchOnFirst((first, indexedLines) -> {
+                if (!first.hasValue()) {
+                    return indexedLines.thenMany(Flux.empty());
+                }
+                Map<Integer, String> columns = readHeader(first.get().getT2());
+                return indexedLines.skip(1)
+                    .filter(indexedLine -> !indexedLine.getT2().isBlank())
+                    .map(indexedLine -> readCsvRow(indexedLine.getT1() + 1, indexedLine.getT2(), columns));
+            });
+    }
+
+    /**
+     * Reads the rows of an NDJSON file.
+     * @param lines lines of the file
+     * @return rows of the file
+     */
+    public Flux<UserImportRow> readNdjson(Flux<String> lines) {
+        return lines.index()
+            .filter(indexedLine -> !indexedLine.getT2().isBlank())
+            .map(indexedLine -> {
+                long line = indexedLine.getT1() + 1;
+                try {
+                    return UserImportRow.of(line, objectMapper.readValue(indexedLine.getT2(), UserImportRowDTO.class));
+                } catch (JsonProcessingException e) {
+                    return UserImportRow.invalid(line, "Malformed JSON: " + e.getOriginalMessage());
+                }
+            });
+    }
+
+    // ==============================================
+    // Private Methods
+    // ==============================================
+
+    /**
+     * Maps the positions of the header to the known columns, ignoring unknown columns.
+     * @param header first line of the file
+     * @return column name by position
+     */
+    private static Map<Integer, String> readHeader(String header) {
+        List<String> names = splitCsvLine(header.startsWith("\uFEFF") ? header.substring(1) : header);
+        if (names == null) {
+            throw new UserImportBadRequestException("Malformed CSV header");
+        }
+        Map<Integer, String> columns = new HashMap<>();
+        for (int i = 0; i < names.size(); i++) {
+            String column = names.get(i).replaceAll("[_\\-\\s]", "").toLowerCase(Locale.ROOT);
+            if (COLUMNS.contains(column)) {
+                columns.put(i, column);
+            }
+        }
+        if (!columns.containsValue("email")) {
+            throw new UserImportBadRequestException("CSV header must include the email column");
+        }
+        return columns;
+    }
+
+    private static UserImportRow readCsvRow(long line, String text, Map<Integer, String> columns) {
+        List<String> values = splitCsvLine(text);
+        if (values == null) {
+            return UserImportRow.invalid(line, "Unterminated quoted value");
+        }
+        UserImportRowDTO row = new UserImportRowDTO();
+        for (Map.Entry<Integer, String> column : columns.entrySet()) {
+            String value = column.getKey() < values.size() ? values.get(column.getKey()).trim() : "";
+            if (value.isEmpty()) {
+                continue;
+            }
+            try {
+                setColumn(row, column.getValue(), value);
+            } catch (NumberFormatException e) {
+                return UserImportRow.invalid(line, "Column " + column.getValue() + " must be a number");
+            }
+        }
+        return UserImportRow.of(line, row);
+    }
+
+    private static void setColumn(UserImportRowDTO row, String column, String value) {
+        switch (column) {
+            case "type" -> row.setType(value);
+            case "username" -> row.setUsername(value);
+            case "password" -> row.setPassword(value);
+            case "faculty" -> row.setFaculty(value);
+            case "name" -> row.setName(value);
+            case "lastname" -> row.setLastName(value);
+            case "email" -> row.setEmail(value);
+            case "documenttypeid" -> row.setDocumentTypeId(Long.valueOf(value));
+            case "documentnumber" -> row.setDocumentNumber(value);
+            case "employmenttypeid" -> row.setEmploymentTypeId(Long.valueOf(value));
+            case "maxhours" -> row.setMaxHours(Integer.valueOf(value));
+            case "sectionname" -> row.setSectionName(value);
+            default -> throw new IllegalStateException("Unknown column " + column);
+        }
+    }
+
+    /**
+     * Splits a CSV line on commas outside double quotes; a doubled quote inside quotes is a literal quote.
+     * @param line CSV line
+     * @return values of the line, or null when a quoted value is not closed
+     */
+    static List<String> splitCsvLine(String line) {
+        List<String> values = new ArrayList<>();
+        StringBuilder value = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    value.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    value.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(value.toString());
+                value.setLength(0);
+            } else {
+                value.append(c);
+            }
+        }
+        if (quoted) {
+            return null;
+        }
+        values.add(value.toString());
+        return values;
+    }
+}
@@ -0,0 +1,20 @@
+package co.edu.puj.secchub_backend.admin.service;
+
+import co.edu.puj.secchub_backend.admin.dto.UserImportRowDTO;
+
+/**
+ * Row read from a bulk user import file.
+ * @param line line of the row in the file, starting at 1
+ * @param data values of the row, or null when it could not be read
+ * @param error why the row could not be read, or null
+ */
+public record UserImportRow(long line, UserImportRowDTO data, String error) {
+
+    static UserImportRow of(long line, UserImportRowDTO data) {
+        return new UserImportRow(line, data, null);
+    }
+
+    static UserImportRow invalid(long line, String error) {
+        return new UserImportRow(line, null, error);
+    }
+}
@@ -0,0 +1,50 @@
+package co.edu.puj.secchub_backend.config;
+
+import java.util.Set;
+
+/**
+ * What the current user may see, resolved once per request from the security context.
+ * Carries the user's roles and the section and teacher the user is, so listings can turn it into
+ * a {@link RowPredicate} and filter rows in the database instead of checking every row afterwards.
+ * @param userId ID of the user, null for administrators and anonymous requests
+ * @param roles Granted authorities of the user
+ * @param sectionId ID of the section the user is head of, if any
+ * @param teacherId ID of the teacher the user is, if any
+ */
+public record AccessScope(Long userId, Set<String> roles, Long sectionId, Long teacherId) {
+    public static final String ROLE_ADMIN = "ROLE_ADMIN";
+    public static final String ROLE_TEACHER = "ROLE_TEACHER";
+    public static final String ROLE_PROGRAM = "ROLE_PROGRAM";
+
+    public AccessScope {
+        roles = roles == null ? Set.of() : Set.copyOf(roles);
+    }
+
+    /**
+     * Scope of a request without an authenticated user, which sees no rows.
+     * @return Empty scope
+     */
+    public static AccessScope anonymous() {
+        return new AccessScope(null, Set.of(), null, null);
+    }
+
+    /**
+     * @param role Granted authority, such as {@link #ROLE_TEACHER}
+     * @return Whether the user has the role
+     */
+    public boolean hasRole(String role) {
+        return roles.contains(role);
+    }
+
+    public boolean isAdmin() {
+        return hasRole(ROLE_ADMIN);
+    }
+
+    /**
+     * Starts the predicate restricting a listing to the rows this scope can see.
+     * @return Predicate builder
+     */
+    public RowPredicate.Builder rows() {
+        return new RowPredicate.Builder(this);
+    }
+}
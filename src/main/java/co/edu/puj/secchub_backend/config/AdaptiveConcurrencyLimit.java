@@ -0,0 +1,67 @@
+package co.edu.puj.secchub_backend.config;
+
+/**
+ * Concurrency limit that follows the latency of the requests it admits, in the style of the gradient limiters
+ * of TCP congestion control. A long-term average of the latency is compared with each new sample: while the
+ * samples stay within {@link #TOLERANCE} of the average, the limit grows by about its square root, and when they
+ * rise above it, because the database or pool behind the endpoints is queueing, the limit shrinks in proportion.
+ * Failed requests shrink the limit by {@link #BACKOFF}. Samples taken while less than half of the limit is in use
+ * say nothing about the capacity and are ignored.
+ * <p>
+ * Not thread-safe; callers synchronize.
+ */
+class AdaptiveConcurrencyLimit {
+    static final double TOLERANCE = 1.5;
+    static final double BACKOFF = 0.9;
+
+    private static final double SMOOTHING = 0.2;
+    private static final double LONG_WINDOW_FACTOR = 2.0 / (100 + 1);
+
+    private final int minLimit;
+    private final int maxLimit;
+    private double limit;
+    private double longRttNanos;
+
+    AdaptiveConcurrencyLimit(int initialLimit, int minLimit, int maxLimit) {
+        if (minLimit < 1 || maxLimit < minLimit) {
+            throw new IllegalArgumentException("Expected 1 <= min-limit <= max-limit but got " + minLimit + " and " + maxLimit);
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+    }
+
+    /**
+     * @return Concurrent requests currently allowed
+     */
+    int current() {
+        return (int) limit;
+    }
+
+    /**
+     * Updates the limit with a completed request.
+     * @param rttNanos Time the request took once admitted
+     * @param inFlight Requests in flight when it completed, itself included
+     * @param dropped Whether the request failed
+     */
+    void onSample(long rttNanos, int inFlight, boolean dropped) {
+        if (rttNanos <= 0) {
+            return;
+        }
+        if (dropped) {
+            limit = Math.max(minLimit, limit * BACKOFF);
+            return;
+        }
+        longRttNanos = longRttNanos == 0 ? rttNanos : longRttNanos + (rttNanos - longRttNanos) * LONG_WINDOW_FACTOR;
+        if (longRttNanos > 2.0 * rttNanos) {
+            // The load that raised the average is gone; let the average catch up faster
+            longRttNanos *= 0.95;
+        }
+        if (inFlight < limit / 2) {
+            return;
+        }
+        double gradient = Math.max(0.5, Math.min(1.0, TOLERANCE * longRttNanos / rttNanos));
+        double target = limit * gradient + Math.sqrt(limit);
+        limit = Math.max(minLimit, Math.min(maxLimit, limit * (1 - SMOOTHING) + target * SMOOTHING));
+    }
+}
@@ -0,0 +1,25 @@
+package co.edu.puj.secchub_backend.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Configuration of the admission control of expensive endpoints, see {@link AdmissionControlWebFilter}.
+ */
+@Configuration
+@EnableConfigurationProperties(AdmissionProperties.class)
+public class AdmissionControlConfig {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "secchub.admission", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public AdmissionControlWebFilter admissionControlWebFilter(AdmissionProperties properties, MeterRegistry meterRegistry,
+            ObjectMapper objectMapper) {
+        return new AdmissionControlWebFilter(properties, meterRegistry, objectMapper);
+    }
+}
@@ -0,0 +1,159 @@
+package co.edu.puj.secchub_backend.config;
+
+import java.security.Principal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+/**
+ * Web filter that puts the requests of the endpoint classes of {@link AdmissionProperties} through one
+ * {@link AdmissionLimiter} per class.
+ * It runs after the security chain so requests are limited per authenticated user. Requests without an
+ * authenticated user are answered with 401 Unauthorized before taking a slot, since every caller behind one
+ * address would otherwise share a single token bucket. A rejected request is answered at once with
+ * 429 Too Many Requests and a {@code Retry-After} header, before its handler runs.
+ * <p>
+ * The slot of an admitted request is held until the response is complete, which for streamed responses
+ * such as the audit logs is when the last element is written. Responses with a 5xx status count as failures
+ * for the adaptive limit.
+ */
+@Slf4j
+public class AdmissionControlWebFilter implements WebFilter, Ordered {
+
+    /**
+     * Runs after the Spring Security web filter chain, which is ordered at -100.
+     */
+    static final int ORDER = 0;
+
+    private static final String TIMESTAMP_KEY = "timestamp";
+    private static final String ERROR_KEY = "error";
+    private static final String MESSAGE_KEY = "message";
+    private static final String UNAUTHENTICATED_MESSAGE = "Authentication is required for this endpoint";
+
+    private final List<Route> routes;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Route of an endpoint class.
+     * @param method HTTP method, null to match every method
+     * @param pattern Path pattern
+     * @param limiter Limiter of the class
+     */
+    record Route(HttpMethod method, PathPattern pattern, AdmissionLimiter limiter) {
+
+        boolean matches(ServerWebExchange exchange) {
+            return (method == null || method.equals(exchange.getRequest().getMethod()))
+                && pattern.matches(exchange.getRequest().getPath().pathWithinApplication());
+        }
+    }
+
+    public AdmissionControlWebFilter(AdmissionProperties properties, MeterRegistry meterRegistry, ObjectMapper objectMapper) {
+        this.routes = routesOf(properties.getClasses(), meterRegistry);
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public int getOrder() {
+        return ORDER;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        AdmissionLimiter limiter = limiterFor(exchange);
+        if (limiter == null) {
+            return chain.filter(exchange);
+        }
+        return exchange.getPrincipal()
+            .map(Principal::getName)
+            .map(user -> admit(exchange, chain, limiter, user))
+            .switchIfEmpty(Mono.fromSupplier(() -> unauthenticated(exchange)))
+            .flatMap(Function.identity());
+    }
+
+    AdmissionLimiter limiterFor(ServerWebExchange exchange) {
+        for (Route route : routes) {
+            if (route.matches(exchange)) {
+                return route.limiter();
+            }
+        }
+        return null;
+    }
+
+    private Mono<Void> admit(ServerWebExchange exchange, WebFilterChain chain, AdmissionLimiter limiter, String user) {
+        return limiter.admit(user)
+            .flatMap(permit -> chain.filter(exchange)
+                .doFinally(signal -> permit.release(failed(exchange, signal))))
+            .onErrorResume(AdmissionRejectedException.class, rejection -> reject(exchange, rejection));
+    }
+
+    private Mono<Void> unauthenticated(ServerWebExchange exchange) {
+        log.debug("Rejected unauthenticated {} {}", exchange.getRequest().getMethod(), exchange.getRequest().getPath());
+        return writeError(exchange.getResponse(), HttpStatus.UNAUTHORIZED, UNAUTHENTICATED_MESSAGE);
+    }
+
+    private Mono<Void> reject(ServerWebExchange exchange, AdmissionRejectedException rejection) {
+        log.debug("Rejected {} {}: {}", exchange.getRequest().getMethod(), exchange.getRequest().getPath(), rejection.getMessage());
+        ServerHttpResponse response = exchange.getResponse();
+        if (response.isCommitted()) {
+            return Mono.error(rejection);
+        }
+        response.getHeaders().set(HttpHeaders.RETRY_AFTER, Long.toString(rejection.getRetryAfterSeconds()));
+        return writeError(response, HttpStatus.TOO_MANY_REQUESTS, rejection.getMessage());
+    }
+
+    private Mono<Void> writeError(ServerHttpResponse response, HttpStatus status, String message) {
+        response.setStatusCode(status);
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        try {
+            byte[] body = objectMapper.writeValueAsBytes(Map.of(
+                TIMESTAMP_KEY, Instant.now().toString(),
+                ERROR_KEY, status.getReasonPhrase(),
+                MESSAGE_KEY, message));
+            return response.writeWith(Mono.just(response.bufferFactory().wrap(body)));
+        } catch (JsonProcessingException e) {
+            return response.setComplete();
+        }
+    }
+
+    private static boolean failed(ServerWebExchange exchange, SignalType signal) {
+        HttpStatusCode status = exchange.getResponse().getStatusCode();
+        return signal == SignalType.ON_ERROR || (status != null && status.is5xxServerError());
+    }
+
+    private static List<Route> routesOf(Map<String, AdmissionProperties.EndpointClass> classes, MeterRegistry meterRegistry) {
+        List<Route> routes = new ArrayList<>();
+        classes.forEach((name, endpointClass) -> {
+            AdmissionLimiter limiter = AdmissionLimiter.create(name, endpointClass, meterRegistry, System::nanoTime);
+            for (String route : endpointClass.getRoutes()) {
+                String[] parts = route.trim().split("\\s+", 2);
+                HttpMethod method = parts.length == 2 ? HttpMethod.valueOf(parts[0].toUpperCase()) : null;
+                String path = parts.length == 2 ? parts[1] : parts[0];
+                routes.add(new Route(method, PathPatternParser.defaultInstance.parse(path), limiter));
+            }
+        });
+        return List.copyOf(routes);
+    }
+}
@@ -0,0 +1,237 @@
+package co.edu.puj.secchub_backend.config;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+/**
+ * Admission control of one endpoint class. A request is admitted when its user has a token left and the class
+ * is under its {@link AdaptiveConcurrencyLimit}; otherwise it waits in a FIFO queue until a request completes or
+ * its deadline passes. Rejected requests fail with {@link AdmissionRejectedException} without touching the
+ * database, so a storm of reports is turned away before it exhausts the pool shared with interactive requests.
+ * <p>
+ * Publishes the {@code secchub.admission.limit}, {@code .in-flight} and {@code .queued} gauges, the
+ * {@code secchub.admission.queue.wait} timer and the {@code secchub.admission.rejected} counter tagged with the reason,
+ * all tagged with the class.
+ */
+public class AdmissionLimiter {
+
+    static final String METRIC_PREFIX = "secchub.admission";
+
+    private static final int MAX_TRACKED_USERS = 10_000;
+
+    private final String name;
+    private final AdmissionProperties.EndpointClass settings;
+    private final LongSupplier nanoTime;
+    private final AdaptiveConcurrencyLimit limit;
+    private final Cache<String, TokenBucket> userBuckets;
+    private final Deque<Waiter> queue = new ArrayDeque<>();
+    private int inFlight;
+
+    private final Timer queueWaitTimer;
+    private final Map<AdmissionRejectedException.Reason, Counter> rejectedCounters =
+        new EnumMap<>(AdmissionRejectedException.Reason.class);
+
+    /**
+     * Slot of an admitted request, to be released once when the request completes.
+     */
+    public final class Permit {
+        private final long admittedAt;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permit(long admittedAt) {
+            this.admittedAt = admittedAt;
+        }
+
+        /**
+         * Frees the slot and feeds the time the request took to the limit. Later calls do nothing.
+         * @param dropped Whether the request failed
+         */
+        public void release(boolean dropped) {
+            if (released.compareAndSet(false, true)) {
+                AdmissionLimiter.this.release(nanoTime.getAsLong() - admittedAt, dropped);
+            }
+        }
+    }
+
+    private final class Waiter {
+        private final long enqueuedAt;
+        private final Sinks.One<Permit> sink = Sinks.one();
+        private Permit permit;
+
+        private Waiter(long enqueuedAt) {
+            this.enqueuedAt = enqueuedAt;
+        }
+    }
+
+    private AdmissionLimiter(String name, AdmissionProperties.EndpointClass settings, MeterRegistry meterRegistry,
+            LongSupplier nanoTime) {
+        this.name = name;
+        this.settings = settings;
+        this.nanoTime = nanoTime;
+        this.limit = new AdaptiveConcurrencyLimit(settings.getInitialLimit(), settings.getMinLimit(), settings.getMaxLimit());
+        this.userBuckets = Caffeine.newBuilder()
+            .maximumSize(MAX_TRACKED_USERS)
+            .expireAfterAccess(Duration.ofMinutes(10))
+            .build();
+
+        this.queueWaitTimer = Timer.builder(METRIC_PREFIX + ".queue.wait")
+            .description("Time requests waited to be admitted")
+            .tag("class", name)
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+        for (AdmissionRejectedException.Reason reason : AdmissionRejectedException.Reason.values()) {
+            rejectedCounters.put(reason, Counter.builder(METRIC_PREFIX + ".rejected")
+                .description("Requests rejected with 429")
+                .tag("class", name)
+                .tag("reason", reason.name().toLowerCase())
+                .register(meterRegistry));
+        }
+    }
+
+    /**
+     * Creates the limiter of an endpoint class and registers its metrics.
+     * @param name Name of the endpoint class, used as the {@code class} tag
+     * @param settings Settings of the class
+     * @param meterRegistry Registry for the metrics
+     * @param nanoTime Clock in nanoseconds
+     * @return Limiter of the class
+     */
+    public static AdmissionLimiter create(String name, AdmissionProperties.EndpointClass settings,
+            MeterRegistry meterRegistry, LongSupplier nanoTime) {
+        AdmissionLimiter limiter = new AdmissionLimiter(name, settings, meterRegistry, nanoTime);
+        // The gauges hold the limiter, so they are registered once it is fully constructed
+        Gauge.builder(METRIC_PREFIX + ".limit", limiter, AdmissionLimiter::currentLimit)
+            .description("Concurrent requests allowed")
+            .tag("class", name)
+            .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".in-flight", limiter, AdmissionLimiter::inFlight)
+            .description("Admitted requests in progress")
+            .tag("class", name)
+            .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".queued", limiter, AdmissionLimiter::queued)
+            .description("Requests waiting to be admitted")
+            .tag("class", name)
+            .register(meterRegistry);
+        return limiter;
+    }
+
+    /**
+     * @return Name of the endpoint class
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Admits a request, waiting for a slot if the class is at its limit.
+     * @param user Key of the user making the request
+     * @return Mono with the permit of the request, or an {@link AdmissionRejectedException}
+     */
+    public Mono<Permit> admit(String user) {
+        return Mono.defer(() -> {
+            long now = nanoTime.getAsLong();
+            if (settings.getUserRate() > 0) {
+                long waitNanos = userBuckets.get(user, key -> new TokenBucket(settings.getUserRate(), settings.getUserBurst(), now))
+                    .tryAcquire(now);
+                if (waitNanos > 0) {
+                    return reject(AdmissionRejectedException.Reason.USER_RATE, Duration.ofNanos(waitNanos));
+                }
+            }
+
+            Waiter waiter;
+            synchronized (this) {
+                if (inFlight < limit.current()) {
+                    inFlight++;
+                    return Mono.just(new Permit(now));
+                }
+                if (queue.size() >= settings.getMaxQueue()) {
+                    return reject(AdmissionRejectedException.Reason.QUEUE_FULL, settings.getRetryAfter());
+                }
+                waiter = new Waiter(now);
+                queue.addLast(waiter);
+            }
+            return waiter.sink.asMono()
+                .timeout(settings.getMaxQueueWait())
+                .onErrorResume(TimeoutException.class, timeout -> expire(waiter))
+                .doOnCancel(() -> abandon(waiter));
+        });
+    }
+
+    private Mono<Permit> expire(Waiter waiter) {
+        synchronized (this) {
+            if (!queue.remove(waiter)) {
+                // Admitted while the timeout fired
+                return Mono.just(waiter.permit);
+            }
+        }
+        return reject(AdmissionRejectedException.Reason.QUEUE_TIMEOUT, settings.getRetryAfter());
+    }
+
+    private void abandon(Waiter waiter) {
+        Permit permit;
+        synchronized (this) {
+            if (queue.remove(waiter)) {
+                return;
+            }
+            permit = waiter.permit;
+        }
+        if (permit != null) {
+            permit.release(false);
+        }
+    }
+
+    private void release(long rttNanos, boolean dropped) {
+        List<Waiter> admitted = new ArrayList<>();
+        synchronized (this) {
+            limit.onSample(rttNanos, inFlight, dropped);
+            inFlight--;
+            long now = nanoTime.getAsLong();
+            while (!queue.isEmpty() && inFlight < limit.current()) {
+                Waiter waiter = queue.pollFirst();
+                inFlight++;
+                waiter.permit = new Permit(now);
+                admitted.add(waiter);
+            }
+        }
+        for (Waiter waiter : admitted) {
+            queueWaitTimer.record(waiter.permit.admittedAt - waiter.enqueuedAt, TimeUnit.NANOSECONDS);
+            waiter.sink.tryEmitValue(waiter.permit);
+        }
+    }
+
+    private Mono<Permit> reject(AdmissionRejectedException.Reason reason, Duration retryAfter) {
+        rejectedCounters.get(reason).increment();
+        return Mono.error(new AdmissionRejectedException(name, reason, retryAfter));
+    }
+
+    synchronized int currentLimit() {
+        return limit.current();
+    }
+
+    synchronized int inFlight() {
+        return inFlight;
+    }
+
+    synchronized int queued() {
+        return queue.size();
+    }
+}
@@ -0,0 +1,82 @@
+package co.edu.puj.secchub_backend.config;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+/**
+ * Admission control settings for expensive endpoints, bound from {@code secchub.admission}.
+ */
+@Data
+@ConfigurationProperties(prefix = "secchub.admission")
+public class AdmissionProperties {
+
+    /**
+     * Whether requests to the endpoint classes are limited.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Endpoint classes by name. Requests matching no class are not limited.
+     */
+    private Map<String, EndpointClass> classes = new LinkedHashMap<>();
+
+    /**
+     * Limits shared by the endpoints of one class.
+     */
+    @Data
+    public static class EndpointClass {
+
+        /**
+         * Routes of the class as an HTTP method and path pattern, such as {@code GET /planning/conflicts/**}.
+         * The method may be left out to match every method.
+         */
+        private List<String> routes = new ArrayList<>();
+
+        /**
+         * Concurrent requests allowed before the limit has adapted to the observed latency.
+         */
+        private int initialLimit = 4;
+
+        /**
+         * Lowest concurrent requests the limit may shrink to.
+         */
+        private int minLimit = 1;
+
+        /**
+         * Highest concurrent requests the limit may grow to, usually the size of the pool the endpoints use.
+         */
+        private int maxLimit = 8;
+
+        /**
+         * Requests that may wait for a slot once the limit is reached; further requests are rejected at once.
+         */
+        private int maxQueue = 16;
+
+        /**
+         * Time a request may wait for a slot before it is rejected.
+         */
+        private Duration maxQueueWait = Duration.ofSeconds(2);
+
+        /**
+         * Requests per second a single user may start, 0 to not limit users.
+         */
+        private double userRate = 1;
+
+        /**
+         * Requests a single user may start at once after being idle.
+         */
+        private int userBurst = 5;
+
+        /**
+         * Retry-After sent when a request is rejected because the class is saturated.
+         */
+        private Duration retryAfter = Duration.ofSeconds(2);
+    }
+}
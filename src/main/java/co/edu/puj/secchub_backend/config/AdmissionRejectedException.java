@@ -0,0 +1,55 @@
+package co.edu.puj.secchub_backend.config;
+
+import java.time.Duration;
+
+import lombok.Getter;
+
+/**
+ * Signals that an {@link AdmissionLimiter} turned a request away, answered with 429 Too Many Requests.
+ */
+@Getter
+public class AdmissionRejectedException extends RuntimeException {
+
+    /**
+     * Why the request was rejected, also the {@code reason} tag of the rejection counter.
+     */
+    public enum Reason {
+        /**
+         * The user started requests faster than the user rate of the class.
+         */
+        USER_RATE,
+
+        /**
+         * The class was at its limit and its queue was full.
+         */
+        QUEUE_FULL,
+
+        /**
+         * The request waited in the queue longer than the class allows.
+         */
+        QUEUE_TIMEOUT
+    }
+
+    private final String endpointClass;
+    private final Reason reason;
+    private final Duration retryAfter;
+
+    public AdmissionRejectedException(String endpointClass, Reason reason, Duration retryAfter) {
+        super("Too many " + endpointClass + " requests (" + reason.name().toLowerCase() + "), retry in "
+            + retryAfterSeconds(retryAfter) + " s");
+        this.endpointClass = endpointClass;
+        this.reason = reason;
+        this.retryAfter = retryAfter;
+    }
+
+    /**
+     * @return Value of the Retry-After header, in whole seconds rounded up
+     */
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds(retryAfter);
+    }
+
+    private static long retryAfterSeconds(Duration retryAfter) {
+        return Math.max(1, (retryAfter.toMillis() + 999) / 1000);
+    }
+}
@@ -0,0 +1,96 @@
+package co.edu.puj.secchub_backend.config;
+
+import java.lang.reflect.Method;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import org.aspectj.lang.annotation.Aspect;
+import org.reactivestreams.Publisher;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.core.type.filter.AnnotationTypeFilter;
+import org.springframework.core.type.filter.AssignableTypeFilter;
+import org.springframework.core.type.filter.RegexPatternTypeFilter;
+import org.springframework.core.type.filter.TypeFilter;
+import org.springframework.data.repository.Repository;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Reflection hints for the AOT-processed build and the native image, for what the generated code does not cover:
+ * <ul>
+ *   <li>DTOs and models, which ModelMapper reads and writes through their constructors, accessors and private fields.</li>
+ *   <li>Aspects, whose advice methods AspectJ looks up by reflection.</li>
+ *   <li>Entities and projections read by the R2DBC repositories, which are instantiated from result rows.</li>
+ * </ul>
+ * The types are found by scanning the application packages at build time, so new DTOs and repositories need no change here.
+ */
+public class ApplicationRuntimeHints implements RuntimeHintsRegistrar {
+    static final String BASE_PACKAGE = "co.edu.puj.secchub_backend";
+
+    private static final MemberCategory[] MAPPED_TYPE_MEMBERS = {
+        MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+        MemberCategory.INVOKE_PUBLIC_METHODS,
+        MemberCategory.DECLARED_FIELDS
+    };
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        Set<Class<?>> mappedTypes = new LinkedHashSet<>(
+            findTypes(classLoader, new RegexPatternTypeFilter(Pattern.compile(".*\\.(dto|model)\\.[^.]+"))));
+        for (Class<?> repository : findTypes(classLoader, new AssignableTypeFilter(Repository.class))) {
+            mappedTypes.addAll(repositoryTypes(repository));
+        }
+        mappedTypes.forEach(type -> hints.reflection().registerType(type, MAPPED_TYPE_MEMBERS));
+
+        for (Class<?> aspect : findTypes(classLoader, new AnnotationTypeFilter(Aspect.class))) {
+            hints.reflection().registerType(aspect, MemberCategory.INVOKE_DECLARED_METHODS);
+        }
+    }
+
+    /**
+     * Collects the application types a repository reads: its domain type and the elements of its {@code Flux} and {@code Mono} results.
+     * @param repository Repository interface
+     * @return Application types read by the repository
+     */
+    static Set<Class<?>> repositoryTypes(Class<?> repository) {
+        Set<Class<?>> types = new LinkedHashSet<>();
+        addApplicationType(types, ResolvableType.forClass(repository).as(Repository.class).getGeneric(0).resolve());
+        for (Method method : repository.getDeclaredMethods()) {
+            ResolvableType returnType = ResolvableType.forMethodReturnType(method);
+            if (Publisher.class.isAssignableFrom(returnType.toClass())) {
+                addApplicationType(types, returnType.getGeneric(0).resolve());
+            }
+        }
+        return types;
+    }
+
+    private static void addApplicationType(Set<Class<?>> types, Class<?> type) {
+        if (type != null && type.getName().startsWith(BASE_PACKAGE + ".")) {
+            types.add(type);
+        }
+    }
+
+    private static Set<Class<?>> findTypes(ClassLoader classLoader, TypeFilter filter) {
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false) {
+            @Override
+            protected boolean isCandidateComponent(AnnotatedBeanDefinition beanDefinition) {
+                return beanDefinition.getMetadata().isIndependent();
+            }
+        };
+        scanner.setResourceLoader(new DefaultResourceLoader(classLoader));
+        scanner.addIncludeFilter(filter);
+
+        Set<Class<?>> types = new LinkedHashSet<>();
+        for (BeanDefinition candidate : scanner.findCandidateComponents(BASE_PACKAGE)) {
+            types.add(ClassUtils.resolveClassName(candidate.getBeanClassName(), classLoader));
+        }
+        return types;
+    }
+}
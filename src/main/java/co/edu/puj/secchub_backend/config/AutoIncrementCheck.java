@@ -0,0 +1,58 @@
+package co.edu.puj.secchub_backend.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+/**
+ * Checks at startup that the primary hands out consecutive auto-increment values.
+ * The batch repositories insert many rows with one multi-row INSERT and derive the id of each row from the
+ * first generated id, which is only right when {@code auto_increment_increment} is 1. Servers configured
+ * otherwise, such as Galera or multi-primary setups, would silently attach child rows to the wrong parents,
+ * so startup fails instead.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AutoIncrementCheck {
+
+    static final String INCREMENT_QUERY = "SELECT @@auto_increment_increment AS increment";
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    private final DatabaseClient databaseClient;
+
+    /**
+     * Runs the check once the application context is started.
+     * @throws IllegalStateException if the auto-increment step is not 1
+     */
+    @EventListener(ApplicationStartedEvent.class)
+    public void verifyOnStartup() {
+        check().block(TIMEOUT);
+    }
+
+    /**
+     * Reads the auto-increment step of the primary.
+     * @return Mono completing when the step is 1, or failing with an {@link IllegalStateException}
+     */
+    Mono<Void> check() {
+        return databaseClient.sql(INCREMENT_QUERY)
+            .map(row -> row.get("increment", Long.class))
+            .one()
+            .flatMap(increment -> {
+                if (increment != 1L) {
+                    return Mono.error(new IllegalStateException("auto_increment_increment is " + increment
+                        + ", but the batch repositories need consecutive generated ids (1)"));
+                }
+                log.debug("auto_increment_increment is 1, batch inserts can derive their generated ids");
+                return Mono.empty();
+            });
+    }
+}
@@ -1,36 +1,93 @@
 package co.edu.puj.secchub_backend.config;
 
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.cache.caffeine.CaffeineCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.r2dbc.core.DatabaseClient;
 
 import com.github.benmanes.caffeine.cache.Caffeine;
 
 /**
  * Cache configuration for the application.
  * Enables caching with Caffeine as the cache provider.
+ * The Caffeine caches are near caches kept coherent across instances by {@link ClusteredCacheManager}.
  */
 @Configuration
 @EnableCaching
+@EnableConfigurationProperties(CacheInvalidationProperties.class)
 public class CacheConfig {
-    
+
+    /**
+     * Caches evicted by the listeners of the semester, section and user change events.
+     * Their entries are dropped on every instance as soon as the data changes, so the expiry only bounds
+     * changes made outside the application, such as SQL scripts.
+     */
+    static final List<String> EVENT_INVALIDATED_CACHES = List.of(
+        "current-semester", "current-semester-id", "section-id-by-user-id", "user-id-by-email");
+
+    /**
+     * Caches of the user directory, holding the information of one user per entry.
+     * Sized for every user of a faculty, since list endpoints resolve all of their users at once.
+     */
+    static final List<String> USER_DIRECTORY_CACHES = List.of(
+        "user-information-by-id", "user-information-by-email");
+
     /**
      * Configures Caffeine cache manager for high-performance caching.
      * Optimized for parametric/lookup values that are frequently accessed but rarely change.
      * Async mode enabled for reactive method support.
+     * Evictions are sent to the other instances through the invalidation transport.
      */
     @Bean
-    public CacheManager cacheManager() {
+    public CacheManager cacheManager(CacheInvalidationTransport cacheInvalidationTransport) {
         CaffeineCacheManager cacheManager = new CaffeineCacheManager();
         cacheManager.setCaffeine(Caffeine.newBuilder()
             .maximumSize(1000)                    // Max 1000 entries per cache
             .expireAfterWrite(2, TimeUnit.HOURS)  // Cache for 2 hours
             .recordStats());                      // Enable cache statistics
         cacheManager.setAsyncCacheMode(true);     // Enable async mode for reactive methods
-        return cacheManager;
+        for (String cacheName : EVENT_INVALIDATED_CACHES) {
+            cacheManager.registerCustomCache(cacheName, Caffeine.newBuilder()
+                .maximumSize(1000)
+                .expireAfterWrite(24, TimeUnit.HOURS)
+                .recordStats()
+                .buildAsync());
+        }
+        for (String cacheName : USER_DIRECTORY_CACHES) {
+            cacheManager.registerCustomCache(cacheName, Caffeine.newBuilder()
+                .maximumSize(10_000)
+                .expireAfterWrite(24, TimeUnit.HOURS)
+                .recordStats()
+                .buildAsync());
+        }
+        return new ClusteredCacheManager(cacheManager, cacheInvalidationTransport);
+    }
+
+    /**
+     * In-JVM transport used by default, for a single instance.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "secchub.cache.invalidation", name = "transport", havingValue = "local",
+        matchIfMissing = true)
+    public CacheInvalidationTransport localCacheInvalidationTransport() {
+        return new LocalCacheInvalidationTransport();
+    }
+
+    /**
+     * Invalidation table transport, for several instances sharing the database.
+     * Polls on the background pool so it never waits behind user requests.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "secchub.cache.invalidation", name = "transport", havingValue = "database")
+    public CacheInvalidationTransport databaseCacheInvalidationTransport(
+            @BackgroundDatabase DatabaseClient databaseClient, CacheInvalidationProperties properties) {
+        return new DatabaseCacheInvalidationTransport(databaseClient, properties);
     }
 }
@@ -0,0 +1,10 @@
+package co.edu.puj.secchub_backend.config;
+
+/**
+ * Eviction of a cache entry, or of a whole cache, sent to the other instances.
+ * @param cacheName Name of the cache
+ * @param key String form of the evicted key, null when every entry is evicted
+ * @param origin ID of the instance that evicted it, which ignores its own invalidations
+ */
+public record CacheInvalidation(String cacheName, String key, String origin) {
+}
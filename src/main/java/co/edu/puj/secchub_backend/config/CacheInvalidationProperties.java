@@ -0,0 +1,52 @@
+package co.edu.puj.secchub_backend.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+/**
+ * Cache invalidation bus settings, bound from {@code secchub.cache.invalidation}.
+ */
+@Data
+@ConfigurationProperties(prefix = "secchub.cache.invalidation")
+public class CacheInvalidationProperties {
+
+    /**
+     * Transport carrying evictions between instances.
+     */
+    private Transport transport = Transport.LOCAL;
+
+    /**
+     * Interval between polls of the invalidation table.
+     */
+    private Duration pollInterval = Duration.ofMillis(250);
+
+    /**
+     * Time invalidations are read again after they are written, since AUTO_INCREMENT ids may commit out of order.
+     */
+    private Duration settleWindow = Duration.ofSeconds(2);
+
+    /**
+     * Time invalidations are kept in the table before they are purged.
+     */
+    private Duration retention = Duration.ofMinutes(10);
+
+    /**
+     * Maximum number of invalidations read by one poll.
+     */
+    private int batchSize = 500;
+
+    public enum Transport {
+        /**
+         * In-JVM transport for a single instance and tests; evictions do not leave the instance.
+         */
+        LOCAL,
+
+        /**
+         * Invalidation table in the application database, polled by every instance.
+         */
+        DATABASE
+    }
+}
@@ -0,0 +1,25 @@
+package co.edu.puj.secchub_backend.config;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Carries cache invalidations between the instances of the application.
+ * Delivery is at least once: an invalidation may be received more than once, including by its origin,
+ * since evicting again is harmless.
+ */
+public interface CacheInvalidationTransport {
+
+    /**
+     * Sends an invalidation to every instance.
+     * @param invalidation Invalidation
+     * @return Mono completing when the invalidation is sent
+     */
+    Mono<Void> publish(CacheInvalidation invalidation);
+
+    /**
+     * Invalidations sent by any instance, from the time of subscription.
+     * @return Hot Flux of invalidations
+     */
+    Flux<CacheInvalidation> invalidations();
+}
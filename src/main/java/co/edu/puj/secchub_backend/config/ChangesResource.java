@@ -0,0 +1,24 @@
+package co.edu.puj.secchub_backend.config;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a service method returning Mono or Flux as a change to a resource family.
+ * The version of the family is bumped once the returned pipeline terminates, after its transaction
+ * has committed, so ETags issued before the change stop matching.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface ChangesResource {
+
+    /**
+     * Family changed by the method.
+     * @return Resource family
+     */
+    ResourceFamily value();
+}
@@ -0,0 +1,172 @@
+package co.edu.puj.secchub_backend.config;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Near-cache manager: the caches of the delegate stay local to the instance and are read and filled as
+ * before, while every eviction made through them is also sent over a {@link CacheInvalidationTransport}
+ * so the other instances drop the same entry. Invalidations received from other instances are applied to
+ * the local caches without being sent again.
+ * <p>
+ * Keys travel in their {@code toString} form and a received key evicts every local key with the same form,
+ * so key types only need a stable {@code toString}. Caches that do not expose a Caffeine native cache are
+ * cleared instead.
+ */
+@Slf4j
+public class ClusteredCacheManager implements CacheManager {
+
+    private final CacheManager delegate;
+    private final CacheInvalidationTransport transport;
+    private final String origin = UUID.randomUUID().toString();
+    private final Map<String, ClusteredCache> caches = new ConcurrentHashMap<>();
+
+    public ClusteredCacheManager(CacheManager delegate, CacheInvalidationTransport transport) {
+        this.delegate = delegate;
+        this.transport = transport;
+        transport.invalidations()
+            .filter(invalidation -> !origin.equals(invalidation.origin()))
+            .subscribe(this::applyRemote,
+                error -> log.error("Cache invalidation subscription failed: {}", error.getMessage()));
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        ClusteredCache cache = caches.get(name);
+        if (cache != null) {
+            return cache;
+        }
+        Cache local = delegate.getCache(name);
+        return local == null ? null : caches.computeIfAbsent(name, key -> new ClusteredCache(local));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return delegate.getCacheNames();
+    }
+
+    /**
+     * Gets the ID this instance sends with its invalidations.
+     * @return Origin ID
+     */
+    public String getOrigin() {
+        return origin;
+    }
+
+    private void applyRemote(CacheInvalidation invalidation) {
+        // Caches never used here hold nothing to evict, so they are not created for the invalidation
+        if (!delegate.getCacheNames().contains(invalidation.cacheName())) {
+            return;
+        }
+        Cache local = delegate.getCache(invalidation.cacheName());
+        if (local == null) {
+            return;
+        }
+        if (invalidation.key() != null
+                && local.getNativeCache() instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> nativeCache) {
+            nativeCache.asMap().keySet().removeIf(key -> invalidation.key().equals(String.valueOf(key)));
+        } else {
+            local.clear();
+        }
+    }
+
+    private void send(String cacheName, Object key) {
+        transport.publish(new CacheInvalidation(cacheName, key == null ? null : String.valueOf(key), origin))
+            .subscribe(null, error -> log.warn("Could not send invalidation of cache {}: {}",
+                cacheName, error.getMessage()));
+    }
+
+    /**
+     * Local cache whose evictions are also sent to the other instances.
+     */
+    private final class ClusteredCache implements Cache {
+
+        private final Cache local;
+
+        private ClusteredCache(Cache local) {
+            this.local = local;
+        }
+
+        @Override
+        public String getName() {
+            return local.getName();
+        }
+
+        @Override
+        public Object getNativeCache() {
+            return local.getNativeCache();
+        }
+
+        @Override
+        public ValueWrapper get(Object key) {
+            return local.get(key);
+        }
+
+        @Override
+        public <T> T get(Object key, Class<T> type) {
+            return local.get(key, type);
+        }
+
+        @Override
+        public <T> T get(Object key, Callable<T> valueLoader) {
+            return local.get(key, valueLoader);
+        }
+
+        @Override
+        public CompletableFuture<?> retrieve(Object key) {
+            return local.retrieve(key);
+        }
+
+        @Override
+        public <T> CompletableFuture<T> retrieve(Object key, Supplier<CompletableFuture<T>> valueLoader) {
+            return local.retrieve(key, valueLoader);
+        }
+
+        @Override
+        public void put(Object key, Object value) {
+            local.put(key, value);
+        }
+
+        @Override
+        public ValueWrapper putIfAbsent(Object key, Object value) {
+            return local.putIfAbsent(key, value);
+        }
+
+        @Override
+        public void evict(Object key) {
+            local.evict(key);
+            send(getName(), key);
+        }
+
+        @Override
+        public boolean evictIfPresent(Object key) {
+            boolean present = local.evictIfPresent(key);
+            // Other instances may hold the key even when this one does not
+            send(getName(), key);
+            return present;
+        }
+
+        @Override
+        public void clear() {
+            local.clear();
+            send(getName(), null);
+        }
+
+        @Override
+        public boolean invalidate() {
+            boolean present = local.invalidate();
+            send(getName(), null);
+            return present;
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package co.edu.puj.secchub_backend.config;
+
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+/**
+ * Transport that writes invalidations to the {@code cache_invalidation} table, which every instance polls.
+ * <p>
+ * Each poll reads the rows above a watermark. AUTO_INCREMENT ids are assigned when a row is inserted but
+ * become visible when it commits, so a row with a lower id can appear after a higher one was read. The
+ * watermark therefore only moves past rows older than the settle window; younger rows are read again by
+ * the next polls and skipped once applied. Rows are purged after the retention time.
+ * <p>
+ * Keys longer than the key column are sent as whole-cache invalidations.
+ */
+@Slf4j
+public class DatabaseCacheInvalidationTransport implements CacheInvalidationTransport {
+
+    static final int MAX_KEY_LENGTH = 255;
+
+    static final String INSERT_SQL = """
+        INSERT INTO cache_invalidation (cache_name, cache_key, origin)
+        VALUES (:cacheName, :cacheKey, :origin)
+        """;
+
+    static final String MAX_ID_SQL = "SELECT COALESCE(MAX(id), 0) AS max_id FROM cache_invalidation";
+
+    static final String POLL_SQL = """
+        SELECT
+            id,
+            cache_name,
+            cache_key,
+            origin,
+            created_at <= NOW(3) - INTERVAL :settleMicros MICROSECOND AS settled
+        FROM cache_invalidation
+        WHERE id > :watermark
+        ORDER BY id
+        LIMIT :limit
+        """;
+
+    static final String PURGE_SQL = """
+        DELETE FROM cache_invalidation
+        WHERE created_at < NOW(3) - INTERVAL :retentionMicros MICROSECOND
+        """;
+
+    private final DatabaseClient databaseClient;
+    private final CacheInvalidationProperties properties;
+    private final Sinks.Many<CacheInvalidation> sink = Sinks.many().multicast().directBestEffort();
+    private final AtomicBoolean polling = new AtomicBoolean();
+    private final NavigableSet<Long> appliedAboveWatermark = new TreeSet<>();
+
+    private volatile long watermark = -1;
+
+    public DatabaseCacheInvalidationTransport(DatabaseClient databaseClient, CacheInvalidationProperties properties) {
+        this.databaseClient = databaseClient;
+        this.properties = properties;
+    }
+
+    @Override
+    public Mono<Void> publish(CacheInvalidation invalidation) {
+        String key = invalidation.key() != null && invalidation.key().length() > MAX_KEY_LENGTH
+            ? null
+            : invalidation.key();
+        DatabaseClient.GenericExecuteSpec insert = databaseClient.sql(INSERT_SQL)
+            .bind("cacheName", invalidation.cacheName())
+            .bind("origin", invalidation.origin());
+        insert = key == null ? insert.bindNull("cacheKey", String.class) : insert.bind("cacheKey", key);
+        return insert.then();
+    }
+
+    @Override
+    public Flux<CacheInvalidation> invalidations() {
+        return sink.asFlux();
+    }
+
+    /**
+     * Polls the table on the configured interval, skipping a tick while the previous poll is running.
+     */
+    @Scheduled(fixedDelayString = "${secchub.cache.invalidation.poll-interval:PT0.25S}")
+    public void scheduledPoll() {
+        if (!polling.compareAndSet(false, true)) {
+            return;
+        }
+        poll()
+            .doFinally(signal -> polling.set(false))
+            .subscribe(null, error -> log.warn("Cache invalidation poll failed: {}", error.getMessage()));
+    }
+
+    /**
+     * Purges the invalidations older than the retention time. Every instance purges; deleting the same
+     * rows twice is harmless.
+     */
+    @Scheduled(
+        initialDelayString = "${secchub.cache.invalidation.retention:PT10M}",
+        fixedDelayString = "${secchub.cache.invalidation.retention:PT10M}")
+    public void scheduledPurge() {
+        databaseClient.sql(PURGE_SQL)
+            .bind("retentionMicros", properties.getRetention().toNanos() / 1000)
+            .fetch()
+            .rowsUpdated()
+            .subscribe(
+                purged -> log.debug("Purged {} cache invalidations", purged),
+                error -> log.warn("Cache invalidation purge failed: {}", error.getMessage()));
+    }
+
+    /**
+     * Reads the invalidations written since the last poll and emits the ones not emitted yet.
+     * The first poll starts after the newest existing row, since caches are empty at startup.
+     * @return Mono with the number of emitted invalidations
+     */
+    public Mono<Integer> poll() {
+        Mono<Long> from = watermark >= 0
+            ? Mono.just(watermark)
+            : databaseClient.sql(MAX_ID_SQL).map(row -> row.get("max_id", Long.class)).one();
+        return from.flatMap(start -> databaseClient.sql(POLL_SQL)
+            .bind("settleMicros", properties.getSettleWindow().toNanos() / 1000)
+            .bind("watermark", start)
+            .bind("limit", properties.getBatchSize())
+            .map(row -> new PolledInvalidation(
+                row.get("id", Long.class),
+                new CacheInvalidation(row.get("cache_name", String.class), row.get("cache_key", String.class),
+                    row.get("origin", String.class)),
+                Long.valueOf(1).equals(row.get("settled", Long.class))))
+            .all()
+            .collectList()
+            .map(polled -> apply(start, polled)));
+    }
+
+    private synchronized int apply(long start, List<PolledInvalidation> polled) {
+        long settledUpTo = start;
+        boolean settledPrefix = true;
+        int emitted = 0;
+        for (PolledInvalidation invalidation : polled) {
+            if (appliedAboveWatermark.add(invalidation.id())) {
+                sink.tryEmitNext(invalidation.invalidation());
+                emitted++;
+            }
+            settledPrefix &= invalidation.settled();
+            if (settledPrefix) {
+                settledUpTo = invalidation.id();
+            }
+        }
+        watermark = Math.max(watermark, settledUpTo);
+        appliedAboveWatermark.headSet(watermark, true).clear();
+        return emitted;
+    }
+
+    /**
+     * Invalidation read from the table.
+     * @param id Row ID
+     * @param invalidation Invalidation
+     * @param settled Whether the row is older than the settle window
+     */
+    record PolledInvalidation(Long id, CacheInvalidation invalidation, boolean settled) {
+    }
+}
@@ -0,0 +1,231 @@
+package co.edu.puj.secchub_backend.config;
+
+import java.time.Clock;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.r2dbc.ConnectionFactoryBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.r2dbc.convert.R2dbcConverter;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.data.r2dbc.dialect.DialectResolver;
+import org.springframework.data.r2dbc.repository.config.EnableR2dbcRepositories;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+import io.asyncer.r2dbc.mysql.MySqlConnectionFactoryProvider;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactory;
+
+/**
+ * Configuration of the named R2DBC connection pools.
+ * <ul>
+ *   <li>interactive: primary pool used by default by repositories, DatabaseClient and transactions.</li>
+ *   <li>reporting: long read-only queries, selected with {@link ReportingDatabase}.</li>
+ *   <li>background: audit writes and scheduled jobs, selected with {@link BackgroundDatabase}.</li>
+ *   <li>replica: optional read replica, used by pipelines marked with {@link ReadOnlyRoute} on any of the above.</li>
+ * </ul>
+ * Repositories are routed by annotating the repository interface, DatabaseClient users by qualifying
+ * the injected client. Transactions only span the interactive pool, so code that runs inside a
+ * TransactionalOperator must stay on it.
+ */
+@Configuration
+@EnableConfigurationProperties({R2dbcProperties.class, DatabasePoolProperties.class, ReplicaProperties.class,
+    QueryTrackingProperties.class})
+public class DatabasePoolConfig {
+
+    static final String INTERACTIVE_POOL = "interactive";
+    static final String REPORTING_POOL = "reporting";
+    static final String BACKGROUND_POOL = "background";
+    static final String REPLICA_POOL = "replica";
+
+    @Bean
+    @Primary
+    public ConnectionFactory interactiveConnectionFactory(R2dbcProperties r2dbcProperties,
+            DatabasePoolProperties poolProperties, ReplicaProperties replicaProperties,
+            QueryTrackingProperties queryTrackingProperties, MeterRegistry meterRegistry,
+            @ReplicaDatabase ObjectProvider<ConnectionFactory> replica, ObjectProvider<ReplicaLagMonitor> lagMonitor) {
+        ConnectionFactory primary = createPool(INTERACTIVE_POOL, poolProperties.getInteractive(),
+            r2dbcProperties.getUrl(), r2dbcProperties.getUsername(), r2dbcProperties.getPassword(), meterRegistry,
+            queryTrackingProperties);
+        return routeReadOnly(primary, replica, lagMonitor, replicaProperties);
+    }
+
+    @Bean
+    @ReportingDatabase
+    public ConnectionFactory reportingConnectionFactory(R2dbcProperties r2dbcProperties,
+            DatabasePoolProperties poolProperties, ReplicaProperties replicaProperties,
+            QueryTrackingProperties queryTrackingProperties, MeterRegistry meterRegistry,
+            @ReplicaDatabase ObjectProvider<ConnectionFactory> replica, ObjectProvider<ReplicaLagMonitor> lagMonitor) {
+        ConnectionFactory primary = createPool(REPORTING_POOL, poolProperties.getReporting(),
+            r2dbcProperties.getUrl(), r2dbcProperties.getUsername(), r2dbcProperties.getPassword(), meterRegistry,
+            queryTrackingProperties);
+        return routeReadOnly(primary, replica, lagMonitor, replicaProperties);
+    }
+
+    @Bean
+    @BackgroundDatabase
+    public ConnectionFactory backgroundConnectionFactory(R2dbcProperties r2dbcProperties,
+            DatabasePoolProperties poolProperties, ReplicaProperties replicaProperties,
+            QueryTrackingProperties queryTrackingProperties, MeterRegistry meterRegistry,
+            @ReplicaDatabase ObjectProvider<ConnectionFactory> replica, ObjectProvider<ReplicaLagMonitor> lagMonitor) {
+        ConnectionFactory primary = createPool(BACKGROUND_POOL, poolProperties.getBackground(),
+            r2dbcProperties.getUrl(), r2dbcProperties.getUsername(), r2dbcProperties.getPassword(), meterRegistry,
+            queryTrackingProperties);
+        return routeReadOnly(primary, replica, lagMonitor, replicaProperties);
+    }
+
+    @Bean
+    @ReplicaDatabase
+    @ConditionalOnProperty(prefix = "secchub.r2dbc.replica", name = "enabled", havingValue = "true")
+    public ConnectionFactory replicaConnectionFactory(ReplicaProperties replicaProperties,
+            QueryTrackingProperties queryTrackingProperties, MeterRegistry meterRegistry) {
+        return createPool(REPLICA_POOL, replicaProperties.getPool(),
+            replicaProperties.getUrl(), replicaProperties.getUsername(), replicaProperties.getPassword(), meterRegistry,
+            queryTrackingProperties);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "secchub.r2dbc.replica", name = "enabled", havingValue = "true")
+    public ReplicaLagMonitor replicaLagMonitor(@ReplicaDatabase ConnectionFactory replicaConnectionFactory,
+            ReplicaProperties replicaProperties) {
+        return new ReplicaLagMonitor(DatabaseClient.create(replicaConnectionFactory), replicaProperties, Clock.systemUTC());
+    }
+
+    @Bean
+    @Primary
+    public DatabaseClient r2dbcDatabaseClient(ConnectionFactory connectionFactory) {
+        return DatabaseClient.create(connectionFactory);
+    }
+
+    @Bean
+    @ReportingDatabase
+    public DatabaseClient reportingDatabaseClient(@ReportingDatabase ConnectionFactory connectionFactory) {
+        return DatabaseClient.create(connectionFactory);
+    }
+
+    @Bean
+    @BackgroundDatabase
+    public DatabaseClient backgroundDatabaseClient(@BackgroundDatabase ConnectionFactory connectionFactory) {
+        return DatabaseClient.create(connectionFactory);
+    }
+
+    @Bean
+    @Primary
+    public R2dbcEntityTemplate r2dbcEntityTemplate(DatabaseClient databaseClient,
+            ConnectionFactory connectionFactory, R2dbcConverter r2dbcConverter) {
+        return new R2dbcEntityTemplate(databaseClient, DialectResolver.getDialect(connectionFactory), r2dbcConverter);
+    }
+
+    @Bean
+    @ReportingDatabase
+    public R2dbcEntityTemplate reportingEntityTemplate(@ReportingDatabase DatabaseClient databaseClient,
+            @ReportingDatabase ConnectionFactory connectionFactory, R2dbcConverter r2dbcConverter) {
+        return new R2dbcEntityTemplate(databaseClient, DialectResolver.getDialect(connectionFactory), r2dbcConverter);
+    }
+
+    @Bean
+    @BackgroundDatabase
+    public R2dbcEntityTemplate backgroundEntityTemplate(@BackgroundDatabase DatabaseClient databaseClient,
+            @BackgroundDatabase ConnectionFactory connectionFactory, R2dbcConverter r2dbcConverter) {
+        return new R2dbcEntityTemplate(databaseClient, DialectResolver.getDialect(connectionFactory), r2dbcConverter);
+    }
+
+    /**
+     * Builds a named connection pool wrapped with acquire-latency instrumentation and per-request query counting.
+     * @param name Pool name used in metrics
+     * @param pool Pool sizing and statement settings
+     * @param url Connection url
+     * @param username Database username
+     * @param password Database password
+     * @param meterRegistry Registry for the pool metrics
+     * @param queryTracking Query tracking settings
+     * @return Instrumented connection factory
+     */
+    private static ConnectionFactory createPool(String name, DatabasePoolProperties.Pool pool,
+            String url, String username, String password, MeterRegistry meterRegistry,
+            QueryTrackingProperties queryTracking) {
+        ConnectionFactory connectionFactory = ConnectionFactoryBuilder.withUrl(url)
+            .username(username)
+            .password(password)
+            .configure(options -> {
+                if (pool.isServerPrepareStatements()) {
+                    options.option(MySqlConnectionFactoryProvider.USE_SERVER_PREPARE_STATEMENT, true);
+                }
+            })
+            .build();
+
+        ConnectionPoolConfiguration configuration = ConnectionPoolConfiguration.builder(connectionFactory)
+            .name(name)
+            .initialSize(pool.getInitialSize())
+            .maxSize(pool.getMaxSize())
+            .maxAcquireTime(pool.getMaxAcquireTime())
+            .maxIdleTime(pool.getMaxIdleTime())
+            .maxLifeTime(pool.getMaxLifeTime())
+            .build();
+
+        return new QueryCountingConnectionFactory(
+            new InstrumentedConnectionFactory(name, new ConnectionPool(configuration), meterRegistry),
+            queryTracking.isCommentStatements());
+    }
+
+    /**
+     * Wraps a pool so read-only pipelines use the replica, when one is configured.
+     * @param primary Pool used for writes and as fallback
+     * @param replica Replica pool, if enabled
+     * @param lagMonitor Replica lag monitor, if enabled
+     * @param replicaProperties Replica settings, the maximum lag also bounds the read-your-writes wait
+     * @return Routing connection factory, or the pool itself without a replica
+     */
+    private static ConnectionFactory routeReadOnly(ConnectionFactory primary,
+            ObjectProvider<ConnectionFactory> replica, ObjectProvider<ReplicaLagMonitor> lagMonitor,
+            ReplicaProperties replicaProperties) {
+        ConnectionFactory replicaConnectionFactory = replica.getIfAvailable();
+        ReplicaLagMonitor replicaLagMonitor = lagMonitor.getIfAvailable();
+        if (replicaConnectionFactory == null || replicaLagMonitor == null) {
+            return primary;
+        }
+        return new ReadOnlyRoutingConnectionFactory(primary, replicaConnectionFactory, replicaLagMonitor,
+            replicaProperties.getMaxLag());
+    }
+
+    /**
+     * Repositories without a pool annotation use the interactive pool.
+     */
+    @Configuration
+    @EnableR2dbcRepositories(
+        basePackages = "co.edu.puj.secchub_backend",
+        excludeFilters = @ComponentScan.Filter(
+            type = FilterType.ANNOTATION, classes = {ReportingDatabase.class, BackgroundDatabase.class}))
+    static class InteractiveRepositoriesConfig {
+    }
+
+    /**
+     * Repositories annotated with {@link ReportingDatabase} use the reporting pool.
+     */
+    @Configuration
+    @EnableR2dbcRepositories(
+        basePackages = "co.edu.puj.secchub_backend",
+        includeFilters = @ComponentScan.Filter(type = FilterType.ANNOTATION, classes = ReportingDatabase.class),
+        entityOperationsRef = "reportingEntityTemplate")
+    static class ReportingRepositoriesConfig {
+    }
+
+    /**
+     * Repositories annotated with {@link BackgroundDatabase} use the background pool.
+     */
+    @Configuration
+    @EnableR2dbcRepositories(
+        basePackages = "co.edu.puj.secchub_backend",
+        includeFilters = @ComponentScan.Filter(type = FilterType.ANNOTATION, classes = BackgroundDatabase.class),
+        entityOperationsRef = "backgroundEntityTemplate")
+    static class BackgroundRepositoriesConfig {
+    }
+}
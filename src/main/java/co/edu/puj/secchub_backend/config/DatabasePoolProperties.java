@@ -0,0 +1,57 @@
+package co.edu.puj.secchub_backend.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Sizing of the named R2DBC connection pools, bound from {@code secchub.r2dbc.pools}.
+ * All pools connect with the {@code spring.r2dbc} url and credentials.
+ */
+@Data
+@ConfigurationProperties(prefix = "secchub.r2dbc.pools")
+public class DatabasePoolProperties {
+
+    /**
+     * Pool for interactive requests, repositories and transactions.
+     */
+    private Pool interactive = new Pool(5, 20, Duration.ofSeconds(5), Duration.ofMinutes(10), Duration.ofMinutes(30),
+        false);
+
+    /**
+     * Pool for long read-only report queries.
+     * Uses server-side prepared statements so report queries can read their rows in batches with a fetch size.
+     */
+    private Pool reporting = new Pool(1, 5, Duration.ofSeconds(30), Duration.ofMinutes(5), Duration.ofMinutes(30),
+        true);
+
+    /**
+     * Pool for audit writes and scheduled background jobs.
+     */
+    private Pool background = new Pool(1, 4, Duration.ofSeconds(10), Duration.ofMinutes(5), Duration.ofMinutes(30),
+        false);
+
+    /**
+     * Settings of a single connection pool.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Pool {
+        private int initialSize;
+        private int maxSize;
+        private Duration maxAcquireTime;
+        private Duration maxIdleTime;
+        private Duration maxLifeTime;
+
+        /**
+         * Whether statements with parameters are prepared on the server. The MySQL driver only honours
+         * {@code Statement.fetchSize} on server-prepared statements; otherwise the whole result is sent at once.
+         */
+        private boolean serverPrepareStatements;
+    }
+}
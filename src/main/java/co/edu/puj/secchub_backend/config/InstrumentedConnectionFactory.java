@@ -0,0 +1,72 @@
+package co.edu.puj.secchub_backend.config;
+
+import org.reactivestreams.Publisher;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryMetadata;
+import io.r2dbc.spi.Wrapped;
+import reactor.core.publisher.Mono;
+
+/**
+ * Connection pool wrapper that records how long callers wait to acquire a connection.
+ * The time is published as the {@code secchub.r2dbc.pool.acquire} timer with a percentile histogram,
+ * tagged with the pool name and the outcome. The pool gauges (acquired, idle, pending) are bound
+ * by Spring Boot through {@link Wrapped#unwrap()}.
+ */
+public class InstrumentedConnectionFactory implements PooledConnectionFactory, Wrapped<ConnectionFactory> {
+
+    static final String ACQUIRE_TIMER = "secchub.r2dbc.pool.acquire";
+
+    private final ConnectionPool pool;
+    private final Timer successTimer;
+    private final Timer failureTimer;
+    private final MeterRegistry meterRegistry;
+
+    public InstrumentedConnectionFactory(String poolName, ConnectionPool pool, MeterRegistry meterRegistry) {
+        this.pool = pool;
+        this.meterRegistry = meterRegistry;
+        this.successTimer = acquireTimer(poolName, "success", meterRegistry);
+        this.failureTimer = acquireTimer(poolName, "failure", meterRegistry);
+    }
+
+    @Override
+    public Publisher<? extends Connection> create() {
+        return Mono.defer(() -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            return Mono.from(pool.create())
+                .doOnSuccess(connection -> sample.stop(successTimer))
+                .doOnError(error -> sample.stop(failureTimer));
+        });
+    }
+
+    @Override
+    public ConnectionFactoryMetadata getMetadata() {
+        return pool.getMetadata();
+    }
+
+    @Override
+    public ConnectionFactory unwrap() {
+        return pool;
+    }
+
+    /**
+     * Disposes the underlying pool when the application context closes.
+     */
+    @Override
+    public void close() {
+        pool.dispose();
+    }
+
+    private static Timer acquireTimer(String poolName, String outcome, MeterRegistry meterRegistry) {
+        return Timer.builder(ACQUIRE_TIMER)
+            .description("Time spent waiting to acquire a connection from the pool")
+            .tag("pool", poolName)
+            .tag("outcome", outcome)
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+    }
+}
@@ -0,0 +1,12 @@
+package co.edu.puj.secchub_backend.config;
+
+import java.util.List;
+
+/**
+ * Page of a listing read with a {@link KeysetPageRequest}.
+ * @param items Rows of the page
+ * @param nextCursor Cursor to request the next page with, null on the last page
+ * @param total Rows of the whole listing, null unless requested
+ */
+public record KeysetPage<T>(List<T> items, String nextCursor, Long total) {
+}
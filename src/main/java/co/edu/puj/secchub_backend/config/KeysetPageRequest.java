@@ -0,0 +1,110 @@
+package co.edu.puj.secchub_backend.config;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.reactivestreams.Publisher;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Page of a listing ordered by {@code (semester_id, id)}, read after the position of an opaque cursor.
+ * Repositories take the position as nullable parameters and fetch {@link #fetchSize()} rows with
+ * {@code (:afterSemesterId IS NULL OR x.semester_id > :afterSemesterId OR (x.semester_id = :afterSemesterId AND x.id > :afterId))},
+ * so every page is one range scan of the {@code (semester_id, id)} index however deep it is, where an offset
+ * would read and discard every previous row. The extra row only tells whether there is a next page.
+ * @param afterSemesterId Semester ID of the last row of the previous page, null for the first page
+ * @param afterId ID of the last row of the previous page, null for the first page
+ * @param size Rows per page, at most {@link #MAX_SIZE}
+ * @param includeTotal Whether to count the rows of the whole listing
+ */
+public record KeysetPageRequest(Long afterSemesterId, Long afterId, int size, boolean includeTotal) {
+    public static final int DEFAULT_SIZE = 25;
+    public static final int MAX_SIZE = 100;
+
+    private static final String SEPARATOR = ":";
+
+    /**
+     * Reads the page requested by a client.
+     * @param cursor Cursor returned with the previous page, null or blank for the first page
+     * @param size Rows per page, {@link #DEFAULT_SIZE} when null and lowered to {@link #MAX_SIZE} when larger
+     * @param includeTotal Whether to count the rows of the whole listing
+     * @return Page request
+     * @throws IllegalArgumentException if the cursor was not issued by {@link #cursorOf(Long, Long)} or the size is not positive
+     */
+    public static KeysetPageRequest of(String cursor, Integer size, boolean includeTotal) {
+        int pageSize = size == null ? DEFAULT_SIZE : size;
+        if (pageSize < 1) {
+            throw new IllegalArgumentException("Page size must be positive");
+        }
+        pageSize = Math.min(pageSize, MAX_SIZE);
+        if (cursor == null || cursor.isBlank()) {
+            return new KeysetPageRequest(null, null, pageSize, includeTotal);
+        }
+        try {
+            String[] position = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split(SEPARATOR);
+            if (position.length != 2) {
+                throw new IllegalArgumentException("Invalid page cursor");
+            }
+            return new KeysetPageRequest(Long.valueOf(position[0]), Long.valueOf(position[1]), pageSize, includeTotal);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid page cursor", e);
+        }
+    }
+
+    /**
+     * Builds the cursor pointing after a row.
+     * @param semesterId Semester ID of the row
+     * @param id ID of the row
+     * @return Opaque cursor
+     */
+    public static String cursorOf(Long semesterId, Long id) {
+        return Base64.getUrlEncoder().withoutPadding()
+            .encodeToString((semesterId + SEPARATOR + id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @return Rows to fetch, one more than the page size to know whether there is a next page
+     */
+    public int fetchSize() {
+        return size + 1;
+    }
+
+    /**
+     * Turns the fetched rows into the page. The total is counted while the page is read, and only when requested.
+     * @param rows Rows fetched with {@link #fetchSize()}, ordered by semester ID and ID
+     * @param semesterIdOf Semester ID of a row
+     * @param idOf ID of a row
+     * @param mapper Mapping of a row to its response, applied keeping the order of the rows
+     * @param total Count of the rows of the whole listing
+     * @return Mono with the page
+     */
+    public <E, T> Mono<KeysetPage<T>> read(Flux<E> rows, Function<E, Long> semesterIdOf, Function<E, Long> idOf,
+                                           Function<E, ? extends Publisher<T>> mapper, Supplier<Mono<Long>> total) {
+        Mono<Optional<Long>> counted = includeTotal
+            ? total.get().map(Optional::of).defaultIfEmpty(Optional.of(0L))
+            : Mono.just(Optional.empty());
+
+        return rows.collectList()
+            .zipWith(counted)
+            .flatMap(fetched -> {
+                List<E> pageRows = fetched.getT1();
+                String nextCursor = null;
+                if (pageRows.size() > size) {
+                    pageRows = pageRows.subList(0, size);
+                    E last = pageRows.get(size - 1);
+                    nextCursor = cursorOf(semesterIdOf.apply(last), idOf.apply(last));
+                }
+                String cursor = nextCursor;
+                return Flux.fromIterable(pageRows)
+                    .flatMapSequential(mapper)
+                    .collectList()
+                    .map(items -> new KeysetPage<>(items, cursor, fetched.getT2().orElse(null)));
+            });
+    }
+}
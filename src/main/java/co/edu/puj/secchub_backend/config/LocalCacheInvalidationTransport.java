@@ -0,0 +1,29 @@
+package co.edu.puj.secchub_backend.config;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+/**
+ * In-JVM transport that delivers invalidations to the cache managers subscribed to the same instance.
+ * Used by single-instance deployments and by tests that simulate several instances in one JVM.
+ */
+public class LocalCacheInvalidationTransport implements CacheInvalidationTransport {
+
+    private final Sinks.Many<CacheInvalidation> sink = Sinks.many().multicast().directBestEffort();
+
+    @Override
+    public Mono<Void> publish(CacheInvalidation invalidation) {
+        return Mono.fromRunnable(() -> {
+            // Sinks reject concurrent emissions, so evictions from several threads take turns
+            synchronized (sink) {
+                sink.tryEmitNext(invalidation);
+            }
+        });
+    }
+
+    @Override
+    public Flux<CacheInvalidation> invalidations() {
+        return sink.asFlux();
+    }
+}
@@ -0,0 +1,118 @@
+package co.edu.puj.secchub_backend.config;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Actuator endpoint breaking down the time spent at module boundaries, from the timers recorded by
+ * {@link ModuleObservationAspect}. {@code /actuator/modulelatency} sums the contract and repository calls
+ * of every module, and {@code /actuator/modulelatency/{module}} lists the operations of one module from
+ * the most to the least total time. Like every actuator endpoint but health, it is only open to administrators.
+ * <p>
+ * Contract time includes the repository calls the contract made, so the time of a request not covered by
+ * either is spent in the calling module itself.
+ */
+@Component
+@Endpoint(id = "modulelatency")
+@RequiredArgsConstructor
+public class ModuleLatencyEndpoint {
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Time of the calls of one kind.
+     * @param calls Completed calls
+     * @param errors Calls that failed
+     * @param totalMillis Time of all the calls
+     * @param meanMillis Mean time of a call
+     * @param maxMillis Longest recent call
+     */
+    public record Latency(long calls, long errors, double totalMillis, double meanMillis, double maxMillis) {
+        static final Latency NONE = new Latency(0, 0, 0, 0, 0);
+
+        static Latency of(Timer timer) {
+            long errors = "error".equals(timer.getId().getTag(ModuleObservationAspect.OUTCOME)) ? timer.count() : 0;
+            return new Latency(timer.count(), errors, timer.totalTime(TimeUnit.MILLISECONDS),
+                timer.mean(TimeUnit.MILLISECONDS), timer.max(TimeUnit.MILLISECONDS));
+        }
+
+        Latency plus(Latency other) {
+            long totalCalls = calls + other.calls;
+            double total = totalMillis + other.totalMillis;
+            return new Latency(totalCalls, errors + other.errors, total,
+                totalCalls == 0 ? 0 : total / totalCalls, Math.max(maxMillis, other.maxMillis));
+        }
+    }
+
+    /**
+     * Time a module spent serving contract calls and repository calls.
+     * @param contract Calls to the contracts of the module
+     * @param repository Calls to the repositories of the module
+     */
+    public record ModuleLatency(Latency contract, Latency repository) {
+    }
+
+    /**
+     * Time of one operation of a module.
+     * @param operation Contract or repository method
+     * @param kind Kind of boundary, contract or repository
+     * @param latency Time of the calls
+     */
+    public record OperationLatency(String operation, String kind, Latency latency) {
+    }
+
+    /**
+     * Gets the time spent at the boundaries of every module.
+     * @return Latency of the contract and repository calls by module
+     */
+    @ReadOperation
+    public Map<String, ModuleLatency> modules() {
+        return timers().stream().collect(Collectors.groupingBy(timer -> timer.getId().getTag(ModuleObservationAspect.MODULE),
+            TreeMap::new, Collectors.collectingAndThen(Collectors.toList(), timers -> new ModuleLatency(
+                sum(timers, ModuleObservationAspect.KIND_CONTRACT), sum(timers, ModuleObservationAspect.KIND_REPOSITORY)))));
+    }
+
+    /**
+     * Gets the time spent in every operation of a module.
+     * @param module Module name, such as planning
+     * @return Operations of the module from the most to the least total time
+     */
+    @ReadOperation
+    public List<OperationLatency> module(@Selector String module) {
+        Map<List<String>, Latency> byOperation = timers().stream()
+            .filter(timer -> module.equals(timer.getId().getTag(ModuleObservationAspect.MODULE)))
+            .collect(Collectors.toMap(
+                timer -> List.of(timer.getId().getTag(ModuleObservationAspect.OPERATION),
+                    timer.getId().getTag(ModuleObservationAspect.KIND)),
+                Latency::of, Latency::plus));
+        return byOperation.entrySet().stream()
+            .map(entry -> new OperationLatency(entry.getKey().get(0), entry.getKey().get(1), entry.getValue()))
+            .sorted(Comparator.comparingDouble((OperationLatency operation) -> operation.latency().totalMillis()).reversed())
+            .toList();
+    }
+
+    private List<Timer> timers() {
+        return List.copyOf(meterRegistry.find(ModuleObservationAspect.OBSERVATION_NAME)
+            .tagKeys(ModuleObservationAspect.MODULE, ModuleObservationAspect.KIND, ModuleObservationAspect.OPERATION).timers());
+    }
+
+    private static Latency sum(List<Timer> timers, String kind) {
+        return timers.stream()
+            .filter(timer -> kind.equals(timer.getId().getTag(ModuleObservationAspect.KIND)))
+            .map(Latency::of)
+            .reduce(Latency.NONE, Latency::plus);
+    }
+}
@@ -0,0 +1,145 @@
+package co.edu.puj.secchub_backend.config;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.repository.Repository;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+import reactor.util.context.ContextView;
+
+/**
+ * AOP Aspect that observes the calls crossing a module boundary: every {@code *Contract} method and every
+ * repository method. Each call is a {@value #OBSERVATION_NAME} observation named after the contract or repository
+ * and tagged with the module, the kind of boundary, the operation and the outcome, which Actuator publishes as a
+ * timer of the same name and {@link ModuleLatencyEndpoint} breaks down by module.
+ * <p>
+ * Mono and Flux results are observed from subscription to termination. The observation is written into the
+ * Reactor context under the key WebFlux uses for the request observation, so a repository call made inside a
+ * contract call becomes its child and both become children of the HTTP request.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+@RequiredArgsConstructor
+public class ModuleObservationAspect {
+    static final String OBSERVATION_NAME = "secchub.module.call";
+    static final String MODULE = "module";
+    static final String KIND = "kind";
+    static final String OPERATION = "operation";
+    static final String OUTCOME = "outcome";
+    static final String KIND_CONTRACT = "contract";
+    static final String KIND_REPOSITORY = "repository";
+
+    /**
+     * Reactor context key of the current observation, as written by WebFlux and read by Micrometer.
+     */
+    static final String OBSERVATION_CONTEXT_KEY = "micrometer.observation";
+
+    private static final String BASE_PACKAGE = "co.edu.puj.secchub_backend.";
+
+    private final ObservationRegistry observationRegistry;
+    private final Map<String, Class<?>> boundaryTypes = new ConcurrentHashMap<>();
+
+    @Around("execution(* co.edu.puj.secchub_backend..*Contract.*(..))")
+    public Object observeContractCall(ProceedingJoinPoint joinPoint) throws Throwable {
+        return observe(joinPoint, KIND_CONTRACT);
+    }
+
+    @Around("execution(* org.springframework.data.repository.Repository+.*(..))")
+    public Object observeRepositoryCall(ProceedingJoinPoint joinPoint) throws Throwable {
+        return observe(joinPoint, KIND_REPOSITORY);
+    }
+
+    private Object observe(ProceedingJoinPoint joinPoint, String kind) throws Throwable {
+        if (observationRegistry.isNoop()) {
+            return joinPoint.proceed();
+        }
+        Class<?> boundary = boundaryType(joinPoint, kind);
+        String operation = boundary.getSimpleName() + "." + joinPoint.getSignature().getName();
+        String module = moduleOf(boundary);
+
+        Object result = joinPoint.proceed();
+        if (result instanceof Mono<?> mono) {
+            return Mono.deferContextual(context -> {
+                Observation observation = start(module, kind, operation, context);
+                return mono
+                    .doOnError(observation::error)
+                    .doFinally(signal -> stop(observation, signal))
+                    .contextWrite(inner -> inner.put(OBSERVATION_CONTEXT_KEY, observation));
+            });
+        }
+        if (result instanceof Flux<?> flux) {
+            return Flux.deferContextual(context -> {
+                Observation observation = start(module, kind, operation, context);
+                return flux
+                    .doOnError(observation::error)
+                    .doFinally(signal -> stop(observation, signal))
+                    .contextWrite(inner -> inner.put(OBSERVATION_CONTEXT_KEY, observation));
+            });
+        }
+        return result;
+    }
+
+    private Observation start(String module, String kind, String operation, ContextView context) {
+        Observation parent = context.getOrDefault(OBSERVATION_CONTEXT_KEY, null);
+        return Observation.createNotStarted(OBSERVATION_NAME, observationRegistry)
+            .contextualName(operation)
+            .lowCardinalityKeyValue(MODULE, module)
+            .lowCardinalityKeyValue(KIND, kind)
+            .lowCardinalityKeyValue(OPERATION, operation)
+            .parentObservation(parent != null ? parent : observationRegistry.getCurrentObservation())
+            .start();
+    }
+
+    private static void stop(Observation observation, SignalType signal) {
+        String outcome = switch (signal) {
+            case ON_ERROR -> "error";
+            case CANCEL -> "cancelled";
+            default -> "success";
+        };
+        observation.lowCardinalityKeyValue(OUTCOME, outcome).stop();
+    }
+
+    /**
+     * Finds the contract or repository interface declaring the called method, since the advised method
+     * may be declared by the implementing class or by a Spring Data base interface.
+     */
+    private Class<?> boundaryType(ProceedingJoinPoint joinPoint, String kind) {
+        Class<?> targetClass = joinPoint.getTarget().getClass();
+        String method = joinPoint.getSignature().getName();
+        return boundaryTypes.computeIfAbsent(targetClass.getName() + "#" + method, key ->
+            ClassUtils.getAllInterfacesForClassAsSet(targetClass).stream()
+                .filter(candidate -> candidate.getName().startsWith(BASE_PACKAGE))
+                .filter(candidate -> KIND_REPOSITORY.equals(kind)
+                    ? Repository.class.isAssignableFrom(candidate)
+                    : candidate.getSimpleName().endsWith("Contract") && ClassUtils.hasAtLeastOneMethodWithName(candidate, method))
+                .findFirst()
+                .orElse(joinPoint.getSignature().getDeclaringType()));
+    }
+
+    /**
+     * Gets the module of a type from the first package below the application package.
+     */
+    static String moduleOf(Class<?> type) {
+        String name = type.getName();
+        if (!name.startsWith(BASE_PACKAGE)) {
+            return "unknown";
+        }
+        String relative = name.substring(BASE_PACKAGE.length());
+        int dot = relative.indexOf('.');
+        return dot < 0 ? "application" : relative.substring(0, dot);
+    }
+}
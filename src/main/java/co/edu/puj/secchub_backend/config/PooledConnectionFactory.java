@@ -0,0 +1,14 @@
+package co.edu.puj.secchub_backend.config;
+
+import io.r2dbc.spi.ConnectionFactory;
+
+/**
+ * Connection factory that owns a connection pool and releases it when the application context closes.
+ * Narrows {@link AutoCloseable#close()} so wrappers can close the factory they decorate without handling
+ * checked exceptions.
+ */
+interface PooledConnectionFactory extends ConnectionFactory, AutoCloseable {
+
+    @Override
+    void close();
+}
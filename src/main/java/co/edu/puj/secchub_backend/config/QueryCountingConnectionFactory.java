@@ -0,0 +1,154 @@
+package co.edu.puj.secchub_backend.config;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import org.reactivestreams.Publisher;
+
+import io.r2dbc.spi.Batch;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryMetadata;
+import io.r2dbc.spi.Statement;
+import io.r2dbc.spi.Wrapped;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Connection factory that counts the statements each HTTP exchange executes, in the style of an r2dbc-proxy
+ * execution listener. A connection acquired inside an exchange tracked by {@link QueryTrackingWebFilter}
+ * is wrapped in a proxy bound to the {@link QueryStats} of that exchange; its statements record their
+ * SQL and the time until the driver completes their results. Connections acquired outside an exchange,
+ * such as by scheduled jobs, are returned as they are.
+ * <p>
+ * Optionally every statement is prefixed with a {@code /* request:<id> *}{@code /} comment so it can be
+ * matched to its exchange in the MySQL slow query log and process list.
+ */
+public class QueryCountingConnectionFactory implements PooledConnectionFactory, Wrapped<ConnectionFactory> {
+
+    private static final Pattern UNSAFE_REQUEST_ID = Pattern.compile("[^A-Za-z0-9_-]");
+
+    private final ConnectionFactory delegate;
+    private final boolean commentStatements;
+
+    public QueryCountingConnectionFactory(ConnectionFactory delegate, boolean commentStatements) {
+        this.delegate = delegate;
+        this.commentStatements = commentStatements;
+    }
+
+    @Override
+    public Publisher<? extends Connection> create() {
+        return Mono.<Connection>deferContextual(context -> {
+            QueryStats stats = QueryStats.of(context);
+            Mono<Connection> connection = Mono.from(delegate.create());
+            return stats == null ? connection : connection.map(target -> proxy(target, stats));
+        });
+    }
+
+    @Override
+    public ConnectionFactoryMetadata getMetadata() {
+        return delegate.getMetadata();
+    }
+
+    @Override
+    public ConnectionFactory unwrap() {
+        return delegate;
+    }
+
+    /**
+     * Closes the wrapped pool when the application context closes.
+     */
+    @Override
+    public void close() {
+        if (delegate instanceof PooledConnectionFactory pooled) {
+            pooled.close();
+        }
+    }
+
+    private Connection proxy(Connection connection, QueryStats stats) {
+        String comment = commentStatements
+            ? "/* request:" + UNSAFE_REQUEST_ID.matcher(stats.getRequestId()).replaceAll("") + " */ "
+            : "";
+        return newProxy(Connection.class, connection, (proxy, method, args) -> switch (method.getName()) {
+            case "createStatement" -> {
+                String sql = (String) args[0];
+                Statement statement = connection.createStatement(comment + sql);
+                yield newProxy(Statement.class, statement, statementHandler(statement, sql, stats));
+            }
+            case "createBatch" -> {
+                Batch batch = connection.createBatch();
+                yield newProxy(Batch.class, batch, batchHandler(batch, comment, stats));
+            }
+            default -> delegate(connection, proxy, method, args);
+        });
+    }
+
+    private static InvocationHandler statementHandler(Statement statement, String sql, QueryStats stats) {
+        return (proxy, method, args) -> {
+            if (method.getName().equals("execute")) {
+                return Flux.defer(() -> {
+                    long start = System.nanoTime();
+                    return Flux.from(statement.execute())
+                        .doFinally(signal -> stats.record(sql, System.nanoTime() - start));
+                });
+            }
+            return delegate(statement, proxy, method, args);
+        };
+    }
+
+    private static InvocationHandler batchHandler(Batch batch, String comment, QueryStats stats) {
+        List<String> statements = new ArrayList<>();
+        return (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "add" -> {
+                    String sql = (String) args[0];
+                    statements.add(sql);
+                    batch.add(comment + sql);
+                    return proxy;
+                }
+                case "execute" -> {
+                    List<String> executed = List.copyOf(statements);
+                    return Flux.defer(() -> {
+                        long start = System.nanoTime();
+                        return Flux.from(batch.execute())
+                            .doFinally(signal -> {
+                                long nanos = (System.nanoTime() - start) / Math.max(1, executed.size());
+                                executed.forEach(sql -> stats.record(sql, nanos));
+                            });
+                    });
+                }
+                default -> {
+                    return delegate(batch, proxy, method, args);
+                }
+            }
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T newProxy(Class<T> type, T target, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(QueryCountingConnectionFactory.class.getClassLoader(),
+            new Class<?>[] {type, Wrapped.class}, (proxy, method, args) -> switch (method.getName()) {
+                case "unwrap" -> method.getParameterCount() == 0 ? target : handler.invoke(proxy, method, args);
+                case "equals" -> proxy == args[0];
+                case "hashCode" -> System.identityHashCode(proxy);
+                default -> handler.invoke(proxy, method, args);
+            });
+    }
+
+    /**
+     * Invokes a method on the proxied object; fluent methods returning the target return the proxy instead.
+     */
+    private static Object delegate(Object target, Object proxy, Method method, Object[] args) throws Throwable {
+        try {
+            Object result = method.invoke(target, args);
+            return result == target ? proxy : result;
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
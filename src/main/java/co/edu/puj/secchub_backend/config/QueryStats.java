@@ -0,0 +1,106 @@
+package co.edu.puj.secchub_backend.config;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+import reactor.util.context.ContextView;
+
+/**
+ * Statements executed on behalf of one HTTP exchange, collected by {@link QueryCountingConnectionFactory}
+ * while the exchange is handled. Statements of one exchange can run concurrently inside {@code flatMap}
+ * chains, so every counter is thread-safe.
+ */
+public class QueryStats {
+
+    /**
+     * Reactor context key holding the stats of the exchange in progress.
+     */
+    public static final String CONTEXT_KEY = QueryStats.class.getName();
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^'\\\\]|\\\\.|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern PARAMETER_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+
+    private final String requestId;
+    private final LongAdder queryCount = new LongAdder();
+    private final AtomicLong databaseNanos = new AtomicLong();
+    private final Map<String, AtomicInteger> executionsBySql = new ConcurrentHashMap<>();
+
+    public QueryStats(String requestId) {
+        this.requestId = requestId;
+    }
+
+    /**
+     * Gets the stats of the exchange a pipeline runs for.
+     * @param context Reactor context of the pipeline
+     * @return Stats, null outside of a tracked exchange
+     */
+    static QueryStats of(ContextView context) {
+        return context.getOrDefault(CONTEXT_KEY, null);
+    }
+
+    /**
+     * Records an executed statement.
+     * @param sql Statement as sent to the driver
+     * @param nanos Time until the driver completed the statement results
+     */
+    void record(String sql, long nanos) {
+        queryCount.increment();
+        databaseNanos.addAndGet(nanos);
+        executionsBySql.computeIfAbsent(sql, key -> new AtomicInteger()).incrementAndGet();
+    }
+
+    public String getRequestId() {
+        return requestId;
+    }
+
+    public int getQueryCount() {
+        return queryCount.intValue();
+    }
+
+    public Duration getDatabaseTime() {
+        return Duration.ofNanos(databaseNanos.get());
+    }
+
+    /**
+     * Gets how many times each statement shape was executed.
+     * Shapes are grouped after the exchange, so the normalization runs once per distinct statement.
+     * @return Executions by statement shape
+     */
+    public Map<String, Integer> getExecutionsByShape() {
+        Map<String, Integer> executionsByShape = new HashMap<>();
+        executionsBySql.forEach((sql, executions) ->
+            executionsByShape.merge(shapeOf(sql), executions.get(), Integer::sum));
+        return executionsByShape;
+    }
+
+    /**
+     * Gets the statement shape executed the most times, the usual sign of a per-row lookup.
+     * @return Most repeated shape with its executions, empty when nothing was executed
+     */
+    public Optional<Map.Entry<String, Integer>> getMostRepeatedShape() {
+        return getExecutionsByShape().entrySet().stream()
+            .max(Map.Entry.comparingByValue());
+    }
+
+    /**
+     * Reduces a statement to its shape: literals and bind markers become {@code ?}, IN lists collapse to a
+     * single marker and whitespace is normalized, so lookups that only differ in their arguments match.
+     * @param sql Statement
+     * @return Statement shape
+     */
+    static String shapeOf(String sql) {
+        String shape = STRING_LITERAL.matcher(sql).replaceAll("?");
+        shape = NUMBER_LITERAL.matcher(shape).replaceAll("?");
+        shape = PARAMETER_LIST.matcher(shape).replaceAll("(?)");
+        return WHITESPACE.matcher(shape).replaceAll(" ").trim();
+    }
+}
@@ -0,0 +1,16 @@
+package co.edu.puj.secchub_backend.config;
+
+/**
+ * Receives the {@link QueryStats} of every exchange tracked by {@link QueryTrackingWebFilter} once it completes.
+ * Integration tests register one to pin the query budget of an endpoint.
+ */
+@FunctionalInterface
+public interface QueryStatsListener {
+
+    /**
+     * Called after an exchange completed.
+     * @param endpoint HTTP method and matched route pattern, e.g. {@code GET /planning/classes/{classId}}
+     * @param stats Statements executed by the exchange
+     */
+    void exchangeCompleted(String endpoint, QueryStats stats);
+}
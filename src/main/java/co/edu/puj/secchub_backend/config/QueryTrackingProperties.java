@@ -0,0 +1,29 @@
+package co.edu.puj.secchub_backend.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+/**
+ * Per-request query tracking settings, bound from {@code secchub.r2dbc.query-tracking}.
+ */
+@Data
+@ConfigurationProperties(prefix = "secchub.r2dbc.query-tracking")
+public class QueryTrackingProperties {
+
+    /**
+     * Whether statements are counted per request and exported as metrics.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Executions of the same statement shape in one request above which a warning is logged.
+     */
+    private int repeatedStatementThreshold = 10;
+
+    /**
+     * Whether statements are prefixed with a comment holding the request id. Makes statements of different
+     * requests distinct, so it defeats server-side statement caches; meant for diagnosing slow query logs.
+     */
+    private boolean commentStatements = false;
+}
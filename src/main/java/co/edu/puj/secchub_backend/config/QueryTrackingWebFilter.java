@@ -0,0 +1,104 @@
+package co.edu.puj.secchub_backend.config;
+
+import java.util.Map;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.HandlerMapping;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import org.springframework.web.util.pattern.PathPattern;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+
+/**
+ * Web filter that counts the statements executed by each exchange, including the ones issued while
+ * authenticating it. The {@link QueryStats} of the exchange travel in the Reactor context to
+ * {@link QueryCountingConnectionFactory}; when the exchange completes they are published as the
+ * {@code secchub.db.queries} and {@code secchub.db.time} histograms tagged with the HTTP method and route
+ * pattern, and handed to the registered {@link QueryStatsListener}s.
+ * <p>
+ * A warning with the statement shape is logged when one shape runs more often than
+ * {@link QueryTrackingProperties#getRepeatedStatementThreshold()} in a single exchange, which is how
+ * per-row lookups hidden in {@code flatMap} chains show up.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "secchub.r2dbc.query-tracking", name = "enabled", havingValue = "true",
+    matchIfMissing = true)
+public class QueryTrackingWebFilter implements WebFilter {
+
+    static final String QUERIES_SUMMARY = "secchub.db.queries";
+    static final String TIME_TIMER = "secchub.db.time";
+
+    private static final String UNKNOWN_ROUTE = "UNKNOWN";
+
+    private final MeterRegistry meterRegistry;
+    private final QueryTrackingProperties properties;
+    private final ObjectProvider<QueryStatsListener> listeners;
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        QueryStats stats = new QueryStats(exchange.getRequest().getId());
+        return chain.filter(exchange)
+            .contextWrite(Context.of(QueryStats.CONTEXT_KEY, stats))
+            .doFinally(signal -> completed(exchange, stats));
+    }
+
+    private void completed(ServerWebExchange exchange, QueryStats stats) {
+        String method = exchange.getRequest().getMethod().name();
+        String route = routeOf(exchange);
+
+        DistributionSummary.builder(QUERIES_SUMMARY)
+            .description("Statements executed per request")
+            .baseUnit("queries")
+            .tag("method", method)
+            .tag("uri", route)
+            .publishPercentileHistogram()
+            .register(meterRegistry)
+            .record(stats.getQueryCount());
+        Timer.builder(TIME_TIMER)
+            .description("Time spent executing statements per request")
+            .tag("method", method)
+            .tag("uri", route)
+            .publishPercentileHistogram()
+            .register(meterRegistry)
+            .record(stats.getDatabaseTime());
+
+        int threshold = properties.getRepeatedStatementThreshold();
+        if (stats.getQueryCount() > threshold) {
+            stats.getMostRepeatedShape()
+                .filter(shape -> shape.getValue() > threshold)
+                .ifPresent(shape -> warnRepeated(method, route, stats, shape));
+        }
+
+        String endpoint = method + " " + route;
+        listeners.orderedStream().forEach(listener -> listener.exchangeCompleted(endpoint, stats));
+    }
+
+    private static void warnRepeated(String method, String route, QueryStats stats, Map.Entry<String, Integer> shape) {
+        log.warn("Request {} {} {} executed the same statement {} times ({} statements, {} ms in the database): {}",
+            stats.getRequestId(), method, route, shape.getValue(), stats.getQueryCount(),
+            stats.getDatabaseTime().toMillis(), shape.getKey());
+    }
+
+    /**
+     * Gets the route pattern that handled the exchange, keeping the metric tags bounded.
+     */
+    private static String routeOf(ServerWebExchange exchange) {
+        PathPattern pattern = exchange.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.getPatternString() : UNKNOWN_ROUTE;
+    }
+}
@@ -0,0 +1,20 @@
+package co.edu.puj.secchub_backend.config;
+
+/**
+ * Consistency required by a read-only pipeline routed to the read replica.
+ */
+public enum ReadConsistency {
+
+    /**
+     * The replica may lag behind the primary up to the configured maximum lag.
+     */
+    EVENTUAL,
+
+    /**
+     * The flow reads data it has just written. Before using the replica, the GTID set executed on the primary is
+     * read and the replica waits for it with {@code WAIT_FOR_EXECUTED_GTID_SET}, for at most the configured
+     * maximum lag; on timeout, or when GTIDs are not enabled, the read goes to the primary.
+     * Every read still costs a round trip to the primary, so it only pays off for reads heavier than that query.
+     */
+    READ_YOUR_WRITES
+}
@@ -0,0 +1,73 @@
+package co.edu.puj.secchub_backend.config;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Sends changes of the in-memory read models that are not Spring caches, such as the ETag versions, over the
+ * same {@link CacheInvalidationTransport} as {@link ClusteredCacheManager}, so every instance drops or
+ * refreshes its copy. Each read model uses its own channel, sent as the cache name with the
+ * {@value #CHANNEL_PREFIX} prefix, and changes received from other instances are handed to the listeners of
+ * that channel.
+ * <p>
+ * With the database transport a change reaches the other instances after the poll interval, so they may
+ * answer from their previous copy until then.
+ */
+@Component
+@Slf4j
+public class ReadModelInvalidations {
+
+    static final String CHANNEL_PREFIX = "read-model:";
+
+    private final CacheInvalidationTransport transport;
+    private final String origin = UUID.randomUUID().toString();
+    private final Map<String, List<Consumer<String>>> listeners = new ConcurrentHashMap<>();
+
+    public ReadModelInvalidations(CacheInvalidationTransport transport) {
+        this.transport = transport;
+        transport.invalidations()
+            .filter(invalidation -> !origin.equals(invalidation.origin())
+                && invalidation.cacheName().startsWith(CHANNEL_PREFIX))
+            .subscribe(this::applyRemote,
+                error -> log.error("Read model invalidation subscription failed: {}", error.getMessage()));
+    }
+
+    /**
+     * Sends a change of a read model to the other instances.
+     * @param channel Read model channel
+     * @param key Changed entry, null when the whole read model changed
+     */
+    public void publish(String channel, String key) {
+        transport.publish(new CacheInvalidation(CHANNEL_PREFIX + channel, key, origin))
+            .subscribe(null, error -> log.warn("Could not send change of read model {}: {}",
+                channel, error.getMessage()));
+    }
+
+    /**
+     * Registers a listener for the changes of a read model made by other instances.
+     * @param channel Read model channel
+     * @param listener Receives the changed entry, or null when the whole read model changed
+     */
+    public void onRemoteChange(String channel, Consumer<String> listener) {
+        listeners.computeIfAbsent(channel, key -> new CopyOnWriteArrayList<>()).add(listener);
+    }
+
+    private void applyRemote(CacheInvalidation invalidation) {
+        String channel = invalidation.cacheName().substring(CHANNEL_PREFIX.length());
+        for (Consumer<String> listener : listeners.getOrDefault(channel, List.of())) {
+            try {
+                listener.accept(invalidation.key());
+            } catch (RuntimeException e) {
+                log.warn("Could not apply change of read model {}: {}", channel, e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package co.edu.puj.secchub_backend.config;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a service method returning Mono or Flux as read-only so its queries may run on the read replica.
+ * The method must not write, since the replica is read-only.
+ * Queries fall back to the primary when no replica is configured, it is unavailable or it lags too much.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface ReadOnlyRoute {
+
+    /**
+     * Consistency required by the method.
+     * @return Read consistency
+     */
+    ReadConsistency consistency() default ReadConsistency.EVENTUAL;
+}
@@ -0,0 +1,50 @@
+package co.edu.puj.secchub_backend.config;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+import reactor.util.context.ContextView;
+
+/**
+ * Reactor context helpers that mark a pipeline as read-only for {@link ReadOnlyRoutingConnectionFactory}.
+ * Equivalent to {@link ReadOnlyRoute} for code that is not a proxied service method.
+ */
+public final class ReadOnlyRouting {
+
+    /**
+     * Reactor context key holding the {@link ReadConsistency} of a read-only pipeline.
+     */
+    public static final String CONTEXT_KEY = ReadOnlyRouting.class.getName() + ".CONSISTENCY";
+
+    private ReadOnlyRouting() {
+    }
+
+    /**
+     * Marks a Mono as read-only with the given consistency.
+     * @param mono Pipeline to mark
+     * @param consistency Required consistency
+     * @return Marked pipeline
+     */
+    public static <T> Mono<T> readOnly(Mono<T> mono, ReadConsistency consistency) {
+        return mono.contextWrite(Context.of(CONTEXT_KEY, consistency));
+    }
+
+    /**
+     * Marks a Flux as read-only with the given consistency.
+     * @param flux Pipeline to mark
+     * @param consistency Required consistency
+     * @return Marked pipeline
+     */
+    public static <T> Flux<T> readOnly(Flux<T> flux, ReadConsistency consistency) {
+        return flux.contextWrite(Context.of(CONTEXT_KEY, consistency));
+    }
+
+    /**
+     * Gets the consistency of a read-only pipeline.
+     * @param context Reactor context of the pipeline
+     * @return Consistency, null when the pipeline is not read-only
+     */
+    static ReadConsistency consistencyOf(ContextView context) {
+        return context.getOrDefault(CONTEXT_KEY, null);
+    }
+}
@@ -0,0 +1,32 @@
+package co.edu.puj.secchub_backend.config;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * AOP Aspect that marks the pipelines returned by {@link ReadOnlyRoute} methods as read-only.
+ */
+@Aspect
+@Component
+public class ReadOnlyRoutingAspect {
+
+    /**
+     * Writes the read consistency of the method into the Reactor context of the returned Mono or Flux.
+     */
+    @Around("@annotation(readOnlyRoute)")
+    public Object routeReadOnly(ProceedingJoinPoint joinPoint, ReadOnlyRoute readOnlyRoute) throws Throwable {
+        Object result = joinPoint.proceed();
+        if (result instanceof Mono<?> mono) {
+            return ReadOnlyRouting.readOnly(mono, readOnlyRoute.consistency());
+        }
+        if (result instanceof Flux<?> flux) {
+            return ReadOnlyRouting.readOnly(flux, readOnlyRoute.consistency());
+        }
+        return result;
+    }
+}
@@ -0,0 +1,116 @@
+package co.edu.puj.secchub_backend.config;
+
+import java.time.Duration;
+
+import org.reactivestreams.Publisher;
+
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryMetadata;
+import io.r2dbc.spi.Wrapped;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+/**
+ * Connection factory that sends read-only pipelines to the read replica and everything else to the primary.
+ * A pipeline is read-only when its Reactor context holds a {@link ReadConsistency}
+ * (see {@link ReadOnlyRoute} and {@link ReadOnlyRouting}). The replica is only used when
+ * {@link ReplicaLagMonitor} accepts reads; if acquiring a replica connection fails, the replica is marked
+ * unavailable and the connection is taken from the primary instead.
+ * <p>
+ * Replication lag is only reported in whole seconds, so {@link ReadConsistency#READ_YOUR_WRITES} reads
+ * additionally read the GTID set executed on the primary and wait for the replica to apply it before using
+ * the replica connection. If the replica does not catch up in time, or GTIDs are not enabled, the read
+ * goes to the primary.
+ */
+@Slf4j
+public class ReadOnlyRoutingConnectionFactory implements PooledConnectionFactory, Wrapped<ConnectionFactory> {
+
+    private final ConnectionFactory primary;
+    private final ConnectionFactory replica;
+    private final ReplicaLagMonitor lagMonitor;
+    private final long catchUpTimeoutSeconds;
+
+    public ReadOnlyRoutingConnectionFactory(ConnectionFactory primary, ConnectionFactory replica,
+            ReplicaLagMonitor lagMonitor, Duration catchUpTimeout) {
+        this.primary = primary;
+        this.replica = replica;
+        this.lagMonitor = lagMonitor;
+        this.catchUpTimeoutSeconds = Math.max(1, catchUpTimeout.toSeconds());
+    }
+
+    @Override
+    public Publisher<? extends Connection> create() {
+        return Mono.<Connection>deferContextual(context -> {
+            ReadConsistency consistency = ReadOnlyRouting.consistencyOf(context);
+            if (consistency == null || !lagMonitor.isAcceptingReads()) {
+                return Mono.<Connection>from(primary.create());
+            }
+            Mono<Connection> replicaConnection = consistency == ReadConsistency.READ_YOUR_WRITES
+                ? caughtUpReplicaConnection()
+                : Mono.<Connection>from(replica.create());
+            return replicaConnection
+                .onErrorResume(error -> {
+                    log.warn("Falling back to the primary after replica connection failure: {}", error.getMessage());
+                    lagMonitor.markUnavailable();
+                    return Mono.empty();
+                })
+                .switchIfEmpty(Mono.defer(() -> Mono.<Connection>from(primary.create())));
+        });
+    }
+
+    /**
+     * Acquires a replica connection once the replica has applied every transaction committed on the primary.
+     * @return Replica connection, or empty when GTIDs are not enabled or the replica did not catch up in time
+     */
+    private Mono<Connection> caughtUpReplicaConnection() {
+        return executedGtidSetOnPrimary()
+            .filter(gtidSet -> !gtidSet.isBlank())
+            .flatMap(gtidSet -> Mono.<Connection>from(replica.create())
+                .flatMap(connection -> waitForGtidSet(connection, gtidSet)
+                    .onErrorResume(error -> Mono.from(connection.close()).then(Mono.error(error)))
+                    .flatMap(caughtUp -> caughtUp
+                        ? Mono.just(connection)
+                        : Mono.from(connection.close()).then(Mono.<Connection>empty()))));
+    }
+
+    private Mono<String> executedGtidSetOnPrimary() {
+        return Mono.usingWhen(Mono.<Connection>from(primary.create()),
+            connection -> Mono.from(connection.createStatement("SELECT @@GLOBAL.gtid_executed").execute())
+                .flatMap(result -> Mono.from(result.map((row, metadata) -> row.get(0, String.class)))),
+            Connection::close);
+    }
+
+    /**
+     * Waits on the replica until the given GTID set is applied.
+     * WAIT_FOR_EXECUTED_GTID_SET returns 0 once applied and 1 on timeout.
+     */
+    private Mono<Boolean> waitForGtidSet(Connection connection, String gtidSet) {
+        return Mono.from(connection.createStatement("SELECT WAIT_FOR_EXECUTED_GTID_SET(?, ?)")
+                .bind(0, gtidSet)
+                .bind(1, catchUpTimeoutSeconds)
+                .execute())
+            .flatMap(result -> Mono.from(result.map((row, metadata) -> row.get(0, Long.class))))
+            .map(status -> status == 0L);
+    }
+
+    @Override
+    public ConnectionFactoryMetadata getMetadata() {
+        return primary.getMetadata();
+    }
+
+    @Override
+    public ConnectionFactory unwrap() {
+        return primary;
+    }
+
+    /**
+     * Closes the primary pool when the application context closes; the replica pool is a bean of its own.
+     */
+    @Override
+    public void close() {
+        if (primary instanceof PooledConnectionFactory pooled) {
+            pooled.close();
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package co.edu.puj.secchub_backend.config;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+/**
+ * Tracks the replication lag of the read replica and decides whether it may serve a read.
+ * The lag is read from {@code SHOW REPLICA STATUS} on the configured interval. The replica is
+ * considered unavailable when replication is stopped, the check fails or the last check is stale.
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private final DatabaseClient replicaClient;
+    private final Duration maxLag;
+    private final Duration maxStaleness;
+    private final Clock clock;
+
+    private volatile ReplicaState state = ReplicaState.UNKNOWN;
+
+    public ReplicaLagMonitor(DatabaseClient replicaClient, ReplicaProperties properties, Clock clock) {
+        this.replicaClient = replicaClient;
+        this.maxLag = properties.getMaxLag();
+        this.maxStaleness = properties.getLagCheckInterval().multipliedBy(3);
+        this.clock = clock;
+    }
+
+    /**
+     * Runs the lag check on the configured interval.
+     */
+    @Scheduled(fixedDelayString = "${secchub.r2dbc.replica.lag-check-interval:PT5S}")
+    public void scheduledRefresh() {
+        refresh().subscribe();
+    }
+
+    /**
+     * Reads the current replication lag from the replica.
+     * A server that is not replicating from any source (e.g. a development setup pointing at the primary)
+     * is treated as having no lag.
+     * @return Mono completing when the state is updated
+     */
+    public Mono<Void> refresh() {
+        return replicaClient.sql("SHOW REPLICA STATUS")
+            .map(row -> ReplicaState.of(row.get("Seconds_Behind_Source"), clock.instant()))
+            .all()
+            .next()
+            .defaultIfEmpty(new ReplicaState(true, Duration.ZERO, clock.instant()))
+            .onErrorResume(error -> {
+                log.warn("Replica lag check failed: {}", error.getMessage());
+                return Mono.just(new ReplicaState(false, null, clock.instant()));
+            })
+            .doOnNext(this::updateState)
+            .then();
+    }
+
+    /**
+     * Decides whether the replica may serve reads.
+     * @return True when the replica is available, the last check is fresh and the lag is within the maximum
+     */
+    public boolean isAcceptingReads() {
+        ReplicaState current = state;
+        if (!current.available() || current.checkedAt() == null
+                || current.checkedAt().plus(maxStaleness).isBefore(clock.instant())) {
+            return false;
+        }
+        return current.lag().compareTo(maxLag) <= 0;
+    }
+
+    /**
+     * Marks the replica unavailable until the next successful check, e.g. after a connection failure.
+     */
+    public void markUnavailable() {
+        updateState(new ReplicaState(false, null, clock.instant()));
+    }
+
+    private void updateState(ReplicaState newState) {
+        if (newState.available() != state.available()) {
+            log.info("Read replica is now {}", newState.available() ? "available" : "unavailable");
+        }
+        state = newState;
+    }
+
+    /**
+     * Last observed replica state.
+     * @param available Whether the replica is replicating and reachable
+     * @param lag Replication lag, null when unavailable
+     * @param checkedAt Time of the observation, null before the first check
+     */
+    record ReplicaState(boolean available, Duration lag, Instant checkedAt) {
+
+        static final ReplicaState UNKNOWN = new ReplicaState(false, null, null);
+
+        /**
+         * Builds the state from the Seconds_Behind_Source column, which is NULL when replication is stopped.
+         */
+        static ReplicaState of(Object secondsBehindSource, Instant checkedAt) {
+            if (secondsBehindSource == null) {
+                return new ReplicaState(false, null, checkedAt);
+            }
+            return new ReplicaState(true, Duration.ofSeconds(Long.parseLong(secondsBehindSource.toString())), checkedAt);
+        }
+    }
+}
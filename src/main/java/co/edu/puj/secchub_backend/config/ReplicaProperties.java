@@ -0,0 +1,40 @@
+package co.edu.puj.secchub_backend.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+/**
+ * Read replica settings, bound from {@code secchub.r2dbc.replica}.
+ */
+@Data
+@ConfigurationProperties(prefix = "secchub.r2dbc.replica")
+public class ReplicaProperties {
+
+    /**
+     * Whether read-only pipelines are routed to the replica.
+     */
+    private boolean enabled = false;
+
+    private String url;
+    private String username;
+    private String password;
+
+    /**
+     * Maximum replication lag tolerated by {@link ReadConsistency#EVENTUAL} reads.
+     */
+    private Duration maxLag = Duration.ofSeconds(5);
+
+    /**
+     * Interval between replication lag checks.
+     */
+    private Duration lagCheckInterval = Duration.ofSeconds(5);
+
+    /**
+     * Sizing of the replica connection pool.
+     */
+    private DatabasePoolProperties.Pool pool =
+        new DatabasePoolProperties.Pool(1, 10, Duration.ofSeconds(5), Duration.ofMinutes(5), Duration.ofMinutes(30), false);
+}
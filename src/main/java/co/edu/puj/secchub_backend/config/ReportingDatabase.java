@@ -0,0 +1,21 @@
+package co.edu.puj.secchub_backend.config;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+
+/**
+ * Routes a repository or an injected DatabaseClient to the reporting connection pool.
+ * Use it for long read-only queries such as conflict reports and summaries.
+ * Outside a repository, place it on the injected field, which Lombok copies to the constructor parameter.
+ */
+@Target({ElementType.TYPE, ElementType.METHOD, ElementType.FIELD, ElementType.PARAMETER})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Qualifier
+public @interface ReportingDatabase {
+}
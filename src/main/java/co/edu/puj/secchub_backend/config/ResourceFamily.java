@@ -0,0 +1,12 @@
+package co.edu.puj.secchub_backend.config;
+
+/**
+ * Groups of near-static resources versioned together by {@link ResourceVersions}.
+ * A change to any resource of a family invalidates the ETags of every endpoint serving that family.
+ */
+public enum ResourceFamily {
+    PARAMETRIC,
+    SEMESTERS,
+    COURSES,
+    CLASSROOMS
+}
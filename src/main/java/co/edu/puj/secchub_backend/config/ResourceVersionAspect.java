@@ -0,0 +1,44 @@
+package co.edu.puj.secchub_backend.config;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * AOP Aspect that bumps the version of the family changed by {@link ChangesResource} methods.
+ * It runs outside the transaction and cache advice so the bump happens after the commit; a bump that
+ * happened before the commit would let a concurrent read cache the old data under the new ETag.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class ResourceVersionAspect {
+
+    private final ResourceVersions resourceVersions;
+
+    /**
+     * Bumps the version when the returned Mono or Flux terminates, whether it succeeded or not,
+     * since a failed pipeline may still have written part of its changes.
+     */
+    @Around("@annotation(changesResource)")
+    public Object bumpVersion(ProceedingJoinPoint joinPoint, ChangesResource changesResource) throws Throwable {
+        ResourceFamily family = changesResource.value();
+        Object result = joinPoint.proceed();
+        if (result instanceof Mono<?> mono) {
+            return mono.doFinally(signal -> resourceVersions.bump(family));
+        }
+        if (result instanceof Flux<?> flux) {
+            return flux.doFinally(signal -> resourceVersions.bump(family));
+        }
+        resourceVersions.bump(family);
+        return result;
+    }
+}
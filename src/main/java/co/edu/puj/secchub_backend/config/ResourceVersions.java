@@ -0,0 +1,109 @@
+package co.edu.puj.secchub_backend.config;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Versions of the near-static resource families, used as strong ETags for conditional GET requests.
+ * Every family starts at version 0 and is bumped by the {@link ChangesResource} service methods.
+ * The ETag also carries the instance start time, so ETags issued before a restart never match.
+ * <p>
+ * Bumps are sent to the other instances through {@link ReadModelInvalidations}, which bump the same family,
+ * so an instance never answers 304 for a family changed elsewhere once the change has reached it. Changes
+ * made outside the service methods, such as SQL scripts, are not seen until the family is bumped.
+ */
+@Component
+public class ResourceVersions {
+
+    static final String CHANNEL = "resource-versions";
+
+    private final String epoch = Long.toString(System.currentTimeMillis(), Character.MAX_RADIX);
+    private final Map<ResourceFamily, AtomicLong> versions = new EnumMap<>(ResourceFamily.class);
+    private final ReadModelInvalidations invalidations;
+
+    public ResourceVersions(ReadModelInvalidations invalidations) {
+        for (ResourceFamily family : ResourceFamily.values()) {
+            versions.put(family, new AtomicLong());
+        }
+        this.invalidations = invalidations;
+    }
+
+    /**
+     * Starts applying the bumps sent by the other instances, once the versions are constructed.
+     */
+    @PostConstruct
+    void listenToRemoteChanges() {
+        invalidations.onRemoteChange(CHANNEL, family -> versions.get(ResourceFamily.valueOf(family)).incrementAndGet());
+    }
+
+    /**
+     * Gets the current version of a family.
+     * @param family Resource family
+     * @return Version, increasing with every change
+     */
+    public long getVersion(ResourceFamily family) {
+        return versions.get(family).get();
+    }
+
+    /**
+     * Marks a family as changed on this and the other instances.
+     * @param family Resource family
+     * @return New version
+     */
+    public long bump(ResourceFamily family) {
+        long version = versions.get(family).incrementAndGet();
+        invalidations.publish(CHANNEL, family.name());
+        return version;
+    }
+
+    /**
+     * Gets the strong ETag of the current version of a family.
+     * @param family Resource family
+     * @return Quoted ETag
+     */
+    public String etag(ResourceFamily family) {
+        return "\"" + family.name().toLowerCase() + "-" + epoch + "-" + getVersion(family) + "\"";
+    }
+
+    /**
+     * Gets the strong ETag of one representation of the current version of a family, such as its gzip
+     * encoding; strong ETags must differ between representations whose bytes differ.
+     * @param family Resource family
+     * @param variant Representation suffix
+     * @return Quoted ETag
+     */
+    public String etag(ResourceFamily family, String variant) {
+        String etag = etag(family);
+        return etag.substring(0, etag.length() - 1) + "-" + variant + "\"";
+    }
+
+    /**
+     * Checks the If-None-Match header of a GET request against the current version of a family.
+     * The ETag is set on the response either way; when it matches the response status is set to 304
+     * and the handler must return an empty Mono without calling its service.
+     * The version is read before the service runs, so a change made meanwhile only costs one more 200.
+     * @param exchange Current exchange
+     * @param family Resource family served by the handler
+     * @return True when the client copy is current
+     */
+    public boolean checkNotModified(ServerWebExchange exchange, ResourceFamily family) {
+        return exchange.checkNotModified(etag(family));
+    }
+
+    /**
+     * Checks the If-None-Match header of a GET request against one representation of a family.
+     * @param exchange Current exchange
+     * @param family Resource family served by the handler
+     * @param variant Representation suffix, see {@link #etag(ResourceFamily, String)}
+     * @return True when the client copy is current
+     */
+    public boolean checkNotModified(ServerWebExchange exchange, ResourceFamily family, String variant) {
+        return exchange.checkNotModified(etag(family, variant));
+    }
+}
@@ -0,0 +1,216 @@
+package co.edu.puj.secchub_backend.config;
+
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.reactivestreams.Publisher;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * SQL predicate restricting a query to the rows an {@link AccessScope} can see.
+ * Built with {@link AccessScope#rows()} by declaring who sees what in the listing: administrators see every row,
+ * then teachers may see every row or only their own, programs only their own, and everyone else only the rows
+ * of their section. A user matching none of the rules sees no rows.
+ * <p>
+ * Repository queries take the scope values as nullable parameters, written with the fragments below
+ * such as {@link #COURSE_SECTION_IN_SCOPE}, and skip the query when the
+ * predicate {@link #isDenied() denies} every row, which {@link #select(Function)} does.
+ */
+public final class RowPredicate {
+    /**
+     * Restricts rows to {@code :scopeSectionId} by the section of their course, joined as {@code co}.
+     */
+    public static final String COURSE_SECTION_IN_SCOPE = "(:scopeSectionId IS NULL OR co.section_id = :scopeSectionId)";
+
+    /**
+     * Restricts student applications, as {@code sa}, to {@code :scopeSectionId} by the section they name,
+     * or by the section of their course, joined as {@code co}, when they name none.
+     */
+    public static final String APPLICATION_SECTION_IN_SCOPE =
+        "(:scopeSectionId IS NULL OR COALESCE(sa.section_id, co.section_id) = :scopeSectionId)";
+
+    /**
+     * Restricts student applications, as {@code sa}, to {@code :scopeSectionId} by the section they name.
+     */
+    public static final String APPLICATION_NAMED_SECTION_IN_SCOPE = "(:scopeSectionId IS NULL OR sa.section_id = :scopeSectionId)";
+
+    /**
+     * Restricts teacher classes, as {@code tc}, to the assignments of {@code :scopeTeacherId}.
+     */
+    public static final String TEACHER_CLASS_TEACHER_IN_SCOPE = "(:scopeTeacherId IS NULL OR tc.teacher_id = :scopeTeacherId)";
+
+    /**
+     * Restricts academic requests, as {@code ar}, to the ones created by {@code :scopeUserId}.
+     */
+    public static final String ACADEMIC_REQUEST_OWNER_IN_SCOPE = "(:scopeUserId IS NULL OR ar.user_id = :scopeUserId)";
+
+    private enum Restriction { NONE, SECTION, TEACHER, OWNER, DENIED }
+
+    private final Restriction restriction;
+    private final Long value;
+
+    private RowPredicate(Restriction restriction, Long value) {
+        this.restriction = restriction;
+        this.value = value;
+    }
+
+    /**
+     * @return Whether every row is visible
+     */
+    public boolean isUnrestricted() {
+        return restriction == Restriction.NONE;
+    }
+
+    /**
+     * @return Whether no row is visible, so the query can be skipped
+     */
+    public boolean isDenied() {
+        return restriction == Restriction.DENIED;
+    }
+
+    /**
+     * @return Section whose rows are visible, or null when the rows are not restricted by section
+     */
+    public Long scopeSectionId() {
+        return restriction == Restriction.SECTION ? value : null;
+    }
+
+    /**
+     * @return Teacher whose rows are visible, or null when the rows are not restricted by teacher
+     */
+    public Long scopeTeacherId() {
+        return restriction == Restriction.TEACHER ? value : null;
+    }
+
+    /**
+     * @return User whose own rows are visible, or null when the rows are not restricted by owner
+     */
+    public Long scopeUserId() {
+        return restriction == Restriction.OWNER ? value : null;
+    }
+
+    /**
+     * Runs a query unless the predicate denies every row.
+     * @param query Query taking this predicate
+     * @return Rows of the query, or no rows when denied
+     */
+    public <T> Flux<T> select(Function<RowPredicate, ? extends Publisher<T>> query) {
+        return isDenied() ? Flux.empty() : Flux.from(query.apply(this));
+    }
+
+    /**
+     * Runs a count unless the predicate denies every row.
+     * @param query Count taking this predicate
+     * @return Mono with the count, or 0 when denied
+     */
+    public Mono<Long> count(Function<RowPredicate, ? extends Publisher<Long>> query) {
+        return isDenied() ? Mono.just(0L) : Mono.from(query.apply(this));
+    }
+
+    /**
+     * Checks a row that is already loaded, the in-memory counterpart of the scope parameters for single-row operations.
+     * @param rowTeacherId Teacher ID of the row, compared when restricted by teacher
+     * @param rowUserId User ID of the row, compared when restricted by owner
+     * @param rowSectionId Lookup of the section of the row, only called when restricted by section
+     * @return Mono with whether the row is visible
+     */
+    public Mono<Boolean> allows(Long rowTeacherId, Long rowUserId, Supplier<Mono<Long>> rowSectionId) {
+        return switch (restriction) {
+            case NONE -> Mono.just(true);
+            case DENIED -> Mono.just(false);
+            case TEACHER -> Mono.just(value.equals(rowTeacherId));
+            case OWNER -> Mono.just(value.equals(rowUserId));
+            case SECTION -> rowSectionId.get().map(value::equals).defaultIfEmpty(false);
+        };
+    }
+
+    @Override
+    public String toString() {
+        return value == null ? restriction.name() : restriction.name() + "=" + value;
+    }
+
+    /**
+     * Declares the visibility rules of a listing and resolves them against an {@link AccessScope}.
+     */
+    public static final class Builder {
+        private final AccessScope scope;
+        private boolean teachersSeeAll;
+        private boolean teachersSeeOwn;
+        private boolean programsSeeOwn;
+        private boolean bySection;
+
+        Builder(AccessScope scope) {
+            this.scope = Objects.requireNonNull(scope);
+        }
+
+        /**
+         * Lets teachers see every row.
+         * @return this builder
+         */
+        public Builder teachersSeeAll() {
+            this.teachersSeeAll = true;
+            return this;
+        }
+
+        /**
+         * Lets teachers see only their own rows.
+         * @return this builder
+         */
+        public Builder teachersSeeOwn() {
+            this.teachersSeeOwn = true;
+            return this;
+        }
+
+        /**
+         * Lets programs see only the rows they created.
+         * @return this builder
+         */
+        public Builder programsSeeOwn() {
+            this.programsSeeOwn = true;
+            return this;
+        }
+
+        /**
+         * Lets section heads see the rows of their section.
+         * @return this builder
+         */
+        public Builder bySection() {
+            this.bySection = true;
+            return this;
+        }
+
+        /**
+         * Resolves the rules in order: administrators, teachers, programs and section heads.
+         * @return Predicate for the scope
+         */
+        public RowPredicate build() {
+            if (scope.isAdmin()) {
+                return new RowPredicate(Restriction.NONE, null);
+            }
+            if (scope.hasRole(AccessScope.ROLE_TEACHER)) {
+                if (teachersSeeAll) {
+                    return new RowPredicate(Restriction.NONE, null);
+                }
+                if (teachersSeeOwn) {
+                    return restrictedTo(Restriction.TEACHER, scope.teacherId());
+                }
+            }
+            if (scope.hasRole(AccessScope.ROLE_PROGRAM) && programsSeeOwn) {
+                return restrictedTo(Restriction.OWNER, scope.userId());
+            }
+            if (bySection) {
+                return restrictedTo(Restriction.SECTION, scope.sectionId());
+            }
+            return new RowPredicate(Restriction.DENIED, null);
+        }
+
+        private static RowPredicate restrictedTo(Restriction restriction, Long value) {
+            return value == null
+                ? new RowPredicate(Restriction.DENIED, null)
+                : new RowPredicate(restriction, value);
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package co.edu.puj.secchub_backend.config;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.publisher.Mono;
+
+/**
+ * Coalesces identical concurrent reads: callers asking for the same operation and key while it is being computed
+ * share that computation instead of starting their own, and callers arriving within the reuse window after it
+ * completed get its result. The computation must not depend on the caller; per-user visibility is applied by
+ * each caller on the shared result.
+ * <p>
+ * The computation runs in the context of the caller that started it and keeps running if that caller cancels,
+ * so the others still get the result. Errors are passed to the callers waiting on the computation and never
+ * reused. Publishes the {@code secchub.single-flight.calls} counter tagged with the operation and the outcome:
+ * {@code computed}, {@code merged} into a computation in flight, or {@code hit} on a completed one.
+ */
+@Component
+public class SingleFlight {
+
+    static final String CALLS_METRIC = "secchub.single-flight.calls";
+
+    private static final long IN_FLIGHT = -1;
+
+    private final long reuseWindowNanos;
+    private final MeterRegistry meterRegistry;
+    private final LongSupplier nanoTime;
+    private final ConcurrentMap<FlightKey, Flight> flights = new ConcurrentHashMap<>();
+
+    private record FlightKey(String operation, Object key) {}
+
+    private final class Flight {
+        private final FlightKey key;
+        private final Mono<Object> result;
+        private volatile long completedAt = IN_FLIGHT;
+
+        private Flight(FlightKey key, Supplier<? extends Mono<?>> computation) {
+            this.key = key;
+            this.result = Mono.defer(computation)
+                .<Object>map(value -> value)
+                .doOnSuccess(value -> completed())
+                .doOnError(error -> flights.remove(key, this))
+                .cache();
+        }
+
+        private void completed() {
+            if (reuseWindowNanos > 0) {
+                completedAt = nanoTime.getAsLong();
+            } else {
+                flights.remove(key, this);
+            }
+        }
+
+        private boolean isInFlight() {
+            return completedAt == IN_FLIGHT;
+        }
+
+        private boolean isReusableAt(long now) {
+            return isInFlight() || now - completedAt < reuseWindowNanos;
+        }
+    }
+
+    /**
+     * @param reuseWindow Time a completed result is handed to new callers, zero to share only computations in flight
+     * @param meterRegistry Registry of the call counter
+     */
+    @Autowired
+    public SingleFlight(@Value("${secchub.single-flight.reuse-window:PT2S}") Duration reuseWindow,
+            MeterRegistry meterRegistry) {
+        this(reuseWindow, meterRegistry, System::nanoTime);
+    }
+
+    SingleFlight(Duration reuseWindow, MeterRegistry meterRegistry, LongSupplier nanoTime) {
+        this.reuseWindowNanos = reuseWindow.toNanos();
+        this.meterRegistry = meterRegistry;
+        this.nanoTime = nanoTime;
+    }
+
+    /**
+     * Gets the result of a computation, sharing it with the callers of the same operation and key.
+     * At most one result per operation and key is kept, so keys should be few, such as a semester ID.
+     * @param operation Name of the computation, also the tag of its metrics
+     * @param key Arguments the result depends on
+     * @param computation Computation started when there is no shared result to use
+     * @return Mono with the shared result
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Mono<T> execute(String operation, Object key, Supplier<Mono<T>> computation) {
+        FlightKey flightKey = new FlightKey(operation, key);
+        long now = nanoTime.getAsLong();
+        Flight[] started = new Flight[1];
+        Flight flight = flights.compute(flightKey, (ignored, existing) -> {
+            if (existing != null && existing.isReusableAt(now)) {
+                return existing;
+            }
+            started[0] = new Flight(flightKey, computation);
+            return started[0];
+        });
+
+        String outcome;
+        if (flight == started[0]) {
+            outcome = "computed";
+        } else {
+            outcome = flight.isInFlight() ? "merged" : "hit";
+        }
+        Counter.builder(CALLS_METRIC)
+            .tag("operation", operation)
+            .tag("outcome", outcome)
+            .register(meterRegistry)
+            .increment();
+        return (Mono<T>) flight.result;
+    }
+}
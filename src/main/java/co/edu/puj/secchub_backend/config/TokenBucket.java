@@ -0,0 +1,38 @@
+package co.edu.puj.secchub_backend.config;
+
+/**
+ * Token bucket refilled at a fixed rate up to its capacity, where each request takes one token.
+ */
+class TokenBucket {
+    private final double tokensPerNano;
+    private final double capacity;
+    private double tokens;
+    private long refilledAt;
+
+    /**
+     * @param ratePerSecond Tokens added per second
+     * @param capacity Most tokens the bucket holds, which starts full
+     * @param now Current time in nanoseconds
+     */
+    TokenBucket(double ratePerSecond, int capacity, long now) {
+        this.tokensPerNano = ratePerSecond / 1_000_000_000d;
+        this.capacity = Math.max(1, capacity);
+        this.tokens = this.capacity;
+        this.refilledAt = now;
+    }
+
+    /**
+     * Takes a token if one is available.
+     * @param now Current time in nanoseconds
+     * @return 0 if a token was taken, otherwise the nanoseconds until one is available
+     */
+    synchronized long tryAcquire(long now) {
+        tokens = Math.min(capacity, tokens + (now - refilledAt) * tokensPerNano);
+        refilledAt = now;
+        if (tokens >= 1) {
+            tokens -= 1;
+            return 0;
+        }
+        return (long) Math.ceil((1 - tokens) / tokensPerNano);
+    }
+}
@@ -1,5 +1,6 @@
 package co.edu.puj.secchub_backend.integration.controller;
 
+import co.edu.puj.secchub_backend.config.KeysetPage;
 import co.edu.puj.secchub_backend.integration.dto.AcademicRequestBatchRequestDTO;
 import co.edu.puj.secchub_backend.integration.dto.AcademicRequestRequestDTO;
 import co.edu.puj.secchub_backend.integration.dto.AcademicRequestResponseDTO;
@@ -87,6 +88,24 @@ public class AcademicRequestController {
                 .collectList();
     }
 
+    /**
+     * Gets a page of academic requests ordered by semester and ID.
+     * @param semesterId Semester ID, all semesters when omitted
+     * @param cursor Cursor returned with the previous page, omitted for the first page
+     * @param size Requests per page, 25 by default and at most 100
+     * @param includeTotal Whether to include the total number of requests
+     * @return Page of academic requests with the cursor of the next page
+     */
+    @GetMapping("/page")
+    @PreAuthorize("hasRole('ROLE_PROGRAM') or hasRole('ROLE_USER') or hasRole('ROLE_ADMIN')")
+    public Mono<KeysetPage<AcademicRequestResponseDTO>> getAcademicRequestsPage(
+            @RequestParam(required = false) Long semesterId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+        return academicRequestService.findAcademicRequestsPage(semesterId, cursor, size, includeTotal);
+    }
+
     /**
      * Gets an academic request by its ID.
      * @param requestId Request ID
@@ -230,26 +249,26 @@ public class AcademicRequestController {
     /**
      * Marks multiple academic requests as accepted.
      * @param requestBody Map containing list of request IDs
-     * @return Empty response
+     * @return Number of academic requests marked as accepted
      */
     @PatchMapping("/accept-multiple")
     @PreAuthorize("hasRole('ROLE_ADMIN') or hasRole('ROLE_USER')")
-    public Mono<ResponseEntity<Void>> markMultipleAsAccepted(@RequestBody Map<String, List<Long>> requestBody) {
+    public Mono<ResponseEntity<Map<String, Long>>> markMultipleAsAccepted(@RequestBody Map<String, List<Long>> requestBody) {
         List<Long> requestIds = requestBody.get("requestIds");
         return academicRequestService.markMultipleAsAccepted(requestIds)
-                .then(Mono.just(ResponseEntity.ok().<Void>build()));
+                .map(updated -> ResponseEntity.ok(Map.of("updated", updated)));
     }
 
     /**
      * Marks multiple academic requests as combined.
      * @param requestBody Map containing list of request IDs
-     * @return Empty response
+     * @return Number of academic requests marked as combined
      */
     @PatchMapping("/combine-multiple")
     @PreAuthorize("hasRole('ROLE_ADMIN') or hasRole('ROLE_USER')")
-    public Mono<ResponseEntity<Void>> markMultipleAsCombined(@RequestBody Map<String, List<Long>> requestBody) {
+    public Mono<ResponseEntity<Map<String, Long>>> markMultipleAsCombined(@RequestBody Map<String, List<Long>> requestBody) {
         List<Long> requestIds = requestBody.get("requestIds");
         return academicRequestService.markMultipleAsCombined(requestIds)
-                .then(Mono.just(ResponseEntity.ok().<Void>build()));
+                .map(updated -> ResponseEntity.ok(Map.of("updated", updated)));
     }
 }
@@ -1,5 +1,6 @@
 package co.edu.puj.secchub_backend.integration.controller;
 
+import co.edu.puj.secchub_backend.config.KeysetPage;
 import co.edu.puj.secchub_backend.integration.dto.StudentApplicationRequestDTO;
 import co.edu.puj.secchub_backend.integration.dto.StudentApplicationResponseDTO;
 import co.edu.puj.secchub_backend.integration.service.StudentApplicationService;
@@ -62,6 +63,25 @@ public class StudentApplicationController {
                 .map(ResponseEntity::ok);
     }
 
+    /**
+     * Gets a page of student applications ordered by semester and ID.
+     * @param semesterId Semester ID, all semesters when omitted
+     * @param cursor Cursor returned with the previous page, omitted for the first page
+     * @param size Applications per page, 25 by default and at most 100
+     * @param includeTotal Whether to include the total number of applications
+     * @return Page of StudentApplicationResponseDTOs with the cursor of the next page
+     */
+    @GetMapping("/page")
+    @PreAuthorize("hasRole('ROLE_ADMIN') or hasRole('ROLE_USER')")
+    public Mono<ResponseEntity<KeysetPage<StudentApplicationResponseDTO>>> getStudentApplicationsPage(
+            @RequestParam(required = false) Long semesterId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+        return studentApplicationService.listStudentApplicationsPage(semesterId, cursor, size, includeTotal)
+                .map(ResponseEntity::ok);
+    }
+
     /**
      * Gets a student application by its ID.
      * @param studentApplicationId Application ID
@@ -1,9 +1,12 @@
 package co.edu.puj.secchub_backend.integration.controller;
 
+import co.edu.puj.secchub_backend.config.KeysetPage;
 import co.edu.puj.secchub_backend.integration.dto.TeacherClassAssignHoursRequestDTO;
 import co.edu.puj.secchub_backend.integration.dto.TeacherClassAssignHoursResponseDTO;
+import co.edu.puj.secchub_backend.integration.dto.TeacherClassBulkDecisionRequestDTO;
 import co.edu.puj.secchub_backend.integration.dto.TeacherClassRequestDTO;
 import co.edu.puj.secchub_backend.integration.dto.TeacherClassResponseDTO;
+import co.edu.puj.secchub_backend.integration.dto.TeacherWorkloadResponseDTO;
 import co.edu.puj.secchub_backend.integration.service.TeacherClassService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -50,6 +53,25 @@ public class TeacherClassController {
                 .map(ResponseEntity::ok);
     }
 
+    /**
+     * Get a page of teacher classes ordered by semester and ID.
+     * @param semesterId Semester ID, all semesters when omitted
+     * @param cursor Cursor returned with the previous page, omitted for the first page
+     * @param size Teacher classes per page, 25 by default and at most 100
+     * @param includeTotal Whether to include the total number of teacher classes
+     * @return Page of teacher classes with the cursor of the next page
+     */
+    @GetMapping("/classes/page")
+    @PreAuthorize("hasRole('ROLE_TEACHER') or hasRole('ROLE_ADMIN') or hasRole('ROLE_USER')")
+    public Mono<ResponseEntity<KeysetPage<TeacherClassResponseDTO>>> getTeacherClassesPage(
+            @RequestParam(required = false) Long semesterId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+        return service.listTeacherClassesPage(semesterId, cursor, size, includeTotal)
+                .map(ResponseEntity::ok);
+    }
+
     /**
      * Get all teacher classes for a teacher in the current semester.
      * @param teacherId Teacher ID
@@ -150,6 +172,32 @@ public class TeacherClassController {
                 .map(ResponseEntity::ok);
     }
 
+    /**
+     * Accept several class assignments at once with an optional observation.
+     * @param request Request body containing the teacher class IDs and the observation
+     * @return Number of accepted class assignments
+     */
+    @PatchMapping("/classes/accept-multiple")
+    @PreAuthorize("hasRole('ROLE_TEACHER')")
+    public Mono<ResponseEntity<Map<String, Long>>> acceptTeacherClasses(
+            @RequestBody TeacherClassBulkDecisionRequestDTO request) {
+        return service.acceptTeacherClasses(request.getTeacherClassIds(), request.getObservation())
+                .map(updated -> ResponseEntity.ok(Map.of("updated", updated)));
+    }
+
+    /**
+     * Reject several class assignments at once with an optional observation.
+     * @param request Request body containing the teacher class IDs and the observation
+     * @return Number of rejected class assignments
+     */
+    @PatchMapping("/classes/reject-multiple")
+    @PreAuthorize("hasRole('ROLE_TEACHER')")
+    public Mono<ResponseEntity<Map<String, Long>>> rejectTeacherClasses(
+            @RequestBody TeacherClassBulkDecisionRequestDTO request) {
+        return service.rejectTeacherClasses(request.getTeacherClassIds(), request.getObservation())
+                .map(updated -> ResponseEntity.ok(Map.of("updated", updated)));
+    }
+
     /**
      * Delete a teacher-class assignment by teacher ID and class ID.
      * @param teacherId Teacher ID
@@ -209,4 +257,17 @@ public class TeacherClassController {
         return service.getTeacherExtraHoursWarning(teacherId, teacherClassAssignHoursRequestDTO)
                 .map(ResponseEntity::ok);
     }
+
+    /**
+     * Get the workload of all teachers with classes of a section in the current semester.
+     * @param sectionId Section ID
+     * @return List of teacher workloads
+     */
+    @GetMapping("/workload/section/{sectionId}")
+    @PreAuthorize("hasRole('ROLE_ADMIN') or hasRole('ROLE_USER')")
+    public Mono<ResponseEntity<List<TeacherWorkloadResponseDTO>>> getSectionTeacherWorkloads(@PathVariable Long sectionId) {
+        return service.getSectionTeacherWorkloads(sectionId)
+                .collectList()
+                .map(ResponseEntity::ok);
+    }
 }
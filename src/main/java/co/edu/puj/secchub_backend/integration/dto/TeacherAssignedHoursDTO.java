@@ -0,0 +1,18 @@
+package co.edu.puj.secchub_backend.integration.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO representing the sum of work hours assigned to a teacher in a semester.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TeacherAssignedHoursDTO {
+    private Long teacherId;
+    private Long assignedHours;
+}
@@ -0,0 +1,20 @@
+package co.edu.puj.secchub_backend.integration.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for accepting or rejecting several teacher classes at once.
+ */
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+public class TeacherClassBulkDecisionRequestDTO {
+    private List<Long> teacherClassIds;
+    private String observation;
+}
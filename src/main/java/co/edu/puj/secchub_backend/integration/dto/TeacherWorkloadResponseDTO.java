@@ -0,0 +1,22 @@
+package co.edu.puj.secchub_backend.integration.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for the workload of a teacher in the current semester.
+ */
+@Builder
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TeacherWorkloadResponseDTO {
+    private Long teacherId;
+    private String teacherName;
+    private Integer maxHours;
+    private Integer totalAssignedHours;
+    private Integer availableHours;
+    private Integer exceedsMaxHours;
+}
@@ -0,0 +1,182 @@
+package co.edu.puj.secchub_backend.integration.repository;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.DatabaseClient.GenericExecuteSpec;
+import org.springframework.stereotype.Repository;
+
+import co.edu.puj.secchub_backend.config.AutoIncrementCheck;
+import co.edu.puj.secchub_backend.integration.model.AcademicRequest;
+import co.edu.puj.secchub_backend.integration.model.RequestSchedule;
+import io.r2dbc.spi.Parameter;
+import io.r2dbc.spi.Parameters;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+
+/**
+ * Batched write operations for academic requests and their schedules.
+ * Uses DatabaseClient to issue multi-row INSERT statements instead of one statement per entity.
+ * Generated keys are derived from the first generated id of each statement, since InnoDB assigns
+ * consecutive auto-increment values to the rows of a single multi-row insert. That only holds with
+ * {@code auto_increment_increment} set to 1, which {@link AutoIncrementCheck} verifies at startup; with a
+ * larger step, as on Galera or multi-primary setups, the schedules would be attached to the wrong requests.
+ */
+@Repository
+@RequiredArgsConstructor
+public class AcademicRequestBatchRepository {
+
+    /**
+     * Maximum number of rows written by a single INSERT statement.
+     * Keeps statements well below the server packet and placeholder limits.
+     */
+    static final int MAX_ROWS_PER_STATEMENT = 500;
+
+    private final DatabaseClient databaseClient;
+
+    /**
+     * Inserts the given academic requests using multi-row INSERT statements.
+     * The generated ids are set on the given entities, preserving their order.
+     * @param academicRequests Academic requests to insert
+     * @return Flux of inserted academic requests with their generated ids
+     */
+    public Flux<AcademicRequest> insertAll(List<AcademicRequest> academicRequests) {
+        return Flux.fromIterable(partition(academicRequests))
+            .concatMap(this::insertAcademicRequestChunk);
+    }
+
+    /**
+     * Inserts the given request schedules using multi-row INSERT statements.
+     * The generated ids are set on the given entities, preserving their order.
+     * @param requestSchedules Request schedules to insert
+     * @return Flux of inserted request schedules with their generated ids
+     */
+    public Flux<RequestSchedule> insertAllSchedules(List<RequestSchedule> requestSchedules) {
+        return Flux.fromIterable(partition(requestSchedules))
+            .concatMap(this::insertRequestScheduleChunk);
+    }
+
+    // ==============================================
+    // Private Methods
+    // ==============================================
+
+    /**
+     * Inserts a chunk of academic requests in one statement.
+     * @param chunk Academic requests to insert
+     * @return Flux of inserted academic requests
+     */
+    private Flux<AcademicRequest> insertAcademicRequestChunk(List<AcademicRequest> chunk) {
+        StringBuilder sql = new StringBuilder("""
+            INSERT INTO academic_request
+                (user_id, course_id, semester_id, start_date, end_date, capacity, request_date, observation, accepted, combined)
+            VALUES
+            """);
+        for (int i = 0; i < chunk.size(); i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(String.format(
+                "(:userId%1$d, :courseId%1$d, :semesterId%1$d, :startDate%1$d, :endDate%1$d, :capacity%1$d, " +
+                ":requestDate%1$d, :observation%1$d, :accepted%1$d, :combined%1$d)", i));
+        }
+
+        GenericExecuteSpec spec = databaseClient.sql(sql.toString())
+            .filter(statement -> statement.returnGeneratedValues("id"));
+        for (int i = 0; i < chunk.size(); i++) {
+            AcademicRequest request = chunk.get(i);
+            spec = spec
+                .bind("userId" + i, parameter(request.getUserId(), Long.class))
+                .bind("courseId" + i, parameter(request.getCourseId(), Long.class))
+                .bind("semesterId" + i, parameter(request.getSemesterId(), Long.class))
+                .bind("startDate" + i, parameter(request.getStartDate(), LocalDate.class))
+                .bind("endDate" + i, parameter(request.getEndDate(), LocalDate.class))
+                .bind("capacity" + i, parameter(request.getCapacity(), Integer.class))
+                .bind("requestDate" + i, parameter(request.getRequestDate(), LocalDate.class))
+                .bind("observation" + i, parameter(request.getObservation(), String.class))
+                .bind("accepted" + i, parameter(request.getAccepted(), Boolean.class))
+                .bind("combined" + i, parameter(request.getCombined(), Boolean.class));
+        }
+
+        return spec.map(row -> row.get("id", Long.class))
+            .first()
+            .flatMapMany(firstId -> {
+                for (int i = 0; i < chunk.size(); i++) {
+                    chunk.get(i).setId(firstId + i);
+                }
+                return Flux.fromIterable(chunk);
+            });
+    }
+
+    /**
+     * Inserts a chunk of request schedules in one statement.
+     * @param chunk Request schedules to insert
+     * @return Flux of inserted request schedules
+     */
+    private Flux<RequestSchedule> insertRequestScheduleChunk(List<RequestSchedule> chunk) {
+        StringBuilder sql = new StringBuilder("""
+            INSERT INTO request_schedule
+                (academic_request_id, classroom_type_id, start_time, end_time, day, modality_id, disability)
+            VALUES
+            """);
+        for (int i = 0; i < chunk.size(); i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(String.format(
+                "(:academicRequestId%1$d, :classroomTypeId%1$d, :startTime%1$d, :endTime%1$d, :day%1$d, " +
+                ":modalityId%1$d, :disability%1$d)", i));
+        }
+
+        GenericExecuteSpec spec = databaseClient.sql(sql.toString())
+            .filter(statement -> statement.returnGeneratedValues("id"));
+        for (int i = 0; i < chunk.size(); i++) {
+            RequestSchedule schedule = chunk.get(i);
+            spec = spec
+                .bind("academicRequestId" + i, parameter(schedule.getAcademicRequestId(), Long.class))
+                .bind("classroomTypeId" + i, parameter(schedule.getClassRoomTypeId(), Long.class))
+                .bind("startTime" + i, parameter(schedule.getStartTime(), LocalTime.class))
+                .bind("endTime" + i, parameter(schedule.getEndTime(), LocalTime.class))
+                .bind("day" + i, parameter(schedule.getDay(), String.class))
+                .bind("modalityId" + i, parameter(schedule.getModalityId(), Long.class))
+                .bind("disability" + i, parameter(schedule.getDisability(), Boolean.class));
+        }
+
+        return spec.map(row -> row.get("id", Long.class))
+            .first()
+            .flatMapMany(firstId -> {
+                for (int i = 0; i < chunk.size(); i++) {
+                    chunk.get(i).setId(firstId + i);
+                }
+                return Flux.fromIterable(chunk);
+            });
+    }
+
+    /**
+     * Splits a list into chunks of at most {@link #MAX_ROWS_PER_STATEMENT} elements.
+     * @param items Items to split
+     * @return List of chunks
+     */
+    private static <T> List<List<T>> partition(List<T> items) {
+        List<List<T>> chunks = new ArrayList<>();
+        if (items == null) {
+            return chunks;
+        }
+        for (int start = 0; start < items.size(); start += MAX_ROWS_PER_STATEMENT) {
+            chunks.add(items.subList(start, Math.min(start + MAX_ROWS_PER_STATEMENT, items.size())));
+        }
+        return chunks;
+    }
+
+    /**
+     * Wraps a column value as a typed bind parameter, so null values still carry their SQL type.
+     * @param value Value to bind, may be null
+     * @param type Java type of the column
+     * @return Bind parameter for the value
+     */
+    private static Parameter parameter(Object value, Class<?> type) {
+        return value == null ? Parameters.in(type) : Parameters.in(value);
+    }
+}
@@ -1,14 +1,73 @@
 package co.edu.puj.secchub_backend.integration.repository;
 
+import co.edu.puj.secchub_backend.config.RowPredicate;
 import co.edu.puj.secchub_backend.integration.model.AcademicRequest;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
+import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface AcademicRequestRepository extends R2dbcRepository<AcademicRequest, Long> {
+
+    /**
+     * Academic requests the caller can see: a scope user restricts them to the requests that user created and
+     * a scope section to the requests for courses of that section; nulls leave them unrestricted.
+     * See {@link RowPredicate}.
+     */
+    String VISIBLE_ACADEMIC_REQUESTS_FROM = """
+        FROM academic_request ar
+        LEFT JOIN course co ON co.id = ar.course_id
+        """
+        + "WHERE " + RowPredicate.ACADEMIC_REQUEST_OWNER_IN_SCOPE + "\n"
+        + "  AND " + RowPredicate.COURSE_SECTION_IN_SCOPE + "\n";
+
+    String VISIBLE_ACADEMIC_REQUESTS = "SELECT ar.* " + VISIBLE_ACADEMIC_REQUESTS_FROM;
+
+    /**
+     * Keyset page of the visible rows, ordered by semester and ID, continuing after the given position.
+     * Rows without semester are left out of pages.
+     * See {@link co.edu.puj.secchub_backend.config.KeysetPageRequest}.
+     */
+    String VISIBLE_ACADEMIC_REQUESTS_PAGE = VISIBLE_ACADEMIC_REQUESTS + """
+        AND ar.semester_id IS NOT NULL
+        AND (:semesterId IS NULL OR ar.semester_id = :semesterId)
+        AND (:afterSemesterId IS NULL OR ar.semester_id > :afterSemesterId
+             OR (ar.semester_id = :afterSemesterId AND ar.id > :afterId))
+        ORDER BY ar.semester_id, ar.id
+        LIMIT :limit
+        """;
+
     Flux<AcademicRequest> findBySemesterId(Long semesterId);
     Flux<AcademicRequest> findByCourseId(Long courseId);
     Flux<AcademicRequest> findBySemesterIdAndUserId(Long semesterId, Long userId);
+
+    @Query(VISIBLE_ACADEMIC_REQUESTS)
+    Flux<AcademicRequest> findAllVisible(
+        @Param("scopeUserId") Long scopeUserId,
+        @Param("scopeSectionId") Long scopeSectionId);
+
+    @Query(VISIBLE_ACADEMIC_REQUESTS + "AND ar.semester_id = :semesterId")
+    Flux<AcademicRequest> findVisibleBySemesterId(
+        @Param("semesterId") Long semesterId,
+        @Param("scopeUserId") Long scopeUserId,
+        @Param("scopeSectionId") Long scopeSectionId);
+
+    @Query(VISIBLE_ACADEMIC_REQUESTS_PAGE)
+    Flux<AcademicRequest> findVisiblePage(
+        @Param("semesterId") Long semesterId,
+        @Param("afterSemesterId") Long afterSemesterId,
+        @Param("afterId") Long afterId,
+        @Param("limit") int limit,
+        @Param("scopeUserId") Long scopeUserId,
+        @Param("scopeSectionId") Long scopeSectionId);
+
+    @Query("SELECT COUNT(*) " + VISIBLE_ACADEMIC_REQUESTS_FROM + "AND ar.semester_id IS NOT NULL AND (:semesterId IS NULL OR ar.semester_id = :semesterId)")
+    Mono<Long> countVisible(
+        @Param("semesterId") Long semesterId,
+        @Param("scopeUserId") Long scopeUserId,
+        @Param("scopeSectionId") Long scopeSectionId);
 }
@@ -0,0 +1,109 @@
+package co.edu.puj.secchub_backend.integration.repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.DatabaseClient.GenericExecuteSpec;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Set-based status transitions for academic requests and teacher classes.
+ * Each transition is issued as a single UPDATE ... WHERE id IN (...) statement per chunk of ids
+ * instead of loading, mutating and saving every row.
+ */
+@Repository
+@RequiredArgsConstructor
+public class BulkStatusTransitionRepository {
+
+    /**
+     * Maximum number of ids bound into a single IN list.
+     */
+    static final int MAX_IDS_PER_STATEMENT = 1000;
+
+    private final DatabaseClient databaseClient;
+
+    /**
+     * Marks the given academic requests as accepted.
+     * @param academicRequestIds Academic request IDs
+     * @return Mono with the number of affected rows
+     */
+    public Mono<Long> markAcademicRequestsAccepted(Collection<Long> academicRequestIds) {
+        return updateByIds(academicRequestIds, ids -> databaseClient
+            .sql("UPDATE academic_request SET accepted = TRUE WHERE id IN (:ids)")
+            .bind("ids", ids));
+    }
+
+    /**
+     * Marks the given academic requests as combined.
+     * @param academicRequestIds Academic request IDs
+     * @return Mono with the number of affected rows
+     */
+    public Mono<Long> markAcademicRequestsCombined(Collection<Long> academicRequestIds) {
+        return updateByIds(academicRequestIds, ids -> databaseClient
+            .sql("UPDATE academic_request SET combined = TRUE WHERE id IN (:ids)")
+            .bind("ids", ids));
+    }
+
+    /**
+     * Appends a note on a new line to the observation of the given academic requests.
+     * @param academicRequestIds Academic request IDs
+     * @param note Note to append
+     * @return Mono with the number of affected rows
+     */
+    public Mono<Long> appendAcademicRequestObservation(Collection<Long> academicRequestIds, String note) {
+        return updateByIds(academicRequestIds, ids -> databaseClient
+            .sql("UPDATE academic_request SET observation = CONCAT(COALESCE(observation, ''), '\\n', :note) WHERE id IN (:ids)")
+            .bind("note", note)
+            .bind("ids", ids));
+    }
+
+    /**
+     * Sets the decision, status and observation of the given teacher classes.
+     * @param teacherClassIds Teacher class IDs
+     * @param decision Decision taken by the teacher
+     * @param statusId New status ID
+     * @param observation Observation to store, may be null
+     * @return Mono with the number of affected rows
+     */
+    public Mono<Long> transitionTeacherClasses(Collection<Long> teacherClassIds, Boolean decision, Long statusId, String observation) {
+        return updateByIds(teacherClassIds, ids -> {
+            GenericExecuteSpec spec = databaseClient
+                .sql("UPDATE teacher_class SET decision = :decision, status_id = :statusId, observation = :observation WHERE id IN (:ids)")
+                .bind("decision", decision)
+                .bind("statusId", statusId)
+                .bind("ids", ids);
+            return observation == null ? spec.bindNull("observation", String.class) : spec.bind("observation", observation);
+        });
+    }
+
+    // ==============================================
+    // Private Methods
+    // ==============================================
+
+    /**
+     * Runs an update statement for each chunk of distinct ids and sums the affected rows.
+     * @param ids IDs to update
+     * @param statementFactory Builds the statement for a chunk of ids
+     * @return Mono with the total number of affected rows
+     */
+    private Mono<Long> updateByIds(Collection<Long> ids, Function<List<Long>, GenericExecuteSpec> statementFactory) {
+        if (ids == null || ids.isEmpty()) {
+            return Mono.just(0L);
+        }
+        List<Long> distinctIds = ids.stream().distinct().toList();
+        List<List<Long>> chunks = new ArrayList<>();
+        for (int start = 0; start < distinctIds.size(); start += MAX_IDS_PER_STATEMENT) {
+            chunks.add(distinctIds.subList(start, Math.min(start + MAX_IDS_PER_STATEMENT, distinctIds.size())));
+        }
+        return Flux.fromIterable(chunks)
+            .concatMap(chunk -> statementFactory.apply(chunk).fetch().rowsUpdated())
+            .reduce(0L, Long::sum);
+    }
+}
@@ -1,5 +1,6 @@
 package co.edu.puj.secchub_backend.integration.repository;
 
+import co.edu.puj.secchub_backend.config.RowPredicate;
 import co.edu.puj.secchub_backend.integration.model.StudentApplication;
 
 import org.springframework.data.r2dbc.repository.Query;
@@ -7,8 +8,37 @@ import org.springframework.data.r2dbc.repository.R2dbcRepository;
 import org.springframework.data.repository.query.Param;
 
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 public interface StudentApplicationRepository extends R2dbcRepository<StudentApplication, Long> {
+
+    /**
+     * Student applications the caller can see: a null scope section leaves them unrestricted, otherwise only
+     * the applications for that section, or for a course of that section when they name no section, are returned.
+     * See {@link RowPredicate}.
+     */
+    String VISIBLE_STUDENT_APPLICATIONS_FROM = """
+        FROM student_application sa
+        LEFT JOIN course co ON co.id = sa.course_id
+        """
+        + "WHERE " + RowPredicate.APPLICATION_SECTION_IN_SCOPE + "\n";
+
+    String VISIBLE_STUDENT_APPLICATIONS = "SELECT sa.* " + VISIBLE_STUDENT_APPLICATIONS_FROM;
+
+    /**
+     * Keyset page of the visible rows, ordered by semester and ID, continuing after the given position.
+     * Rows without semester are left out of pages.
+     * See {@link co.edu.puj.secchub_backend.config.KeysetPageRequest}.
+     */
+    String VISIBLE_STUDENT_APPLICATIONS_PAGE = VISIBLE_STUDENT_APPLICATIONS + """
+        AND sa.semester_id IS NOT NULL
+        AND (:semesterId IS NULL OR sa.semester_id = :semesterId)
+        AND (:afterSemesterId IS NULL OR sa.semester_id > :afterSemesterId
+             OR (sa.semester_id = :afterSemesterId AND sa.id > :afterId))
+        ORDER BY sa.semester_id, sa.id
+        LIMIT :limit
+        """;
+
     @Query("SELECT * FROM student_application WHERE semester_id = :semesterId")
     Flux<StudentApplication> findBySemesterId(@Param("semesterId") Long semesterId);
     
@@ -17,11 +47,55 @@ public interface StudentApplicationRepository extends R2dbcRepository<StudentApp
 
     @Query("""
         SELECT * FROM student_application
-        WHERE (section_id = :sectionId)
-            OR (course_id IN (SELECT id FROM course WHERE section_id = :sectionId))
+        WHERE section_id = :sectionId
+        UNION
+        SELECT sa.* FROM student_application sa
+        INNER JOIN course co ON sa.course_id = co.id
+        WHERE co.section_id = :sectionId
     """)
     Flux<StudentApplication> findRequestsForSection(@Param("sectionId") Long sectionId);
 
     @Query("SELECT * FROM student_application WHERE user_id = :userId AND semester_id = :semesterId")
     Flux<StudentApplication> findByUserIdAndSemesterId(@Param("userId") Long userId, @Param("semesterId") Long semesterId);
-}
\ No newline at end of file
+
+    @Query(VISIBLE_STUDENT_APPLICATIONS)
+    Flux<StudentApplication> findAllVisible(@Param("scopeSectionId") Long scopeSectionId);
+
+    @Query(VISIBLE_STUDENT_APPLICATIONS + "AND sa.semester_id = :semesterId")
+    Flux<StudentApplication> findVisibleBySemesterId(
+        @Param("semesterId") Long semesterId,
+        @Param("scopeSectionId") Long scopeSectionId);
+
+    @Query(VISIBLE_STUDENT_APPLICATIONS + "AND sa.status_id = :statusId")
+    Flux<StudentApplication> findVisibleByStatusId(
+        @Param("statusId") Long statusId,
+        @Param("scopeSectionId") Long scopeSectionId);
+
+    /**
+     * Split in a UNION like {@link #findRequestsForSection(Long)} so each branch uses its own section index.
+     */
+    @Query("SELECT sa.* FROM student_application sa " +
+        "WHERE sa.section_id = :sectionId " +
+        "AND " + RowPredicate.APPLICATION_NAMED_SECTION_IN_SCOPE + " " +
+        "UNION " +
+        "SELECT sa.* FROM student_application sa " +
+        "INNER JOIN course co ON sa.course_id = co.id " +
+        "WHERE co.section_id = :sectionId " +
+        "AND " + RowPredicate.APPLICATION_SECTION_IN_SCOPE)
+    Flux<StudentApplication> findVisibleRequestsForSection(
+        @Param("sectionId") Long sectionId,
+        @Param("scopeSectionId") Long scopeSectionId);
+
+    @Query(VISIBLE_STUDENT_APPLICATIONS_PAGE)
+    Flux<StudentApplication> findVisiblePage(
+        @Param("semesterId") Long semesterId,
+        @Param("afterSemesterId") Long afterSemesterId,
+        @Param("afterId") Long afterId,
+        @Param("limit") int limit,
+        @Param("scopeSectionId") Long scopeSectionId);
+
+    @Query("SELECT COUNT(*) " + VISIBLE_STUDENT_APPLICATIONS_FROM + "AND sa.semester_id IS NOT NULL AND (:semesterId IS NULL OR sa.semester_id = :semesterId)")
+    Mono<Long> countVisible(
+        @Param("semesterId") Long semesterId,
+        @Param("scopeSectionId") Long scopeSectionId);
+}
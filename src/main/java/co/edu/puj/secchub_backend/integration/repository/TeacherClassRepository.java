@@ -1,7 +1,14 @@
 package co.edu.puj.secchub_backend.integration.repository;
 
+import co.edu.puj.secchub_backend.config.RowPredicate;
+import co.edu.puj.secchub_backend.integration.dto.TeacherAssignedHoursDTO;
 import co.edu.puj.secchub_backend.integration.model.TeacherClass;
+
+import java.util.Collection;
+
+import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import reactor.core.publisher.Flux;
@@ -14,6 +21,35 @@ import reactor.core.publisher.Mono;
 @Repository
 public interface TeacherClassRepository extends R2dbcRepository<TeacherClass, Long> {
 
+    /**
+     * Teacher classes the caller can see: a scope teacher restricts them to that teacher's assignments and
+     * a scope section to the assignments of classes whose course belongs to that section; nulls leave them unrestricted.
+     * See {@link RowPredicate}.
+     */
+    String VISIBLE_TEACHER_CLASSES_FROM = """
+        FROM teacher_class tc
+        LEFT JOIN class c ON c.id = tc.class_id
+        LEFT JOIN course co ON co.id = c.course_id
+        """
+        + "WHERE " + RowPredicate.TEACHER_CLASS_TEACHER_IN_SCOPE + "\n"
+        + "  AND " + RowPredicate.COURSE_SECTION_IN_SCOPE + "\n";
+
+    String VISIBLE_TEACHER_CLASSES = "SELECT tc.* " + VISIBLE_TEACHER_CLASSES_FROM;
+
+    /**
+     * Keyset page of the visible rows, ordered by semester and ID, continuing after the given position.
+     * Rows without semester are left out of pages.
+     * See {@link co.edu.puj.secchub_backend.config.KeysetPageRequest}.
+     */
+    String VISIBLE_TEACHER_CLASSES_PAGE = VISIBLE_TEACHER_CLASSES + """
+        AND tc.semester_id IS NOT NULL
+        AND (:semesterId IS NULL OR tc.semester_id = :semesterId)
+        AND (:afterSemesterId IS NULL OR tc.semester_id > :afterSemesterId
+             OR (tc.semester_id = :afterSemesterId AND tc.id > :afterId))
+        ORDER BY tc.semester_id, tc.id
+        LIMIT :limit
+        """;
+
     Flux<TeacherClass> findBySemesterId(Long semesterId);
 
     Flux<TeacherClass> findByTeacherId(Long teacherId);
@@ -29,4 +65,131 @@ public interface TeacherClassRepository extends R2dbcRepository<TeacherClass, Lo
     Mono<TeacherClass> findByTeacherIdAndClassId(Long teacherId, Long classId);
 
     Flux<TeacherClass> findBySemesterIdAndStatusId(Long semesterId, Long statusId);
+
+    /**
+     * Sums the work hours assigned to the given teachers in a semester.
+     * Teachers without assignments are not returned.
+     * @param semesterId Semester ID
+     * @param teacherIds Teacher IDs
+     * @return Flux of assigned hours per teacher
+     */
+    @Query("""
+        SELECT tc.teacher_id AS teacher_id,
+               CAST(COALESCE(SUM(tc.work_hours), 0) AS SIGNED) AS assigned_hours
+        FROM teacher_class tc
+        WHERE tc.semester_id = :semesterId
+          AND tc.teacher_id IN (:teacherIds)
+        GROUP BY tc.teacher_id
+        """)
+    Flux<TeacherAssignedHoursDTO> sumWorkHoursBySemesterIdAndTeacherIds(
+        @Param("semesterId") Long semesterId,
+        @Param("teacherIds") Collection<Long> teacherIds);
+
+    /**
+     * Sums the work hours assigned to every teacher in a semester.
+     * @param semesterId Semester ID
+     * @return Flux of assigned hours per teacher
+     */
+    @Query("""
+        SELECT tc.teacher_id AS teacher_id,
+               CAST(COALESCE(SUM(tc.work_hours), 0) AS SIGNED) AS assigned_hours
+        FROM teacher_class tc
+        WHERE tc.semester_id = :semesterId
+          AND tc.teacher_id IS NOT NULL
+        GROUP BY tc.teacher_id
+        """)
+    Flux<TeacherAssignedHoursDTO> sumWorkHoursBySemesterId(@Param("semesterId") Long semesterId);
+
+    /**
+     * Finds the teachers with at least one class of the given section in a semester.
+     * @param semesterId Semester ID
+     * @param sectionId Section ID
+     * @return Flux of teacher IDs
+     */
+    @Query("""
+        SELECT DISTINCT tc.teacher_id
+        FROM teacher_class tc
+        INNER JOIN class c ON tc.class_id = c.id
+        INNER JOIN course co ON c.course_id = co.id
+        WHERE tc.semester_id = :semesterId
+          AND co.section_id = :sectionId
+          AND tc.teacher_id IS NOT NULL
+        ORDER BY tc.teacher_id
+        """)
+    Flux<Long> findTeacherIdsBySemesterIdAndSectionId(
+        @Param("semesterId") Long semesterId,
+        @Param("sectionId") Long sectionId);
+
+    @Query(VISIBLE_TEACHER_CLASSES + "AND tc.id = :id")
+    Mono<TeacherClass> findVisibleById(
+        @Param("id") Long id,
+        @Param("scopeTeacherId") Long scopeTeacherId,
+        @Param("scopeSectionId") Long scopeSectionId);
+
+    @Query(VISIBLE_TEACHER_CLASSES + "AND tc.id IN (:ids)")
+    Flux<TeacherClass> findAllVisibleById(
+        @Param("ids") Collection<Long> ids,
+        @Param("scopeTeacherId") Long scopeTeacherId,
+        @Param("scopeSectionId") Long scopeSectionId);
+
+    @Query(VISIBLE_TEACHER_CLASSES + "AND tc.semester_id = :semesterId")
+    Flux<TeacherClass> findVisibleBySemesterId(
+        @Param("semesterId") Long semesterId,
+        @Param("scopeTeacherId") Long scopeTeacherId,
+        @Param("scopeSectionId") Long scopeSectionId);
+
+    @Query(VISIBLE_TEACHER_CLASSES + "AND tc.teacher_id = :teacherId")
+    Flux<TeacherClass> findVisibleByTeacherId(
+        @Param("teacherId") Long teacherId,
+        @Param("scopeTeacherId") Long scopeTeacherId,
+        @Param("scopeSectionId") Long scopeSectionId);
+
+    @Query(VISIBLE_TEACHER_CLASSES + "AND tc.class_id = :classId")
+    Flux<TeacherClass> findVisibleByClassId(
+        @Param("classId") Long classId,
+        @Param("scopeTeacherId") Long scopeTeacherId,
+        @Param("scopeSectionId") Long scopeSectionId);
+
+    @Query(VISIBLE_TEACHER_CLASSES + "AND tc.teacher_id = :teacherId AND tc.status_id = :statusId")
+    Flux<TeacherClass> findVisibleByTeacherIdAndStatusId(
+        @Param("teacherId") Long teacherId,
+        @Param("statusId") Long statusId,
+        @Param("scopeTeacherId") Long scopeTeacherId,
+        @Param("scopeSectionId") Long scopeSectionId);
+
+    @Query(VISIBLE_TEACHER_CLASSES + "AND tc.semester_id = :semesterId AND tc.teacher_id = :teacherId")
+    Flux<TeacherClass> findVisibleBySemesterIdAndTeacherId(
+        @Param("semesterId") Long semesterId,
+        @Param("teacherId") Long teacherId,
+        @Param("scopeTeacherId") Long scopeTeacherId,
+        @Param("scopeSectionId") Long scopeSectionId);
+
+    @Query(VISIBLE_TEACHER_CLASSES + "AND tc.teacher_id = :teacherId AND tc.class_id = :classId")
+    Mono<TeacherClass> findVisibleByTeacherIdAndClassId(
+        @Param("teacherId") Long teacherId,
+        @Param("classId") Long classId,
+        @Param("scopeTeacherId") Long scopeTeacherId,
+        @Param("scopeSectionId") Long scopeSectionId);
+
+    @Query(VISIBLE_TEACHER_CLASSES + "AND tc.semester_id = :semesterId AND tc.status_id = :statusId")
+    Flux<TeacherClass> findVisibleBySemesterIdAndStatusId(
+        @Param("semesterId") Long semesterId,
+        @Param("statusId") Long statusId,
+        @Param("scopeTeacherId") Long scopeTeacherId,
+        @Param("scopeSectionId") Long scopeSectionId);
+
+    @Query(VISIBLE_TEACHER_CLASSES_PAGE)
+    Flux<TeacherClass> findVisiblePage(
+        @Param("semesterId") Long semesterId,
+        @Param("afterSemesterId") Long afterSemesterId,
+        @Param("afterId") Long afterId,
+        @Param("limit") int limit,
+        @Param("scopeTeacherId") Long scopeTeacherId,
+        @Param("scopeSectionId") Long scopeSectionId);
+
+    @Query("SELECT COUNT(*) " + VISIBLE_TEACHER_CLASSES_FROM + "AND tc.semester_id IS NOT NULL AND (:semesterId IS NULL OR tc.semester_id = :semesterId)")
+    Mono<Long> countVisible(
+        @Param("semesterId") Long semesterId,
+        @Param("scopeTeacherId") Long scopeTeacherId,
+        @Param("scopeSectionId") Long scopeSectionId);
 }
@@ -2,7 +2,10 @@ package co.edu.puj.secchub_backend.integration.service;
 
 import co.edu.puj.secchub_backend.admin.contract.AdminModuleSemesterContract;
 import co.edu.puj.secchub_backend.admin.contract.AdminModuleCourseContract;
-import co.edu.puj.secchub_backend.admin.contract.AdminModuleSectionContract;
+import co.edu.puj.secchub_backend.admin.contract.AdminModuleAccessScopeContract;
+import co.edu.puj.secchub_backend.config.KeysetPage;
+import co.edu.puj.secchub_backend.config.KeysetPageRequest;
+import co.edu.puj.secchub_backend.config.RowPredicate;
 import co.edu.puj.secchub_backend.integration.dto.AcademicRequestBatchRequestDTO;
 import co.edu.puj.secchub_backend.integration.dto.AcademicRequestRequestDTO;
 import co.edu.puj.secchub_backend.integration.dto.AcademicRequestResponseDTO;
@@ -16,14 +19,16 @@ import co.edu.puj.secchub_backend.integration.exception.AcademicRequestServerErr
 import co.edu.puj.secchub_backend.integration.exception.RequestScheduleNotFound;
 import co.edu.puj.secchub_backend.integration.model.AcademicRequest;
 import co.edu.puj.secchub_backend.integration.model.RequestSchedule;
+import co.edu.puj.secchub_backend.integration.repository.AcademicRequestBatchRepository;
 import co.edu.puj.secchub_backend.integration.repository.AcademicRequestRepository;
+import co.edu.puj.secchub_backend.integration.repository.BulkStatusTransitionRepository;
 import co.edu.puj.secchub_backend.integration.repository.RequestScheduleRepository;
 import co.edu.puj.secchub_backend.security.contract.SecurityModuleUserContract;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import org.modelmapper.ModelMapper;
-import org.springframework.security.core.Authentication;
+import org.reactivestreams.Publisher;
 import org.springframework.security.core.context.ReactiveSecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.reactive.TransactionalOperator;
@@ -37,6 +42,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.BiFunction;
 
 @Service
 @Slf4j
@@ -47,14 +53,18 @@ public class AcademicRequestService {
     
     private final AcademicRequestRepository academicRequestRepository;
     private final RequestScheduleRepository requestScheduleRepository;
+    private final AcademicRequestBatchRepository academicRequestBatchRepository;
+    private final BulkStatusTransitionRepository bulkStatusTransitionRepository;
 
     private final SecurityModuleUserContract userService;
     private final AdminModuleSemesterContract semesterService;
     private final AdminModuleCourseContract courseService;
-    private final AdminModuleSectionContract sectionService;
+    private final AdminModuleAccessScopeContract accessScopeService;
 
     /**
      * Creates a batch of academic requests with their associated schedules.
+     * Requests and schedules are written with multi-row inserts, and the user and course names
+     * are resolved once for the whole batch.
      * @param academicRequestBatchRequestDTO with batch request information
      * @return Flux of created academic requests
      */
@@ -65,34 +75,62 @@ public class AcademicRequestService {
         .flatMapMany(entry -> {
             Long userId = entry.getKey();
             Long currentSemesterId = entry.getValue();
-            
-            return Flux.fromIterable(payload.getRequests())
-                .flatMap(requestDTO -> {
+            List<AcademicRequestRequestDTO> requestDTOs = payload.getRequests();
+
+            if (requestDTOs.isEmpty()) {
+                return Flux.empty();
+            }
+
+            List<AcademicRequest> academicRequests = requestDTOs.stream()
+                .map(requestDTO -> {
                     AcademicRequest academicRequest = modelMapper.map(requestDTO, AcademicRequest.class);
                     academicRequest.setUserId(userId);
                     academicRequest.setSemesterId(currentSemesterId);
                     academicRequest.setRequestDate(LocalDate.now());
                     academicRequest.setAccepted(false);
                     academicRequest.setCombined(false);
+                    return academicRequest;
+                })
+                .toList();
+
+            return academicRequestBatchRepository.insertAll(academicRequests)
+                .collectList()
+                .flatMap(savedRequests -> {
+                    List<List<RequestSchedule>> schedulesPerRequest = new ArrayList<>(savedRequests.size());
+                    List<RequestSchedule> allSchedules = new ArrayList<>();
+                    for (int i = 0; i < savedRequests.size(); i++) {
+                        List<RequestScheduleRequestDTO> scheduleDTOs = requestDTOs.get(i).getSchedules();
+                        List<RequestSchedule> requestSchedules = new ArrayList<>();
+                        if (scheduleDTOs != null) {
+                            for (RequestScheduleRequestDTO scheduleDTO : scheduleDTOs) {
+                                RequestSchedule schedule = modelMapper.map(scheduleDTO, RequestSchedule.class);
+                                schedule.setAcademicRequestId(savedRequests.get(i).getId());
+                                schedule.setStartTime(LocalTime.parse(scheduleDTO.getStartTime()));
+                                schedule.setEndTime(LocalTime.parse(scheduleDTO.getEndTime()));
+                                requestSchedules.add(schedule);
+                            }
+                        }
+                        schedulesPerRequest.add(requestSchedules);
+                        allSchedules.addAll(requestSchedules);
+                    }
 
-                    return academicRequestRepository.save(academicRequest)
-                        .flatMap(savedRequest -> {
-                            if (requestDTO.getSchedules() == null || requestDTO.getSchedules().isEmpty()) {
-                                return mapToResponseDTO(savedRequest);
+                    List<Long> courseIds = savedRequests.stream()
+                        .map(AcademicRequest::getCourseId)
+                        .distinct()
+                        .toList();
+
+                    return academicRequestBatchRepository.insertAllSchedules(allSchedules)
+                        .then(Mono.zip(this.getUserName(), courseService.getCourseNames(courseIds)))
+                        .map(names -> {
+                            List<AcademicRequestResponseDTO> responses = new ArrayList<>(savedRequests.size());
+                            for (int i = 0; i < savedRequests.size(); i++) {
+                                responses.add(mapToResponseDTO(savedRequests.get(i), schedulesPerRequest.get(i),
+                                    names.getT1(), names.getT2()));
                             }
-                            
-                            return Flux.fromIterable(requestDTO.getSchedules())
-                                .flatMap(scheduleDTO -> {
-                                    RequestSchedule schedule = modelMapper.map(scheduleDTO, RequestSchedule.class);
-                                    schedule.setAcademicRequestId(savedRequest.getId());
-                                    schedule.setStartTime(LocalTime.parse(scheduleDTO.getStartTime()));
-                                    schedule.setEndTime(LocalTime.parse(scheduleDTO.getEndTime()));
-                                    return requestScheduleRepository.save(schedule);
-                                })
-                                .collectList()
-                                .flatMap(schedules -> mapToResponseDTO(savedRequest, schedules));
+                            return responses;
                         });
-                });
+                })
+                .flatMapIterable(responses -> responses);
         })
         .as(transactionalOperator::transactional)
         .onErrorMap(ex -> {
@@ -108,11 +146,12 @@ public class AcademicRequestService {
      * @return List of academic requests for the current semester
      */
     public Flux<AcademicRequestResponseDTO> findCurrentSemesterAcademicRequests() {
+        Mono<String> userName = getUserName().cache();
         return semesterService.getCurrentSemesterId()
             .flatMapMany(currentSemesterId -> 
-                academicRequestRepository.findBySemesterId(currentSemesterId)
-                    .filterWhen(this::filterByUserRole)
-                    .flatMap(this::getClassSchedulesForRequest)
+                findVisible((scopeUserId, scopeSectionId) ->
+                        academicRequestRepository.findVisibleBySemesterId(currentSemesterId, scopeUserId, scopeSectionId))
+                    .flatMap(request -> getClassSchedulesForRequest(request, userName))
             );
     }
 
@@ -122,9 +161,10 @@ public class AcademicRequestService {
      * @return List of academic requests for the specified semester and user
      */
     public Flux<AcademicRequestResponseDTO> findAcademicRequestsBySemesterAndUser(Long semesterId) {
-        return academicRequestRepository.findBySemesterId(semesterId)
-            .filterWhen(this::filterByUserRole)
-            .flatMap(this::getClassSchedulesForRequest);
+        Mono<String> userName = getUserName().cache();
+        return findVisible((scopeUserId, scopeSectionId) ->
+                academicRequestRepository.findVisibleBySemesterId(semesterId, scopeUserId, scopeSectionId))
+            .flatMap(request -> getClassSchedulesForRequest(request, userName));
     }
 
     /**
@@ -132,9 +172,36 @@ public class AcademicRequestService {
      * @return List of academic requests
      */
     public Flux<AcademicRequestResponseDTO> findAllAcademicRequests() {
-        return academicRequestRepository.findAll()
-            .filterWhen(this::filterByUserRole)
-            .flatMap(this::getClassSchedulesForRequest);
+        Mono<String> userName = getUserName().cache();
+        return findVisible(academicRequestRepository::findAllVisible)
+            .flatMap(request -> getClassSchedulesForRequest(request, userName));
+    }
+
+    /**
+     * Gets a page of academic requests ordered by semester and ID.
+     * @param semesterId Semester ID, null for every semester
+     * @param cursor Cursor returned with the previous page, null for the first page
+     * @param size Requests per page, capped at {@link KeysetPageRequest#MAX_SIZE}
+     * @param includeTotal Whether to count the requests of every page
+     * @return Page of academic requests
+     * @throws AcademicRequestBadRequest if the cursor or the size is invalid
+     */
+    public Mono<KeysetPage<AcademicRequestResponseDTO>> findAcademicRequestsPage(Long semesterId, String cursor, Integer size, boolean includeTotal) {
+        Mono<String> userName = getUserName().cache();
+        return Mono.fromCallable(() -> KeysetPageRequest.of(cursor, size, includeTotal))
+            .onErrorMap(IllegalArgumentException.class, e -> new AcademicRequestBadRequest(e.getMessage()))
+            .zipWith(visibleRequests())
+            .flatMap(tuple -> {
+                KeysetPageRequest page = tuple.getT1();
+                RowPredicate visible = tuple.getT2();
+                return page.read(
+                    visible.select(predicate -> academicRequestRepository.findVisiblePage(semesterId, page.afterSemesterId(),
+                        page.afterId(), page.fetchSize(), predicate.scopeUserId(), predicate.scopeSectionId())),
+                    AcademicRequest::getSemesterId, AcademicRequest::getId,
+                    request -> getClassSchedulesForRequest(request, userName),
+                    () -> visible.count(predicate ->
+                        academicRequestRepository.countVisible(semesterId, predicate.scopeUserId(), predicate.scopeSectionId())));
+            });
     }
 
     /**
@@ -146,7 +213,7 @@ public class AcademicRequestService {
         return academicRequestRepository.findById(requestId)
             .filterWhen(this::filterByUserRole)
             .switchIfEmpty(Mono.error(new AcademicRequestNotFound("AcademicRequest not found: " + requestId)))
-            .flatMap(this::getClassSchedulesForRequest);
+            .flatMap(request -> getClassSchedulesForRequest(request, getUserName()));
     }
 
     /**
@@ -181,7 +248,7 @@ public class AcademicRequestService {
                 modelMapper.map(academicRequestRequestDTO, request);
                 return academicRequestRepository.save(request);
             })
-            .flatMap(this::mapToResponseDTO)
+            .flatMap(request -> mapToResponseDTO(request, getUserName()))
             .onErrorMap(error -> {
                 if (error instanceof AcademicRequestNotFound) {
                     return error;
@@ -399,27 +466,20 @@ public class AcademicRequestService {
 
     /**
      * Updates the original academic requests to indicate they were combined.
+     * The combination note is appended to every source request with a single statement.
      */
     private Mono<Void> updateOriginalRequestsWithCombination(List<Long> sourceIds, String combinationNote) {
         if (sourceIds == null || sourceIds.isEmpty()) {
             return Mono.empty();
         }
 
-        return Flux.fromIterable(sourceIds)
-            .flatMap(sourceId -> 
-                academicRequestRepository.findById(sourceId)
-                    .flatMap(academicRequest -> {
-                        String currentObservation = academicRequest.getObservation() != null ? academicRequest.getObservation() : "";
-                        academicRequest.setObservation(currentObservation + "\n" + combinationNote);
-                        return academicRequestRepository.save(academicRequest);
-                    })
-                    .then()
-                    .onErrorResume(e -> {
-                        log.error("Error updating request with combination: {}", e.getMessage());
-                        return Mono.empty();
-                    })
-            )
-            .then();
+        return bulkStatusTransitionRepository.appendAcademicRequestObservation(sourceIds, combinationNote)
+            .doOnNext(updated -> log.debug("Appended combination note to {} academic requests", updated))
+            .then()
+            .onErrorResume(e -> {
+                log.error("Error updating requests with combination: {}", e.getMessage());
+                return Mono.empty();
+            });
     }
 
     /**
@@ -469,22 +529,14 @@ public class AcademicRequestService {
     /**
      * Marks multiple academic requests as accepted.
      * @param requestIds List of request IDs to mark as accepted
-     * @return Mono indicating completion
+     * @return Mono with the number of updated requests
      */
-    public Mono<Void> markMultipleAsAccepted(List<Long> requestIds) {
+    public Mono<Long> markMultipleAsAccepted(List<Long> requestIds) {
         if (requestIds == null || requestIds.isEmpty()) {
-            return Mono.empty();
+            return Mono.just(0L);
         }
 
-        return academicRequestRepository.findAllById(requestIds)
-            .doOnNext(request -> request.setAccepted(true))
-            .collectList()
-            .flatMap(requests -> {
-                if (requests.isEmpty()) {
-                    return Mono.empty();
-                }
-                return academicRequestRepository.saveAll(requests).then();
-            })
+        return bulkStatusTransitionRepository.markAcademicRequestsAccepted(requestIds)
             .onErrorMap(error -> {
                 log.error("Error marking multiple requests as accepted: {}", error.getMessage(), error);
                 throw new AcademicRequestServerErrorException("Failed to mark multiple requests as accepted");
@@ -494,22 +546,14 @@ public class AcademicRequestService {
     /**
      * Marks multiple academic requests as combined.
      * @param requestIds List of request IDs to mark as combined
-     * @return Mono indicating completion
+     * @return Mono with the number of updated requests
      */
-    public Mono<Void> markMultipleAsCombined(List<Long> requestIds) {
+    public Mono<Long> markMultipleAsCombined(List<Long> requestIds) {
         if (requestIds == null || requestIds.isEmpty()) {
-            return Mono.empty();
+            return Mono.just(0L);
         }
 
-        return academicRequestRepository.findAllById(requestIds)
-            .doOnNext(request -> request.setCombined(true))
-            .collectList()
-            .flatMap(requests -> {
-                if (requests.isEmpty()) {
-                    return Mono.empty();
-                }
-                return academicRequestRepository.saveAll(requests).then();
-            })
+        return bulkStatusTransitionRepository.markAcademicRequestsCombined(requestIds)
             .onErrorMap(error -> {
                 log.error("Error marking multiple requests as combined: {}", error.getMessage(), error);
                 throw new AcademicRequestServerErrorException("Failed to mark multiple requests as combined");
@@ -523,42 +567,47 @@ public class AcademicRequestService {
     /**
      * Gets class schedules for a given academic request.
      * @param academicRequest The academic request
+     * @param userName Full name of the logged-in user, shared by every request of a list
      * @return AcademicRequestResponseDTO with schedules
      */
-    private Mono<AcademicRequestResponseDTO> getClassSchedulesForRequest(AcademicRequest academicRequest) {
+    private Mono<AcademicRequestResponseDTO> getClassSchedulesForRequest(AcademicRequest academicRequest, Mono<String> userName) {
         return requestScheduleRepository.findByAcademicRequestId(academicRequest.getId())
             .collectList()
-            .flatMap(schedules -> mapToResponseDTO(academicRequest, schedules));
+            .flatMap(schedules -> mapToResponseDTO(academicRequest, schedules, userName));
     }
 
     /**
      * Maps a saved academic request and its schedules to a response DTO.
      * @param savedRequest
+     * @param userName Full name of the logged-in user
      * @return AcademicRequestResponseDTO without schedules
      */
-    private Mono<AcademicRequestResponseDTO> mapToResponseDTO(AcademicRequest savedRequest) {
+    private Mono<AcademicRequestResponseDTO> mapToResponseDTO(AcademicRequest savedRequest, Mono<String> userName) {
         AcademicRequestResponseDTO responseDTO = modelMapper.map(savedRequest, AcademicRequestResponseDTO.class);
 
         return courseService.getCourseName(savedRequest.getCourseId())
             .flatMap(courseName ->{
                 responseDTO.setCourseName(courseName);
-                return this.getUserName();
+                return userName;
             })
-            .map(userName -> {
-                responseDTO.setUserName(userName);
-                responseDTO.setProgramName(userName);
+            .map(name -> {
+                responseDTO.setUserName(name);
+                responseDTO.setProgramName(name);
                 return responseDTO;
             });
     }
 
     /**
-     * Obtains currently logged-in user's full name.
+     * Obtains currently logged-in user's full name from the user directory.
      * @return User's full name
      */
     private Mono<String> getUserName() {
         return ReactiveSecurityContextHolder.getContext()
             .flatMap(securityContext -> Mono.just(securityContext.getAuthentication().getName()))
-            .flatMap(userService::getUserInformationByEmail)
+            .flatMap(email -> userService.getUserInformationByEmails(List.of(email))
+                .next()
+                .switchIfEmpty(Mono.error(new AcademicRequestServerErrorException(
+                    "User information not found for logged user with email: " + email))))
             .map(userInfo -> userInfo.getName() + " " + userInfo.getLastName());
     }
 
@@ -566,10 +615,12 @@ public class AcademicRequestService {
      * Maps a saved academic request and its schedules to a response DTO.
      * @param savedRequest The saved academic request
      * @param schedules The associated schedules
+     * @param userName Full name of the logged-in user
      * @return AcademicRequestResponseDTO with schedules
      */
-    private Mono<AcademicRequestResponseDTO> mapToResponseDTO(AcademicRequest savedRequest, List<RequestSchedule> schedules) {
-        return mapToResponseDTO(savedRequest)
+    private Mono<AcademicRequestResponseDTO> mapToResponseDTO(AcademicRequest savedRequest, List<RequestSchedule> schedules,
+                                                              Mono<String> userName) {
+        return mapToResponseDTO(savedRequest, userName)
             .map(responseDTO -> {
                 List<RequestScheduleResponseDTO> scheduleDTOs = schedules.stream()
                     .map(schedule -> modelMapper.map(schedule, RequestScheduleResponseDTO.class))
@@ -578,6 +629,28 @@ public class AcademicRequestService {
                 return responseDTO;
             });
     }
+
+    /**
+     * Maps a saved academic request and its schedules to a response DTO using already resolved names.
+     * @param savedRequest The saved academic request
+     * @param schedules The associated schedules
+     * @param userName Full name of the user who made the request
+     * @param courseNames Course names by course ID
+     * @return AcademicRequestResponseDTO with schedules
+     */
+    private AcademicRequestResponseDTO mapToResponseDTO(AcademicRequest savedRequest, List<RequestSchedule> schedules,
+                                                        String userName, Map<Long, String> courseNames) {
+        AcademicRequestResponseDTO responseDTO = modelMapper.map(savedRequest, AcademicRequestResponseDTO.class);
+        responseDTO.setCourseName(courseNames.getOrDefault(savedRequest.getCourseId(), "N/A"));
+        responseDTO.setUserName(userName);
+        responseDTO.setProgramName(userName);
+        if (!schedules.isEmpty()) {
+            responseDTO.setSchedules(schedules.stream()
+                .map(schedule -> modelMapper.map(schedule, RequestScheduleResponseDTO.class))
+                .toList());
+        }
+        return responseDTO;
+    }
     
     /**
      * Obtains the user id from current security context
@@ -598,40 +671,29 @@ public class AcademicRequestService {
      * @return Mono<Boolean> containing true if the request is under users' domain
      */
     private Mono<Boolean> filterByUserRole(AcademicRequest academicRequest) {
-        return ReactiveSecurityContextHolder.getContext()
-            .flatMap(securityContext -> {
-                Authentication authentication = securityContext.getAuthentication();
-                
-                // Check if user has ADMIN role
-                boolean isAdmin = authentication.getAuthorities().stream()
-                    .anyMatch(authority -> authority.getAuthority().equals("ROLE_ADMIN"));
-                
-                if (isAdmin) {
-                    // Admin can see all classes
-                    return Mono.just(true);
-                }
-
-                // For ROLE_SECTION users, filter by their section
-                String userEmail = authentication.getName();
-
-                // Check if user has PROGRAM role
-                boolean isProgram = authentication.getAuthorities().stream()
-                    .anyMatch(authority -> authority.getAuthority().equals("ROLE_PROGRAM"));
+        return visibleRequests()
+            .flatMap(visible -> visible.allows(null, academicRequest.getUserId(),
+                () -> courseService.getCourseSectionId(academicRequest.getCourseId())));
+    }
 
-                if (isProgram) {
-                    return userService.getUserIdByEmail(userEmail)
-                        .flatMap(programId -> Mono.just(programId.equals(academicRequest.getUserId())));
-                }
+    /**
+     * Runs an academic request query restricted to the requests the current user can see.
+     * @param query Query taking the scope user ID and scope section ID, null when not restricted by them
+     * @return Flux of visible academic requests
+     */
+    private Flux<AcademicRequest> findVisible(BiFunction<Long, Long, Publisher<AcademicRequest>> query) {
+        return visibleRequests()
+            .flatMapMany(visible -> visible.select(predicate ->
+                query.apply(predicate.scopeUserId(), predicate.scopeSectionId())));
+    }
 
-                return userService.getUserIdByEmail(userEmail)
-                    .flatMap(sectionService::getSectionIdByUserId)
-                    .flatMap(sectionId -> 
-                        courseService.getCourseSectionId(academicRequest.getCourseId())
-                    .flatMap(courseSectionId -> 
-                        Mono.just(sectionId.equals(courseSectionId)))
-                    )
-                    .defaultIfEmpty(false);
-            })
-            .defaultIfEmpty(false);
+    /**
+     * Builds the predicate of the academic requests the current user can see:
+     * admins see every request, programs the requests they created and other users those for their section's courses.
+     * @return Mono with the predicate
+     */
+    private Mono<RowPredicate> visibleRequests() {
+        return accessScopeService.getCurrentAccessScope()
+            .map(scope -> scope.rows().programsSeeOwn().bySection().build());
     }
-}
\ No newline at end of file
+}
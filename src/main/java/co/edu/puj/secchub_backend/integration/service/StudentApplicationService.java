@@ -1,8 +1,11 @@
 package co.edu.puj.secchub_backend.integration.service;
 
+import co.edu.puj.secchub_backend.admin.contract.AdminModuleAccessScopeContract;
 import co.edu.puj.secchub_backend.admin.contract.AdminModuleCourseContract;
-import co.edu.puj.secchub_backend.admin.contract.AdminModuleSectionContract;
 import co.edu.puj.secchub_backend.admin.contract.AdminModuleSemesterContract;
+import co.edu.puj.secchub_backend.config.KeysetPage;
+import co.edu.puj.secchub_backend.config.KeysetPageRequest;
+import co.edu.puj.secchub_backend.config.RowPredicate;
 import co.edu.puj.secchub_backend.integration.contract.IntegrationModuleStudentApplicationContract;
 import co.edu.puj.secchub_backend.integration.dto.*;
 import co.edu.puj.secchub_backend.integration.exception.StudentApplicationBadRequestException;
@@ -14,7 +17,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import org.modelmapper.ModelMapper;
-import org.springframework.security.core.Authentication;
+import org.reactivestreams.Publisher;
 import org.springframework.security.core.context.ReactiveSecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.reactive.TransactionalOperator;
@@ -25,6 +28,7 @@ import reactor.core.publisher.Mono;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.List;
+import java.util.function.Function;
 
 
 @Service
@@ -40,7 +44,7 @@ public class StudentApplicationService implements IntegrationModuleStudentApplic
     private final SecurityModuleUserContract userService;
 
     private final AdminModuleSemesterContract semesterService;
-    private final AdminModuleSectionContract sectionService;
+    private final AdminModuleAccessScopeContract accessScopeService;
     private final AdminModuleCourseContract courseService;
 
     private static final Long STATUS_PENDING_ID = 4L;
@@ -100,8 +104,8 @@ public class StudentApplicationService implements IntegrationModuleStudentApplic
     public Flux<StudentApplicationResponseDTO> listCurrentSemesterStudentApplications() {
         return semesterService.getCurrentSemesterId()
             .flatMapMany(currentSemesterId ->
-                studentApplicationRepository.findBySemesterId(currentSemesterId)
-                    .filterWhen(this::filterByUserRole)
+                findVisible(scopeSectionId ->
+                        studentApplicationRepository.findVisibleBySemesterId(currentSemesterId, scopeSectionId))
                     .flatMap(this::getStudentApplicationWithSchedules)
             );
     }
@@ -112,11 +116,37 @@ public class StudentApplicationService implements IntegrationModuleStudentApplic
      * @return Flux of all student applications
      */
     public Flux<StudentApplicationResponseDTO> listAllStudentApplications() {
-        return studentApplicationRepository.findAll()
-            .filterWhen(this::filterByUserRole)
+        return findVisible(studentApplicationRepository::findAllVisible)
             .flatMap(this::getStudentApplicationWithSchedules);
     }
 
+    /**
+     * Obtains a page of student applications ordered by semester and ID.
+     * If the current user has ROLE_SECTION, only applications for their section are returned.
+     * @param semesterId Semester ID, null for every semester
+     * @param cursor Cursor returned with the previous page, null for the first page
+     * @param size Applications per page, capped at {@link KeysetPageRequest#MAX_SIZE}
+     * @param includeTotal Whether to count the applications of every page
+     * @return Mono with the page of student applications
+     * @throws StudentApplicationBadRequestException if the cursor or the size is invalid
+     */
+    public Mono<KeysetPage<StudentApplicationResponseDTO>> listStudentApplicationsPage(Long semesterId, String cursor, Integer size, boolean includeTotal) {
+        return Mono.fromCallable(() -> KeysetPageRequest.of(cursor, size, includeTotal))
+            .onErrorMap(IllegalArgumentException.class, e -> new StudentApplicationBadRequestException(e.getMessage()))
+            .zipWith(visibleApplications())
+            .flatMap(tuple -> {
+                KeysetPageRequest page = tuple.getT1();
+                RowPredicate visible = tuple.getT2();
+                return page.read(
+                    visible.select(predicate -> studentApplicationRepository.findVisiblePage(semesterId,
+                        page.afterSemesterId(), page.afterId(), page.fetchSize(), predicate.scopeSectionId())),
+                    StudentApplication::getSemesterId, StudentApplication::getId,
+                    this::getStudentApplicationWithSchedules,
+                    () -> visible.count(predicate ->
+                        studentApplicationRepository.countVisible(semesterId, predicate.scopeSectionId())));
+            });
+    }
+
     /**
      * Finds a student application by its ID.
      * If the current user has ROLE_SECTION, only the application for their section is returned.
@@ -137,8 +167,8 @@ public class StudentApplicationService implements IntegrationModuleStudentApplic
      * @return Flux of student applications with the given status ID
      */
     public Flux<StudentApplicationResponseDTO> listStudentApplicationsByStatus(Long statusId) {
-        return studentApplicationRepository.findByStatusId(statusId)
-            .filterWhen(this::filterByUserRole)
+        return findVisible(scopeSectionId ->
+                studentApplicationRepository.findVisibleByStatusId(statusId, scopeSectionId))
             .flatMap(this::getStudentApplicationWithSchedules);
     }
 
@@ -149,8 +179,8 @@ public class StudentApplicationService implements IntegrationModuleStudentApplic
      * @return Flux of student applications for the given section
      */
     public Flux<StudentApplicationResponseDTO> listStudentApplicationsForSection(Long sectionId) {
-        return studentApplicationRepository.findRequestsForSection(sectionId)
-            .filterWhen(this::filterByUserRole)
+        return findVisible(scopeSectionId ->
+                studentApplicationRepository.findVisibleRequestsForSection(sectionId, scopeSectionId))
             .flatMap(this::getStudentApplicationWithSchedules);
     }
 
@@ -247,21 +277,26 @@ public class StudentApplicationService implements IntegrationModuleStudentApplic
     @Override
     public Mono<Boolean> isApplicationOfSection(Long applicationId, Long sectionId) {
         return studentApplicationRepository.findById(applicationId)
-                .flatMap(application -> {
-                    if (application.getSectionId() != null) {
-                        return Mono.just(application.getSectionId().equals(sectionId));
-                    }
-
-                    if (application.getCourseId() != null){
-                        return courseService.getCourseSectionId(application.getCourseId())
-                                .map(secId -> secId.equals(sectionId));
-                    }
-
-                    return Mono.just(false);
-                })
+                .flatMap(this::getApplicationSectionId)
+                .map(applicationSectionId -> applicationSectionId.equals(sectionId))
                 .switchIfEmpty(Mono.just(false));
     }
 
+    /**
+     * Obtains the section of a student application: its own section or else the section of its course.
+     * @param application Student application
+     * @return Mono with the section ID, empty when the application has neither
+     */
+    private Mono<Long> getApplicationSectionId(StudentApplication application) {
+        if (application.getSectionId() != null) {
+            return Mono.just(application.getSectionId());
+        }
+        if (application.getCourseId() != null) {
+            return courseService.getCourseSectionId(application.getCourseId());
+        }
+        return Mono.empty();
+    }
+
     /**
      * Searches for the logged-in user's ID.
      * If the user has already a student application for the given semester, with same section/course, it returns empty.
@@ -303,26 +338,27 @@ public class StudentApplicationService implements IntegrationModuleStudentApplic
      * @return Mono<Boolean> indicating if the user has access to the application
      */
     private Mono<Boolean> filterByUserRole(StudentApplication application) {
-        return ReactiveSecurityContextHolder.getContext()
-            .flatMap(securityContext -> {
-                Authentication authentication = securityContext.getAuthentication();
-                
-                // Check if user has ADMIN role
-                boolean isAdmin = authentication.getAuthorities().stream()
-                    .anyMatch(authority -> authority.getAuthority().equals("ROLE_ADMIN"));
-                
-                if (isAdmin) {
-                    // Admin can see all classes
-                    return Mono.just(true);
-                }
+        return visibleApplications()
+            .flatMap(visible -> visible.allows(null, null, () -> getApplicationSectionId(application)));
+    }
 
-                // For ROLE_SECTION users, filter by their section
-                String userEmail = authentication.getName();
+    /**
+     * Runs a student application query restricted to the applications the current user can see.
+     * @param query Query taking the scope section ID, null when not restricted by section
+     * @return Flux of visible student applications
+     */
+    private Flux<StudentApplication> findVisible(Function<Long, Publisher<StudentApplication>> query) {
+        return visibleApplications()
+            .flatMapMany(visible -> visible.select(predicate -> query.apply(predicate.scopeSectionId())));
+    }
 
-                return userService.getUserIdByEmail(userEmail)
-                    .flatMap(sectionService::getSectionIdByUserId)
-                    .flatMap(userSection -> this.isApplicationOfSection(application.getId(), userSection));
-            })
-            .defaultIfEmpty(false);
+    /**
+     * Builds the predicate of the student applications the current user can see:
+     * admins see every application and other users those of their section.
+     * @return Mono with the predicate
+     */
+    private Mono<RowPredicate> visibleApplications() {
+        return accessScopeService.getCurrentAccessScope()
+            .map(scope -> scope.rows().bySection().build());
     }
 }
@@ -1,32 +1,46 @@
 package co.edu.puj.secchub_backend.integration.service;
 
-import co.edu.puj.secchub_backend.admin.contract.AdminModuleSectionContract;
+import co.edu.puj.secchub_backend.admin.contract.AdminModuleAccessScopeContract;
 import co.edu.puj.secchub_backend.admin.contract.AdminModuleSemesterContract;
 import co.edu.puj.secchub_backend.admin.contract.AdminModuleTeacherContract;
 import co.edu.puj.secchub_backend.admin.contract.TeacherResponseDTO;
+import co.edu.puj.secchub_backend.config.KeysetPage;
+import co.edu.puj.secchub_backend.config.KeysetPageRequest;
+import co.edu.puj.secchub_backend.config.RowPredicate;
 import co.edu.puj.secchub_backend.integration.dto.TeacherClassAssignHoursRequestDTO;
 import co.edu.puj.secchub_backend.integration.dto.TeacherClassAssignHoursResponseDTO;
 import co.edu.puj.secchub_backend.integration.dto.TeacherClassRequestDTO;
 import co.edu.puj.secchub_backend.integration.dto.TeacherClassResponseDTO;
+import co.edu.puj.secchub_backend.integration.dto.TeacherWorkloadResponseDTO;
+import co.edu.puj.secchub_backend.integration.exception.BusinessException;
 import co.edu.puj.secchub_backend.integration.exception.TeacherClassNotFoundException;
 import co.edu.puj.secchub_backend.integration.exception.TeacherClassServerErrorException;
 import co.edu.puj.secchub_backend.integration.model.TeacherClass;
+import co.edu.puj.secchub_backend.integration.repository.BulkStatusTransitionRepository;
 import co.edu.puj.secchub_backend.integration.repository.TeacherClassRepository;
 import co.edu.puj.secchub_backend.planning.contract.PlanningModuleClassContract;
 import co.edu.puj.secchub_backend.security.contract.SecurityModuleUserContract;
+import co.edu.puj.secchub_backend.security.contract.UserInformationResponseDTO;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BiFunction;
 
 import org.modelmapper.ModelMapper;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.reactivestreams.Publisher;
+import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.reactive.TransactionalOperator;
 
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.util.function.Tuple2;
+import reactor.util.function.Tuples;
 
 /**
  * Service handling business logic for HU17 (Professor availability).
@@ -37,12 +51,14 @@ import reactor.core.publisher.Mono;
 @RequiredArgsConstructor
 public class TeacherClassService {
     private final SecurityModuleUserContract userService;
-    private final AdminModuleSectionContract sectionService;
+    private final AdminModuleAccessScopeContract accessScopeService;
     private final AdminModuleSemesterContract semesterService;
     private final PlanningModuleClassContract classService;
     private final AdminModuleTeacherContract teacherService;
 
     private final TeacherClassRepository repository;
+    private final BulkStatusTransitionRepository bulkStatusTransitionRepository;
+    private final TeacherWorkloadProjection teacherWorkloadProjection;
     private final ModelMapper modelMapper;
     private final TransactionalOperator transactionalOperator;
 
@@ -63,6 +79,10 @@ public class TeacherClassService {
                 teacherClass.setSemesterId(currentSemesterId);
                 return repository.save(teacherClass);
             })
+            .doOnNext(saved -> {
+                teacherWorkloadProjection.applyDelta(saved.getSemesterId(), saved.getTeacherId(), saved.getWorkHours());
+                classService.classAssignmentsChanged(saved.getClassId());
+            })
             .map(saved -> modelMapper.map(saved, TeacherClassResponseDTO.class))
             .onErrorMap(error -> {
                 log.error("Error creating TeacherClass: {}", error.getMessage());
@@ -78,8 +98,8 @@ public class TeacherClassService {
     public Flux<TeacherClassResponseDTO> listCurrentSemesterTeacherClasses() {
         return semesterService.getCurrentSemesterId()
             .flatMapMany(currentSemesterId ->
-                repository.findBySemesterId(currentSemesterId)
-                    .filterWhen(this::filterTeacherClass)
+                findVisible((scopeTeacherId, scopeSectionId) ->
+                        repository.findVisibleBySemesterId(currentSemesterId, scopeTeacherId, scopeSectionId))
                     .map(teacherClass -> modelMapper.map(teacherClass, TeacherClassResponseDTO.class))
             )
             .onErrorMap(error -> {
@@ -97,8 +117,8 @@ public class TeacherClassService {
     public Flux<TeacherClassResponseDTO> listCurrentSemesterTeacherClassesByTeacher(Long teacherId) {
         return semesterService.getCurrentSemesterId()
             .flatMapMany(currentSemesterId ->
-                repository.findBySemesterIdAndTeacherId(currentSemesterId, teacherId)
-                    .filterWhen(this::filterTeacherClass)
+                findVisible((scopeTeacherId, scopeSectionId) ->
+                        repository.findVisibleBySemesterIdAndTeacherId(currentSemesterId, teacherId, scopeTeacherId, scopeSectionId))
                     .map(teacherClass -> modelMapper.map(teacherClass, TeacherClassResponseDTO.class))
             )
             .onErrorMap(error -> {
@@ -114,8 +134,8 @@ public class TeacherClassService {
      * @return Flux of TeacherClassResponseDTO
      */
     public Flux<TeacherClassResponseDTO> listAllTeacherClassByTeacher(Long teacherId) {
-        return repository.findByTeacherId(teacherId)
-            .filterWhen(this::filterTeacherClass)
+        return findVisible((scopeTeacherId, scopeSectionId) ->
+                repository.findVisibleByTeacherId(teacherId, scopeTeacherId, scopeSectionId))
             .map(teacherClass -> modelMapper.map(teacherClass, TeacherClassResponseDTO.class))
             .onErrorMap(error -> {
                 log.error("Error listing all teacher classes by teacher: {}", error.getMessage());
@@ -123,6 +143,40 @@ public class TeacherClassService {
             });
     }
 
+    /**
+     * Lists a page of teacher classes ordered by semester and ID.
+     * If the current user has ROLE_SECTION, only teacher classes for their section are returned.
+     * @param semesterId Semester ID, null for every semester
+     * @param cursor Cursor returned with the previous page, null for the first page
+     * @param size Teacher classes per page, capped at {@link KeysetPageRequest#MAX_SIZE}
+     * @param includeTotal Whether to count the teacher classes of every page
+     * @return Mono with the page of TeacherClassResponseDTO
+     * @throws BusinessException if the cursor or the size is invalid
+     */
+    public Mono<KeysetPage<TeacherClassResponseDTO>> listTeacherClassesPage(Long semesterId, String cursor, Integer size, boolean includeTotal) {
+        return Mono.fromCallable(() -> KeysetPageRequest.of(cursor, size, includeTotal))
+            .onErrorMap(IllegalArgumentException.class, error -> new BusinessException(error.getMessage()))
+            .zipWith(visibleTeacherClasses())
+            .flatMap(tuple -> {
+                KeysetPageRequest page = tuple.getT1();
+                RowPredicate visible = tuple.getT2();
+                return page.read(
+                    visible.select(predicate -> repository.findVisiblePage(semesterId, page.afterSemesterId(),
+                        page.afterId(), page.fetchSize(), predicate.scopeTeacherId(), predicate.scopeSectionId())),
+                    TeacherClass::getSemesterId, TeacherClass::getId,
+                    teacherClass -> Mono.just(modelMapper.map(teacherClass, TeacherClassResponseDTO.class)),
+                    () -> visible.count(predicate ->
+                        repository.countVisible(semesterId, predicate.scopeTeacherId(), predicate.scopeSectionId())));
+            })
+            .onErrorMap(error -> {
+                if (error instanceof BusinessException) {
+                    return error;
+                }
+                log.error("Error listing page of teacher classes: {}", error.getMessage());
+                return new TeacherClassServerErrorException("Failed to list page of teacher classes");
+            });
+    }
+
     /**
      * Lists all classes pending decision for the current semester.
      * @return Flux of TeacherClassResponseDTO with pending decision
@@ -130,8 +184,8 @@ public class TeacherClassService {
     public Flux<TeacherClassResponseDTO> listPendingDecisionClassesForCurrentSemester() {
         return semesterService.getCurrentSemesterId()
             .flatMapMany(currentSemesterId ->
-                repository.findBySemesterIdAndStatusId(currentSemesterId, STATUS_PENDING_ID)
-                    .filterWhen(this::filterTeacherClass)
+                findVisible((scopeTeacherId, scopeSectionId) ->
+                        repository.findVisibleBySemesterIdAndStatusId(currentSemesterId, STATUS_PENDING_ID, scopeTeacherId, scopeSectionId))
                     .map(teacherClass -> modelMapper.map(teacherClass, TeacherClassResponseDTO.class))
             )
             .onErrorMap(error -> {
@@ -148,8 +202,8 @@ public class TeacherClassService {
      * @return Flux of TeacherClassResponseDTO
      */
     public Flux<TeacherClassResponseDTO> listTeacherClassByStatus(Long teacherId, Long statusId) {
-        return repository.findByTeacherIdAndStatusId(teacherId, statusId)
-            .filterWhen(this::filterTeacherClass)
+        return findVisible((scopeTeacherId, scopeSectionId) ->
+                repository.findVisibleByTeacherIdAndStatusId(teacherId, statusId, scopeTeacherId, scopeSectionId))
             .map(teacherClass -> modelMapper.map(teacherClass, TeacherClassResponseDTO.class))
             .onErrorMap(error -> {
                 log.error("Error listing teacher classes by status: {}", error.getMessage());
@@ -164,8 +218,8 @@ public class TeacherClassService {
      * @return Flux of TeacherClassResponseDTO for the given class ID
      */
     public Flux<TeacherClassResponseDTO> listTeacherClassByClassId(Long classId) {
-        return repository.findByClassId(classId)
-            .filterWhen(this::filterTeacherClass)
+        return findVisible((scopeTeacherId, scopeSectionId) ->
+                repository.findVisibleByClassId(classId, scopeTeacherId, scopeSectionId))
             .map(teacherClass -> modelMapper.map(teacherClass, TeacherClassResponseDTO.class))
             .onErrorMap(error -> {
                 log.error("Error listing teacher classes by class ID: {}", error.getMessage());
@@ -181,18 +235,8 @@ public class TeacherClassService {
      * @return updated TeacherClassResponseDTO
      */
     public Mono<TeacherClassResponseDTO> acceptTeacherClass(Long teacherClassId, String observation) {
-        return repository.findById(teacherClassId)
-            .filterWhen(this::filterTeacherClass)
-            .switchIfEmpty(Mono.error(new TeacherClassNotFoundException(
-                "TeacherClass not found for acceptance with id: " + teacherClassId)))
-            .flatMap(teacherClass -> {
-                teacherClass.setDecision(true);
-                teacherClass.setStatusId(STATUS_ACCEPTED_ID);
-                teacherClass.setObservation(observation);
-                return repository.save(teacherClass);
-            })
-            .map(saved -> modelMapper.map(saved, TeacherClassResponseDTO.class))
-            .as(transactionalOperator::transactional)
+        return transitionTeacherClass(teacherClassId, true, STATUS_ACCEPTED_ID, observation,
+                "TeacherClass not found for acceptance with id: " + teacherClassId)
             .onErrorMap(error -> {
                 if (error instanceof TeacherClassNotFoundException) {
                     return error;
@@ -210,18 +254,8 @@ public class TeacherClassService {
      * @return updated TeacherClassResponseDTO
      */
     public Mono<TeacherClassResponseDTO> rejectTeacherClass(Long teacherClassId, String observation) {
-        return repository.findById(teacherClassId)
-            .filterWhen(this::filterTeacherClass)
-            .switchIfEmpty(Mono.error(new TeacherClassNotFoundException(
-                "TeacherClass not found for rejection with id: " + teacherClassId)))
-            .flatMap(teacherClass -> {
-                teacherClass.setDecision(false);
-                teacherClass.setStatusId(STATUS_REJECTED_ID);
-                teacherClass.setObservation(observation);
-                return repository.save(teacherClass);
-            })
-            .map(saved -> modelMapper.map(saved, TeacherClassResponseDTO.class))
-            .as(transactionalOperator::transactional)
+        return transitionTeacherClass(teacherClassId, false, STATUS_REJECTED_ID, observation,
+                "TeacherClass not found for rejection with id: " + teacherClassId)
             .onErrorMap(error -> {
                 if (error instanceof TeacherClassNotFoundException) {
                     return error;
@@ -231,6 +265,36 @@ public class TeacherClassService {
             });
     }
 
+    /**
+     * Accepts several classes at once (set decision true and status=ACCEPTED).
+     * Only teacher classes visible to the current user are updated.
+     * @param teacherClassIds relation ids
+     * @param observation optional comment from the teacher
+     * @return Mono with the number of accepted teacher classes
+     */
+    public Mono<Long> acceptTeacherClasses(List<Long> teacherClassIds, String observation) {
+        return transitionTeacherClasses(teacherClassIds, true, STATUS_ACCEPTED_ID, observation)
+            .onErrorMap(error -> {
+                log.error("Error accepting teacher classes: {}", error.getMessage());
+                throw new TeacherClassServerErrorException("Failed to accept teacher classes");
+            });
+    }
+
+    /**
+     * Rejects several classes at once (set decision false and status=REJECTED).
+     * Only teacher classes visible to the current user are updated.
+     * @param teacherClassIds relation ids
+     * @param observation optional comment from the teacher
+     * @return Mono with the number of rejected teacher classes
+     */
+    public Mono<Long> rejectTeacherClasses(List<Long> teacherClassIds, String observation) {
+        return transitionTeacherClasses(teacherClassIds, false, STATUS_REJECTED_ID, observation)
+            .onErrorMap(error -> {
+                log.error("Error rejecting teacher classes: {}", error.getMessage());
+                throw new TeacherClassServerErrorException("Failed to reject teacher classes");
+            });
+    }
+
     /**
      * Deletes a teacher-class assignment by teacher ID and class ID.
      * If the current user has ROLE_SECTION, only teacher classes for their section can be deleted.
@@ -239,12 +303,19 @@ public class TeacherClassService {
      * @return Mono<Void>
      */
     public Mono<Void> deleteTeacherClassByTeacherAndClass(Long teacherId, Long classId) {
-        return repository.findByTeacherIdAndClassId(teacherId, classId)
-            .filterWhen(this::filterTeacherClass)
+        return findVisible((scopeTeacherId, scopeSectionId) ->
+                repository.findVisibleByTeacherIdAndClassId(teacherId, classId, scopeTeacherId, scopeSectionId))
+            .next()
             .switchIfEmpty(Mono.error(new TeacherClassNotFoundException(
                 "TeacherClass not found for deletion with teacherId: " + teacherId + " and classId: " + classId)))
-            .flatMap(teacherClass -> repository.deleteById(teacherClass.getId()))
+            .flatMap(teacherClass -> repository.deleteById(teacherClass.getId()).thenReturn(teacherClass))
             .as(transactionalOperator::transactional)
+            .doOnNext(deleted -> {
+                teacherWorkloadProjection.applyDelta(
+                    deleted.getSemesterId(), deleted.getTeacherId(), deleted.getWorkHours() != null ? -deleted.getWorkHours() : null);
+                classService.classAssignmentsChanged(deleted.getClassId());
+            })
+            .then()
             .onErrorMap(error -> {
                 if (error instanceof TeacherClassNotFoundException) {
                     return error;
@@ -262,8 +333,9 @@ public class TeacherClassService {
      * @return TeacherClassResponseDTO
      */
     public Mono<TeacherClassResponseDTO> getTeacherClassByTeacherAndClass(Long teacherId, Long classId) {
-        return repository.findByTeacherIdAndClassId(teacherId, classId)
-            .filterWhen(this::filterTeacherClass)
+        return findVisible((scopeTeacherId, scopeSectionId) ->
+                repository.findVisibleByTeacherIdAndClassId(teacherId, classId, scopeTeacherId, scopeSectionId))
+            .next()
             .switchIfEmpty(Mono.error(new TeacherClassNotFoundException(
                 "TeacherClass not found with teacherId: " + teacherId + " and classId: " + classId)))
             .map(teacherClass -> modelMapper.map(teacherClass, TeacherClassResponseDTO.class))
@@ -284,8 +356,9 @@ public class TeacherClassService {
      * @return Updated teacher-class assignment
      */
     public Mono<TeacherClassResponseDTO> updateTeachingDates(Long teacherClassId, LocalDate startDate, LocalDate endDate) {
-        return repository.findById(teacherClassId)
-            .filterWhen(this::filterTeacherClass)
+        return findVisible((scopeTeacherId, scopeSectionId) ->
+                repository.findVisibleById(teacherClassId, scopeTeacherId, scopeSectionId))
+            .next()
             .switchIfEmpty(Mono.error(new TeacherClassNotFoundException(
                 "TeacherClass not found for updating dates with id: " + teacherClassId)))
             .flatMap(teacherClass -> {
@@ -295,6 +368,7 @@ public class TeacherClassService {
             })
             .map(saved -> modelMapper.map(saved, TeacherClassResponseDTO.class))
             .as(transactionalOperator::transactional)
+            .doOnNext(saved -> classService.classAssignmentsChanged(saved.getClassId()))
             .onErrorMap(error -> {
                 if (error instanceof TeacherClassNotFoundException) {
                     return error;
@@ -315,15 +389,7 @@ public class TeacherClassService {
             .flatMap(currentSemesterId ->
                 Mono.zip(
                     teacherService.getTeacherById(teacherId),
-                    // Get by teacher id and semester id
-                    repository.findBySemesterIdAndTeacherId(currentSemesterId, teacherId)
-                        .collectList()
-                        .flatMap(teacherClasses -> {
-                            int currentAssignedHours = teacherClasses.stream()
-                                .mapToInt(TeacherClass::getWorkHours)
-                                .sum();
-                            return Mono.just(currentAssignedHours);
-                        })
+                    teacherWorkloadProjection.getAssignedHours(currentSemesterId, teacherId)
                 )
             )
             .flatMap(tuple -> {
@@ -355,47 +421,156 @@ public class TeacherClassService {
             );
     }
 
+    /**
+     * Gets the workload of every teacher with classes of a section in the current semester.
+     * Assigned hours come from the workload projection and teachers are loaded in a single lookup.
+     * Section heads may only read the workloads of their own section.
+     * @param sectionId Section ID
+     * @return Flux of TeacherWorkloadResponseDTO ordered by teacher ID
+     * @throws AccessDeniedException if the section is not visible to the current user
+     */
+    public Flux<TeacherWorkloadResponseDTO> getSectionTeacherWorkloads(Long sectionId) {
+        return accessScopeService.getCurrentAccessScope()
+            .flatMap(scope -> scope.rows().bySection().build().allows(null, null, () -> Mono.just(sectionId)))
+            .filter(Boolean::booleanValue)
+            .switchIfEmpty(Mono.error(new AccessDeniedException("Workloads of section " + sectionId + " are not visible to the current user")))
+            .flatMap(visible -> semesterService.getCurrentSemesterId())
+            .flatMapMany(currentSemesterId -> repository.findTeacherIdsBySemesterIdAndSectionId(currentSemesterId, sectionId)
+                .collectList()
+                .filter(teacherIds -> !teacherIds.isEmpty())
+                .flatMapMany(teacherIds -> Mono.zip(
+                        teacherWorkloadProjection.getAssignedHours(currentSemesterId, teacherIds),
+                        teacherService.getTeachersByIds(teacherIds).collectList())
+                    .flatMapMany(tuple -> getTeacherNames(tuple.getT2())
+                        .flatMapMany(teacherNames -> Flux.fromIterable(tuple.getT2())
+                            .sort(Comparator.comparing(TeacherResponseDTO::getId))
+                            .map(teacher -> buildTeacherWorkload(
+                                teacher,
+                                teacherNames.getOrDefault(teacher.getUserId(), "N/A"),
+                                tuple.getT1().getOrDefault(teacher.getId(), 0)))))))
+            .onErrorMap(error -> {
+                if (error instanceof AccessDeniedException) {
+                    return error;
+                }
+                log.error("Error getting section teacher workloads: {}", error.getMessage());
+                return new TeacherClassServerErrorException("Failed to get section teacher workloads");
+            });
+    }
+
     // =====================================================
     // Private methods
     // =====================================================
 
     /**
-     * Filters teacher classes by user role and if they are role users by their section.
-     * @param teacherClass instance of TeacherClass
-     * @return true mono boolean indicating if the teacherClass passes the filter or not
+     * Applies a decision to the teacher classes the current user is allowed to modify
+     * with a single set-based update.
+     * @param teacherClassIds relation ids
+     * @param decision decision to store
+     * @param statusId new status
+     * @param observation optional comment from the teacher
+     * @return Mono with the number of updated teacher classes
      */
-    private Mono<Boolean> filterTeacherClass(TeacherClass teacherClass) {
-        return ReactiveSecurityContextHolder.getContext()
-            .flatMap(securityContext -> {
-                Authentication authentication = securityContext.getAuthentication();
-                
-                // Check if user has ADMIN role
-                boolean isAdmin = authentication.getAuthorities().stream()
-                    .anyMatch(authority -> authority.getAuthority().equals("ROLE_ADMIN"));
-                
-                if (isAdmin) {
-                    // Admin can see all classes
-                    return Mono.just(true);
-                }
+    private Mono<Long> transitionTeacherClasses(List<Long> teacherClassIds, Boolean decision, Long statusId, String observation) {
+        if (teacherClassIds == null || teacherClassIds.isEmpty()) {
+            return Mono.just(0L);
+        }
+
+        return findVisible((scopeTeacherId, scopeSectionId) ->
+                repository.findAllVisibleById(teacherClassIds, scopeTeacherId, scopeSectionId))
+            .collectList()
+            .flatMap(allowed -> bulkStatusTransitionRepository.transitionTeacherClasses(
+                    allowed.stream().map(TeacherClass::getId).toList(), decision, statusId, observation)
+                .map(transitioned -> Tuples.of(transitioned, allowed)))
+            .as(transactionalOperator::transactional)
+            .doOnNext(result -> result.getT2().stream()
+                .map(TeacherClass::getClassId)
+                .distinct()
+                .forEach(classService::classAssignmentsChanged))
+            .map(Tuple2::getT1);
+    }
+
+    /**
+     * Applies a decision to one teacher class visible to the current user, with the same set-based update
+     * as {@link #transitionTeacherClasses(List, Boolean, Long, String)}.
+     * @param teacherClassId relation id
+     * @param decision decision to store
+     * @param statusId new status
+     * @param observation optional comment from the teacher
+     * @param notFoundMessage message of the error when the teacher class is not visible
+     * @return Mono with the updated teacher class
+     */
+    private Mono<TeacherClassResponseDTO> transitionTeacherClass(Long teacherClassId, Boolean decision, Long statusId,
+            String observation, String notFoundMessage) {
+        return findVisible((scopeTeacherId, scopeSectionId) ->
+                repository.findVisibleById(teacherClassId, scopeTeacherId, scopeSectionId))
+            .next()
+            .flatMap(teacherClass -> bulkStatusTransitionRepository.transitionTeacherClasses(
+                    List.of(teacherClass.getId()), decision, statusId, observation)
+                // Deleted after it was read
+                .filter(transitioned -> transitioned > 0)
+                .map(transitioned -> {
+                    teacherClass.setDecision(decision);
+                    teacherClass.setStatusId(statusId);
+                    teacherClass.setObservation(observation);
+                    return modelMapper.map(teacherClass, TeacherClassResponseDTO.class);
+                }))
+            .switchIfEmpty(Mono.error(new TeacherClassNotFoundException(notFoundMessage)))
+            .as(transactionalOperator::transactional)
+            .doOnNext(updated -> classService.classAssignmentsChanged(updated.getClassId()));
+    }
 
-                // For ROLE_SECTION users, filter by their section
-                String userEmail = authentication.getName();
+    /**
+     * Obtains the display names of teachers with one user directory lookup.
+     * Teachers without user information are left out of the result.
+     * @param teachers Teachers
+     * @return Mono with the teacher names by user ID
+     */
+    private Mono<Map<Long, String>> getTeacherNames(List<TeacherResponseDTO> teachers) {
+        List<Long> userIds = teachers.stream()
+            .map(TeacherResponseDTO::getUserId)
+            .filter(Objects::nonNull)
+            .toList();
+        return userService.getUserInformationByIds(userIds)
+            .collectMap(UserInformationResponseDTO::getId, UserInformationResponseDTO::getName);
+    }
 
-                // Check if user has TEACHER role
-                boolean isTeacher = authentication.getAuthorities().stream()
-                    .anyMatch(authority -> authority.getAuthority().equals("ROLE_TEACHER"));
+    /**
+     * Builds the workload response of a teacher.
+     * @param teacher Teacher
+     * @param teacherName Teacher display name
+     * @param assignedHours Hours assigned in the current semester
+     * @return TeacherWorkloadResponseDTO
+     */
+    private TeacherWorkloadResponseDTO buildTeacherWorkload(TeacherResponseDTO teacher, String teacherName, int assignedHours) {
+        int maxHours = teacher.getMaxHours() != null ? teacher.getMaxHours() : 0;
+        return TeacherWorkloadResponseDTO.builder()
+            .teacherId(teacher.getId())
+            .teacherName(teacherName)
+            .maxHours(teacher.getMaxHours())
+            .totalAssignedHours(assignedHours)
+            .availableHours(Math.max(maxHours - assignedHours, 0))
+            .exceedsMaxHours(Math.max(assignedHours - maxHours, 0))
+            .build();
+    }
 
-                if (isTeacher) {
-                    return userService.getUserIdByEmail(userEmail)
-                        .flatMap(teacherService::getTeacherIdByUserId)
-                        .flatMap(teacherId -> Mono.just(teacherId.equals(teacherClass.getTeacherId())));
-                }
+    /**
+     * Runs a teacher class query restricted to the rows the current user can see:
+     * admins see every teacher class, teachers only their own and ROLE_SECTION users those of their section's courses.
+     * @param query Query taking the scope teacher ID and scope section ID, null when not restricted by them
+     * @return Flux of visible teacher classes
+     */
+    private Flux<TeacherClass> findVisible(BiFunction<Long, Long, Publisher<TeacherClass>> query) {
+        return visibleTeacherClasses()
+            .flatMapMany(visible -> visible.select(predicate ->
+                query.apply(predicate.scopeTeacherId(), predicate.scopeSectionId())));
+    }
 
-                return userService.getUserIdByEmail(userEmail)
-                    .flatMap(sectionService::getSectionIdByUserId)
-                    .flatMap(sectionId -> classService.isClassInSection(teacherClass.getClassId(), sectionId))
-                    .defaultIfEmpty(false);
-            })
-            .defaultIfEmpty(false);
+    /**
+     * Builds the predicate of the teacher classes the current user can see.
+     * @return Mono with the predicate
+     */
+    private Mono<RowPredicate> visibleTeacherClasses() {
+        return accessScopeService.getCurrentAccessScope()
+            .map(scope -> scope.rows().teachersSeeOwn().bySection().build());
     }
 }
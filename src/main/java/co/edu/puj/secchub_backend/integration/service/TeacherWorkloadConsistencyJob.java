@@ -0,0 +1,48 @@
+package co.edu.puj.secchub_backend.integration.service;
+
+import co.edu.puj.secchub_backend.admin.contract.AdminModuleSemesterContract;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Periodically checks the teacher workload projection against the database for the current semester.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class TeacherWorkloadConsistencyJob {
+    private final AdminModuleSemesterContract semesterService;
+    private final TeacherWorkloadProjection teacherWorkloadProjection;
+
+    /**
+     * Runs the consistency check on the configured interval.
+     */
+    @Scheduled(
+        initialDelayString = "${secchub.teacher-workload.consistency-check-interval:PT15M}",
+        fixedDelayString = "${secchub.teacher-workload.consistency-check-interval:PT15M}")
+    public void scheduledCheck() {
+        checkConsistency()
+            .subscribe(
+                corrected -> {
+                    if (corrected > 0) {
+                        log.warn("Teacher workload consistency check corrected {} entries", corrected);
+                    }
+                },
+                error -> log.error("Teacher workload consistency check failed: {}", error.getMessage()));
+    }
+
+    /**
+     * Reconciles the projection for the current semester.
+     * @return Mono with the number of corrected entries
+     */
+    public Mono<Integer> checkConsistency() {
+        return semesterService.getCurrentSemesterId()
+            .flatMap(teacherWorkloadProjection::reconcile)
+            .defaultIfEmpty(0);
+    }
+}
@@ -0,0 +1,201 @@
+package co.edu.puj.secchub_backend.integration.service;
+
+import co.edu.puj.secchub_backend.config.ReadModelInvalidations;
+import co.edu.puj.secchub_backend.integration.dto.TeacherAssignedHoursDTO;
+import co.edu.puj.secchub_backend.integration.repository.TeacherClassRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.stereotype.Component;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * In-memory projection of the work hours assigned to each teacher per semester.
+ * Entries are loaded on first access with a single aggregate query and dropped when teacher classes
+ * of the teacher are created or deleted, so the next read loads them again.
+ * A change is not added to the entry in place: a load running at the same time may or may not have read it already.
+ * Each entry also has a generation that every change bumps, and a load only stores its result
+ * when the generation did not move while it ran, so a load that raced with a change cannot store a stale value.
+ * Every change is also sent through {@link ReadModelInvalidations}, and the other instances drop the entry the same way.
+ * {@link #reconcile(Long)} recomputes the loaded entries from the database to correct any drift
+ * caused by writes that bypass this service.
+ */
+@Component
+@Slf4j
+public class TeacherWorkloadProjection {
+    static final String CHANNEL = "teacher-workload";
+
+    private final TeacherClassRepository repository;
+    private final ReadModelInvalidations invalidations;
+
+    private final Map<WorkloadKey, Integer> assignedHours = new ConcurrentHashMap<>();
+    private final Map<WorkloadKey, Long> generations = new ConcurrentHashMap<>();
+
+    public TeacherWorkloadProjection(TeacherClassRepository repository, ReadModelInvalidations invalidations) {
+        this.repository = repository;
+        this.invalidations = invalidations;
+    }
+
+    /**
+     * Starts dropping the entries changed by the other instances, once the projection is constructed.
+     */
+    @PostConstruct
+    void listenToRemoteChanges() {
+        invalidations.onRemoteChange(CHANNEL, key -> {
+            if (key == null) {
+                generations.replaceAll((workloadKey, generation) -> generation + 1);
+                assignedHours.clear();
+            } else {
+                invalidate(WorkloadKey.parse(key));
+            }
+        });
+    }
+
+    /**
+     * Gets the work hours assigned to a teacher in a semester.
+     * @param semesterId Semester ID
+     * @param teacherId Teacher ID
+     * @return Mono with the assigned hours, zero when the teacher has no assignments
+     */
+    public Mono<Integer> getAssignedHours(Long semesterId, Long teacherId) {
+        return getAssignedHours(semesterId, List.of(teacherId))
+            .map(hoursByTeacher -> hoursByTeacher.getOrDefault(teacherId, 0));
+    }
+
+    /**
+     * Gets the work hours assigned to several teachers in a semester.
+     * Teachers not yet tracked are loaded together with one aggregate query.
+     * @param semesterId Semester ID
+     * @param teacherIds Teacher IDs
+     * @return Mono with the assigned hours by teacher ID
+     */
+    public Mono<Map<Long, Integer>> getAssignedHours(Long semesterId, Collection<Long> teacherIds) {
+        Map<Long, Integer> result = new HashMap<>();
+        Map<Long, Long> missingGenerations = new HashMap<>();
+        for (Long teacherId : new LinkedHashSet<>(teacherIds)) {
+            WorkloadKey key = new WorkloadKey(semesterId, teacherId);
+            Integer cached = assignedHours.get(key);
+            if (cached != null) {
+                result.put(teacherId, cached);
+            } else {
+                missingGenerations.put(teacherId, generationOf(key));
+            }
+        }
+        List<Long> missingTeacherIds = new ArrayList<>(missingGenerations.keySet());
+
+        if (missingTeacherIds.isEmpty()) {
+            return Mono.just(result);
+        }
+
+        return repository.sumWorkHoursBySemesterIdAndTeacherIds(semesterId, missingTeacherIds)
+            .collectMap(TeacherAssignedHoursDTO::getTeacherId, dto -> dto.getAssignedHours().intValue())
+            .map(loadedHours -> {
+                for (Long teacherId : missingTeacherIds) {
+                    int hours = loadedHours.getOrDefault(teacherId, 0);
+                    long generation = missingGenerations.get(teacherId);
+                    // Runs under the lock of the entry, so it cannot interleave with invalidate
+                    assignedHours.compute(new WorkloadKey(semesterId, teacherId),
+                        (key, current) -> generationOf(key) == generation ? Integer.valueOf(hours) : current);
+                    result.put(teacherId, hours);
+                }
+                return result;
+            });
+    }
+
+    /**
+     * Records a change of assigned hours of a teacher by dropping the entry, so the next read loads it again.
+     * @param semesterId Semester ID
+     * @param teacherId Teacher ID
+     * @param deltaHours Hours added (positive) or removed (negative)
+     */
+    public void applyDelta(Long semesterId, Long teacherId, Integer deltaHours) {
+        if (semesterId == null || teacherId == null || deltaHours == null || deltaHours == 0) {
+            return;
+        }
+        WorkloadKey workloadKey = new WorkloadKey(semesterId, teacherId);
+        invalidate(workloadKey);
+        // Other instances may track the teacher even when this one does not
+        invalidations.publish(CHANNEL, workloadKey.toString());
+    }
+
+    /**
+     * Compares the tracked entries of a semester with the database and corrects the ones that drifted.
+     * @param semesterId Semester ID
+     * @return Mono with the number of corrected entries
+     */
+    public Mono<Integer> reconcile(Long semesterId) {
+        Map<WorkloadKey, Long> trackedGenerations = new HashMap<>();
+        for (WorkloadKey key : assignedHours.keySet()) {
+            if (key.semesterId().equals(semesterId)) {
+                trackedGenerations.put(key, generationOf(key));
+            }
+        }
+
+        return repository.sumWorkHoursBySemesterId(semesterId)
+            .collectMap(TeacherAssignedHoursDTO::getTeacherId, dto -> dto.getAssignedHours().intValue())
+            .map(actualHours -> {
+                AtomicInteger corrected = new AtomicInteger();
+                trackedGenerations.forEach((key, generation) -> {
+                    int expected = actualHours.getOrDefault(key.teacherId(), 0);
+                    assignedHours.computeIfPresent(key, (k, hours) -> {
+                        if (hours == expected || generationOf(k) != generation) {
+                            return hours;
+                        }
+                        log.warn("Teacher workload drift for teacher {} in semester {}: tracked {} hours, actual {} hours",
+                            k.teacherId(), semesterId, hours, expected);
+                        corrected.incrementAndGet();
+                        return expected;
+                    });
+                });
+                return corrected.get();
+            });
+    }
+
+    /**
+     * Drops an entry and bumps its generation, so loads and reconciles that started before do not store their result.
+     * @param key Workload key
+     */
+    private void invalidate(WorkloadKey key) {
+        assignedHours.compute(key, (k, hours) -> {
+            generations.merge(k, 1L, Long::sum);
+            return null;
+        });
+    }
+
+    private long generationOf(WorkloadKey key) {
+        return generations.computeIfAbsent(key, k -> 0L);
+    }
+
+    /**
+     * Key of a tracked workload entry.
+     * @param semesterId Semester ID
+     * @param teacherId Teacher ID
+     */
+    private record WorkloadKey(Long semesterId, Long teacherId) {
+
+        /**
+         * Parses the form sent to the other instances.
+         * @param key Key in the {@code semesterId:teacherId} form
+         * @return Workload key
+         */
+        static WorkloadKey parse(String key) {
+            int separator = key.indexOf(':');
+            return new WorkloadKey(Long.valueOf(key.substring(0, separator)), Long.valueOf(key.substring(separator + 1)));
+        }
+
+        @Override
+        public String toString() {
+            return semesterId + ":" + teacherId;
+        }
+    }
+}
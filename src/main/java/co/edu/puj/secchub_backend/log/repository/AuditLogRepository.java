@@ -1,5 +1,6 @@
 package co.edu.puj.secchub_backend.log.repository;
 
+import co.edu.puj.secchub_backend.config.BackgroundDatabase;
 import co.edu.puj.secchub_backend.log.model.AuditLog;
 import reactor.core.publisher.Flux;
 
@@ -10,8 +11,10 @@ import java.time.LocalDateTime;
 
 /**
  * Repository for accessing audit log data.
+ * Uses the background connection pool so audit writes do not compete with user requests.
  */
 @Repository
+@BackgroundDatabase
 public interface AuditLogRepository extends R2dbcRepository<AuditLog, Long> {
 
     /**
@@ -1,5 +1,6 @@
 package co.edu.puj.secchub_backend.log.service;
 
+import co.edu.puj.secchub_backend.config.ReadOnlyRoute;
 import co.edu.puj.secchub_backend.log.dto.AuditLogResponseDTO;
 import co.edu.puj.secchub_backend.log.model.AuditLog;
 import co.edu.puj.secchub_backend.log.repository.AuditLogRepository;
@@ -24,6 +25,7 @@ public class AuditLogService {
      * Retrieves all audit logs as a reactive stream.
      * @return Flux of all audit logs
      */
+    @ReadOnlyRoute
     public Flux<AuditLogResponseDTO> getAllAuditLogs() {
         return auditLogRepository.findAll()
                 .map(this::mapToDTO);
@@ -34,6 +36,7 @@ public class AuditLogService {
      * @param email User email
      * @return Flux of audit logs for the user
      */
+    @ReadOnlyRoute
     public Flux<AuditLogResponseDTO> getAuditLogsByEmail(String email) {
         return auditLogRepository.findByEmail(email)
                 .map(this::mapToDTO);
@@ -44,6 +47,7 @@ public class AuditLogService {
      * @param action Action type (CREATE, UPDATE, DELETE)
      * @return Flux of audit logs for the action
      */
+    @ReadOnlyRoute
     public Flux<AuditLogResponseDTO> getAuditLogsByAction(String action) {
         return auditLogRepository.findByAction(action.toUpperCase())
                 .map(this::mapToDTO);
@@ -55,6 +59,7 @@ public class AuditLogService {
      * @param end End timestamp
      * @return Flux of audit logs within the range
      */
+    @ReadOnlyRoute
     public Flux<AuditLogResponseDTO> getAuditLogsByDateRange(LocalDateTime start, LocalDateTime end) {
         return auditLogRepository.findByTimestampBetween(start, end)
                 .map(this::mapToDTO);
@@ -65,6 +70,7 @@ public class AuditLogService {
      * @param methodName Method name
      * @return Flux of audit logs for the method
      */
+    @ReadOnlyRoute
     public Flux<AuditLogResponseDTO> getAuditLogsByMethodName(String methodName) {
         return auditLogRepository.findByMethodName(methodName)
                 .map(this::mapToDTO);
@@ -76,6 +82,7 @@ public class AuditLogService {
      * @param action Action type
      * @return Flux of audit logs
      */
+    @ReadOnlyRoute
     public Flux<AuditLogResponseDTO> getAuditLogsByEmailAndAction(String email, String action) {
         return auditLogRepository.findByEmailAndAction(email, action.toUpperCase())
                 .map(this::mapToDTO);
@@ -1,16 +1,18 @@
 package co.edu.puj.secchub_backend.parametric.controller;
 
-import co.edu.puj.secchub_backend.parametric.contracts.ClassroomTypeDTO;
-import co.edu.puj.secchub_backend.parametric.contracts.DocumentTypeDTO;
-import co.edu.puj.secchub_backend.parametric.contracts.EmploymentTypeDTO;
-import co.edu.puj.secchub_backend.parametric.contracts.ModalityDTO;
-import co.edu.puj.secchub_backend.parametric.contracts.RoleDTO;
-import co.edu.puj.secchub_backend.parametric.contracts.StatusDTO;
+import co.edu.puj.secchub_backend.config.ResourceFamily;
+import co.edu.puj.secchub_backend.config.ResourceVersions;
+import co.edu.puj.secchub_backend.parametric.service.ParametricCatalog;
+import co.edu.puj.secchub_backend.parametric.service.ParametricList;
 import co.edu.puj.secchub_backend.parametric.service.ParametricService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpResponse;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
 
 import java.util.List;
@@ -24,149 +26,223 @@ import java.util.List;
 @RequiredArgsConstructor
 public class ParametricController {
 
+    private static final String GZIP = "gzip";
+    private static final String IDENTITY = "identity";
+
     private final ParametricService parametricService;
+    private final ParametricCatalog parametricCatalog;
+    private final ResourceVersions resourceVersions;
 
     /**
      * Gets all statuses.
-     * @return List of all status DTOs
+     * @param exchange Current exchange
+     * @return JSON array of all status DTOs, written as pre-encoded bytes
      */
     @GetMapping("/statuses")
     @PreAuthorize("isAuthenticated()")
-    public Mono<ResponseEntity<List<StatusDTO>>> getAllStatuses() {
-        return parametricService.getAllStatuses()
-                .collectList()
-                .map(ResponseEntity::ok);
+    public Mono<Void> getAllStatuses(ServerWebExchange exchange) {
+        return writeList(exchange, ParametricList.STATUSES);
     }
 
     /**
      * Gets a status by its ID.
      * @param id Status ID
+     * @param exchange Current exchange
      * @return Status name
      */
     @GetMapping("/statuses/{id}")
     @PreAuthorize("isAuthenticated()")
-    public Mono<ResponseEntity<String>> getStatusById(@PathVariable Long id) {
+    public Mono<ResponseEntity<String>> getStatusById(@PathVariable Long id,
+            ServerWebExchange exchange) {
+        if (resourceVersions.checkNotModified(exchange, ResourceFamily.PARAMETRIC)) {
+            return Mono.empty();
+        }
         return parametricService.getStatusNameById(id)
                 .map(ResponseEntity::ok);
     }
 
     /**
      * Gets all roles.
-     * @return List of all role DTOs
+     * @param exchange Current exchange
+     * @return JSON array of all role DTOs, written as pre-encoded bytes
      */
     @GetMapping("/roles")
     @PreAuthorize("isAuthenticated()")
-    public Mono<ResponseEntity<List<RoleDTO>>> getAllRoles() {
-        return parametricService.getAllRoles()
-                .collectList()
-                .map(ResponseEntity::ok);
+    public Mono<Void> getAllRoles(ServerWebExchange exchange) {
+        return writeList(exchange, ParametricList.ROLES);
     }
 
     /**
      * Gets a role by its ID.
      * @param id Role ID
+     * @param exchange Current exchange
      * @return Role name
      */
     @GetMapping("/roles/{id}")
     @PreAuthorize("isAuthenticated()")
-    public Mono<ResponseEntity<String>> getRoleById(@PathVariable Long id) {
+    public Mono<ResponseEntity<String>> getRoleById(@PathVariable Long id,
+            ServerWebExchange exchange) {
+        if (resourceVersions.checkNotModified(exchange, ResourceFamily.PARAMETRIC)) {
+            return Mono.empty();
+        }
         return parametricService.getRoleNameById(id)
                 .map(ResponseEntity::ok);
     }
 
     /**
      * Gets all document types.
-     * @return List of all document type DTOs
+     * @param exchange Current exchange
+     * @return JSON array of all document type DTOs, written as pre-encoded bytes
      */
     @GetMapping("/document-types")
     @PreAuthorize("isAuthenticated()")
-    public Mono<ResponseEntity<List<DocumentTypeDTO>>> getAllDocumentTypes() {
-        return parametricService.getAllDocumentTypes()
-                .collectList()
-                .map(ResponseEntity::ok);
+    public Mono<Void> getAllDocumentTypes(ServerWebExchange exchange) {
+        return writeList(exchange, ParametricList.DOCUMENT_TYPES);
     }
 
     /**
      * Gets a document type by its ID.
      * @param id Document type ID
+     * @param exchange Current exchange
      * @return Document type name
      */
     @GetMapping("/document-types/{id}")
     @PreAuthorize("isAuthenticated()")
-    public Mono<ResponseEntity<String>> getDocumentTypeById(@PathVariable Long id) {
+    public Mono<ResponseEntity<String>> getDocumentTypeById(@PathVariable Long id,
+            ServerWebExchange exchange) {
+        if (resourceVersions.checkNotModified(exchange, ResourceFamily.PARAMETRIC)) {
+            return Mono.empty();
+        }
         return parametricService.getDocumentTypeNameById(id)
                 .map(ResponseEntity::ok);
     }
 
     /**
      * Gets all employment types.
-     * @return List of all employment type DTOs
+     * @param exchange Current exchange
+     * @return JSON array of all employment type DTOs, written as pre-encoded bytes
      */
     @GetMapping("/employment-types")
     @PreAuthorize("isAuthenticated()")
-    public Mono<ResponseEntity<List<EmploymentTypeDTO>>> getAllEmploymentTypes() {
-        return parametricService.getAllEmploymentTypes()
-                .collectList()
-                .map(ResponseEntity::ok);
+    public Mono<Void> getAllEmploymentTypes(ServerWebExchange exchange) {
+        return writeList(exchange, ParametricList.EMPLOYMENT_TYPES);
     }
 
     /**
      * Gets an employment type by its ID.
      * @param id Employment type ID
+     * @param exchange Current exchange
      * @return Employment type name
      */
     @GetMapping("/employment-types/{id}")
     @PreAuthorize("isAuthenticated()")
-    public Mono<ResponseEntity<String>> getEmploymentTypeById(@PathVariable Long id) {
+    public Mono<ResponseEntity<String>> getEmploymentTypeById(@PathVariable Long id,
+            ServerWebExchange exchange) {
+        if (resourceVersions.checkNotModified(exchange, ResourceFamily.PARAMETRIC)) {
+            return Mono.empty();
+        }
         return parametricService.getEmploymentTypeNameById(id)
                 .map(ResponseEntity::ok);
     }
 
     /**
      * Gets all modalities.
-     * @return List of all modality DTOs
+     * @param exchange Current exchange
+     * @return JSON array of all modality DTOs, written as pre-encoded bytes
      */
     @GetMapping("/modalities")
     @PreAuthorize("isAuthenticated() or hasRole('ROLE_PROGRAM')")
-    public Mono<ResponseEntity<List<ModalityDTO>>> getAllModalities() {
-        return parametricService.getAllModalities()
-                .collectList()
-                .map(ResponseEntity::ok);
+    public Mono<Void> getAllModalities(ServerWebExchange exchange) {
+        return writeList(exchange, ParametricList.MODALITIES);
     }
 
     /**
      * Gets a modality by its ID.
      * @param id Modality ID
+     * @param exchange Current exchange
      * @return Modality name
      */
     @GetMapping("/modalities/{id}")
     @PreAuthorize("isAuthenticated()")
-    public Mono<ResponseEntity<String>> getModalityById(@PathVariable Long id) {
+    public Mono<ResponseEntity<String>> getModalityById(@PathVariable Long id,
+            ServerWebExchange exchange) {
+        if (resourceVersions.checkNotModified(exchange, ResourceFamily.PARAMETRIC)) {
+            return Mono.empty();
+        }
         return parametricService.getModalityNameById(id)
                 .map(ResponseEntity::ok);
     }
 
     /**
      * Gets all classroom types.
-     * @return List of all classroom type DTOs
+     * @param exchange Current exchange
+     * @return JSON array of all classroom type DTOs, written as pre-encoded bytes
      */
     @GetMapping("/classroom-types")
     @PreAuthorize("isAuthenticated() or hasRole('ROLE_PROGRAM')")
-    public Mono<ResponseEntity<List<ClassroomTypeDTO>>> getAllClassroomTypes() {
-        return parametricService.getAllClassroomTypes()
-                .collectList()
-                .map(ResponseEntity::ok);
+    public Mono<Void> getAllClassroomTypes(ServerWebExchange exchange) {
+        return writeList(exchange, ParametricList.CLASSROOM_TYPES);
     }
 
     /**
      * Gets a classroom type by its ID.
      * @param id Classroom type ID
+     * @param exchange Current exchange
      * @return Classroom type name
      */
     @GetMapping("/classroom-types/{id}")
     @PreAuthorize("isAuthenticated()")
-    public Mono<ResponseEntity<String>> getClassroomTypeById(@PathVariable Long id) {
+    public Mono<ResponseEntity<String>> getClassroomTypeById(@PathVariable Long id,
+            ServerWebExchange exchange) {
+        if (resourceVersions.checkNotModified(exchange, ResourceFamily.PARAMETRIC)) {
+            return Mono.empty();
+        }
         return parametricService.getClassroomTypeNameById(id)
                 .map(ResponseEntity::ok);
     }
-}
\ No newline at end of file
+
+    /**
+     * Writes a pre-encoded list straight to the response, gzipped when the client accepts it.
+     * Each encoding has its own ETag, and the If-None-Match check runs before the catalog is read.
+     * @param exchange Current exchange
+     * @param list Parametric list to write
+     * @return Mono completing when the body is written
+     */
+    private Mono<Void> writeList(ServerWebExchange exchange, ParametricList list) {
+        boolean gzip = acceptsGzip(exchange.getRequest().getHeaders());
+        ServerHttpResponse response = exchange.getResponse();
+        response.getHeaders().setVary(List.of(HttpHeaders.ACCEPT_ENCODING));
+        String variant = gzip ? GZIP : IDENTITY;
+        if (resourceVersions.checkNotModified(exchange, ResourceFamily.PARAMETRIC, variant)) {
+            return Mono.empty();
+        }
+        return parametricCatalog.get(list)
+                .flatMap(encoded -> {
+                    byte[] body = gzip ? encoded.getGzip() : encoded.getJson();
+                    HttpHeaders headers = response.getHeaders();
+                    headers.setContentType(MediaType.APPLICATION_JSON);
+                    headers.setContentLength(body.length);
+                    if (gzip) {
+                        headers.set(HttpHeaders.CONTENT_ENCODING, GZIP);
+                    }
+                    return response.writeWith(Mono.fromSupplier(() -> response.bufferFactory().wrap(body)));
+                });
+    }
+
+    /**
+     * Checks whether the Accept-Encoding header allows gzip, honoring {@code q=0}.
+     * @param headers Request headers
+     * @return True when gzip is accepted
+     */
+    static boolean acceptsGzip(HttpHeaders headers) {
+        for (String header : headers.getOrEmpty(HttpHeaders.ACCEPT_ENCODING)) {
+            for (String coding : header.split(",")) {
+                String[] parts = coding.trim().split(";");
+                if (parts[0].trim().equalsIgnoreCase(GZIP)) {
+                    return parts.length == 1 || !parts[1].replace(" ", "").matches("q=0(\\.0*)?");
+                }
+            }
+        }
+        return false;
+    }
+}
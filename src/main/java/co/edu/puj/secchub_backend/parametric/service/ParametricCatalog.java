@@ -0,0 +1,154 @@
+package co.edu.puj.secchub_backend.parametric.service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import co.edu.puj.secchub_backend.config.ResourceFamily;
+import co.edu.puj.secchub_backend.config.ResourceVersions;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Parametric lists pre-encoded as JSON and gzip byte arrays, so the list endpoints write bytes to the
+ * response instead of collecting and serializing the cached DTOs on every request.
+ * The lists are encoded on first use and rebuilt only when the parametric tables are reloaded; a reload
+ * that changes any list also bumps the parametric ETag version.
+ */
+@Component
+@Slf4j
+public class ParametricCatalog {
+
+    private final ParametricService parametricService;
+    private final ObjectMapper objectMapper;
+    private final ResourceVersions resourceVersions;
+    private final AtomicReference<Map<ParametricList, EncodedList>> current = new AtomicReference<>();
+    private final Mono<Map<ParametricList, EncodedList>> initialLoad;
+
+    public ParametricCatalog(ParametricService parametricService, ObjectMapper objectMapper,
+            ResourceVersions resourceVersions) {
+        this.parametricService = parametricService;
+        this.objectMapper = objectMapper;
+        this.resourceVersions = resourceVersions;
+        // Concurrent first requests share one load; a failed load is retried by the next request
+        this.initialLoad = Mono.defer(this::load)
+            .map(loaded -> current.compareAndSet(null, loaded) ? loaded : current.get())
+            .cache(loaded -> Duration.ofMillis(Long.MAX_VALUE), error -> Duration.ZERO,
+                () -> Duration.ZERO);
+    }
+
+    /**
+     * Gets a pre-encoded list, loading the catalog on first use.
+     * @param list Parametric list
+     * @return Mono with the encoded list
+     */
+    public Mono<EncodedList> get(ParametricList list) {
+        Map<ParametricList, EncodedList> loaded = current.get();
+        return loaded != null ? Mono.just(loaded.get(list)) : initialLoad.map(catalog -> catalog.get(list));
+    }
+
+    /**
+     * Reloads the catalog on the configured interval, matching the expiry of the parametric caches.
+     */
+    @Scheduled(
+        initialDelayString = "${secchub.parametric.catalog-reload-interval:PT2H}",
+        fixedDelayString = "${secchub.parametric.catalog-reload-interval:PT2H}")
+    public void scheduledReload() {
+        reload()
+            .subscribe(
+                changed -> {
+                    if (Boolean.TRUE.equals(changed)) {
+                        log.info("Parametric catalog reloaded with changes");
+                    }
+                },
+                error -> log.error("Parametric catalog reload failed: {}", error.getMessage()));
+    }
+
+    /**
+     * Evicts the parametric caches, reads the tables again and re-encodes every list.
+     * @return Mono with true when any list changed
+     */
+    public Mono<Boolean> reload() {
+        return Mono.defer(() -> {
+            parametricService.evictCaches();
+            return load();
+        })
+        .map(loaded -> {
+            boolean changed = !sameContent(current.getAndSet(loaded), loaded);
+            if (changed) {
+                resourceVersions.bump(ResourceFamily.PARAMETRIC);
+            }
+            return changed;
+        });
+    }
+
+    private Mono<Map<ParametricList, EncodedList>> load() {
+        return Flux.fromArray(ParametricList.values())
+            .concatMap(list -> list.load(parametricService)
+                .collectList()
+                .flatMap(values -> Mono.fromCallable(() -> encode(objectMapper, values)))
+                .map(encoded -> Map.entry(list, encoded)))
+            .collectMap(Map.Entry::getKey, Map.Entry::getValue, () -> new EnumMap<>(ParametricList.class));
+    }
+
+    private static boolean sameContent(Map<ParametricList, EncodedList> previous,
+            Map<ParametricList, EncodedList> loaded) {
+        return previous != null && Arrays.stream(ParametricList.values())
+            .allMatch(list -> Arrays.equals(previous.get(list).getJson(), loaded.get(list).getJson()));
+    }
+
+    /**
+     * Encodes a list as the JSON array Jackson writes for the endpoints, plus its gzip variant.
+     * @param objectMapper Application object mapper
+     * @param values List values
+     * @return Encoded list
+     * @throws IOException if the list cannot be serialized
+     */
+    static EncodedList encode(ObjectMapper objectMapper, List<?> values) throws IOException {
+        byte[] json = objectMapper.writeValueAsBytes(values);
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(json.length);
+        // Encoded once per reload, so the slowest level is worth the smaller responses
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed) {
+            {
+                def.setLevel(Deflater.BEST_COMPRESSION);
+            }
+        }) {
+            gzip.write(json);
+        }
+        return new EncodedList(json, compressed.toByteArray());
+    }
+
+    /**
+     * JSON bytes of a parametric list and their gzip variant. The arrays are shared and must not be modified.
+     */
+    public static final class EncodedList {
+        private final byte[] json;
+        private final byte[] gzip;
+
+        EncodedList(byte[] json, byte[] gzip) {
+            this.json = json;
+            this.gzip = gzip;
+        }
+
+        public byte[] getJson() {
+            return json;
+        }
+
+        public byte[] getGzip() {
+            return gzip;
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package co.edu.puj.secchub_backend.parametric.service;
+
+import java.util.function.Function;
+
+import reactor.core.publisher.Flux;
+
+/**
+ * Parametric lists served whole by the parametric endpoints and pre-encoded by {@link ParametricCatalog}.
+ */
+public enum ParametricList {
+    STATUSES(ParametricService::getAllStatuses),
+    ROLES(ParametricService::getAllRoles),
+    DOCUMENT_TYPES(ParametricService::getAllDocumentTypes),
+    EMPLOYMENT_TYPES(ParametricService::getAllEmploymentTypes),
+    MODALITIES(ParametricService::getAllModalities),
+    CLASSROOM_TYPES(ParametricService::getAllClassroomTypes);
+
+    private final Function<ParametricService, Flux<?>> loader;
+
+    ParametricList(Function<ParametricService, Flux<?>> loader) {
+        this.loader = loader;
+    }
+
+    /**
+     * Reads the list through the parametric service.
+     * @param parametricService Service owning the tables
+     * @return Flux with the DTOs of the list
+     */
+    Flux<?> load(ParametricService parametricService) {
+        return loader.apply(parametricService);
+    }
+}
@@ -8,6 +8,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import org.modelmapper.ModelMapper;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Flux;
@@ -25,6 +26,24 @@ public class ParametricService implements ParametricContract {
     private final ModalityRepository modalityRepository;
     private final ClassroomTypeRepository classroomTypeRepository;
 
+    /* ---------------- CACHE ---------------- */
+
+    /**
+     * Evicts every parametric cache so the next lookups read the tables again.
+     * Called by {@link ParametricCatalog} before it reloads the pre-encoded lists.
+     */
+    @CacheEvict(allEntries = true, cacheNames = {
+        "all-statuses", "status-by-name", "status-id-to-name", "status-exists",
+        "all-roles", "role-by-name", "role-id-by-name", "role-exists",
+        "all-document-types", "document-type-by-name", "document-type-id-to-name", "document-type-exists",
+        "all-employment-types", "employment-type-by-name", "employment-type-id-to-name", "employment-type-exists",
+        "all-modalities", "modality-by-name", "modality-id-to-name", "modality-exists",
+        "all-classroom-types", "classroom-type-by-name", "classroom-type-id-to-name", "classroom-type-exists"
+    })
+    public void evictCaches() {
+        log.debug("Evicting parametric caches");
+    }
+
     /* ---------------- STATUS ---------------- */
 
     @Cacheable("all-statuses")
@@ -10,4 +10,11 @@ public interface PlanningModuleClassContract {
      * @return True if the class belongs to the section, false otherwise
      */
     Mono<Boolean> isClassInSection(Long classId, Long sectionId);
+
+    /**
+     * Notifies that the teachers assigned to a class changed, so the semester timetable refreshes it.
+     * Call it once the change is committed.
+     * @param classId Class ID
+     */
+    void classAssignmentsChanged(Long classId);
 }
@@ -1,5 +1,7 @@
 package co.edu.puj.secchub_backend.planning.controller;
 
+import co.edu.puj.secchub_backend.config.ResourceFamily;
+import co.edu.puj.secchub_backend.config.ResourceVersions;
 import co.edu.puj.secchub_backend.planning.dto.ClassroomRequestDTO;
 import co.edu.puj.secchub_backend.planning.dto.ClassroomResponseDTO;
 import co.edu.puj.secchub_backend.planning.service.ClassroomService;
@@ -19,6 +21,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ServerWebExchange;
 
 import java.util.List;
 
@@ -33,14 +36,19 @@ import java.util.List;
 public class ClassroomController {
 
     private final ClassroomService classroomService;
+    private final ResourceVersions resourceVersions;
 
     /**
      * Get all classrooms.
+     * @param exchange Current exchange
      * @return Mono containing ResponseEntity with list of classroom response DTOs
      */
     @GetMapping
     @PreAuthorize("hasRole('ROLE_ADMIN') or hasRole('ROLE_USER')")
-    public Mono<ResponseEntity<List<ClassroomResponseDTO>>> getAllClassrooms() {
+    public Mono<ResponseEntity<List<ClassroomResponseDTO>>> getAllClassrooms(ServerWebExchange exchange) {
+        if (resourceVersions.checkNotModified(exchange, ResourceFamily.CLASSROOMS)) {
+            return Mono.empty();
+        }
         return classroomService.getAllClassrooms()
                 .collectList()
                 .map(ResponseEntity::ok);
@@ -49,11 +57,16 @@ public class ClassroomController {
     /**
      * Get classroom by ID.
      * @param id the classroom ID
+     * @param exchange Current exchange
      * @return Mono containing ResponseEntity with classroom response DTO
      */
     @GetMapping("/{id}")
     @PreAuthorize("hasRole('ROLE_ADMIN') or hasRole('ROLE_USER')")
-    public Mono<ResponseEntity<ClassroomResponseDTO>> getClassroomById(@PathVariable Long id) {
+    public Mono<ResponseEntity<ClassroomResponseDTO>> getClassroomById(@PathVariable Long id,
+            ServerWebExchange exchange) {
+        if (resourceVersions.checkNotModified(exchange, ResourceFamily.CLASSROOMS)) {
+            return Mono.empty();
+        }
         return classroomService.getClassroomById(id)
                 .map(ResponseEntity::ok);
     }
@@ -101,11 +114,16 @@ public class ClassroomController {
     /**
      * Get classrooms by type.
      * @param typeId the classroom type ID
+     * @param exchange Current exchange
      * @return Mono containing ResponseEntity with list of classroom response DTOs
      */
     @GetMapping("/type/{typeId}")
     @PreAuthorize("hasRole('ROLE_ADMIN') or hasRole('ROLE_USER')")
-    public Mono<ResponseEntity<List<ClassroomResponseDTO>>> getClassroomsByType(@PathVariable Long typeId) {
+    public Mono<ResponseEntity<List<ClassroomResponseDTO>>> getClassroomsByType(@PathVariable Long typeId,
+            ServerWebExchange exchange) {
+        if (resourceVersions.checkNotModified(exchange, ResourceFamily.CLASSROOMS)) {
+            return Mono.empty();
+        }
         return classroomService.getClassroomsByType(typeId)
                 .map(ResponseEntity::ok);
     }
@@ -1,17 +1,26 @@
 package co.edu.puj.secchub_backend.planning.controller;
 
+import co.edu.puj.secchub_backend.config.KeysetPage;
 import co.edu.puj.secchub_backend.planning.dto.ClassCreateRequestDTO;
 import co.edu.puj.secchub_backend.planning.dto.ClassResponseDTO;
 import co.edu.puj.secchub_backend.planning.dto.ClassScheduleRequestDTO;
 import co.edu.puj.secchub_backend.planning.dto.ClassScheduleResponseDTO;
 import co.edu.puj.secchub_backend.planning.dto.ClassroomScheduleConflictResponseDTO;
+import co.edu.puj.secchub_backend.planning.dto.PlanningExportFormat;
+import co.edu.puj.secchub_backend.planning.dto.SemesterTimetableResponseDTO;
 import co.edu.puj.secchub_backend.planning.dto.TeacherScheduleConflictResponseDTO;
+import co.edu.puj.secchub_backend.planning.service.PlanningExportService;
 import co.edu.puj.secchub_backend.planning.service.PlanningService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.util.List;
@@ -27,6 +36,7 @@ import java.util.Map;
 public class PlanningController {
 
     private final PlanningService planningService;
+    private final PlanningExportService planningExportService;
 
     /**
      * Creates a new academic class.
@@ -64,6 +74,25 @@ public class PlanningController {
                 .map(ResponseEntity::ok);
     }
 
+    /**
+     * Gets a page of academic classes ordered by semester and ID.
+     * @param semesterId Semester ID, all semesters when omitted
+     * @param cursor Cursor returned with the previous page, omitted for the first page
+     * @param size Classes per page, 25 by default and at most 100
+     * @param includeTotal Whether to include the total number of classes
+     * @return Page of classes with the cursor of the next page, with HTTP 200 status
+     */
+    @GetMapping("/classes/page")
+    @PreAuthorize("hasRole('ROLE_ADMIN') or hasRole('ROLE_USER')")
+    public Mono<ResponseEntity<KeysetPage<ClassResponseDTO>>> getClassesPage(
+            @RequestParam(required = false) Long semesterId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+        return planningService.findClassesPage(semesterId, cursor, size, includeTotal)
+                .map(ResponseEntity::ok);
+    }
+
     /**
      * Gets a specific class by ID.
      * @param classId Class ID
@@ -276,6 +305,46 @@ public class PlanningController {
                 .map(ResponseEntity::ok);
     }
 
+    /**
+     * Gets the timetable of a semester with its classes, schedules, classrooms, teachers and teaching assistants.
+     * Served from an in-memory read model with a version that changes with every change of the timetable,
+     * also sent as the ETag so polling clients get a 304 until it changes.
+     * @param semesterId Semester ID
+     * @param exchange Current exchange, used to answer conditional requests
+     * @return Timetable of the semester with HTTP 200 status, or HTTP 304 when the client has the current version
+     */
+    @GetMapping("/semesters/{semesterId}/timetable")
+    @PreAuthorize("hasRole('ROLE_ADMIN') or hasRole('ROLE_USER')")
+    public Mono<ResponseEntity<SemesterTimetableResponseDTO>> getSemesterTimetable(
+            @PathVariable Long semesterId, ServerWebExchange exchange) {
+        return planningService.getSemesterTimetable(semesterId)
+                .flatMap(timetable -> exchange.checkNotModified(timetableETag(timetable))
+                        ? Mono.empty()
+                        : Mono.just(ResponseEntity.ok(timetable)));
+    }
+
+    /**
+     * Exports the planning of a semester as a file with one row per class schedule, including its course,
+     * section, classroom, teachers and teaching assistants. The file is streamed while it is read.
+     * @param semesterId Semester ID
+     * @param format File format, csv or xlsx
+     * @param exchange Current exchange, whose buffer factory writes the file
+     * @return File as an attachment with HTTP 200 status
+     */
+    @GetMapping("/semesters/{semesterId}/export")
+    @PreAuthorize("hasRole('ROLE_ADMIN')")
+    public Mono<ResponseEntity<Flux<DataBuffer>>> exportSemesterPlanning(
+            @PathVariable Long semesterId, @RequestParam(defaultValue = "csv") String format, ServerWebExchange exchange) {
+        return Mono.fromSupplier(() -> PlanningExportFormat.fromExtension(format))
+                .flatMap(exportFormat -> planningExportService.exportSemesterPlanning(
+                        semesterId, exportFormat, exchange.getResponse().bufferFactory()))
+                .map(export -> ResponseEntity.ok()
+                        .contentType(export.format().getMediaType())
+                        .header(HttpHeaders.CONTENT_DISPOSITION,
+                                ContentDisposition.attachment().filename(export.fileName()).build().toString())
+                        .body(export.content()));
+    }
+
     /**
      * Duplicate planning from one semester to another.
      * @param sourceSemesterId Source semester ID
@@ -363,4 +432,16 @@ public class PlanningController {
                 .collectList()
                 .map(ResponseEntity::ok);
     }
+
+    /**
+     * Builds the ETag of a timetable from its version. Users restricted to a section, or to no classes at all,
+     * see different classes for the same version, so the section and the number of classes are added.
+     * @param timetable Timetable of a semester
+     * @return Strong ETag
+     */
+    private static String timetableETag(SemesterTimetableResponseDTO timetable) {
+        String section = timetable.getSectionId() != null ? "-section-" + timetable.getSectionId() : "";
+        return "\"timetable-" + timetable.getSemesterId() + "-" + timetable.getVersion() + section
+            + "-" + timetable.getClasses().size() + "\"";
+    }
 }
@@ -0,0 +1,47 @@
+package co.edu.puj.secchub_backend.planning.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+
+import org.springframework.http.MediaType;
+
+import co.edu.puj.secchub_backend.planning.exception.PlanningBadRequestException;
+
+/**
+ * File formats of the semester planning export.
+ */
+public enum PlanningExportFormat {
+    CSV("csv", new MediaType("text", "csv", StandardCharsets.UTF_8)),
+    XLSX("xlsx", MediaType.parseMediaType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet"));
+
+    private final String extension;
+    private final MediaType mediaType;
+
+    PlanningExportFormat(String extension, MediaType mediaType) {
+        this.extension = extension;
+        this.mediaType = mediaType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    /**
+     * Gets the format with the given extension, ignoring case.
+     * @param extension File extension, csv or xlsx
+     * @return Export format
+     * @throws PlanningBadRequestException if the format is not supported
+     */
+    public static PlanningExportFormat fromExtension(String extension) {
+        for (PlanningExportFormat format : values()) {
+            if (format.extension.equals(extension == null ? null : extension.toLowerCase(Locale.ROOT))) {
+                return format;
+            }
+        }
+        throw new PlanningBadRequestException("Unsupported export format: " + extension);
+    }
+}
@@ -0,0 +1,32 @@
+package co.edu.puj.secchub_backend.planning.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalTime;
+
+/**
+ * DTO for one row of the semester planning export: a class schedule with its course, classroom,
+ * teachers and teaching assistants.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(toBuilder = true)
+public class PlanningExportRowDTO {
+    private Long classId;
+    private String courseName;
+    private String sectionName;
+    private Long classSection;
+    private String day;
+    private LocalTime startTime;
+    private LocalTime endTime;
+    private String modality;
+    private String classroomRoom;
+    private String classroomLocation;
+    private String classroomCampus;
+    private String teachers;
+    private String teachingAssistants;
+}
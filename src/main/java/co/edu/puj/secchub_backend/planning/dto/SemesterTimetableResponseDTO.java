@@ -0,0 +1,24 @@
+package co.edu.puj.secchub_backend.planning.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO for the timetable of a semester.
+ * The version increases every time the timetable changes, so clients can poll it cheaply.
+ * The section ID is set when the classes were restricted to the section of the current user.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SemesterTimetableResponseDTO {
+    private Long semesterId;
+    private Long version;
+    private Long sectionId;
+    private List<TimetableClassDTO> classes;
+}
@@ -0,0 +1,33 @@
+package co.edu.puj.secchub_backend.planning.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * DTO for a class in a semester timetable.
+ * Denormalizes the course, the schedules with their classrooms, the assigned teachers and the teaching assistants.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(toBuilder = true)
+public class TimetableClassDTO {
+    private Long id;
+    private Long section;
+    private Long courseId;
+    private String courseName;
+    private Long courseSectionId;
+    private Long semesterId;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private Integer capacity;
+    private Long statusId;
+    private List<TimetableScheduleDTO> schedules;
+    private List<TimetableTeacherDTO> teachers;
+    private List<TimetableTeachingAssistantDTO> teachingAssistants;
+}
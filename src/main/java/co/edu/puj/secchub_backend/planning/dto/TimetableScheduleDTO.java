@@ -0,0 +1,29 @@
+package co.edu.puj.secchub_backend.planning.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalTime;
+
+/**
+ * DTO for a class schedule in a semester timetable, including its classroom.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(toBuilder = true)
+public class TimetableScheduleDTO {
+    private Long id;
+    private Long classId;
+    private String day;
+    private LocalTime startTime;
+    private LocalTime endTime;
+    private Long classroomId;
+    private String classroomRoom;
+    private String classroomLocation;
+    private String classroomCampus;
+    private Long modalityId;
+    private Boolean disability;
+}
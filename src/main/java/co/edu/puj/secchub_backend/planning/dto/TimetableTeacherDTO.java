@@ -0,0 +1,25 @@
+package co.edu.puj.secchub_backend.planning.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for a teacher assigned to a class in a semester timetable.
+ * The ID is the ID of the teacher-class assignment.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TimetableTeacherDTO {
+    private Long id;
+    private Long classId;
+    private Long teacherId;
+    private String name;
+    private String lastName;
+    private Integer workHours;
+    private Boolean decision;
+    private Long statusId;
+}
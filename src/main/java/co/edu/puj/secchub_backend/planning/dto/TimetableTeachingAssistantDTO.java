@@ -0,0 +1,25 @@
+package co.edu.puj.secchub_backend.planning.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO for a teaching assistant of a class in a semester timetable.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TimetableTeachingAssistantDTO {
+    private Long id;
+    private Long classId;
+    private Long studentApplicationId;
+    private String name;
+    private String lastName;
+    private Long weeklyHours;
+    private List<TimetableTeachingAssistantScheduleDTO> schedules;
+}
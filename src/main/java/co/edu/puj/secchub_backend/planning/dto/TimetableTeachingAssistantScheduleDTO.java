@@ -0,0 +1,23 @@
+package co.edu.puj.secchub_backend.planning.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalTime;
+
+/**
+ * DTO for a schedule block of a teaching assistant in a semester timetable.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TimetableTeachingAssistantScheduleDTO {
+    private Long id;
+    private Long teachingAssistantId;
+    private String day;
+    private LocalTime startTime;
+    private LocalTime endTime;
+}
@@ -1,10 +1,13 @@
 package co.edu.puj.secchub_backend.planning.repository;
 
+import co.edu.puj.secchub_backend.config.RowPredicate;
 import co.edu.puj.secchub_backend.planning.model.Class;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -13,6 +16,33 @@ import org.springframework.stereotype.Repository;
  */
 @Repository
 public interface ClassRepository extends R2dbcRepository<Class, Long> {
+
+    /**
+     * Classes the caller can see: a null scope section leaves them unrestricted, otherwise only
+     * the classes whose course belongs to that section are returned.
+     * See {@link RowPredicate}.
+     */
+    String VISIBLE_CLASSES_FROM = """
+        FROM class c
+        LEFT JOIN course co ON co.id = c.course_id
+        """
+        + "WHERE " + RowPredicate.COURSE_SECTION_IN_SCOPE + "\n";
+
+    String VISIBLE_CLASSES = "SELECT c.* " + VISIBLE_CLASSES_FROM;
+
+    /**
+     * Keyset page of the visible rows, ordered by semester and ID, continuing after the given position.
+     * Rows without semester are left out of pages.
+     * See {@link co.edu.puj.secchub_backend.config.KeysetPageRequest}.
+     */
+    String VISIBLE_CLASSES_PAGE = VISIBLE_CLASSES + """
+        AND c.semester_id IS NOT NULL
+        AND (:semesterId IS NULL OR c.semester_id = :semesterId)
+        AND (:afterSemesterId IS NULL OR c.semester_id > :afterSemesterId
+             OR (c.semester_id = :afterSemesterId AND c.id > :afterId))
+        ORDER BY c.semester_id, c.id
+        LIMIT :limit
+        """;
     
     /**
      * Find classes by semester ID.
@@ -20,6 +50,13 @@ public interface ClassRepository extends R2dbcRepository<Class, Long> {
      * @return flux of classes in the specified semester
      */
     Flux<Class> findBySemesterId(Long semesterId);
+
+    /**
+     * Check whether a semester has classes.
+     * @param semesterId the semester ID
+     * @return mono with true when the semester has at least one class
+     */
+    Mono<Boolean> existsBySemesterId(Long semesterId);
     
     /**
      * Find classes by course ID.
@@ -68,4 +105,108 @@ public interface ClassRepository extends R2dbcRepository<Class, Long> {
         "  AND tc.status_id = 3" +
         ")")
     Flux<Class> findBySemesterIdAndNoConfirmedTeacherAssigned(Long semesterId);
-}
\ No newline at end of file
+
+    /**
+     * Find the classes visible in a scope.
+     * @param scopeSectionId section the caller is restricted to, null for every class
+     * @return flux of visible classes
+     */
+    @Query(VISIBLE_CLASSES)
+    Flux<Class> findAllVisible(@Param("scopeSectionId") Long scopeSectionId);
+
+    /**
+     * Find the classes of a semester visible in a scope.
+     * @param semesterId the semester ID
+     * @param scopeSectionId section the caller is restricted to, null for every class
+     * @return flux of visible classes in the specified semester
+     */
+    @Query(VISIBLE_CLASSES + "AND c.semester_id = :semesterId")
+    Flux<Class> findVisibleBySemesterId(@Param("semesterId") Long semesterId, @Param("scopeSectionId") Long scopeSectionId);
+
+    /**
+     * Find the classes of a course visible in a scope.
+     * @param courseId the course ID
+     * @param scopeSectionId section the caller is restricted to, null for every class
+     * @return flux of visible classes for the specified course
+     */
+    @Query(VISIBLE_CLASSES + "AND c.course_id = :courseId")
+    Flux<Class> findVisibleByCourseId(@Param("courseId") Long courseId, @Param("scopeSectionId") Long scopeSectionId);
+
+    /**
+     * Find the classes with a section number visible in a scope.
+     * @param section the section number
+     * @param scopeSectionId section the caller is restricted to, null for every class
+     * @return flux of visible classes for the specified section number
+     */
+    @Query(VISIBLE_CLASSES + "AND c.section = :section")
+    Flux<Class> findVisibleBySection(@Param("section") Long section, @Param("scopeSectionId") Long scopeSectionId);
+
+    /**
+     * Find the classes of a semester and course visible in a scope.
+     * @param semesterId the semester ID
+     * @param courseId the course ID
+     * @param scopeSectionId section the caller is restricted to, null for every class
+     * @return flux of visible classes for the specified semester and course
+     */
+    @Query(VISIBLE_CLASSES + "AND c.semester_id = :semesterId AND c.course_id = :courseId")
+    Flux<Class> findVisibleBySemesterIdAndCourseId(
+        @Param("semesterId") Long semesterId,
+        @Param("courseId") Long courseId,
+        @Param("scopeSectionId") Long scopeSectionId);
+
+    /**
+     * Find the classes of a semester with a schedule without classroom, visible in a scope.
+     * @param semesterId the semester ID
+     * @param scopeSectionId section the caller is restricted to, null for every class
+     * @return flux of visible classes for the specified semester without assigned classroom
+     */
+    @Query(VISIBLE_CLASSES + """
+        AND c.semester_id = :semesterId
+        AND EXISTS (SELECT 1 FROM class_schedule cs WHERE cs.class_id = c.id AND cs.classroom_id IS NULL)
+        """)
+    Flux<Class> findVisibleBySemesterIdAndNoClassroomAssigned(
+        @Param("semesterId") Long semesterId,
+        @Param("scopeSectionId") Long scopeSectionId);
+
+    /**
+     * Find the classes of a semester without confirmed teacher (status 3), visible in a scope.
+     * @param semesterId the semester ID
+     * @param scopeSectionId section the caller is restricted to, null for every class
+     * @return flux of visible classes for the specified semester without confirmed teacher assigned
+     */
+    @Query(VISIBLE_CLASSES + """
+        AND c.semester_id = :semesterId
+        AND NOT EXISTS (SELECT 1 FROM teacher_class tc WHERE tc.class_id = c.id AND tc.status_id = 3)
+        """)
+    Flux<Class> findVisibleBySemesterIdAndNoConfirmedTeacherAssigned(
+        @Param("semesterId") Long semesterId,
+        @Param("scopeSectionId") Long scopeSectionId);
+
+    /**
+     * Find a keyset page of the classes visible in a scope.
+     * @param semesterId the semester ID, null for every semester
+     * @param afterSemesterId semester ID of the last class of the previous page, null for the first page
+     * @param afterId ID of the last class of the previous page, null for the first page
+     * @param limit maximum number of classes
+     * @param scopeSectionId section the caller is restricted to, null for every class
+     * @return flux of visible classes ordered by semester and ID
+     */
+    @Query(VISIBLE_CLASSES_PAGE)
+    Flux<Class> findVisiblePage(
+        @Param("semesterId") Long semesterId,
+        @Param("afterSemesterId") Long afterSemesterId,
+        @Param("afterId") Long afterId,
+        @Param("limit") int limit,
+        @Param("scopeSectionId") Long scopeSectionId);
+
+    /**
+     * Count the classes visible in a scope that pages go through.
+     * @param semesterId the semester ID, null for every semester
+     * @param scopeSectionId section the caller is restricted to, null for every class
+     * @return mono with the number of visible classes
+     */
+    @Query("SELECT COUNT(*) " + VISIBLE_CLASSES_FROM + "AND c.semester_id IS NOT NULL AND (:semesterId IS NULL OR c.semester_id = :semesterId)")
+    Mono<Long> countVisible(
+        @Param("semesterId") Long semesterId,
+        @Param("scopeSectionId") Long scopeSectionId);
+}
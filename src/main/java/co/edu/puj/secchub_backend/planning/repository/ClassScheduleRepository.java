@@ -1,5 +1,6 @@
 package co.edu.puj.secchub_backend.planning.repository;
 
+import co.edu.puj.secchub_backend.config.RowPredicate;
 import co.edu.puj.secchub_backend.planning.model.ClassSchedule;
 import reactor.core.publisher.Flux;
 
@@ -16,6 +17,18 @@ import java.time.LocalTime;
  */
 @Repository
 public interface ClassScheduleRepository extends R2dbcRepository<ClassSchedule, Long> {
+
+    /**
+     * Schedules of the classes the caller can see: a null scope section leaves them unrestricted, otherwise only
+     * the schedules of classes whose course belongs to that section are returned.
+     * See {@link RowPredicate}.
+     */
+    String VISIBLE_SCHEDULES = """
+        SELECT cs.* FROM class_schedule cs
+        INNER JOIN class c ON c.id = cs.class_id
+        LEFT JOIN course co ON co.id = c.course_id
+        """
+        + "WHERE " + RowPredicate.COURSE_SECTION_IN_SCOPE + "\n";
     
     /**
      * Find schedules by class ID.
@@ -74,54 +87,29 @@ public interface ClassScheduleRepository extends R2dbcRepository<ClassSchedule,
     );
 
     /**
-     * Find class schedules overlapping with same classroom in the specified semester.
-     * For a conflict to exist, both the schedule times AND class dates must overlap.
-     * @param semesterId the semester ID
+     * Find the schedules in a classroom visible in a scope.
      * @param classroomId the classroom ID
-     * @return flux of classes with overlapping schedules in the same classroom
+     * @param scopeSectionId section the caller is restricted to, null for every schedule
+     * @return flux of visible schedules in the specified classroom
      */
-    @Query("SELECT DISTINCT cs1.* FROM class_schedule cs1 " +
-        "INNER JOIN class c1 ON cs1.class_id = c1.id " +
-        "INNER JOIN class_schedule cs2 ON cs1.classroom_id = cs2.classroom_id " +
-        "INNER JOIN class c2 ON cs2.class_id = c2.id " +
-        "WHERE c1.semester_id = :semesterId " +
-        "AND c2.semester_id = :semesterId " +
-        "AND c1.id <> c2.id " +
-        "AND cs1.day = cs2.day " + 
-        "AND (cs1.start_time < cs2.end_time) AND (cs1.end_time > cs2.start_time) " +
-        "AND (c1.start_date < c2.end_date) AND (c1.end_date > c2.start_date) " +
-        "AND cs1.classroom_id = :classroomId " +
-        "AND cs2.classroom_id = :classroomId " +
-        "AND cs1.classroom_id IS NOT NULL")
-    Flux<ClassSchedule> findClassesWithOverlappingSchedulesInSameClassroom(
-        @Param("semesterId") Long semesterId,
-        @Param("classroomId") Long classroomId
-    );
+    @Query(VISIBLE_SCHEDULES + "AND cs.classroom_id = :classroomId")
+    Flux<ClassSchedule> findVisibleByClassroomId(@Param("classroomId") Long classroomId, @Param("scopeSectionId") Long scopeSectionId);
 
     /**
-     * Find class schedules with overlapping assignments for a specific teacher.
-     * For a conflict to exist, the teacher must have multiple class assignments with same day of the week,
-     * an overlapping schedule times with overlapping teacher_class assignment dates
-     * and decision must be true (accepted assignments)
-     * @param semesterId the semester ID
-     * @param teacherId the teacher ID
-     * @return flux of class schedules that have conflicts for the teacher
+     * Find the schedules on a day visible in a scope.
+     * @param day the day of the week
+     * @param scopeSectionId section the caller is restricted to, null for every schedule
+     * @return flux of visible schedules on the specified day
      */
-    @Query("SELECT DISTINCT cs1.* FROM class_schedule cs1 " +
-        "INNER JOIN teacher_class tc1 ON cs1.class_id = tc1.class_id " +
-        "INNER JOIN class_schedule cs2 ON cs1.day = cs2.day " +
-        "INNER JOIN teacher_class tc2 ON cs2.class_id = tc2.class_id " +
-        "WHERE tc1.semester_id = :semesterId " +
-        "AND tc2.semester_id = :semesterId " +
-        "AND tc1.teacher_id = :teacherId " +
-        "AND tc2.teacher_id = :teacherId " +
-        "AND tc1.decision = TRUE " +
-        "AND tc2.decision = TRUE " +
-        "AND cs1.id <> cs2.id " +
-        "AND (cs1.start_time < cs2.end_time) AND (cs1.end_time > cs2.start_time) " +
-        "AND (tc1.start_date < tc2.end_date) AND (tc1.end_date > tc2.start_date)")
-    Flux<ClassSchedule> findTeacherScheduleConflicts(
-        @Param("semesterId") Long semesterId,
-        @Param("teacherId") Long teacherId
-    );
-}
\ No newline at end of file
+    @Query(VISIBLE_SCHEDULES + "AND cs.day = :day")
+    Flux<ClassSchedule> findVisibleByDay(@Param("day") String day, @Param("scopeSectionId") Long scopeSectionId);
+
+    /**
+     * Find the schedules by disability flag visible in a scope.
+     * @param disability the disability flag
+     * @param scopeSectionId section the caller is restricted to, null for every schedule
+     * @return flux of visible schedules with the specified disability flag
+     */
+    @Query(VISIBLE_SCHEDULES + "AND cs.disability = :disability")
+    Flux<ClassSchedule> findVisibleByDisability(@Param("disability") Boolean disability, @Param("scopeSectionId") Long scopeSectionId);
+}
@@ -0,0 +1,119 @@
+package co.edu.puj.secchub_backend.planning.repository;
+
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import co.edu.puj.secchub_backend.config.ReportingDatabase;
+import co.edu.puj.secchub_backend.planning.dto.TeachingAssistantScheduleWithDetailsDTO;
+import co.edu.puj.secchub_backend.planning.model.ClassSchedule;
+import reactor.core.publisher.Flux;
+
+/**
+ * Repository for the schedule conflict reports.
+ * Read-only queries that scan a whole semester, routed to the reporting connection pool
+ * so long reports do not compete with interactive requests for connections.
+ */
+@Repository
+@ReportingDatabase
+public interface ScheduleConflictRepository extends org.springframework.data.repository.Repository<ClassSchedule, Long> {
+
+    /**
+     * Find class schedules overlapping with same classroom in the specified semester.
+     * For a conflict to exist, both the schedule times AND class dates must overlap.
+     * @param semesterId the semester ID
+     * @param classroomId the classroom ID
+     * @return flux of classes with overlapping schedules in the same classroom
+     */
+    @Query("SELECT DISTINCT cs1.* FROM class_schedule cs1 " +
+        "INNER JOIN class c1 ON cs1.class_id = c1.id " +
+        "INNER JOIN class_schedule cs2 ON cs1.classroom_id = cs2.classroom_id " +
+        "INNER JOIN class c2 ON cs2.class_id = c2.id " +
+        "WHERE c1.semester_id = :semesterId " +
+        "AND c2.semester_id = :semesterId " +
+        "AND c1.id <> c2.id " +
+        "AND cs1.day = cs2.day " + 
+        "AND (cs1.start_time < cs2.end_time) AND (cs1.end_time > cs2.start_time) " +
+        "AND (c1.start_date < c2.end_date) AND (c1.end_date > c2.start_date) " +
+        "AND cs1.classroom_id = :classroomId " +
+        "AND cs2.classroom_id = :classroomId " +
+        "AND cs1.classroom_id IS NOT NULL")
+    Flux<ClassSchedule> findClassesWithOverlappingSchedulesInSameClassroom(
+        @Param("semesterId") Long semesterId,
+        @Param("classroomId") Long classroomId
+    );
+
+    /**
+     * Find class schedules with overlapping assignments for a specific teacher.
+     * For a conflict to exist, the teacher must have multiple class assignments with same day of the week,
+     * an overlapping schedule times with overlapping teacher_class assignment dates
+     * and decision must be true (accepted assignments)
+     * @param semesterId the semester ID
+     * @param teacherId the teacher ID
+     * @return flux of class schedules that have conflicts for the teacher
+     */
+    @Query("SELECT DISTINCT cs1.* FROM class_schedule cs1 " +
+        "INNER JOIN teacher_class tc1 ON cs1.class_id = tc1.class_id " +
+        "INNER JOIN class_schedule cs2 ON cs1.day = cs2.day " +
+        "INNER JOIN teacher_class tc2 ON cs2.class_id = tc2.class_id " +
+        "WHERE tc1.semester_id = :semesterId " +
+        "AND tc2.semester_id = :semesterId " +
+        "AND tc1.teacher_id = :teacherId " +
+        "AND tc2.teacher_id = :teacherId " +
+        "AND tc1.decision = TRUE " +
+        "AND tc2.decision = TRUE " +
+        "AND cs1.id <> cs2.id " +
+        "AND (cs1.start_time < cs2.end_time) AND (cs1.end_time > cs2.start_time) " +
+        "AND (tc1.start_date < tc2.end_date) AND (tc1.end_date > tc2.start_date)")
+    Flux<ClassSchedule> findTeacherScheduleConflicts(
+        @Param("semesterId") Long semesterId,
+        @Param("teacherId") Long teacherId
+    );
+
+    /**
+     * Find the schedules of every approved teaching assistant in the given semester.
+     * Teaching assistants assigned to a class are scoped by the class semester, while
+     * those without a class fall back to the semester of their student application.
+     * Conflict detection is done in memory by partitioning these rows by user, which avoids
+     * self-joining the schedule table across users.
+     * @param semesterId the semester ID
+     * @return flux of approved teaching assistant schedules with details
+     */
+    @Query("""
+        SELECT
+            tas.id AS schedule_id,
+            tas.teaching_assistant_id,
+            ta.student_application_id,
+            sa.user_id,
+            ta.class_id,
+            sa.section_id,
+            tas.day,
+            tas.start_time,
+            tas.end_time
+        FROM class c
+        INNER JOIN teaching_assistant ta ON ta.class_id = c.id
+        INNER JOIN student_application sa ON ta.student_application_id = sa.id
+        INNER JOIN teaching_assistant_schedule tas ON tas.teaching_assistant_id = ta.id
+        WHERE c.semester_id = :semesterId
+        AND sa.status_id = 8
+        UNION ALL
+        SELECT
+            tas.id AS schedule_id,
+            tas.teaching_assistant_id,
+            ta.student_application_id,
+            sa.user_id,
+            ta.class_id,
+            sa.section_id,
+            tas.day,
+            tas.start_time,
+            tas.end_time
+        FROM student_application sa
+        INNER JOIN teaching_assistant ta ON ta.student_application_id = sa.id
+        INNER JOIN teaching_assistant_schedule tas ON tas.teaching_assistant_id = ta.id
+        WHERE sa.semester_id = :semesterId
+        AND sa.status_id = 8
+        AND ta.class_id IS NULL
+        """)
+    Flux<TeachingAssistantScheduleWithDetailsDTO> findApprovedSchedulesWithDetailsBySemesterId(
+        @Param("semesterId") Long semesterId
+    );}
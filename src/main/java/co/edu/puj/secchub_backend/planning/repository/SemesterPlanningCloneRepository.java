@@ -0,0 +1,74 @@
+package co.edu.puj.secchub_backend.planning.repository;
+
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+
+/**
+ * Set-based copy of the planning of one semester into another.
+ * Classes are copied with one INSERT ... SELECT statement and their schedules with another one,
+ * instead of saving every class and schedule on its own.
+ * The copied schedules find their new class by position: the classes of the source semester ordered by id
+ * match the classes of the target semester ordered by id, since the copy inserts them in that order into
+ * a semester without classes and auto-increment ids grow in insertion order within a statement.
+ */
+@Repository
+@RequiredArgsConstructor
+public class SemesterPlanningCloneRepository {
+
+    private final DatabaseClient databaseClient;
+
+    /**
+     * Copies the classes of the source semester into the target semester, taking the dates of the target semester.
+     * @param sourceSemesterId Source semester ID
+     * @param targetSemesterId Target semester ID, which must not have classes
+     * @return Mono with the number of copied classes
+     */
+    public Mono<Long> cloneClasses(Long sourceSemesterId, Long targetSemesterId) {
+        return databaseClient.sql("""
+                INSERT INTO class
+                    (section, course_id, semester_id, start_date, end_date, observation, capacity, status_id)
+                SELECT c.section, c.course_id, t.id, t.start_date, t.end_date, c.observation, c.capacity, c.status_id
+                FROM class c
+                INNER JOIN semester t ON t.id = :targetSemesterId
+                WHERE c.semester_id = :sourceSemesterId
+                ORDER BY c.id
+                """)
+            .bind("sourceSemesterId", sourceSemesterId)
+            .bind("targetSemesterId", targetSemesterId)
+            .fetch()
+            .rowsUpdated();
+    }
+
+    /**
+     * Copies the schedules of the source semester classes to the classes copied by {@link #cloneClasses(Long, Long)}.
+     * @param sourceSemesterId Source semester ID
+     * @param targetSemesterId Target semester ID
+     * @return Mono with the number of copied schedules
+     */
+    public Mono<Long> cloneClassSchedules(Long sourceSemesterId, Long targetSemesterId) {
+        return databaseClient.sql("""
+                INSERT INTO class_schedule
+                    (class_id, classroom_id, day, start_time, end_time, modality_id, disability)
+                SELECT target_class.id, cs.classroom_id, cs.day, cs.start_time, cs.end_time, cs.modality_id, cs.disability
+                FROM (
+                    SELECT id, ROW_NUMBER() OVER (ORDER BY id) AS position
+                    FROM class
+                    WHERE semester_id = :sourceSemesterId
+                ) source_class
+                INNER JOIN (
+                    SELECT id, ROW_NUMBER() OVER (ORDER BY id) AS position
+                    FROM class
+                    WHERE semester_id = :targetSemesterId
+                ) target_class ON target_class.position = source_class.position
+                INNER JOIN class_schedule cs ON cs.class_id = source_class.id
+                ORDER BY cs.id
+                """)
+            .bind("sourceSemesterId", sourceSemesterId)
+            .bind("targetSemesterId", targetSemesterId)
+            .fetch()
+            .rowsUpdated();
+    }
+}
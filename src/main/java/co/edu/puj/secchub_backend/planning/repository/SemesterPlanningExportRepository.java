@@ -0,0 +1,108 @@
+package co.edu.puj.secchub_backend.planning.repository;
+
+import java.time.LocalTime;
+
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+
+import co.edu.puj.secchub_backend.config.ReportingDatabase;
+import co.edu.puj.secchub_backend.planning.dto.PlanningExportRowDTO;
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+
+/**
+ * Reads the rows of the semester planning export with a single join query.
+ * Every class schedule comes with its course, section, classroom and modality, and the teachers and
+ * teaching assistants of its class are aggregated per class so the query returns exactly one row per schedule.
+ * Routed to the reporting connection pool, which prepares statements on the server, so the rows are fetched
+ * from a server-side cursor in batches of {@link #FETCH_SIZE} and the export never holds the whole semester
+ * in memory. The pool also fits the export since it holds its connection until the last row is written.
+ */
+@Repository
+@RequiredArgsConstructor
+public class SemesterPlanningExportRepository {
+
+    static final int FETCH_SIZE = 500;
+
+    private static final String SEMESTER_SCHEDULES = """
+        SELECT
+            c.id AS class_id,
+            co.name AS course_name,
+            s.name AS section_name,
+            c.section AS class_section,
+            cs.day,
+            cs.start_time,
+            cs.end_time,
+            m.name AS modality,
+            cr.room AS classroom_room,
+            cr.location AS classroom_location,
+            cr.campus AS classroom_campus,
+            teachers.names AS teachers,
+            assistants.names AS teaching_assistants
+        FROM class c
+        INNER JOIN class_schedule cs ON cs.class_id = c.id
+        LEFT JOIN course co ON co.id = c.course_id
+        LEFT JOIN section s ON s.id = co.section_id
+        LEFT JOIN classroom cr ON cr.id = cs.classroom_id
+        LEFT JOIN modality m ON m.id = cs.modality_id
+        LEFT JOIN (
+            SELECT tc.class_id,
+                GROUP_CONCAT(CONCAT_WS(' ', u.name, u.last_name) ORDER BY u.last_name, u.name SEPARATOR '; ') AS names
+            FROM class tcc
+            INNER JOIN teacher_class tc ON tc.class_id = tcc.id
+            INNER JOIN teacher t ON t.id = tc.teacher_id
+            INNER JOIN users u ON u.id = t.user_id
+            WHERE tcc.semester_id = :semesterId
+            AND COALESCE(tc.decision, TRUE)
+            GROUP BY tc.class_id
+        ) teachers ON teachers.class_id = c.id
+        LEFT JOIN (
+            SELECT ta.class_id,
+                GROUP_CONCAT(CONCAT_WS(' ', u.name, u.last_name) ORDER BY u.last_name, u.name SEPARATOR '; ') AS names
+            FROM class tac
+            INNER JOIN teaching_assistant ta ON ta.class_id = tac.id
+            INNER JOIN student_application sa ON sa.id = ta.student_application_id
+            INNER JOIN users u ON u.id = sa.user_id
+            WHERE tac.semester_id = :semesterId
+            GROUP BY ta.class_id
+        ) assistants ON assistants.class_id = c.id
+        WHERE c.semester_id = :semesterId
+        ORDER BY c.id, cs.id
+        """;
+
+    @ReportingDatabase
+    private final DatabaseClient databaseClient;
+
+    /**
+     * Streams one export row per class schedule of the semester, ordered by class and schedule.
+     * Teachers who rejected the class are left out.
+     * @param semesterId Semester ID
+     * @return Flux with the rows, read from the database as they are consumed
+     */
+    public Flux<PlanningExportRowDTO> findSemesterSchedules(Long semesterId) {
+        return databaseClient.sql(SEMESTER_SCHEDULES)
+            .filter(statement -> statement.fetchSize(FETCH_SIZE))
+            .bind("semesterId", semesterId)
+            .map(SemesterPlanningExportRepository::toRow)
+            .all();
+    }
+
+    private static PlanningExportRowDTO toRow(Readable row) {
+        return PlanningExportRowDTO.builder()
+            .classId(row.get("class_id", Long.class))
+            .courseName(row.get("course_name", String.class))
+            .sectionName(row.get("section_name", String.class))
+            .classSection(row.get("class_section", Long.class))
+            .day(row.get("day", String.class))
+            .startTime(row.get("start_time", LocalTime.class))
+            .endTime(row.get("end_time", LocalTime.class))
+            .modality(row.get("modality", String.class))
+            .classroomRoom(row.get("classroom_room", String.class))
+            .classroomLocation(row.get("classroom_location", String.class))
+            .classroomCampus(row.get("classroom_campus", String.class))
+            .teachers(row.get("teachers", String.class))
+            .teachingAssistants(row.get("teaching_assistants", String.class))
+            .build();
+    }
+}
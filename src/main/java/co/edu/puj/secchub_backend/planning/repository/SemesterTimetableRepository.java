@@ -0,0 +1,136 @@
+package co.edu.puj.secchub_backend.planning.repository;
+
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import co.edu.puj.secchub_backend.config.ReportingDatabase;
+import co.edu.puj.secchub_backend.planning.dto.TimetableClassDTO;
+import co.edu.puj.secchub_backend.planning.dto.TimetableScheduleDTO;
+import co.edu.puj.secchub_backend.planning.dto.TimetableTeacherDTO;
+import co.edu.puj.secchub_backend.planning.dto.TimetableTeachingAssistantDTO;
+import co.edu.puj.secchub_backend.planning.dto.TimetableTeachingAssistantScheduleDTO;
+import co.edu.puj.secchub_backend.planning.model.Class;
+import reactor.core.publisher.Flux;
+
+/**
+ * Repository for the rows of the semester timetable read model.
+ * Every part of the timetable is read with one set-based query, either for a whole semester
+ * when the timetable is loaded or for a single class when it changes.
+ * Routed to the reporting connection pool so loading a whole semester does not compete
+ * with interactive requests for connections.
+ */
+@Repository
+@ReportingDatabase
+public interface SemesterTimetableRepository extends org.springframework.data.repository.Repository<Class, Long> {
+
+    String CLASSES = """
+        SELECT
+            c.id,
+            c.section,
+            c.course_id,
+            co.name AS course_name,
+            co.section_id AS course_section_id,
+            c.semester_id,
+            c.start_date,
+            c.end_date,
+            c.capacity,
+            c.status_id
+        FROM class c
+        LEFT JOIN course co ON co.id = c.course_id
+        """;
+
+    String SCHEDULES = """
+        SELECT
+            cs.id,
+            cs.class_id,
+            cs.day,
+            cs.start_time,
+            cs.end_time,
+            cs.classroom_id,
+            cr.room AS classroom_room,
+            cr.location AS classroom_location,
+            cr.campus AS classroom_campus,
+            cs.modality_id,
+            cs.disability
+        FROM class c
+        INNER JOIN class_schedule cs ON cs.class_id = c.id
+        LEFT JOIN classroom cr ON cr.id = cs.classroom_id
+        """;
+
+    String TEACHERS = """
+        SELECT
+            tc.id,
+            tc.class_id,
+            tc.teacher_id,
+            u.name,
+            u.last_name,
+            tc.work_hours,
+            tc.decision,
+            tc.status_id
+        FROM class c
+        INNER JOIN teacher_class tc ON tc.class_id = c.id
+        LEFT JOIN teacher t ON t.id = tc.teacher_id
+        LEFT JOIN users u ON u.id = t.user_id
+        """;
+
+    String TEACHING_ASSISTANTS = """
+        SELECT
+            ta.id,
+            ta.class_id,
+            ta.student_application_id,
+            u.name,
+            u.last_name,
+            ta.weekly_hours
+        FROM class c
+        INNER JOIN teaching_assistant ta ON ta.class_id = c.id
+        LEFT JOIN student_application sa ON sa.id = ta.student_application_id
+        LEFT JOIN users u ON u.id = sa.user_id
+        """;
+
+    String TEACHING_ASSISTANT_SCHEDULES = """
+        SELECT
+            tas.id,
+            tas.teaching_assistant_id,
+            tas.day,
+            tas.start_time,
+            tas.end_time
+        FROM class c
+        INNER JOIN teaching_assistant ta ON ta.class_id = c.id
+        INNER JOIN teaching_assistant_schedule tas ON tas.teaching_assistant_id = ta.id
+        """;
+
+    String BY_SEMESTER = "WHERE c.semester_id = :semesterId";
+
+    String BY_CLASS = "WHERE c.id = :classId";
+
+    @Query(CLASSES + BY_SEMESTER)
+    Flux<TimetableClassDTO> findClassesBySemesterId(@Param("semesterId") Long semesterId);
+
+    @Query(SCHEDULES + BY_SEMESTER)
+    Flux<TimetableScheduleDTO> findSchedulesBySemesterId(@Param("semesterId") Long semesterId);
+
+    @Query(TEACHERS + BY_SEMESTER)
+    Flux<TimetableTeacherDTO> findTeachersBySemesterId(@Param("semesterId") Long semesterId);
+
+    @Query(TEACHING_ASSISTANTS + BY_SEMESTER)
+    Flux<TimetableTeachingAssistantDTO> findTeachingAssistantsBySemesterId(@Param("semesterId") Long semesterId);
+
+    @Query(TEACHING_ASSISTANT_SCHEDULES + BY_SEMESTER)
+    Flux<TimetableTeachingAssistantScheduleDTO> findTeachingAssistantSchedulesBySemesterId(@Param("semesterId") Long semesterId);
+
+    @Query(CLASSES + BY_CLASS)
+    Flux<TimetableClassDTO> findClassesByClassId(@Param("classId") Long classId);
+
+    @Query(SCHEDULES + BY_CLASS)
+    Flux<TimetableScheduleDTO> findSchedulesByClassId(@Param("classId") Long classId);
+
+    @Query(TEACHERS + BY_CLASS)
+    Flux<TimetableTeacherDTO> findTeachersByClassId(@Param("classId") Long classId);
+
+    @Query(TEACHING_ASSISTANTS + BY_CLASS)
+    Flux<TimetableTeachingAssistantDTO> findTeachingAssistantsByClassId(@Param("classId") Long classId);
+
+    @Query(TEACHING_ASSISTANT_SCHEDULES + BY_CLASS)
+    Flux<TimetableTeachingAssistantScheduleDTO> findTeachingAssistantSchedulesByClassId(@Param("classId") Long classId);
+}
@@ -1,10 +1,13 @@
 package co.edu.puj.secchub_backend.planning.repository;
 
+import co.edu.puj.secchub_backend.config.RowPredicate;
 import co.edu.puj.secchub_backend.planning.model.TeachingAssistant;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -13,6 +16,18 @@ import org.springframework.stereotype.Repository;
  */
 @Repository
 public interface TeachingAssistantRepository extends R2dbcRepository<TeachingAssistant, Long> {
+
+    /**
+     * Teaching assistants the caller can see: a null scope section leaves them unrestricted, otherwise only
+     * the assistants whose student application is for that section, or for a course of that section, are returned.
+     * See {@link RowPredicate}.
+     */
+    String VISIBLE_TEACHING_ASSISTANTS = """
+        SELECT ta.* FROM teaching_assistant ta
+        LEFT JOIN student_application sa ON sa.id = ta.student_application_id
+        LEFT JOIN course co ON co.id = sa.course_id
+        """
+        + "WHERE " + RowPredicate.APPLICATION_SECTION_IN_SCOPE + "\n";
     
     /**
      * Find teaching assistants by class ID.
@@ -34,4 +49,12 @@ public interface TeachingAssistantRepository extends R2dbcRepository<TeachingAss
      * @return flux of teaching assistants with adequate weekly hours
      */
     Flux<TeachingAssistant> findByWeeklyHoursGreaterThanEqual(Long weeklyHours);
-}
\ No newline at end of file
+
+    /**
+     * Find the teaching assistants visible in a scope.
+     * @param scopeSectionId section the caller is restricted to, null for every teaching assistant
+     * @return flux of visible teaching assistants
+     */
+    @Query(VISIBLE_TEACHING_ASSISTANTS)
+    Flux<TeachingAssistant> findAllVisible(@Param("scopeSectionId") Long scopeSectionId);
+}
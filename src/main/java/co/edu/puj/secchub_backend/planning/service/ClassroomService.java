@@ -12,6 +12,8 @@ import co.edu.puj.secchub_backend.planning.exception.ClassroomBadRequestExceptio
 import co.edu.puj.secchub_backend.planning.exception.ClassroomNotFoundException;
 import co.edu.puj.secchub_backend.planning.model.Classroom;
 import co.edu.puj.secchub_backend.planning.repository.ClassroomRepository;
+import co.edu.puj.secchub_backend.config.ChangesResource;
+import co.edu.puj.secchub_backend.config.ResourceFamily;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import reactor.core.publisher.Flux;
@@ -27,6 +29,7 @@ import reactor.core.publisher.Mono;
 public class ClassroomService {
 
     private final ClassroomRepository classroomRepository;
+    private final SemesterTimetableProjection semesterTimetableProjection;
     private final ModelMapper modelMapper;
 
     /**
@@ -60,6 +63,7 @@ public class ClassroomService {
      * @param classroomRequestDTO the classroom request data
      * @return The created classroom response DTO
      */
+    @ChangesResource(ResourceFamily.CLASSROOMS)
     public Mono<ClassroomResponseDTO> createClassroom(ClassroomRequestDTO classroomRequestDTO) {
         return Mono.defer(() -> {
             if (classroomRequestDTO.getClassroomTypeId() == null ||
@@ -89,6 +93,7 @@ public class ClassroomService {
      * @return The updated classroom response DTO
      * @throws ClassroomNotFoundException if classroom not found
      */
+    @ChangesResource(ResourceFamily.CLASSROOMS)
     public Mono<ClassroomResponseDTO> updateClassroom(Long id, ClassroomRequestDTO classroomRequestDTO) {
         log.debug("Updating classroom with ID: {}", id);
 
@@ -103,6 +108,7 @@ public class ClassroomService {
 
                 return classroomRepository.save(existingClassroom);
             })
+            .doOnNext(saved -> semesterTimetableProjection.classroomChanged(id, saved))
             .map(this::mapToResponseDTO);
     }
 
@@ -113,6 +119,7 @@ public class ClassroomService {
      * @throws ClassroomNotFoundException if classroom not found
      */
     @Transactional
+    @ChangesResource(ResourceFamily.CLASSROOMS)
     public Mono<Void> deleteClassroom(Long id) {
         log.debug("Deleting classroom with ID: {}", id);
         return classroomRepository.existsById(id)
@@ -121,7 +128,10 @@ public class ClassroomService {
                     return Mono.error(new ClassroomNotFoundException("Classroom to delete not found for ID: " + id));
                 }
                 return classroomRepository.deleteById(id)
-                    .doOnSuccess(v -> log.info("Classroom with ID: {} deleted successfully", id))
+                    .doOnSuccess(v -> {
+                        log.info("Classroom with ID: {} deleted successfully", id);
+                        semesterTimetableProjection.classroomChanged(id, null);
+                    })
                     .doOnError(e -> log.error("Error deleting classroom with ID: {}: {}", id, e.getMessage(), e));
             });
     }
@@ -0,0 +1,63 @@
+package co.edu.puj.secchub_backend.planning.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import co.edu.puj.secchub_backend.planning.dto.PlanningExportRowDTO;
+
+/**
+ * Writes the semester planning export as UTF-8 CSV with a byte order mark, so spreadsheets read accents correctly.
+ * Values with separators, quotes or line breaks are quoted, and values that a spreadsheet would take
+ * as a formula are prefixed with an apostrophe.
+ */
+class CsvPlanningExportWriter extends PlanningExportWriter {
+
+    private static final String BYTE_ORDER_MARK = "\uFEFF";
+    private static final String LINE_SEPARATOR = "\r\n";
+
+    @Override
+    byte[] start() {
+        StringBuilder csv = new StringBuilder(BYTE_ORDER_MARK);
+        appendLine(csv, COLUMNS);
+        return csv.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    byte[] write(List<PlanningExportRowDTO> rows) {
+        StringBuilder csv = new StringBuilder(rows.size() * 128);
+        for (PlanningExportRowDTO row : rows) {
+            appendLine(csv, values(row));
+        }
+        return csv.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    byte[] finish() {
+        return new byte[0];
+    }
+
+    private static void appendLine(StringBuilder csv, List<String> values) {
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                csv.append(',');
+            }
+            csv.append(escape(values.get(i)));
+        }
+        csv.append(LINE_SEPARATOR);
+    }
+
+    /**
+     * Escapes a value for a CSV cell.
+     * @param value Cell value
+     * @return Value ready to be written
+     */
+    static String escape(String value) {
+        if (!value.isEmpty() && "=+-@".indexOf(value.charAt(0)) >= 0) {
+            value = "'" + value;
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
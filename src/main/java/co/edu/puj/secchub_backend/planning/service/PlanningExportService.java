@@ -0,0 +1,74 @@
+package co.edu.puj.secchub_backend.planning.service;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.stereotype.Service;
+
+import co.edu.puj.secchub_backend.admin.contract.AdminModuleSemesterContract;
+import co.edu.puj.secchub_backend.planning.dto.PlanningExportFormat;
+import co.edu.puj.secchub_backend.planning.exception.PlanningBadRequestException;
+import co.edu.puj.secchub_backend.planning.repository.SemesterPlanningExportRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Service for exporting the planning of a semester as a file with one row per class schedule.
+ * The rows are read with one cursor-backed query and encoded in chunks of {@link #CHUNK_ROWS} rows,
+ * each written as its own data buffer, so memory stays flat regardless of the size of the semester.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class PlanningExportService {
+
+    static final int CHUNK_ROWS = 500;
+
+    private final SemesterPlanningExportRepository semesterPlanningExportRepository;
+    private final AdminModuleSemesterContract semesterService;
+
+    /**
+     * Exports the planning of a semester.
+     * The semester is checked before the export starts, so a missing semester fails the request
+     * with a bad request instead of cutting a response already being written.
+     * @param semesterId Semester ID
+     * @param format File format
+     * @param bufferFactory Factory of the response buffers
+     * @return Mono with the export, whose content is read when it is subscribed
+     * @throws PlanningBadRequestException if the semester does not exist
+     */
+    public Mono<SemesterPlanningExport> exportSemesterPlanning(Long semesterId, PlanningExportFormat format,
+            DataBufferFactory bufferFactory) {
+        return semesterService.getSemesterById(semesterId)
+            .map(semester -> new SemesterPlanningExport(
+                "planning-" + semester.getYear() + "-" + semester.getPeriod() + "." + format.getExtension(),
+                format,
+                content(semesterId, format, bufferFactory)))
+            .onErrorMap(e -> {
+                log.warn("Cannot export planning of semester ID {}: {}", semesterId, e.getMessage());
+                return new PlanningBadRequestException("Cannot export planning of semester: " + e.getMessage());
+            });
+    }
+
+    /**
+     * Streams the file, with a new writer for every subscription.
+     * @param semesterId Semester ID
+     * @param format File format
+     * @param bufferFactory Factory of the response buffers
+     * @return Flux with the bytes of the file in chunks
+     */
+    private Flux<DataBuffer> content(Long semesterId, PlanningExportFormat format, DataBufferFactory bufferFactory) {
+        return Flux.using(
+            () -> PlanningExportWriter.create(format),
+            writer -> Mono.fromCallable(writer::start)
+                .concatWith(semesterPlanningExportRepository.findSemesterSchedules(semesterId)
+                    .buffer(CHUNK_ROWS)
+                    .map(writer::write))
+                .concatWith(Mono.fromCallable(writer::finish))
+                .filter(bytes -> bytes.length > 0)
+                .map(bufferFactory::wrap),
+            PlanningExportWriter::close)
+            .doOnError(e -> log.error("Error exporting planning of semester ID {}: {}", semesterId, e.getMessage()));
+    }
+}
@@ -0,0 +1,86 @@
+package co.edu.puj.secchub_backend.planning.service;
+
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.List;
+
+import co.edu.puj.secchub_backend.planning.dto.PlanningExportFormat;
+import co.edu.puj.secchub_backend.planning.dto.PlanningExportRowDTO;
+
+/**
+ * Encodes the semester planning export into the bytes of a file format, one chunk of rows at a time.
+ * A writer is used for a single export: {@link #start()} first, then {@link #write(List)} for every chunk of rows
+ * and {@link #finish()} last. Every call returns only the bytes produced since the previous one, so the
+ * export is written as it is read without keeping the file in memory.
+ */
+abstract class PlanningExportWriter implements AutoCloseable {
+
+    static final List<String> COLUMNS = List.of(
+        "Class ID", "Course", "Section", "Class Section", "Day", "Start Time", "End Time", "Modality",
+        "Room", "Location", "Campus", "Teachers", "Teaching Assistants");
+
+    /**
+     * Creates a writer for one export.
+     * @param format File format
+     * @return New writer
+     */
+    static PlanningExportWriter create(PlanningExportFormat format) {
+        return switch (format) {
+            case CSV -> new CsvPlanningExportWriter();
+            case XLSX -> new XlsxPlanningExportWriter();
+        };
+    }
+
+    /**
+     * @return Bytes that open the file, including the header row
+     */
+    abstract byte[] start();
+
+    /**
+     * @param rows Chunk of rows, in export order
+     * @return Bytes of the rows
+     */
+    abstract byte[] write(List<PlanningExportRowDTO> rows);
+
+    /**
+     * @return Bytes that close the file
+     */
+    abstract byte[] finish();
+
+    /**
+     * Releases the resources of a writer that did not finish, when the export fails or is cancelled.
+     */
+    @Override
+    public void close() {
+    }
+
+    /**
+     * Gets the values of a row in the order of {@link #COLUMNS}, with empty values for missing data.
+     * @param row Export row
+     * @return Values of the row
+     */
+    static List<String> values(PlanningExportRowDTO row) {
+        return Arrays.asList(
+            text(row.getClassId()),
+            text(row.getCourseName()),
+            text(row.getSectionName()),
+            text(row.getClassSection()),
+            text(row.getDay()),
+            time(row.getStartTime()),
+            time(row.getEndTime()),
+            text(row.getModality()),
+            text(row.getClassroomRoom()),
+            text(row.getClassroomLocation()),
+            text(row.getClassroomCampus()),
+            text(row.getTeachers()),
+            text(row.getTeachingAssistants()));
+    }
+
+    private static String text(Object value) {
+        return value == null ? "" : value.toString();
+    }
+
+    private static String time(LocalTime value) {
+        return value == null ? "" : value.withNano(0).toString();
+    }
+}
@@ -1,16 +1,24 @@
 package co.edu.puj.secchub_backend.planning.service;
 
+import co.edu.puj.secchub_backend.admin.contract.AdminModuleAccessScopeContract;
 import co.edu.puj.secchub_backend.admin.contract.AdminModuleCourseContract;
-import co.edu.puj.secchub_backend.admin.contract.AdminModuleSectionContract;
 import co.edu.puj.secchub_backend.admin.contract.AdminModuleSemesterContract;
 import co.edu.puj.secchub_backend.admin.contract.AdminModuleTeacherContract;
+import co.edu.puj.secchub_backend.config.KeysetPage;
+import co.edu.puj.secchub_backend.config.KeysetPageRequest;
+import co.edu.puj.secchub_backend.config.ReadOnlyRoute;
+import co.edu.puj.secchub_backend.config.RowPredicate;
+import co.edu.puj.secchub_backend.config.SingleFlight;
 import co.edu.puj.secchub_backend.planning.contract.PlanningModuleClassContract;
 import co.edu.puj.secchub_backend.planning.dto.ClassCreateRequestDTO;
 import co.edu.puj.secchub_backend.planning.dto.ClassResponseDTO;
 import co.edu.puj.secchub_backend.planning.dto.ClassScheduleRequestDTO;
 import co.edu.puj.secchub_backend.planning.dto.ClassScheduleResponseDTO;
+import co.edu.puj.secchub_backend.planning.dto.ClassroomResponseDTO;
 import co.edu.puj.secchub_backend.planning.dto.ClassroomScheduleConflictResponseDTO;
+import co.edu.puj.secchub_backend.planning.dto.SemesterTimetableResponseDTO;
 import co.edu.puj.secchub_backend.planning.dto.TeacherScheduleConflictResponseDTO;
+import co.edu.puj.secchub_backend.planning.dto.TimetableClassDTO;
 import co.edu.puj.secchub_backend.planning.exception.ClassCreationException;
 import co.edu.puj.secchub_backend.planning.exception.ClassNotFoundException;
 import co.edu.puj.secchub_backend.planning.exception.ClassScheduleNotFoundException;
@@ -20,25 +28,29 @@ import co.edu.puj.secchub_backend.planning.model.Class;
 import co.edu.puj.secchub_backend.planning.model.ClassSchedule;
 import co.edu.puj.secchub_backend.planning.repository.ClassRepository;
 import co.edu.puj.secchub_backend.planning.repository.ClassScheduleRepository;
+import co.edu.puj.secchub_backend.planning.repository.ScheduleConflictRepository;
 import co.edu.puj.secchub_backend.security.contract.SecurityModuleUserContract;
+import co.edu.puj.secchub_backend.security.contract.UserInformationResponseDTO;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import org.modelmapper.ModelMapper;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.ReactiveSecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.reactive.TransactionalOperator;
 
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.util.function.Tuple2;
+import reactor.util.function.Tuples;
 
 import java.time.LocalTime;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * Service class for handling planning-related operations.
@@ -48,18 +60,23 @@ import java.util.Set;
 @Slf4j
 @RequiredArgsConstructor
 public class PlanningService implements PlanningModuleClassContract {
-    
+    static final String CLASSROOM_CONFLICTS_OPERATION = "classroom-conflicts";
+    static final String TEACHER_CONFLICTS_OPERATION = "teacher-conflicts";
+
     private final ModelMapper modelMapper;
     private final ClassRepository classRepository;
     private final ClassScheduleRepository classScheduleRepository;
+    private final ScheduleConflictRepository scheduleConflictRepository;
 
     private final AdminModuleSemesterContract semesterService;
-    private final AdminModuleSectionContract sectionService;
+    private final AdminModuleAccessScopeContract accessScopeService;
     private final AdminModuleCourseContract courseService;
     private final AdminModuleTeacherContract teacherService;
     private final SecurityModuleUserContract userService;
 
     private final ClassroomService classroomService;
+    private final SemesterTimetableProjection semesterTimetableProjection;
+    private final SingleFlight singleFlight;
 
     private final TransactionalOperator transactionalOperator;
 
@@ -103,6 +120,7 @@ public class PlanningService implements PlanningModuleClassContract {
                     });
             })
             .as(transactionalOperator::transactional)
+            .doOnNext(created -> semesterTimetableProjection.classChanged(created.getId()))
             .onErrorMap(e -> {
                 log.error("Error creating class: {}", e.getMessage());
                 throw new ClassCreationException("Error creating class: " + e.getMessage());
@@ -117,8 +135,8 @@ public class PlanningService implements PlanningModuleClassContract {
     public Flux<ClassResponseDTO> findCurrentSemesterClasses() {
         return semesterService.getCurrentSemesterId()
         .flatMapMany(currentSemesterId ->
-            classRepository.findBySemesterId(currentSemesterId)
-                .filterWhen(this::filterClassByUserSection)
+            visibleClasses().flatMapMany(visible -> visible.select(predicate ->
+                classRepository.findVisibleBySemesterId(currentSemesterId, predicate.scopeSectionId())))
                 .flatMap(this::getClassSchedulesForClass)
         ).onErrorMap(e -> {
             log.error("Error retrieving classes for current semester: {}", e.getMessage());
@@ -132,8 +150,8 @@ public class PlanningService implements PlanningModuleClassContract {
      * @return Flux of all classes
      */
     public Flux<ClassResponseDTO> findAllClasses() {
-        return classRepository.findAll()
-        .filterWhen(this::filterClassByUserSection)
+        return visibleClasses().flatMapMany(visible -> visible.select(predicate ->
+            classRepository.findAllVisible(predicate.scopeSectionId())))
         .flatMap(this::getClassSchedulesForClass)
         .onErrorMap(e -> {
             log.error("Error retrieving all classes: {}", e.getMessage());
@@ -161,8 +179,8 @@ public class PlanningService implements PlanningModuleClassContract {
      * @return Flux of classes for the specified course
      */
     public Flux<ClassResponseDTO> findClassesByCourse(Long courseId) {
-        return classRepository.findByCourseId(courseId)
-        .filterWhen(this::filterClassByUserSection)
+        return visibleClasses().flatMapMany(visible -> visible.select(predicate ->
+            classRepository.findVisibleByCourseId(courseId, predicate.scopeSectionId())))
         .flatMap(this::getClassSchedulesForClass)
         .onErrorMap(e -> {
             log.error("Error retrieving all classes by course ID {}: {}", courseId, e.getMessage());
@@ -177,8 +195,8 @@ public class PlanningService implements PlanningModuleClassContract {
      * @return Flux of classes for the specified section
      */
     public Flux<ClassResponseDTO> findClassesBySection(Long section) {
-        return classRepository.findBySection(section)
-        .filterWhen(this::filterClassByUserSection)
+        return visibleClasses().flatMapMany(visible -> visible.select(predicate ->
+            classRepository.findVisibleBySection(section, predicate.scopeSectionId())))
         .flatMap(this::getClassSchedulesForClass)
         .onErrorMap(e -> {
             log.error("Error retrieving classes by section {}: {}", section, e.getMessage());
@@ -195,8 +213,8 @@ public class PlanningService implements PlanningModuleClassContract {
     public Flux<ClassResponseDTO> findCurrentSemesterClassesByCourse(Long courseId) {
         return semesterService.getCurrentSemesterId()
         .flatMapMany(currentSemesterId ->
-            classRepository.findBySemesterIdAndCourseId(currentSemesterId, courseId)
-                .filterWhen(this::filterClassByUserSection)
+            visibleClasses().flatMapMany(visible -> visible.select(predicate ->
+                classRepository.findVisibleBySemesterIdAndCourseId(currentSemesterId, courseId, predicate.scopeSectionId())))
                 .flatMap(this::getClassSchedulesForClass)
         ).onErrorMap(e -> {
             log.error("Error retrieving classes for current semester and course ID {}: {}", courseId, e.getMessage());
@@ -211,8 +229,8 @@ public class PlanningService implements PlanningModuleClassContract {
      * @return Flux of classes for the semester
      */
     public Flux<ClassResponseDTO> findClassesBySemester(Long semesterId) {
-        return classRepository.findBySemesterId(semesterId)
-        .filterWhen(this::filterClassByUserSection)
+        return visibleClasses().flatMapMany(visible -> visible.select(predicate ->
+            classRepository.findVisibleBySemesterId(semesterId, predicate.scopeSectionId())))
         .flatMap(this::getClassSchedulesForClass)
         .onErrorMap(e -> {
             log.error("Error retrieving classes by semester ID {}: {}", semesterId, e.getMessage());
@@ -220,6 +238,52 @@ public class PlanningService implements PlanningModuleClassContract {
         });
     }
 
+    /**
+     * Gets a page of classes ordered by semester and ID.
+     * If the current user has ROLE_SECTION, only classes for their section are returned.
+     * @param semesterId Semester ID, null for every semester
+     * @param cursor Cursor returned with the previous page, null for the first page
+     * @param size Classes per page, capped at {@link KeysetPageRequest#MAX_SIZE}
+     * @param includeTotal Whether to count the classes of every page
+     * @return Mono with the page of classes
+     * @throws PlanningBadRequestException if the cursor or the size is invalid
+     */
+    public Mono<KeysetPage<ClassResponseDTO>> findClassesPage(Long semesterId, String cursor, Integer size, boolean includeTotal) {
+        return Mono.fromCallable(() -> KeysetPageRequest.of(cursor, size, includeTotal))
+        .onErrorMap(IllegalArgumentException.class, e -> new PlanningBadRequestException(e.getMessage()))
+        .zipWith(visibleClasses())
+        .flatMap(tuple -> {
+            KeysetPageRequest page = tuple.getT1();
+            RowPredicate visible = tuple.getT2();
+            return page.read(
+                visible.select(predicate -> classRepository.findVisiblePage(semesterId, page.afterSemesterId(),
+                    page.afterId(), page.fetchSize(), predicate.scopeSectionId())),
+                Class::getSemesterId, Class::getId, this::getClassSchedulesForClass,
+                () -> visible.count(predicate -> classRepository.countVisible(semesterId, predicate.scopeSectionId())));
+        })
+        .onErrorMap(e -> !(e instanceof PlanningBadRequestException), e -> {
+            log.error("Error retrieving page of classes: {}", e.getMessage());
+            return new PlanningServerErrorException("Error retrieving page of classes: " + e.getMessage());
+        });
+    }
+
+    /**
+     * Gets the timetable of a semester from the in-memory read model.
+     * If the current user has ROLE_SECTION, only the classes for their section are returned and the
+     * section is reported in the response.
+     * @param semesterId Semester ID
+     * @return Mono with the timetable and its version
+     */
+    public Mono<SemesterTimetableResponseDTO> getSemesterTimetable(Long semesterId) {
+        return semesterTimetableProjection.getTimetable(semesterId)
+        .flatMap(timetable -> visibleClasses()
+            .map(visible -> visible.isUnrestricted() ? timetable : restrictToSection(timetable, visible.scopeSectionId())))
+        .onErrorMap(e -> {
+            log.error("Error retrieving timetable for semester ID {}: {}", semesterId, e.getMessage());
+            throw new PlanningServerErrorException("Error retrieving semester timetable: " + e.getMessage());
+        });
+    }
+
     /**
      * Updates a class.
      * If the current user has ROLE_SECTION, only the class for their section is updated.
@@ -236,6 +300,7 @@ public class PlanningService implements PlanningModuleClassContract {
             modelMapper.map(classCreateRequestDTO, existingClass);
             return classRepository.save(existingClass);
         })
+        .doOnNext(saved -> semesterTimetableProjection.classChanged(saved.getId()))
         .map(this::mapToResponseDTO)
         .onErrorMap(e -> {
             log.error("Error updating class with id {}: {}", classId, e.getMessage());
@@ -256,7 +321,8 @@ public class PlanningService implements PlanningModuleClassContract {
         return classRepository.findById(classId)
         .filterWhen(this::filterClassByUserSection)
         .switchIfEmpty(Mono.error(new ClassNotFoundException("Class not found for deletion with id: " + classId)))
-        .flatMap(existing -> classRepository.deleteById(existing.getId()));
+        .flatMap(existing -> classRepository.deleteById(existing.getId())
+            .doOnSuccess(deleted -> semesterTimetableProjection.classChanged(existing.getId())));
     }
 
     // ========================================================================
@@ -279,6 +345,7 @@ public class PlanningService implements PlanningModuleClassContract {
             classSchedule.setClassId(classId);
             return classScheduleRepository.save(classSchedule);
         })
+        .doOnNext(saved -> semesterTimetableProjection.classChanged(saved.getClassId()))
         .map(this::mapToResponseDTO);
     }
 
@@ -335,6 +402,7 @@ public class PlanningService implements PlanningModuleClassContract {
             modelMapper.map(classScheduleRequestDTO, existingSchedule);
             return classScheduleRepository.save(existingSchedule);
         })
+        .doOnNext(saved -> semesterTimetableProjection.classChanged(saved.getClassId()))
         .map(this::mapToResponseDTO)
         .onErrorMap(e -> {
             log.error("Error updating class schedule with id {}: {}", scheduleId, e.getMessage());
@@ -362,9 +430,10 @@ public class PlanningService implements PlanningModuleClassContract {
             classRepository.findById(existingSchedule.getClassId())
             .filterWhen(this::filterClassByUserSection)
             .switchIfEmpty(Mono.error(new ClassNotFoundException("Class not found for schedule deletion with id: " + scheduleId)))
-            .thenReturn(existingSchedule.getId())
+            .thenReturn(existingSchedule)
         )
-        .flatMap(classScheduleRepository::deleteById);
+        .flatMap(existingSchedule -> classScheduleRepository.deleteById(existingSchedule.getId())
+            .doOnSuccess(deleted -> semesterTimetableProjection.classChanged(existingSchedule.getClassId())));
     }
 
     /**
@@ -411,6 +480,7 @@ public class PlanningService implements PlanningModuleClassContract {
 
                 return classScheduleRepository.save(schedule);
             })
+            .doOnNext(saved -> semesterTimetableProjection.classChanged(saved.getClassId()))
             .map(saved -> modelMapper.map(saved, ClassScheduleResponseDTO.class));
     }
 
@@ -421,12 +491,8 @@ public class PlanningService implements PlanningModuleClassContract {
      * @return Flux of schedules for the specified classroom
      */
     public Flux<ClassScheduleResponseDTO> findClassSchedulesByClassroom(Long classroomId) {
-        return classScheduleRepository.findByClassroomId(classroomId)
-        .flatMap(classSchedule ->
-            classRepository.findById(classSchedule.getClassId())
-            .filterWhen(this::filterClassByUserSection)
-            .map(classEntity -> classSchedule)
-        )
+        return visibleClasses().flatMapMany(visible -> visible.select(predicate ->
+            classScheduleRepository.findVisibleByClassroomId(classroomId, predicate.scopeSectionId())))
         .map(this::mapToResponseDTO);
     }
 
@@ -437,12 +503,8 @@ public class PlanningService implements PlanningModuleClassContract {
      * @return Flux of schedules for the specified day
      */
     public Flux<ClassScheduleResponseDTO> findClassSchedulesByDay(String day) {
-        return classScheduleRepository.findByDay(day)
-        .flatMap(classSchedule ->
-            classRepository.findById(classSchedule.getClassId())
-            .filterWhen(this::filterClassByUserSection)
-            .map(classEntity -> classSchedule)
-        )
+        return visibleClasses().flatMapMany(visible -> visible.select(predicate ->
+            classScheduleRepository.findVisibleByDay(day, predicate.scopeSectionId())))
         .map(this::mapToResponseDTO);
     }
 
@@ -453,12 +515,8 @@ public class PlanningService implements PlanningModuleClassContract {
      * @return Flux of schedules with disability considerations
      */
     public Flux<ClassScheduleResponseDTO> findClassSchedulesByDisability(Boolean disability) {
-        return classScheduleRepository.findByDisability(disability)
-        .flatMap(classSchedule ->
-            classRepository.findById(classSchedule.getClassId())
-            .filterWhen(this::filterClassByUserSection)
-            .map(classEntity -> classSchedule)
-        )
+        return visibleClasses().flatMapMany(visible -> visible.select(predicate ->
+            classScheduleRepository.findVisibleByDisability(disability, predicate.scopeSectionId())))
         .map(this::mapToResponseDTO);
     }
 
@@ -472,8 +530,8 @@ public class PlanningService implements PlanningModuleClassContract {
     public Flux<ClassResponseDTO> duplicateSemesterPlanning(Long sourceSemesterId, Long targetSemesterId) {
         return semesterService.getSemesterById(targetSemesterId)
         .flatMapMany(targetSemester ->
-            classRepository.findBySemesterId(sourceSemesterId)
-            .filterWhen(this::filterClassByUserSection)
+            visibleClasses().flatMapMany(visible -> visible.select(predicate ->
+                classRepository.findVisibleBySemesterId(sourceSemesterId, predicate.scopeSectionId())))
             .flatMap(src -> {
                 Class copy = new Class();
                 modelMapper.map(src, copy);
@@ -497,6 +555,7 @@ public class PlanningService implements PlanningModuleClassContract {
             .flatMap(this::getClassSchedulesForClass)
         )
         .as(transactionalOperator::transactional)
+        .doOnComplete(() -> semesterTimetableProjection.evict(targetSemesterId))
         .onErrorMap(e -> {
             log.error("Error duplicating semester planning from {} to {}: {}", sourceSemesterId, targetSemesterId, e.getMessage());
             throw new PlanningServerErrorException("Error duplicating semester planning: " + e.getMessage());
@@ -553,6 +612,7 @@ public class PlanningService implements PlanningModuleClassContract {
             )
         )
         .as(transactionalOperator::transactional)
+        .doOnNext(duplicated -> semesterTimetableProjection.classChanged(duplicated.getId()))
         .onErrorMap(e -> {
             log.error("Error duplicating class planning for class IDs {}: {}", sourceClassIds, e.getMessage());
 
@@ -573,8 +633,8 @@ public class PlanningService implements PlanningModuleClassContract {
     public Flux<ClassResponseDTO> findClassesWithoutClassroomAssigned() {
         return semesterService.getCurrentSemesterId()
         .flatMapMany(currentSemesterId ->
-            classRepository.findBySemesterIdAndNoClassroomAssigned(currentSemesterId)
-                .filterWhen(this::filterClassByUserSection)
+            visibleClasses().flatMapMany(visible -> visible.select(predicate ->
+                classRepository.findVisibleBySemesterIdAndNoClassroomAssigned(currentSemesterId, predicate.scopeSectionId())))
                 .flatMap(this::getClassSchedulesForClass)
         ).onErrorMap(e -> {
             log.error("Error retrieving classes without classroom assigned for current semester: {}", e.getMessage());
@@ -590,8 +650,8 @@ public class PlanningService implements PlanningModuleClassContract {
     public Flux<ClassResponseDTO> findClassesWithoutTeacherAssigned() {
         return semesterService.getCurrentSemesterId()
         .flatMapMany(currentSemesterId ->
-            classRepository.findBySemesterIdAndNoConfirmedTeacherAssigned(currentSemesterId)
-                .filterWhen(this::filterClassByUserSection)
+            visibleClasses().flatMapMany(visible -> visible.select(predicate ->
+                classRepository.findVisibleBySemesterIdAndNoConfirmedTeacherAssigned(currentSemesterId, predicate.scopeSectionId())))
                 .flatMap(this::getClassSchedulesForClass)
         ).onErrorMap(e -> {
             log.error("Error retrieving classes without teacher assigned for current semester: {}", e.getMessage());
@@ -601,62 +661,15 @@ public class PlanningService implements PlanningModuleClassContract {
 
     /**
      * Obtains schedule conflicts for classrooms in the current semester.
-     * Groups overlapping schedules by classroom and filters based on user permissions.
-     * Creates separate conflict groups for each cluster of overlapping schedules.
+     * The conflicts of a semester are computed once for concurrent callers and filtered by each user's permissions.
      * @return Flux of classroom schedule conflicts
      */
+    @ReadOnlyRoute
     public Flux<ClassroomScheduleConflictResponseDTO> getClassroomScheduleConflicts() {
         return semesterService.getCurrentSemesterId()
-        .flatMapMany(currentSemesterId ->
-            classroomService.getAllClassrooms()
-            .flatMap(classroom ->
-                classScheduleRepository.findClassesWithOverlappingSchedulesInSameClassroom(currentSemesterId, classroom.getId())
-                .collectList()
-                .filter(schedulesWithConflicts -> !schedulesWithConflicts.isEmpty())
-                .flatMapMany(schedulesWithConflicts -> {
-                    // Group schedules into clusters based on overlaps
-                    List<List<ClassSchedule>> clusters = groupSchedulesIntoOverlapClusters(schedulesWithConflicts);
-                    
-                    // Create a conflict DTO for each cluster with at least 2 schedules
-                    return Flux.fromIterable(clusters)
-                    .filter(cluster -> cluster.size() >= 2)
-                    // Filter if none of the schedules in the cluster belong to classes accessible by the user
-                    .filterWhen(cluster ->
-                        Flux.fromIterable(cluster)
-                        .flatMap(schedule ->
-                            classRepository.findById(schedule.getClassId())
-                            .filterWhen(this::filterClassByUserSection)
-                        )
-                        .hasElements()
-                    )
-                    .map(cluster -> {
-                        ClassroomScheduleConflictResponseDTO conflictDTO = new ClassroomScheduleConflictResponseDTO();
-                        conflictDTO.setClassroomId(classroom.getId());
-                        conflictDTO.setClassroomName(classroom.getRoom());
-                        conflictDTO.setConflictingClassesIds(
-                            cluster.stream()
-                            .map(ClassSchedule::getClassId)
-                            .distinct()
-                            .toList()
-                        );
-                        conflictDTO.setConflictStartTime(
-                            cluster.stream()
-                            .map(ClassSchedule::getStartTime)
-                            .min(LocalTime::compareTo)
-                            .orElse(cluster.get(0).getStartTime())
-                        );
-                        conflictDTO.setConflictEndTime(
-                            cluster.stream()
-                            .map(ClassSchedule::getEndTime)
-                            .max(LocalTime::compareTo)
-                            .orElse(cluster.get(0).getEndTime())
-                        );
-                        conflictDTO.setDay(cluster.get(0).getDay());
-                        return conflictDTO;
-                    });
-                })
-            )
-        )
+        .flatMap(currentSemesterId -> singleFlight.execute(CLASSROOM_CONFLICTS_OPERATION, currentSemesterId,
+            () -> computeClassroomScheduleConflicts(currentSemesterId)))
+        .flatMapMany(this::visibleConflicts)
         .onErrorMap(e -> {
             log.error("Error retrieving classroom schedule conflicts: {}", e.getMessage());
             throw new PlanningServerErrorException("Error retrieving classroom schedule conflicts: " + e.getMessage());
@@ -665,74 +678,208 @@ public class PlanningService implements PlanningModuleClassContract {
 
     /**
      * Obtains schedule conflicts for teachers in the current semester.
-     * Groups overlapping schedules by teacher and filters based on user permissions.
-     * Creates separate conflict groups for each cluster of overlapping schedules.
+     * The conflicts of a semester are computed once for concurrent callers and filtered by each user's permissions.
      * @return Flux of teacher schedule conflicts
      */
+    @ReadOnlyRoute
     public Flux<TeacherScheduleConflictResponseDTO> getTeacherScheduleConflicts() {
         return semesterService.getCurrentSemesterId()
-        .flatMapMany(currentSemesterId ->
-            teacherService.getAllTeachers()
-            .flatMap(teacher ->
-                classScheduleRepository.findTeacherScheduleConflicts(currentSemesterId, teacher.getId())
-                .collectList()
-                .filter(schedulesWithConflicts -> !schedulesWithConflicts.isEmpty())
-                .flatMapMany(schedulesWithConflicts -> {
-                    // Group schedules into clusters based on overlaps
-                    List<List<ClassSchedule>> clusters = groupSchedulesIntoOverlapClusters(schedulesWithConflicts);
-                    
-                    // Create a conflict DTO for each cluster with at least 2 schedules
-                    return Flux.fromIterable(clusters)
-                    .filter(cluster -> cluster.size() >= 2)
-                    // Filter if none of the schedules in the cluster belong to classes accessible by the user
-                    .filterWhen(cluster ->
-                        Flux.fromIterable(cluster)
-                        .flatMap(schedule ->
-                            classRepository.findById(schedule.getClassId())
-                            .filterWhen(this::filterClassByUserSection)
-                        )
-                        .hasElements()
-                    )
-                    .flatMap(cluster ->
-                        // Get user information for the teacher
-                        userService.getUserInformationById(teacher.getUserId())
-                        .map(user -> {
-                            TeacherScheduleConflictResponseDTO conflictDTO = new TeacherScheduleConflictResponseDTO();
-                            conflictDTO.setUserId(user.getId());
-                            conflictDTO.setUserName(user.getName() + " " + user.getLastName());
-                            conflictDTO.setConflictingClassesIds(
-                                cluster.stream()
-                                .map(ClassSchedule::getClassId)
-                                .distinct()
-                                .toList()
-                            );
-                            
-                            LocalTime minStartTime = cluster.stream()
-                                .map(ClassSchedule::getStartTime)
-                                .min(LocalTime::compareTo)
-                                .orElse(cluster.get(0).getStartTime());
-                            
-                            LocalTime maxEndTime = cluster.stream()
-                                .map(ClassSchedule::getEndTime)
-                                .max(LocalTime::compareTo)
-                                .orElse(cluster.get(0).getEndTime());
-                            
-                            conflictDTO.setConflictStartTime(minStartTime.toString());
-                            conflictDTO.setConflictEndTime(maxEndTime.toString());
-                            conflictDTO.setConflictDay(cluster.get(0).getDay());
-                            
-                            return conflictDTO;
-                        })
-                    );
-                })
-            )
-        )
+        .flatMap(currentSemesterId -> singleFlight.execute(TEACHER_CONFLICTS_OPERATION, currentSemesterId,
+            () -> computeTeacherScheduleConflicts(currentSemesterId)))
+        .flatMapMany(this::visibleConflicts)
         .onErrorMap(e -> {
             log.error("Error retrieving teacher schedule conflicts: {}", e.getMessage());
             throw new PlanningServerErrorException("Error retrieving teacher schedule conflicts: " + e.getMessage());
         });
     }
 
+    /**
+     * Computes the classroom schedule conflicts of a semester for every user.
+     * Groups overlapping schedules by classroom and creates separate conflict groups for each cluster
+     * of overlapping schedules, keeping the courses of its classes to filter them per user.
+     * @param semesterId Semester ID
+     * @return Mono with the conflicts and the courses of their classes
+     */
+    private Mono<List<ScopedConflict<ClassroomScheduleConflictResponseDTO>>> computeClassroomScheduleConflicts(Long semesterId) {
+        return classroomService.getAllClassrooms()
+        .flatMap(classroom ->
+            scheduleConflictRepository.findClassesWithOverlappingSchedulesInSameClassroom(semesterId, classroom.getId())
+            .collectList()
+            .filter(schedulesWithConflicts -> !schedulesWithConflicts.isEmpty())
+            .flatMapMany(schedulesWithConflicts ->
+                // Group schedules into clusters based on overlaps, keeping those with at least 2 schedules
+                Flux.fromIterable(groupSchedulesIntoOverlapClusters(schedulesWithConflicts))
+                .filter(cluster -> cluster.size() >= 2)
+                .map(cluster -> Tuples.of(classroom, cluster)))
+        )
+        .collectList()
+        .flatMap(classroomClusters -> courseIdsByClassId(classroomClusters.stream().map(Tuple2::getT2).toList())
+            // Create a conflict DTO for each cluster with existing classes
+            .map(courseIdsByClassId -> classroomClusters.stream()
+                .map(classroomCluster -> Tuples.of(classroomCluster.getT1(), classroomCluster.getT2(),
+                    courseIdsOf(classroomCluster.getT2(), courseIdsByClassId)))
+                .filter(classroomCluster -> !classroomCluster.getT3().isEmpty())
+                .map(classroomCluster -> {
+                    ClassroomResponseDTO classroom = classroomCluster.getT1();
+                    List<ClassSchedule> cluster = classroomCluster.getT2();
+                    ClassroomScheduleConflictResponseDTO conflictDTO = new ClassroomScheduleConflictResponseDTO();
+                    conflictDTO.setClassroomId(classroom.getId());
+                    conflictDTO.setClassroomName(classroom.getRoom());
+                    conflictDTO.setConflictingClassesIds(
+                        cluster.stream()
+                        .map(ClassSchedule::getClassId)
+                        .distinct()
+                        .toList()
+                    );
+                    conflictDTO.setConflictStartTime(
+                        cluster.stream()
+                        .map(ClassSchedule::getStartTime)
+                        .min(LocalTime::compareTo)
+                        .orElse(cluster.get(0).getStartTime())
+                    );
+                    conflictDTO.setConflictEndTime(
+                        cluster.stream()
+                        .map(ClassSchedule::getEndTime)
+                        .max(LocalTime::compareTo)
+                        .orElse(cluster.get(0).getEndTime())
+                    );
+                    conflictDTO.setDay(cluster.get(0).getDay());
+                    return new ScopedConflict<>(conflictDTO, classroomCluster.getT3());
+                })
+                .toList()));
+    }
+
+    /**
+     * Computes the teacher schedule conflicts of a semester for every user.
+     * Groups overlapping schedules by teacher and creates separate conflict groups for each cluster
+     * of overlapping schedules, keeping the courses of its classes to filter them per user.
+     * @param semesterId Semester ID
+     * @return Mono with the conflicts and the courses of their classes
+     */
+    private Mono<List<ScopedConflict<TeacherScheduleConflictResponseDTO>>> computeTeacherScheduleConflicts(Long semesterId) {
+        return teacherService.getAllTeachers()
+        .flatMap(teacher ->
+            scheduleConflictRepository.findTeacherScheduleConflicts(semesterId, teacher.getId())
+            .collectList()
+            .filter(schedulesWithConflicts -> !schedulesWithConflicts.isEmpty())
+            .flatMapMany(schedulesWithConflicts ->
+                // Group schedules into clusters based on overlaps, keeping those with at least 2 schedules
+                Flux.fromIterable(groupSchedulesIntoOverlapClusters(schedulesWithConflicts))
+                .filter(cluster -> cluster.size() >= 2)
+                .map(cluster -> Tuples.of(teacher.getUserId(), cluster)))
+        )
+        .collectList()
+        .flatMap(teacherClusters -> {
+            if (teacherClusters.isEmpty()) {
+                return Mono.just(List.<ScopedConflict<TeacherScheduleConflictResponseDTO>>of());
+            }
+
+            // Resolve the classes and the teachers of all conflicts with one lookup each
+            return Mono.zip(
+                courseIdsByClassId(teacherClusters.stream().map(Tuple2::getT2).toList()),
+                userService.getUserInformationByIds(teacherClusters.stream().map(Tuple2::getT1).distinct().toList())
+                    .collectMap(UserInformationResponseDTO::getId))
+            .map(lookups -> teacherClusters.stream()
+                .filter(teacherCluster -> lookups.getT2().containsKey(teacherCluster.getT1()))
+                .map(teacherCluster -> Tuples.of(teacherCluster.getT1(), teacherCluster.getT2(),
+                    courseIdsOf(teacherCluster.getT2(), lookups.getT1())))
+                .filter(teacherCluster -> !teacherCluster.getT3().isEmpty())
+                .map(teacherCluster -> {
+                    UserInformationResponseDTO user = lookups.getT2().get(teacherCluster.getT1());
+                    List<ClassSchedule> cluster = teacherCluster.getT2();
+                    TeacherScheduleConflictResponseDTO conflictDTO = new TeacherScheduleConflictResponseDTO();
+                    conflictDTO.setUserId(user.getId());
+                    conflictDTO.setUserName(user.getName() + " " + user.getLastName());
+                    conflictDTO.setConflictingClassesIds(
+                        cluster.stream()
+                        .map(ClassSchedule::getClassId)
+                        .distinct()
+                        .toList()
+                    );
+
+                    LocalTime minStartTime = cluster.stream()
+                        .map(ClassSchedule::getStartTime)
+                        .min(LocalTime::compareTo)
+                        .orElse(cluster.get(0).getStartTime());
+
+                    LocalTime maxEndTime = cluster.stream()
+                        .map(ClassSchedule::getEndTime)
+                        .max(LocalTime::compareTo)
+                        .orElse(cluster.get(0).getEndTime());
+
+                    conflictDTO.setConflictStartTime(minStartTime.toString());
+                    conflictDTO.setConflictEndTime(maxEndTime.toString());
+                    conflictDTO.setConflictDay(cluster.get(0).getDay());
+
+                    return new ScopedConflict<>(conflictDTO, teacherCluster.getT3());
+                })
+                .toList()
+            );
+        });
+    }
+
+    /**
+     * Obtains the courses of the classes of every conflict cluster with a single query.
+     * @param clusters Clusters of overlapping schedules
+     * @return Mono with the course ID by class ID, without the classes that no longer exist or have no course
+     */
+    private Mono<Map<Long, Long>> courseIdsByClassId(List<List<ClassSchedule>> clusters) {
+        Set<Long> classIds = clusters.stream()
+            .flatMap(List::stream)
+            .map(ClassSchedule::getClassId)
+            .collect(Collectors.toSet());
+        if (classIds.isEmpty()) {
+            return Mono.just(Map.of());
+        }
+        return classRepository.findAllById(classIds)
+            .filter(classEntity -> classEntity.getCourseId() != null)
+            .collectMap(Class::getId, Class::getCourseId);
+    }
+
+    /**
+     * Obtains the courses of the classes of a conflict cluster.
+     * @param cluster Overlapping schedules
+     * @param courseIdsByClassId Course ID by class ID of all clusters
+     * @return Course IDs, empty when none of the classes exists
+     */
+    private static Set<Long> courseIdsOf(List<ClassSchedule> cluster, Map<Long, Long> courseIdsByClassId) {
+        return cluster.stream()
+            .map(schedule -> courseIdsByClassId.get(schedule.getClassId()))
+            .filter(Objects::nonNull)
+            .collect(Collectors.toSet());
+    }
+
+    /**
+     * Filters shared conflicts down to those with a class the current user can see.
+     * Section heads get the sections of all the courses involved with a single lookup.
+     * @param conflicts Conflicts with the courses of their classes
+     * @return Flux of the visible conflicts
+     */
+    private <T> Flux<T> visibleConflicts(List<ScopedConflict<T>> conflicts) {
+        if (conflicts.isEmpty()) {
+            return Flux.empty();
+        }
+        return visibleClasses().flatMapMany(visible -> courseSectionIdsFor(conflicts, visible)
+            .flatMapMany(sectionIdsByCourseId -> ScopedConflict.visible(conflicts,
+                courseId -> visible.allows(null, null, () -> Mono.justOrEmpty(sectionIdsByCourseId.get(courseId))))));
+    }
+
+    /**
+     * Obtains the sections of the courses of the conflicts, only when the predicate restricts by section.
+     * @param conflicts Conflicts with the courses of their classes
+     * @param visible Predicate of the current user
+     * @return Mono with the section ID by course ID, empty map when the sections are not needed
+     */
+    private <T> Mono<Map<Long, Long>> courseSectionIdsFor(List<ScopedConflict<T>> conflicts, RowPredicate visible) {
+        if (visible.scopeSectionId() == null) {
+            return Mono.just(Map.of());
+        }
+        return courseService.getCourseSectionIds(conflicts.stream()
+            .map(ScopedConflict::scopeKeys)
+            .flatMap(Set::stream)
+            .collect(Collectors.toSet()));
+    }
+
     // ========================================================================
     // Private Methods
     // ========================================================================    
@@ -741,10 +888,11 @@ public class PlanningService implements PlanningModuleClassContract {
      * Groups schedules where ALL schedules in each cluster directly overlap with ALL others.
      * Uses a set to track already-processed schedules to avoid duplicate clusters.
      * A schedule is only added to a cluster if it overlaps with EVERY existing member.
+     * Package-private so the JMH benchmarks can measure it directly.
      * @param schedules List of schedules to group
      * @return List of clusters with overlapping schedules
      */
-    private List<List<ClassSchedule>> groupSchedulesIntoOverlapClusters(List<ClassSchedule> schedules) {
+    List<List<ClassSchedule>> groupSchedulesIntoOverlapClusters(List<ClassSchedule> schedules) {
         List<List<ClassSchedule>> clusters = new ArrayList<>();
         Set<String> processed = new HashSet<>();
         
@@ -863,45 +1011,45 @@ public class PlanningService implements PlanningModuleClassContract {
             .map(courseSectionId -> courseSectionId.equals(sectionId));
     }
 
+    /**
+     * Implementation of classAssignmentsChanged from PlanningModuleClassContract
+     * @param classId Class ID
+     */
+    @Override
+    public void classAssignmentsChanged(Long classId) {
+        semesterTimetableProjection.classChanged(classId);
+    }
+
+    /**
+     * Keeps only the classes of a section in a timetable.
+     * @param timetable Timetable of a semester
+     * @param sectionId Section ID, null when the user has no section and sees no classes
+     * @return Timetable with the same version and the classes of the section
+     */
+    private SemesterTimetableResponseDTO restrictToSection(SemesterTimetableResponseDTO timetable, Long sectionId) {
+        List<TimetableClassDTO> sectionClasses = timetable.getClasses().stream()
+            .filter(timetableClass -> sectionId != null && sectionId.equals(timetableClass.getCourseSectionId()))
+            .toList();
+        return new SemesterTimetableResponseDTO(timetable.getSemesterId(), timetable.getVersion(), sectionId, sectionClasses);
+    }
+
     /**
      * Filter a class by the section of the current logged-in user
      * @param classEntity Class entity to filter
      * @return Mono<Boolean> true if user can access this class, false otherwise
      */
     private Mono<Boolean> filterClassByUserSection(Class classEntity) {
-        return ReactiveSecurityContextHolder.getContext()
-            .flatMap(securityContext -> {
-                Authentication authentication = securityContext.getAuthentication();
-                
-                // Check if user has ADMIN role
-                boolean isAdmin = authentication.getAuthorities().stream()
-                    .anyMatch(authority -> authority.getAuthority().equals("ROLE_ADMIN"));
-                
-                if (isAdmin) {
-                    // Admin can see all classes
-                    return Mono.just(true);
-                }
-
-                // Check if user has TEACHER role
-                boolean isTeacher = authentication.getAuthorities().stream()
-                    .anyMatch(authority -> authority.getAuthority().equals("ROLE_TEACHER"));
+        return visibleClasses()
+            .flatMap(visible -> visible.allows(null, null, () -> courseService.getCourseSectionId(classEntity.getCourseId())));
+    }
 
-                if (isTeacher) {
-                    // Teacher can see all classes
-                    return Mono.just(true);
-                }
-                
-                // For ROLE_SECTION users, filter by their section
-                String userEmail = authentication.getName();
-                
-                return userService.getUserIdByEmail(userEmail)
-                    .flatMap(sectionService::getSectionIdByUserId)
-                    .flatMap(sectionId ->
-                        courseService.getCourseSectionId(classEntity.getCourseId())
-                            .map(classSectionId -> classSectionId.equals(sectionId))
-                    )
-                    .defaultIfEmpty(false);
-            })
-            .defaultIfEmpty(false); // If no security context, deny access
+    /**
+     * Builds the predicate of the classes the current logged-in user can see:
+     * admins and teachers see every class, ROLE_SECTION users only the classes of their section's courses.
+     * @return Mono with the predicate, applied by the visible class queries
+     */
+    private Mono<RowPredicate> visibleClasses() {
+        return accessScopeService.getCurrentAccessScope()
+            .map(scope -> scope.rows().teachersSeeAll().bySection().build());
     }
 }
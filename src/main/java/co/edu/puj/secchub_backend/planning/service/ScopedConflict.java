@@ -0,0 +1,39 @@
+package co.edu.puj.secchub_backend.planning.service;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Conflict computed once for every user, with the keys that decide who can see it, such as the courses
+ * of its classes or the applications of its teaching assistants.
+ * @param conflict Conflict as returned to the users
+ * @param scopeKeys Keys of the rows behind the conflict; the conflict is visible when any of them is
+ */
+record ScopedConflict<T>(T conflict, Set<Long> scopeKeys) {
+
+    /**
+     * Filters conflicts shared between users down to those the current user can see, checking each distinct
+     * key once.
+     * @param conflicts Shared conflicts
+     * @param keyVisible Check of a key for the current user
+     * @return Flux of the visible conflicts, in order
+     */
+    static <T> Flux<T> visible(List<ScopedConflict<T>> conflicts, Function<Long, Mono<Boolean>> keyVisible) {
+        Set<Long> keys = conflicts.stream()
+            .map(ScopedConflict::scopeKeys)
+            .flatMap(Collection::stream)
+            .collect(Collectors.toSet());
+        return Flux.fromIterable(keys)
+            .filterWhen(keyVisible)
+            .collect(Collectors.toSet())
+            .flatMapMany(visibleKeys -> Flux.fromIterable(conflicts)
+                .filter(conflict -> conflict.scopeKeys().stream().anyMatch(visibleKeys::contains))
+                .map(ScopedConflict::conflict));
+    }
+}
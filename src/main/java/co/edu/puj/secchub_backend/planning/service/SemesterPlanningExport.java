@@ -0,0 +1,15 @@
+package co.edu.puj.secchub_backend.planning.service;
+
+import org.springframework.core.io.buffer.DataBuffer;
+
+import co.edu.puj.secchub_backend.planning.dto.PlanningExportFormat;
+import reactor.core.publisher.Flux;
+
+/**
+ * Export of the planning of a semester, ready to be streamed.
+ * @param fileName Suggested file name, with the extension of the format
+ * @param format File format
+ * @param content Bytes of the file, read from the database as they are written
+ */
+public record SemesterPlanningExport(String fileName, PlanningExportFormat format, Flux<DataBuffer> content) {
+}
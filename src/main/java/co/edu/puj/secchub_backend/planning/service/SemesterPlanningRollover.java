@@ -0,0 +1,58 @@
+package co.edu.puj.secchub_backend.planning.service;
+
+import co.edu.puj.secchub_backend.admin.contract.SemesterRolloverParticipant;
+import co.edu.puj.secchub_backend.planning.repository.ClassRepository;
+import co.edu.puj.secchub_backend.planning.repository.SemesterPlanningCloneRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.stereotype.Component;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Planning part of the semester rollover.
+ * Copies the classes and schedules of the previous semester with set-based statements
+ * and loads the timetable of the new semester once the rollover is committed.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class SemesterPlanningRollover implements SemesterRolloverParticipant {
+    private final ClassRepository classRepository;
+    private final SemesterPlanningCloneRepository semesterPlanningCloneRepository;
+    private final SemesterTimetableProjection semesterTimetableProjection;
+
+    /**
+     * Copies the classes and schedules of the previous semester, unless the new semester already has classes.
+     * @param previousSemesterId Previous semester ID
+     * @param semesterId New current semester ID
+     * @return Mono with the number of copied classes and schedules
+     */
+    @Override
+    public Mono<Long> clonePlanning(Long previousSemesterId, Long semesterId) {
+        return classRepository.existsBySemesterId(semesterId)
+            .flatMap(hasPlanning -> {
+                if (Boolean.TRUE.equals(hasPlanning)) {
+                    log.info("Semester {} already has planning, skipping the copy from semester {}", semesterId, previousSemesterId);
+                    return Mono.just(0L);
+                }
+                return semesterPlanningCloneRepository.cloneClasses(previousSemesterId, semesterId)
+                    .flatMap(classes -> semesterPlanningCloneRepository.cloneClassSchedules(previousSemesterId, semesterId)
+                        .map(schedules -> classes + schedules));
+            });
+    }
+
+    /**
+     * Loads the timetable of the new semester from scratch with the bulk queries.
+     * @param semesterId New current semester ID
+     * @return empty Mono when done
+     */
+    @Override
+    public Mono<Void> warm(Long semesterId) {
+        return Mono.defer(() -> {
+            semesterTimetableProjection.evict(semesterId);
+            return semesterTimetableProjection.getTimetable(semesterId).then();
+        });
+    }
+}
@@ -0,0 +1,47 @@
+package co.edu.puj.secchub_backend.planning.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Periodically checks the tracked semester timetables against the database.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class SemesterTimetableConsistencyJob {
+    private final SemesterTimetableProjection semesterTimetableProjection;
+
+    /**
+     * Runs the consistency check on the configured interval.
+     */
+    @Scheduled(
+        initialDelayString = "${secchub.timetable.consistency-check-interval:PT10M}",
+        fixedDelayString = "${secchub.timetable.consistency-check-interval:PT10M}")
+    public void scheduledCheck() {
+        checkConsistency()
+            .subscribe(
+                corrected -> {
+                    if (corrected > 0) {
+                        log.warn("Semester timetable consistency check corrected {} classes", corrected);
+                    }
+                },
+                error -> log.error("Semester timetable consistency check failed: {}", error.getMessage()));
+    }
+
+    /**
+     * Reconciles every tracked semester timetable, one semester at a time.
+     * @return Mono with the number of corrected classes
+     */
+    public Mono<Integer> checkConsistency() {
+        return Flux.fromIterable(semesterTimetableProjection.getTrackedSemesterIds())
+            .concatMap(semesterTimetableProjection::reconcile)
+            .reduce(0, Integer::sum);
+    }
+}
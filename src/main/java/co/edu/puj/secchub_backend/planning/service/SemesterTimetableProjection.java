@@ -0,0 +1,485 @@
+package co.edu.puj.secchub_backend.planning.service;
+
+import co.edu.puj.secchub_backend.admin.contract.CourseChangedEvent;
+import co.edu.puj.secchub_backend.config.ReadModelInvalidations;
+import co.edu.puj.secchub_backend.planning.dto.SemesterTimetableResponseDTO;
+import co.edu.puj.secchub_backend.planning.dto.TimetableClassDTO;
+import co.edu.puj.secchub_backend.planning.dto.TimetableScheduleDTO;
+import co.edu.puj.secchub_backend.planning.dto.TimetableTeacherDTO;
+import co.edu.puj.secchub_backend.planning.dto.TimetableTeachingAssistantDTO;
+import co.edu.puj.secchub_backend.planning.dto.TimetableTeachingAssistantScheduleDTO;
+import co.edu.puj.secchub_backend.planning.model.Classroom;
+import co.edu.puj.secchub_backend.planning.repository.SemesterTimetableRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * In-memory read model of the timetable of each semester: its classes with their course, schedules,
+ * classrooms, assigned teachers and teaching assistants.
+ * A semester is loaded on first access with one query per part of the timetable and then kept up to date
+ * by refreshing single classes after the planning and integration writes that change them, and after the
+ * course changes published by the admin module.
+ * <p>
+ * Every change takes a stamp from one sequence seeded with the startup time. A class only replaces the
+ * tracked one when its stamp is newer, so a refresh that read the database before a later change cannot
+ * overwrite it. The version of a timetable is the stamp of its last change, which keeps increasing across
+ * evictions and restarts and lets clients poll the timetable cheaply.
+ * <p>
+ * Every hook is also sent through {@link ReadModelInvalidations}, and the other instances refresh the same
+ * classes from the database, or stop tracking the semester, when it reaches them. A classroom change is
+ * applied elsewhere by reading the classes that use it again.
+ * <p>
+ * Writes that bypass these hooks, such as renaming a user, and a remote refresh that read the database
+ * before the change committed are picked up by {@link #reconcile(Long)}.
+ */
+@Component
+@Slf4j
+public class SemesterTimetableProjection {
+    static final String CHANNEL = "semester-timetable";
+    static final String CLASS = "class";
+    static final String TEACHING_ASSISTANT = "teaching-assistant";
+    static final String COURSE = "course";
+    static final String CLASSROOM = "classroom";
+    static final String SEMESTER = "semester";
+
+    private static final Comparator<TimetableClassDTO> CLASS_ORDER =
+        Comparator.comparing(TimetableClassDTO::getId);
+
+    private final SemesterTimetableRepository repository;
+    private final ReadModelInvalidations invalidations;
+
+    private final AtomicLong sequence = new AtomicLong(System.currentTimeMillis());
+    private final Map<Long, Mono<Timetable>> timetables = new ConcurrentHashMap<>();
+
+    public SemesterTimetableProjection(SemesterTimetableRepository repository, ReadModelInvalidations invalidations) {
+        this.repository = repository;
+        this.invalidations = invalidations;
+    }
+
+    /**
+     * Starts applying the hooks sent by the other instances, once the projection is constructed.
+     */
+    @PostConstruct
+    void listenToRemoteChanges() {
+        invalidations.onRemoteChange(CHANNEL, this::applyRemote);
+    }
+
+    /**
+     * Gets the timetable of a semester, loading it on first access.
+     * @param semesterId Semester ID
+     * @return Mono with the timetable and its version
+     */
+    public Mono<SemesterTimetableResponseDTO> getTimetable(Long semesterId) {
+        return timetable(semesterId).map(Timetable::snapshot);
+    }
+
+    /**
+     * Refreshes a class in the tracked timetables after it, its schedules, its teachers or its teaching
+     * assistants changed. Call it once the change is committed; the refresh runs in the background.
+     * @param classId Class ID
+     */
+    public void classChanged(Long classId) {
+        if (classId == null) {
+            return;
+        }
+        publish(CLASS, classId);
+        refreshTrackedClass(classId);
+    }
+
+    /**
+     * Refreshes the classes of a teaching assistant after it or its schedules changed.
+     * A teaching assistant moved to another class also needs {@link #classChanged(Long)} for the new class.
+     * @param teachingAssistantId Teaching assistant ID
+     */
+    public void teachingAssistantChanged(Long teachingAssistantId) {
+        if (teachingAssistantId == null) {
+            return;
+        }
+        publish(TEACHING_ASSISTANT, teachingAssistantId);
+        refreshTeachingAssistant(teachingAssistantId);
+    }
+
+    /**
+     * Refreshes the classes of a course after its name or its section changed.
+     * @param event Course change
+     */
+    @EventListener
+    public void onCourseChanged(CourseChangedEvent event) {
+        Long courseId = event.courseId();
+        if (courseId == null) {
+            return;
+        }
+        publish(COURSE, courseId);
+        refreshCourse(courseId);
+    }
+
+    /**
+     * Applies a classroom change to the schedules using it, without reading the database, so it can be
+     * called before the transaction that changed the classroom commits.
+     * @param classroomId Classroom ID
+     * @param classroom Updated classroom, null when it was deleted and its schedules lost it
+     */
+    public void classroomChanged(Long classroomId, Classroom classroom) {
+        if (classroomId == null) {
+            return;
+        }
+        publish(CLASSROOM, classroomId);
+        if (timetables.isEmpty()) {
+            return;
+        }
+        long stamp = sequence.incrementAndGet();
+        UnaryOperator<TimetableScheduleDTO> update = schedule -> classroom == null
+            ? schedule.toBuilder().classroomId(null).classroomRoom(null).classroomLocation(null).classroomCampus(null).build()
+            : schedule.toBuilder().classroomRoom(classroom.getRoom()).classroomLocation(classroom.getLocation())
+                .classroomCampus(classroom.getCampus()).build();
+
+        trackedTimetables()
+            .doOnNext(timetable -> {
+                boolean changed = false;
+                for (TimetableClassDTO timetableClass : timetable.classes(usesClassroom(classroomId))) {
+                    TimetableClassDTO updated = timetableClass.toBuilder()
+                        .schedules(timetableClass.getSchedules().stream()
+                            .map(schedule -> classroomId.equals(schedule.getClassroomId()) ? update.apply(schedule) : schedule)
+                            .toList())
+                        .build();
+                    changed |= timetable.apply(timetableClass.getId(), stamp, updated);
+                }
+                if (changed) {
+                    timetable.advance(sequence.incrementAndGet());
+                }
+            })
+            .subscribe(null, error -> log.warn("Could not apply classroom {} to the semester timetables: {}",
+                classroomId, error.getMessage()));
+    }
+
+    /**
+     * Stops tracking a semester on every instance so the next read loads it again with the bulk queries.
+     * Cheaper than refreshing class by class after writes that change a whole semester.
+     * @param semesterId Semester ID
+     */
+    public void evict(Long semesterId) {
+        if (semesterId == null) {
+            return;
+        }
+        publish(SEMESTER, semesterId);
+        timetables.remove(semesterId);
+    }
+
+    /**
+     * Gets the semesters whose timetable is tracked.
+     * @return Semester IDs
+     */
+    public Set<Long> getTrackedSemesterIds() {
+        return Set.copyOf(timetables.keySet());
+    }
+
+    /**
+     * Compares a tracked timetable with the database and corrects the classes that drifted.
+     * @param semesterId Semester ID
+     * @return Mono with the number of corrected classes, zero when the semester is not tracked
+     */
+    public Mono<Integer> reconcile(Long semesterId) {
+        Mono<Timetable> tracked = timetables.get(semesterId);
+        if (tracked == null) {
+            return Mono.just(0);
+        }
+        return tracked.flatMap(timetable -> Mono.defer(() -> {
+            long stamp = sequence.incrementAndGet();
+            return loadSemester(semesterId).map(actualClasses -> {
+                int corrected = 0;
+                Set<Long> actualIds = new HashSet<>();
+                for (TimetableClassDTO actual : actualClasses) {
+                    actualIds.add(actual.getId());
+                    if (timetable.apply(actual.getId(), stamp, actual)) {
+                        log.warn("Semester timetable drift for class {} in semester {}", actual.getId(), semesterId);
+                        corrected++;
+                    }
+                }
+                for (Long classId : timetable.classIds(timetableClass -> !actualIds.contains(timetableClass.getId()))) {
+                    if (timetable.apply(classId, stamp, null)) {
+                        log.warn("Semester timetable drift for removed class {} in semester {}", classId, semesterId);
+                        corrected++;
+                    }
+                }
+                if (corrected > 0) {
+                    timetable.advance(sequence.incrementAndGet());
+                }
+                return corrected;
+            });
+        }));
+    }
+
+    /**
+     * Reads a class again and applies it to every tracked timetable: it replaces the class in the timetable
+     * of its semester and removes it from any other, including all of them when the class was deleted.
+     * Timetables still loading are awaited, so the refresh is applied on top of what they read.
+     * @param classId Class ID
+     * @return Mono completing when the refresh is applied
+     */
+    Mono<Void> refreshClass(Long classId) {
+        return Mono.defer(() -> {
+            long stamp = sequence.incrementAndGet();
+            return loadClass(classId).flatMap(found -> trackedTimetables()
+                .doOnNext(timetable -> {
+                    TimetableClassDTO timetableClass = found.stream()
+                        .filter(candidate -> timetable.semesterId.equals(candidate.getSemesterId()))
+                        .findFirst()
+                        .orElse(null);
+                    if (timetable.apply(classId, stamp, timetableClass)) {
+                        timetable.advance(sequence.incrementAndGet());
+                    }
+                })
+                .then());
+        });
+    }
+
+    /**
+     * Applies a hook called on another instance, without sending it again.
+     * @param key Hook and ID in the {@code hook:id} form, null to stop tracking every semester
+     */
+    private void applyRemote(String key) {
+        if (key == null) {
+            timetables.clear();
+            return;
+        }
+        int separator = key.lastIndexOf(':');
+        String hook = key.substring(0, separator);
+        Long id = Long.valueOf(key.substring(separator + 1));
+        switch (hook) {
+            case CLASS -> refreshTrackedClass(id);
+            case TEACHING_ASSISTANT -> refreshTeachingAssistant(id);
+            case COURSE -> refreshCourse(id);
+            case CLASSROOM -> refreshClassroom(id);
+            case SEMESTER -> timetables.remove(id);
+            default -> log.warn("Unknown semester timetable change {}", key);
+        }
+    }
+
+    private void publish(String hook, Long id) {
+        // Other instances may track the semester even when this one does not
+        invalidations.publish(CHANNEL, hook + ":" + id);
+    }
+
+    private void refreshTrackedClass(Long classId) {
+        if (timetables.isEmpty()) {
+            return;
+        }
+        refreshClass(classId).subscribe(null,
+            error -> log.warn("Could not refresh class {} in the semester timetables: {}", classId, error.getMessage()));
+    }
+
+    private void refreshTeachingAssistant(Long teachingAssistantId) {
+        if (timetables.isEmpty()) {
+            return;
+        }
+        refreshClasses(timetableClass -> timetableClass.getTeachingAssistants().stream()
+                .anyMatch(assistant -> teachingAssistantId.equals(assistant.getId())))
+            .subscribe(null, error -> log.warn("Could not refresh teaching assistant {} in the semester timetables: {}",
+                teachingAssistantId, error.getMessage()));
+    }
+
+    private void refreshCourse(Long courseId) {
+        if (timetables.isEmpty()) {
+            return;
+        }
+        refreshClasses(timetableClass -> courseId.equals(timetableClass.getCourseId()))
+            .subscribe(null, error -> log.warn("Could not refresh course {} in the semester timetables: {}",
+                courseId, error.getMessage()));
+    }
+
+    private void refreshClassroom(Long classroomId) {
+        if (timetables.isEmpty()) {
+            return;
+        }
+        refreshClasses(usesClassroom(classroomId))
+            .subscribe(null, error -> log.warn("Could not refresh classroom {} in the semester timetables: {}",
+                classroomId, error.getMessage()));
+    }
+
+    private Mono<Timetable> timetable(Long semesterId) {
+        return timetables.computeIfAbsent(semesterId, id -> Mono.defer(() -> {
+                long stamp = sequence.incrementAndGet();
+                return loadSemester(id).map(classes -> {
+                    Timetable timetable = new Timetable(id);
+                    classes.forEach(timetableClass -> timetable.apply(timetableClass.getId(), stamp, timetableClass));
+                    timetable.advance(sequence.incrementAndGet());
+                    return timetable;
+                });
+            })
+            .cache(loaded -> Duration.ofMillis(Long.MAX_VALUE), error -> Duration.ZERO, () -> Duration.ZERO));
+    }
+
+    private Mono<Void> refreshClasses(Predicate<TimetableClassDTO> filter) {
+        return trackedTimetables()
+            .flatMapIterable(timetable -> timetable.classIds(filter))
+            .distinct()
+            .flatMap(this::refreshClass)
+            .then();
+    }
+
+    private Flux<Timetable> trackedTimetables() {
+        return Flux.fromIterable(List.copyOf(timetables.values()))
+            .flatMap(timetable -> timetable.onErrorResume(error -> Mono.empty()));
+    }
+
+    private Mono<List<TimetableClassDTO>> loadSemester(Long semesterId) {
+        return assemble(
+            repository.findClassesBySemesterId(semesterId),
+            repository.findSchedulesBySemesterId(semesterId),
+            repository.findTeachersBySemesterId(semesterId),
+            repository.findTeachingAssistantsBySemesterId(semesterId),
+            repository.findTeachingAssistantSchedulesBySemesterId(semesterId));
+    }
+
+    private Mono<List<TimetableClassDTO>> loadClass(Long classId) {
+        return assemble(
+            repository.findClassesByClassId(classId),
+            repository.findSchedulesByClassId(classId),
+            repository.findTeachersByClassId(classId),
+            repository.findTeachingAssistantsByClassId(classId),
+            repository.findTeachingAssistantSchedulesByClassId(classId));
+    }
+
+    /**
+     * Joins the rows of each part of the timetable to their classes.
+     * Nested lists are sorted by ID so equal data produces equal classes.
+     */
+    private static Mono<List<TimetableClassDTO>> assemble(
+            Flux<TimetableClassDTO> classes,
+            Flux<TimetableScheduleDTO> schedules,
+            Flux<TimetableTeacherDTO> teachers,
+            Flux<TimetableTeachingAssistantDTO> teachingAssistants,
+            Flux<TimetableTeachingAssistantScheduleDTO> teachingAssistantSchedules) {
+        return Mono.zip(
+                classes.collectList(),
+                schedules.collectMultimap(TimetableScheduleDTO::getClassId),
+                teachers.collectMultimap(TimetableTeacherDTO::getClassId),
+                teachingAssistants.collectMultimap(TimetableTeachingAssistantDTO::getClassId),
+                teachingAssistantSchedules.collectMultimap(TimetableTeachingAssistantScheduleDTO::getTeachingAssistantId))
+            .map(rows -> rows.getT1().stream()
+                .map(timetableClass -> {
+                    Long classId = timetableClass.getId();
+                    timetableClass.setSchedules(sorted(rows.getT2().get(classId), TimetableScheduleDTO::getId));
+                    timetableClass.setTeachers(sorted(rows.getT3().get(classId), TimetableTeacherDTO::getId));
+                    List<TimetableTeachingAssistantDTO> assistants =
+                        sorted(rows.getT4().get(classId), TimetableTeachingAssistantDTO::getId);
+                    assistants.forEach(assistant -> assistant.setSchedules(
+                        sorted(rows.getT5().get(assistant.getId()), TimetableTeachingAssistantScheduleDTO::getId)));
+                    timetableClass.setTeachingAssistants(assistants);
+                    return timetableClass;
+                })
+                .toList());
+    }
+
+    private static <T> List<T> sorted(Collection<T> rows, Function<T, Long> id) {
+        if (rows == null) {
+            return List.of();
+        }
+        List<T> sortedRows = new ArrayList<>(rows);
+        sortedRows.sort(Comparator.comparing(id, Comparator.nullsLast(Comparator.naturalOrder())));
+        return List.copyOf(sortedRows);
+    }
+
+    private static Predicate<TimetableClassDTO> usesClassroom(Long classroomId) {
+        return timetableClass -> timetableClass.getSchedules().stream()
+            .anyMatch(schedule -> classroomId.equals(schedule.getClassroomId()));
+    }
+
+    /**
+     * Tracked timetable of one semester.
+     * Classes are never modified once stored, a change stores a new instance, so snapshots can share them.
+     */
+    private static final class Timetable {
+        private final Long semesterId;
+        private final Map<Long, Entry> classes = new ConcurrentHashMap<>();
+        private final AtomicLong version = new AtomicLong();
+        private volatile SemesterTimetableResponseDTO snapshot;
+
+        private Timetable(Long semesterId) {
+            this.semesterId = semesterId;
+        }
+
+        /**
+         * Stores a class unless the tracked one has a newer stamp.
+         * @param classId Class ID
+         * @param stamp Stamp taken before the class was read
+         * @param timetableClass Class, null when it is no longer part of this timetable
+         * @return True if the timetable changed
+         */
+        private boolean apply(Long classId, long stamp, TimetableClassDTO timetableClass) {
+            boolean[] changed = {false};
+            classes.compute(classId, (id, current) -> {
+                if (current != null && current.stamp() > stamp) {
+                    return current;
+                }
+                if (current == null && timetableClass == null) {
+                    return null;
+                }
+                changed[0] = current == null || !Objects.equals(current.timetableClass(), timetableClass);
+                return new Entry(stamp, timetableClass);
+            });
+            return changed[0];
+        }
+
+        private void advance(long newVersion) {
+            version.accumulateAndGet(newVersion, Math::max);
+        }
+
+        private List<TimetableClassDTO> classes(Predicate<TimetableClassDTO> filter) {
+            return classes.values().stream()
+                .map(Entry::timetableClass)
+                .filter(Objects::nonNull)
+                .filter(filter)
+                .toList();
+        }
+
+        private List<Long> classIds(Predicate<TimetableClassDTO> filter) {
+            return classes(filter).stream().map(TimetableClassDTO::getId).toList();
+        }
+
+        /**
+         * Gets the timetable as a response, rebuilt only when the version changed since the last one.
+         */
+        private SemesterTimetableResponseDTO snapshot() {
+            long currentVersion = version.get();
+            SemesterTimetableResponseDTO current = snapshot;
+            if (current != null && current.getVersion() == currentVersion) {
+                return current;
+            }
+            List<TimetableClassDTO> sortedClasses = new ArrayList<>(classes(timetableClass -> true));
+            sortedClasses.sort(CLASS_ORDER);
+            current = new SemesterTimetableResponseDTO(semesterId, currentVersion, null, List.copyOf(sortedClasses));
+            snapshot = current;
+            return current;
+        }
+    }
+
+    /**
+     * Tracked class with the stamp of the change that stored it.
+     * @param stamp Stamp of the change
+     * @param timetableClass Class, null once removed so older refreshes cannot bring it back
+     */
+    private record Entry(long stamp, TimetableClassDTO timetableClass) {
+    }
+}
@@ -1,7 +1,10 @@
 package co.edu.puj.secchub_backend.planning.service;
 
-import co.edu.puj.secchub_backend.admin.contract.AdminModuleSectionContract;
+import co.edu.puj.secchub_backend.admin.contract.AdminModuleAccessScopeContract;
 import co.edu.puj.secchub_backend.admin.contract.AdminModuleSemesterContract;
+import co.edu.puj.secchub_backend.config.ReadOnlyRoute;
+import co.edu.puj.secchub_backend.config.RowPredicate;
+import co.edu.puj.secchub_backend.config.SingleFlight;
 import co.edu.puj.secchub_backend.integration.contract.IntegrationModuleStudentApplicationContract;
 import co.edu.puj.secchub_backend.planning.dto.*;
 import co.edu.puj.secchub_backend.planning.exception.TeachingAssistantBadRequestException;
@@ -11,12 +14,11 @@ import co.edu.puj.secchub_backend.planning.exception.TeachingAssistantServerErro
 import co.edu.puj.secchub_backend.planning.model.*;
 import co.edu.puj.secchub_backend.planning.repository.*;
 import co.edu.puj.secchub_backend.security.contract.SecurityModuleUserContract;
+import co.edu.puj.secchub_backend.security.contract.UserInformationResponseDTO;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import org.modelmapper.ModelMapper;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.ReactiveSecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.reactive.TransactionalOperator;
 
@@ -27,23 +29,32 @@ import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 @Service
 @Slf4j
 @RequiredArgsConstructor
 public class TeachingAssistantService {
+    static final String CONFLICTS_OPERATION = "teaching-assistant-conflicts";
+
     private final TeachingAssistantRepository teachingAssistantRepository;
     private final TeachingAssistantScheduleRepository scheduleRepository;
+    private final ScheduleConflictRepository scheduleConflictRepository;
 
     private final ModelMapper modelMapper;
     
     private final SecurityModuleUserContract userService;
-    private final AdminModuleSectionContract sectionService;
+    private final AdminModuleAccessScopeContract accessScopeService;
     private final AdminModuleSemesterContract semesterService;
     private final IntegrationModuleStudentApplicationContract studentApplicationService;
+    private final SemesterTimetableProjection semesterTimetableProjection;
+    private final SingleFlight singleFlight;
     
     private final TransactionalOperator transactionalOperator;
 
@@ -85,6 +96,7 @@ public class TeachingAssistantService {
                     );
             })
             .as(transactionalOperator::transactional)
+            .doOnNext(created -> semesterTimetableProjection.classChanged(created.getClassId()))
             .onErrorMap(error -> {
                 log.error("Error creating TeachingAssistant: {}", error.getMessage(), error);
                 return new TeachingAssistantBadRequestException("Failed to create TeachingAssistant: " + error.getMessage());
@@ -150,6 +162,10 @@ public class TeachingAssistantService {
                     );
             })
             .as(transactionalOperator::transactional)
+            .doOnNext(updated -> {
+                semesterTimetableProjection.teachingAssistantChanged(id);
+                semesterTimetableProjection.classChanged(updated.getClassId());
+            })
             .onErrorMap(error -> {
                 log.error("Error updating TeachingAssistant: {}", error.getMessage(), error);
                 if (error instanceof TeachingAssistantNotFoundException) {
@@ -173,6 +189,7 @@ public class TeachingAssistantService {
                     .then(teachingAssistantRepository.delete(teachingAssistant))
             )
             .as(transactionalOperator::transactional)
+            .doOnSuccess(deleted -> semesterTimetableProjection.teachingAssistantChanged(id))
             .onErrorMap(error -> {
                 log.error("Error deleting TeachingAssistant: {}", error.getMessage(), error);
                 if (error instanceof TeachingAssistantNotFoundException) {
@@ -229,8 +246,9 @@ public class TeachingAssistantService {
      * @return List of all teaching assistants
      */
     public Flux<TeachingAssistantResponseDTO> listAllTeachingAssistants() {
-        return teachingAssistantRepository.findAll()
-            .filterWhen(this::filterTeachingAssistantsByUserSection)
+        return visibleTeachingAssistants()
+            .flatMapMany(visible -> visible.select(predicate ->
+                teachingAssistantRepository.findAllVisible(predicate.scopeSectionId())))
             .map(this::mapToResponseDTO);
     }
 
@@ -254,7 +272,8 @@ public class TeachingAssistantService {
                 return scheduleRepository.save(schedule)
                     .map(this::mapToScheduleResponseDTO);
             })
-            .as(transactionalOperator::transactional);
+            .as(transactionalOperator::transactional)
+            .doOnNext(created -> semesterTimetableProjection.teachingAssistantChanged(teachingAssistantId));
     }
 
     /**
@@ -280,7 +299,8 @@ public class TeachingAssistantService {
                 return scheduleRepository.save(existingSchedule)
                     .map(this::mapToScheduleResponseDTO);
             })
-            .as(transactionalOperator::transactional);
+            .as(transactionalOperator::transactional)
+            .doOnNext(updated -> semesterTimetableProjection.teachingAssistantChanged(updated.getTeachingAssistantId()));
     }
 
     /**
@@ -297,93 +317,23 @@ public class TeachingAssistantService {
                     .switchIfEmpty(Mono.error(new TeachingAssistantNotFoundException("TeachingAssistant not found for schedule deletion: " + schedule.getTeachingAssistantId())))
                     .thenReturn(schedule)
             )
-            .flatMap(scheduleRepository::delete)
-            .as(transactionalOperator::transactional);
+            .flatMap(schedule -> scheduleRepository.delete(schedule).thenReturn(schedule.getTeachingAssistantId()))
+            .as(transactionalOperator::transactional)
+            .doOnNext(semesterTimetableProjection::teachingAssistantChanged)
+            .then();
     }
 
     /**
      * Obtains schedule conflicts for teaching assistants in the current semester.
-     * Groups overlapping schedules by teaching assistants and filters based on user permissions.
-     * Creates separate conflict groups for each cluster of overlapping schedules.
-     * @return Flux of teaching assistant schedule conflicts
+     * The conflicts of a semester are computed once for concurrent callers and filtered by each user's permissions.
+     * @return Mono with the teaching assistant schedule conflicts
      */
+    @ReadOnlyRoute
     public Mono<List<TeachingAssistantScheduleConflictResponseDTO>> getTeachingAssistantScheduleConflicts() {
         return semesterService.getCurrentSemesterId()
-            .flatMap(currentSemesterId ->
-                scheduleRepository.findConflictingSchedulesWithDetailsBySemesterId(currentSemesterId)
-                .collectList()
-                .flatMap(schedulesWithConflicts ->
-                    Flux.fromIterable(schedulesWithConflicts)
-                    .collectMultimap(TeachingAssistantScheduleWithDetailsDTO::getUserId)
-                    .flatMapMany(groupedByUser ->
-                        Flux.fromIterable(groupedByUser.entrySet())
-                        .filter(entry -> entry.getValue().size() >= 2)
-                        .flatMap(entry -> {
-                            Long userId = entry.getKey();
-                            List<TeachingAssistantScheduleWithDetailsDTO> userSchedules = 
-                                (List<TeachingAssistantScheduleWithDetailsDTO>) entry.getValue();
-                            
-                            // Group schedules into clusters based on overlaps
-                            List<List<TeachingAssistantScheduleWithDetailsDTO>> clusters = 
-                                groupTASchedulesIntoOverlapClusters(userSchedules);
-                            
-                            // Create a conflict DTO for each cluster with at least 2 schedules
-                            return Flux.fromIterable(clusters)
-                                .filter(cluster -> cluster.size() >= 2)
-                                // Filter based on user section permissions - keep cluster if at least one TA belongs to user's section
-                                .filterWhen(cluster -> 
-                                    Flux.fromIterable(cluster)
-                                        .flatMap(schedule -> {
-                                            // Convert DTO to TeachingAssistant model for filtering
-                                            TeachingAssistant ta = new TeachingAssistant();
-                                            ta.setId(schedule.getTeachingAssistantId());
-                                            ta.setStudentApplicationId(schedule.getStudentApplicationId());
-                                            return filterTeachingAssistantsByUserSection(ta);
-                                        })
-                                        .any(isAllowed -> isAllowed)
-                                )
-                                .flatMap(cluster -> {
-                                    TeachingAssistantScheduleWithDetailsDTO firstSchedule = cluster.get(0);
-
-                                    // Get user details
-                                    return userService.getUserInformationById(userId)
-                                        .map(userInfo -> {
-                                            TeachingAssistantScheduleConflictResponseDTO conflictDTO = 
-                                                new TeachingAssistantScheduleConflictResponseDTO();
-                                            conflictDTO.setUserId(userId);
-                                            conflictDTO.setUserName(userInfo.getName());
-                                            conflictDTO.setConflictTeachingAssistants(
-                                                cluster.stream()
-                                                    .map(TeachingAssistantScheduleWithDetailsDTO::getTeachingAssistantId)
-                                                    .distinct()
-                                                    .toList()
-                                            );
-                                            conflictDTO.setDay(firstSchedule.getDay());
-                                            conflictDTO.setConflictStartTime(
-                                                cluster.stream()
-                                                    .map(TeachingAssistantScheduleWithDetailsDTO::getStartTime)
-                                                    .min(LocalTime::compareTo)
-                                                    .orElse(firstSchedule.getStartTime())
-                                            );
-                                            conflictDTO.setConflictEndTime(
-                                                cluster.stream()
-                                                    .map(TeachingAssistantScheduleWithDetailsDTO::getEndTime)
-                                                    .max(LocalTime::compareTo)
-                                                    .orElse(firstSchedule.getEndTime())
-                                            );
-                                            return conflictDTO;
-                                        })
-                                        .onErrorResume(e -> {
-                                            log.warn("Error getting user details for userId {}: {}", 
-                                                userId, e.getMessage());
-                                            return Mono.empty();
-                                        });
-                                });
-                        })
-                    )
-                    .collectList()
-                )
-            )
+            .flatMap(currentSemesterId -> singleFlight.execute(CONFLICTS_OPERATION, currentSemesterId,
+                () -> computeTeachingAssistantScheduleConflicts(currentSemesterId)))
+            .flatMap(conflicts -> visibleConflicts(conflicts).collectList())
             .onErrorMap(e -> {
                 log.error("Error retrieving teaching assistant schedule conflicts: {}", e.getMessage());
                 throw new TeachingAssistantServerErrorException(
@@ -395,6 +345,147 @@ public class TeachingAssistantService {
     // Private Methods
     // ========================================================================
 
+    /**
+     * Computes the teaching assistant schedule conflicts of a semester for every user.
+     * Loads the approved TA schedules of the semester once, partitions them by user in memory
+     * and creates separate conflict groups for each cluster of overlapping schedules of a user,
+     * keeping the student applications of its teaching assistants to filter them per user.
+     * @param semesterId Semester ID
+     * @return Mono with the conflicts and the student applications behind them
+     */
+    private Mono<List<ScopedConflict<TeachingAssistantScheduleConflictResponseDTO>>> computeTeachingAssistantScheduleConflicts(
+            Long semesterId) {
+        return scheduleConflictRepository.findApprovedSchedulesWithDetailsBySemesterId(semesterId)
+            .collectMultimap(TeachingAssistantScheduleWithDetailsDTO::getUserId)
+            .flatMap(groupedByUser -> {
+                List<Long> userIdsWithConflicts = groupedByUser.entrySet().stream()
+                    .filter(entry -> entry.getValue().size() >= 2)
+                    .map(Map.Entry::getKey)
+                    .toList();
+                if (userIdsWithConflicts.isEmpty()) {
+                    return Mono.just(List.<ScopedConflict<TeachingAssistantScheduleConflictResponseDTO>>of());
+                }
+
+                // Resolve the users of all conflicts with one directory lookup
+                return userService.getUserInformationByIds(userIdsWithConflicts)
+                .collectMap(UserInformationResponseDTO::getId)
+                .onErrorResume(e -> {
+                    log.warn("Error getting user details for conflicts: {}", e.getMessage());
+                    return Mono.just(Map.of());
+                })
+                .map(usersById -> groupedByUser.entrySet().stream()
+                    .filter(entry -> entry.getValue().size() >= 2)
+                    .filter(entry -> usersById.containsKey(entry.getKey()))
+                    .flatMap(entry -> {
+                        Long userId = entry.getKey();
+                        UserInformationResponseDTO userInfo = usersById.get(userId);
+
+                        // Group schedules into clusters based on overlaps
+                        List<List<TeachingAssistantScheduleWithDetailsDTO>> clusters =
+                            groupUserSchedulesIntoOverlapClusters(entry.getValue());
+
+                        // Create a conflict DTO for each cluster with at least 2 schedules
+                        return clusters.stream()
+                            .filter(cluster -> cluster.size() >= 2)
+                            .map(cluster -> {
+                                TeachingAssistantScheduleWithDetailsDTO firstSchedule = cluster.get(0);
+                                TeachingAssistantScheduleConflictResponseDTO conflictDTO =
+                                    new TeachingAssistantScheduleConflictResponseDTO();
+                                conflictDTO.setUserId(userId);
+                                conflictDTO.setUserName(userInfo.getName());
+                                conflictDTO.setConflictTeachingAssistants(
+                                    cluster.stream()
+                                        .map(TeachingAssistantScheduleWithDetailsDTO::getTeachingAssistantId)
+                                        .distinct()
+                                        .toList()
+                                );
+                                conflictDTO.setDay(firstSchedule.getDay());
+                                conflictDTO.setConflictStartTime(
+                                    cluster.stream()
+                                        .map(TeachingAssistantScheduleWithDetailsDTO::getStartTime)
+                                        .min(LocalTime::compareTo)
+                                        .orElse(firstSchedule.getStartTime())
+                                );
+                                conflictDTO.setConflictEndTime(
+                                    cluster.stream()
+                                        .map(TeachingAssistantScheduleWithDetailsDTO::getEndTime)
+                                        .max(LocalTime::compareTo)
+                                        .orElse(firstSchedule.getEndTime())
+                                );
+                                Set<Long> applicationIds = new HashSet<>();
+                                cluster.forEach(schedule -> applicationIds.add(schedule.getStudentApplicationId()));
+                                return new ScopedConflict<>(conflictDTO, applicationIds);
+                            });
+                    })
+                    .toList());
+            });
+    }
+
+    /**
+     * Filters shared conflicts down to those with a teaching assistant the current user can see.
+     * @param conflicts Conflicts with the student applications of their teaching assistants
+     * @return Flux of the visible conflicts
+     */
+    private Flux<TeachingAssistantScheduleConflictResponseDTO> visibleConflicts(
+            List<ScopedConflict<TeachingAssistantScheduleConflictResponseDTO>> conflicts) {
+        if (conflicts.isEmpty()) {
+            return Flux.empty();
+        }
+        return visibleTeachingAssistants().flatMapMany(visible -> ScopedConflict.visible(conflicts,
+            applicationId -> visible.scopeSectionId() == null
+                ? Mono.just(visible.isUnrestricted())
+                : studentApplicationService.isApplicationOfSection(applicationId, visible.scopeSectionId())));
+    }
+
+    /**
+     * Groups the schedules of a single user into overlap clusters.
+     * Schedules are split by day and swept in start time order, so only runs of
+     * overlapping schedules are handed to the pairwise clustering algorithm.
+     * @param userSchedules All approved TA schedules of one user
+     * @return List of clusters, where each cluster contains overlapping schedules
+     */
+    private List<List<TeachingAssistantScheduleWithDetailsDTO>> groupUserSchedulesIntoOverlapClusters(
+        Collection<TeachingAssistantScheduleWithDetailsDTO> userSchedules
+    ) {
+        Map<String, List<TeachingAssistantScheduleWithDetailsDTO>> schedulesByDay = new HashMap<>();
+        for (TeachingAssistantScheduleWithDetailsDTO schedule : userSchedules) {
+            if (schedule.getDay() == null || schedule.getStartTime() == null || schedule.getEndTime() == null) {
+                continue;
+            }
+            schedulesByDay.computeIfAbsent(schedule.getDay(), day -> new ArrayList<>()).add(schedule);
+        }
+
+        List<List<TeachingAssistantScheduleWithDetailsDTO>> clusters = new ArrayList<>();
+        for (List<TeachingAssistantScheduleWithDetailsDTO> daySchedules : schedulesByDay.values()) {
+            if (daySchedules.size() < 2) {
+                continue;
+            }
+            daySchedules.sort(Comparator.comparing(TeachingAssistantScheduleWithDetailsDTO::getStartTime));
+
+            List<TeachingAssistantScheduleWithDetailsDTO> overlappingRun = new ArrayList<>();
+            LocalTime runEndTime = null;
+            for (TeachingAssistantScheduleWithDetailsDTO schedule : daySchedules) {
+                if (runEndTime != null && schedule.getStartTime().isBefore(runEndTime)) {
+                    overlappingRun.add(schedule);
+                    if (schedule.getEndTime().isAfter(runEndTime)) {
+                        runEndTime = schedule.getEndTime();
+                    }
+                    continue;
+                }
+                if (overlappingRun.size() > 1) {
+                    clusters.addAll(groupTASchedulesIntoOverlapClusters(overlappingRun));
+                }
+                overlappingRun = new ArrayList<>();
+                overlappingRun.add(schedule);
+                runEndTime = schedule.getEndTime();
+            }
+            if (overlappingRun.size() > 1) {
+                clusters.addAll(groupTASchedulesIntoOverlapClusters(overlappingRun));
+            }
+        }
+        return clusters;
+    }
+
     /**
      * Groups TA schedules into clusters where schedules that overlap are in the same cluster.
      * Uses a greedy algorithm to detect overlaps between schedules.
@@ -508,31 +599,21 @@ public class TeachingAssistantService {
      * @return Mono<Boolean> indicating if the teaching assistant belongs to the user's section
      */
     private Mono<Boolean> filterTeachingAssistantsByUserSection(TeachingAssistant teachingAssistant) {
-        return ReactiveSecurityContextHolder.getContext()
-            .flatMap(securityContext -> {
-                Authentication authentication = securityContext.getAuthentication();
-                
-                // Check if user has ADMIN role
-                boolean isAdmin = authentication.getAuthorities().stream()
-                    .anyMatch(authority -> authority.getAuthority().equals("ROLE_ADMIN"));
-                
-                if (isAdmin) {
-                    return Mono.just(true);
-                }
-                
-                // For ROLE_SECTION users, filter by their section
-                String userEmail = authentication.getName();
-                
-                return userService.getUserIdByEmail(userEmail)
-                    .flatMap(sectionService::getSectionIdByUserId)
-                    .flatMap(userSectionId -> 
-                        studentApplicationService.isApplicationOfSection(
-                            teachingAssistant.getStudentApplicationId(), 
-                            userSectionId
-                        )
-                    )
-                    .defaultIfEmpty(false);
-            })
-            .defaultIfEmpty(false);
+        return visibleTeachingAssistants()
+            .flatMap(visible -> visible.scopeSectionId() == null
+                ? Mono.just(visible.isUnrestricted())
+                : studentApplicationService.isApplicationOfSection(
+                    teachingAssistant.getStudentApplicationId(),
+                    visible.scopeSectionId()));
+    }
+
+    /**
+     * Builds the predicate of the teaching assistants the current user can see:
+     * admins see every teaching assistant and other users those whose application is for their section.
+     * @return Mono with the predicate
+     */
+    private Mono<RowPredicate> visibleTeachingAssistants() {
+        return accessScopeService.getCurrentAccessScope()
+            .map(scope -> scope.rows().bySection().build());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,165 @@
+package co.edu.puj.secchub_backend.planning.service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import co.edu.puj.secchub_backend.planning.dto.PlanningExportRowDTO;
+
+/**
+ * Writes the semester planning export as an Excel workbook with one worksheet.
+ * The workbook is the smallest valid SpreadsheetML package: the fixed parts are written first and the
+ * worksheet is compressed into the zip while its rows arrive, with every cell as an inline string,
+ * so only the compressor's window is kept in memory instead of the whole workbook.
+ */
+class XlsxPlanningExportWriter extends PlanningExportWriter {
+
+    private static final String CONTENT_TYPES = """
+        <?xml version="1.0" encoding="UTF-8" standalone="yes"?>
+        <Types xmlns="http://schemas.openxmlformats.org/package/2006/content-types">\
+        <Default Extension="rels" ContentType="application/vnd.openxmlformats-package.relationships+xml"/>\
+        <Default Extension="xml" ContentType="application/xml"/>\
+        <Override PartName="/xl/workbook.xml" ContentType="application/vnd.openxmlformats-officedocument.spreadsheetml.sheet.main+xml"/>\
+        <Override PartName="/xl/worksheets/sheet1.xml" ContentType="application/vnd.openxmlformats-officedocument.spreadsheetml.worksheet+xml"/>\
+        </Types>""";
+
+    private static final String ROOT_RELATIONSHIPS = """
+        <?xml version="1.0" encoding="UTF-8" standalone="yes"?>
+        <Relationships xmlns="http://schemas.openxmlformats.org/package/2006/relationships">\
+        <Relationship Id="rId1" Type="http://schemas.openxmlformats.org/officeDocument/2006/relationships/officeDocument" Target="xl/workbook.xml"/>\
+        </Relationships>""";
+
+    private static final String WORKBOOK = """
+        <?xml version="1.0" encoding="UTF-8" standalone="yes"?>
+        <workbook xmlns="http://schemas.openxmlformats.org/spreadsheetml/2006/main" \
+        xmlns:r="http://schemas.openxmlformats.org/officeDocument/2006/relationships">\
+        <sheets><sheet name="Planning" sheetId="1" r:id="rId1"/></sheets>\
+        </workbook>""";
+
+    private static final String WORKBOOK_RELATIONSHIPS = """
+        <?xml version="1.0" encoding="UTF-8" standalone="yes"?>
+        <Relationships xmlns="http://schemas.openxmlformats.org/package/2006/relationships">\
+        <Relationship Id="rId1" Type="http://schemas.openxmlformats.org/officeDocument/2006/relationships/worksheet" Target="worksheets/sheet1.xml"/>\
+        </Relationships>""";
+
+    private static final String SHEET_START = """
+        <?xml version="1.0" encoding="UTF-8" standalone="yes"?>
+        <worksheet xmlns="http://schemas.openxmlformats.org/spreadsheetml/2006/main"><sheetData>""";
+
+    private static final String SHEET_END = "</sheetData></worksheet>";
+
+    private final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    private final ZipOutputStream zip = new ZipOutputStream(output, StandardCharsets.UTF_8);
+
+    @Override
+    byte[] start() {
+        putEntry("[Content_Types].xml", CONTENT_TYPES);
+        putEntry("_rels/.rels", ROOT_RELATIONSHIPS);
+        putEntry("xl/workbook.xml", WORKBOOK);
+        putEntry("xl/_rels/workbook.xml.rels", WORKBOOK_RELATIONSHIPS);
+        try {
+            zip.putNextEntry(new ZipEntry("xl/worksheets/sheet1.xml"));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        StringBuilder sheet = new StringBuilder(SHEET_START);
+        appendRow(sheet, COLUMNS);
+        writeToZip(sheet.toString());
+        return drain();
+    }
+
+    @Override
+    byte[] write(List<PlanningExportRowDTO> rows) {
+        StringBuilder sheet = new StringBuilder(rows.size() * 512);
+        for (PlanningExportRowDTO row : rows) {
+            appendRow(sheet, values(row));
+        }
+        writeToZip(sheet.toString());
+        return drain();
+    }
+
+    @Override
+    byte[] finish() {
+        writeToZip(SHEET_END);
+        try {
+            zip.closeEntry();
+            zip.finish();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return drain();
+    }
+
+    @Override
+    public void close() {
+        try {
+            zip.close();
+        } catch (IOException e) {
+            // Nothing left to release, the zip only writes to memory
+        }
+    }
+
+    private void putEntry(String name, String content) {
+        try {
+            zip.putNextEntry(new ZipEntry(name));
+            zip.write(content.getBytes(StandardCharsets.UTF_8));
+            zip.closeEntry();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeToZip(String content) {
+        try {
+            zip.write(content.getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Takes the compressed bytes produced since the last call.
+     * @return Compressed bytes, possibly empty while the compressor is still filling its window
+     */
+    private byte[] drain() {
+        byte[] bytes = output.toByteArray();
+        output.reset();
+        return bytes;
+    }
+
+    private static void appendRow(StringBuilder sheet, List<String> values) {
+        sheet.append("<row>");
+        for (String value : values) {
+            sheet.append("<c t=\"inlineStr\"><is><t xml:space=\"preserve\">");
+            appendEscaped(sheet, value);
+            sheet.append("</t></is></c>");
+        }
+        sheet.append("</row>");
+    }
+
+    /**
+     * Escapes a value for XML text, dropping the control characters XML does not allow.
+     * @param sheet Worksheet being written
+     * @param value Cell value
+     */
+    static void appendEscaped(StringBuilder sheet, String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char character = value.charAt(i);
+            switch (character) {
+                case '<' -> sheet.append("&lt;");
+                case '>' -> sheet.append("&gt;");
+                case '&' -> sheet.append("&amp;");
+                case '"' -> sheet.append("&quot;");
+                default -> {
+                    if (character >= 0x20 || character == '\t' || character == '\n' || character == '\r') {
+                        sheet.append(character);
+                    }
+                }
+            }
+        }
+    }
+}
@@ -3,6 +3,8 @@ package co.edu.puj.secchub_backend.security.configuration;
 import co.edu.puj.secchub_backend.security.jwt.JwtAuthenticationConverter;
 import co.edu.puj.secchub_backend.security.jwt.JwtAuthenticationManager;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.autoconfigure.security.reactive.EndpointRequest;
+import org.springframework.boot.actuate.health.HealthEndpoint;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -56,6 +58,9 @@ public class SecurityConfig {
                 )
                 .authorizeExchange(auth -> auth
                         .pathMatchers(HttpMethod.OPTIONS).permitAll()
+                        // Health stays public for probes, metrics and the other endpoints are for admins only
+                        .matchers(EndpointRequest.to(HealthEndpoint.class)).permitAll()
+                        .matchers(EndpointRequest.toAnyEndpoint()).hasRole("ADMIN")
                         .anyExchange().permitAll()
                 )
                 .addFilterAt(authenticationFilter, SecurityWebFiltersOrder.AUTHENTICATION)
@@ -1,5 +1,9 @@
 package co.edu.puj.secchub_backend.security.contract;
 
+import java.util.Collection;
+import java.util.List;
+
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 /**
@@ -22,6 +26,14 @@ public interface SecurityModuleUserContract {
      */
     Mono<Long> createUser(UserCreationRequestDTO userCreationRequestDTO);
 
+    /**
+     * Creates several users, hashing their passwords in parallel and inserting them with multi-row statements.
+     * Users whose email already exists, or repeats an earlier user of the list, are not created.
+     * @param userCreationRequestDTOs DTOs containing the users' creation information
+     * @return one result per request, in the order of the requests
+     */
+    Flux<UserCreationResultDTO> createUsers(List<UserCreationRequestDTO> userCreationRequestDTOs);
+
     /**
      * Gets user information by email including name, lastName, etc.
      * @param email user's email
@@ -35,4 +47,19 @@ public interface SecurityModuleUserContract {
      * @return UserInformationResponseDTO with user details
      */
     Mono<UserInformationResponseDTO> getUserInformationById(Long userId);
+
+    /**
+     * Gets the information of several users by their IDs, served from the user directory cache.
+     * Meant to resolve the users of a whole result with one call instead of one lookup per element.
+     * @param userIds users' IDs
+     * @return UserInformationResponseDTO of each existing user, in no particular order
+     */
+    Flux<UserInformationResponseDTO> getUserInformationByIds(Collection<Long> userIds);
+
+    /**
+     * Gets the information of several users by their emails, served from the user directory cache.
+     * @param emails users' emails
+     * @return UserInformationResponseDTO of each existing user, in no particular order
+     */
+    Flux<UserInformationResponseDTO> getUserInformationByEmails(Collection<String> emails);
 }
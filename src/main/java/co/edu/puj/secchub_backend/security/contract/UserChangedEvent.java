@@ -0,0 +1,9 @@
+package co.edu.puj.secchub_backend.security.contract;
+
+/**
+ * Published once a user has been created or changed and the change is committed.
+ * @param userId ID of the changed user
+ * @param email Email of the user, the key other modules look users up by
+ */
+public record UserChangedEvent(Long userId, String email) {
+}
@@ -0,0 +1,30 @@
+package co.edu.puj.secchub_backend.security.contract;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object for the result of one user of a bulk creation.
+ * The user id is only set when the user was created.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserCreationResultDTO {
+    private String email;
+    private Long userId;
+    private Status status;
+
+    /**
+     * Outcome of the creation of one user.
+     */
+    public enum Status {
+        /** The user was created. */
+        CREATED,
+        /** The email already belongs to a user or to an earlier user of the same request. */
+        DUPLICATE_EMAIL
+    }
+}
@@ -5,6 +5,8 @@
  * 
  * The interfaces in this package include:
  * - {@link co.edu.puj.secchub_backend.security.contract.SecurityModuleUserContract} for user-related operations
+ *
+ * {@link co.edu.puj.secchub_backend.security.contract.UserChangedEvent} is published after user changes commit.
  */
 
 @org.springframework.modulith.NamedInterface("security-contracts")
@@ -0,0 +1,100 @@
+package co.edu.puj.secchub_backend.security.repository;
+
+import java.util.List;
+
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.DatabaseClient.GenericExecuteSpec;
+import org.springframework.stereotype.Repository;
+
+import co.edu.puj.secchub_backend.config.AutoIncrementCheck;
+import co.edu.puj.secchub_backend.security.model.User;
+import io.r2dbc.spi.Parameter;
+import io.r2dbc.spi.Parameters;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+
+/**
+ * Batched write operations for users.
+ * Uses DatabaseClient to issue multi-row INSERT statements instead of one statement per user.
+ * Generated keys are derived from the first generated id of each statement, since InnoDB assigns
+ * consecutive auto-increment values to the rows of a single multi-row insert. That needs
+ * {@code auto_increment_increment} set to 1, checked at startup by {@link AutoIncrementCheck}.
+ */
+@Repository
+@RequiredArgsConstructor
+public class UserBatchRepository {
+
+    /**
+     * Maximum number of rows written by a single INSERT statement.
+     * Keeps statements well below the server packet and placeholder limits.
+     */
+    public static final int MAX_ROWS_PER_STATEMENT = 500;
+
+    private final DatabaseClient databaseClient;
+
+    /**
+     * Inserts the given users with one INSERT statement, so either all of them or none are inserted.
+     * The generated ids are set on the given entities, preserving their order.
+     * @param users Users to insert, at most {@link #MAX_ROWS_PER_STATEMENT}
+     * @return Flux of inserted users with their generated ids
+     */
+    public Flux<User> insertAll(List<User> users) {
+        if (users.isEmpty()) {
+            return Flux.empty();
+        }
+        if (users.size() > MAX_ROWS_PER_STATEMENT) {
+            return Flux.error(new IllegalArgumentException(
+                "At most " + MAX_ROWS_PER_STATEMENT + " users can be inserted by one statement"));
+        }
+
+        StringBuilder sql = new StringBuilder("""
+            INSERT INTO users
+                (username, password, faculty, name, last_name, email, status_id, role_id, document_type_id, document_number)
+            VALUES
+            """);
+        for (int i = 0; i < users.size(); i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(String.format(
+                "(:username%1$d, :password%1$d, :faculty%1$d, :name%1$d, :lastName%1$d, :email%1$d, " +
+                ":statusId%1$d, :roleId%1$d, :documentTypeId%1$d, :documentNumber%1$d)", i));
+        }
+
+        GenericExecuteSpec spec = databaseClient.sql(sql.toString())
+            .filter(statement -> statement.returnGeneratedValues("id"));
+        for (int i = 0; i < users.size(); i++) {
+            User user = users.get(i);
+            spec = spec
+                .bind("username" + i, parameter(user.getUsername(), String.class))
+                .bind("password" + i, parameter(user.getPassword(), String.class))
+                .bind("faculty" + i, parameter(user.getFaculty(), String.class))
+                .bind("name" + i, parameter(user.getName(), String.class))
+                .bind("lastName" + i, parameter(user.getLastName(), String.class))
+                .bind("email" + i, parameter(user.getEmail(), String.class))
+                .bind("statusId" + i, parameter(user.getStatusId(), Long.class))
+                .bind("roleId" + i, parameter(user.getRoleId(), Long.class))
+                .bind("documentTypeId" + i, parameter(user.getDocumentTypeId(), Long.class))
+                .bind("documentNumber" + i, parameter(user.getDocumentNumber(), String.class));
+        }
+
+        return spec.map(row -> row.get("id", Long.class))
+            .first()
+            .flatMapMany(firstId -> {
+                for (int i = 0; i < users.size(); i++) {
+                    users.get(i).setId(firstId + i);
+                }
+                return Flux.fromIterable(users);
+            });
+    }
+
+    /**
+     * Wraps a column value as a typed bind parameter, so null values still carry their SQL type.
+     * @param value Value to bind, may be null
+     * @param type Java type of the column
+     * @return Bind parameter for the value
+     */
+    private static Parameter parameter(Object value, Class<?> type) {
+        return value == null ? Parameters.in(type) : Parameters.in(value);
+    }
+}
@@ -1,5 +1,7 @@
 package co.edu.puj.secchub_backend.security.repository;
 
+import java.util.Collection;
+
 import org.springframework.data.r2dbc.repository.Modifying;
 import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.data.r2dbc.repository.R2dbcRepository;
@@ -16,6 +18,10 @@ public interface UserRepository extends R2dbcRepository<User, Long> {
     Mono<User> findByUsername(String username);
     Mono<User> findByEmail(String email);
     Flux<User> findByRoleId(Long roleId);
+    Flux<User> findByEmailIn(Collection<String> emails);
+
+    @Query("SELECT email FROM users WHERE email IN (:emails)")
+    Flux<String> findExistingEmails(@Param("emails") Collection<String> emails);
 
     @Modifying
     @Transactional
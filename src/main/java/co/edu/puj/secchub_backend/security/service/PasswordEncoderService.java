@@ -1,14 +1,41 @@
 package co.edu.puj.secchub_backend.security.service;
 
-import lombok.RequiredArgsConstructor;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import jakarta.annotation.PreDestroy;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
 @Service
-@RequiredArgsConstructor
 public class PasswordEncoderService {
 
     private final PasswordEncoder passwordEncoder;
+    private final int hashingParallelism;
+    private final Scheduler hashingScheduler;
+
+    public PasswordEncoderService(PasswordEncoder passwordEncoder) {
+        this(passwordEncoder, 0);
+    }
+
+    /**
+     * @param passwordEncoder encoder of the passwords
+     * @param hashingParallelism passwords hashed at the same time by {@link #encodeAll(List)},
+     * or 0 to use one per available processor
+     */
+    @Autowired
+    public PasswordEncoderService(PasswordEncoder passwordEncoder,
+            @Value("${secchub.security.password-hashing-parallelism:0}") int hashingParallelism) {
+        this.passwordEncoder = passwordEncoder;
+        this.hashingParallelism = hashingParallelism > 0 ? hashingParallelism : Schedulers.DEFAULT_POOL_SIZE;
+        this.hashingScheduler = Schedulers.newParallel("password-hashing", this.hashingParallelism, true);
+    }
 
     /**
      * Encodes a raw password using BCrypt
@@ -19,6 +46,19 @@ public class PasswordEncoderService {
         return passwordEncoder.encode(rawPassword);
     }
 
+    /**
+     * Encodes several raw passwords on a dedicated pool of {@code hashingParallelism} threads.
+     * Hashing is CPU bound, so the pool keeps bulk imports from taking every core or the shared
+     * boundedElastic threads.
+     * @param rawPasswords the raw passwords to encode
+     * @return the encoded passwords in the order of the raw passwords
+     */
+    public Flux<String> encodeAll(List<String> rawPasswords) {
+        return Flux.fromIterable(rawPasswords)
+                .flatMapSequential(rawPassword -> Mono.fromCallable(() -> encode(rawPassword))
+                        .subscribeOn(hashingScheduler), hashingParallelism);
+    }
+
     /**
      * Verifies a raw password against an encoded password
      * @param rawPassword the raw password to verify
@@ -28,4 +68,9 @@ public class PasswordEncoderService {
     public boolean matches(String rawPassword, String encodedPassword) {
         return passwordEncoder.matches(rawPassword, encodedPassword);
     }
-}
\ No newline at end of file
+
+    @PreDestroy
+    void disposeHashingScheduler() {
+        hashingScheduler.dispose();
+    }
+}
@@ -0,0 +1,138 @@
+package co.edu.puj.secchub_backend.security.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
+
+import org.modelmapper.ModelMapper;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import co.edu.puj.secchub_backend.security.contract.UserChangedEvent;
+import co.edu.puj.secchub_backend.security.contract.UserInformationResponseDTO;
+import co.edu.puj.secchub_backend.security.model.User;
+import co.edu.puj.secchub_backend.security.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+
+/**
+ * Cached directory of user information for resolving the users of a whole result at once.
+ * Users are cached by id and by email in two bounded caches; a lookup answers the cached users and
+ * loads every missing one with a single query. Entries are evicted when a {@link UserChangedEvent}
+ * is published, and through the cache manager also on the other instances.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class UserDirectory {
+
+    static final String BY_ID_CACHE = "user-information-by-id";
+    static final String BY_EMAIL_CACHE = "user-information-by-email";
+
+    private final UserRepository userRepository;
+    private final ModelMapper modelMapper;
+    private final CacheManager cacheManager;
+
+    /**
+     * Gets the information of the users with the given IDs.
+     * @param userIds users' IDs, nulls and repeated IDs are ignored
+     * @return information of each existing user, cached users first
+     */
+    public Flux<UserInformationResponseDTO> findByIds(Collection<Long> userIds) {
+        Cache byId = cache(BY_ID_CACHE);
+        List<UserInformationResponseDTO> cached = new ArrayList<>();
+        List<Long> missing = new ArrayList<>();
+        for (Long userId : distinct(userIds)) {
+            UserInformationResponseDTO user = byId.get(userId, UserInformationResponseDTO.class);
+            if (user != null) {
+                cached.add(user);
+            } else {
+                missing.add(userId);
+            }
+        }
+        if (missing.isEmpty()) {
+            return Flux.fromIterable(cached);
+        }
+        log.debug("Loading {} users missing from the directory by id", missing.size());
+        return Flux.fromIterable(cached)
+            .concatWith(userRepository.findAllById(missing).map(this::cacheUser));
+    }
+
+    /**
+     * Gets the information of the users with the given emails.
+     * @param emails users' emails, compared ignoring case; nulls and repeated emails are ignored
+     * @return information of each existing user, cached users first
+     */
+    public Flux<UserInformationResponseDTO> findByEmails(Collection<String> emails) {
+        Cache byEmail = cache(BY_EMAIL_CACHE);
+        List<UserInformationResponseDTO> cached = new ArrayList<>();
+        List<String> missing = new ArrayList<>();
+        for (String email : distinct(emails)) {
+            UserInformationResponseDTO user = byEmail.get(emailKey(email), UserInformationResponseDTO.class);
+            if (user != null) {
+                cached.add(user);
+            } else {
+                missing.add(email);
+            }
+        }
+        if (missing.isEmpty()) {
+            return Flux.fromIterable(cached);
+        }
+        log.debug("Loading {} users missing from the directory by email", missing.size());
+        return Flux.fromIterable(cached)
+            .concatWith(userRepository.findByEmailIn(missing).map(this::cacheUser));
+    }
+
+    /**
+     * Evicts the changed user, including the email it had when it was cached.
+     * @param event User change
+     */
+    @EventListener
+    public void onUserChanged(UserChangedEvent event) {
+        Cache byEmail = cache(BY_EMAIL_CACHE);
+        if (event.userId() != null) {
+            Cache byId = cache(BY_ID_CACHE);
+            UserInformationResponseDTO cached = byId.get(event.userId(), UserInformationResponseDTO.class);
+            if (cached != null && cached.getEmail() != null) {
+                byEmail.evict(emailKey(cached.getEmail()));
+            }
+            byId.evict(event.userId());
+        }
+        if (event.email() != null) {
+            byEmail.evict(emailKey(event.email()));
+        }
+    }
+
+    private UserInformationResponseDTO cacheUser(User user) {
+        UserInformationResponseDTO information = modelMapper.map(user, UserInformationResponseDTO.class);
+        cache(BY_ID_CACHE).put(user.getId(), information);
+        if (user.getEmail() != null) {
+            cache(BY_EMAIL_CACHE).put(emailKey(user.getEmail()), information);
+        }
+        return information;
+    }
+
+    private Cache cache(String name) {
+        return Objects.requireNonNull(cacheManager.getCache(name), () -> "Cache not configured: " + name);
+    }
+
+    private static <T> Set<T> distinct(Collection<T> values) {
+        Set<T> distinct = new LinkedHashSet<>(values);
+        distinct.remove(null);
+        return distinct;
+    }
+
+    /**
+     * Normalizes an email the way the case-insensitive collation of the users table compares it.
+     */
+    private static String emailKey(String email) {
+        return email.toLowerCase(Locale.ROOT);
+    }
+}
@@ -1,15 +1,29 @@
 package co.edu.puj.secchub_backend.security.service;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
 import org.modelmapper.ModelMapper;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.security.core.context.ReactiveSecurityContextHolder;
 import org.springframework.stereotype.Service;
 
 import co.edu.puj.secchub_backend.security.contract.SecurityModuleUserContract;
+import co.edu.puj.secchub_backend.security.contract.UserChangedEvent;
 import co.edu.puj.secchub_backend.security.contract.UserCreationRequestDTO;
+import co.edu.puj.secchub_backend.security.contract.UserCreationResultDTO;
 import co.edu.puj.secchub_backend.security.contract.UserInformationResponseDTO;
 import co.edu.puj.secchub_backend.security.exception.UserNotFoundException;
 import co.edu.puj.secchub_backend.security.model.User;
+import co.edu.puj.secchub_backend.security.repository.UserBatchRepository;
 import co.edu.puj.secchub_backend.security.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -23,8 +37,11 @@ import reactor.core.scheduler.Schedulers;
 public class UserService implements SecurityModuleUserContract {
     
     private final UserRepository userRepository;
+    private final UserBatchRepository userBatchRepository;
     private final ModelMapper modelMapper;
     private final PasswordEncoderService passwordEncoderService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final UserDirectory userDirectory;
 
     @Override
     @Cacheable("user-id-by-email")
@@ -46,9 +63,106 @@ public class UserService implements SecurityModuleUserContract {
             return user;
         }).subscribeOn(Schedulers.boundedElastic())
         .flatMap(userRepository::save)
+        .doOnNext(savedUser -> eventPublisher.publishEvent(new UserChangedEvent(savedUser.getId(), savedUser.getEmail())))
         .map(User::getId);
     }
 
+    /**
+     * Creates several users. Emails already registered, or repeated inside the list, are reported as
+     * duplicates with one lookup; the passwords of the remaining users are hashed on the bounded hashing
+     * pool and the users are inserted with multi-row statements. When a concurrent registration takes an
+     * email between the lookup and the insert, the statement of that email is retried row by row so only
+     * the conflicting user is reported as a duplicate.
+     * @param userCreationRequestDTOs DTOs containing the users' creation information
+     * @return one result per request, in the order of the requests
+     */
+    @Override
+    public Flux<UserCreationResultDTO> createUsers(List<UserCreationRequestDTO> userCreationRequestDTOs) {
+        if (userCreationRequestDTOs.isEmpty()) {
+            return Flux.empty();
+        }
+        log.debug("Creating {} users", userCreationRequestDTOs.size());
+
+        List<String> emails = userCreationRequestDTOs.stream().map(UserCreationRequestDTO::getEmail).toList();
+        return userRepository.findExistingEmails(emails)
+            .map(UserService::normalizeEmail)
+            .collect(HashSet<String>::new, Set::add)
+            .flatMapMany(takenEmails -> {
+                List<User> newUsers = new ArrayList<>();
+                List<User> usersByRequest = new ArrayList<>(userCreationRequestDTOs.size());
+                for (UserCreationRequestDTO request : userCreationRequestDTOs) {
+                    User user = takenEmails.add(normalizeEmail(request.getEmail()))
+                        ? modelMapper.map(request, User.class)
+                        : null;
+                    usersByRequest.add(user);
+                    if (user != null) {
+                        newUsers.add(user);
+                    }
+                }
+                return passwordEncoderService.encodeAll(newUsers.stream().map(User::getPassword).toList())
+                    .collectList()
+                    .flatMapMany(encodedPasswords -> {
+                        for (int i = 0; i < newUsers.size(); i++) {
+                            newUsers.get(i).setPassword(encodedPasswords.get(i));
+                        }
+                        return Flux.fromIterable(partition(newUsers)).concatMap(this::insertUsers);
+                    })
+                    .doOnNext(savedUser -> eventPublisher.publishEvent(new UserChangedEvent(savedUser.getId(), savedUser.getEmail())))
+                    .thenMany(Flux.range(0, usersByRequest.size()).map(i -> toCreationResult(
+                        userCreationRequestDTOs.get(i), usersByRequest.get(i))));
+            });
+    }
+
+    /**
+     * Evicts the cached user id of the changed email.
+     * @param event User change
+     */
+    @EventListener
+    @CacheEvict(value = "user-id-by-email", key = "#event.email()", condition = "#event.email() != null")
+    public void onUserChanged(UserChangedEvent event) {
+        log.debug("Evicting cached user id after change of user {}", event.userId());
+    }
+
+    /**
+     * Inserts users with one statement; if one of their emails was registered meanwhile, inserts them one by one
+     * and leaves the ids of the duplicated users unset.
+     * @param users Users to insert
+     * @return Flux of inserted users
+     */
+    private Flux<User> insertUsers(List<User> users) {
+        return userBatchRepository.insertAll(users)
+            .onErrorResume(DuplicateKeyException.class, error -> {
+                log.debug("Email registered during bulk creation, inserting {} users one by one", users.size());
+                return Flux.fromIterable(users)
+                    .concatMap(user -> userRepository.save(user)
+                        .onErrorResume(DuplicateKeyException.class, duplicate -> Mono.empty()));
+            });
+    }
+
+    private static UserCreationResultDTO toCreationResult(UserCreationRequestDTO request, User user) {
+        boolean created = user != null && user.getId() != null;
+        return UserCreationResultDTO.builder()
+            .email(request.getEmail())
+            .userId(created ? user.getId() : null)
+            .status(created ? UserCreationResultDTO.Status.CREATED : UserCreationResultDTO.Status.DUPLICATE_EMAIL)
+            .build();
+    }
+
+    /**
+     * Normalizes an email the way the case-insensitive collation of the users table compares it.
+     */
+    private static String normalizeEmail(String email) {
+        return email == null ? "" : email.toLowerCase(Locale.ROOT);
+    }
+
+    private static <T> List<List<T>> partition(List<T> items) {
+        List<List<T>> chunks = new ArrayList<>();
+        for (int start = 0; start < items.size(); start += UserBatchRepository.MAX_ROWS_PER_STATEMENT) {
+            chunks.add(items.subList(start, Math.min(start + UserBatchRepository.MAX_ROWS_PER_STATEMENT, items.size())));
+        }
+        return chunks;
+    }
+
     /**
      * Gets all users information
      * @return List<UserInformationResponseDTO> with list of users details
@@ -74,6 +188,20 @@ public class UserService implements SecurityModuleUserContract {
                 .map(user -> modelMapper.map(user, UserInformationResponseDTO.class));
     }
 
+    @Override
+    public Flux<UserInformationResponseDTO> getUserInformationByIds(Collection<Long> userIds) {
+        log.debug("Getting user information of {} users by userId", userIds.size());
+
+        return userDirectory.findByIds(userIds);
+    }
+
+    @Override
+    public Flux<UserInformationResponseDTO> getUserInformationByEmails(Collection<String> emails) {
+        log.debug("Getting user information of {} users by email", emails.size());
+
+        return userDirectory.findByEmails(emails);
+    }
+
     @Override
     public Mono<UserInformationResponseDTO> getUserInformationByEmail(String email) {
         log.debug("Getting user information by email: {}", email);
@@ -21,5 +21,10 @@ public abstract class DatabaseContainerIntegration {
         registry.add("spring.r2dbc.url", () -> MYSQL_CONTAINER.getJdbcUrl().replace("jdbc:", "r2dbc:"));
         registry.add("spring.r2dbc.username", MYSQL_CONTAINER::getUsername);
         registry.add("spring.r2dbc.password", MYSQL_CONTAINER::getPassword);
+        // Tests call the report and bulk endpoints back to back as the same user
+        registry.add("secchub.admission.classes.report.user-rate", () -> "0");
+        registry.add("secchub.admission.classes.bulk.user-rate", () -> "0");
+        // Tests read reports right after changing the data behind them
+        registry.add("secchub.single-flight.reuse-window", () -> "PT0S");
     }
 }
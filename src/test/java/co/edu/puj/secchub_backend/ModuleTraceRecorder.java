@@ -0,0 +1,121 @@
+package co.edu.puj.secchub_backend;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import io.micrometer.common.KeyValue;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationHandler;
+
+/**
+ * In-process trace exporter for tests. Records every observation that stops as a {@link Span} with its parent,
+ * so a test can check which module calls a request made and how long they took:
+ * <pre>
+ * traceRecorder.assertChildOf("SemesterRepository.findByIsCurrentTrue", "AdminModuleSemesterContract.getCurrentSemesterId");
+ * </pre>
+ * Import {@link Config} into a Spring Boot test, which registers it with the application observation registry,
+ * or add it to an {@code ObservationRegistry} with {@code observationConfig().observationHandler(...)}.
+ */
+public class ModuleTraceRecorder implements ObservationHandler<Observation.Context> {
+
+    private static final String START_NANOS = ModuleTraceRecorder.class.getName() + ".start";
+
+    private final List<Span> spans = new CopyOnWriteArrayList<>();
+
+    /**
+     * Observation that stopped.
+     * @param name Contextual name, such as the contract or repository method
+     * @param parent Contextual name of the parent observation, null for a root
+     * @param tags Low cardinality key values
+     * @param error Error signalled to the observation, null if none
+     * @param duration Time from start to stop
+     */
+    public record Span(String name, String parent, List<KeyValue> tags, Throwable error, Duration duration) {
+
+        /**
+         * @param key Key of a low cardinality key value
+         * @return Value of the key, null when the span does not have it
+         */
+        public String tag(String key) {
+            return tags.stream().filter(tag -> tag.getKey().equals(key)).map(KeyValue::getValue).findFirst().orElse(null);
+        }
+    }
+
+    @Override
+    public void onStart(Observation.Context context) {
+        context.put(START_NANOS, System.nanoTime());
+    }
+
+    @Override
+    public void onStop(Observation.Context context) {
+        Long start = context.get(START_NANOS);
+        Observation.ContextView parent = context.getParentObservation() == null
+            ? null : context.getParentObservation().getContextView();
+        spans.add(new Span(nameOf(context), parent == null ? null : nameOf(parent),
+            context.getLowCardinalityKeyValues().stream().toList(), context.getError(),
+            Duration.ofNanos(start == null ? 0 : System.nanoTime() - start)));
+    }
+
+    @Override
+    public boolean supportsContext(Observation.Context context) {
+        return true;
+    }
+
+    /**
+     * Forgets the spans recorded so far.
+     */
+    public void reset() {
+        spans.clear();
+    }
+
+    /**
+     * @return Spans in the order they stopped
+     */
+    public List<Span> spans() {
+        return List.copyOf(spans);
+    }
+
+    /**
+     * Gets the last span with a name.
+     * @param name Contextual name of the span
+     * @return Span
+     */
+    public Span span(String name) {
+        List<Span> matching = spans.stream().filter(span -> name.equals(span.name())).toList();
+        return matching.isEmpty()
+            ? fail("No span named " + name + ", recorded: " + spans.stream().map(Span::name).toList())
+            : matching.get(matching.size() - 1);
+    }
+
+    /**
+     * Asserts that the last span with a name was started inside another span.
+     * @param child Contextual name of the child span
+     * @param parent Contextual name of the expected parent
+     */
+    public void assertChildOf(String child, String parent) {
+        assertEquals(parent, span(child).parent(), () -> child + " was not started inside " + parent);
+    }
+
+    private static String nameOf(Observation.ContextView context) {
+        return context.getContextualName() != null ? context.getContextualName() : context.getName();
+    }
+
+    /**
+     * Registers a {@link ModuleTraceRecorder} in the test application context.
+     */
+    @TestConfiguration
+    public static class Config {
+
+        @Bean
+        public ModuleTraceRecorder moduleTraceRecorder() {
+            return new ModuleTraceRecorder();
+        }
+    }
+}
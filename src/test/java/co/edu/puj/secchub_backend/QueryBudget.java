@@ -0,0 +1,99 @@
+package co.edu.puj.secchub_backend;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import co.edu.puj.secchub_backend.config.QueryStats;
+import co.edu.puj.secchub_backend.config.QueryStatsListener;
+
+/**
+ * Test API that pins the query budget of endpoints. Import {@link Config} into a Spring Boot test,
+ * call the endpoint and assert on the statements it executed:
+ * <pre>
+ * queryBudget.assertAtMost("GET /planning/classes/{classId}", 5);
+ * </pre>
+ * Stats are published when the server finishes the exchange, which can be slightly after the client
+ * received the response, so the lookups wait for them.
+ */
+public class QueryBudget implements QueryStatsListener {
+
+    private static final long WAIT_MILLIS = 5_000;
+
+    private final Map<String, List<QueryStats>> statsByEndpoint = new ConcurrentHashMap<>();
+
+    @Override
+    public void exchangeCompleted(String endpoint, QueryStats stats) {
+        statsByEndpoint.computeIfAbsent(endpoint, key -> new CopyOnWriteArrayList<>()).add(stats);
+    }
+
+    /**
+     * Forgets the exchanges recorded so far.
+     */
+    public void reset() {
+        statsByEndpoint.clear();
+    }
+
+    /**
+     * Gets the stats of the last completed exchange of an endpoint.
+     * @param endpoint HTTP method and route pattern, e.g. {@code GET /planning/classes/{classId}}
+     * @return Stats of the exchange
+     */
+    public QueryStats lastExchange(String endpoint) {
+        long deadline = System.currentTimeMillis() + WAIT_MILLIS;
+        while (System.currentTimeMillis() < deadline) {
+            List<QueryStats> exchanges = statsByEndpoint.get(endpoint);
+            if (exchanges != null && !exchanges.isEmpty()) {
+                return exchanges.get(exchanges.size() - 1);
+            }
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        return fail("No completed exchange for " + endpoint + ", recorded: " + statsByEndpoint.keySet());
+    }
+
+    /**
+     * Asserts that the last exchange of an endpoint executed at most the given number of statements.
+     * @param endpoint HTTP method and route pattern
+     * @param maxQueries Query budget
+     */
+    public void assertAtMost(String endpoint, int maxQueries) {
+        QueryStats stats = lastExchange(endpoint);
+        assertTrue(stats.getQueryCount() <= maxQueries, () -> endpoint + " executed " + stats.getQueryCount()
+            + " statements, over its budget of " + maxQueries + ": " + stats.getExecutionsByShape());
+    }
+
+    /**
+     * Asserts that no statement shape ran more than the given number of times in the last exchange of an endpoint.
+     * @param endpoint HTTP method and route pattern
+     * @param maxExecutions Allowed executions of a single shape
+     */
+    public void assertNoRepeatedStatements(String endpoint, int maxExecutions) {
+        QueryStats stats = lastExchange(endpoint);
+        stats.getMostRepeatedShape().ifPresent(shape -> assertTrue(shape.getValue() <= maxExecutions,
+            () -> endpoint + " executed " + shape.getValue() + " times: " + shape.getKey()));
+    }
+
+    /**
+     * Registers a {@link QueryBudget} in the test application context.
+     */
+    @TestConfiguration
+    public static class Config {
+
+        @Bean
+        public QueryBudget queryBudget() {
+            return new QueryBudget();
+        }
+    }
+}
@@ -0,0 +1,213 @@
+package co.edu.puj.secchub_backend;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.r2dbc.core.DatabaseClient;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.r2dbc.spi.ConnectionFactory;
+
+/**
+ * Runs EXPLAIN FORMAT=JSON for native queries against the scaled query plan dataset
+ * and asserts that no table is read with a full scan or beyond a row-estimate budget.
+ */
+public class QueryPlanInspector {
+
+    /**
+     * Maximum estimated rows examined per scan of a single table.
+     * The dataset holds 10 semesters, so a query scoped to one semester stays below this budget.
+     */
+    public static final long DEFAULT_ROW_BUDGET = 2_500;
+
+    /**
+     * Tables with at most this many estimated rows may be fully scanned (semesters, sections, parametric tables).
+     */
+    public static final long FULL_SCAN_ALLOWANCE = 100;
+
+    private static final Set<String> FULL_SCAN_ACCESS_TYPES = Set.of("ALL", "index");
+
+    private static final Pattern NAMED_PARAMETER = Pattern.compile("(?<!:):([a-zA-Z]\\w*)");
+
+    /**
+     * Sample literals substituted for named parameters, chosen to hit existing rows of the dataset.
+     */
+    private static final Map<String, String> SAMPLE_VALUES = Map.ofEntries(
+        Map.entry("semesterId", "3"),
+        Map.entry("afterSemesterId", "3"),
+        Map.entry("afterId", "42"),
+        Map.entry("limit", "26"),
+        Map.entry("year", "2025"),
+        Map.entry("period", "1"),
+        Map.entry("sectionId", "3"),
+        Map.entry("classroomId", "5"),
+        Map.entry("classId", "11"),
+        Map.entry("id", "11"),
+        Map.entry("ids", "11, 12, 13"),
+        Map.entry("courseId", "12"),
+        Map.entry("section", "1"),
+        Map.entry("day", "'MONDAY'"),
+        Map.entry("disability", "FALSE"),
+        Map.entry("teacherId", "7"),
+        Map.entry("teacherIds", "7, 8, 9"),
+        Map.entry("userId", "1042"),
+        Map.entry("emails", "'plan.user1@javeriana.edu.co', 'plan.user2@javeriana.edu.co'"),
+        Map.entry("statusId", "8"),
+        Map.entry("studentApplicationId", "42"),
+        Map.entry("scopeSectionId", "3"),
+        Map.entry("scopeTeacherId", "7"),
+        Map.entry("scopeUserId", "1042"));
+
+    private static final String[] DATASET_TABLES = {
+        "users", "teacher", "section", "course", "semester", "classroom", "class", "class_schedule",
+        "teacher_class", "student_application", "student_application_schedule",
+        "teaching_assistant", "teaching_assistant_schedule"
+    };
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private QueryPlanInspector() {
+    }
+
+    /**
+     * Replaces the database content with the scaled dataset and refreshes the index statistics.
+     * @param connectionFactory Connection factory of the test container
+     * @param databaseClient Database client of the test container
+     */
+    public static void loadDataset(ConnectionFactory connectionFactory, DatabaseClient databaseClient) {
+        R2dbcTestUtils.executeScripts(connectionFactory,
+                "/test-cleanup.sql",
+                "/test-query-plan-dataset.sql");
+        databaseClient.sql("ANALYZE TABLE " + String.join(", ", DATASET_TABLES))
+            .fetch()
+            .all()
+            .blockLast();
+    }
+
+    /**
+     * Asserts the plan of a query with the default row budget.
+     * @param queryName Name reported on failure
+     * @param databaseClient Database client of the test container
+     * @param sql Native SQL with named parameters
+     */
+    public static void assertPlanWithinBudget(String queryName, DatabaseClient databaseClient, String sql) {
+        assertPlanWithinBudget(queryName, databaseClient, sql, DEFAULT_ROW_BUDGET);
+    }
+
+    /**
+     * Asserts that no table of the query plan is fully scanned or examined beyond the row budget.
+     * @param queryName Name reported on failure
+     * @param databaseClient Database client of the test container
+     * @param sql Native SQL with named parameters
+     * @param rowBudget Maximum estimated rows examined per scan of a single table
+     */
+    public static void assertPlanWithinBudget(String queryName, DatabaseClient databaseClient, String sql, long rowBudget) {
+        String plan = explain(databaseClient, sql);
+        List<TableAccess> accesses = tableAccesses(plan);
+        assertTrue(!accesses.isEmpty() || plan.contains("message"),
+                () -> queryName + " produced a plan without table accesses: " + plan);
+
+        for (TableAccess access : accesses) {
+            if (FULL_SCAN_ACCESS_TYPES.contains(access.accessType()) && access.rowsExaminedPerScan() > FULL_SCAN_ALLOWANCE) {
+                fail(queryName + " falls back to a full scan (" + access + ")\nPlan: " + plan);
+            }
+            if (access.rowsExaminedPerScan() > rowBudget) {
+                fail(queryName + " exceeds the row budget of " + rowBudget + " (" + access + ")\nPlan: " + plan);
+            }
+        }
+    }
+
+    /**
+     * Runs EXPLAIN FORMAT=JSON for a query, binding sample literals to its named parameters.
+     * @param databaseClient Database client of the test container
+     * @param sql Native SQL with named parameters
+     * @return JSON plan
+     */
+    public static String explain(DatabaseClient databaseClient, String sql) {
+        String plan = databaseClient.sql("EXPLAIN FORMAT=JSON " + bindSampleValues(sql))
+            .map(row -> row.get(0, String.class))
+            .one()
+            .block();
+        assertNotNull(plan, "EXPLAIN returned no plan for: " + sql);
+        return plan;
+    }
+
+    /**
+     * Replaces every named parameter of the query with its sample literal.
+     * @param sql Native SQL with named parameters
+     * @return SQL ready to be explained
+     */
+    static String bindSampleValues(String sql) {
+        Matcher matcher = NAMED_PARAMETER.matcher(sql);
+        StringBuilder bound = new StringBuilder();
+        while (matcher.find()) {
+            String value = SAMPLE_VALUES.get(matcher.group(1));
+            if (value == null) {
+                fail("No sample value registered for parameter :" + matcher.group(1) + " in: " + sql);
+            }
+            matcher.appendReplacement(bound, Matcher.quoteReplacement(value));
+        }
+        matcher.appendTail(bound);
+        return bound.toString();
+    }
+
+    /**
+     * Collects every physical table access of a JSON plan, skipping derived and temporary tables.
+     * @param plan JSON plan
+     * @return Table accesses
+     */
+    static List<TableAccess> tableAccesses(String plan) {
+        try {
+            List<TableAccess> accesses = new ArrayList<>();
+            collectTableAccesses(OBJECT_MAPPER.readTree(plan), accesses);
+            return accesses;
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not parse query plan: " + plan, e);
+        }
+    }
+
+    private static void collectTableAccesses(JsonNode node, List<TableAccess> accesses) {
+        if (node.isArray()) {
+            node.forEach(child -> collectTableAccesses(child, accesses));
+            return;
+        }
+        if (!node.isObject()) {
+            return;
+        }
+        for (Map.Entry<String, JsonNode> field : node.properties()) {
+            JsonNode value = field.getValue();
+            if ("table".equals(field.getKey()) && value.has("table_name")) {
+                String tableName = value.get("table_name").asText();
+                if (!tableName.startsWith("<")) {
+                    accesses.add(new TableAccess(
+                        tableName,
+                        value.path("access_type").asText(),
+                        value.path("key").asText(null),
+                        value.path("rows_examined_per_scan").asLong(0)));
+                }
+            }
+            collectTableAccesses(value, accesses);
+        }
+    }
+
+    /**
+     * Access to a single table in a query plan.
+     * @param table Table name or alias
+     * @param accessType Join type reported by the optimizer
+     * @param key Index used, null when none
+     * @param rowsExaminedPerScan Estimated rows examined per scan
+     */
+    public record TableAccess(String table, String accessType, String key, long rowsExaminedPerScan) {
+    }
+}
@@ -0,0 +1,132 @@
+package co.edu.puj.secchub_backend;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.type.filter.AssignableTypeFilter;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import io.r2dbc.spi.ConnectionFactory;
+
+/**
+ * Query plan regression tests for every native {@link Query} declared on a repository.
+ * Each query is explained against the scaled dataset and must not fall back to a full scan
+ * or exceed the row-estimate budget of {@link QueryPlanInspector}.
+ */
+@SpringBootTest
+@Testcontainers
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@DisplayName("Repository Query Plan Integration Tests")
+class RepositoryQueryPlanIntegrationTest extends DatabaseContainerIntegration {
+
+    private static final String BASE_PACKAGE = "co.edu.puj.secchub_backend";
+
+    /**
+     * Queries that are not checked, keyed by Repository#method, with the reason.
+     */
+    private static final Map<String, String> EXCLUDED_QUERIES = Map.of(
+        "ClassScheduleRepository#findConflictingSchedules", "JPQL syntax, not executable as native SQL",
+        "TeacherRepository#findByEmploymentTypeAndMinHours", "JPQL syntax, not executable as native SQL",
+        "TeacherRepository#findAllOrderByMaxHoursDesc", "JPQL syntax, not executable as native SQL",
+        "UserRepository#updateLastAccess", "JPQL syntax, not executable as native SQL");
+
+    /**
+     * Queries allowed to scan their table, keyed by Repository#method, with the reason.
+     * They are still explained so that invalid SQL is caught.
+     */
+    private static final Map<String, String> ALLOWED_FULL_SCANS = Map.of(
+        "StudentApplicationRepository#findByStatusId",
+        "Lists every application in a status across all semesters, a large fraction of the table by design",
+        "StudentApplicationRepository#findVisibleByStatusId",
+        "Same listing as findByStatusId, restricted to a section afterwards",
+        "StudentApplicationRepository#findAllVisible",
+        "Lists every application; the section of an application is a COALESCE of two columns, which no index covers",
+        "TeachingAssistantRepository#findAllVisible",
+        "Lists every teaching assistant; the section comes from the application through a COALESCE");
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    @Autowired
+    private ConnectionFactory connectionFactory;
+
+    @BeforeAll
+    void loadDataset() {
+        QueryPlanInspector.loadDataset(connectionFactory, databaseClient);
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("repositoryQueries")
+    @DisplayName("Repository query plan stays within budget")
+    void testRepositoryQueryPlan(String queryName, String sql) {
+        if (ALLOWED_FULL_SCANS.containsKey(queryName)) {
+            QueryPlanInspector.explain(databaseClient, sql);
+            return;
+        }
+        QueryPlanInspector.assertPlanWithinBudget(queryName, databaseClient, sql);
+    }
+
+    @Test
+    @DisplayName("Repository queries are discovered")
+    void testRepositoryQueriesDiscovered() {
+        assertFalse(repositoryQueries().toList().isEmpty(), "No @Query methods found under " + BASE_PACKAGE);
+    }
+
+    static Stream<Arguments> repositoryQueries() {
+        List<Arguments> queries = new ArrayList<>();
+        for (Class<?> repository : findRepositoryInterfaces()) {
+            Stream.of(repository.getDeclaredMethods())
+                .filter(method -> method.isAnnotationPresent(Query.class))
+                .sorted(Comparator.comparing(Method::getName))
+                .forEach(method -> {
+                    String queryName = repository.getSimpleName() + "#" + method.getName();
+                    if (!EXCLUDED_QUERIES.containsKey(queryName)) {
+                        queries.add(Arguments.of(queryName, method.getAnnotation(Query.class).value()));
+                    }
+                });
+        }
+        return queries.stream();
+    }
+
+    private static List<Class<?>> findRepositoryInterfaces() {
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false) {
+            @Override
+            protected boolean isCandidateComponent(AnnotatedBeanDefinition beanDefinition) {
+                return beanDefinition.getMetadata().isInterface();
+            }
+        };
+        scanner.addIncludeFilter(new AssignableTypeFilter(Repository.class));
+
+        List<Class<?>> repositories = new ArrayList<>();
+        for (BeanDefinition candidate : scanner.findCandidateComponents(BASE_PACKAGE)) {
+            try {
+                repositories.add(Class.forName(candidate.getBeanClassName()));
+            } catch (ClassNotFoundException e) {
+                throw new IllegalStateException("Could not load repository " + candidate.getBeanClassName(), e);
+            }
+        }
+        repositories.sort(Comparator.comparing(Class::getName));
+        return repositories;
+    }
+}
@@ -2,6 +2,7 @@ package co.edu.puj.secchub_backend.admin.controller;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -19,6 +20,7 @@ import org.junit.jupiter.params.provider.MethodSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.r2dbc.core.DatabaseClient;
 import org.springframework.test.web.reactive.server.WebTestClient;
@@ -206,6 +208,70 @@ class CourseControllerIntegrationTest extends DatabaseContainerIntegration {
                 .expectStatus().isUnauthorized();
     }
 
+    // ==========================================
+    // Conditional GET Tests
+    // ==========================================
+
+    @Test
+    @DisplayName("GET /courses with the current ETag should return 304 until a course changes")
+    void getAllCourses_withCurrentETag_returns304UntilChanged() {
+        String token = jwtTokenProvider.generateToken("testAdmin@example.com", "ROLE_ADMIN");
+
+        String etag = webTestClient.get()
+                .uri("/courses")
+                .header("Authorization", "Bearer " + token)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().exists(HttpHeaders.ETAG)
+                .returnResult(String.class)
+                .getResponseHeaders()
+                .getETag();
+        assertNotNull(etag, "ETag should be set on the first response");
+
+        webTestClient.get()
+                .uri("/courses")
+                .header("Authorization", "Bearer " + token)
+                .header(HttpHeaders.IF_NONE_MATCH, etag)
+                .exchange()
+                .expectStatus().isNotModified()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, etag)
+                .expectBody().isEmpty();
+
+        Long courseId = databaseClient.sql("SELECT id FROM course LIMIT 1")
+                .map(row -> row.get(0, Long.class))
+                .one()
+                .block();
+        webTestClient.patch()
+                .uri("/courses/" + courseId)
+                .header("Authorization", "Bearer " + token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of("credits", 4))
+                .exchange()
+                .expectStatus().isOk();
+
+        String changedEtag = webTestClient.get()
+                .uri("/courses")
+                .header("Authorization", "Bearer " + token)
+                .header(HttpHeaders.IF_NONE_MATCH, etag)
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(String.class)
+                .getResponseHeaders()
+                .getETag();
+        assertNotNull(changedEtag, "ETag should be set after the change");
+        assertNotEquals(etag, changedEtag, "ETag should change after a course is updated");
+    }
+
+    @Test
+    @DisplayName("GET /courses with an ETag but no token should still return 401 Unauthorized")
+    void getAllCourses_withETagUnauthenticated_returns401() {
+        webTestClient.get()
+                .uri("/courses")
+                .header(HttpHeaders.IF_NONE_MATCH, "*")
+                .exchange()
+                .expectStatus().isUnauthorized();
+    }
+
     // ==========================================
     // POST Create Course Tests
     // ==========================================
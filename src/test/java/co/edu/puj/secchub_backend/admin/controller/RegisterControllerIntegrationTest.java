@@ -3,6 +3,7 @@ package co.edu.puj.secchub_backend.admin.controller;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 
+import java.util.List;
 import java.util.stream.Stream;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -25,6 +26,7 @@ import co.edu.puj.secchub_backend.admin.contract.TeacherResponseDTO;
 import co.edu.puj.secchub_backend.admin.dto.SectionRegisterRequestDTO;
 import co.edu.puj.secchub_backend.admin.dto.SectionResponseDTO;
 import co.edu.puj.secchub_backend.admin.dto.TeacherRegisterRequestDTO;
+import co.edu.puj.secchub_backend.admin.dto.UserImportResultDTO;
 import co.edu.puj.secchub_backend.admin.dto.UserRegisterRequestDTO;
 import co.edu.puj.secchub_backend.security.jwt.JwtTokenProvider;
 import io.r2dbc.spi.ConnectionFactory;
@@ -794,4 +796,115 @@ class RegisterControllerIntegrationTest extends DatabaseContainerIntegration {
                 .block();
         assertEquals(1L, programCount, "Program coordinator count should be 1");
     }
+
+    // ==========================================
+    // POST Import Users Tests
+    // ==========================================
+
+    @Test
+    @DisplayName("POST /admin/register/import with CSV should create users, teachers and sections per row")
+    void importUsers_fromCsv_returnsResultPerRow() {
+        String token = jwtTokenProvider.generateToken("testAdmin@example.com", "ROLE_ADMIN");
+        String csv = String.join("\n",
+                "type,username,password,name,last_name,email,employment_type_id,max_hours,section_name",
+                "STUDENT,imported1,password123,Imported,Student,imported.student@example.com,,,",
+                "TEACHER,imported2,password123,Imported,Teacher,imported.teacher@example.com,1,20,",
+                "SECTION,imported3,password123,\"Imported, Head\",Section,imported.section@example.com,,,Imported Section",
+                "STUDENT,imported4,password123,Repeated,Student,IMPORTED.STUDENT@example.com,,,",
+                "STUDENT,imported5,password123,Existing,Student,testStudent@example.com,,,",
+                "STUDENT,imported6,password123,Invalid,Student,not-an-email,,,");
+
+        List<UserImportResultDTO> results = webTestClient.post()
+                .uri("/admin/register/import")
+                .header("Authorization", "Bearer " + token)
+                .contentType(MediaType.parseMediaType("text/csv"))
+                .accept(MediaType.APPLICATION_NDJSON)
+                .bodyValue(csv)
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(UserImportResultDTO.class)
+                .getResponseBody()
+                .collectList()
+                .block();
+
+        assertNotNull(results);
+        assertEquals(List.of(2L, 3L, 4L, 5L, 6L, 7L), results.stream().map(UserImportResultDTO::getLine).toList());
+        assertEquals(List.of(UserImportResultDTO.Status.CREATED, UserImportResultDTO.Status.CREATED,
+                UserImportResultDTO.Status.CREATED, UserImportResultDTO.Status.DUPLICATE_EMAIL,
+                UserImportResultDTO.Status.DUPLICATE_EMAIL, UserImportResultDTO.Status.INVALID),
+                results.stream().map(UserImportResultDTO::getStatus).toList());
+        assertNotNull(results.get(1).getTeacherId(), "Teacher ID should not be null");
+        assertNotNull(results.get(2).getSectionId(), "Section ID should not be null");
+
+        Long teacherCount = databaseClient.sql("SELECT COUNT(*) FROM teacher WHERE user_id = :userId AND max_hours = 20")
+                .bind("userId", results.get(1).getUserId())
+                .map(row -> row.get(0, Long.class))
+                .one()
+                .block();
+        assertEquals(1L, teacherCount, "Teacher count should be 1");
+
+        String sectionHead = databaseClient.sql("SELECT u.name FROM section s JOIN users u ON u.id = s.user_id WHERE s.name = :name")
+                .bind("name", "Imported Section")
+                .map(row -> row.get(0, String.class))
+                .one()
+                .block();
+        assertEquals("Imported, Head", sectionHead);
+    }
+
+    @Test
+    @DisplayName("POST /admin/register/import with NDJSON should report malformed lines as invalid")
+    void importUsers_fromNdjson_reportsMalformedLines() {
+        String token = jwtTokenProvider.generateToken("testAdmin@example.com", "ROLE_ADMIN");
+        String ndjson = String.join("\n",
+                "{\"type\":\"PROGRAM\",\"username\":\"importedprogram\",\"password\":\"password123\","
+                        + "\"name\":\"Imported\",\"lastName\":\"Program\",\"email\":\"imported.program@example.com\"}",
+                "{not json}");
+
+        List<UserImportResultDTO> results = webTestClient.post()
+                .uri("/admin/register/import")
+                .header("Authorization", "Bearer " + token)
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .accept(MediaType.APPLICATION_NDJSON)
+                .bodyValue(ndjson)
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(UserImportResultDTO.class)
+                .getResponseBody()
+                .collectList()
+                .block();
+
+        assertNotNull(results);
+        assertEquals(2, results.size());
+        assertEquals(UserImportResultDTO.Status.CREATED, results.get(0).getStatus());
+        assertEquals(UserImportResultDTO.Status.INVALID, results.get(1).getStatus());
+    }
+
+    @Test
+    @DisplayName("POST /admin/register/import with CSV without email column should return 400")
+    void importUsers_csvWithoutEmailColumn_returns400() {
+        String token = jwtTokenProvider.generateToken("testAdmin@example.com", "ROLE_ADMIN");
+
+        webTestClient.post()
+                .uri("/admin/register/import")
+                .header("Authorization", "Bearer " + token)
+                .contentType(MediaType.parseMediaType("text/csv"))
+                .accept(MediaType.APPLICATION_NDJSON, MediaType.APPLICATION_JSON)
+                .bodyValue("type,username\nSTUDENT,nobody")
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    @DisplayName("POST /admin/register/import as non-admin should return 403")
+    void importUsers_asNonAdmin_returns403() {
+        String token = jwtTokenProvider.generateToken("testStudent@example.com", "ROLE_STUDENT");
+
+        webTestClient.post()
+                .uri("/admin/register/import")
+                .header("Authorization", "Bearer " + token)
+                .contentType(MediaType.parseMediaType("text/csv"))
+                .bodyValue("type,email\nSTUDENT,someone@example.com")
+                .exchange()
+                .expectStatus().isForbidden();
+    }
 }
@@ -1,6 +1,7 @@
 package co.edu.puj.secchub_backend.admin.controller;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -26,6 +27,7 @@ import co.edu.puj.secchub_backend.DatabaseContainerIntegration;
 import co.edu.puj.secchub_backend.R2dbcTestUtils;
 import co.edu.puj.secchub_backend.admin.dto.SemesterRequestDTO;
 import co.edu.puj.secchub_backend.admin.dto.SemesterResponseDTO;
+import co.edu.puj.secchub_backend.admin.dto.SemesterRolloverResponseDTO;
 import co.edu.puj.secchub_backend.security.jwt.JwtTokenProvider;
 import io.r2dbc.spi.ConnectionFactory;
 
@@ -201,6 +203,58 @@ class SemesterControllerIntegrationTest extends DatabaseContainerIntegration {
                 .expectStatus().isUnauthorized();
     }
 
+    @Test
+    @DisplayName("POST /semesters/rollover run twice should make the semester current once and reopen planning once")
+    void rolloverSemester_runTwice_isRerunnable() {
+        String token = jwtTokenProvider.generateToken("testAdmin@example.com", "ROLE_ADMIN");
+
+        SemesterRequestDTO requestDTO = SemesterRequestDTO.builder()
+                .year(2027)
+                .period(2)
+                .startDate(LocalDate.of(2027, 7, 15))
+                .endDate(LocalDate.of(2027, 12, 15))
+                .startSpecialWeek(LocalDate.of(2027, 9, 15))
+                .build();
+
+        SemesterRolloverResponseDTO first = webTestClient.post()
+                .uri("/semesters/rollover")
+                .header("Authorization", "Bearer " + token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(requestDTO)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(SemesterRolloverResponseDTO.class)
+                .returnResult()
+                .getResponseBody();
+
+        SemesterRolloverResponseDTO second = webTestClient.post()
+                .uri("/semesters/rollover")
+                .header("Authorization", "Bearer " + token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(requestDTO)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(SemesterRolloverResponseDTO.class)
+                .returnResult()
+                .getResponseBody();
+
+        assertNotNull(first, "First rollover should not be null");
+        assertNotNull(second, "Second rollover should not be null");
+        assertTrue(first.isCreated(), "First rollover should create the semester");
+        assertTrue(first.isMadeCurrent(), "First rollover should make the semester current");
+        assertTrue(first.getPhaseTimings().containsKey("sections"), "Rollover should report the sections phase");
+        assertEquals(first.getSemester().getId(), second.getSemester().getId(), "Second rollover should reuse the semester");
+        assertFalse(second.isCreated(), "Second rollover should not create the semester again");
+        assertFalse(second.isMadeCurrent(), "Second rollover should find the semester already current");
+        assertEquals(0L, second.getReopenedSections(), "Second rollover should not reopen planning again");
+
+        Long currentCount = databaseClient.sql("SELECT COUNT(*) FROM semester WHERE is_current = TRUE")
+                .map(row -> row.get(0, Long.class))
+                .one()
+                .block();
+        assertEquals(1L, currentCount, "Only one semester should be current");
+    }
+
     // ==========================================
     // GET Current Semester Tests
     // ==========================================
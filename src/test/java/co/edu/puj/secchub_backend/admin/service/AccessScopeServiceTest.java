@@ -0,0 +1,116 @@
+package co.edu.puj.secchub_backend.admin.service;
+
+import co.edu.puj.secchub_backend.admin.contract.AdminModuleSectionContract;
+import co.edu.puj.secchub_backend.admin.contract.AdminModuleTeacherContract;
+import co.edu.puj.secchub_backend.admin.exception.TeacherNotFoundException;
+import co.edu.puj.secchub_backend.config.AccessScope;
+import co.edu.puj.secchub_backend.security.contract.SecurityModuleUserContract;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link AccessScopeService}.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AccessScopeService Unit Test")
+class AccessScopeServiceTest {
+
+    @Mock
+    private SecurityModuleUserContract userService;
+
+    @Mock
+    private AdminModuleSectionContract sectionService;
+
+    @Mock
+    private AdminModuleTeacherContract teacherService;
+
+    @InjectMocks
+    private AccessScopeService accessScopeService;
+
+    @Test
+    @DisplayName("getCurrentAccessScope - When admin resolves the scope without lookups")
+    void testGetCurrentAccessScope_Admin_NoLookups() {
+        AccessScope scope = currentScope("admin@test.com", "ROLE_ADMIN");
+
+        assertNotNull(scope);
+        assertTrue(scope.isAdmin());
+        assertNull(scope.userId());
+        verifyNoInteractions(userService, sectionService, teacherService);
+    }
+
+    @Test
+    @DisplayName("getCurrentAccessScope - When section head resolves their user and section")
+    void testGetCurrentAccessScope_SectionHead_ResolvesSection() {
+        when(userService.getUserIdByEmail("section@test.com")).thenReturn(Mono.just(50L));
+        when(sectionService.getSectionIdByUserId(50L)).thenReturn(Mono.just(3L));
+
+        AccessScope scope = currentScope("section@test.com", "ROLE_USER");
+
+        assertNotNull(scope);
+        assertEquals(50L, scope.userId());
+        assertEquals(3L, scope.sectionId());
+        assertNull(scope.teacherId());
+        verify(teacherService, never()).getTeacherIdByUserId(anyLong());
+    }
+
+    @Test
+    @DisplayName("getCurrentAccessScope - When teacher resolves their teacher ID")
+    void testGetCurrentAccessScope_Teacher_ResolvesTeacher() {
+        when(userService.getUserIdByEmail("teacher@test.com")).thenReturn(Mono.just(100L));
+        when(sectionService.getSectionIdByUserId(100L)).thenReturn(Mono.empty());
+        when(teacherService.getTeacherIdByUserId(100L)).thenReturn(Mono.just(10L));
+
+        AccessScope scope = currentScope("teacher@test.com", "ROLE_TEACHER");
+
+        assertNotNull(scope);
+        assertEquals(10L, scope.teacherId());
+        assertNull(scope.sectionId());
+    }
+
+    @Test
+    @DisplayName("getCurrentAccessScope - When teacher has no teacher record resolves without teacher ID")
+    void testGetCurrentAccessScope_TeacherNotFound_NoTeacherId() {
+        when(userService.getUserIdByEmail("teacher@test.com")).thenReturn(Mono.just(100L));
+        when(sectionService.getSectionIdByUserId(100L)).thenReturn(Mono.empty());
+        when(teacherService.getTeacherIdByUserId(100L)).thenReturn(Mono.error(new TeacherNotFoundException("Teacher not found")));
+
+        AccessScope scope = currentScope("teacher@test.com", "ROLE_TEACHER");
+
+        assertNotNull(scope);
+        assertEquals(100L, scope.userId());
+        assertNull(scope.teacherId());
+        assertTrue(scope.rows().teachersSeeOwn().build().isDenied());
+    }
+
+    @Test
+    @DisplayName("getCurrentAccessScope - Without authenticated user returns the anonymous scope")
+    void testGetCurrentAccessScope_Anonymous_ReturnsAnonymous() {
+        AccessScope scope = accessScopeService.getCurrentAccessScope().block();
+
+        assertEquals(AccessScope.anonymous(), scope);
+        verify(userService, never()).getUserIdByEmail(any());
+    }
+
+    private AccessScope currentScope(String email, String role) {
+        UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
+                email, null, List.of(new SimpleGrantedAuthority(role)));
+        return accessScopeService.getCurrentAccessScope()
+                .contextWrite(ReactiveSecurityContextHolder.withAuthentication(authentication))
+                .block();
+    }
+}
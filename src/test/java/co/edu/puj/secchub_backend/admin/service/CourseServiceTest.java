@@ -16,7 +16,9 @@ import org.modelmapper.ModelMapper;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
+import co.edu.puj.secchub_backend.admin.contract.CourseChangedEvent;
 import co.edu.puj.secchub_backend.admin.dto.CourseRequestDTO;
 import co.edu.puj.secchub_backend.admin.dto.CourseResponseDTO;
 import co.edu.puj.secchub_backend.admin.dto.SectionResponseDTO;
@@ -40,6 +42,9 @@ class CourseServiceTest {
     @Mock
     private SectionService sectionService;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private CourseService courseService;
 
@@ -238,6 +243,7 @@ class CourseServiceTest {
         assertEquals("Updated Course", result.getName());
         verify(courseRepository).findById(5L);
         verify(courseRepository).save(existing);
+        verify(eventPublisher).publishEvent(new CourseChangedEvent(5L));
     }
 
     @Test
@@ -314,6 +320,7 @@ class CourseServiceTest {
 
         verify(courseRepository).findById(8L);
         verify(courseRepository).delete(course);
+        verify(eventPublisher).publishEvent(new CourseChangedEvent(8L));
     }
 
     @Test
@@ -326,6 +333,7 @@ class CourseServiceTest {
         assertThrows(CourseNotFoundException.class, deleteMono::block);
         verify(courseRepository).findById(99L);
         verify(courseRepository, never()).delete(any());
+        verifyNoInteractions(eventPublisher);
     }
 
     // ==========================================
@@ -395,4 +403,18 @@ class CourseServiceTest {
                 .expectNext(15L)
                 .verifyComplete();
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("getCourseSectionIds - Should resolve every course with one query and skip missing courses")
+    void testGetCourseSectionIds_ResolvesFoundCourses() {
+        Course biology = Course.builder().id(20L).name("Biology").sectionId(10L).build();
+        Course history = Course.builder().id(25L).name("History").sectionId(15L).build();
+
+        when(courseRepository.findAllById(List.of(20L, 25L, 99L))).thenReturn(Flux.just(biology, history));
+
+        StepVerifier.create(courseService.getCourseSectionIds(List.of(20L, 25L, 99L)))
+                .expectNext(Map.of(20L, 10L, 25L, 15L))
+                .verifyComplete();
+        verify(courseRepository, never()).findById(anyLong());
+    }
+}
@@ -7,6 +7,11 @@ import co.edu.puj.secchub_backend.parametric.contracts.RoleDTO;
 import co.edu.puj.secchub_backend.parametric.contracts.StatusDTO;
 import co.edu.puj.secchub_backend.security.contract.SecurityModuleUserContract;
 import co.edu.puj.secchub_backend.security.contract.UserCreationRequestDTO;
+import co.edu.puj.secchub_backend.security.contract.UserCreationResultDTO;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -18,9 +23,11 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -177,4 +184,117 @@ class RegisterServiceTest {
                 .expectErrorMatches(e -> e.getMessage().contains("DB error"))
                 .verify();
     }
+
+    @Test
+    @DisplayName("importUsers - Should report a result per row and create teachers and sections of created users")
+    void testImportUsers_ReportsResultPerRow() {
+        mockImportParameters();
+        when(userService.createUsers(anyList())).thenAnswer(invocation -> createdUsers(invocation.getArgument(0)));
+        when(teacherService.createTeachers(anyList())).thenReturn(Flux.just(TeacherResponseDTO.builder().id(50L).build()));
+        when(sectionService.createSections(anyList())).thenReturn(Flux.just(SectionResponseDTO.builder().id(60L).build()));
+
+        List<UserImportResultDTO> results = registerService.importUsers(Flux.just(
+                UserImportRow.invalid(2, "Unterminated quoted value"),
+                UserImportRow.of(3, importRow("MANAGER", "manager@uni.edu")),
+                UserImportRow.of(4, importRow("student", "student@uni.edu")),
+                UserImportRow.of(5, importRow("TEACHER", "teacher@uni.edu")),
+                UserImportRow.of(6, importRow("SECTION", "section@uni.edu")),
+                UserImportRow.of(7, importRow("STUDENT", "dup@uni.edu"))))
+            .collectList().block();
+
+        assertNotNull(results);
+        assertEquals(List.of(UserImportResultDTO.Status.INVALID, UserImportResultDTO.Status.INVALID,
+                UserImportResultDTO.Status.CREATED, UserImportResultDTO.Status.CREATED,
+                UserImportResultDTO.Status.CREATED, UserImportResultDTO.Status.DUPLICATE_EMAIL),
+                results.stream().map(UserImportResultDTO::getStatus).toList());
+        assertEquals(List.of(2L, 3L, 4L, 5L, 6L, 7L), results.stream().map(UserImportResultDTO::getLine).toList());
+        assertEquals(50L, results.get(3).getTeacherId());
+        assertEquals(60L, results.get(4).getSectionId());
+        assertEquals(3L, results.get(4).getUserId());
+        verify(userService).createUsers(argThat(requests -> requests.size() == 4
+                && requests.get(0).getRoleId().equals(1L) && requests.get(1).getRoleId().equals(4L)
+                && requests.get(2).getRoleId().equals(5L)));
+        verify(teacherService).createTeachers(argThat(requests -> requests.size() == 1
+                && requests.get(0).getUserId().equals(2L) && requests.get(0).getMaxHours().equals(20)));
+        verify(sectionService).createSections(argThat(requests -> requests.size() == 1
+                && requests.get(0).getUserId().equals(3L) && "Systems".equals(requests.get(0).getName())));
+        verify(parametricService, times(1)).getStatusByName("Active");
+        verify(userService, never()).createUser(any());
+    }
+
+    @Test
+    @DisplayName("importUsers - Should create users in batches of the import batch size")
+    void testImportUsers_CreatesUsersInBatches() {
+        mockImportParameters();
+        when(userService.createUsers(anyList())).thenAnswer(invocation -> createdUsers(invocation.getArgument(0)));
+
+        Flux<UserImportRow> rows = Flux.fromStream(LongStream.rangeClosed(1, 1200)
+                .mapToObj(line -> UserImportRow.of(line, importRow("STUDENT", "student" + line + "@uni.edu"))));
+        Long created = registerService.importUsers(rows)
+            .filter(result -> result.getStatus() == UserImportResultDTO.Status.CREATED)
+            .count().block();
+
+        assertEquals(1200L, created);
+        verify(userService, times(2)).createUsers(argThat(requests -> requests.size() == RegisterService.IMPORT_BATCH_SIZE));
+        verify(userService, times(1)).createUsers(argThat(requests -> requests.size() == 200));
+        verify(parametricService, times(1)).getStatusByName("Active");
+        verifyNoInteractions(teacherService);
+    }
+
+    @Test
+    @DisplayName("importUsers - When teachers cannot be created reports their rows as failed")
+    void testImportUsers_TeacherCreationFails_ReportsFailed() {
+        mockImportParameters();
+        when(userService.createUsers(anyList())).thenAnswer(invocation -> createdUsers(invocation.getArgument(0)));
+        when(teacherService.createTeachers(anyList())).thenReturn(Flux.error(new RuntimeException("DB error")));
+
+        List<UserImportResultDTO> results = registerService.importUsers(Flux.just(
+                UserImportRow.of(2, importRow("TEACHER", "teacher@uni.edu")),
+                UserImportRow.of(3, importRow("STUDENT", "student@uni.edu"))))
+            .collectList().block();
+
+        assertNotNull(results);
+        assertEquals(UserImportResultDTO.Status.FAILED, results.get(0).getStatus());
+        assertEquals(1L, results.get(0).getUserId());
+        assertEquals(UserImportResultDTO.Status.CREATED, results.get(1).getStatus());
+    }
+
+    private void mockImportParameters() {
+        List<String> roles = List.of("ROLE_STUDENT", "ROLE_ADMIN", "ROLE_PROGRAM", "ROLE_TEACHER", "ROLE_USER");
+        when(parametricService.getRoleByName(anyString())).thenAnswer(invocation -> {
+            String name = invocation.getArgument(0);
+            return Mono.just(RoleDTO.builder().id((long) roles.indexOf(name) + 1).name(name).build());
+        });
+        when(parametricService.getStatusByName("Active")).thenReturn(Mono.just(StatusDTO.builder().id(2L).name("Active").build()));
+    }
+
+    /**
+     * Creates every user except those whose email starts with dup, numbering the ids from 1.
+     */
+    private static Flux<UserCreationResultDTO> createdUsers(List<UserCreationRequestDTO> requests) {
+        List<UserCreationResultDTO> results = new ArrayList<>();
+        long nextId = 1;
+        for (UserCreationRequestDTO request : requests) {
+            boolean duplicate = request.getEmail().startsWith("dup");
+            results.add(UserCreationResultDTO.builder()
+                    .email(request.getEmail())
+                    .userId(duplicate ? null : nextId++)
+                    .status(duplicate ? UserCreationResultDTO.Status.DUPLICATE_EMAIL : UserCreationResultDTO.Status.CREATED)
+                    .build());
+        }
+        return Flux.fromIterable(results);
+    }
+
+    private static UserImportRowDTO importRow(String type, String email) {
+        return UserImportRowDTO.builder()
+                .type(type)
+                .username(email)
+                .password("secure123")
+                .name("Name")
+                .lastName("Last")
+                .email(email)
+                .maxHours(20)
+                .sectionName("Systems")
+                .build();
+    }
 }
@@ -0,0 +1,49 @@
+package co.edu.puj.secchub_backend.admin.service;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import co.edu.puj.secchub_backend.DatabaseContainerIntegration;
+import co.edu.puj.secchub_backend.QueryPlanInspector;
+import io.r2dbc.spi.ConnectionFactory;
+
+/**
+ * Query plan regression tests for the native SQL executed by SectionService through DatabaseClient.
+ */
+@SpringBootTest
+@Testcontainers
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@DisplayName("Section Service Query Plan Integration Tests")
+class SectionServiceQueryPlanIntegrationTest extends DatabaseContainerIntegration {
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    @Autowired
+    private ConnectionFactory connectionFactory;
+
+    @BeforeAll
+    void loadDataset() {
+        QueryPlanInspector.loadDataset(connectionFactory, databaseClient);
+    }
+
+    @Test
+    @DisplayName("Count of classes in the current semester stays within budget")
+    void testCountClassesInCurrentSemesterPlan() {
+        QueryPlanInspector.assertPlanWithinBudget("SectionService#countClassesInCurrentSemesterForSection",
+                databaseClient, SectionService.COUNT_CLASSES_IN_CURRENT_SEMESTER_SQL);
+    }
+
+    @Test
+    @DisplayName("Count of pending teacher classes stays within budget")
+    void testCountPendingTeacherClassesPlan() {
+        QueryPlanInspector.assertPlanWithinBudget("SectionService#countPendingTeacherClassesForSection",
+                databaseClient, SectionService.COUNT_PENDING_TEACHER_CLASSES_SQL);
+    }
+}
@@ -1,9 +1,11 @@
 package co.edu.puj.secchub_backend.admin.service;
 
+import co.edu.puj.secchub_backend.admin.contract.SectionChangedEvent;
 import co.edu.puj.secchub_backend.admin.dto.SectionCreateRequestDTO;
 import co.edu.puj.secchub_backend.admin.dto.SectionResponseDTO;
 import co.edu.puj.secchub_backend.admin.exception.SectionNotFoundException;
 import co.edu.puj.secchub_backend.admin.model.Section;
+import co.edu.puj.secchub_backend.admin.repository.RegisterBatchRepository;
 import co.edu.puj.secchub_backend.admin.repository.SectionRepository;
 import co.edu.puj.secchub_backend.security.contract.SecurityModuleUserContract;
 
@@ -17,6 +19,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.modelmapper.ModelMapper;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.r2dbc.core.DatabaseClient;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextImpl;
@@ -44,9 +47,15 @@ class SectionServiceTest {
     @Mock
     private SectionRepository sectionRepository;
 
+    @Mock
+    private RegisterBatchRepository registerBatchRepository;
+
     @Mock
     private SecurityModuleUserContract userService;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private SectionService sectionService;
 
@@ -93,6 +102,37 @@ class SectionServiceTest {
         verify(modelMapper).map(requestDTO, Section.class);
         verify(sectionRepository).save(section);
         verify(modelMapper).map(section, SectionResponseDTO.class);
+        verify(eventPublisher).publishEvent(new SectionChangedEvent(1L));
+    }
+
+    @Test
+    @DisplayName("createSections - Should insert sections in batch and publish a change per section")
+    void testCreateSections_InsertsInBatchAndPublishes() {
+        SectionCreateRequestDTO first = SectionCreateRequestDTO.builder().userId(100L).name("FIRST").build();
+        SectionCreateRequestDTO second = SectionCreateRequestDTO.builder().userId(101L).name("SECOND").build();
+        Section firstSection = Section.builder().userId(100L).name("FIRST").build();
+        Section secondSection = Section.builder().userId(101L).name("SECOND").build();
+
+        when(modelMapper.map(first, Section.class)).thenReturn(firstSection);
+        when(modelMapper.map(second, Section.class)).thenReturn(secondSection);
+        when(registerBatchRepository.insertAllSections(List.of(firstSection, secondSection))).thenAnswer(invocation -> {
+            firstSection.setId(5L);
+            secondSection.setId(6L);
+            return Flux.just(firstSection, secondSection);
+        });
+        when(modelMapper.map(any(Section.class), eq(SectionResponseDTO.class))).thenAnswer(invocation -> {
+            Section mapped = invocation.getArgument(0);
+            return SectionResponseDTO.builder().id(mapped.getId()).userId(mapped.getUserId()).name(mapped.getName()).build();
+        });
+
+        StepVerifier.create(sectionService.createSections(List.of(first, second)))
+                .assertNext(result -> assertEquals(5L, result.getId()))
+                .assertNext(result -> assertEquals(6L, result.getId()))
+                .verifyComplete();
+
+        verify(sectionRepository, never()).save(any());
+        verify(eventPublisher).publishEvent(new SectionChangedEvent(5L));
+        verify(eventPublisher).publishEvent(new SectionChangedEvent(6L));
     }
 
     @Test
@@ -205,6 +245,7 @@ class SectionServiceTest {
         verify(sectionRepository).findByUserId(userId);
         verify(sectionRepository).save(any(Section.class));
         verify(modelMapper).map(updatedSection, SectionResponseDTO.class);
+        verify(eventPublisher).publishEvent(new SectionChangedEvent(1L));
     }
 
     @Test
@@ -243,22 +284,6 @@ class SectionServiceTest {
         verify(sectionRepository).findByUserId(100L);
     }
 
-    @Test
-    @DisplayName("openPlanningForAllSections - Should reset planningClosed for all sections")
-    void testOpenPlanningForAllSections_Success() {
-        Section s1 = Section.builder().id(1L).planningClosed(true).build();
-        Section s2 = Section.builder().id(2L).planningClosed(true).build();
-
-        when(sectionRepository.findAll()).thenReturn(Flux.just(s1, s2));
-        when(sectionRepository.save(any(Section.class)))
-                .thenAnswer(inv -> Mono.just(inv.getArgument(0)));
-
-        sectionService.openPlanningForAllSections();
-
-        verify(sectionRepository).findAll();
-        verify(sectionRepository, times(2)).save(any(Section.class));
-    }
-
     @Test
     @DisplayName("getPlanningStatusStats - Should return correct open, closed and total counts")
     void testGetPlanningStatusStats_ReturnsCorrectCounts() {
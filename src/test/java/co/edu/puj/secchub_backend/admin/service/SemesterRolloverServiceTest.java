@@ -0,0 +1,188 @@
+package co.edu.puj.secchub_backend.admin.service;
+
+import co.edu.puj.secchub_backend.admin.contract.SectionChangedEvent;
+import co.edu.puj.secchub_backend.admin.contract.SemesterChangedEvent;
+import co.edu.puj.secchub_backend.admin.contract.SemesterRolloverParticipant;
+import co.edu.puj.secchub_backend.admin.dto.SemesterRequestDTO;
+import co.edu.puj.secchub_backend.admin.dto.SemesterResponseDTO;
+import co.edu.puj.secchub_backend.admin.dto.SemesterRolloverResponseDTO;
+import co.edu.puj.secchub_backend.admin.exception.SemesterBadRequestException;
+import co.edu.puj.secchub_backend.admin.model.Semester;
+import co.edu.puj.secchub_backend.admin.repository.SemesterRepository;
+import co.edu.puj.secchub_backend.admin.repository.SemesterRolloverRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.modelmapper.ModelMapper;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link SemesterRolloverService}.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SemesterRolloverService Unit Test")
+class SemesterRolloverServiceTest {
+
+    @Mock
+    private TransactionalOperator transactionalOperator;
+
+    @Mock
+    private SemesterRepository semesterRepository;
+
+    @Mock
+    private SemesterRolloverRepository semesterRolloverRepository;
+
+    @Mock
+    private SemesterService semesterService;
+
+    @Mock
+    private ModelMapper modelMapper;
+
+    @Mock
+    private SemesterRolloverParticipant participant;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private SemesterRolloverService semesterRolloverService;
+
+    private final SemesterRequestDTO request = SemesterRequestDTO.builder()
+            .year(2025)
+            .period(1)
+            .startDate(LocalDate.of(2025, 1, 10))
+            .endDate(LocalDate.of(2025, 6, 15))
+            .startSpecialWeek(LocalDate.of(2025, 3, 10))
+            .build();
+
+    @BeforeEach
+    void setUp() {
+        semesterRolloverService = new SemesterRolloverService(transactionalOperator, semesterRepository,
+                semesterRolloverRepository, semesterService, modelMapper, List.of(participant), eventPublisher);
+        lenient().when(transactionalOperator.transactional(ArgumentMatchers.<Mono<Object>>any()))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+        lenient().when(semesterRolloverRepository.lockCurrentSemester()).thenReturn(Mono.just(1L));
+        lenient().when(semesterRolloverRepository.clearCurrentExcept(anyLong())).thenReturn(Mono.just(1L));
+        lenient().when(semesterService.getCurrentSemester()).thenReturn(Mono.just(new SemesterResponseDTO()));
+        lenient().when(semesterService.getCurrentSemesterId()).thenReturn(Mono.just(2L));
+        lenient().when(participant.warm(anyLong())).thenReturn(Mono.empty());
+        lenient().when(semesterRepository.save(any(Semester.class))).thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+    }
+
+    @Test
+    @DisplayName("createSemester - When semester is new creates it, makes it current and reopens planning with set-based updates")
+    void testCreateSemester_NewSemester_CreatesAndReopensPlanning() {
+        Semester newSemester = Semester.builder().id(2L).year(2025).period(1).build();
+        SemesterResponseDTO responseDTO = SemesterResponseDTO.builder().id(2L).year(2025).period(1).isCurrent(true).build();
+
+        when(semesterRepository.findByYearAndPeriod(2025, 1)).thenReturn(Mono.empty());
+        when(modelMapper.map(request, Semester.class)).thenReturn(newSemester);
+        when(semesterRolloverRepository.openPlanningForAllSections()).thenReturn(Mono.just(4L));
+        when(modelMapper.map(newSemester, SemesterResponseDTO.class)).thenReturn(responseDTO);
+
+        SemesterRolloverResponseDTO result = semesterRolloverService.createSemester(request, false).block();
+
+        assertNotNull(result);
+        assertEquals(responseDTO, result.getSemester());
+        assertTrue(result.isCreated());
+        assertTrue(result.isMadeCurrent());
+        assertEquals(4L, result.getReopenedSections());
+        assertEquals(0L, result.getClonedPlanningRows());
+        assertEquals(List.of(SemesterRolloverService.SEMESTER_PHASE, SemesterRolloverService.SECTIONS_PHASE,
+                SemesterRolloverService.PLANNING_PHASE, SemesterRolloverService.WARM_PHASE),
+                List.copyOf(result.getPhaseTimings().keySet()));
+        assertTrue(newSemester.getIsCurrent());
+        verify(semesterRolloverRepository).clearCurrentExcept(2L);
+        verify(eventPublisher).publishEvent(new SemesterChangedEvent(2L));
+        verify(eventPublisher).publishEvent(new SectionChangedEvent(null));
+        verify(semesterService).getCurrentSemesterId();
+        verify(participant).warm(2L);
+        verify(participant, never()).clonePlanning(anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("createSemester - When semester is already current updates it without reopening planning")
+    void testCreateSemester_AlreadyCurrent_IsRerunnable() {
+        Semester existingSemester = Semester.builder().id(2L).year(2025).period(1).isCurrent(true).build();
+
+        when(semesterRepository.findByYearAndPeriod(2025, 1)).thenReturn(Mono.just(existingSemester));
+        lenient().when(modelMapper.map(existingSemester, SemesterResponseDTO.class)).thenReturn(new SemesterResponseDTO());
+
+        SemesterRolloverResponseDTO result = semesterRolloverService.createSemester(request, false).block();
+
+        assertNotNull(result);
+        assertFalse(result.isCreated());
+        assertFalse(result.isMadeCurrent());
+        assertEquals(0L, result.getReopenedSections());
+        verify(modelMapper).map(request, existingSemester);
+        verify(semesterRepository).save(existingSemester);
+        verify(semesterRolloverRepository, never()).openPlanningForAllSections();
+        verify(eventPublisher).publishEvent(new SemesterChangedEvent(2L));
+        verify(eventPublisher, never()).publishEvent(any(SectionChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("createSemester - When cloning copies the planning of the previous semester through the participants")
+    void testCreateSemester_ClonePlanning_UsesPreviousSemester() {
+        Semester newSemester = Semester.builder().id(2L).year(2025).period(1).build();
+        Semester previousSemester = Semester.builder().id(1L).year(2024).period(2).build();
+
+        when(semesterRepository.findByYearAndPeriod(2025, 1)).thenReturn(Mono.empty());
+        when(modelMapper.map(request, Semester.class)).thenReturn(newSemester);
+        when(semesterRolloverRepository.openPlanningForAllSections()).thenReturn(Mono.just(0L));
+        when(semesterRepository.findPreviousSemester(2025, 1)).thenReturn(Mono.just(previousSemester));
+        when(participant.clonePlanning(1L, 2L)).thenReturn(Mono.just(12L));
+        when(modelMapper.map(newSemester, SemesterResponseDTO.class)).thenReturn(new SemesterResponseDTO());
+
+        SemesterRolloverResponseDTO result = semesterRolloverService.createSemester(request, true).block();
+
+        assertNotNull(result);
+        assertEquals(1L, result.getPreviousSemesterId());
+        assertEquals(12L, result.getClonedPlanningRows());
+        verify(eventPublisher, never()).publishEvent(any(SectionChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("createSemester - When warming fails still returns the committed rollover")
+    void testCreateSemester_WarmFails_ReturnsRollover() {
+        Semester newSemester = Semester.builder().id(2L).year(2025).period(1).build();
+
+        when(semesterRepository.findByYearAndPeriod(2025, 1)).thenReturn(Mono.empty());
+        when(modelMapper.map(request, Semester.class)).thenReturn(newSemester);
+        when(semesterRolloverRepository.openPlanningForAllSections()).thenReturn(Mono.just(1L));
+        when(participant.warm(2L)).thenReturn(Mono.error(new IllegalStateException("timetable unavailable")));
+        when(modelMapper.map(newSemester, SemesterResponseDTO.class)).thenReturn(new SemesterResponseDTO());
+
+        SemesterRolloverResponseDTO result = semesterRolloverService.createSemester(request, false).block();
+
+        assertNotNull(result);
+        assertTrue(result.getPhaseTimings().containsKey(SemesterRolloverService.WARM_PHASE));
+    }
+
+    @Test
+    @DisplayName("createSemester - When missing fields throws SemesterBadRequestException")
+    void testCreateSemester_InvalidRequest_ThrowsException() {
+        SemesterRequestDTO invalid = SemesterRequestDTO.builder()
+                .year(null)
+                .period(1)
+                .build();
+
+        Mono<SemesterRolloverResponseDTO> result = semesterRolloverService.createSemester(invalid, false);
+
+        assertThrows(SemesterBadRequestException.class, result::block);
+        verify(semesterRepository, never()).save(any());
+        verifyNoInteractions(eventPublisher);
+    }
+}
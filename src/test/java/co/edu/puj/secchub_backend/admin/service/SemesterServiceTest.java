@@ -1,8 +1,6 @@
 package co.edu.puj.secchub_backend.admin.service;
 
-import co.edu.puj.secchub_backend.admin.dto.SemesterRequestDTO;
 import co.edu.puj.secchub_backend.admin.dto.SemesterResponseDTO;
-import co.edu.puj.secchub_backend.admin.exception.SemesterBadRequestException;
 import co.edu.puj.secchub_backend.admin.exception.SemesterNotFoundException;
 import co.edu.puj.secchub_backend.admin.model.Semester;
 import co.edu.puj.secchub_backend.admin.repository.SemesterRepository;
@@ -10,11 +8,9 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.modelmapper.ModelMapper;
-import org.mockito.ArgumentMatchers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.transaction.reactive.TransactionalOperator;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
@@ -32,87 +28,15 @@ import static org.mockito.Mockito.*;
 @DisplayName("SemesterService Unit Test")
 class SemesterServiceTest {
 
-    @Mock
-    private TransactionalOperator transactionalOperator;
-
     @Mock
     private SemesterRepository semesterRepository;
 
     @Mock
     private ModelMapper modelMapper;
 
-    @Mock
-    private SectionService sectionService;
-
     @InjectMocks
     private SemesterService semesterService;
 
-    @Test
-    @DisplayName("createSemester - When valid request saves new semester and deactivates old")
-    void testCreateSemester_ValidRequest_CreatesNewSemester() {
-        SemesterRequestDTO request = SemesterRequestDTO.builder()
-                .year(2025)
-                .period(1)
-                .startDate(LocalDate.of(2025, 1, 10))
-                .endDate(LocalDate.of(2025, 6, 15))
-                .startSpecialWeek(LocalDate.of(2025, 3, 10))
-                .build();
-
-        Semester currentSemester = Semester.builder()
-                .id(1L)
-                .year(2024)
-                .period(2)
-                .isCurrent(true)
-                .build();
-
-        Semester newSemester = Semester.builder()
-                .id(2L)
-                .year(2025)
-                .period(1)
-                .isCurrent(true)
-                .build();
-
-        SemesterResponseDTO responseDTO = SemesterResponseDTO.builder()
-                .id(2L)
-                .year(2025)
-                .period(1)
-                .isCurrent(true)
-                .build();
-
-        when(semesterRepository.findByIsCurrentTrue()).thenReturn(Mono.just(currentSemester));
-        when(semesterRepository.save(currentSemester)).thenReturn(Mono.just(currentSemester));
-        when(modelMapper.map(request, Semester.class)).thenReturn(newSemester);
-        when(semesterRepository.save(newSemester)).thenReturn(Mono.just(newSemester));
-        when(modelMapper.map(newSemester, SemesterResponseDTO.class)).thenReturn(responseDTO);
-        lenient().when(transactionalOperator.transactional(ArgumentMatchers.<Mono<Object>>any()))
-            .thenAnswer(invocation -> invocation.getArgument(0));
-
-        SemesterResponseDTO result = semesterService.createSemester(request).block();
-
-        assertNotNull(result);
-        assertEquals(2025, result.getYear());
-        assertEquals(1, result.getPeriod());
-        assertTrue(result.getIsCurrent());
-        verify(semesterRepository).findByIsCurrentTrue();
-        verify(semesterRepository, times(2)).save(any(Semester.class));
-        verify(modelMapper).map(request, Semester.class);
-        verify(sectionService).openPlanningForAllSections();
-    }
-
-    @Test
-    @DisplayName("createSemester - When missing fields throws SemesterBadRequestException")
-    void testCreateSemester_InvalidRequest_ThrowsException() {
-        SemesterRequestDTO invalid = SemesterRequestDTO.builder()
-                .year(null)
-                .period(1)
-                .build();
-
-        Mono<SemesterResponseDTO> result = semesterService.createSemester(invalid);
-
-        assertThrows(SemesterBadRequestException.class, result::block);
-        verify(semesterRepository, never()).save(any());
-    }
-
     @Test
     @DisplayName("getCurrentSemester - When found returns mapped DTO")
     void testGetCurrentSemester_ReturnsMappedDTO() {
@@ -5,6 +5,7 @@ import co.edu.puj.secchub_backend.admin.dto.TeacherCreateRequestDTO;
 import co.edu.puj.secchub_backend.admin.dto.TeacherUpdateRequestDTO;
 import co.edu.puj.secchub_backend.admin.exception.TeacherNotFoundException;
 import co.edu.puj.secchub_backend.admin.model.Teacher;
+import co.edu.puj.secchub_backend.admin.repository.RegisterBatchRepository;
 import co.edu.puj.secchub_backend.admin.repository.TeacherRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -21,6 +22,7 @@ import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyIterable;
 import static org.mockito.Mockito.*;
 
 /**
@@ -33,6 +35,9 @@ class TeacherServiceTest {
     @Mock
     private TeacherRepository teacherRepository;
 
+    @Mock
+    private RegisterBatchRepository registerBatchRepository;
+
     @Mock
     private ModelMapper modelMapper;
 
@@ -64,6 +69,36 @@ class TeacherServiceTest {
         verify(modelMapper).map(t2, TeacherResponseDTO.class);
     }
 
+    @Test
+    @DisplayName("getTeachersByIds - Should return mapped teachers in one lookup")
+    void testGetTeachersByIds_ReturnsMappedList() {
+        Teacher t1 = Teacher.builder().id(1L).userId(10L).maxHours(20).build();
+        Teacher t2 = Teacher.builder().id(2L).userId(11L).maxHours(40).build();
+        TeacherResponseDTO dto1 = TeacherResponseDTO.builder().id(1L).userId(10L).maxHours(20).build();
+        TeacherResponseDTO dto2 = TeacherResponseDTO.builder().id(2L).userId(11L).maxHours(40).build();
+        List<Long> ids = List.of(1L, 2L);
+
+        when(teacherRepository.findAllById(ids)).thenReturn(Flux.just(t1, t2));
+        when(modelMapper.map(t1, TeacherResponseDTO.class)).thenReturn(dto1);
+        when(modelMapper.map(t2, TeacherResponseDTO.class)).thenReturn(dto2);
+
+        List<TeacherResponseDTO> result = teacherService.getTeachersByIds(ids).collectList().block();
+
+        assertNotNull(result);
+        assertEquals(2, result.size());
+        verify(teacherRepository).findAllById(ids);
+    }
+
+    @Test
+    @DisplayName("getTeachersByIds - When no IDs returns empty without querying")
+    void testGetTeachersByIds_EmptyIds_ReturnsEmpty() {
+        List<TeacherResponseDTO> result = teacherService.getTeachersByIds(List.of()).collectList().block();
+
+        assertNotNull(result);
+        assertTrue(result.isEmpty());
+        verify(teacherRepository, never()).findAllById(anyIterable());
+    }
+
     @Test
     @DisplayName("getTeacherById - When teacher exists returns DTO")
     void testGetTeacherById_TeacherExists_ReturnsDTO() {
@@ -123,6 +158,33 @@ class TeacherServiceTest {
         verify(modelMapper).map(saved, TeacherResponseDTO.class);
     }
 
+    @Test
+    @DisplayName("createTeachers - Maps requests, inserts them in batch and returns DTOs in order")
+    void testCreateTeachers_InsertsInBatch_ReturnsDTOs() {
+        TeacherCreateRequestDTO first = TeacherCreateRequestDTO.builder().userId(100L).maxHours(20).build();
+        TeacherCreateRequestDTO second = TeacherCreateRequestDTO.builder().userId(101L).maxHours(30).build();
+        Teacher firstTeacher = Teacher.builder().userId(100L).maxHours(20).build();
+        Teacher secondTeacher = Teacher.builder().userId(101L).maxHours(30).build();
+
+        when(modelMapper.map(first, Teacher.class)).thenReturn(firstTeacher);
+        when(modelMapper.map(second, Teacher.class)).thenReturn(secondTeacher);
+        when(registerBatchRepository.insertAllTeachers(List.of(firstTeacher, secondTeacher))).thenAnswer(invocation -> {
+            firstTeacher.setId(1L);
+            secondTeacher.setId(2L);
+            return Flux.just(firstTeacher, secondTeacher);
+        });
+        when(modelMapper.map(any(Teacher.class), eq(TeacherResponseDTO.class))).thenAnswer(invocation -> {
+            Teacher teacher = invocation.getArgument(0);
+            return TeacherResponseDTO.builder().id(teacher.getId()).userId(teacher.getUserId()).build();
+        });
+
+        List<TeacherResponseDTO> result = teacherService.createTeachers(List.of(first, second)).collectList().block();
+
+        assertNotNull(result);
+        assertEquals(List.of(1L, 2L), result.stream().map(TeacherResponseDTO::getId).toList());
+        verify(teacherRepository, never()).save(any());
+    }
+
     @Test
     @DisplayName("updateTeacher - When teacher exists updates and returns DTO")
     void testUpdateTeacher_TeacherExists_UpdatesAndReturnsDTO() {
@@ -0,0 +1,104 @@
+package co.edu.puj.secchub_backend.admin.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import co.edu.puj.secchub_backend.admin.dto.UserImportRowDTO;
+import co.edu.puj.secchub_backend.admin.exception.UserImportBadRequestException;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+@DisplayName("UserImportReader Unit Test")
+class UserImportReaderTest {
+
+    private final UserImportReader userImportReader = new UserImportReader(
+        new ObjectMapper().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false));
+
+    @Test
+    @DisplayName("readCsv - Should map columns by header and keep the line of each row")
+    void testReadCsv_MapsColumnsByHeader() {
+        List<UserImportRow> rows = userImportReader.readCsv(Flux.just(
+                "\uFEFFEmail,type,last_name,Name,max_hours,unknown",
+                "ada@uni.edu,TEACHER,Lovelace,\"Ada, Countess\",20,ignored",
+                "",
+                "\"grace\"\"s@uni.edu\",STUDENT,Hopper,Grace,,"))
+            .collectList().block();
+
+        assertNotNull(rows);
+        assertEquals(2, rows.size());
+        UserImportRowDTO teacher = rows.get(0).data();
+        assertEquals(2L, rows.get(0).line());
+        assertEquals("ada@uni.edu", teacher.getEmail());
+        assertEquals("TEACHER", teacher.getType());
+        assertEquals("Lovelace", teacher.getLastName());
+        assertEquals("Ada, Countess", teacher.getName());
+        assertEquals(20, teacher.getMaxHours());
+        assertEquals(4L, rows.get(1).line());
+        assertEquals("grace\"s@uni.edu", rows.get(1).data().getEmail());
+        assertNull(rows.get(1).data().getMaxHours());
+    }
+
+    @Test
+    @DisplayName("readCsv - Should report unreadable rows as invalid without failing the file")
+    void testReadCsv_UnreadableRows_AreInvalid() {
+        List<UserImportRow> rows = userImportReader.readCsv(Flux.just(
+                "email,max_hours",
+                "a@uni.edu,many",
+                "\"b@uni.edu,20",
+                "c@uni.edu,10"))
+            .collectList().block();
+
+        assertNotNull(rows);
+        assertEquals("Column maxhours must be a number", rows.get(0).error());
+        assertEquals("Unterminated quoted value", rows.get(1).error());
+        assertNull(rows.get(2).error());
+        assertEquals(10, rows.get(2).data().getMaxHours());
+    }
+
+    @Test
+    @DisplayName("readCsv - When the header has no email column fails the import")
+    void testReadCsv_HeaderWithoutEmail_Fails() {
+        StepVerifier.create(userImportReader.readCsv(Flux.just("type,name", "STUDENT,Ada")))
+                .expectError(UserImportBadRequestException.class)
+                .verify();
+    }
+
+    @Test
+    @DisplayName("readCsv - When the file is empty returns no rows")
+    void testReadCsv_EmptyFile_ReturnsNoRows() {
+        StepVerifier.create(userImportReader.readCsv(Flux.empty()))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("readNdjson - Should read one row per line and report malformed lines as invalid")
+    void testReadNdjson_ReadsRowsAndReportsMalformedLines() {
+        List<UserImportRow> rows = userImportReader.readNdjson(Flux.just(
+                "{\"type\":\"SECTION\",\"email\":\"head@uni.edu\",\"sectionName\":\"Systems\",\"extra\":1}",
+                "   ",
+                "{\"email\":"))
+            .collectList().block();
+
+        assertNotNull(rows);
+        assertEquals(2, rows.size());
+        assertEquals(1L, rows.get(0).line());
+        assertEquals("Systems", rows.get(0).data().getSectionName());
+        assertEquals(3L, rows.get(1).line());
+        assertNull(rows.get(1).data());
+        assertTrue(rows.get(1).error().startsWith("Malformed JSON"));
+    }
+
+    @Test
+    @DisplayName("splitCsvLine - Should keep empty values and unescape doubled quotes")
+    void testSplitCsvLine_KeepsEmptyValuesAndUnescapesQuotes() {
+        assertEquals(List.of("a", "", "say \"hi\"", ""), UserImportReader.splitCsvLine("a,,\"say \"\"hi\"\"\","));
+        assertNull(UserImportReader.splitCsvLine("\"open"));
+    }
+}
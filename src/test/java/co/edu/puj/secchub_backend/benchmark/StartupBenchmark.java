@@ -0,0 +1,151 @@
+package co.edu.puj.secchub_backend.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Compares the startup time of the ways the application can be run:
+ * <ul>
+ *   <li>{@code jar}: the executable jar, scanning the classpath and building the bean definitions at startup.</li>
+ *   <li>{@code extracted}: the extracted layout of the jar, without nested jars to open.</li>
+ *   <li>{@code aot}: the extracted layout with the bean definitions generated at build time.</li>
+ *   <li>{@code aot-cds}: the same plus the Class Data Sharing archive recorded by a training run.</li>
+ *   <li>{@code native}: the native image, when one was built.</li>
+ * </ul>
+ * Every mode is started with {@code -Dspring.context.exit=onRefresh}, which exits once the context is refreshed and
+ * before connections are opened, so no database is needed. The time from launching the process to its exit is
+ * measured after one discarded run per mode.
+ * Run with {@code mvn -Pfast-start verify -Dstartup.runs=10}; results go to {@code target/startup-benchmark.json}.
+ */
+public class StartupBenchmark {
+
+    static final String EXIT_ON_REFRESH = "-Dspring.context.exit=onRefresh";
+    static final String AOT_ENABLED = "-Dspring.aot.enabled=true";
+
+    private static final long RUN_TIMEOUT_SECONDS = 120;
+
+    /**
+     * Way of running the application.
+     * @param name Mode name
+     * @param command Command starting the application
+     */
+    record Mode(String name, List<String> command) {
+    }
+
+    /**
+     * Startup times of a mode.
+     * @param mode Mode name
+     * @param samplesMillis Startup time of every measured run
+     */
+    record Result(String mode, List<Long> samplesMillis) {
+
+        public long medianMillis() {
+            List<Long> sorted = samplesMillis.stream().sorted().toList();
+            int middle = sorted.size() / 2;
+            return sorted.size() % 2 == 1 ? sorted.get(middle) : (sorted.get(middle - 1) + sorted.get(middle)) / 2;
+        }
+
+        public long minMillis() {
+            return samplesMillis.stream().mapToLong(Long::longValue).min().orElse(0);
+        }
+
+        public long maxMillis() {
+            return samplesMillis.stream().mapToLong(Long::longValue).max().orElse(0);
+        }
+    }
+
+    /**
+     * Builds the modes that can be run with the given artifacts.
+     * @param java Java launcher
+     * @param jar Executable jar
+     * @param layoutJar Jar of the extracted layout
+     * @param archive CDS archive of the extracted layout
+     * @param nativeImage Native executable
+     * @return Modes whose artifacts exist
+     */
+    static List<Mode> modes(Path java, Path jar, Path layoutJar, Path archive, Path nativeImage) {
+        List<Mode> modes = new ArrayList<>();
+        modes.add(new Mode("jar", List.of(java.toString(), EXIT_ON_REFRESH, "-jar", jar.toString())));
+        if (Files.exists(layoutJar)) {
+            modes.add(new Mode("extracted", List.of(java.toString(), EXIT_ON_REFRESH, "-jar", layoutJar.toString())));
+            modes.add(new Mode("aot", List.of(java.toString(), AOT_ENABLED, EXIT_ON_REFRESH, "-jar", layoutJar.toString())));
+            if (Files.exists(archive)) {
+                modes.add(new Mode("aot-cds", List.of(java.toString(), "-XX:SharedArchiveFile=" + archive,
+                    AOT_ENABLED, EXIT_ON_REFRESH, "-jar", layoutJar.toString())));
+            }
+        }
+        if (nativeImage != null && Files.isExecutable(nativeImage)) {
+            modes.add(new Mode("native", List.of(nativeImage.toString(), EXIT_ON_REFRESH)));
+        }
+        return modes;
+    }
+
+    /**
+     * Starts the application once and waits for it to exit.
+     * @param mode Mode to run
+     * @return Milliseconds from launch to exit
+     * @throws IOException If the process cannot be started
+     * @throws InterruptedException If interrupted while waiting
+     */
+    static long timeRun(Mode mode) throws IOException, InterruptedException {
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(mode.command())
+            .redirectErrorStream(true)
+            .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+            .start();
+        if (!process.waitFor(RUN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+            process.destroyForcibly();
+            throw new IllegalStateException("Mode " + mode.name() + " did not exit within " + RUN_TIMEOUT_SECONDS + " s");
+        }
+        long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        if (process.exitValue() != 0) {
+            throw new IllegalStateException("Mode " + mode.name() + " exited with " + process.exitValue()
+                + ", run " + String.join(" ", mode.command()) + " to see why");
+        }
+        return elapsed;
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (separator < 0) {
+                throw new IllegalArgumentException("Expected key=value but got " + arg);
+            }
+            options.put(arg.substring(0, separator), arg.substring(separator + 1));
+        }
+
+        Path jar = Path.of(options.get("jar"));
+        Path layoutJar = Path.of(options.get("layout")).resolve(jar.getFileName());
+        Path archive = Path.of(options.get("archive"));
+        Path nativeImage = options.containsKey("native") ? Path.of(options.get("native")) : null;
+        int runs = Integer.parseInt(options.getOrDefault("runs", "5"));
+        Path output = Path.of(options.getOrDefault("output", "target/startup-benchmark.json"));
+
+        Path java = Path.of(System.getProperty("java.home"), "bin", "java");
+        List<Result> results = new ArrayList<>();
+        for (Mode mode : modes(java, jar, layoutJar, archive, nativeImage)) {
+            timeRun(mode);
+            List<Long> samples = new ArrayList<>();
+            for (int run = 0; run < runs; run++) {
+                samples.add(timeRun(mode));
+            }
+            Result result = new Result(mode.name(), samples);
+            results.add(result);
+            System.out.printf("%-10s median %6d ms  min %6d ms  max %6d ms%n",
+                result.mode(), result.medianMillis(), result.minMillis(), result.maxMillis());
+        }
+
+        Files.createDirectories(output.toAbsolutePath().getParent());
+        new ObjectMapper().writerWithDefaultPrettyPrinter().writeValue(output.toFile(), results);
+        System.out.printf("Startup times over %d runs written to %s%n", runs, output.toAbsolutePath());
+    }
+}
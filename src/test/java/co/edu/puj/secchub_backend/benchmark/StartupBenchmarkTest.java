@@ -0,0 +1,58 @@
+package co.edu.puj.secchub_backend.benchmark;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@DisplayName("StartupBenchmark Unit Test")
+class StartupBenchmarkTest {
+
+    private static final Path JAVA = Path.of("java");
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("modes - With only the jar runs the jar")
+    void testModes_OnlyJar_JarMode() {
+        List<StartupBenchmark.Mode> modes = StartupBenchmark.modes(JAVA, directory.resolve("app.jar"),
+            directory.resolve("fast-start/app.jar"), directory.resolve("fast-start/application.jsa"), null);
+
+        assertEquals(List.of("jar"), modes.stream().map(StartupBenchmark.Mode::name).toList());
+        assertTrue(modes.get(0).command().contains(StartupBenchmark.EXIT_ON_REFRESH));
+    }
+
+    @Test
+    @DisplayName("modes - With the extracted layout and archive adds the AOT and CDS modes")
+    void testModes_LayoutAndArchive_AllJvmModes() throws IOException {
+        Path layoutJar = Files.createFile(directory.resolve("layout.jar"));
+        Path archive = Files.createFile(directory.resolve("application.jsa"));
+
+        List<StartupBenchmark.Mode> modes = StartupBenchmark.modes(JAVA, directory.resolve("app.jar"), layoutJar, archive,
+            directory.resolve("missing-native-image"));
+
+        assertEquals(List.of("jar", "extracted", "aot", "aot-cds"), modes.stream().map(StartupBenchmark.Mode::name).toList());
+        assertEquals(List.of("java", "-XX:SharedArchiveFile=" + archive, StartupBenchmark.AOT_ENABLED,
+            StartupBenchmark.EXIT_ON_REFRESH, "-jar", layoutJar.toString()), modes.get(3).command());
+    }
+
+    @Test
+    @DisplayName("Result - Summarizes the samples of a mode")
+    void testResult_Samples_Summary() {
+        StartupBenchmark.Result odd = new StartupBenchmark.Result("aot", List.of(900L, 700L, 800L));
+        StartupBenchmark.Result even = new StartupBenchmark.Result("jar", List.of(1300L, 1100L, 1200L, 1000L));
+
+        assertEquals(800L, odd.medianMillis());
+        assertEquals(700L, odd.minMillis());
+        assertEquals(900L, odd.maxMillis());
+        assertEquals(1150L, even.medianMillis());
+    }
+}
@@ -0,0 +1,75 @@
+package co.edu.puj.secchub_backend.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("AdaptiveConcurrencyLimit Unit Test")
+class AdaptiveConcurrencyLimitTest {
+
+    private static final long RTT = 50_000_000L;
+
+    @Test
+    @DisplayName("onSample - Grows up to the maximum while latency holds under load")
+    void testOnSample_SteadyLatencyAtLimit_GrowsToMaximum() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(4, 1, 10);
+
+        for (int i = 0; i < 200; i++) {
+            limit.onSample(RTT, limit.current(), false);
+        }
+
+        assertEquals(10, limit.current());
+    }
+
+    @Test
+    @DisplayName("onSample - Shrinks when latency rises above the tolerance")
+    void testOnSample_LatencyRises_Shrinks() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(8, 1, 10);
+        for (int i = 0; i < 50; i++) {
+            limit.onSample(RTT, limit.current(), false);
+        }
+        int before = limit.current();
+
+        for (int i = 0; i < 20; i++) {
+            limit.onSample(RTT * 10, limit.current(), false);
+        }
+
+        assertTrue(limit.current() < before, () -> "Expected less than " + before + " but was " + limit.current());
+    }
+
+    @Test
+    @DisplayName("onSample - Does not grow while less than half of the limit is in use")
+    void testOnSample_LowUtilization_Unchanged() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(8, 1, 20);
+
+        for (int i = 0; i < 100; i++) {
+            limit.onSample(RTT, 1, false);
+        }
+
+        assertEquals(8, limit.current());
+    }
+
+    @Test
+    @DisplayName("onSample - Backs off on failed requests down to the minimum")
+    void testOnSample_Dropped_BacksOffToMinimum() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(10, 2, 10);
+
+        limit.onSample(RTT, 10, true);
+        assertEquals(9, limit.current());
+
+        for (int i = 0; i < 50; i++) {
+            limit.onSample(RTT, 10, true);
+        }
+        assertEquals(2, limit.current());
+    }
+
+    @Test
+    @DisplayName("AdaptiveConcurrencyLimit - Rejects bounds that admit nothing")
+    void testConstructor_InvalidBounds_ThrowsException() {
+        assertThrows(IllegalArgumentException.class, () -> new AdaptiveConcurrencyLimit(1, 0, 4));
+        assertThrows(IllegalArgumentException.class, () -> new AdaptiveConcurrencyLimit(1, 4, 2));
+    }
+}
@@ -0,0 +1,143 @@
+package co.edu.puj.secchub_backend.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.security.Principal;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.WebFilterChain;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+@DisplayName("AdmissionControlWebFilter Unit Test")
+class AdmissionControlWebFilterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private AdmissionControlWebFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        AdmissionProperties.EndpointClass report = new AdmissionProperties.EndpointClass();
+        report.setRoutes(List.of("GET /planning/conflicts/**", "/audit-logs/**"));
+        report.setInitialLimit(1);
+        report.setMaxLimit(1);
+        report.setMaxQueue(0);
+        report.setUserRate(0);
+        report.setRetryAfter(Duration.ofSeconds(2));
+        AdmissionProperties properties = new AdmissionProperties();
+        properties.getClasses().put("report", report);
+
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new AdmissionControlWebFilter(properties, meterRegistry, new ObjectMapper());
+    }
+
+    @Test
+    @DisplayName("limiterFor - Matches the method and path pattern of the routes")
+    void testLimiterFor_Routes_MatchByMethodAndPath() {
+        assertNotNull(filter.limiterFor(exchange(MockServerHttpRequest.get("/planning/conflicts/teachers"))));
+        assertNotNull(filter.limiterFor(exchange(MockServerHttpRequest.delete("/audit-logs/email/a@example.com"))));
+        assertNull(filter.limiterFor(exchange(MockServerHttpRequest.post("/planning/conflicts/teachers"))));
+        assertNull(filter.limiterFor(exchange(MockServerHttpRequest.get("/planning/classes"))));
+    }
+
+    @Test
+    @DisplayName("filter - Requests outside the classes pass through")
+    void testFilter_UnmatchedRoute_PassesThrough() {
+        AtomicBoolean called = new AtomicBoolean();
+
+        StepVerifier.create(filter.filter(anonymous(MockServerHttpRequest.get("/planning/classes")), exchange -> {
+                called.set(true);
+                return Mono.empty();
+            }))
+            .verifyComplete();
+
+        assertTrue(called.get());
+    }
+
+    @Test
+    @DisplayName("filter - A saturated class answers 429 with Retry-After without calling the handler")
+    void testFilter_Saturated_TooManyRequests() {
+        Sinks.Empty<Void> firstResponse = Sinks.empty();
+        filter.filter(exchange(MockServerHttpRequest.get("/planning/conflicts/teachers")),
+            exchange -> firstResponse.asMono()).subscribe();
+
+        AtomicBoolean called = new AtomicBoolean();
+        MockServerWebExchange rejected = exchange(MockServerHttpRequest.get("/planning/conflicts/classrooms"));
+        StepVerifier.create(filter.filter(rejected, exchange -> {
+                called.set(true);
+                return Mono.empty();
+            }))
+            .verifyComplete();
+
+        assertFalse(called.get());
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, rejected.getResponse().getStatusCode());
+        assertEquals("2", rejected.getResponse().getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+        StepVerifier.create(rejected.getResponse().getBodyAsString())
+            .expectNextMatches(body -> body.contains("Too Many Requests"))
+            .verifyComplete();
+        assertEquals(1, meterRegistry.get("secchub.admission.rejected").tag("reason", "queue_full").counter().count());
+
+        firstResponse.tryEmitEmpty();
+        StepVerifier.create(filter.filter(exchange(MockServerHttpRequest.get("/planning/conflicts/classrooms")),
+                exchange -> Mono.empty()))
+            .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("filter - An unauthenticated request answers 401 without taking a slot or calling the handler")
+    void testFilter_Unauthenticated_Unauthorized() {
+        AtomicBoolean called = new AtomicBoolean();
+        MockServerWebExchange rejected = anonymous(MockServerHttpRequest.get("/planning/conflicts/teachers"));
+
+        StepVerifier.create(filter.filter(rejected, exchange -> {
+                called.set(true);
+                return Mono.empty();
+            }))
+            .verifyComplete();
+
+        assertFalse(called.get());
+        assertEquals(HttpStatus.UNAUTHORIZED, rejected.getResponse().getStatusCode());
+        StepVerifier.create(rejected.getResponse().getBodyAsString())
+            .expectNextMatches(body -> body.contains("Unauthorized"))
+            .verifyComplete();
+        assertEquals(0.0, meterRegistry.get("secchub.admission.in-flight").gauge().value());
+    }
+
+    @Test
+    @DisplayName("filter - Releases the slot when the handler fails")
+    void testFilter_HandlerError_ReleasesSlot() {
+        StepVerifier.create(filter.filter(exchange(MockServerHttpRequest.get("/audit-logs")),
+                exchange -> Mono.error(new IllegalStateException("boom"))))
+            .expectError(IllegalStateException.class)
+            .verify();
+
+        assertEquals(0.0, meterRegistry.get("secchub.admission.in-flight").gauge().value());
+    }
+
+    private static MockServerWebExchange exchange(MockServerHttpRequest.BaseBuilder<?> request) {
+        Principal user = () -> "a@example.com";
+        return MockServerWebExchange.builder(request.build()).principal(user).build();
+    }
+
+    private static MockServerWebExchange anonymous(MockServerHttpRequest.BaseBuilder<?> request) {
+        return MockServerWebExchange.from(request);
+    }
+}
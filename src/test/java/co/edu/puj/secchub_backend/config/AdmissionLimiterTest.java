@@ -0,0 +1,150 @@
+package co.edu.puj.secchub_backend.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.test.StepVerifier;
+
+@DisplayName("AdmissionLimiter Unit Test")
+class AdmissionLimiterTest {
+
+    private final AtomicLong clock = new AtomicLong(1_000_000_000L);
+    private SimpleMeterRegistry meterRegistry;
+    private AdmissionProperties.EndpointClass settings;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        settings = new AdmissionProperties.EndpointClass();
+        settings.setInitialLimit(1);
+        settings.setMinLimit(1);
+        settings.setMaxLimit(1);
+        settings.setMaxQueue(1);
+        settings.setMaxQueueWait(Duration.ofSeconds(5));
+        settings.setUserRate(0);
+    }
+
+    @Test
+    @DisplayName("admit - At the limit a request waits and is admitted when a slot is released")
+    void testAdmit_AtLimit_AdmittedOnRelease() {
+        AdmissionLimiter limiter = limiter();
+        AdmissionLimiter.Permit first = limiter.admit("a@example.com").block();
+
+        StepVerifier.create(limiter.admit("b@example.com"))
+            .then(() -> assertEquals(1, limiter.queued()))
+            .then(() -> first.release(false))
+            .expectNextCount(1)
+            .verifyComplete();
+
+        assertEquals(1, limiter.inFlight());
+        assertEquals(0, limiter.queued());
+        assertEquals(1, meterRegistry.get("secchub.admission.queue.wait").timer().count());
+    }
+
+    @Test
+    @DisplayName("admit - With the queue full rejects at once with the configured Retry-After")
+    void testAdmit_QueueFull_Rejected() {
+        settings.setMaxQueue(0);
+        settings.setRetryAfter(Duration.ofSeconds(3));
+        AdmissionLimiter limiter = limiter();
+        limiter.admit("a@example.com").block();
+
+        StepVerifier.create(limiter.admit("b@example.com"))
+            .expectErrorSatisfies(error -> {
+                AdmissionRejectedException rejection = (AdmissionRejectedException) error;
+                assertEquals(AdmissionRejectedException.Reason.QUEUE_FULL, rejection.getReason());
+                assertEquals(3, rejection.getRetryAfterSeconds());
+            })
+            .verify();
+        assertEquals(1, rejectedCount("queue_full"));
+    }
+
+    @Test
+    @DisplayName("admit - A request waiting past its deadline is rejected and leaves the queue")
+    void testAdmit_QueueTimeout_Rejected() {
+        settings.setMaxQueueWait(Duration.ofMillis(20));
+        AdmissionLimiter limiter = limiter();
+        limiter.admit("a@example.com").block();
+
+        StepVerifier.create(limiter.admit("b@example.com"))
+            .expectErrorMatches(error -> error instanceof AdmissionRejectedException rejection
+                && rejection.getReason() == AdmissionRejectedException.Reason.QUEUE_TIMEOUT)
+            .verify(Duration.ofSeconds(5));
+
+        assertEquals(0, limiter.queued());
+        assertEquals(1, rejectedCount("queue_timeout"));
+    }
+
+    @Test
+    @DisplayName("admit - A cancelled waiter leaves the queue without taking a slot")
+    void testAdmit_WaiterCancelled_LeavesQueue() {
+        AdmissionLimiter limiter = limiter();
+        AdmissionLimiter.Permit first = limiter.admit("a@example.com").block();
+
+        limiter.admit("b@example.com").subscribe().dispose();
+        first.release(false);
+        first.release(false);
+
+        assertEquals(0, limiter.queued());
+        assertEquals(0, limiter.inFlight());
+    }
+
+    @Test
+    @DisplayName("admit - A user over their rate is rejected with the time until the next token")
+    void testAdmit_UserRateExceeded_RejectedUntilNextToken() {
+        settings.setMaxLimit(10);
+        settings.setInitialLimit(10);
+        settings.setUserRate(0.5);
+        settings.setUserBurst(2);
+        AdmissionLimiter limiter = limiter();
+
+        limiter.admit("a@example.com").block();
+        limiter.admit("a@example.com").block();
+        StepVerifier.create(limiter.admit("a@example.com"))
+            .expectErrorSatisfies(error -> {
+                AdmissionRejectedException rejection = (AdmissionRejectedException) error;
+                assertEquals(AdmissionRejectedException.Reason.USER_RATE, rejection.getReason());
+                assertEquals(2, rejection.getRetryAfterSeconds());
+            })
+            .verify();
+        StepVerifier.create(limiter.admit("b@example.com"))
+            .expectNextCount(1)
+            .verifyComplete();
+
+        clock.addAndGet(Duration.ofSeconds(2).toNanos());
+        StepVerifier.create(limiter.admit("a@example.com"))
+            .expectNextCount(1)
+            .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Permit - Releasing twice frees a single slot")
+    void testPermit_ReleasedTwice_FreesOneSlot() {
+        settings.setMaxLimit(2);
+        settings.setInitialLimit(2);
+        AdmissionLimiter limiter = limiter();
+        AdmissionLimiter.Permit permit = limiter.admit("a@example.com").block();
+        limiter.admit("b@example.com").block();
+
+        permit.release(false);
+        permit.release(true);
+
+        assertEquals(1, limiter.inFlight());
+        assertEquals(2.0, meterRegistry.get("secchub.admission.limit").gauge().value());
+    }
+
+    private AdmissionLimiter limiter() {
+        return AdmissionLimiter.create("report", settings, meterRegistry, clock::get);
+    }
+
+    private double rejectedCount(String reason) {
+        return meterRegistry.get("secchub.admission.rejected").tag("reason", reason).counter().count();
+    }
+}
@@ -0,0 +1,60 @@
+package co.edu.puj.secchub_backend.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import co.edu.puj.secchub_backend.integration.dto.TeacherAssignedHoursDTO;
+import co.edu.puj.secchub_backend.integration.model.TeacherClass;
+import co.edu.puj.secchub_backend.integration.repository.TeacherClassRepository;
+import co.edu.puj.secchub_backend.log.aspect.AuditLoggingAspect;
+import co.edu.puj.secchub_backend.planning.dto.ClassResponseDTO;
+
+@DisplayName("ApplicationRuntimeHints Unit Test")
+class ApplicationRuntimeHintsTest {
+
+    private static final RuntimeHints hints = new RuntimeHints();
+
+    @BeforeAll
+    static void registerHints() {
+        new ApplicationRuntimeHints().registerHints(hints, ApplicationRuntimeHintsTest.class.getClassLoader());
+    }
+
+    @Test
+    @DisplayName("registerHints - DTOs can be built and copied by ModelMapper")
+    void testRegisterHints_Dto_MappableByReflection() {
+        assertTrue(RuntimeHintsPredicates.reflection().onType(ClassResponseDTO.class)
+            .withMemberCategories(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                MemberCategory.INVOKE_PUBLIC_METHODS, MemberCategory.DECLARED_FIELDS)
+            .test(hints));
+    }
+
+    @Test
+    @DisplayName("registerHints - Advice methods of aspects can be invoked")
+    void testRegisterHints_Aspect_AdviceInvocable() {
+        assertTrue(RuntimeHintsPredicates.reflection().onType(AuditLoggingAspect.class)
+            .withMemberCategory(MemberCategory.INVOKE_DECLARED_METHODS).test(hints));
+    }
+
+    @Test
+    @DisplayName("registerHints - Repositories, services and controllers get no hints")
+    void testRegisterHints_Beans_NotRegistered() {
+        assertFalse(RuntimeHintsPredicates.reflection().onType(TeacherClassRepository.class).test(hints));
+    }
+
+    @Test
+    @DisplayName("repositoryTypes - Collects the domain type and the projections of the repository")
+    void testRepositoryTypes_TeacherClassRepository_DomainAndProjections() {
+        assertEquals(Set.of(TeacherClass.class, TeacherAssignedHoursDTO.class),
+            ApplicationRuntimeHints.repositoryTypes(TeacherClassRepository.class));
+    }
+}
@@ -0,0 +1,52 @@
+package co.edu.puj.secchub_backend.config;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.function.Function;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.RowsFetchSpec;
+
+import io.r2dbc.spi.Readable;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+@DisplayName("AutoIncrementCheck Unit Test")
+class AutoIncrementCheckTest {
+
+    @Test
+    @DisplayName("check - Passes when the auto-increment step is 1")
+    void testCheck_StepOne_Completes() {
+        StepVerifier.create(checkWith(1L).check())
+            .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("check - Fails when the auto-increment step would break the derived batch ids")
+    void testCheck_StepTwo_Fails() {
+        StepVerifier.create(checkWith(2L).check())
+            .expectErrorMatches(error -> error instanceof IllegalStateException
+                && error.getMessage().contains("auto_increment_increment is 2"))
+            .verify();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static AutoIncrementCheck checkWith(Long increment) {
+        DatabaseClient databaseClient = mock(DatabaseClient.class);
+        DatabaseClient.GenericExecuteSpec spec = mock(DatabaseClient.GenericExecuteSpec.class);
+        RowsFetchSpec<Long> rows = mock(RowsFetchSpec.class);
+        when(databaseClient.sql(AutoIncrementCheck.INCREMENT_QUERY)).thenReturn(spec);
+        when(spec.map(any(Function.class))).thenAnswer(invocation -> {
+            Function<Readable, Long> mapper = invocation.getArgument(0);
+            Readable row = mock(Readable.class);
+            when(row.get("increment", Long.class)).thenReturn(increment);
+            when(rows.one()).thenReturn(Mono.fromSupplier(() -> mapper.apply(row)));
+            return rows;
+        });
+        return new AutoIncrementCheck(databaseClient);
+    }
+}
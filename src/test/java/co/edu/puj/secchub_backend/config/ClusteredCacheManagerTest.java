@@ -0,0 +1,128 @@
+package co.edu.puj.secchub_backend.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.interceptor.SimpleKey;
+
+@DisplayName("ClusteredCacheManager Unit Test")
+class ClusteredCacheManagerTest {
+
+    private LocalCacheInvalidationTransport transport;
+    private ClusteredCacheManager first;
+    private ClusteredCacheManager second;
+
+    /**
+     * Two instances sharing the in-JVM transport, as two nodes share the invalidation table.
+     */
+    @BeforeEach
+    void setUp() {
+        transport = new LocalCacheInvalidationTransport();
+        first = new ClusteredCacheManager(new CaffeineCacheManager(), transport);
+        second = new ClusteredCacheManager(new CaffeineCacheManager(), transport);
+    }
+
+    @Test
+    @DisplayName("evict - Should drop the key on every instance and keep the other keys")
+    void testEvict_DropsKeyOnEveryInstance() {
+        Cache firstCache = first.getCache("user-id-by-email");
+        Cache secondCache = second.getCache("user-id-by-email");
+        assertNotNull(firstCache);
+        assertNotNull(secondCache);
+        firstCache.put("a@b.com", 1L);
+        secondCache.put("a@b.com", 1L);
+        secondCache.put("c@d.com", 2L);
+
+        firstCache.evict("a@b.com");
+
+        assertNull(firstCache.get("a@b.com"));
+        assertNull(secondCache.get("a@b.com"));
+        assertNotNull(secondCache.get("c@d.com"));
+    }
+
+    @Test
+    @DisplayName("evict - Should match keys of any type by their string form")
+    void testEvict_MatchesKeysByStringForm() {
+        Cache firstCache = first.getCache("current-semester-id");
+        Cache secondCache = second.getCache("current-semester-id");
+        assertNotNull(firstCache);
+        assertNotNull(secondCache);
+        secondCache.put(SimpleKey.EMPTY, 2L);
+        secondCache.put(7L, 3L);
+
+        firstCache.evict(SimpleKey.EMPTY);
+        firstCache.evictIfPresent(7L);
+
+        assertNull(secondCache.get(SimpleKey.EMPTY));
+        assertNull(secondCache.get(7L));
+    }
+
+    @Test
+    @DisplayName("clear - Should clear the cache on every instance")
+    void testClear_ClearsEveryInstance() {
+        Cache firstCache = first.getCache("section-id-by-user-id");
+        Cache secondCache = second.getCache("section-id-by-user-id");
+        assertNotNull(firstCache);
+        assertNotNull(secondCache);
+        secondCache.put(1L, 10L);
+        secondCache.put(2L, 20L);
+
+        firstCache.clear();
+
+        assertNull(secondCache.get(1L));
+        assertNull(secondCache.get(2L));
+    }
+
+    @Test
+    @DisplayName("put - Should keep values local to the instance")
+    void testPut_StaysLocal() {
+        Cache firstCache = first.getCache("current-semester");
+        Cache secondCache = second.getCache("current-semester");
+        assertNotNull(firstCache);
+        assertNotNull(secondCache);
+
+        firstCache.put(SimpleKey.EMPTY, "semester");
+
+        assertNotNull(firstCache.get(SimpleKey.EMPTY));
+        assertNull(secondCache.get(SimpleKey.EMPTY));
+    }
+
+    @Test
+    @DisplayName("invalidation - Should not create caches the instance never used")
+    void testInvalidation_UnusedCache_IsNotCreated() {
+        Cache firstCache = first.getCache("all-roles");
+        assertNotNull(firstCache);
+
+        firstCache.clear();
+
+        assertTrue(first.getCacheNames().contains("all-roles"));
+        assertFalse(second.getCacheNames().contains("all-roles"));
+    }
+
+    @Test
+    @DisplayName("evict - Should send one invalidation with the origin of the instance")
+    void testEvict_SendsInvalidationWithOrigin() {
+        List<CacheInvalidation> sent = new ArrayList<>();
+        transport.invalidations().subscribe(sent::add);
+        Cache firstCache = first.getCache("user-id-by-email");
+        assertNotNull(firstCache);
+
+        firstCache.evict("a@b.com");
+        firstCache.clear();
+
+        assertEquals(List.of(
+            new CacheInvalidation("user-id-by-email", "a@b.com", first.getOrigin()),
+            new CacheInvalidation("user-id-by-email", null, first.getOrigin())), sent);
+    }
+}
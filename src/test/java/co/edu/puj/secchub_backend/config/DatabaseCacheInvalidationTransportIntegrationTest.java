@@ -0,0 +1,112 @@
+package co.edu.puj.secchub_backend.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import co.edu.puj.secchub_backend.DatabaseContainerIntegration;
+
+@SpringBootTest
+@Testcontainers
+@DisplayName("Database Cache Invalidation Transport Integration Tests")
+class DatabaseCacheInvalidationTransportIntegrationTest extends DatabaseContainerIntegration {
+
+    @Autowired
+    @BackgroundDatabase
+    private DatabaseClient databaseClient;
+
+    private CacheInvalidationProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        databaseClient.sql("DELETE FROM cache_invalidation").then().block();
+        properties = new CacheInvalidationProperties();
+        properties.setSettleWindow(Duration.ZERO);
+    }
+
+    @Test
+    @DisplayName("poll - Should receive the invalidations published after the first poll")
+    void poll_receivesInvalidationsPublishedByAnotherInstance() {
+        databaseClient.sql("INSERT INTO cache_invalidation (cache_name, cache_key, origin) VALUES ('old', NULL, 'x')")
+                .then().block();
+        DatabaseCacheInvalidationTransport sender = new DatabaseCacheInvalidationTransport(databaseClient, properties);
+        DatabaseCacheInvalidationTransport receiver = new DatabaseCacheInvalidationTransport(databaseClient, properties);
+        List<CacheInvalidation> received = new CopyOnWriteArrayList<>();
+        receiver.invalidations().subscribe(received::add);
+
+        assertEquals(0, receiver.poll().block());
+        sender.publish(new CacheInvalidation("user-id-by-email", "a@b.com", "sender")).block();
+        sender.publish(new CacheInvalidation("current-semester-id", null, "sender")).block();
+
+        assertEquals(2, receiver.poll().block());
+        assertEquals(0, receiver.poll().block());
+        assertEquals(List.of(
+                new CacheInvalidation("user-id-by-email", "a@b.com", "sender"),
+                new CacheInvalidation("current-semester-id", null, "sender")), received);
+    }
+
+    @Test
+    @DisplayName("poll - Should not emit an unsettled invalidation twice while it is read again")
+    void poll_unsettledInvalidation_isEmittedOnce() {
+        properties.setSettleWindow(Duration.ofMinutes(1));
+        DatabaseCacheInvalidationTransport sender = new DatabaseCacheInvalidationTransport(databaseClient, properties);
+        DatabaseCacheInvalidationTransport receiver = new DatabaseCacheInvalidationTransport(databaseClient, properties);
+        receiver.poll().block();
+
+        sender.publish(new CacheInvalidation("current-semester", null, "sender")).block();
+
+        assertEquals(1, receiver.poll().block());
+        assertEquals(0, receiver.poll().block());
+    }
+
+    @Test
+    @DisplayName("publish - Should send keys longer than the key column as whole-cache invalidations")
+    void publish_longKey_invalidatesWholeCache() {
+        DatabaseCacheInvalidationTransport sender = new DatabaseCacheInvalidationTransport(databaseClient, properties);
+
+        sender.publish(new CacheInvalidation("user-id-by-email", "a".repeat(300), "sender")).block();
+
+        Long keys = databaseClient.sql("SELECT COUNT(cache_key) AS keys_count FROM cache_invalidation")
+                .map(row -> row.get("keys_count", Long.class))
+                .one()
+                .block();
+        assertEquals(0L, keys);
+    }
+
+    @Test
+    @DisplayName("ClusteredCacheManager - Should drop the entry on the other instance after its next poll")
+    void clusteredCacheManager_evictionReachesOtherInstance() {
+        DatabaseCacheInvalidationTransport firstTransport = new DatabaseCacheInvalidationTransport(databaseClient, properties);
+        DatabaseCacheInvalidationTransport secondTransport = new DatabaseCacheInvalidationTransport(databaseClient, properties);
+        ClusteredCacheManager first = new ClusteredCacheManager(new CaffeineCacheManager(), firstTransport);
+        ClusteredCacheManager second = new ClusteredCacheManager(new CaffeineCacheManager(), secondTransport);
+        Cache firstCache = first.getCache("user-id-by-email");
+        Cache secondCache = second.getCache("user-id-by-email");
+        assertNotNull(firstCache);
+        assertNotNull(secondCache);
+        secondTransport.poll().block();
+        secondCache.put("a@b.com", 1L);
+
+        firstCache.evict("a@b.com");
+        // The eviction is sent in the background, so poll until it arrives
+        for (int attempt = 0; attempt < 50 && secondCache.get("a@b.com") != null; attempt++) {
+            secondTransport.poll().delaySubscription(Duration.ofMillis(20)).block();
+        }
+
+        assertNull(secondCache.get("a@b.com"));
+    }
+}
@@ -0,0 +1,94 @@
+package co.edu.puj.secchub_backend.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.spi.Connection;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+/**
+ * Unit tests for InstrumentedConnectionFactory.
+ */
+@DisplayName("InstrumentedConnectionFactory Unit Test")
+class InstrumentedConnectionFactoryTest {
+
+    private ConnectionPool pool;
+    private SimpleMeterRegistry meterRegistry;
+    private InstrumentedConnectionFactory connectionFactory;
+
+    @BeforeEach
+    void setUp() {
+        pool = mock(ConnectionPool.class);
+        meterRegistry = new SimpleMeterRegistry();
+        connectionFactory = new InstrumentedConnectionFactory("reporting", pool, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("create - Records a successful acquisition for the pool")
+    void testCreate_Success_RecordsSuccessTimer() {
+        Connection connection = mock(Connection.class);
+        doReturn(Mono.just(connection)).when(pool).create();
+
+        StepVerifier.create(Mono.<Connection>from(connectionFactory.create()))
+            .expectNext(connection)
+            .verifyComplete();
+
+        assertEquals(1, acquireTimer("success").count());
+        assertEquals(0, acquireTimer("failure").count());
+    }
+
+    @Test
+    @DisplayName("create - Records a failed acquisition for the pool")
+    void testCreate_Failure_RecordsFailureTimer() {
+        doReturn(Mono.error(new IllegalStateException("Timeout acquiring connection"))).when(pool).create();
+
+        StepVerifier.create(Mono.<Connection>from(connectionFactory.create()))
+            .expectError(IllegalStateException.class)
+            .verify();
+
+        assertEquals(0, acquireTimer("success").count());
+        assertEquals(1, acquireTimer("failure").count());
+    }
+
+    @Test
+    @DisplayName("create - Does not record anything until subscribed")
+    void testCreate_NotSubscribed_RecordsNothing() {
+        connectionFactory.create();
+
+        assertEquals(0, acquireTimer("success").count());
+        verify(pool, never()).create();
+    }
+
+    @Test
+    @DisplayName("unwrap - Exposes the pool so its gauges can be bound")
+    void testUnwrap_ReturnsPool() {
+        assertSame(pool, connectionFactory.unwrap());
+    }
+
+    @Test
+    @DisplayName("close - Disposes the pool")
+    void testClose_DisposesPool() {
+        connectionFactory.close();
+
+        verify(pool).dispose();
+    }
+
+    private Timer acquireTimer(String outcome) {
+        return meterRegistry.get(InstrumentedConnectionFactory.ACQUIRE_TIMER)
+            .tag("pool", "reporting")
+            .tag("outcome", outcome)
+            .timer();
+    }
+}
@@ -0,0 +1,86 @@
+package co.edu.puj.secchub_backend.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@DisplayName("KeysetPageRequest Unit Test")
+class KeysetPageRequestTest {
+
+    @Test
+    @DisplayName("of - Should read back the position of a cursor it issued")
+    void testOf_IssuedCursor_ReadsPosition() {
+        KeysetPageRequest request = KeysetPageRequest.of(KeysetPageRequest.cursorOf(3L, 1042L), 10, true);
+
+        assertEquals(3L, request.afterSemesterId());
+        assertEquals(1042L, request.afterId());
+        assertEquals(10, request.size());
+        assertEquals(11, request.fetchSize());
+    }
+
+    @Test
+    @DisplayName("of - Without cursor reads the first page with the default size")
+    void testOf_NoCursor_FirstPage() {
+        KeysetPageRequest request = KeysetPageRequest.of(" ", null, false);
+
+        assertNull(request.afterSemesterId());
+        assertNull(request.afterId());
+        assertEquals(KeysetPageRequest.DEFAULT_SIZE, request.size());
+    }
+
+    @Test
+    @DisplayName("of - Should cap the size at the maximum")
+    void testOf_LargeSize_CappedAtMaximum() {
+        assertEquals(KeysetPageRequest.MAX_SIZE, KeysetPageRequest.of(null, 5000, false).size());
+    }
+
+    @Test
+    @DisplayName("of - When cursor or size is invalid throws IllegalArgumentException")
+    void testOf_Invalid_ThrowsException() {
+        assertThrows(IllegalArgumentException.class, () -> KeysetPageRequest.of("not a cursor", 10, false));
+        assertThrows(IllegalArgumentException.class, () -> KeysetPageRequest.of("bm90LWEtbnVtYmVy", 10, false));
+        assertThrows(IllegalArgumentException.class, () -> KeysetPageRequest.of(null, 0, false));
+    }
+
+    @Test
+    @DisplayName("read - When an extra row was fetched trims it and points the cursor at the last row of the page")
+    void testRead_ExtraRow_ReturnsNextCursor() {
+        KeysetPageRequest request = KeysetPageRequest.of(null, 2, false);
+        AtomicBoolean counted = new AtomicBoolean();
+
+        KeysetPage<String> page = request.read(Flux.just(new long[] {1, 5}, new long[] {1, 9}, new long[] {2, 3}),
+                row -> row[0], row -> row[1], row -> Mono.just(row[0] + "-" + row[1]),
+                () -> {
+                    counted.set(true);
+                    return Mono.just(3L);
+                }).block();
+
+        assertEquals(List.of("1-5", "1-9"), page.items());
+        assertEquals(KeysetPageRequest.cursorOf(1L, 9L), page.nextCursor());
+        assertNull(page.total());
+        assertFalse(counted.get());
+    }
+
+    @Test
+    @DisplayName("read - On the last page returns no cursor and the total when requested")
+    void testRead_LastPage_ReturnsTotal() {
+        KeysetPageRequest request = KeysetPageRequest.of(null, 2, true);
+
+        KeysetPage<Long> page = request.read(Flux.just(4L), row -> 1L, row -> row, Mono::just,
+                () -> Mono.just(3L)).block();
+
+        assertEquals(List.of(4L), page.items());
+        assertNull(page.nextCursor());
+        assertEquals(3L, page.total());
+    }
+}
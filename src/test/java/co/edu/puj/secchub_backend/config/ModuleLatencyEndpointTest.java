@@ -0,0 +1,76 @@
+package co.edu.puj.secchub_backend.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("ModuleLatencyEndpoint Unit Test")
+class ModuleLatencyEndpointTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ModuleLatencyEndpoint endpoint;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        endpoint = new ModuleLatencyEndpoint(meterRegistry);
+        record("planning", "contract", "PlanningModuleClassContract.isClassInSection", "success", 30);
+        record("planning", "contract", "PlanningModuleClassContract.isClassInSection", "error", 10);
+        record("planning", "repository", "ClassRepository.findById", "success", 5);
+        record("planning", "repository", "ClassRepository.findVisiblePage", "success", 50);
+        record("admin", "repository", "SemesterRepository.findByIsCurrentTrue", "success", 2);
+    }
+
+    @Test
+    @DisplayName("modules - Sums the contract and repository calls of every module")
+    void testModules_Timers_SummedByModuleAndKind() {
+        Map<String, ModuleLatencyEndpoint.ModuleLatency> modules = endpoint.modules();
+
+        assertEquals(List.of("admin", "planning"), List.copyOf(modules.keySet()));
+        ModuleLatencyEndpoint.Latency contract = modules.get("planning").contract();
+        assertEquals(2, contract.calls());
+        assertEquals(1, contract.errors());
+        assertEquals(40.0, contract.totalMillis(), 0.001);
+        assertEquals(20.0, contract.meanMillis(), 0.001);
+        assertEquals(30.0, contract.maxMillis(), 0.001);
+        assertEquals(55.0, modules.get("planning").repository().totalMillis(), 0.001);
+        assertEquals(0, modules.get("admin").contract().calls());
+    }
+
+    @Test
+    @DisplayName("module - Lists the operations of a module from the most to the least total time")
+    void testModule_Planning_OperationsByTotalTime() {
+        List<ModuleLatencyEndpoint.OperationLatency> operations = endpoint.module("planning");
+
+        assertEquals(List.of("ClassRepository.findVisiblePage", "PlanningModuleClassContract.isClassInSection",
+            "ClassRepository.findById"), operations.stream().map(ModuleLatencyEndpoint.OperationLatency::operation).toList());
+        assertEquals(2, operations.get(1).latency().calls());
+        assertEquals("contract", operations.get(1).kind());
+    }
+
+    @Test
+    @DisplayName("module - An unknown module has no operations")
+    void testModule_Unknown_Empty() {
+        assertTrue(endpoint.module("notification").isEmpty());
+    }
+
+    private void record(String module, String kind, String operation, String outcome, long millis) {
+        Timer.builder(ModuleObservationAspect.OBSERVATION_NAME)
+            .tag(ModuleObservationAspect.MODULE, module)
+            .tag(ModuleObservationAspect.KIND, kind)
+            .tag(ModuleObservationAspect.OPERATION, operation)
+            .tag(ModuleObservationAspect.OUTCOME, outcome)
+            .register(meterRegistry)
+            .record(Duration.ofMillis(millis));
+    }
+}
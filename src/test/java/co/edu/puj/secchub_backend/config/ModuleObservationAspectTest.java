@@ -0,0 +1,138 @@
+package co.edu.puj.secchub_backend.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.modelmapper.ModelMapper;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import co.edu.puj.secchub_backend.ModuleTraceRecorder;
+import co.edu.puj.secchub_backend.admin.contract.AdminModuleSemesterContract;
+import co.edu.puj.secchub_backend.admin.exception.SemesterNotFoundException;
+import co.edu.puj.secchub_backend.admin.model.Semester;
+import co.edu.puj.secchub_backend.admin.repository.SemesterRepository;
+import co.edu.puj.secchub_backend.admin.service.SemesterService;
+import io.micrometer.core.instrument.observation.DefaultMeterObservationHandler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+@DisplayName("ModuleObservationAspect Unit Test")
+class ModuleObservationAspectTest {
+
+    private static final String CONTRACT_CALL = "AdminModuleSemesterContract.getCurrentSemesterId";
+    private static final String REPOSITORY_CALL = "SemesterRepository.findByIsCurrentTrue";
+
+    private ModuleTraceRecorder traceRecorder;
+    private SimpleMeterRegistry meterRegistry;
+    private ObservationRegistry observationRegistry;
+    private SemesterRepository semesterRepositoryMock;
+    private SemesterRepository semesterRepository;
+    private AdminModuleSemesterContract semesterContract;
+
+    @BeforeEach
+    void setUp() {
+        traceRecorder = new ModuleTraceRecorder();
+        meterRegistry = new SimpleMeterRegistry();
+        observationRegistry = ObservationRegistry.create();
+        observationRegistry.observationConfig()
+            .observationHandler(traceRecorder)
+            .observationHandler(new DefaultMeterObservationHandler(meterRegistry));
+
+        ModuleObservationAspect aspect = new ModuleObservationAspect(observationRegistry);
+        semesterRepositoryMock = mock(SemesterRepository.class);
+        semesterRepository = advise(semesterRepositoryMock, aspect);
+        semesterContract = advise(new SemesterService(semesterRepository, new ModelMapper()), aspect);
+    }
+
+    @Test
+    @DisplayName("observeContractCall - Repository calls made by a contract call are its children")
+    void testObserveContractCall_RepositoryInside_ChildSpan() {
+        when(semesterRepositoryMock.findByIsCurrentTrue()).thenReturn(Mono.just(Semester.builder().id(3L).build()));
+
+        StepVerifier.create(semesterContract.getCurrentSemesterId())
+            .expectNext(3L)
+            .verifyComplete();
+
+        traceRecorder.assertChildOf(REPOSITORY_CALL, CONTRACT_CALL);
+        ModuleTraceRecorder.Span contractSpan = traceRecorder.span(CONTRACT_CALL);
+        assertNull(contractSpan.parent());
+        assertEquals("admin", contractSpan.tag(ModuleObservationAspect.MODULE));
+        assertEquals(ModuleObservationAspect.KIND_CONTRACT, contractSpan.tag(ModuleObservationAspect.KIND));
+        assertEquals("success", contractSpan.tag(ModuleObservationAspect.OUTCOME));
+        assertEquals(ModuleObservationAspect.KIND_REPOSITORY,
+            traceRecorder.span(REPOSITORY_CALL).tag(ModuleObservationAspect.KIND));
+    }
+
+    @Test
+    @DisplayName("observeContractCall - A failed call records the error and the error outcome")
+    void testObserveContractCall_Error_ErrorOutcome() {
+        when(semesterRepositoryMock.findByIsCurrentTrue()).thenReturn(Mono.empty());
+
+        StepVerifier.create(semesterContract.getCurrentSemesterId())
+            .expectError(SemesterNotFoundException.class)
+            .verify();
+
+        ModuleTraceRecorder.Span contractSpan = traceRecorder.span(CONTRACT_CALL);
+        assertEquals("error", contractSpan.tag(ModuleObservationAspect.OUTCOME));
+        assertInstanceOf(SemesterNotFoundException.class, contractSpan.error());
+        assertEquals("success", traceRecorder.span(REPOSITORY_CALL).tag(ModuleObservationAspect.OUTCOME));
+    }
+
+    @Test
+    @DisplayName("observeContractCall - Uses the observation in the Reactor context as parent")
+    void testObserveContractCall_RequestObservation_ChildOfRequest() {
+        when(semesterRepositoryMock.findByIsCurrentTrue()).thenReturn(Mono.just(Semester.builder().id(3L).build()));
+        Observation request = Observation.createNotStarted("http.server.requests", observationRegistry)
+            .contextualName("http get /semesters/current")
+            .start();
+
+        StepVerifier.create(semesterContract.getCurrentSemesterId()
+                .contextWrite(context -> context.put(ModuleObservationAspect.OBSERVATION_CONTEXT_KEY, request)))
+            .expectNext(3L)
+            .verifyComplete();
+        request.stop();
+
+        traceRecorder.assertChildOf(CONTRACT_CALL, "http get /semesters/current");
+    }
+
+    @Test
+    @DisplayName("observeRepositoryCall - Inherited repository methods are named after the repository and timed")
+    void testObserveRepositoryCall_InheritedMethod_TimedByOperation() {
+        when(semesterRepositoryMock.findAll()).thenReturn(Flux.just(Semester.builder().id(1L).build(), Semester.builder().id(2L).build()));
+
+        StepVerifier.create(semesterRepository.findAll())
+            .expectNextCount(2)
+            .verifyComplete();
+
+        assertEquals("admin", traceRecorder.span("SemesterRepository.findAll").tag(ModuleObservationAspect.MODULE));
+        assertEquals(1, meterRegistry.get(ModuleObservationAspect.OBSERVATION_NAME)
+            .tag(ModuleObservationAspect.OPERATION, "SemesterRepository.findAll")
+            .tag(ModuleObservationAspect.OUTCOME, "success")
+            .timer().count());
+    }
+
+    @Test
+    @DisplayName("moduleOf - Reads the module from the package")
+    void testModuleOf_Types_ModuleName() {
+        assertEquals("admin", ModuleObservationAspect.moduleOf(SemesterRepository.class));
+        assertEquals("config", ModuleObservationAspect.moduleOf(ModuleObservationAspect.class));
+        assertEquals("unknown", ModuleObservationAspect.moduleOf(String.class));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T advise(Object target, ModuleObservationAspect aspect) {
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(target);
+        proxyFactory.addAspect(aspect);
+        return (T) proxyFactory.getProxy();
+    }
+}
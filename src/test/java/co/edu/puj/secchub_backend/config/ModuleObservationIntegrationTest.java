@@ -0,0 +1,122 @@
+package co.edu.puj.secchub_backend.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import co.edu.puj.secchub_backend.DatabaseContainerIntegration;
+import co.edu.puj.secchub_backend.ModuleTraceRecorder;
+import co.edu.puj.secchub_backend.R2dbcTestUtils;
+import co.edu.puj.secchub_backend.security.jwt.JwtTokenProvider;
+import io.r2dbc.spi.ConnectionFactory;
+
+@SpringBootTest
+@AutoConfigureWebTestClient
+@Testcontainers
+@Import(ModuleTraceRecorder.Config.class)
+@DisplayName("Module Observation Integration Tests")
+class ModuleObservationIntegrationTest extends DatabaseContainerIntegration {
+
+    private static final String FIND_CLASS = "ClassRepository.findById";
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Autowired
+    private ConnectionFactory connectionFactory;
+
+    @Autowired
+    private ModuleTraceRecorder traceRecorder;
+
+    private String token;
+
+    @BeforeEach
+    void setUp() {
+        R2dbcTestUtils.executeScripts(connectionFactory,
+                "/test-cleanup.sql",
+                "/test-users.sql",
+                "/test-semesters.sql",
+                "/test-sections.sql",
+                "/test-courses.sql",
+                "/test-classrooms.sql",
+                "/test-classes.sql",
+                "/test-class-schedules.sql"
+        );
+        token = jwtTokenProvider.generateToken("testAdmin@example.com", "ROLE_ADMIN");
+        traceRecorder.reset();
+    }
+
+    @Test
+    @DisplayName("GET /planning/classes/{classId} - Repository calls are traced inside the request")
+    void getClassById_tracesRepositoryCallsInsideRequest() {
+        webTestClient.get()
+                .uri("/planning/classes/{classId}", 1L)
+                .header("Authorization", "Bearer " + token)
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk();
+
+        ModuleTraceRecorder.Span findClass = traceRecorder.span(FIND_CLASS);
+        assertEquals("planning", findClass.tag(ModuleObservationAspect.MODULE));
+        assertEquals(ModuleObservationAspect.KIND_REPOSITORY, findClass.tag(ModuleObservationAspect.KIND));
+        assertNotNull(findClass.parent());
+        assertTrue(findClass.parent().startsWith("http get"), () -> "Unexpected parent " + findClass.parent());
+    }
+
+    @Test
+    @DisplayName("GET /actuator/modulelatency/planning - Lists the traced operations of the module")
+    void moduleLatency_listsTracedOperations() {
+        webTestClient.get()
+                .uri("/planning/classes/{classId}", 1L)
+                .header("Authorization", "Bearer " + token)
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk();
+
+        List<ModuleLatencyEndpoint.OperationLatency> operations = webTestClient.get()
+                .uri("/actuator/modulelatency/planning")
+                .header("Authorization", "Bearer " + token)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(ModuleLatencyEndpoint.OperationLatency.class)
+                .returnResult()
+                .getResponseBody();
+
+        assertNotNull(operations);
+        assertTrue(operations.stream().anyMatch(operation -> FIND_CLASS.equals(operation.operation())
+                && operation.latency().calls() > 0));
+    }
+
+    @Test
+    @DisplayName("GET /actuator/modulelatency - Requires an administrator")
+    void moduleLatency_requiresAdmin() {
+        String userToken = jwtTokenProvider.generateToken("testUser@example.com", "ROLE_USER");
+
+        webTestClient.get()
+                .uri("/actuator/modulelatency")
+                .exchange()
+                .expectStatus().isUnauthorized();
+
+        webTestClient.get()
+                .uri("/actuator/modulelatency/planning")
+                .header("Authorization", "Bearer " + userToken)
+                .exchange()
+                .expectStatus().isForbidden();
+    }
+}
@@ -0,0 +1,131 @@
+package co.edu.puj.secchub_backend.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.Result;
+import io.r2dbc.spi.Statement;
+import io.r2dbc.spi.Wrapped;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+import reactor.util.context.Context;
+
+/**
+ * Unit tests for QueryCountingConnectionFactory.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("QueryCountingConnectionFactory Unit Test")
+class QueryCountingConnectionFactoryTest {
+
+    private static final String SQL = "SELECT * FROM class_schedule WHERE class_id = ?";
+
+    @Mock
+    private ConnectionFactory delegate;
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private Statement statement;
+
+    @Mock
+    private Result result;
+
+    private QueryStats stats;
+
+    @BeforeEach
+    void setUp() {
+        stats = new QueryStats("a1b2-7");
+        doReturn(Mono.just(connection)).when(delegate).create();
+    }
+
+    @Test
+    @DisplayName("create - Returns the connection untouched outside of a tracked exchange")
+    void testCreate_NoStats_ReturnsConnection() {
+        QueryCountingConnectionFactory connectionFactory = new QueryCountingConnectionFactory(delegate, false);
+
+        StepVerifier.create(Mono.<Connection>from(connectionFactory.create()))
+            .expectNext(connection)
+            .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("execute - Records every executed statement in the stats of the exchange")
+    void testExecute_Tracked_RecordsStatements() {
+        when(connection.createStatement(SQL)).thenReturn(statement);
+        when(statement.bind(anyInt(), any())).thenReturn(statement);
+        doReturn(Flux.just(result)).when(statement).execute();
+        Connection tracked = acquire(new QueryCountingConnectionFactory(delegate, false));
+
+        for (long classId = 1; classId <= 3; classId++) {
+            Statement created = tracked.createStatement(SQL);
+            StepVerifier.create(Flux.<Result>from(created.bind(0, classId).execute()))
+                .expectNext(result)
+                .verifyComplete();
+        }
+
+        assertNotSame(connection, tracked);
+        assertEquals(3, stats.getQueryCount());
+        assertEquals(Map.of(SQL, 3), stats.getExecutionsByShape());
+        verify(statement).bind(0, 1L);
+    }
+
+    @Test
+    @DisplayName("execute - Does not record a statement that is never subscribed")
+    void testExecute_NotSubscribed_RecordsNothing() {
+        when(connection.createStatement(SQL)).thenReturn(statement);
+        Connection tracked = acquire(new QueryCountingConnectionFactory(delegate, false));
+
+        tracked.createStatement(SQL).execute();
+
+        assertEquals(0, stats.getQueryCount());
+    }
+
+    @Test
+    @DisplayName("createStatement - Prefixes the request id comment when enabled")
+    void testCreateStatement_CommentStatements_PrefixesRequestId() {
+        when(connection.createStatement("/* request:a1b2-7 */ " + SQL)).thenReturn(statement);
+        doReturn(Flux.just(result)).when(statement).execute();
+        Connection tracked = acquire(new QueryCountingConnectionFactory(delegate, true));
+
+        StepVerifier.create(Flux.<Result>from(tracked.createStatement(SQL).execute()))
+            .expectNext(result)
+            .verifyComplete();
+
+        assertEquals(Map.of(SQL, 1), stats.getExecutionsByShape());
+    }
+
+    @Test
+    @DisplayName("unwrap - Exposes the wrapped connection and factory")
+    void testUnwrap_ReturnsTargets() {
+        QueryCountingConnectionFactory connectionFactory = new QueryCountingConnectionFactory(delegate, false);
+        Connection tracked = acquire(connectionFactory);
+
+        assertSame(delegate, connectionFactory.unwrap());
+        assertSame(connection, ((Wrapped<?>) tracked).unwrap());
+    }
+
+    private Connection acquire(QueryCountingConnectionFactory connectionFactory) {
+        return Mono.from(connectionFactory.create())
+            .contextWrite(Context.of(QueryStats.CONTEXT_KEY, stats))
+            .block();
+    }
+}
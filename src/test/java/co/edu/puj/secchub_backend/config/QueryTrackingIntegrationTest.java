@@ -0,0 +1,131 @@
+package co.edu.puj.secchub_backend.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import co.edu.puj.secchub_backend.DatabaseContainerIntegration;
+import co.edu.puj.secchub_backend.QueryBudget;
+import co.edu.puj.secchub_backend.R2dbcTestUtils;
+import co.edu.puj.secchub_backend.planning.dto.ClassResponseDTO;
+import co.edu.puj.secchub_backend.security.jwt.JwtTokenProvider;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.r2dbc.spi.ConnectionFactory;
+
+@SpringBootTest
+@AutoConfigureWebTestClient
+@Testcontainers
+@Import(QueryBudget.Config.class)
+@DisplayName("Query Tracking Integration Tests")
+class QueryTrackingIntegrationTest extends DatabaseContainerIntegration {
+
+    private static final String GET_CLASS = "GET /planning/classes/{classId}";
+    private static final String GET_CLASSES = "GET /planning/classes";
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Autowired
+    private ConnectionFactory connectionFactory;
+
+    @Autowired
+    private QueryBudget queryBudget;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private String token;
+
+    @BeforeEach
+    void setUp() {
+        R2dbcTestUtils.executeScripts(connectionFactory,
+                "/test-cleanup.sql",
+                "/test-users.sql",
+                "/test-semesters.sql",
+                "/test-sections.sql",
+                "/test-courses.sql",
+                "/test-classrooms.sql",
+                "/test-classes.sql",
+                "/test-class-schedules.sql"
+        );
+        token = jwtTokenProvider.generateToken("testAdmin@example.com", "ROLE_ADMIN");
+        queryBudget.reset();
+    }
+
+    @Test
+    @DisplayName("GET /planning/classes/{classId} - Stays within its query budget")
+    void getClassById_staysWithinQueryBudget() {
+        webTestClient.get()
+                .uri("/planning/classes/{classId}", 1L)
+                .header("Authorization", "Bearer " + token)
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk();
+
+        // Authentication (user, status, role), the class and its schedules
+        queryBudget.assertAtMost(GET_CLASS, 5);
+        queryBudget.assertNoRepeatedStatements(GET_CLASS, 1);
+    }
+
+    @Test
+    @DisplayName("GET /planning/classes - Schedules are looked up once per class")
+    void getAllClasses_looksUpSchedulesPerClass() {
+        List<ClassResponseDTO> classes = webTestClient.get()
+                .uri("/planning/classes")
+                .header("Authorization", "Bearer " + token)
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(ClassResponseDTO.class)
+                .returnResult()
+                .getResponseBody();
+
+        assertNotNull(classes);
+        int scheduleLookups = queryBudget.lastExchange(GET_CLASSES).getExecutionsByShape().entrySet().stream()
+                .filter(shape -> shape.getKey().contains("class_schedule"))
+                .mapToInt(Map.Entry::getValue)
+                .max()
+                .orElse(0);
+        assertEquals(classes.size(), scheduleLookups);
+    }
+
+    @Test
+    @DisplayName("Query metrics - Are published per route")
+    void queryMetrics_arePublishedPerRoute() {
+        webTestClient.get()
+                .uri("/planning/classes/{classId}", 1L)
+                .header("Authorization", "Bearer " + token)
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk();
+
+        QueryStats stats = queryBudget.lastExchange(GET_CLASS);
+        assertTrue(stats.getQueryCount() > 0);
+        assertTrue(meterRegistry.get(QueryTrackingWebFilter.QUERIES_SUMMARY)
+                .tag("method", "GET")
+                .tag("uri", "/planning/classes/{classId}")
+                .summary()
+                .count() > 0);
+        assertTrue(meterRegistry.get(QueryTrackingWebFilter.TIME_TIMER)
+                .tag("uri", "/planning/classes/{classId}")
+                .timer()
+                .count() > 0);
+    }
+}
@@ -0,0 +1,127 @@
+package co.edu.puj.secchub_backend.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.reactive.HandlerMapping;
+import org.springframework.web.server.WebFilterChain;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+import reactor.util.context.Context;
+
+/**
+ * Unit tests for QueryTrackingWebFilter and QueryStats.
+ */
+@DisplayName("QueryTrackingWebFilter Unit Test")
+class QueryTrackingWebFilterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private List<String> endpoints;
+    private List<QueryStats> completed;
+    private QueryTrackingWebFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        endpoints = new ArrayList<>();
+        completed = new ArrayList<>();
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean("listener", (QueryStatsListener) (endpoint, stats) -> {
+            endpoints.add(endpoint);
+            completed.add(stats);
+        });
+        filter = new QueryTrackingWebFilter(meterRegistry, new QueryTrackingProperties(),
+            beanFactory.getBeanProvider(QueryStatsListener.class));
+    }
+
+    @Test
+    @DisplayName("filter - Exposes the stats to the chain and publishes them per route")
+    void testFilter_PublishesStatsPerRoute() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/planning/classes/7"));
+        exchange.getAttributes().put(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE,
+            PathPatternParser.defaultInstance.parse("/planning/classes/{classId}"));
+        WebFilterChain chain = filterExchange -> Mono.deferContextual(context -> {
+            QueryStats stats = QueryStats.of(context);
+            stats.record("SELECT * FROM class WHERE id = ?", 2_000_000);
+            stats.record("SELECT * FROM class_schedule WHERE class_id = ?", 1_000_000);
+            return Mono.empty();
+        });
+
+        StepVerifier.create(filter.filter(exchange, chain)).verifyComplete();
+
+        assertEquals(List.of("GET /planning/classes/{classId}"), endpoints);
+        assertEquals(2, completed.get(0).getQueryCount());
+        assertEquals(1, meterRegistry.get(QueryTrackingWebFilter.QUERIES_SUMMARY)
+            .tag("uri", "/planning/classes/{classId}").summary().count());
+        assertEquals(2.0, meterRegistry.get(QueryTrackingWebFilter.QUERIES_SUMMARY).summary().totalAmount());
+        assertEquals(3.0, meterRegistry.get(QueryTrackingWebFilter.TIME_TIMER)
+            .tag("method", "GET").timer().totalTime(TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    @DisplayName("filter - Tags exchanges without a matched route as unknown")
+    void testFilter_NoRoute_TagsUnknown() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/missing"));
+
+        StepVerifier.create(filter.filter(exchange, filterExchange -> Mono.empty())).verifyComplete();
+
+        assertEquals(List.of("GET UNKNOWN"), endpoints);
+        assertNotNull(meterRegistry.get(QueryTrackingWebFilter.QUERIES_SUMMARY).tag("uri", "UNKNOWN").summary());
+    }
+
+    @Test
+    @DisplayName("filter - Publishes the stats when the chain fails")
+    void testFilter_ChainError_PublishesStats() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/planning/classes"));
+
+        StepVerifier.create(filter.filter(exchange, filterExchange -> Mono.error(new IllegalStateException("boom"))))
+            .expectError(IllegalStateException.class)
+            .verify();
+
+        assertEquals(1, completed.size());
+    }
+
+    @Test
+    @DisplayName("QueryStats - Groups statements that only differ in literals and IN lists")
+    void testQueryStats_GroupsShapes() {
+        QueryStats stats = new QueryStats("1");
+        stats.record("SELECT * FROM users WHERE id = 4", 1);
+        stats.record("SELECT *  FROM users\n WHERE id = 15", 1);
+        stats.record("SELECT * FROM users WHERE id = 16", 1);
+        stats.record("SELECT * FROM users WHERE email = 'o''neil@example.com'", 1);
+        stats.record("SELECT * FROM class WHERE id IN (?, ?, ?)", 1);
+        stats.record("SELECT * FROM class WHERE id IN (?)", 1);
+
+        Map<String, Integer> shapes = stats.getExecutionsByShape();
+
+        assertEquals(3, shapes.get("SELECT * FROM users WHERE id = ?"));
+        assertEquals(1, shapes.get("SELECT * FROM users WHERE email = ?"));
+        assertEquals(2, shapes.get("SELECT * FROM class WHERE id IN (?)"));
+        assertEquals(Map.entry("SELECT * FROM users WHERE id = ?", 3), stats.getMostRepeatedShape().orElseThrow());
+    }
+
+    @Test
+    @DisplayName("QueryStats - Reads the stats of the exchange from the Reactor context")
+    void testQueryStats_FromContext() {
+        QueryStats stats = new QueryStats("1");
+
+        assertSame(stats, QueryStats.of(Context.of(QueryStats.CONTEXT_KEY, stats)));
+        assertNull(QueryStats.of(Context.empty()));
+    }
+}
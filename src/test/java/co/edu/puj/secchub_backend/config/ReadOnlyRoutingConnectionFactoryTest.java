@@ -0,0 +1,102 @@
+package co.edu.puj.secchub_backend.config;
+
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+/**
+ * Unit tests for ReadOnlyRoutingConnectionFactory.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReadOnlyRoutingConnectionFactory Unit Test")
+class ReadOnlyRoutingConnectionFactoryTest {
+
+    @Mock
+    private ConnectionFactory primary;
+
+    @Mock
+    private ConnectionFactory replica;
+
+    @Mock
+    private ReplicaLagMonitor lagMonitor;
+
+    @Mock
+    private Connection primaryConnection;
+
+    @Mock
+    private Connection replicaConnection;
+
+    private ReadOnlyRoutingConnectionFactory connectionFactory;
+
+    @BeforeEach
+    void setUp() {
+        connectionFactory = new ReadOnlyRoutingConnectionFactory(primary, replica, lagMonitor, Duration.ofSeconds(5));
+    }
+
+    @Test
+    @DisplayName("create - Uses the primary when the pipeline is not read-only")
+    void testCreate_NotReadOnly_UsesPrimary() {
+        doReturn(Mono.just(primaryConnection)).when(primary).create();
+
+        StepVerifier.create(Mono.<Connection>from(connectionFactory.create()))
+            .expectNext(primaryConnection)
+            .verifyComplete();
+
+        verify(replica, never()).create();
+    }
+
+    @Test
+    @DisplayName("create - Uses the replica for read-only pipelines within the allowed lag")
+    void testCreate_ReadOnlyAccepted_UsesReplica() {
+        when(lagMonitor.isAcceptingReads()).thenReturn(true);
+        doReturn(Mono.just(replicaConnection)).when(replica).create();
+
+        StepVerifier.create(ReadOnlyRouting.readOnly(Mono.<Connection>from(connectionFactory.create()), ReadConsistency.EVENTUAL))
+            .expectNext(replicaConnection)
+            .verifyComplete();
+
+        verify(primary, never()).create();
+    }
+
+    @Test
+    @DisplayName("create - Uses the primary for read-your-writes pipelines when the replica lags")
+    void testCreate_ReadYourWritesWithLag_UsesPrimary() {
+        when(lagMonitor.isAcceptingReads()).thenReturn(false);
+        doReturn(Mono.just(primaryConnection)).when(primary).create();
+
+        StepVerifier.create(ReadOnlyRouting.readOnly(Mono.<Connection>from(connectionFactory.create()), ReadConsistency.READ_YOUR_WRITES))
+            .expectNext(primaryConnection)
+            .verifyComplete();
+
+        verify(replica, never()).create();
+    }
+
+    @Test
+    @DisplayName("create - Falls back to the primary and marks the replica unavailable when it fails")
+    void testCreate_ReplicaFailure_FallsBackToPrimary() {
+        when(lagMonitor.isAcceptingReads()).thenReturn(true);
+        doReturn(Mono.error(new IllegalStateException("Connection refused"))).when(replica).create();
+        doReturn(Mono.just(primaryConnection)).when(primary).create();
+
+        StepVerifier.create(ReadOnlyRouting.readOnly(Mono.<Connection>from(connectionFactory.create()), ReadConsistency.EVENTUAL))
+            .expectNext(primaryConnection)
+            .verifyComplete();
+
+        verify(lagMonitor).markUnavailable();
+    }
+}
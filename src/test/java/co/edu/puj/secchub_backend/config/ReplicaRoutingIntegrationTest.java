@@ -0,0 +1,176 @@
+package co.edu.puj.secchub_backend.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Duration;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.Network;
+import org.testcontainers.mysql.MySQLContainer;
+
+import co.edu.puj.secchub_backend.R2dbcTestUtils;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import reactor.core.publisher.Mono;
+
+/**
+ * Integration tests for read-only routing against a GTID-based MySQL source/replica pair.
+ * The source has server id 1 and the replica server id 2, so {@code @@server_id} tells which one served a read.
+ */
+@SpringBootTest
+@DisplayName("Read Replica Routing Integration Test")
+@SuppressWarnings("resource")
+class ReplicaRoutingIntegrationTest {
+
+    private static final String SOURCE_ALIAS = "mysql-source";
+
+    private static final Network NETWORK = Network.newNetwork();
+
+    private static final MySQLContainer SOURCE = new MySQLContainer("mysql:8.4.6")
+            .withNetwork(NETWORK)
+            .withNetworkAliases(SOURCE_ALIAS)
+            .withCommand("--server-id=1", "--log-bin=mysql-bin", "--gtid-mode=ON", "--enforce-gtid-consistency=ON");
+
+    private static final MySQLContainer REPLICA = new MySQLContainer("mysql:8.4.6")
+            .withNetwork(NETWORK)
+            .withCommand("--server-id=2", "--log-bin=mysql-bin", "--gtid-mode=ON", "--enforce-gtid-consistency=ON");
+
+    private static final DatabaseClient SOURCE_ADMIN;
+    private static final DatabaseClient REPLICA_ADMIN;
+
+    static {
+        SOURCE.start();
+        REPLICA.start();
+        ConnectionFactory sourceConnectionFactory = rootConnectionFactory(SOURCE);
+        SOURCE_ADMIN = DatabaseClient.create(sourceConnectionFactory);
+        REPLICA_ADMIN = DatabaseClient.create(rootConnectionFactory(REPLICA));
+
+        // Both entrypoints created the same database and user; skip the source's copies instead of replaying them
+        String sourceGtidsBeforeSchema = executedGtidSet(SOURCE_ADMIN);
+        execute(REPLICA_ADMIN, "RESET BINARY LOGS AND GTIDS");
+        execute(REPLICA_ADMIN, "SET GLOBAL gtid_purged = '" + sourceGtidsBeforeSchema + "'");
+        execute(REPLICA_ADMIN, "CHANGE REPLICATION SOURCE TO SOURCE_HOST = '" + SOURCE_ALIAS + "', SOURCE_PORT = 3306, "
+                + "SOURCE_USER = 'root', SOURCE_PASSWORD = '" + SOURCE.getPassword() + "', "
+                + "SOURCE_AUTO_POSITION = 1, GET_SOURCE_PUBLIC_KEY = 1");
+        execute(REPLICA_ADMIN, "START REPLICA");
+
+        R2dbcTestUtils.executeScripts(sourceConnectionFactory, "/schema.sql", "/init-parameters.sql");
+        waitForReplica(executedGtidSet(SOURCE_ADMIN));
+    }
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.r2dbc.url", () -> r2dbcUrl(SOURCE));
+        registry.add("spring.r2dbc.username", SOURCE::getUsername);
+        registry.add("spring.r2dbc.password", SOURCE::getPassword);
+        registry.add("secchub.r2dbc.replica.enabled", () -> "true");
+        registry.add("secchub.r2dbc.replica.url", () -> r2dbcUrl(REPLICA));
+        // SHOW REPLICA STATUS needs the REPLICATION CLIENT privilege
+        registry.add("secchub.r2dbc.replica.username", () -> "root");
+        registry.add("secchub.r2dbc.replica.password", REPLICA::getPassword);
+    }
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    @Autowired
+    private ReplicaLagMonitor replicaLagMonitor;
+
+    @BeforeEach
+    void setUp() {
+        // Seconds_Behind_Source stays NULL for a moment after replication restarts
+        replicaLagMonitor.refresh().block();
+        for (int attempt = 0; attempt < 20 && !replicaLagMonitor.isAcceptingReads(); attempt++) {
+            Mono.delay(Duration.ofMillis(250)).then(replicaLagMonitor.refresh()).block();
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        execute(REPLICA_ADMIN, "START REPLICA SQL_THREAD");
+    }
+
+    @Test
+    @DisplayName("Read-only pipelines are served by the replica, others by the primary")
+    void testReadOnlyPipeline_UsesReplica() {
+        assertEquals(2L, ReadOnlyRouting.readOnly(serverId(), ReadConsistency.EVENTUAL).block());
+        assertEquals(1L, serverId().block());
+    }
+
+    @Test
+    @DisplayName("Read-your-writes pipelines see a row written just before on the primary")
+    void testReadYourWrites_SeesPrimaryWrite() {
+        String name = "Replica routing " + System.nanoTime();
+        databaseClient.sql("INSERT INTO section (name) VALUES (:name)")
+            .bind("name", name)
+            .then()
+            .block();
+
+        Map<String, Object> row = ReadOnlyRouting.readOnly(
+                databaseClient.sql("SELECT @@server_id AS server_id, COUNT(*) AS sections FROM section WHERE name = :name")
+                    .bind("name", name)
+                    .fetch()
+                    .one(),
+                ReadConsistency.READ_YOUR_WRITES)
+            .block();
+
+        assertEquals(2L, ((Number) row.get("server_id")).longValue());
+        assertEquals(1L, ((Number) row.get("sections")).longValue());
+    }
+
+    @Test
+    @DisplayName("Read-only pipelines fall back to the primary when replication is stopped")
+    void testReplicationStopped_FallsBackToPrimary() {
+        execute(REPLICA_ADMIN, "STOP REPLICA SQL_THREAD");
+        replicaLagMonitor.refresh().block();
+
+        assertEquals(1L, ReadOnlyRouting.readOnly(serverId(), ReadConsistency.EVENTUAL).block());
+    }
+
+    private Mono<Long> serverId() {
+        return databaseClient.sql("SELECT @@server_id AS server_id")
+            .map(row -> row.get("server_id", Long.class))
+            .one();
+    }
+
+    private static String r2dbcUrl(MySQLContainer container) {
+        return container.getJdbcUrl().replace("jdbc:", "r2dbc:");
+    }
+
+    private static ConnectionFactory rootConnectionFactory(MySQLContainer container) {
+        return ConnectionFactories.get(ConnectionFactoryOptions.parse(r2dbcUrl(container)).mutate()
+            .option(ConnectionFactoryOptions.USER, "root")
+            .option(ConnectionFactoryOptions.PASSWORD, container.getPassword())
+            .build());
+    }
+
+    private static void execute(DatabaseClient client, String sql) {
+        client.sql(sql).then().block();
+    }
+
+    private static String executedGtidSet(DatabaseClient client) {
+        return client.sql("SELECT @@GLOBAL.gtid_executed AS gtids")
+            .map(row -> row.get("gtids", String.class))
+            .one()
+            .block();
+    }
+
+    private static void waitForReplica(String gtidSet) {
+        Long timedOut = REPLICA_ADMIN.sql("SELECT WAIT_FOR_EXECUTED_GTID_SET(:gtids, 60) AS timed_out")
+            .bind("gtids", gtidSet)
+            .map(row -> row.get("timed_out", Long.class))
+            .one()
+            .block();
+        assertEquals(0L, timedOut, "Replica did not catch up with the source schema");
+    }
+}
@@ -0,0 +1,123 @@
+package co.edu.puj.secchub_backend.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+/**
+ * Unit tests for ResourceVersions and ResourceVersionAspect.
+ */
+@DisplayName("ResourceVersions Unit Test")
+class ResourceVersionsTest {
+
+    private ResourceVersions resourceVersions;
+
+    @BeforeEach
+    void setUp() {
+        resourceVersions = new ResourceVersions(new ReadModelInvalidations(new LocalCacheInvalidationTransport()));
+    }
+
+    @Test
+    @DisplayName("bump - Changes only the ETag of the bumped family")
+    void testBump_ChangesOnlyBumpedFamily() {
+        String courses = resourceVersions.etag(ResourceFamily.COURSES);
+        String semesters = resourceVersions.etag(ResourceFamily.SEMESTERS);
+
+        assertEquals(1, resourceVersions.bump(ResourceFamily.COURSES));
+
+        assertNotEquals(courses, resourceVersions.etag(ResourceFamily.COURSES));
+        assertEquals(semesters, resourceVersions.etag(ResourceFamily.SEMESTERS));
+        assertTrue(courses.startsWith("\"courses-") && courses.endsWith("-0\""), courses);
+    }
+
+    @Test
+    @DisplayName("bump - Changes the ETag of the family on the other instances")
+    void testBump_ChangesFamilyOnOtherInstances() {
+        LocalCacheInvalidationTransport transport = new LocalCacheInvalidationTransport();
+        ResourceVersions first = listening(transport);
+        ResourceVersions second = listening(transport);
+        String semesters = second.etag(ResourceFamily.SEMESTERS);
+        MockServerWebExchange exchange = MockServerWebExchange.from(
+            MockServerHttpRequest.get("/semesters/current").header(HttpHeaders.IF_NONE_MATCH, semesters));
+
+        first.bump(ResourceFamily.SEMESTERS);
+
+        assertEquals(1, first.getVersion(ResourceFamily.SEMESTERS), "Own bump applied twice");
+        assertEquals(1, second.getVersion(ResourceFamily.SEMESTERS));
+        assertEquals(0, second.getVersion(ResourceFamily.COURSES));
+        assertFalse(second.checkNotModified(exchange, ResourceFamily.SEMESTERS));
+    }
+
+    @Test
+    @DisplayName("checkNotModified - Matching If-None-Match answers 304 with the ETag")
+    void testCheckNotModified_MatchingETag_NotModified() {
+        String etag = resourceVersions.etag(ResourceFamily.PARAMETRIC);
+        MockServerWebExchange exchange = MockServerWebExchange.from(
+            MockServerHttpRequest.get("/parametric/statuses").header(HttpHeaders.IF_NONE_MATCH, etag));
+
+        assertTrue(resourceVersions.checkNotModified(exchange, ResourceFamily.PARAMETRIC));
+        assertEquals(HttpStatus.NOT_MODIFIED, exchange.getResponse().getStatusCode());
+        assertEquals(etag, exchange.getResponse().getHeaders().getETag());
+    }
+
+    @Test
+    @DisplayName("checkNotModified - Stale or missing If-None-Match sets the current ETag and lets the handler run")
+    void testCheckNotModified_StaleETag_Modified() {
+        String stale = resourceVersions.etag(ResourceFamily.CLASSROOMS);
+        resourceVersions.bump(ResourceFamily.CLASSROOMS);
+        MockServerWebExchange staleExchange = MockServerWebExchange.from(
+            MockServerHttpRequest.get("/classrooms").header(HttpHeaders.IF_NONE_MATCH, stale));
+        MockServerWebExchange firstExchange = MockServerWebExchange.from(MockServerHttpRequest.get("/classrooms"));
+
+        assertFalse(resourceVersions.checkNotModified(staleExchange, ResourceFamily.CLASSROOMS));
+        assertFalse(resourceVersions.checkNotModified(firstExchange, ResourceFamily.CLASSROOMS));
+        assertEquals(resourceVersions.etag(ResourceFamily.CLASSROOMS), staleExchange.getResponse().getHeaders().getETag());
+        assertEquals(resourceVersions.etag(ResourceFamily.CLASSROOMS), firstExchange.getResponse().getHeaders().getETag());
+    }
+
+    @Test
+    @DisplayName("ResourceVersionAspect - Bumps the family when the returned Mono terminates, even with an error")
+    void testAspect_BumpsAfterTermination() throws Throwable {
+        ResourceVersionAspect aspect = new ResourceVersionAspect(resourceVersions);
+        ChangesResource changesCourses = mock(ChangesResource.class);
+        when(changesCourses.value()).thenReturn(ResourceFamily.COURSES);
+        ProceedingJoinPoint success = mock(ProceedingJoinPoint.class);
+        when(success.proceed()).thenReturn(Mono.just("saved"));
+        ProceedingJoinPoint failure = mock(ProceedingJoinPoint.class);
+        when(failure.proceed()).thenReturn(Mono.error(new IllegalStateException("rolled back")));
+
+        Mono<Object> saved = Mono.from((Mono<?>) aspect.bumpVersion(success, changesCourses));
+        assertEquals(0, resourceVersions.getVersion(ResourceFamily.COURSES), "Bumped before subscription");
+        StepVerifier.create(saved).expectNext("saved").verifyComplete();
+        assertEquals(1, resourceVersions.getVersion(ResourceFamily.COURSES));
+
+        StepVerifier.create((Mono<?>) aspect.bumpVersion(failure, changesCourses))
+            .expectError(IllegalStateException.class)
+            .verify();
+        assertEquals(2, resourceVersions.getVersion(ResourceFamily.COURSES));
+    }
+
+    /**
+     * Creates versions listening to the shared transport, as the container would.
+     */
+    private static ResourceVersions listening(LocalCacheInvalidationTransport transport) {
+        ResourceVersions versions = new ResourceVersions(new ReadModelInvalidations(transport));
+        versions.listenToRemoteChanges();
+        return versions;
+    }
+}
@@ -0,0 +1,124 @@
+package co.edu.puj.secchub_backend.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+@DisplayName("RowPredicate Unit Test")
+class RowPredicateTest {
+
+    private static final AccessScope ADMIN = new AccessScope(null, Set.of(AccessScope.ROLE_ADMIN), null, null);
+    private static final AccessScope SECTION_HEAD = new AccessScope(50L, Set.of("ROLE_USER"), 3L, null);
+    private static final AccessScope TEACHER = new AccessScope(100L, Set.of(AccessScope.ROLE_TEACHER), null, 10L);
+    private static final AccessScope PROGRAM = new AccessScope(70L, Set.of(AccessScope.ROLE_PROGRAM), null, null);
+
+    @Test
+    @DisplayName("build - Administrators see every row whatever the rules")
+    void testBuild_Admin_IsUnrestricted() {
+        RowPredicate predicate = ADMIN.rows().teachersSeeOwn().bySection().build();
+
+        assertTrue(predicate.isUnrestricted());
+        assertNull(predicate.scopeSectionId());
+        assertNull(predicate.scopeTeacherId());
+    }
+
+    @Test
+    @DisplayName("build - Section heads see the rows of their section")
+    void testBuild_SectionHead_RestrictedBySection() {
+        RowPredicate predicate = SECTION_HEAD.rows().teachersSeeOwn().bySection().build();
+
+        assertEquals(3L, predicate.scopeSectionId());
+        assertNull(predicate.scopeTeacherId());
+        assertNull(predicate.scopeUserId());
+    }
+
+    @Test
+    @DisplayName("build - Teachers see their own rows or every row as declared")
+    void testBuild_Teacher_FollowsTeacherRule() {
+        RowPredicate own = TEACHER.rows().teachersSeeOwn().bySection().build();
+        RowPredicate all = TEACHER.rows().teachersSeeAll().bySection().build();
+
+        assertEquals(10L, own.scopeTeacherId());
+        assertNull(own.scopeSectionId());
+        assertTrue(all.isUnrestricted());
+    }
+
+    @Test
+    @DisplayName("build - Programs see the rows they created")
+    void testBuild_Program_RestrictedByOwner() {
+        RowPredicate predicate = PROGRAM.rows().programsSeeOwn().bySection().build();
+
+        assertEquals(70L, predicate.scopeUserId());
+        assertNull(predicate.scopeSectionId());
+    }
+
+    @Test
+    @DisplayName("build - Users without a matching rule or without the ID the rule needs see no rows")
+    void testBuild_NoMatchingRule_IsDenied() {
+        AccessScope teacherWithoutId = new AccessScope(100L, Set.of(AccessScope.ROLE_TEACHER), null, null);
+
+        assertTrue(AccessScope.anonymous().rows().bySection().build().isDenied());
+        assertTrue(PROGRAM.rows().bySection().build().isDenied());
+        assertTrue(teacherWithoutId.rows().teachersSeeOwn().build().isDenied());
+        assertTrue(SECTION_HEAD.rows().teachersSeeAll().build().isDenied());
+        assertTrue(AccessScope.anonymous().rows().build().isDenied());
+    }
+
+    @Test
+    @DisplayName("count - When denied skips the query and counts no rows")
+    void testCount_Denied_SkipsQuery() {
+        AtomicBoolean queried = new AtomicBoolean();
+
+        StepVerifier.create(AccessScope.anonymous().rows().bySection().build()
+                        .count(predicate -> {
+                            queried.set(true);
+                            return Mono.just(5L);
+                        }))
+                .expectNext(0L)
+                .verifyComplete();
+
+        assertFalse(queried.get());
+    }
+
+    @Test
+    @DisplayName("select - When denied skips the query")
+    void testSelect_Denied_SkipsQuery() {
+        AtomicBoolean queried = new AtomicBoolean();
+
+        StepVerifier.create(AccessScope.anonymous().rows().bySection().build()
+                        .select(predicate -> {
+                            queried.set(true);
+                            return Flux.just(1);
+                        }))
+                .verifyComplete();
+
+        assertFalse(queried.get());
+    }
+
+    @Test
+    @DisplayName("allows - Should check a loaded row with the same rules as the query")
+    void testAllows_ChecksLoadedRow() {
+        RowPredicate bySection = SECTION_HEAD.rows().bySection().build();
+        RowPredicate byTeacher = TEACHER.rows().teachersSeeOwn().build();
+        RowPredicate byOwner = PROGRAM.rows().programsSeeOwn().build();
+
+        StepVerifier.create(bySection.allows(null, null, () -> Mono.just(3L))).expectNext(true).verifyComplete();
+        StepVerifier.create(bySection.allows(null, null, () -> Mono.just(4L))).expectNext(false).verifyComplete();
+        StepVerifier.create(bySection.allows(null, null, Mono::empty)).expectNext(false).verifyComplete();
+        StepVerifier.create(byTeacher.allows(10L, null, () -> Mono.error(new IllegalStateException())))
+                .expectNext(true).verifyComplete();
+        StepVerifier.create(byTeacher.allows(11L, null, Mono::empty)).expectNext(false).verifyComplete();
+        StepVerifier.create(byOwner.allows(null, 70L, Mono::empty)).expectNext(true).verifyComplete();
+    }
+}
@@ -0,0 +1,137 @@
+package co.edu.puj.secchub_backend.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+@DisplayName("SingleFlight Unit Test")
+class SingleFlightTest {
+
+    private final AtomicLong clock = new AtomicLong(1_000_000_000L);
+    private final AtomicInteger computations = new AtomicInteger();
+    private SimpleMeterRegistry meterRegistry;
+    private SingleFlight singleFlight;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        singleFlight = new SingleFlight(Duration.ofSeconds(2), meterRegistry, clock::get);
+    }
+
+    @Test
+    @DisplayName("execute - Concurrent callers of the same key share one computation")
+    void testExecute_SameKeyInFlight_Merged() {
+        Sinks.One<String> result = Sinks.one();
+
+        Mono<String> first = singleFlight.execute("report", 1L, () -> compute(result.asMono()));
+        Mono<String> second = singleFlight.execute("report", 1L, () -> compute(result.asMono()));
+
+        StepVerifier.create(Mono.zip(first, second))
+            .then(() -> result.tryEmitValue("conflicts"))
+            .expectNextMatches(both -> both.getT1().equals("conflicts") && both.getT2().equals("conflicts"))
+            .verifyComplete();
+
+        assertEquals(1, computations.get());
+        assertEquals(1, calls("computed"));
+        assertEquals(1, calls("merged"));
+    }
+
+    @Test
+    @DisplayName("execute - Different keys are computed separately")
+    void testExecute_DifferentKeys_ComputedSeparately() {
+        StepVerifier.create(singleFlight.execute("report", 1L, () -> compute(Mono.just("first"))))
+            .expectNext("first")
+            .verifyComplete();
+        StepVerifier.create(singleFlight.execute("report", 2L, () -> compute(Mono.just("second"))))
+            .expectNext("second")
+            .verifyComplete();
+        StepVerifier.create(singleFlight.execute("summary", 1L, () -> compute(Mono.just("third"))))
+            .expectNext("third")
+            .verifyComplete();
+
+        assertEquals(3, computations.get());
+    }
+
+    @Test
+    @DisplayName("execute - Reuses a completed result only within the reuse window")
+    void testExecute_Completed_ReusedWithinWindow() {
+        singleFlight.execute("report", 1L, () -> compute(Mono.just("old"))).block();
+
+        clock.addAndGet(Duration.ofSeconds(1).toNanos());
+        StepVerifier.create(singleFlight.execute("report", 1L, () -> compute(Mono.just("new"))))
+            .expectNext("old")
+            .verifyComplete();
+        assertEquals(1, calls("hit"));
+
+        clock.addAndGet(Duration.ofSeconds(1).toNanos());
+        StepVerifier.create(singleFlight.execute("report", 1L, () -> compute(Mono.just("new"))))
+            .expectNext("new")
+            .verifyComplete();
+        assertEquals(2, computations.get());
+    }
+
+    @Test
+    @DisplayName("execute - Errors reach the waiting callers but are not reused")
+    void testExecute_Error_NotReused() {
+        Sinks.One<String> result = Sinks.one();
+        Mono<String> first = singleFlight.execute("report", 1L, () -> compute(result.asMono()));
+        Mono<String> second = singleFlight.execute("report", 1L, () -> compute(result.asMono()));
+
+        StepVerifier.create(first.then(second))
+            .then(() -> result.tryEmitError(new IllegalStateException("boom")))
+            .expectError(IllegalStateException.class)
+            .verify();
+
+        StepVerifier.create(singleFlight.execute("report", 1L, () -> compute(Mono.just("retried"))))
+            .expectNext("retried")
+            .verifyComplete();
+        assertEquals(2, computations.get());
+    }
+
+    @Test
+    @DisplayName("execute - The computation completes for the others when the caller that started it cancels")
+    void testExecute_StarterCancelled_OthersGetResult() {
+        Sinks.One<String> result = Sinks.one();
+        singleFlight.execute("report", 1L, () -> compute(result.asMono())).subscribe().dispose();
+
+        StepVerifier.create(singleFlight.execute("report", 1L, () -> compute(Mono.just("recomputed"))))
+            .then(() -> result.tryEmitValue("shared"))
+            .expectNext("shared")
+            .verifyComplete();
+        assertEquals(1, computations.get());
+    }
+
+    @Test
+    @DisplayName("execute - Without a reuse window completed results are dropped")
+    void testExecute_NoReuseWindow_Recomputed() {
+        singleFlight = new SingleFlight(Duration.ZERO, meterRegistry, clock::get);
+
+        singleFlight.execute("report", 1L, () -> compute(Mono.just("first"))).block();
+        StepVerifier.create(singleFlight.execute("report", 1L, () -> compute(Mono.just("second"))))
+            .expectNext("second")
+            .verifyComplete();
+
+        assertEquals(2, computations.get());
+        assertEquals(2, calls("computed"));
+    }
+
+    private Mono<String> compute(Mono<String> result) {
+        computations.incrementAndGet();
+        return result;
+    }
+
+    private double calls(String outcome) {
+        return meterRegistry.get(SingleFlight.CALLS_METRIC).tag("outcome", outcome).counter().count();
+    }
+}
@@ -0,0 +1,37 @@
+package co.edu.puj.secchub_backend.dataset;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import lombok.Data;
+
+/**
+ * Ids of the generated dataset that load test scenarios can target, written as {@code k6-ids.json}.
+ * Lists hold the first ids of the current semester, capped at {@link #SAMPLE_SIZE}.
+ */
+@Data
+public class DatasetIds {
+
+    static final int SAMPLE_SIZE = 1_000;
+
+    private String adminEmail;
+    private Long currentSemesterId;
+    private List<Long> sectionIds = new ArrayList<>();
+    private List<Long> courseIds = new ArrayList<>();
+    private List<Long> classroomIds = new ArrayList<>();
+    private List<Long> teacherIds = new ArrayList<>();
+    private List<Long> classIds = new ArrayList<>();
+    private List<Long> studentApplicationIds = new ArrayList<>();
+    private List<Long> availableStudentApplicationIds = new ArrayList<>();
+    private Set<Long> conflictingClassroomIds = new LinkedHashSet<>();
+    private Set<Long> conflictingTeacherIds = new LinkedHashSet<>();
+
+    static <T> void sample(Collection<T> ids, T id) {
+        if (ids.size() < SAMPLE_SIZE) {
+            ids.add(id);
+        }
+    }
+}
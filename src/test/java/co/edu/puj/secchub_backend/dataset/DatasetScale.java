@@ -0,0 +1,64 @@
+package co.edu.puj.secchub_backend.dataset;
+
+/**
+ * Size and shape of a synthetic dataset. Everything is derived from the number of class schedules so
+ * a single knob scales the whole university consistently.
+ * @param seed Seed of the random generator; the same seed and scale always produce the same rows
+ * @param schedules Approximate number of class schedules across all semesters
+ * @param semesters Number of semesters, the last one is the current semester
+ * @param sections Number of academic sections
+ * @param conflictDensity Fraction of schedules and teacher assignments deliberately placed in conflict, between 0 and 1
+ */
+public record DatasetScale(long seed, int schedules, int semesters, int sections, double conflictDensity) {
+
+    static final int GROUPS_PER_COURSE = 3;
+    static final int SCHEDULES_PER_CLASS = 2;
+    static final int MAX_CLASSES_PER_TEACHER = 4;
+
+    /**
+     * Share of the classroom time slots that is occupied, leaving room to place schedules without conflicts.
+     */
+    private static final double CLASSROOM_OCCUPANCY = 0.8;
+
+    public DatasetScale {
+        if (schedules <= 0 || semesters <= 0 || sections <= 0) {
+            throw new IllegalArgumentException("Schedules, semesters and sections must be positive");
+        }
+        if (conflictDensity < 0 || conflictDensity > 1) {
+            throw new IllegalArgumentException("Conflict density must be between 0 and 1");
+        }
+    }
+
+    /**
+     * @return 50k schedules over 4 semesters and 20 sections with 2% conflicts
+     */
+    public static DatasetScale defaults() {
+        return new DatasetScale(42L, 50_000, 4, 20, 0.02);
+    }
+
+    public int courses() {
+        return Math.max(1, ceilDiv(schedules, semesters * GROUPS_PER_COURSE * SCHEDULES_PER_CLASS));
+    }
+
+    public int classesPerSemester() {
+        return courses() * GROUPS_PER_COURSE;
+    }
+
+    public int classrooms() {
+        double slotsPerClassroom = SyntheticDatasetGenerator.DAYS.length * SyntheticDatasetGenerator.SLOTS_PER_DAY
+            * CLASSROOM_OCCUPANCY;
+        return (int) Math.ceil(classesPerSemester() * SCHEDULES_PER_CLASS / slotsPerClassroom);
+    }
+
+    public int teachers() {
+        return ceilDiv(classesPerSemester(), MAX_CLASSES_PER_TEACHER - 1);
+    }
+
+    public int applicationsPerSemester() {
+        return Math.max(1, classesPerSemester() / 2);
+    }
+
+    private static int ceilDiv(int dividend, int divisor) {
+        return (dividend + divisor - 1) / divisor;
+    }
+}
@@ -0,0 +1,48 @@
+package co.edu.puj.secchub_backend.dataset;
+
+import java.util.List;
+
+/**
+ * Tables written by the synthetic dataset generator, declared in foreign key order.
+ * The columns are the ones filled by the generator; the rest keep their defaults.
+ */
+public enum DatasetTable {
+    USERS("users", "id", "username", "password", "faculty", "name", "last_name", "email",
+        "status_id", "role_id", "document_type_id", "document_number"),
+    SECTION("section", "id", "user_id", "name", "planning_closed"),
+    TEACHER("teacher", "id", "user_id", "employment_type_id", "max_hours"),
+    COURSE("course", "id", "section_id", "name", "credits", "description", "is_valid", "status_id"),
+    SEMESTER("semester", "id", "period", "year", "is_current", "start_date", "end_date", "start_special_week"),
+    CLASSROOM("classroom", "id", "classroom_type_id", "campus", "location", "room", "capacity"),
+    CLASS("class", "id", "section", "course_id", "semester_id", "start_date", "end_date", "observation",
+        "capacity", "status_id"),
+    CLASS_SCHEDULE("class_schedule", "id", "class_id", "classroom_id", "day", "start_time", "end_time",
+        "modality_id", "disability"),
+    TEACHER_CLASS("teacher_class", "id", "semester_id", "teacher_id", "class_id", "work_hours",
+        "full_time_extra_hours", "adjunct_extra_hours", "decision", "status_id", "start_date", "end_date"),
+    STUDENT_APPLICATION("student_application", "id", "user_id", "course_id", "section_id", "semester_id",
+        "program", "student_semester", "academic_average", "personal_email", "was_teaching_assistant",
+        "application_date", "status_id"),
+    STUDENT_APPLICATION_SCHEDULE("student_application_schedule", "id", "student_application_id", "day",
+        "start_time", "end_time"),
+    TEACHING_ASSISTANT("teaching_assistant", "id", "class_id", "student_application_id", "weekly_hours",
+        "weeks", "total_hours"),
+    TEACHING_ASSISTANT_SCHEDULE("teaching_assistant_schedule", "id", "teaching_assistant_id", "day",
+        "start_time", "end_time");
+
+    private final String tableName;
+    private final List<String> columns;
+
+    DatasetTable(String tableName, String... columns) {
+        this.tableName = tableName;
+        this.columns = List.of(columns);
+    }
+
+    public String getTableName() {
+        return tableName;
+    }
+
+    public List<String> getColumns() {
+        return columns;
+    }
+}
@@ -0,0 +1,18 @@
+package co.edu.puj.secchub_backend.dataset;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Receives the rows produced by the synthetic dataset generator as they are generated.
+ */
+public interface DatasetWriter extends Closeable {
+
+    /**
+     * Writes one row.
+     * @param table Table of the row
+     * @param values Values in the order of {@link DatasetTable#getColumns()}
+     * @throws IOException If the row cannot be written
+     */
+    void write(DatasetTable table, Object... values) throws IOException;
+}
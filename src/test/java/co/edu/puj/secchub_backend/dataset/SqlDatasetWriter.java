@@ -0,0 +1,103 @@
+package co.edu.puj.secchub_backend.dataset;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.temporal.TemporalAccessor;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Writes the dataset as a SQL script of multi-row INSERT statements.
+ * Rows are batched per table and flushed when a batch is full, so tables are interleaved in the script;
+ * foreign key checks are disabled while it runs.
+ */
+public class SqlDatasetWriter implements DatasetWriter {
+
+    static final int DEFAULT_BATCH_SIZE = 1_000;
+
+    private final Writer out;
+    private final int batchSize;
+    private final Map<DatasetTable, StringBuilder> batches = new EnumMap<>(DatasetTable.class);
+    private final Map<DatasetTable, Integer> batchRows = new EnumMap<>(DatasetTable.class);
+
+    public SqlDatasetWriter(Path file) throws IOException {
+        this(Files.newBufferedWriter(file, StandardCharsets.UTF_8), DEFAULT_BATCH_SIZE);
+    }
+
+    public SqlDatasetWriter(Writer out, int batchSize) throws IOException {
+        this.out = out instanceof BufferedWriter ? out : new BufferedWriter(out);
+        this.batchSize = batchSize;
+        this.out.write("SET FOREIGN_KEY_CHECKS = 0;\nSET UNIQUE_CHECKS = 0;\n");
+    }
+
+    @Override
+    public void write(DatasetTable table, Object... values) throws IOException {
+        if (values.length != table.getColumns().size()) {
+            throw new IllegalArgumentException("Expected " + table.getColumns().size() + " values for "
+                + table.getTableName() + " but got " + values.length);
+        }
+        StringBuilder batch = batches.computeIfAbsent(table, key -> new StringBuilder());
+        batch.append(batch.isEmpty() ? "" : ",\n").append('(');
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                batch.append(", ");
+            }
+            batch.append(literal(values[i]));
+        }
+        batch.append(')');
+
+        int rows = batchRows.merge(table, 1, Integer::sum);
+        if (rows >= batchSize) {
+            flush(table);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            for (DatasetTable table : DatasetTable.values()) {
+                flush(table);
+            }
+            out.write("SET UNIQUE_CHECKS = 1;\nSET FOREIGN_KEY_CHECKS = 1;\n");
+        } finally {
+            out.close();
+        }
+    }
+
+    private void flush(DatasetTable table) throws IOException {
+        StringBuilder batch = batches.get(table);
+        if (batch == null || batch.isEmpty()) {
+            return;
+        }
+        out.write("INSERT INTO `" + table.getTableName() + "` (" + String.join(", ", table.getColumns()) + ") VALUES\n");
+        out.write(batch.toString());
+        out.write(";\n");
+        batch.setLength(0);
+        batchRows.put(table, 0);
+    }
+
+    /**
+     * Formats a value as a MySQL literal.
+     * @param value Value to format
+     * @return SQL literal
+     */
+    static String literal(Object value) {
+        if (value == null) {
+            return "NULL";
+        }
+        if (value instanceof Boolean bool) {
+            return bool ? "TRUE" : "FALSE";
+        }
+        if (value instanceof Number) {
+            return value.toString();
+        }
+        if (value instanceof TemporalAccessor) {
+            return "'" + value + "'";
+        }
+        return "'" + value.toString().replace("\\", "\\\\").replace("'", "''") + "'";
+    }
+}
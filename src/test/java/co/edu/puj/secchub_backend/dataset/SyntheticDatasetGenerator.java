@@ -0,0 +1,514 @@
+package co.edu.puj.secchub_backend.dataset;
+
+import static co.edu.puj.secchub_backend.dataset.DatasetScale.GROUPS_PER_COURSE;
+import static co.edu.puj.secchub_backend.dataset.DatasetScale.MAX_CLASSES_PER_TEACHER;
+import static co.edu.puj.secchub_backend.dataset.DatasetScale.SCHEDULES_PER_CLASS;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Deterministic generator of a university-scale planning dataset for load tests and benchmarks.
+ * <p>
+ * Writes users, sections, teachers, courses and classrooms, then for each semester the classes with their
+ * schedules, teacher assignments, student applications and teaching assistants. Rows are streamed to a
+ * {@link DatasetWriter} as they are generated; only the calendars of the semester in progress are kept in memory.
+ * <p>
+ * Without conflicts every classroom and teacher is booked at most once per time slot. With
+ * {@link DatasetScale#conflictDensity()} probability a schedule is placed on an already booked classroom
+ * (same start or one hour later), and a class reuses the day and time of another class together with its teacher,
+ * so the conflict reports have work to do at any scale.
+ * <p>
+ * Ids are explicit and start at 1, so the dataset is meant for a database holding only schema.sql and
+ * init-parameters.sql. Every user has the password {@code password}.
+ * Run with {@code mvn -Pdataset process-test-classes -Ddataset.schedules=50000 -Ddataset.format=csv}.
+ */
+public class SyntheticDatasetGenerator {
+
+    static final String[] DAYS = {"Lunes", "Martes", "Miercoles", "Jueves", "Viernes", "Sabado"};
+    static final int SLOTS_PER_DAY = 7;
+    static final int FIRST_HOUR = 7;
+    static final int SLOT_HOURS = 2;
+
+    static final String ADMIN_EMAIL = "admin@secchub.com";
+    static final String SQL_SCRIPT = "dataset.sql";
+    static final String K6_IDS = "k6-ids.json";
+
+    /**
+     * BCrypt hash of "password", the same one used by init-mock-data.sql.
+     */
+    private static final String PASSWORD_HASH = "$2a$10$8y88Ox9NYdBZ/4y.SUr.suOAF3qT0g/zfGQMWLwMRRoUk8p/YjhTq";
+
+    private static final long ACTIVE_STATUS = 1L;
+    private static final long PENDING_STATUS = 4L;
+    private static final long CONFIRMED_STATUS = 8L;
+    private static final long ROLE_ADMIN = 1L;
+    private static final long ROLE_USER = 2L;
+    private static final long ROLE_STUDENT = 3L;
+    private static final long ROLE_TEACHER = 4L;
+    private static final long DOCUMENT_TYPE_CC = 1L;
+    private static final long FULL_TIME = 1L;
+    private static final long PART_TIME = 2L;
+    private static final long ONSITE = 1L;
+    private static final long ONLINE = 2L;
+
+    /**
+     * The current semester is the second period of this year; earlier semesters go backwards from it.
+     */
+    private static final int CURRENT_YEAR = 2026;
+
+    private static final String[] CAMPUSES = {"Main Campus", "North Campus"};
+    private static final String[] PROGRAMS = {
+        "Computer Science", "Information Systems", "Software Engineering", "Electronics", "Industrial Engineering"
+    };
+
+    private final DatasetScale scale;
+    private final SplittableRandom random;
+
+    private final long firstSectionUserId;
+    private final long firstTeacherUserId;
+    private final long firstStudentUserId;
+
+    private long classId;
+    private long classScheduleId;
+    private long teacherClassId;
+    private long applicationId;
+    private long applicationScheduleId;
+    private long teachingAssistantId;
+    private long teachingAssistantScheduleId;
+
+    public SyntheticDatasetGenerator(DatasetScale scale) {
+        this.scale = scale;
+        this.random = new SplittableRandom(scale.seed());
+        this.firstSectionUserId = 2L;
+        this.firstTeacherUserId = firstSectionUserId + scale.sections();
+        this.firstStudentUserId = firstTeacherUserId + scale.teachers();
+    }
+
+    /**
+     * Generates the dataset.
+     * @param writer Destination of the rows
+     * @return Ids for load test scenarios
+     * @throws IOException If a row cannot be written
+     */
+    public DatasetIds generate(DatasetWriter writer) throws IOException {
+        DatasetIds ids = new DatasetIds();
+        ids.setAdminEmail(ADMIN_EMAIL);
+        writeUsers(writer);
+        writeSections(writer, ids);
+        writeTeachers(writer, ids);
+        writeCourses(writer, ids);
+        writeClassrooms(writer, ids);
+        for (long semesterId = 1; semesterId <= scale.semesters(); semesterId++) {
+            writeSemester(writer, semesterId, ids);
+        }
+        return ids;
+    }
+
+    private void writeUsers(DatasetWriter writer) throws IOException {
+        writer.write(DatasetTable.USERS, 1L, "admin", PASSWORD_HASH, null, "Admin", "User", ADMIN_EMAIL,
+            ACTIVE_STATUS, ROLE_ADMIN, DOCUMENT_TYPE_CC, documentNumber(1L));
+        for (int i = 0; i < scale.sections(); i++) {
+            writeUser(writer, firstSectionUserId + i, "section", i + 1, null, ROLE_USER);
+        }
+        for (int i = 0; i < scale.teachers(); i++) {
+            writeUser(writer, firstTeacherUserId + i, "teacher", i + 1, "Engineering", ROLE_TEACHER);
+        }
+        for (int i = 0; i < scale.applicationsPerSemester(); i++) {
+            writeUser(writer, firstStudentUserId + i, "student", i + 1, "Engineering", ROLE_STUDENT);
+        }
+    }
+
+    private void writeUser(DatasetWriter writer, long id, String kind, int number, String faculty, long roleId)
+            throws IOException {
+        String username = kind + number;
+        writer.write(DatasetTable.USERS, id, username, PASSWORD_HASH, faculty,
+            Character.toUpperCase(kind.charAt(0)) + kind.substring(1), "Number " + number, username + "@secchub.com",
+            ACTIVE_STATUS, roleId, DOCUMENT_TYPE_CC, documentNumber(id));
+    }
+
+    private void writeSections(DatasetWriter writer, DatasetIds ids) throws IOException {
+        for (long id = 1; id <= scale.sections(); id++) {
+            writer.write(DatasetTable.SECTION, id, firstSectionUserId + id - 1, "Section " + id, false);
+            DatasetIds.sample(ids.getSectionIds(), id);
+        }
+    }
+
+    private void writeTeachers(DatasetWriter writer, DatasetIds ids) throws IOException {
+        for (long id = 1; id <= scale.teachers(); id++) {
+            boolean fullTime = random.nextInt(10) < 7;
+            writer.write(DatasetTable.TEACHER, id, firstTeacherUserId + id - 1,
+                fullTime ? FULL_TIME : PART_TIME, fullTime ? 40 : 20);
+            DatasetIds.sample(ids.getTeacherIds(), id);
+        }
+    }
+
+    private void writeCourses(DatasetWriter writer, DatasetIds ids) throws IOException {
+        for (long id = 1; id <= scale.courses(); id++) {
+            writer.write(DatasetTable.COURSE, id, sectionOfCourse(id), "Course " + id, 2 + random.nextInt(3),
+                null, true, ACTIVE_STATUS);
+            DatasetIds.sample(ids.getCourseIds(), id);
+        }
+    }
+
+    private void writeClassrooms(DatasetWriter writer, DatasetIds ids) throws IOException {
+        for (long id = 1; id <= scale.classrooms(); id++) {
+            char building = (char) ('A' + (id - 1) % 10);
+            long classroomTypeId = random.nextInt(10) < 7 ? 1L : 2L + random.nextInt(3);
+            writer.write(DatasetTable.CLASSROOM, id, classroomTypeId, CAMPUSES[(int) (id % CAMPUSES.length)],
+                "Building " + building, building + String.valueOf(100 + id), 20 + random.nextInt(41));
+            DatasetIds.sample(ids.getClassroomIds(), id);
+        }
+    }
+
+    private void writeSemester(DatasetWriter writer, long semesterId, DatasetIds ids) throws IOException {
+        boolean current = semesterId == scale.semesters();
+        // Periods alternate between 10 and 30, counting back from the current one
+        int periodIndex = CURRENT_YEAR * 2 + 1 - (int) (scale.semesters() - semesterId);
+        int year = periodIndex / 2;
+        boolean secondPeriod = periodIndex % 2 == 1;
+        LocalDate start = secondPeriod ? LocalDate.of(year, 8, 3) : LocalDate.of(year, 1, 20);
+        LocalDate end = secondPeriod ? LocalDate.of(year, 11, 27) : LocalDate.of(year, 5, 29);
+        writer.write(DatasetTable.SEMESTER, semesterId, secondPeriod ? 30 : 10, year, current, start, end,
+            start.plusWeeks(8));
+        if (current) {
+            ids.setCurrentSemesterId(semesterId);
+        }
+
+        ClassroomCalendar classrooms = new ClassroomCalendar(scale.classrooms(), random);
+        TeacherCalendar teachers = new TeacherCalendar(scale.teachers());
+        List<Booking> bookings = new ArrayList<>(scale.classesPerSemester());
+        long firstClassId = classId + 1;
+        for (long courseId = 1; courseId <= scale.courses(); courseId++) {
+            for (int group = 1; group <= GROUPS_PER_COURSE; group++) {
+                writeClass(writer, new SemesterContext(semesterId, start, end, current), courseId, group,
+                    classrooms, teachers, bookings, ids);
+            }
+        }
+        writeApplications(writer, semesterId, start, current, firstClassId, ids);
+    }
+
+    private void writeClass(DatasetWriter writer, SemesterContext semester, long courseId, int group,
+            ClassroomCalendar classrooms, TeacherCalendar teachers, List<Booking> bookings, DatasetIds ids)
+            throws IOException {
+        long id = ++classId;
+        writer.write(DatasetTable.CLASS, id, (long) group, courseId, semester.id(), semester.start(), semester.end(),
+            null, 20 + random.nextInt(26), ACTIVE_STATUS);
+
+        // Teacher conflict: take the time and teacher of an earlier accepted class, in another classroom.
+        // The conflict report only considers accepted assignments.
+        Booking reused = null;
+        Slot first = null;
+        if (!bookings.isEmpty() && random.nextDouble() < scale.conflictDensity()) {
+            Booking candidate = bookings.get(random.nextInt(bookings.size()));
+            if (candidate.accepted()) {
+                reused = candidate;
+                first = classrooms.bookAt(reused.slot().day(), reused.slot().startHour());
+            }
+        }
+        if (first == null) {
+            reused = null;
+            first = nextSlot(classrooms, -1, semester.current(), ids);
+        }
+        Slot second = nextSlot(classrooms, first.day(), semester.current(), ids);
+
+        long teacherId;
+        if (reused != null) {
+            teacherId = reused.teacherId();
+            if (semester.current()) {
+                DatasetIds.sample(ids.getConflictingTeacherIds(), teacherId);
+            }
+        } else {
+            teacherId = teachers.pickAvailable(random, first, second);
+        }
+        teachers.book(teacherId, first, second);
+        // One in five assignments of the current semester still waits for the teacher's decision
+        boolean accepted = !semester.current() || reused != null || random.nextInt(5) != 0;
+        bookings.add(new Booking(teacherId, first, accepted));
+
+        for (Slot slot : List.of(first, second)) {
+            writer.write(DatasetTable.CLASS_SCHEDULE, ++classScheduleId, id, slot.classroomId(), DAYS[slot.day()],
+                LocalTime.of(slot.startHour(), 0), LocalTime.of(slot.startHour() + SLOT_HOURS, 0),
+                random.nextInt(10) == 0 ? ONLINE : ONSITE, random.nextInt(20) == 0);
+        }
+        writer.write(DatasetTable.TEACHER_CLASS, ++teacherClassId, semester.id(), teacherId, id,
+            SCHEDULES_PER_CLASS * SLOT_HOURS, 0, 0, accepted ? true : null,
+            accepted ? CONFIRMED_STATUS : PENDING_STATUS, semester.start(), semester.end());
+
+        if (semester.current()) {
+            DatasetIds.sample(ids.getClassIds(), id);
+        }
+    }
+
+    /**
+     * Books a classroom slot, double-booking an existing one with the conflict density probability
+     * or when the calendar is full.
+     * @param excludedDay Day already used by the class, -1 for none
+     */
+    private Slot nextSlot(ClassroomCalendar classrooms, int excludedDay, boolean current, DatasetIds ids) {
+        Slot slot = null;
+        if (random.nextDouble() >= scale.conflictDensity()) {
+            slot = classrooms.bookRandom(random, excludedDay);
+        }
+        if (slot != null) {
+            return slot;
+        }
+        Slot booked = classrooms.randomBooked(random);
+        if (booked == null || booked.day() == excludedDay) {
+            Slot free = classrooms.bookRandom(random, excludedDay);
+            if (free != null || booked == null) {
+                return free;
+            }
+        }
+        if (current) {
+            DatasetIds.sample(ids.getConflictingClassroomIds(), booked.classroomId());
+        }
+        return new Slot(booked.classroomId(), booked.day(), booked.startHour() + random.nextInt(2));
+    }
+
+    private void writeApplications(DatasetWriter writer, long semesterId, LocalDate semesterStart, boolean current,
+            long firstClassId, DatasetIds ids) throws IOException {
+        for (int i = 0; i < scale.applicationsPerSemester(); i++) {
+            long id = ++applicationId;
+            long courseId = 1L + random.nextInt(scale.courses());
+            // One in five applications is for a whole section instead of a course
+            boolean sectionApplication = random.nextInt(5) == 0;
+            boolean confirmed = random.nextBoolean();
+            writer.write(DatasetTable.STUDENT_APPLICATION, id, firstStudentUserId + i,
+                sectionApplication ? null : courseId, sectionApplication ? sectionOfCourse(courseId) : null,
+                semesterId, PROGRAMS[random.nextInt(PROGRAMS.length)], 4 + random.nextInt(7),
+                BigDecimal.valueOf(300L + random.nextInt(201), 2), "student" + (i + 1) + "@mail.com",
+                random.nextInt(4) == 0, semesterStart.minusWeeks(3), confirmed ? CONFIRMED_STATUS : PENDING_STATUS);
+
+            List<Slot> availability = new ArrayList<>(SCHEDULES_PER_CLASS);
+            for (int j = 0; j < SCHEDULES_PER_CLASS; j++) {
+                Slot slot = new Slot(0L, random.nextInt(DAYS.length),
+                    FIRST_HOUR + SLOT_HOURS * random.nextInt(SLOTS_PER_DAY));
+                availability.add(slot);
+                writer.write(DatasetTable.STUDENT_APPLICATION_SCHEDULE, ++applicationScheduleId, id,
+                    DAYS[slot.day()], LocalTime.of(slot.startHour(), 0), LocalTime.of(slot.startHour() + SLOT_HOURS, 0));
+            }
+
+            if (confirmed) {
+                long taId = ++teachingAssistantId;
+                long taClassId = firstClassId + (courseId - 1) * GROUPS_PER_COURSE + random.nextInt(GROUPS_PER_COURSE);
+                writer.write(DatasetTable.TEACHING_ASSISTANT, taId, taClassId, id, 10, 16, 160);
+                for (Slot slot : availability) {
+                    writer.write(DatasetTable.TEACHING_ASSISTANT_SCHEDULE, ++teachingAssistantScheduleId, taId,
+                        DAYS[slot.day()], LocalTime.of(slot.startHour(), 0), LocalTime.of(slot.startHour() + SLOT_HOURS, 0));
+                }
+            }
+
+            if (current) {
+                DatasetIds.sample(ids.getStudentApplicationIds(), id);
+                if (!confirmed) {
+                    DatasetIds.sample(ids.getAvailableStudentApplicationIds(), id);
+                }
+            }
+        }
+    }
+
+    private long sectionOfCourse(long courseId) {
+        return (courseId - 1) % scale.sections() + 1;
+    }
+
+    private static String documentNumber(long userId) {
+        return String.valueOf(10_000_000L + userId);
+    }
+
+    /**
+     * Generates a dataset from {@code key=value} arguments: format (sql or csv), output, schedules, semesters,
+     * sections, conflict-density and seed. Defaults come from {@link DatasetScale#defaults()}.
+     */
+    public static void main(String[] args) throws IOException {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (separator < 0) {
+                throw new IllegalArgumentException("Expected key=value but got " + arg);
+            }
+            options.put(arg.substring(0, separator), arg.substring(separator + 1));
+        }
+
+        DatasetScale defaults = DatasetScale.defaults();
+        DatasetScale scale = new DatasetScale(
+            Long.parseLong(options.getOrDefault("seed", String.valueOf(defaults.seed()))),
+            Integer.parseInt(options.getOrDefault("schedules", String.valueOf(defaults.schedules()))),
+            Integer.parseInt(options.getOrDefault("semesters", String.valueOf(defaults.semesters()))),
+            Integer.parseInt(options.getOrDefault("sections", String.valueOf(defaults.sections()))),
+            Double.parseDouble(options.getOrDefault("conflict-density", String.valueOf(defaults.conflictDensity()))));
+        String format = options.getOrDefault("format", "sql");
+        Path output = Files.createDirectories(Path.of(options.getOrDefault("output", "target/dataset")));
+
+        DatasetIds ids;
+        try (DatasetWriter writer = createWriter(format, output)) {
+            ids = new SyntheticDatasetGenerator(scale).generate(writer);
+        }
+        new ObjectMapper().writerWithDefaultPrettyPrinter().writeValue(output.resolve(K6_IDS).toFile(), ids);
+
+        System.out.printf("Generated %d classes and %d schedules per semester over %d semesters (%s) in %s%n",
+            scale.classesPerSemester(), scale.classesPerSemester() * SCHEDULES_PER_CLASS, scale.semesters(),
+            format, output.toAbsolutePath());
+    }
+
+    private static DatasetWriter createWriter(String format, Path output) throws IOException {
+        return switch (format) {
+            case "sql" -> new SqlDatasetWriter(output.resolve(SQL_SCRIPT));
+            case "csv" -> new CsvDatasetWriter(output);
+            default -> throw new IllegalArgumentException("Unknown format " + format + ", expected sql or csv");
+        };
+    }
+
+    /**
+     * Classroom booked on a day at a start hour.
+     */
+    record Slot(long classroomId, int day, int startHour) {
+    }
+
+    private record Booking(long teacherId, Slot slot, boolean accepted) {
+    }
+
+    private record SemesterContext(long id, LocalDate start, LocalDate end, boolean current) {
+    }
+
+    /**
+     * Free classrooms of each day and time slot of a semester, handed out in a shuffled order.
+     */
+    private static final class ClassroomCalendar {
+
+        private static final int RANDOM_ATTEMPTS = 8;
+
+        private final long[][] freeClassrooms;
+        private final int[] nextFree;
+        private final List<Slot> booked = new ArrayList<>();
+
+        ClassroomCalendar(int classrooms, SplittableRandom random) {
+            int dayTimes = DAYS.length * SLOTS_PER_DAY;
+            freeClassrooms = new long[dayTimes][];
+            nextFree = new int[dayTimes];
+            for (int dayTime = 0; dayTime < dayTimes; dayTime++) {
+                long[] ids = new long[classrooms];
+                for (int i = 0; i < classrooms; i++) {
+                    ids[i] = i + 1L;
+                }
+                for (int i = classrooms - 1; i > 0; i--) {
+                    int j = random.nextInt(i + 1);
+                    long swap = ids[i];
+                    ids[i] = ids[j];
+                    ids[j] = swap;
+                }
+                freeClassrooms[dayTime] = ids;
+            }
+        }
+
+        Slot bookAt(int day, int startHour) {
+            return book(day * SLOTS_PER_DAY + (startHour - FIRST_HOUR) / SLOT_HOURS);
+        }
+
+        Slot bookRandom(SplittableRandom random, int excludedDay) {
+            for (int attempt = 0; attempt < RANDOM_ATTEMPTS; attempt++) {
+                int dayTime = random.nextInt(freeClassrooms.length);
+                if (dayTime / SLOTS_PER_DAY != excludedDay && hasFree(dayTime)) {
+                    return book(dayTime);
+                }
+            }
+            for (int dayTime = 0; dayTime < freeClassrooms.length; dayTime++) {
+                if (dayTime / SLOTS_PER_DAY != excludedDay && hasFree(dayTime)) {
+                    return book(dayTime);
+                }
+            }
+            return null;
+        }
+
+        Slot randomBooked(SplittableRandom random) {
+            return booked.isEmpty() ? null : booked.get(random.nextInt(booked.size()));
+        }
+
+        private boolean hasFree(int dayTime) {
+            return nextFree[dayTime] < freeClassrooms[dayTime].length;
+        }
+
+        private Slot book(int dayTime) {
+            if (!hasFree(dayTime)) {
+                return null;
+            }
+            Slot slot = new Slot(freeClassrooms[dayTime][nextFree[dayTime]++], dayTime / SLOTS_PER_DAY,
+                FIRST_HOUR + (dayTime % SLOTS_PER_DAY) * SLOT_HOURS);
+            booked.add(slot);
+            return slot;
+        }
+    }
+
+    /**
+     * Busy hours and class load of each teacher in a semester.
+     */
+    private static final class TeacherCalendar {
+
+        private static final int RANDOM_ATTEMPTS = 32;
+        private static final int HOURS_PER_DAY = 24;
+
+        private final int[] load;
+        private final BitSet[] busyHours;
+
+        TeacherCalendar(int teachers) {
+            load = new int[teachers];
+            busyHours = new BitSet[teachers];
+            for (int i = 0; i < teachers; i++) {
+                busyHours[i] = new BitSet(DAYS.length * HOURS_PER_DAY);
+            }
+        }
+
+        /**
+         * Picks a teacher below the class limit who is free at the given slots,
+         * or a random one when nobody is, which is rare with the derived teacher count.
+         */
+        long pickAvailable(SplittableRandom random, Slot... slots) {
+            for (int attempt = 0; attempt < RANDOM_ATTEMPTS; attempt++) {
+                int teacher = random.nextInt(load.length);
+                if (isAvailable(teacher, slots)) {
+                    return teacher + 1L;
+                }
+            }
+            for (int teacher = 0; teacher < load.length; teacher++) {
+                if (isAvailable(teacher, slots)) {
+                    return teacher + 1L;
+                }
+            }
+            return random.nextInt(load.length) + 1L;
+        }
+
+        void book(long teacherId, Slot... slots) {
+            int teacher = (int) teacherId - 1;
+            load[teacher]++;
+            for (Slot slot : slots) {
+                int from = slot.day() * HOURS_PER_DAY + slot.startHour();
+                busyHours[teacher].set(from, from + SLOT_HOURS);
+            }
+        }
+
+        private boolean isAvailable(int teacher, Slot... slots) {
+            if (load[teacher] >= MAX_CLASSES_PER_TEACHER) {
+                return false;
+            }
+            for (Slot slot : slots) {
+                int from = slot.day() * HOURS_PER_DAY + slot.startHour();
+                if (busyHours[teacher].get(from, from + SLOT_HOURS).cardinality() > 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
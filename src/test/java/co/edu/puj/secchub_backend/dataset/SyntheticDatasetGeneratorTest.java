@@ -0,0 +1,212 @@
+package co.edu.puj.secchub_backend.dataset;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for SyntheticDatasetGenerator and its writers.
+ */
+@DisplayName("SyntheticDatasetGenerator Unit Test")
+class SyntheticDatasetGeneratorTest {
+
+    private static final DatasetScale SMALL_SCALE = new DatasetScale(7L, 1_200, 2, 4, 0.05);
+
+    @Test
+    @DisplayName("generate - The same seed and scale produce the same script")
+    void testGenerate_SameSeed_SameOutput() throws IOException {
+        assertEquals(sqlScript(SMALL_SCALE), sqlScript(SMALL_SCALE));
+        assertNotEquals(sqlScript(SMALL_SCALE),
+            sqlScript(new DatasetScale(8L, SMALL_SCALE.schedules(), SMALL_SCALE.semesters(), SMALL_SCALE.sections(),
+                SMALL_SCALE.conflictDensity())));
+    }
+
+    @Test
+    @DisplayName("generate - Produces the derived row counts with consistent references")
+    void testGenerate_RowCountsAndReferences() throws IOException {
+        Map<DatasetTable, List<Object[]>> rows = generate(SMALL_SCALE);
+
+        int classes = SMALL_SCALE.classesPerSemester() * SMALL_SCALE.semesters();
+        assertEquals(classes, rows.get(DatasetTable.CLASS).size());
+        assertEquals(classes * DatasetScale.SCHEDULES_PER_CLASS, rows.get(DatasetTable.CLASS_SCHEDULE).size());
+        assertEquals(classes, rows.get(DatasetTable.TEACHER_CLASS).size());
+        assertEquals(SMALL_SCALE.semesters(), rows.get(DatasetTable.SEMESTER).size());
+
+        Set<Object> classIds = ids(rows, DatasetTable.CLASS, 0);
+        Set<Object> classroomIds = ids(rows, DatasetTable.CLASSROOM, 0);
+        Set<Object> teacherIds = ids(rows, DatasetTable.TEACHER, 0);
+        Set<Object> applicationIds = ids(rows, DatasetTable.STUDENT_APPLICATION, 0);
+        Set<Object> userIds = ids(rows, DatasetTable.USERS, 0);
+        assertTrue(classIds.containsAll(ids(rows, DatasetTable.CLASS_SCHEDULE, 1)));
+        assertTrue(classroomIds.containsAll(ids(rows, DatasetTable.CLASS_SCHEDULE, 2)));
+        assertTrue(teacherIds.containsAll(ids(rows, DatasetTable.TEACHER_CLASS, 2)));
+        assertTrue(classIds.containsAll(ids(rows, DatasetTable.TEACHING_ASSISTANT, 1)));
+        assertTrue(applicationIds.containsAll(ids(rows, DatasetTable.TEACHING_ASSISTANT, 2)));
+        assertTrue(userIds.containsAll(ids(rows, DatasetTable.STUDENT_APPLICATION, 1)));
+        assertEquals(rows.get(DatasetTable.USERS).size(), rows.get(DatasetTable.USERS).stream()
+            .map(row -> row[6]).distinct().count(), "Emails must be unique");
+    }
+
+    @Test
+    @DisplayName("generate - Without conflict density no classroom or accepted teacher slot is double-booked")
+    void testGenerate_NoConflictDensity_NoOverlaps() throws IOException {
+        DatasetScale scale = new DatasetScale(7L, 1_200, 2, 4, 0);
+        Map<DatasetTable, List<Object[]>> rows = generate(scale);
+
+        assertEquals(0, classroomOverlaps(rows));
+        assertEquals(0, teacherOverlaps(rows));
+    }
+
+    @Test
+    @DisplayName("generate - Conflict density produces classroom and teacher overlaps reported in the k6 ids")
+    void testGenerate_ConflictDensity_ProducesOverlaps() throws IOException {
+        DatasetScale scale = new DatasetScale(7L, 1_200, 2, 4, 0.1);
+        Map<DatasetTable, List<Object[]>> rows = new EnumMap<>(DatasetTable.class);
+        DatasetIds ids = new SyntheticDatasetGenerator(scale).generate(collector(rows));
+
+        assertTrue(classroomOverlaps(rows) > 0);
+        assertTrue(teacherOverlaps(rows) > 0);
+        assertFalse(ids.getConflictingClassroomIds().isEmpty());
+        assertFalse(ids.getConflictingTeacherIds().isEmpty());
+        assertEquals(Long.valueOf(scale.semesters()), ids.getCurrentSemesterId());
+    }
+
+    @Test
+    @DisplayName("DatasetScale - Rejects a conflict density outside 0..1")
+    void testDatasetScale_InvalidDensity_Throws() {
+        assertThrows(IllegalArgumentException.class, () -> new DatasetScale(1L, 100, 1, 1, 1.5));
+    }
+
+    @Test
+    @DisplayName("SqlDatasetWriter - Escapes strings and formats nulls, booleans and times")
+    void testSqlLiteral() {
+        assertEquals("NULL", SqlDatasetWriter.literal(null));
+        assertEquals("TRUE", SqlDatasetWriter.literal(true));
+        assertEquals("'O''Neil \\\\ Co'", SqlDatasetWriter.literal("O'Neil \\ Co"));
+        assertEquals("'08:00'", SqlDatasetWriter.literal(LocalTime.of(8, 0)));
+        assertEquals("42", SqlDatasetWriter.literal(42L));
+    }
+
+    @Test
+    @DisplayName("SqlDatasetWriter - Batches rows into multi-row inserts")
+    void testSqlDatasetWriter_Batches() throws IOException {
+        StringWriter out = new StringWriter();
+        try (SqlDatasetWriter writer = new SqlDatasetWriter(out, 2)) {
+            for (long id = 1; id <= 3; id++) {
+                writer.write(DatasetTable.SECTION, id, null, "Section " + id, false);
+            }
+        }
+
+        String script = out.toString();
+        assertEquals(2, script.split("INSERT INTO `section`", -1).length - 1);
+        assertTrue(script.startsWith("SET FOREIGN_KEY_CHECKS = 0;"));
+        assertTrue(script.endsWith("SET FOREIGN_KEY_CHECKS = 1;\n"));
+    }
+
+    @Test
+    @DisplayName("CsvDatasetWriter - Quotes strings and writes LOAD DATA nulls")
+    void testCsvField() {
+        assertEquals("\\N", CsvDatasetWriter.field(null));
+        assertEquals("1", CsvDatasetWriter.field(true));
+        assertEquals("\"Say \\\"hi\\\"\"", CsvDatasetWriter.field("Say \"hi\""));
+        assertEquals("2026-08-03", CsvDatasetWriter.field(LocalDate.of(2026, 8, 3)));
+    }
+
+    private static String sqlScript(DatasetScale scale) throws IOException {
+        StringWriter out = new StringWriter();
+        try (SqlDatasetWriter writer = new SqlDatasetWriter(out, SqlDatasetWriter.DEFAULT_BATCH_SIZE)) {
+            new SyntheticDatasetGenerator(scale).generate(writer);
+        }
+        return out.toString();
+    }
+
+    private static Map<DatasetTable, List<Object[]>> generate(DatasetScale scale) throws IOException {
+        Map<DatasetTable, List<Object[]>> rows = new EnumMap<>(DatasetTable.class);
+        new SyntheticDatasetGenerator(scale).generate(collector(rows));
+        return rows;
+    }
+
+    private static DatasetWriter collector(Map<DatasetTable, List<Object[]>> rows) {
+        return new DatasetWriter() {
+            @Override
+            public void write(DatasetTable table, Object... values) {
+                assertEquals(table.getColumns().size(), values.length, table.getTableName());
+                rows.computeIfAbsent(table, key -> new ArrayList<>()).add(values);
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+    }
+
+    private static Set<Object> ids(Map<DatasetTable, List<Object[]>> rows, DatasetTable table, int column) {
+        return rows.get(table).stream().map(row -> row[column]).collect(Collectors.toSet());
+    }
+
+    /**
+     * Counts pairs of schedules of different classes sharing a classroom at overlapping times.
+     */
+    private static long classroomOverlaps(Map<DatasetTable, List<Object[]>> rows) {
+        Map<Object, Object> semesterByClass = rows.get(DatasetTable.CLASS).stream()
+            .collect(Collectors.toMap(row -> row[0], row -> row[3]));
+        Map<List<Object>, List<Object[]>> byClassroomDay = rows.get(DatasetTable.CLASS_SCHEDULE).stream()
+            .collect(Collectors.groupingBy(row -> List.of(semesterByClass.get(row[1]), row[2], row[3])));
+        return overlaps(byClassroomDay, 1, 4);
+    }
+
+    /**
+     * Counts pairs of schedules of different accepted classes of a teacher at overlapping times.
+     */
+    private static long teacherOverlaps(Map<DatasetTable, List<Object[]>> rows) {
+        Map<Object, Object[]> assignmentByClass = rows.get(DatasetTable.TEACHER_CLASS).stream()
+            .filter(row -> Boolean.TRUE.equals(row[7]))
+            .collect(Collectors.toMap(row -> row[3], row -> row));
+        Map<List<Object>, List<Object[]>> byTeacherDay = new HashMap<>();
+        for (Object[] schedule : rows.get(DatasetTable.CLASS_SCHEDULE)) {
+            Object[] assignment = assignmentByClass.get(schedule[1]);
+            if (assignment != null) {
+                byTeacherDay.computeIfAbsent(List.of(assignment[1], assignment[2], schedule[3]), key -> new ArrayList<>())
+                    .add(schedule);
+            }
+        }
+        return overlaps(byTeacherDay, 1, 4);
+    }
+
+    private static long overlaps(Map<List<Object>, List<Object[]>> groups, int classColumn, int startColumn) {
+        long overlaps = 0;
+        for (List<Object[]> schedules : groups.values()) {
+            for (int i = 0; i < schedules.size(); i++) {
+                for (int j = i + 1; j < schedules.size(); j++) {
+                    Object[] a = schedules.get(i);
+                    Object[] b = schedules.get(j);
+                    LocalTime startA = (LocalTime) a[startColumn];
+                    LocalTime endA = (LocalTime) a[startColumn + 1];
+                    LocalTime startB = (LocalTime) b[startColumn];
+                    LocalTime endB = (LocalTime) b[startColumn + 1];
+                    if (!a[classColumn].equals(b[classColumn]) && startA.isBefore(endB) && endA.isAfter(startB)) {
+                        overlaps++;
+                    }
+                }
+            }
+        }
+        return overlaps;
+    }
+}
@@ -683,7 +683,9 @@ class AcademicRequestControllerIntegrationTest extends DatabaseContainerIntegrat
                 .contentType(MediaType.APPLICATION_JSON)
                 .bodyValue(requestBody)
                 .exchange()
-                .expectStatus().isOk();
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.updated").isNumber();
 
         // Verify both marked as accepted
         Long acceptedCount = databaseClient.sql("SELECT COUNT(*) FROM academic_request WHERE id IN (1, 4) AND accepted = true")
@@ -708,7 +710,9 @@ class AcademicRequestControllerIntegrationTest extends DatabaseContainerIntegrat
                 .contentType(MediaType.APPLICATION_JSON)
                 .bodyValue(requestBody)
                 .exchange()
-                .expectStatus().isOk();
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.updated").isNumber();
 
         // Verify both marked as combined
         Long combinedCount = databaseClient.sql("SELECT COUNT(*) FROM academic_request WHERE id IN (1, 4) AND combined = true")
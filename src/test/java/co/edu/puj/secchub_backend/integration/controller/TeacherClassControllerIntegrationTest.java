@@ -588,6 +588,30 @@ class TeacherClassControllerIntegrationTest extends DatabaseContainerIntegration
         assertEquals(java.time.LocalDate.of(2025, 6, 1), response.getEndDate());
     }
 
+    @Test
+    @DisplayName("GET /teachers/workload/section/{sectionId} - Section head can read the workloads of their section")
+    void getSectionTeacherWorkloads_ownSection_shouldSucceed() {
+        String token = jwtTokenProvider.generateToken("testUser@example.com", "ROLE_USER");
+
+        webTestClient.get()
+                .uri("/teachers/workload/section/{sectionId}", 1L)
+                .header("Authorization", "Bearer " + token)
+                .exchange()
+                .expectStatus().isOk();
+    }
+
+    @Test
+    @DisplayName("GET /teachers/workload/section/{sectionId} - Section head cannot read the workloads of another section")
+    void getSectionTeacherWorkloads_otherSection_shouldReturn403() {
+        String token = jwtTokenProvider.generateToken("testUser@example.com", "ROLE_USER");
+
+        webTestClient.get()
+                .uri("/teachers/workload/section/{sectionId}", 2L)
+                .header("Authorization", "Bearer " + token)
+                .exchange()
+                .expectStatus().isForbidden();
+    }
+
     @Test
     @DisplayName("PATCH /teachers/classes/{teacherClassId}/dates - Teacher cannot update dates")
     void updateTeachingDates_asTeacher_shouldReturn403() {
@@ -4,8 +4,10 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
@@ -29,6 +31,9 @@ import org.springframework.security.core.context.ReactiveSecurityContextHolder;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.transaction.reactive.TransactionalOperator;
 
+import co.edu.puj.secchub_backend.admin.contract.AdminModuleAccessScopeContract;
+import co.edu.puj.secchub_backend.admin.contract.AdminModuleTeacherContract;
+import co.edu.puj.secchub_backend.admin.service.AccessScopeService;
 import co.edu.puj.secchub_backend.admin.contract.AdminModuleCourseContract;
 import co.edu.puj.secchub_backend.admin.contract.AdminModuleSectionContract;
 import co.edu.puj.secchub_backend.admin.contract.AdminModuleSemesterContract;
@@ -44,7 +49,9 @@ import co.edu.puj.secchub_backend.integration.exception.AcademicRequestServerErr
 import co.edu.puj.secchub_backend.integration.exception.RequestScheduleNotFound;
 import co.edu.puj.secchub_backend.integration.model.AcademicRequest;
 import co.edu.puj.secchub_backend.integration.model.RequestSchedule;
+import co.edu.puj.secchub_backend.integration.repository.AcademicRequestBatchRepository;
 import co.edu.puj.secchub_backend.integration.repository.AcademicRequestRepository;
+import co.edu.puj.secchub_backend.integration.repository.BulkStatusTransitionRepository;
 import co.edu.puj.secchub_backend.integration.repository.RequestScheduleRepository;
 import co.edu.puj.secchub_backend.security.contract.SecurityModuleUserContract;
 import co.edu.puj.secchub_backend.security.contract.UserInformationResponseDTO;
@@ -64,6 +71,10 @@ class AcademicRequestServiceTest {
     @Mock
     private RequestScheduleRepository requestScheduleRepository;
     @Mock
+    private AcademicRequestBatchRepository academicRequestBatchRepository;
+    @Mock
+    private BulkStatusTransitionRepository bulkStatusTransitionRepository;
+    @Mock
     private SecurityModuleUserContract userService;
     @Mock
     private AdminModuleSemesterContract semesterService;
@@ -72,6 +83,9 @@ class AcademicRequestServiceTest {
     @Mock
     private AdminModuleSectionContract sectionService;
 
+    @Mock
+    private AdminModuleAccessScopeContract accessScopeService;
+
     @InjectMocks
     private AcademicRequestService academicRequestService;
 
@@ -86,6 +100,9 @@ class AcademicRequestServiceTest {
 
     @BeforeEach
     void setUp() {
+        AccessScopeService accessScopes = new AccessScopeService(userService, sectionService, mock(AdminModuleTeacherContract.class));
+        lenient().when(accessScopeService.getCurrentAccessScope()).thenAnswer(invocation -> accessScopes.getCurrentAccessScope());
+
         // Set up test request
         testRequest = AcademicRequest.builder()
                 .id(1L)
@@ -192,7 +209,7 @@ class AcademicRequestServiceTest {
         userInfo.setName("Test");
         userInfo.setLastName("User");
 
-        lenient().when(userService.getUserInformationByEmail(email)).thenReturn(Mono.just(userInfo));
+        lenient().when(userService.getUserInformationByEmails(List.of(email))).thenReturn(Flux.just(userInfo));
     }
 
     // ==================== CREATE BATCH TESTS ====================
@@ -211,12 +228,12 @@ class AcademicRequestServiceTest {
 
         when(semesterService.getCurrentSemesterId()).thenReturn(Mono.just(1L));
         when(modelMapper.map(testRequestDTO, AcademicRequest.class)).thenReturn(testRequest);
-        when(academicRequestRepository.save(any(AcademicRequest.class))).thenReturn(Mono.just(testRequest));
+        when(academicRequestBatchRepository.insertAll(anyList())).thenReturn(Flux.just(testRequest));
         when(modelMapper.map(testScheduleRequestDTO, RequestSchedule.class)).thenReturn(testSchedule);
-        when(requestScheduleRepository.save(any(RequestSchedule.class))).thenReturn(Mono.just(testSchedule));
+        when(academicRequestBatchRepository.insertAllSchedules(anyList())).thenReturn(Flux.just(testSchedule));
         when(modelMapper.map(testSchedule, RequestScheduleResponseDTO.class)).thenReturn(testScheduleResponseDTO);
         when(modelMapper.map(testRequest, AcademicRequestResponseDTO.class)).thenReturn(testRequestResponseDTO);
-        when(courseService.getCourseName(10L)).thenReturn(Mono.just("Test Course"));
+        when(courseService.getCourseNames(List.of(10L))).thenReturn(Mono.just(Map.of(10L, "Test Course")));
 
         List<AcademicRequestResponseDTO> result = academicRequestService.createAcademicRequestBatch(batchDTO)
                 .collectList()
@@ -224,8 +241,13 @@ class AcademicRequestServiceTest {
 
         assertNotNull(result);
         assertEquals(1, result.size());
-        verify(academicRequestRepository).save(any(AcademicRequest.class));
-        verify(requestScheduleRepository).save(any(RequestSchedule.class));
+        assertEquals("Test Course", result.get(0).getCourseName());
+        assertEquals("Test User", result.get(0).getUserName());
+        assertEquals(1, result.get(0).getSchedules().size());
+        verify(academicRequestBatchRepository).insertAll(anyList());
+        verify(academicRequestBatchRepository).insertAllSchedules(argThat(schedules -> schedules.size() == 1));
+        verify(academicRequestRepository, never()).save(any(AcademicRequest.class));
+        verify(requestScheduleRepository, never()).save(any(RequestSchedule.class));
     }
 
     @Test
@@ -241,9 +263,10 @@ class AcademicRequestServiceTest {
 
         when(semesterService.getCurrentSemesterId()).thenReturn(Mono.just(1L));
         when(modelMapper.map(testRequestDTO, AcademicRequest.class)).thenReturn(testRequest);
-        when(academicRequestRepository.save(any(AcademicRequest.class))).thenReturn(Mono.just(testRequest));
+        when(academicRequestBatchRepository.insertAll(anyList())).thenReturn(Flux.just(testRequest));
+        when(academicRequestBatchRepository.insertAllSchedules(anyList())).thenReturn(Flux.empty());
         when(modelMapper.map(testRequest, AcademicRequestResponseDTO.class)).thenReturn(testRequestResponseDTO);
-        when(courseService.getCourseName(10L)).thenReturn(Mono.just("Test Course"));
+        when(courseService.getCourseNames(List.of(10L))).thenReturn(Mono.just(Map.of(10L, "Test Course")));
 
         List<AcademicRequestResponseDTO> result = academicRequestService.createAcademicRequestBatch(batchDTO)
                 .collectList()
@@ -251,10 +274,107 @@ class AcademicRequestServiceTest {
 
         assertNotNull(result);
         assertEquals(1, result.size());
-        verify(academicRequestRepository).save(any(AcademicRequest.class));
+        verify(academicRequestBatchRepository).insertAll(anyList());
+        verify(academicRequestBatchRepository).insertAllSchedules(argThat(List::isEmpty));
         verify(requestScheduleRepository, never()).saveAll(anyList());
     }
 
+    @Test
+    @DisplayName("createAcademicRequestBatch - Should handle 1,000 requests with one insert per table and one name lookup")
+    void testCreateAcademicRequestBatch_ThousandRequests_UsesBatchedWrites() {
+        setUpUserMocking(null);
+
+        int requestCount = 1000;
+        int schedulesPerRequest = 3;
+
+        when(transactionalOperator.transactional(ArgumentMatchers.<Flux<AcademicRequest>>any())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(userService.getUserIdByEmail("admin@test.com")).thenReturn(Mono.just(100L));
+        when(semesterService.getCurrentSemesterId()).thenReturn(Mono.just(1L));
+
+        List<AcademicRequestRequestDTO> requestDTOs = new ArrayList<>();
+        for (int i = 0; i < requestCount; i++) {
+            AcademicRequestRequestDTO requestDTO = new AcademicRequestRequestDTO();
+            requestDTO.setCourseId((long) (i % 20) + 1);
+            requestDTO.setCapacity(30);
+            List<RequestScheduleRequestDTO> scheduleDTOs = new ArrayList<>();
+            for (int j = 0; j < schedulesPerRequest; j++) {
+                RequestScheduleRequestDTO scheduleDTO = new RequestScheduleRequestDTO();
+                scheduleDTO.setDay("Monday");
+                scheduleDTO.setStartTime(String.format("%02d:00", 8 + j * 2));
+                scheduleDTO.setEndTime(String.format("%02d:00", 10 + j * 2));
+                scheduleDTOs.add(scheduleDTO);
+            }
+            requestDTO.setSchedules(scheduleDTOs);
+            requestDTOs.add(requestDTO);
+        }
+        AcademicRequestBatchRequestDTO batchDTO = new AcademicRequestBatchRequestDTO();
+        batchDTO.setRequests(requestDTOs);
+
+        when(modelMapper.map(any(AcademicRequestRequestDTO.class), eq(AcademicRequest.class))).thenAnswer(invocation -> {
+            AcademicRequestRequestDTO source = invocation.getArgument(0);
+            return AcademicRequest.builder().courseId(source.getCourseId()).capacity(source.getCapacity()).build();
+        });
+        when(modelMapper.map(any(RequestScheduleRequestDTO.class), eq(RequestSchedule.class))).thenAnswer(invocation -> {
+            RequestScheduleRequestDTO source = invocation.getArgument(0);
+            return RequestSchedule.builder().day(source.getDay()).build();
+        });
+        when(modelMapper.map(any(AcademicRequest.class), eq(AcademicRequestResponseDTO.class))).thenAnswer(invocation -> {
+            AcademicRequest source = invocation.getArgument(0);
+            AcademicRequestResponseDTO responseDTO = new AcademicRequestResponseDTO();
+            responseDTO.setId(source.getId());
+            responseDTO.setCourseId(source.getCourseId());
+            return responseDTO;
+        });
+        when(modelMapper.map(any(RequestSchedule.class), eq(RequestScheduleResponseDTO.class))).thenAnswer(invocation -> {
+            RequestSchedule source = invocation.getArgument(0);
+            RequestScheduleResponseDTO responseDTO = new RequestScheduleResponseDTO();
+            responseDTO.setId(source.getId());
+            responseDTO.setAcademicRequestId(source.getAcademicRequestId());
+            return responseDTO;
+        });
+        when(academicRequestBatchRepository.insertAll(anyList())).thenAnswer(invocation -> {
+            List<AcademicRequest> requests = invocation.getArgument(0);
+            for (int i = 0; i < requests.size(); i++) {
+                requests.get(i).setId(1000L + i);
+            }
+            return Flux.fromIterable(requests);
+        });
+        when(academicRequestBatchRepository.insertAllSchedules(anyList())).thenAnswer(invocation -> {
+            List<RequestSchedule> schedules = invocation.getArgument(0);
+            for (int i = 0; i < schedules.size(); i++) {
+                schedules.get(i).setId(5000L + i);
+            }
+            return Flux.fromIterable(schedules);
+        });
+        Map<Long, String> courseNames = new HashMap<>();
+        for (long courseId = 1; courseId <= 20; courseId++) {
+            courseNames.put(courseId, "Course " + courseId);
+        }
+        when(courseService.getCourseNames(anyCollection())).thenReturn(Mono.just(courseNames));
+
+        List<AcademicRequestResponseDTO> result = assertTimeout(Duration.ofSeconds(10), () ->
+                academicRequestService.createAcademicRequestBatch(batchDTO)
+                        .collectList()
+                        .block());
+
+        assertNotNull(result);
+        assertEquals(requestCount, result.size());
+        for (int i = 0; i < requestCount; i++) {
+            AcademicRequestResponseDTO response = result.get(i);
+            assertEquals(1000L + i, response.getId());
+            assertEquals("Course " + response.getCourseId(), response.getCourseName());
+            assertEquals("Test User", response.getUserName());
+            assertEquals(schedulesPerRequest, response.getSchedules().size());
+            assertTrue(response.getSchedules().stream().allMatch(schedule -> schedule.getAcademicRequestId().equals(response.getId())));
+        }
+
+        verify(academicRequestBatchRepository, times(1)).insertAll(argThat(requests -> requests.size() == requestCount));
+        verify(academicRequestBatchRepository, times(1)).insertAllSchedules(argThat(schedules -> schedules.size() == requestCount * schedulesPerRequest));
+        verify(courseService, times(1)).getCourseNames(argThat(courseIds -> courseIds.size() == 20));
+        verify(userService, times(1)).getUserInformationByEmails(List.of("admin@test.com"));
+        verify(courseService, never()).getCourseName(anyLong());
+    }
+
     @Test
     @DisplayName("createAcademicRequestBatch - When semester service fails throws exception")
     void testCreateAcademicRequestBatch_SemesterServiceFails_ThrowsException() {
@@ -277,7 +397,7 @@ class AcademicRequestServiceTest {
         setUpUserMocking(null);
 
         when(semesterService.getCurrentSemesterId()).thenReturn(Mono.just(1L));
-        when(academicRequestRepository.findBySemesterId(1L)).thenReturn(Flux.just(testRequest));
+        when(academicRequestRepository.findVisibleBySemesterId(1L, null, null)).thenReturn(Flux.just(testRequest));
         when(requestScheduleRepository.findByAcademicRequestId(1L)).thenReturn(Flux.just(testSchedule));
         when(modelMapper.map(testSchedule, RequestScheduleResponseDTO.class)).thenReturn(testScheduleResponseDTO);
         when(modelMapper.map(testRequest, AcademicRequestResponseDTO.class)).thenReturn(testRequestResponseDTO);
@@ -289,7 +409,7 @@ class AcademicRequestServiceTest {
 
         assertNotNull(result);
         assertEquals(1, result.size());
-        verify(academicRequestRepository).findBySemesterId(1L);
+        verify(academicRequestRepository).findVisibleBySemesterId(1L, null, null);
     }
 
     @Test
@@ -299,8 +419,7 @@ class AcademicRequestServiceTest {
 
         when(userService.getUserIdByEmail("section@test.com")).thenReturn(Mono.just(100L));
         when(semesterService.getCurrentSemesterId()).thenReturn(Mono.just(1L));
-        when(academicRequestRepository.findBySemesterId(1L)).thenReturn(Flux.just(testRequest));
-        when(courseService.getCourseSectionId(10L)).thenReturn(Mono.just(1L));
+        when(academicRequestRepository.findVisibleBySemesterId(1L, null, 1L)).thenReturn(Flux.just(testRequest));
         when(requestScheduleRepository.findByAcademicRequestId(1L)).thenReturn(Flux.just(testSchedule));
         when(modelMapper.map(testSchedule, RequestScheduleResponseDTO.class)).thenReturn(testScheduleResponseDTO);
         when(modelMapper.map(testRequest, AcademicRequestResponseDTO.class)).thenReturn(testRequestResponseDTO);
@@ -321,8 +440,7 @@ class AcademicRequestServiceTest {
 
         when(userService.getUserIdByEmail("section@test.com")).thenReturn(Mono.just(100L));
         when(semesterService.getCurrentSemesterId()).thenReturn(Mono.just(1L));
-        when(academicRequestRepository.findBySemesterId(1L)).thenReturn(Flux.just(testRequest));
-        when(courseService.getCourseSectionId(10L)).thenReturn(Mono.just(1L));
+        when(academicRequestRepository.findVisibleBySemesterId(1L, null, 2L)).thenReturn(Flux.empty());
 
         List<AcademicRequestResponseDTO> result = academicRequestService.findCurrentSemesterAcademicRequests()
                 .collectList()
@@ -337,7 +455,7 @@ class AcademicRequestServiceTest {
     void testFindAllAcademicRequests_Admin_ReturnsRequests() {
         setUpUserMocking(null);
 
-        when(academicRequestRepository.findAll()).thenReturn(Flux.just(testRequest));
+        when(academicRequestRepository.findAllVisible(null, null)).thenReturn(Flux.just(testRequest));
         when(requestScheduleRepository.findByAcademicRequestId(1L)).thenReturn(Flux.just(testSchedule));
         when(modelMapper.map(testSchedule, RequestScheduleResponseDTO.class)).thenReturn(testScheduleResponseDTO);
         when(modelMapper.map(testRequest, AcademicRequestResponseDTO.class)).thenReturn(testRequestResponseDTO);
@@ -349,7 +467,28 @@ class AcademicRequestServiceTest {
 
         assertNotNull(result);
         assertEquals(1, result.size());
-        verify(academicRequestRepository).findAll();
+        verify(academicRequestRepository).findAllVisible(null, null);
+    }
+
+    @Test
+    @DisplayName("findAllAcademicRequests - Should resolve the user name once for the whole list")
+    void testFindAllAcademicRequests_ResolvesUserNameOnce() {
+        setUpUserMocking(null);
+
+        when(academicRequestRepository.findAllVisible(null, null)).thenReturn(Flux.just(testRequest, testRequest, testRequest));
+        when(requestScheduleRepository.findByAcademicRequestId(1L)).thenReturn(Flux.just(testSchedule));
+        when(modelMapper.map(testSchedule, RequestScheduleResponseDTO.class)).thenReturn(testScheduleResponseDTO);
+        when(modelMapper.map(testRequest, AcademicRequestResponseDTO.class)).thenReturn(testRequestResponseDTO);
+        when(courseService.getCourseName(10L)).thenReturn(Mono.just("Test Course"));
+
+        List<AcademicRequestResponseDTO> result = academicRequestService.findAllAcademicRequests()
+                .collectList()
+                .block();
+
+        assertNotNull(result);
+        assertEquals(3, result.size());
+        assertEquals("Test User", result.get(0).getUserName());
+        verify(userService, times(1)).getUserInformationByEmails(List.of("admin@test.com"));
     }
 
     @Test
@@ -611,36 +750,50 @@ class AcademicRequestServiceTest {
     @DisplayName("markMultipleAsAccepted - Should mark multiple requests as accepted")
     void testMarkMultipleAsAccepted_Success() {
         List<Long> ids = Arrays.asList(1L, 2L);
-        AcademicRequest request2 = AcademicRequest.builder().id(2L).build();
 
-        when(academicRequestRepository.findAllById(ids)).thenReturn(Flux.just(testRequest, request2));
-        when(academicRequestRepository.saveAll(anyList())).thenReturn(Flux.just(testRequest, request2));
+        when(bulkStatusTransitionRepository.markAcademicRequestsAccepted(ids)).thenReturn(Mono.just(2L));
 
-        academicRequestService.markMultipleAsAccepted(ids).block();
+        Long updated = academicRequestService.markMultipleAsAccepted(ids).block();
 
-        verify(academicRequestRepository).saveAll(anyList());
+        assertEquals(2L, updated);
+        verify(bulkStatusTransitionRepository).markAcademicRequestsAccepted(ids);
+        verify(academicRequestRepository, never()).findAllById(anyList());
+        verify(academicRequestRepository, never()).saveAll(anyList());
     }
 
     @Test
     @DisplayName("markMultipleAsCombined - Should mark multiple requests as combined")
     void testMarkMultipleAsCombined_Success() {
         List<Long> ids = Arrays.asList(1L, 2L);
-        AcademicRequest request2 = AcademicRequest.builder().id(2L).build();
 
-        when(academicRequestRepository.findAllById(ids)).thenReturn(Flux.just(testRequest, request2));
-        when(academicRequestRepository.saveAll(anyList())).thenReturn(Flux.just(testRequest, request2));
+        when(bulkStatusTransitionRepository.markAcademicRequestsCombined(ids)).thenReturn(Mono.just(2L));
 
-        academicRequestService.markMultipleAsCombined(ids).block();
+        Long updated = academicRequestService.markMultipleAsCombined(ids).block();
 
-        verify(academicRequestRepository).saveAll(anyList());
+        assertEquals(2L, updated);
+        verify(bulkStatusTransitionRepository).markAcademicRequestsCombined(ids);
+        verify(academicRequestRepository, never()).saveAll(anyList());
     }
 
     @Test
-    @DisplayName("markMultipleAsAccepted - When empty list returns empty")
+    @DisplayName("markMultipleAsAccepted - When empty list returns zero")
     void testMarkMultipleAsAccepted_EmptyList_ReturnsEmpty() {
-        academicRequestService.markMultipleAsAccepted(List.of()).block();
+        Long updated = academicRequestService.markMultipleAsAccepted(List.of()).block();
 
-        verify(academicRequestRepository, never()).findAllById(anyList());
+        assertEquals(0L, updated);
+        verify(bulkStatusTransitionRepository, never()).markAcademicRequestsAccepted(anyCollection());
+    }
+
+    @Test
+    @DisplayName("markMultipleAsAccepted - When bulk update fails throws exception")
+    void testMarkMultipleAsAccepted_UpdateFails_ThrowsException() {
+        List<Long> ids = Arrays.asList(1L, 2L);
+
+        when(bulkStatusTransitionRepository.markAcademicRequestsAccepted(ids)).thenReturn(Mono.error(new RuntimeException("DB error")));
+
+        Mono<Long> result = academicRequestService.markMultipleAsAccepted(ids);
+
+        assertThrows(AcademicRequestServerErrorException.class, result::block);
     }
 
     // ==================== PROCESS PLANNING TESTS ====================
@@ -656,13 +809,15 @@ class AcademicRequestServiceTest {
         combinedRequest.setCupos(50);
         planningDTO.setCombinedRequests(List.of(combinedRequest));
 
-        when(academicRequestRepository.findById(anyLong())).thenReturn(Mono.just(testRequest));
-        when(academicRequestRepository.save(any(AcademicRequest.class))).thenReturn(Mono.just(testRequest));
+        when(bulkStatusTransitionRepository.appendAcademicRequestObservation(eq(Arrays.asList(1L, 2L)), anyString()))
+                .thenReturn(Mono.just(2L));
 
         Map<String, Object> result = academicRequestService.processPlanningRequests(planningDTO).block();
 
         assertNotNull(result);
         assertTrue((Boolean) result.get("success"));
-        verify(academicRequestRepository, atLeastOnce()).save(any(AcademicRequest.class));
+        verify(bulkStatusTransitionRepository).appendAcademicRequestObservation(
+                eq(Arrays.asList(1L, 2L)), eq("Combinación de programas: Program1, Program2 (Total cupos: 50)"));
+        verify(academicRequestRepository, never()).save(any(AcademicRequest.class));
     }
 }
@@ -26,6 +26,9 @@ import org.springframework.security.core.context.ReactiveSecurityContextHolder;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.transaction.reactive.TransactionalOperator;
 
+import co.edu.puj.secchub_backend.admin.contract.AdminModuleAccessScopeContract;
+import co.edu.puj.secchub_backend.admin.contract.AdminModuleTeacherContract;
+import co.edu.puj.secchub_backend.admin.service.AccessScopeService;
 import co.edu.puj.secchub_backend.admin.contract.AdminModuleCourseContract;
 import co.edu.puj.secchub_backend.admin.contract.AdminModuleSectionContract;
 import co.edu.puj.secchub_backend.admin.contract.AdminModuleSemesterContract;
@@ -63,6 +66,9 @@ class StudentApplicationServiceTest {
     @Mock
     private AdminModuleCourseContract courseService;
 
+    @Mock
+    private AdminModuleAccessScopeContract accessScopeService;
+
     @InjectMocks
     private StudentApplicationService studentApplicationService;
 
@@ -79,6 +85,9 @@ class StudentApplicationServiceTest {
 
     @BeforeEach
     void setUp() {
+        AccessScopeService accessScopes = new AccessScopeService(userService, sectionService, mock(AdminModuleTeacherContract.class));
+        lenient().when(accessScopeService.getCurrentAccessScope()).thenAnswer(invocation -> accessScopes.getCurrentAccessScope());
+
         testStudentApplication = StudentApplication.builder()
                 .id(1L)
                 .userId(100L)
@@ -344,7 +353,7 @@ class StudentApplicationServiceTest {
         setUpUserMocking(null); // Admin
 
         when(semesterService.getCurrentSemesterId()).thenReturn(Mono.just(1L));
-        when(studentApplicationRepository.findBySemesterId(1L)).thenReturn(Flux.just(testStudentApplication));
+        when(studentApplicationRepository.findVisibleBySemesterId(1L, null)).thenReturn(Flux.just(testStudentApplication));
         when(requestScheduleRepository.findByStudentApplicationId(1L)).thenReturn(Flux.just(testSchedule));
 
         java.util.List<StudentApplicationResponseDTO> result = studentApplicationService.listCurrentSemesterStudentApplications()
@@ -354,7 +363,7 @@ class StudentApplicationServiceTest {
         assertEquals(1, result.size());
         assertEquals(1L, result.get(0).getId());
         verify(semesterService).getCurrentSemesterId();
-        verify(studentApplicationRepository).findBySemesterId(1L);
+        verify(studentApplicationRepository).findVisibleBySemesterId(1L, null);
     }
 
     @Test
@@ -363,8 +372,7 @@ class StudentApplicationServiceTest {
         setUpUserMocking(1L); // Section 1
 
         when(semesterService.getCurrentSemesterId()).thenReturn(Mono.just(1L));
-        when(studentApplicationRepository.findBySemesterId(1L)).thenReturn(Flux.just(testStudentApplication));
-        when(studentApplicationRepository.findById(1L)).thenReturn(Mono.just(testStudentApplication));
+        when(studentApplicationRepository.findVisibleBySemesterId(1L, 1L)).thenReturn(Flux.just(testStudentApplication));
         when(requestScheduleRepository.findByStudentApplicationId(1L)).thenReturn(Flux.just(testSchedule));
 
         java.util.List<StudentApplicationResponseDTO> result = studentApplicationService.listCurrentSemesterStudentApplications()
@@ -374,7 +382,7 @@ class StudentApplicationServiceTest {
         assertEquals(1, result.size());
         assertEquals(1L, result.get(0).getId());
         verify(semesterService).getCurrentSemesterId();
-        verify(studentApplicationRepository).findBySemesterId(1L);
+        verify(studentApplicationRepository).findVisibleBySemesterId(1L, 1L);
     }
 
     @Test
@@ -383,8 +391,7 @@ class StudentApplicationServiceTest {
         setUpUserMocking(2L); // Section 2
 
         when(semesterService.getCurrentSemesterId()).thenReturn(Mono.just(1L));
-        when(studentApplicationRepository.findBySemesterId(1L)).thenReturn(Flux.just(testStudentApplication));
-        when(studentApplicationRepository.findById(1L)).thenReturn(Mono.just(testStudentApplication));
+        when(studentApplicationRepository.findVisibleBySemesterId(1L, 2L)).thenReturn(Flux.empty());
 
         java.util.List<StudentApplicationResponseDTO> result = studentApplicationService.listCurrentSemesterStudentApplications()
                 .collectList().block();
@@ -392,15 +399,17 @@ class StudentApplicationServiceTest {
         assertNotNull(result);
         assertTrue(result.isEmpty());
         verify(semesterService).getCurrentSemesterId();
-        verify(studentApplicationRepository).findBySemesterId(1L);
+        verify(studentApplicationRepository).findVisibleBySemesterId(1L, 2L);
     }
 
     @Test
     @DisplayName("listCurrentSemesterStudentApplications - When no applications exist returns empty")
     void testListCurrentSemesterStudentApplications_NoApplications_ReturnsEmpty() {
+        setUpUserMocking(null); // Admin
+
 
         when(semesterService.getCurrentSemesterId()).thenReturn(Mono.just(1L));
-        when(studentApplicationRepository.findBySemesterId(1L)).thenReturn(Flux.empty());
+        when(studentApplicationRepository.findVisibleBySemesterId(1L, null)).thenReturn(Flux.empty());
 
         java.util.List<StudentApplicationResponseDTO> result = studentApplicationService.listCurrentSemesterStudentApplications()
                 .collectList().block();
@@ -416,7 +425,7 @@ class StudentApplicationServiceTest {
     void testListAllStudentApplications_Admin_ReturnsApplications() {
         setUpUserMocking(null); // Admin
 
-        when(studentApplicationRepository.findAll()).thenReturn(Flux.just(testStudentApplication));
+        when(studentApplicationRepository.findAllVisible(null)).thenReturn(Flux.just(testStudentApplication));
         when(requestScheduleRepository.findByStudentApplicationId(1L)).thenReturn(Flux.just(testSchedule));
 
         java.util.List<StudentApplicationResponseDTO> result = studentApplicationService.listAllStudentApplications()
@@ -425,7 +434,7 @@ class StudentApplicationServiceTest {
         assertNotNull(result);
         assertEquals(1, result.size());
         assertEquals(1L, result.get(0).getId());
-        verify(studentApplicationRepository).findAll();
+        verify(studentApplicationRepository).findAllVisible(null);
     }
 
     @Test
@@ -433,8 +442,7 @@ class StudentApplicationServiceTest {
     void testListAllStudentApplications_SectionUser_ReturnsApplications() {
         setUpUserMocking(1L); // Section 1
 
-        when(studentApplicationRepository.findAll()).thenReturn(Flux.just(testStudentApplication));
-        when(studentApplicationRepository.findById(1L)).thenReturn(Mono.just(testStudentApplication));
+        when(studentApplicationRepository.findAllVisible(1L)).thenReturn(Flux.just(testStudentApplication));
         when(requestScheduleRepository.findByStudentApplicationId(1L)).thenReturn(Flux.just(testSchedule));
 
         java.util.List<StudentApplicationResponseDTO> result = studentApplicationService.listAllStudentApplications()
@@ -443,7 +451,7 @@ class StudentApplicationServiceTest {
         assertNotNull(result);
         assertEquals(1, result.size());
         assertEquals(1L, result.get(0).getId());
-        verify(studentApplicationRepository).findAll();
+        verify(studentApplicationRepository).findAllVisible(1L);
     }
 
     @Test
@@ -451,28 +459,29 @@ class StudentApplicationServiceTest {
     void testListAllStudentApplications_DifferentSection_FiltersOut() {
         setUpUserMocking(2L); // Section 2
 
-        when(studentApplicationRepository.findAll()).thenReturn(Flux.just(testStudentApplication));
-        when(studentApplicationRepository.findById(1L)).thenReturn(Mono.just(testStudentApplication));
+        when(studentApplicationRepository.findAllVisible(2L)).thenReturn(Flux.empty());
 
         java.util.List<StudentApplicationResponseDTO> result = studentApplicationService.listAllStudentApplications()
                 .collectList().block();
 
         assertNotNull(result);
         assertTrue(result.isEmpty());
-        verify(studentApplicationRepository).findAll();
+        verify(studentApplicationRepository).findAllVisible(2L);
     }
 
     @Test
     @DisplayName("listAllStudentApplications - When no applications exist returns empty list")
     void testListAllStudentApplications_NoApplications_ReturnsEmpty() {
-        when(studentApplicationRepository.findAll()).thenReturn(Flux.empty());
+        setUpUserMocking(null); // Admin
+
+        when(studentApplicationRepository.findAllVisible(null)).thenReturn(Flux.empty());
 
         java.util.List<StudentApplicationResponseDTO> result = studentApplicationService.listAllStudentApplications()
                 .collectList().block();
 
         assertNotNull(result);
         assertTrue(result.isEmpty());
-        verify(studentApplicationRepository).findAll();
+        verify(studentApplicationRepository).findAllVisible(null);
     }
 
     // ==================== FIND APPLICATION BY ID TESTS ====================
@@ -538,7 +547,7 @@ class StudentApplicationServiceTest {
     void testListStudentApplicationsByStatus_Admin_ReturnsApplications() {
         setUpUserMocking(null); // Admin
 
-        when(studentApplicationRepository.findByStatusId(STATUS_PENDING_ID)).thenReturn(Flux.just(testStudentApplication));
+        when(studentApplicationRepository.findVisibleByStatusId(STATUS_PENDING_ID, null)).thenReturn(Flux.just(testStudentApplication));
         when(requestScheduleRepository.findByStudentApplicationId(1L)).thenReturn(Flux.just(testSchedule));
 
         java.util.List<StudentApplicationResponseDTO> result = studentApplicationService.listStudentApplicationsByStatus(STATUS_PENDING_ID)
@@ -547,7 +556,7 @@ class StudentApplicationServiceTest {
         assertNotNull(result);
         assertEquals(1, result.size());
         assertEquals(STATUS_PENDING_ID, result.get(0).getStatusId());
-        verify(studentApplicationRepository).findByStatusId(STATUS_PENDING_ID);
+        verify(studentApplicationRepository).findVisibleByStatusId(STATUS_PENDING_ID, null);
     }
 
     @Test
@@ -555,8 +564,7 @@ class StudentApplicationServiceTest {
     void testListStudentApplicationsByStatus_SectionUser_ReturnsApplications() {
         setUpUserMocking(1L); // Section 1
 
-        when(studentApplicationRepository.findByStatusId(STATUS_PENDING_ID)).thenReturn(Flux.just(testStudentApplication));
-        when(studentApplicationRepository.findById(1L)).thenReturn(Mono.just(testStudentApplication));
+        when(studentApplicationRepository.findVisibleByStatusId(STATUS_PENDING_ID, 1L)).thenReturn(Flux.just(testStudentApplication));
         when(requestScheduleRepository.findByStudentApplicationId(1L)).thenReturn(Flux.just(testSchedule));
 
         java.util.List<StudentApplicationResponseDTO> result = studentApplicationService.listStudentApplicationsByStatus(STATUS_PENDING_ID)
@@ -565,7 +573,7 @@ class StudentApplicationServiceTest {
         assertNotNull(result);
         assertEquals(1, result.size());
         assertEquals(STATUS_PENDING_ID, result.get(0).getStatusId());
-        verify(studentApplicationRepository).findByStatusId(STATUS_PENDING_ID);
+        verify(studentApplicationRepository).findVisibleByStatusId(STATUS_PENDING_ID, 1L);
     }
 
     @Test
@@ -573,15 +581,14 @@ class StudentApplicationServiceTest {
     void testListStudentApplicationsByStatus_DifferentSection_FiltersOut() {
         setUpUserMocking(2L); // Section 2
 
-        when(studentApplicationRepository.findByStatusId(STATUS_PENDING_ID)).thenReturn(Flux.just(testStudentApplication));
-        when(studentApplicationRepository.findById(1L)).thenReturn(Mono.just(testStudentApplication));
+        when(studentApplicationRepository.findVisibleByStatusId(STATUS_PENDING_ID, 2L)).thenReturn(Flux.empty());
 
         java.util.List<StudentApplicationResponseDTO> result = studentApplicationService.listStudentApplicationsByStatus(STATUS_PENDING_ID)
                 .collectList().block();
 
         assertNotNull(result);
         assertTrue(result.isEmpty());
-        verify(studentApplicationRepository).findByStatusId(STATUS_PENDING_ID);
+        verify(studentApplicationRepository).findVisibleByStatusId(STATUS_PENDING_ID, 2L);
     }
 
     // ==================== LIST APPLICATIONS FOR SECTION TESTS ====================
@@ -591,7 +598,7 @@ class StudentApplicationServiceTest {
     void testListStudentApplicationsForSection_Admin_ReturnsApplications() {
         setUpUserMocking(null); // Admin
 
-        when(studentApplicationRepository.findRequestsForSection(1L)).thenReturn(Flux.just(testStudentApplication));
+        when(studentApplicationRepository.findVisibleRequestsForSection(1L, null)).thenReturn(Flux.just(testStudentApplication));
         when(requestScheduleRepository.findByStudentApplicationId(1L)).thenReturn(Flux.just(testSchedule));
 
         java.util.List<StudentApplicationResponseDTO> result = studentApplicationService.listStudentApplicationsForSection(1L)
@@ -600,7 +607,7 @@ class StudentApplicationServiceTest {
         assertNotNull(result);
         assertEquals(1, result.size());
         assertEquals(1L, result.get(0).getId());
-        verify(studentApplicationRepository).findRequestsForSection(1L);
+        verify(studentApplicationRepository).findVisibleRequestsForSection(1L, null);
     }
 
     @Test
@@ -608,8 +615,7 @@ class StudentApplicationServiceTest {
     void testListStudentApplicationsForSection_SectionUser_ReturnsApplications() {
         setUpUserMocking(1L); // Section 1
 
-        when(studentApplicationRepository.findRequestsForSection(1L)).thenReturn(Flux.just(testStudentApplication));
-        when(studentApplicationRepository.findById(1L)).thenReturn(Mono.just(testStudentApplication));
+        when(studentApplicationRepository.findVisibleRequestsForSection(1L, 1L)).thenReturn(Flux.just(testStudentApplication));
         when(requestScheduleRepository.findByStudentApplicationId(1L)).thenReturn(Flux.just(testSchedule));
 
         java.util.List<StudentApplicationResponseDTO> result = studentApplicationService.listStudentApplicationsForSection(1L)
@@ -618,7 +624,7 @@ class StudentApplicationServiceTest {
         assertNotNull(result);
         assertEquals(1, result.size());
         assertEquals(1L, result.get(0).getId());
-        verify(studentApplicationRepository).findRequestsForSection(1L);
+        verify(studentApplicationRepository).findVisibleRequestsForSection(1L, 1L);
     }
 
     @Test
@@ -626,15 +632,14 @@ class StudentApplicationServiceTest {
     void testListStudentApplicationsForSection_DifferentSection_FiltersOut() {
         setUpUserMocking(2L); // Section 2
 
-        when(studentApplicationRepository.findRequestsForSection(1L)).thenReturn(Flux.just(testStudentApplication));
-        when(studentApplicationRepository.findById(1L)).thenReturn(Mono.just(testStudentApplication));
+        when(studentApplicationRepository.findVisibleRequestsForSection(1L, 2L)).thenReturn(Flux.empty());
 
         java.util.List<StudentApplicationResponseDTO> result = studentApplicationService.listStudentApplicationsForSection(1L)
                 .collectList().block();
 
         assertNotNull(result);
         assertTrue(result.isEmpty());
-        verify(studentApplicationRepository).findRequestsForSection(1L);
+        verify(studentApplicationRepository).findVisibleRequestsForSection(1L, 2L);
     }
 
     // ==================== APPROVE APPLICATION TESTS ====================
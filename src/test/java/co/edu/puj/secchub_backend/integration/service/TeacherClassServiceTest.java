@@ -7,6 +7,7 @@ import static org.mockito.Mockito.*;
 import org.mockito.ArgumentMatchers;
 
 import java.time.LocalDate;
+import java.util.List;
 import java.util.stream.Stream;
 
 import org.junit.jupiter.api.AfterEach;
@@ -22,6 +23,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -29,17 +31,23 @@ import org.springframework.security.core.context.ReactiveSecurityContextHolder;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.transaction.reactive.TransactionalOperator;
 
+import co.edu.puj.secchub_backend.admin.contract.AdminModuleAccessScopeContract;
+import co.edu.puj.secchub_backend.admin.service.AccessScopeService;
 import co.edu.puj.secchub_backend.admin.contract.AdminModuleSectionContract;
 import co.edu.puj.secchub_backend.admin.contract.AdminModuleSemesterContract;
 import co.edu.puj.secchub_backend.admin.contract.AdminModuleTeacherContract;
 import co.edu.puj.secchub_backend.admin.contract.TeacherResponseDTO;
+import co.edu.puj.secchub_backend.config.KeysetPage;
 import co.edu.puj.secchub_backend.integration.dto.TeacherClassAssignHoursRequestDTO;
 import co.edu.puj.secchub_backend.integration.dto.TeacherClassAssignHoursResponseDTO;
 import co.edu.puj.secchub_backend.integration.dto.TeacherClassRequestDTO;
 import co.edu.puj.secchub_backend.integration.dto.TeacherClassResponseDTO;
+import co.edu.puj.secchub_backend.integration.dto.TeacherWorkloadResponseDTO;
+import co.edu.puj.secchub_backend.integration.exception.BusinessException;
 import co.edu.puj.secchub_backend.integration.exception.TeacherClassNotFoundException;
 import co.edu.puj.secchub_backend.integration.exception.TeacherClassServerErrorException;
 import co.edu.puj.secchub_backend.integration.model.TeacherClass;
+import co.edu.puj.secchub_backend.integration.repository.BulkStatusTransitionRepository;
 import co.edu.puj.secchub_backend.integration.repository.TeacherClassRepository;
 import co.edu.puj.secchub_backend.planning.contract.PlanningModuleClassContract;
 import co.edu.puj.secchub_backend.security.contract.SecurityModuleUserContract;
@@ -65,10 +73,17 @@ class TeacherClassServiceTest {
     @Mock
     private TeacherClassRepository repository;
     @Mock
+    private BulkStatusTransitionRepository bulkStatusTransitionRepository;
+    @Mock
+    private TeacherWorkloadProjection teacherWorkloadProjection;
+    @Mock
     private ModelMapper modelMapper;
     @Mock
     private TransactionalOperator transactionalOperator;
 
+    @Mock
+    private AdminModuleAccessScopeContract accessScopeService;
+
     @InjectMocks
     private TeacherClassService teacherClassService;
 
@@ -84,6 +99,9 @@ class TeacherClassServiceTest {
 
     @BeforeEach
     void setUp() {
+        AccessScopeService accessScopes = new AccessScopeService(userService, sectionService, teacherService);
+        lenient().when(accessScopeService.getCurrentAccessScope()).thenAnswer(invocation -> accessScopes.getCurrentAccessScope());
+
         testTeacherClass = TeacherClass.builder()
                 .id(1L)
                 .teacherId(10L)
@@ -177,6 +195,7 @@ class TeacherClassServiceTest {
 
         when(securityContext.getAuthentication()).thenReturn(authentication);
         when(userService.getUserIdByEmail("teacher@test.com")).thenReturn(Mono.just(100L));
+        when(sectionService.getSectionIdByUserId(100L)).thenReturn(Mono.empty());
         when(teacherService.getTeacherIdByUserId(100L)).thenReturn(Mono.just(teacherId));
 
         mockedReactiveSecurityContextHolder = mockStatic(ReactiveSecurityContextHolder.class);
@@ -259,8 +278,7 @@ class TeacherClassServiceTest {
         setUpUserMocking(userSection);
 
         when(semesterService.getCurrentSemesterId()).thenReturn(Mono.just(1L));
-        when(repository.findBySemesterId(1L)).thenReturn(Flux.just(testTeacherClass));
-        when(classService.isClassInSection(100L, userSection)).thenReturn(Mono.just(true));
+        when(repository.findVisibleBySemesterId(1L, null, userSection)).thenReturn(Flux.just(testTeacherClass));
         when(modelMapper.map(testTeacherClass, TeacherClassResponseDTO.class)).thenReturn(testTeacherClassResponseDTO);
 
         Flux<TeacherClassResponseDTO> result = teacherClassService.listCurrentSemesterTeacherClasses();
@@ -270,7 +288,7 @@ class TeacherClassServiceTest {
                 .verifyComplete();
 
         verify(semesterService).getCurrentSemesterId();
-        verify(repository).findBySemesterId(1L);
+        verify(repository).findVisibleBySemesterId(1L, null, userSection);
     }
 
     @Test
@@ -279,7 +297,7 @@ class TeacherClassServiceTest {
         setUpTeacherMocking(10L);
 
         when(semesterService.getCurrentSemesterId()).thenReturn(Mono.just(1L));
-        when(repository.findBySemesterId(1L)).thenReturn(Flux.just(testTeacherClass));
+        when(repository.findVisibleBySemesterId(1L, 10L, null)).thenReturn(Flux.just(testTeacherClass));
         when(modelMapper.map(testTeacherClass, TeacherClassResponseDTO.class)).thenReturn(testTeacherClassResponseDTO);
 
         Flux<TeacherClassResponseDTO> result = teacherClassService.listCurrentSemesterTeacherClasses();
@@ -292,13 +310,37 @@ class TeacherClassServiceTest {
         verify(teacherService).getTeacherIdByUserId(100L);
     }
 
+    @Test
+    @DisplayName("listTeacherClassesPage - When teacher role pages only their classes and counts them")
+    void testListTeacherClassesPage_TeacherRole_PagesOwnClasses() {
+        setUpTeacherMocking(10L);
+
+        when(repository.findVisiblePage(1L, null, null, 26, 10L, null)).thenReturn(Flux.just(testTeacherClass));
+        when(repository.countVisible(1L, 10L, null)).thenReturn(Mono.just(1L));
+        when(modelMapper.map(testTeacherClass, TeacherClassResponseDTO.class)).thenReturn(testTeacherClassResponseDTO);
+
+        StepVerifier.create(teacherClassService.listTeacherClassesPage(1L, null, null, true))
+                .expectNext(new KeysetPage<>(List.of(testTeacherClassResponseDTO), null, 1L))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("listTeacherClassesPage - When size is not positive throws BusinessException")
+    void testListTeacherClassesPage_InvalidSize_ThrowsBusinessException() {
+        StepVerifier.create(teacherClassService.listTeacherClassesPage(1L, null, 0, false))
+                .expectError(BusinessException.class)
+                .verify();
+
+        verifyNoInteractions(repository);
+    }
+
     @Test
     @DisplayName("listCurrentSemesterTeacherClasses - When teacher role filters out other teacher classes")
     void testListCurrentSemesterTeacherClasses_TeacherRole_FiltersOtherTeachers() {
         setUpTeacherMocking(99L); // Different teacher ID
 
         when(semesterService.getCurrentSemesterId()).thenReturn(Mono.just(1L));
-        when(repository.findBySemesterId(1L)).thenReturn(Flux.just(testTeacherClass)); // teacherId = 10L
+        when(repository.findVisibleBySemesterId(1L, 99L, null)).thenReturn(Flux.empty());
         
         Flux<TeacherClassResponseDTO> result = teacherClassService.listCurrentSemesterTeacherClasses();
 
@@ -330,8 +372,7 @@ class TeacherClassServiceTest {
         setUpUserMocking(userSection);
 
         when(semesterService.getCurrentSemesterId()).thenReturn(Mono.just(1L));
-        when(repository.findBySemesterIdAndTeacherId(1L, 10L)).thenReturn(Flux.just(testTeacherClass));
-        when(classService.isClassInSection(100L, userSection)).thenReturn(Mono.just(true));
+        when(repository.findVisibleBySemesterIdAndTeacherId(1L, 10L, null, userSection)).thenReturn(Flux.just(testTeacherClass));
         when(modelMapper.map(testTeacherClass, TeacherClassResponseDTO.class)).thenReturn(testTeacherClassResponseDTO);
 
         Flux<TeacherClassResponseDTO> result = teacherClassService.listCurrentSemesterTeacherClassesByTeacher(10L);
@@ -341,7 +382,7 @@ class TeacherClassServiceTest {
                 .verifyComplete();
 
         verify(semesterService).getCurrentSemesterId();
-        verify(repository).findBySemesterIdAndTeacherId(1L, 10L);
+        verify(repository).findVisibleBySemesterIdAndTeacherId(1L, 10L, null, userSection);
     }
 
     @Test
@@ -350,7 +391,7 @@ class TeacherClassServiceTest {
         setUpTeacherMocking(10L);
 
         when(semesterService.getCurrentSemesterId()).thenReturn(Mono.just(1L));
-        when(repository.findBySemesterIdAndTeacherId(1L, 10L)).thenReturn(Flux.just(testTeacherClass));
+        when(repository.findVisibleBySemesterIdAndTeacherId(1L, 10L, 10L, null)).thenReturn(Flux.just(testTeacherClass));
         when(modelMapper.map(testTeacherClass, TeacherClassResponseDTO.class)).thenReturn(testTeacherClassResponseDTO);
 
         Flux<TeacherClassResponseDTO> result = teacherClassService.listCurrentSemesterTeacherClassesByTeacher(10L);
@@ -371,8 +412,7 @@ class TeacherClassServiceTest {
     void testListAllTeacherClassByTeacher_BasedOnUserSection_ReturnsClasses(Long userSection) {
         setUpUserMocking(userSection);
 
-        when(repository.findByTeacherId(10L)).thenReturn(Flux.just(testTeacherClass));
-        when(classService.isClassInSection(100L, userSection)).thenReturn(Mono.just(true));
+        when(repository.findVisibleByTeacherId(10L, null, userSection)).thenReturn(Flux.just(testTeacherClass));
         when(modelMapper.map(testTeacherClass, TeacherClassResponseDTO.class)).thenReturn(testTeacherClassResponseDTO);
 
         Flux<TeacherClassResponseDTO> result = teacherClassService.listAllTeacherClassByTeacher(10L);
@@ -381,7 +421,7 @@ class TeacherClassServiceTest {
                 .expectNext(testTeacherClassResponseDTO)
                 .verifyComplete();
 
-        verify(repository).findByTeacherId(10L);
+        verify(repository).findVisibleByTeacherId(10L, null, userSection);
     }
 
     @Test
@@ -389,7 +429,7 @@ class TeacherClassServiceTest {
     void testListAllTeacherClassByTeacher_TeacherRole_ReturnsOnlyTheirClasses() {
         setUpTeacherMocking(10L);
 
-        when(repository.findByTeacherId(10L)).thenReturn(Flux.just(testTeacherClass));
+        when(repository.findVisibleByTeacherId(10L, 10L, null)).thenReturn(Flux.just(testTeacherClass));
         when(modelMapper.map(testTeacherClass, TeacherClassResponseDTO.class)).thenReturn(testTeacherClassResponseDTO);
 
         Flux<TeacherClassResponseDTO> result = teacherClassService.listAllTeacherClassByTeacher(10L);
@@ -405,7 +445,9 @@ class TeacherClassServiceTest {
     @Test
     @DisplayName("listAllTeacherClassByTeacher - When error occurs throws TeacherClassServerErrorException")
     void testListAllTeacherClassByTeacher_ErrorOccurs_ThrowsException() {
-        when(repository.findByTeacherId(10L)).thenReturn(Flux.error(new RuntimeException("Database error")));
+        setUpUserMocking(null);
+
+        when(repository.findVisibleByTeacherId(10L, null, null)).thenReturn(Flux.error(new RuntimeException("Database error")));
 
         Flux<TeacherClassResponseDTO> result = teacherClassService.listAllTeacherClassByTeacher(10L);
 
@@ -422,8 +464,7 @@ class TeacherClassServiceTest {
     void testListTeacherClassByStatus_BasedOnUserSection_ReturnsClasses(Long userSection) {
         setUpUserMocking(userSection);
 
-        when(repository.findByTeacherIdAndStatusId(10L, STATUS_PENDING_ID)).thenReturn(Flux.just(testTeacherClass));
-        when(classService.isClassInSection(100L, userSection)).thenReturn(Mono.just(true));
+        when(repository.findVisibleByTeacherIdAndStatusId(10L, STATUS_PENDING_ID, null, userSection)).thenReturn(Flux.just(testTeacherClass));
         when(modelMapper.map(testTeacherClass, TeacherClassResponseDTO.class)).thenReturn(testTeacherClassResponseDTO);
 
         Flux<TeacherClassResponseDTO> result = teacherClassService.listTeacherClassByStatus(10L, STATUS_PENDING_ID);
@@ -432,7 +473,7 @@ class TeacherClassServiceTest {
                 .expectNext(testTeacherClassResponseDTO)
                 .verifyComplete();
 
-        verify(repository).findByTeacherIdAndStatusId(10L, STATUS_PENDING_ID);
+        verify(repository).findVisibleByTeacherIdAndStatusId(10L, STATUS_PENDING_ID, null, userSection);
     }
 
     @Test
@@ -440,7 +481,7 @@ class TeacherClassServiceTest {
     void testListTeacherClassByStatus_TeacherRole_ReturnsOnlyTheirClasses() {
         setUpTeacherMocking(10L);
 
-        when(repository.findByTeacherIdAndStatusId(10L, STATUS_ACCEPTED_ID)).thenReturn(Flux.just(testTeacherClass));
+        when(repository.findVisibleByTeacherIdAndStatusId(10L, STATUS_ACCEPTED_ID, 10L, null)).thenReturn(Flux.just(testTeacherClass));
         when(modelMapper.map(testTeacherClass, TeacherClassResponseDTO.class)).thenReturn(testTeacherClassResponseDTO);
 
         Flux<TeacherClassResponseDTO> result = teacherClassService.listTeacherClassByStatus(10L, STATUS_ACCEPTED_ID);
@@ -461,8 +502,7 @@ class TeacherClassServiceTest {
     void testListTeacherClassByClassId_BasedOnUserSection_ReturnsClasses(Long userSection) {
         setUpUserMocking(userSection);
 
-        when(repository.findByClassId(100L)).thenReturn(Flux.just(testTeacherClass));
-        when(classService.isClassInSection(100L, userSection)).thenReturn(Mono.just(true));
+        when(repository.findVisibleByClassId(100L, null, userSection)).thenReturn(Flux.just(testTeacherClass));
         when(modelMapper.map(testTeacherClass, TeacherClassResponseDTO.class)).thenReturn(testTeacherClassResponseDTO);
 
         Flux<TeacherClassResponseDTO> result = teacherClassService.listTeacherClassByClassId(100L);
@@ -471,7 +511,7 @@ class TeacherClassServiceTest {
                 .expectNext(testTeacherClassResponseDTO)
                 .verifyComplete();
 
-        verify(repository).findByClassId(100L);
+        verify(repository).findVisibleByClassId(100L, null, userSection);
     }
 
     @Test
@@ -479,7 +519,7 @@ class TeacherClassServiceTest {
     void testListTeacherClassByClassId_TeacherRole_ReturnsOnlyTheirClasses() {
         setUpTeacherMocking(10L);
 
-        when(repository.findByClassId(100L)).thenReturn(Flux.just(testTeacherClass));
+        when(repository.findVisibleByClassId(100L, 10L, null)).thenReturn(Flux.just(testTeacherClass));
         when(modelMapper.map(testTeacherClass, TeacherClassResponseDTO.class)).thenReturn(testTeacherClassResponseDTO);
 
         Flux<TeacherClassResponseDTO> result = teacherClassService.listTeacherClassByClassId(100L);
@@ -497,7 +537,7 @@ class TeacherClassServiceTest {
     void testListTeacherClassByClassId_TeacherRole_FiltersOtherTeachers() {
         setUpTeacherMocking(99L); // Different teacher ID
 
-        when(repository.findByClassId(100L)).thenReturn(Flux.just(testTeacherClass)); // teacherId = 10L
+        when(repository.findVisibleByClassId(100L, 99L, null)).thenReturn(Flux.empty());
 
         Flux<TeacherClassResponseDTO> result = teacherClassService.listTeacherClassByClassId(100L);
 
@@ -516,16 +556,6 @@ class TeacherClassServiceTest {
     void testAcceptTeacherClass_BasedOnUserSection_AcceptsSuccessfully(Long userSection) {
         setUpUserMocking(userSection);
 
-        TeacherClass acceptedClass = TeacherClass.builder()
-                .id(1L)
-                .teacherId(10L)
-                .classId(100L)
-                .semesterId(1L)
-                .statusId(STATUS_ACCEPTED_ID)
-                .decision(true)
-                .observation("Accepted")
-                .build();
-
         TeacherClassResponseDTO acceptedDTO = TeacherClassResponseDTO.builder()
                 .id(1L)
                 .teacherId(10L)
@@ -536,10 +566,10 @@ class TeacherClassServiceTest {
                 .observation("Accepted")
                 .build();
 
-        when(repository.findById(1L)).thenReturn(Mono.just(testTeacherClass));
-        when(classService.isClassInSection(100L, userSection)).thenReturn(Mono.just(true));
-        when(repository.save(any(TeacherClass.class))).thenReturn(Mono.just(acceptedClass));
-        when(modelMapper.map(acceptedClass, TeacherClassResponseDTO.class)).thenReturn(acceptedDTO);
+        when(repository.findVisibleById(1L, null, userSection)).thenReturn(Mono.just(testTeacherClass));
+        when(bulkStatusTransitionRepository.transitionTeacherClasses(List.of(1L), true, STATUS_ACCEPTED_ID, "Accepted"))
+                .thenReturn(Mono.just(1L));
+        when(modelMapper.map(testTeacherClass, TeacherClassResponseDTO.class)).thenReturn(acceptedDTO);
 
         TeacherClassResponseDTO result = teacherClassService.acceptTeacherClass(1L, "Accepted").block();
 
@@ -547,8 +577,9 @@ class TeacherClassServiceTest {
         assertEquals(STATUS_ACCEPTED_ID, result.getStatusId());
         assertTrue(result.getDecision());
         assertEquals("Accepted", result.getObservation());
-        verify(repository).findById(1L);
-        verify(repository).save(any(TeacherClass.class));
+        verify(repository).findVisibleById(1L, null, userSection);
+        verify(bulkStatusTransitionRepository).transitionTeacherClasses(List.of(1L), true, STATUS_ACCEPTED_ID, "Accepted");
+        verify(repository, never()).save(any());
     }
 
     @Test
@@ -556,16 +587,6 @@ class TeacherClassServiceTest {
     void testAcceptTeacherClass_TeacherRole_AcceptsSuccessfully() {
         setUpTeacherMocking(10L);
 
-        TeacherClass acceptedClass = TeacherClass.builder()
-                .id(1L)
-                .teacherId(10L)
-                .classId(100L)
-                .semesterId(1L)
-                .statusId(STATUS_ACCEPTED_ID)
-                .decision(true)
-                .observation("Accepted by teacher")
-                .build();
-
         TeacherClassResponseDTO acceptedDTO = TeacherClassResponseDTO.builder()
                 .id(1L)
                 .teacherId(10L)
@@ -576,9 +597,10 @@ class TeacherClassServiceTest {
                 .observation("Accepted by teacher")
                 .build();
 
-        when(repository.findById(1L)).thenReturn(Mono.just(testTeacherClass));
-        when(repository.save(any(TeacherClass.class))).thenReturn(Mono.just(acceptedClass));
-        when(modelMapper.map(acceptedClass, TeacherClassResponseDTO.class)).thenReturn(acceptedDTO);
+        when(repository.findVisibleById(1L, 10L, null)).thenReturn(Mono.just(testTeacherClass));
+        when(bulkStatusTransitionRepository.transitionTeacherClasses(List.of(1L), true, STATUS_ACCEPTED_ID, "Accepted by teacher"))
+                .thenReturn(Mono.just(1L));
+        when(modelMapper.map(testTeacherClass, TeacherClassResponseDTO.class)).thenReturn(acceptedDTO);
 
         TeacherClassResponseDTO result = teacherClassService.acceptTeacherClass(1L, "Accepted by teacher").block();
 
@@ -595,7 +617,7 @@ class TeacherClassServiceTest {
     void testAcceptTeacherClass_TeacherRole_OtherTeacherClass_ThrowsException() {
         setUpTeacherMocking(99L); // Different teacher ID
 
-        when(repository.findById(1L)).thenReturn(Mono.just(testTeacherClass)); // teacherId = 10L
+        when(repository.findVisibleById(1L, 99L, null)).thenReturn(Mono.empty());
 
         Mono<TeacherClassResponseDTO> result = teacherClassService.acceptTeacherClass(1L, "Accepted");
 
@@ -608,15 +630,106 @@ class TeacherClassServiceTest {
     @Test
     @DisplayName("acceptTeacherClass - When teacher class not found throws TeacherClassNotFoundException")
     void testAcceptTeacherClass_NotFound_ThrowsException() {
-        when(repository.findById(99L)).thenReturn(Mono.empty());
+        setUpUserMocking(null);
+
+        when(repository.findVisibleById(99L, null, null)).thenReturn(Mono.empty());
 
         Mono<TeacherClassResponseDTO> result = teacherClassService.acceptTeacherClass(99L, "Accepted");
 
         assertThrows(TeacherClassNotFoundException.class, result::block);
-        verify(repository).findById(99L);
+        verify(repository).findVisibleById(99L, null, null);
         verify(repository, never()).save(any());
     }
 
+    @Test
+    @DisplayName("acceptTeacherClass - When the teacher class is deleted before the update throws TeacherClassNotFoundException")
+    void testAcceptTeacherClass_DeletedBeforeUpdate_ThrowsException() {
+        setUpUserMocking(null);
+
+        when(repository.findVisibleById(1L, null, null)).thenReturn(Mono.just(testTeacherClass));
+        when(bulkStatusTransitionRepository.transitionTeacherClasses(List.of(1L), true, STATUS_ACCEPTED_ID, "Accepted"))
+                .thenReturn(Mono.just(0L));
+
+        Mono<TeacherClassResponseDTO> result = teacherClassService.acceptTeacherClass(1L, "Accepted");
+
+        assertThrows(TeacherClassNotFoundException.class, result::block);
+        verify(classService, never()).classAssignmentsChanged(any());
+    }
+
+    // ==================== BULK DECISION TESTS ====================
+
+    @Test
+    @DisplayName("acceptTeacherClasses - When teacher accepts several classes only their classes are updated in one statement")
+    void testAcceptTeacherClasses_TeacherRole_UpdatesOwnClassesOnly() {
+        setUpTeacherMocking(10L);
+
+        TeacherClass secondOwnClass = TeacherClass.builder()
+                .id(3L)
+                .teacherId(10L)
+                .classId(300L)
+                .statusId(STATUS_PENDING_ID)
+                .build();
+        java.util.List<Long> ids = java.util.List.of(1L, 2L, 3L);
+
+        when(repository.findAllVisibleById(ids, 10L, null)).thenReturn(Flux.just(testTeacherClass, secondOwnClass));
+        when(bulkStatusTransitionRepository.transitionTeacherClasses(java.util.List.of(1L, 3L), true, STATUS_ACCEPTED_ID, "Accepted"))
+                .thenReturn(Mono.just(2L));
+
+        Long result = teacherClassService.acceptTeacherClasses(ids, "Accepted").block();
+
+        assertEquals(2L, result);
+        verify(bulkStatusTransitionRepository).transitionTeacherClasses(java.util.List.of(1L, 3L), true, STATUS_ACCEPTED_ID, "Accepted");
+        verify(repository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("rejectTeacherClasses - When admin rejects several classes all are updated")
+    void testRejectTeacherClasses_Admin_UpdatesAll() {
+        setUpUserMocking(null);
+
+        TeacherClass secondClass = TeacherClass.builder()
+                .id(2L)
+                .teacherId(20L)
+                .classId(200L)
+                .statusId(STATUS_PENDING_ID)
+                .build();
+        java.util.List<Long> ids = java.util.List.of(1L, 2L);
+
+        when(repository.findAllVisibleById(ids, null, null)).thenReturn(Flux.just(testTeacherClass, secondClass));
+        when(bulkStatusTransitionRepository.transitionTeacherClasses(ids, false, STATUS_REJECTED_ID, null))
+                .thenReturn(Mono.just(2L));
+
+        Long result = teacherClassService.rejectTeacherClasses(ids, null).block();
+
+        assertEquals(2L, result);
+        verify(bulkStatusTransitionRepository).transitionTeacherClasses(ids, false, STATUS_REJECTED_ID, null);
+    }
+
+    @Test
+    @DisplayName("acceptTeacherClasses - When id list is empty returns zero without touching the database")
+    void testAcceptTeacherClasses_EmptyList_ReturnsZero() {
+        Long result = teacherClassService.acceptTeacherClasses(java.util.List.of(), "Accepted").block();
+
+        assertEquals(0L, result);
+        verify(repository, never()).findAllVisibleById(anyCollection(), any(), any());
+        verifyNoInteractions(bulkStatusTransitionRepository);
+    }
+
+    @Test
+    @DisplayName("acceptTeacherClasses - When bulk update fails throws TeacherClassServerErrorException")
+    void testAcceptTeacherClasses_UpdateFails_ThrowsException() {
+        setUpUserMocking(null);
+        java.util.List<Long> ids = java.util.List.of(1L);
+
+        when(repository.findAllVisibleById(ids, null, null)).thenReturn(Flux.just(testTeacherClass));
+        when(bulkStatusTransitionRepository.transitionTeacherClasses(ids, true, STATUS_ACCEPTED_ID, "Accepted"))
+                .thenReturn(Mono.error(new RuntimeException("DB error")));
+
+        Mono<Long> result = teacherClassService.acceptTeacherClasses(ids, "Accepted");
+
+        assertThrows(TeacherClassServerErrorException.class, result::block);
+    }
+
     // ==================== REJECT TEACHER CLASS TESTS ====================
 
     @ParameterizedTest(name = "rejectTeacherClass - When user has section {0} rejects successfully")
@@ -625,16 +738,6 @@ class TeacherClassServiceTest {
     void testRejectTeacherClass_BasedOnUserSection_RejectsSuccessfully(Long userSection) {
         setUpUserMocking(userSection);
 
-        TeacherClass rejectedClass = TeacherClass.builder()
-                .id(1L)
-                .teacherId(10L)
-                .classId(100L)
-                .semesterId(1L)
-                .statusId(STATUS_REJECTED_ID)
-                .decision(false)
-                .observation("Rejected")
-                .build();
-
         TeacherClassResponseDTO rejectedDTO = TeacherClassResponseDTO.builder()
                 .id(1L)
                 .teacherId(10L)
@@ -645,10 +748,10 @@ class TeacherClassServiceTest {
                 .observation("Rejected")
                 .build();
 
-        when(repository.findById(1L)).thenReturn(Mono.just(testTeacherClass));
-        when(classService.isClassInSection(100L, userSection)).thenReturn(Mono.just(true));
-        when(repository.save(any(TeacherClass.class))).thenReturn(Mono.just(rejectedClass));
-        when(modelMapper.map(rejectedClass, TeacherClassResponseDTO.class)).thenReturn(rejectedDTO);
+        when(repository.findVisibleById(1L, null, userSection)).thenReturn(Mono.just(testTeacherClass));
+        when(bulkStatusTransitionRepository.transitionTeacherClasses(List.of(1L), false, STATUS_REJECTED_ID, "Rejected"))
+                .thenReturn(Mono.just(1L));
+        when(modelMapper.map(testTeacherClass, TeacherClassResponseDTO.class)).thenReturn(rejectedDTO);
 
         TeacherClassResponseDTO result = teacherClassService.rejectTeacherClass(1L, "Rejected").block();
 
@@ -656,8 +759,9 @@ class TeacherClassServiceTest {
         assertEquals(STATUS_REJECTED_ID, result.getStatusId());
         assertFalse(result.getDecision());
         assertEquals("Rejected", result.getObservation());
-        verify(repository).findById(1L);
-        verify(repository).save(any(TeacherClass.class));
+        verify(repository).findVisibleById(1L, null, userSection);
+        verify(bulkStatusTransitionRepository).transitionTeacherClasses(List.of(1L), false, STATUS_REJECTED_ID, "Rejected");
+        verify(repository, never()).save(any());
     }
 
     @Test
@@ -665,16 +769,6 @@ class TeacherClassServiceTest {
     void testRejectTeacherClass_TeacherRole_RejectsSuccessfully() {
         setUpTeacherMocking(10L);
 
-        TeacherClass rejectedClass = TeacherClass.builder()
-                .id(1L)
-                .teacherId(10L)
-                .classId(100L)
-                .semesterId(1L)
-                .statusId(STATUS_REJECTED_ID)
-                .decision(false)
-                .observation("Rejected by teacher")
-                .build();
-
         TeacherClassResponseDTO rejectedDTO = TeacherClassResponseDTO.builder()
                 .id(1L)
                 .teacherId(10L)
@@ -685,9 +779,10 @@ class TeacherClassServiceTest {
                 .observation("Rejected by teacher")
                 .build();
 
-        when(repository.findById(1L)).thenReturn(Mono.just(testTeacherClass));
-        when(repository.save(any(TeacherClass.class))).thenReturn(Mono.just(rejectedClass));
-        when(modelMapper.map(rejectedClass, TeacherClassResponseDTO.class)).thenReturn(rejectedDTO);
+        when(repository.findVisibleById(1L, 10L, null)).thenReturn(Mono.just(testTeacherClass));
+        when(bulkStatusTransitionRepository.transitionTeacherClasses(List.of(1L), false, STATUS_REJECTED_ID, "Rejected by teacher"))
+                .thenReturn(Mono.just(1L));
+        when(modelMapper.map(testTeacherClass, TeacherClassResponseDTO.class)).thenReturn(rejectedDTO);
 
         TeacherClassResponseDTO result = teacherClassService.rejectTeacherClass(1L, "Rejected by teacher").block();
 
@@ -704,7 +799,7 @@ class TeacherClassServiceTest {
     void testRejectTeacherClass_TeacherRole_OtherTeacherClass_ThrowsException() {
         setUpTeacherMocking(99L); // Different teacher ID
 
-        when(repository.findById(1L)).thenReturn(Mono.just(testTeacherClass)); // teacherId = 10L
+        when(repository.findVisibleById(1L, 99L, null)).thenReturn(Mono.empty());
 
         Mono<TeacherClassResponseDTO> result = teacherClassService.rejectTeacherClass(1L, "Rejected");
 
@@ -717,12 +812,14 @@ class TeacherClassServiceTest {
     @Test
     @DisplayName("rejectTeacherClass - When teacher class not found throws TeacherClassNotFoundException")
     void testRejectTeacherClass_NotFound_ThrowsException() {
-        when(repository.findById(99L)).thenReturn(Mono.empty());
+        setUpUserMocking(null);
+
+        when(repository.findVisibleById(99L, null, null)).thenReturn(Mono.empty());
 
         Mono<TeacherClassResponseDTO> result = teacherClassService.rejectTeacherClass(99L, "Rejected");
 
         assertThrows(TeacherClassNotFoundException.class, result::block);
-        verify(repository).findById(99L);
+        verify(repository).findVisibleById(99L, null, null);
         verify(repository, never()).save(any());
     }
 
@@ -734,8 +831,7 @@ class TeacherClassServiceTest {
     void testDeleteTeacherClassByTeacherAndClass_BasedOnUserSection_DeletesSuccessfully(Long userSection) {
         setUpUserMocking(userSection);
 
-        when(repository.findByTeacherIdAndClassId(10L, 100L)).thenReturn(Mono.just(testTeacherClass));
-        when(classService.isClassInSection(100L, userSection)).thenReturn(Mono.just(true));
+        when(repository.findVisibleByTeacherIdAndClassId(10L, 100L, null, userSection)).thenReturn(Mono.just(testTeacherClass));
         when(repository.deleteById(1L)).thenReturn(Mono.empty());
 
         Mono<Void> result = teacherClassService.deleteTeacherClassByTeacherAndClass(10L, 100L);
@@ -743,7 +839,7 @@ class TeacherClassServiceTest {
         StepVerifier.create(result)
                 .verifyComplete();
 
-        verify(repository).findByTeacherIdAndClassId(10L, 100L);
+        verify(repository).findVisibleByTeacherIdAndClassId(10L, 100L, null, userSection);
         verify(repository).deleteById(1L);
     }
 
@@ -752,7 +848,7 @@ class TeacherClassServiceTest {
     void testDeleteTeacherClassByTeacherAndClass_TeacherRole_DeletesSuccessfully() {
         setUpTeacherMocking(10L);
 
-        when(repository.findByTeacherIdAndClassId(10L, 100L)).thenReturn(Mono.just(testTeacherClass));
+        when(repository.findVisibleByTeacherIdAndClassId(10L, 100L, 10L, null)).thenReturn(Mono.just(testTeacherClass));
         when(repository.deleteById(1L)).thenReturn(Mono.empty());
 
         Mono<Void> result = teacherClassService.deleteTeacherClassByTeacherAndClass(10L, 100L);
@@ -770,7 +866,7 @@ class TeacherClassServiceTest {
     void testDeleteTeacherClassByTeacherAndClass_TeacherRole_OtherTeacherClass_ThrowsException() {
         setUpTeacherMocking(99L); // Different teacher ID
 
-        when(repository.findByTeacherIdAndClassId(10L, 100L)).thenReturn(Mono.just(testTeacherClass)); // teacherId = 10L
+        when(repository.findVisibleByTeacherIdAndClassId(10L, 100L, 99L, null)).thenReturn(Mono.empty());
 
         Mono<Void> result = teacherClassService.deleteTeacherClassByTeacherAndClass(10L, 100L);
 
@@ -783,12 +879,14 @@ class TeacherClassServiceTest {
     @Test
     @DisplayName("deleteTeacherClassByTeacherAndClass - When teacher class not found throws TeacherClassNotFoundException")
     void testDeleteTeacherClassByTeacherAndClass_NotFound_ThrowsException() {
-        when(repository.findByTeacherIdAndClassId(10L, 100L)).thenReturn(Mono.empty());
+        setUpUserMocking(null);
+
+        when(repository.findVisibleByTeacherIdAndClassId(10L, 100L, null, null)).thenReturn(Mono.empty());
 
         Mono<Void> result = teacherClassService.deleteTeacherClassByTeacherAndClass(10L, 100L);
 
         assertThrows(TeacherClassNotFoundException.class, result::block);
-        verify(repository).findByTeacherIdAndClassId(10L, 100L);
+        verify(repository).findVisibleByTeacherIdAndClassId(10L, 100L, null, null);
         verify(repository, never()).deleteById(anyLong());
     }
 
@@ -797,14 +895,12 @@ class TeacherClassServiceTest {
     void testDeleteTeacherClassByTeacherAndClass_DifferentSection_ThrowsException() {
         setUpUserMocking(2L); // Section 2
 
-        when(repository.findByTeacherIdAndClassId(10L, 100L)).thenReturn(Mono.just(testTeacherClass));
-        when(classService.isClassInSection(100L, 2L)).thenReturn(Mono.just(false)); // Class not in section 2
+        when(repository.findVisibleByTeacherIdAndClassId(10L, 100L, null, 2L)).thenReturn(Mono.empty());
 
         Mono<Void> result = teacherClassService.deleteTeacherClassByTeacherAndClass(10L, 100L);
 
         assertThrows(TeacherClassNotFoundException.class, result::block);
-        verify(repository).findByTeacherIdAndClassId(10L, 100L);
-        verify(classService).isClassInSection(100L, 2L);
+        verify(repository).findVisibleByTeacherIdAndClassId(10L, 100L, null, 2L);
         verify(repository, never()).deleteById(anyLong());
     }
 
@@ -816,8 +912,7 @@ class TeacherClassServiceTest {
     void testGetTeacherClassByTeacherAndClass_BasedOnUserSection_ReturnsClass(Long userSection) {
         setUpUserMocking(userSection);
 
-        when(repository.findByTeacherIdAndClassId(10L, 100L)).thenReturn(Mono.just(testTeacherClass));
-        when(classService.isClassInSection(100L, userSection)).thenReturn(Mono.just(true));
+        when(repository.findVisibleByTeacherIdAndClassId(10L, 100L, null, userSection)).thenReturn(Mono.just(testTeacherClass));
         when(modelMapper.map(testTeacherClass, TeacherClassResponseDTO.class)).thenReturn(testTeacherClassResponseDTO);
 
         TeacherClassResponseDTO result = teacherClassService.getTeacherClassByTeacherAndClass(10L, 100L).block();
@@ -828,8 +923,7 @@ class TeacherClassServiceTest {
         assertEquals(100L, result.getClassId());
         assertEquals(LocalDate.of(2024, 1, 15), result.getStartDate());
         assertEquals(LocalDate.of(2024, 5, 30), result.getEndDate());
-        verify(repository).findByTeacherIdAndClassId(10L, 100L);
-        verify(classService).isClassInSection(100L, userSection);
+        verify(repository).findVisibleByTeacherIdAndClassId(10L, 100L, null, userSection);
     }
 
     @Test
@@ -837,7 +931,7 @@ class TeacherClassServiceTest {
     void testGetTeacherClassByTeacherAndClass_TeacherRole_ReturnsTheirClass() {
         setUpTeacherMocking(10L);
 
-        when(repository.findByTeacherIdAndClassId(10L, 100L)).thenReturn(Mono.just(testTeacherClass));
+        when(repository.findVisibleByTeacherIdAndClassId(10L, 100L, 10L, null)).thenReturn(Mono.just(testTeacherClass));
         when(modelMapper.map(testTeacherClass, TeacherClassResponseDTO.class)).thenReturn(testTeacherClassResponseDTO);
 
         TeacherClassResponseDTO result = teacherClassService.getTeacherClassByTeacherAndClass(10L, 100L).block();
@@ -855,7 +949,7 @@ class TeacherClassServiceTest {
     void testGetTeacherClassByTeacherAndClass_TeacherRole_OtherTeacherClass_ThrowsException() {
         setUpTeacherMocking(99L); // Different teacher ID
 
-        when(repository.findByTeacherIdAndClassId(10L, 100L)).thenReturn(Mono.just(testTeacherClass)); // teacherId = 10L
+        when(repository.findVisibleByTeacherIdAndClassId(10L, 100L, 99L, null)).thenReturn(Mono.empty());
 
         Mono<TeacherClassResponseDTO> result = teacherClassService.getTeacherClassByTeacherAndClass(10L, 100L);
 
@@ -867,12 +961,14 @@ class TeacherClassServiceTest {
     @Test
     @DisplayName("getTeacherClassByTeacherAndClass - When teacher class not found throws TeacherClassNotFoundException")
     void testGetTeacherClassByTeacherAndClass_NotFound_ThrowsException() {
-        when(repository.findByTeacherIdAndClassId(10L, 999L)).thenReturn(Mono.empty());
+        setUpUserMocking(null);
+
+        when(repository.findVisibleByTeacherIdAndClassId(10L, 999L, null, null)).thenReturn(Mono.empty());
 
         Mono<TeacherClassResponseDTO> result = teacherClassService.getTeacherClassByTeacherAndClass(10L, 999L);
 
         assertThrows(TeacherClassNotFoundException.class, result::block);
-        verify(repository).findByTeacherIdAndClassId(10L, 999L);
+        verify(repository).findVisibleByTeacherIdAndClassId(10L, 999L, null, null);
     }
 
     @Test
@@ -880,25 +976,25 @@ class TeacherClassServiceTest {
     void testGetTeacherClassByTeacherAndClass_DifferentSection_ThrowsException() {
         setUpUserMocking(2L); // Section 2
 
-        when(repository.findByTeacherIdAndClassId(10L, 100L)).thenReturn(Mono.just(testTeacherClass));
-        when(classService.isClassInSection(100L, 2L)).thenReturn(Mono.just(false)); // Class not in section 2
+        when(repository.findVisibleByTeacherIdAndClassId(10L, 100L, null, 2L)).thenReturn(Mono.empty());
 
         Mono<TeacherClassResponseDTO> result = teacherClassService.getTeacherClassByTeacherAndClass(10L, 100L);
 
         assertThrows(TeacherClassNotFoundException.class, result::block);
-        verify(repository).findByTeacherIdAndClassId(10L, 100L);
-        verify(classService).isClassInSection(100L, 2L);
+        verify(repository).findVisibleByTeacherIdAndClassId(10L, 100L, null, 2L);
     }
 
     @Test
     @DisplayName("getTeacherClassByTeacherAndClass - When repository error throws TeacherClassServerErrorException")
     void testGetTeacherClassByTeacherAndClass_RepositoryError_ThrowsException() {
-        when(repository.findByTeacherIdAndClassId(10L, 100L)).thenReturn(Mono.error(new RuntimeException("Database error")));
+        setUpUserMocking(null);
+
+        when(repository.findVisibleByTeacherIdAndClassId(10L, 100L, null, null)).thenReturn(Mono.error(new RuntimeException("Database error")));
 
         Mono<TeacherClassResponseDTO> result = teacherClassService.getTeacherClassByTeacherAndClass(10L, 100L);
 
         assertThrows(TeacherClassServerErrorException.class, result::block);
-        verify(repository).findByTeacherIdAndClassId(10L, 100L);
+        verify(repository).findVisibleByTeacherIdAndClassId(10L, 100L, null, null);
     }
 
     // ==================== UPDATE TEACHING DATES TESTS ====================
@@ -936,8 +1032,7 @@ class TeacherClassServiceTest {
                 .endDate(newEndDate)
                 .build();
 
-        when(repository.findById(1L)).thenReturn(Mono.just(testTeacherClass));
-        when(classService.isClassInSection(100L, userSection)).thenReturn(Mono.just(true));
+        when(repository.findVisibleById(1L, null, userSection)).thenReturn(Mono.just(testTeacherClass));
         when(repository.save(any(TeacherClass.class))).thenReturn(Mono.just(updatedTeacherClass));
         when(modelMapper.map(updatedTeacherClass, TeacherClassResponseDTO.class)).thenReturn(updatedDTO);
 
@@ -946,9 +1041,8 @@ class TeacherClassServiceTest {
         assertNotNull(result);
         assertEquals(newStartDate, result.getStartDate());
         assertEquals(newEndDate, result.getEndDate());
-        verify(repository).findById(1L);
+        verify(repository).findVisibleById(1L, null, userSection);
         verify(repository).save(any(TeacherClass.class));
-        verify(classService).isClassInSection(100L, userSection);
     }
 
     @Test
@@ -983,7 +1077,7 @@ class TeacherClassServiceTest {
                 .endDate(newEndDate)
                 .build();
 
-        when(repository.findById(1L)).thenReturn(Mono.just(testTeacherClass));
+        when(repository.findVisibleById(1L, 10L, null)).thenReturn(Mono.just(testTeacherClass));
         when(repository.save(any(TeacherClass.class))).thenReturn(Mono.just(updatedTeacherClass));
         when(modelMapper.map(updatedTeacherClass, TeacherClassResponseDTO.class)).thenReturn(updatedDTO);
 
@@ -1005,7 +1099,7 @@ class TeacherClassServiceTest {
         LocalDate newStartDate = LocalDate.of(2024, 2, 1);
         LocalDate newEndDate = LocalDate.of(2024, 6, 15);
 
-        when(repository.findById(1L)).thenReturn(Mono.just(testTeacherClass)); // teacherId = 10L
+        when(repository.findVisibleById(1L, 99L, null)).thenReturn(Mono.empty());
 
         Mono<TeacherClassResponseDTO> result = teacherClassService.updateTeachingDates(1L, newStartDate, newEndDate);
 
@@ -1018,15 +1112,17 @@ class TeacherClassServiceTest {
     @Test
     @DisplayName("updateTeachingDates - When teacher class not found throws TeacherClassNotFoundException")
     void testUpdateTeachingDates_NotFound_ThrowsException() {
+        setUpUserMocking(null);
+
         LocalDate newStartDate = LocalDate.of(2024, 2, 1);
         LocalDate newEndDate = LocalDate.of(2024, 6, 15);
 
-        when(repository.findById(99L)).thenReturn(Mono.empty());
+        when(repository.findVisibleById(99L, null, null)).thenReturn(Mono.empty());
 
         Mono<TeacherClassResponseDTO> result = teacherClassService.updateTeachingDates(99L, newStartDate, newEndDate);
 
         assertThrows(TeacherClassNotFoundException.class, result::block);
-        verify(repository).findById(99L);
+        verify(repository).findVisibleById(99L, null, null);
         verify(repository, never()).save(any());
     }
 
@@ -1038,29 +1134,29 @@ class TeacherClassServiceTest {
         LocalDate newStartDate = LocalDate.of(2024, 2, 1);
         LocalDate newEndDate = LocalDate.of(2024, 6, 15);
 
-        when(repository.findById(1L)).thenReturn(Mono.just(testTeacherClass));
-        when(classService.isClassInSection(100L, 2L)).thenReturn(Mono.just(false)); // Class not in section 2
+        when(repository.findVisibleById(1L, null, 2L)).thenReturn(Mono.empty());
 
         Mono<TeacherClassResponseDTO> result = teacherClassService.updateTeachingDates(1L, newStartDate, newEndDate);
 
         assertThrows(TeacherClassNotFoundException.class, result::block);
-        verify(repository).findById(1L);
-        verify(classService).isClassInSection(100L, 2L);
+        verify(repository).findVisibleById(1L, null, 2L);
         verify(repository, never()).save(any());
     }
 
     @Test
     @DisplayName("updateTeachingDates - When repository error throws TeacherClassServerErrorException")
     void testUpdateTeachingDates_RepositoryError_ThrowsException() {
+        setUpUserMocking(null);
+
         LocalDate newStartDate = LocalDate.of(2024, 2, 1);
         LocalDate newEndDate = LocalDate.of(2024, 6, 15);
 
-        when(repository.findById(1L)).thenReturn(Mono.error(new RuntimeException("Database error")));
+        when(repository.findVisibleById(1L, null, null)).thenReturn(Mono.error(new RuntimeException("Database error")));
 
         Mono<TeacherClassResponseDTO> result = teacherClassService.updateTeachingDates(1L, newStartDate, newEndDate);
 
         assertThrows(TeacherClassServerErrorException.class, result::block);
-        verify(repository).findById(1L);
+        verify(repository).findVisibleById(1L, null, null);
         verify(repository, never()).save(any());
     }
 
@@ -1072,13 +1168,13 @@ class TeacherClassServiceTest {
         LocalDate newStartDate = LocalDate.of(2024, 2, 1);
         LocalDate newEndDate = LocalDate.of(2024, 6, 15);
 
-        when(repository.findById(1L)).thenReturn(Mono.just(testTeacherClass));
+        when(repository.findVisibleById(1L, 10L, null)).thenReturn(Mono.just(testTeacherClass));
         when(repository.save(any(TeacherClass.class))).thenReturn(Mono.error(new RuntimeException("Save failed")));
 
         Mono<TeacherClassResponseDTO> result = teacherClassService.updateTeachingDates(1L, newStartDate, newEndDate);
 
         assertThrows(TeacherClassServerErrorException.class, result::block);
-        verify(repository).findById(1L);
+        verify(repository).findVisibleById(1L, 10L, null);
         verify(repository).save(any(TeacherClass.class));
     }
 
@@ -1105,12 +1201,6 @@ class TeacherClassServiceTest {
                 .name("John Doe")
                 .build();
 
-        TeacherClass existingClass = TeacherClass.builder()
-            .id(1L)
-            .teacherId(teacherId)
-            .workHours(currentHours)
-            .build();
-
         TeacherClassAssignHoursRequestDTO request = 
             TeacherClassAssignHoursRequestDTO.builder()
                 .workHoursToAssign(hoursToAssign)
@@ -1119,8 +1209,7 @@ class TeacherClassServiceTest {
         // When
         when(semesterService.getCurrentSemesterId()).thenReturn(Mono.just(1L));
         when(teacherService.getTeacherById(teacherId)).thenReturn(Mono.just(teacherDTO));
-        when(repository.findBySemesterIdAndTeacherId(1L, teacherId))
-            .thenReturn(Flux.just(existingClass));
+        when(teacherWorkloadProjection.getAssignedHours(1L, teacherId)).thenReturn(Mono.just(currentHours));
         when(userService.getUserInformationById(100L)).thenReturn(Mono.just(userInfo));
 
         // Then
@@ -1136,7 +1225,7 @@ class TeacherClassServiceTest {
 
         verify(semesterService).getCurrentSemesterId();
         verify(teacherService).getTeacherById(teacherId);
-        verify(repository).findBySemesterIdAndTeacherId(1L, teacherId);
+        verify(teacherWorkloadProjection).getAssignedHours(1L, teacherId);
         verify(userService).getUserInformationById(100L);
     }
 
@@ -1162,18 +1251,6 @@ class TeacherClassServiceTest {
                 .name("Jane Smith")
                 .build();
 
-        TeacherClass existingClass1 = TeacherClass.builder()
-            .id(1L)
-            .teacherId(teacherId)
-            .workHours(15)
-            .build();
-
-        TeacherClass existingClass2 = TeacherClass.builder()
-            .id(2L)
-            .teacherId(teacherId)
-            .workHours(15)
-            .build();
-
         TeacherClassAssignHoursRequestDTO request = 
             TeacherClassAssignHoursRequestDTO.builder()
                 .workHoursToAssign(hoursToAssign)
@@ -1182,8 +1259,7 @@ class TeacherClassServiceTest {
         // When
         when(semesterService.getCurrentSemesterId()).thenReturn(Mono.just(1L));
         when(teacherService.getTeacherById(teacherId)).thenReturn(Mono.just(teacherDTO));
-        when(repository.findBySemesterIdAndTeacherId(1L, teacherId))
-            .thenReturn(Flux.just(existingClass1, existingClass2));
+        when(teacherWorkloadProjection.getAssignedHours(1L, teacherId)).thenReturn(Mono.just(30));
         when(userService.getUserInformationById(100L)).thenReturn(Mono.just(userInfo));
 
         // Then
@@ -1199,7 +1275,7 @@ class TeacherClassServiceTest {
 
         verify(semesterService).getCurrentSemesterId();
         verify(teacherService).getTeacherById(teacherId);
-        verify(repository).findBySemesterIdAndTeacherId(1L, teacherId);
+        verify(teacherWorkloadProjection).getAssignedHours(1L, teacherId);
         verify(userService).getUserInformationById(100L);
     }
 
@@ -1231,8 +1307,7 @@ class TeacherClassServiceTest {
         // When
         when(semesterService.getCurrentSemesterId()).thenReturn(Mono.just(1L));
         when(teacherService.getTeacherById(teacherId)).thenReturn(Mono.just(teacherDTO));
-        when(repository.findBySemesterIdAndTeacherId(1L, teacherId))
-            .thenReturn(Flux.empty()); // No existing assignments
+        when(teacherWorkloadProjection.getAssignedHours(1L, teacherId)).thenReturn(Mono.just(0)); // No existing assignments
         when(userService.getUserInformationById(100L)).thenReturn(Mono.just(userInfo));
 
         // Then
@@ -1248,7 +1323,7 @@ class TeacherClassServiceTest {
 
         verify(semesterService).getCurrentSemesterId();
         verify(teacherService).getTeacherById(teacherId);
-        verify(repository).findBySemesterIdAndTeacherId(1L, teacherId);
+        verify(teacherWorkloadProjection).getAssignedHours(1L, teacherId);
         verify(userService).getUserInformationById(100L);
     }
 
@@ -1272,12 +1347,6 @@ class TeacherClassServiceTest {
                 .name("Test Teacher")
                 .build();
 
-        TeacherClass existingClass = TeacherClass.builder()
-            .id(1L)
-            .teacherId(teacherId)
-            .workHours(currentHours)
-            .build();
-
         TeacherClassAssignHoursRequestDTO request = 
             TeacherClassAssignHoursRequestDTO.builder()
                 .workHoursToAssign(null) // Null hours
@@ -1286,8 +1355,7 @@ class TeacherClassServiceTest {
         // When
         when(semesterService.getCurrentSemesterId()).thenReturn(Mono.just(1L));
         when(teacherService.getTeacherById(teacherId)).thenReturn(Mono.just(teacherDTO));
-        when(repository.findBySemesterIdAndTeacherId(1L, teacherId))
-            .thenReturn(Flux.just(existingClass));
+        when(teacherWorkloadProjection.getAssignedHours(1L, teacherId)).thenReturn(Mono.just(currentHours));
         when(userService.getUserInformationById(100L)).thenReturn(Mono.just(userInfo));
 
         // Then
@@ -1303,7 +1371,7 @@ class TeacherClassServiceTest {
 
         verify(semesterService).getCurrentSemesterId();
         verify(teacherService).getTeacherById(teacherId);
-        verify(repository).findBySemesterIdAndTeacherId(1L, teacherId);
+        verify(teacherWorkloadProjection).getAssignedHours(1L, teacherId);
         verify(userService).getUserInformationById(100L);
     }
 
@@ -1328,12 +1396,6 @@ class TeacherClassServiceTest {
                 .name("Perfect Teacher")
                 .build();
 
-        TeacherClass existingClass = TeacherClass.builder()
-            .id(1L)
-            .teacherId(teacherId)
-            .workHours(currentHours)
-            .build();
-
         TeacherClassAssignHoursRequestDTO request = 
             TeacherClassAssignHoursRequestDTO.builder()
                 .workHoursToAssign(hoursToAssign)
@@ -1342,8 +1404,7 @@ class TeacherClassServiceTest {
         // When
         when(semesterService.getCurrentSemesterId()).thenReturn(Mono.just(1L));
         when(teacherService.getTeacherById(teacherId)).thenReturn(Mono.just(teacherDTO));
-        when(repository.findBySemesterIdAndTeacherId(1L, teacherId))
-            .thenReturn(Flux.just(existingClass));
+        when(teacherWorkloadProjection.getAssignedHours(1L, teacherId)).thenReturn(Mono.just(currentHours));
         when(userService.getUserInformationById(100L)).thenReturn(Mono.just(userInfo));
 
         // Then
@@ -1359,7 +1420,7 @@ class TeacherClassServiceTest {
 
         verify(semesterService).getCurrentSemesterId();
         verify(teacherService).getTeacherById(teacherId);
-        verify(repository).findBySemesterIdAndTeacherId(1L, teacherId);
+        verify(teacherWorkloadProjection).getAssignedHours(1L, teacherId);
         verify(userService).getUserInformationById(100L);
     }
 
@@ -1383,9 +1444,7 @@ class TeacherClassServiceTest {
                 .name("Busy Teacher")
                 .build();
 
-        TeacherClass class1 = TeacherClass.builder().id(1L).teacherId(teacherId).workHours(8).build();
         TeacherClass class2 = TeacherClass.builder().id(2L).teacherId(teacherId).workHours(7).build();
-        TeacherClass class3 = TeacherClass.builder().id(3L).teacherId(teacherId).workHours(10).build();
         TeacherClass class4 = TeacherClass.builder().id(4L).teacherId(teacherId).workHours(12).build();
         // Total: 8 + 7 + 10 + 12 = 37
 
@@ -1397,8 +1456,7 @@ class TeacherClassServiceTest {
         // When
         when(semesterService.getCurrentSemesterId()).thenReturn(Mono.just(1L));
         when(teacherService.getTeacherById(teacherId)).thenReturn(Mono.just(teacherDTO));
-        when(repository.findBySemesterIdAndTeacherId(1L, teacherId))
-            .thenReturn(Flux.just(class1, class2, class3, class4));
+        when(teacherWorkloadProjection.getAssignedHours(1L, teacherId)).thenReturn(Mono.just(37));
         when(userService.getUserInformationById(100L)).thenReturn(Mono.just(userInfo));
 
         // Then
@@ -1414,7 +1472,7 @@ class TeacherClassServiceTest {
 
         verify(semesterService).getCurrentSemesterId();
         verify(teacherService).getTeacherById(teacherId);
-        verify(repository).findBySemesterIdAndTeacherId(1L, teacherId);
+        verify(teacherWorkloadProjection).getAssignedHours(1L, teacherId);
         verify(userService).getUserInformationById(100L);
     }
 
@@ -1428,7 +1486,7 @@ class TeacherClassServiceTest {
         // When
         when(semesterService.getCurrentSemesterId()).thenReturn(Mono.just(1L));
         when(teacherService.getTeacherById(teacherId)).thenReturn(Mono.just(TeacherResponseDTO.builder().id(teacherId).build()));
-        when(repository.findBySemesterIdAndTeacherId(1L, teacherId)).thenReturn(Flux.error(new RuntimeException("Database error")));
+        when(teacherWorkloadProjection.getAssignedHours(1L, teacherId)).thenReturn(Mono.error(new RuntimeException("Database error")));
 
         // Then
         Mono<TeacherClassAssignHoursResponseDTO> result = teacherClassService.getTeacherExtraHoursWarning(teacherId, request);
@@ -1436,10 +1494,122 @@ class TeacherClassServiceTest {
 
         verify(semesterService).getCurrentSemesterId();
         verify(teacherService).getTeacherById(teacherId);
-        verify(repository).findBySemesterIdAndTeacherId(1L, teacherId);
+        verify(teacherWorkloadProjection).getAssignedHours(1L, teacherId);
         verify(userService, never()).getUserInformationById(100L);
     }
 
+    // ==================== TEACHER WORKLOAD TESTS ====================
+
+    @Test
+    @DisplayName("createTeacherClass - Should add the new work hours to the workload projection")
+    void testCreateTeacherClass_UpdatesWorkloadProjection() {
+        TeacherClass savedTeacherClass = TeacherClass.builder()
+                .id(1L)
+                .teacherId(10L)
+                .classId(100L)
+                .semesterId(1L)
+                .workHours(6)
+                .statusId(STATUS_PENDING_ID)
+                .build();
+
+        when(semesterService.getCurrentSemesterId()).thenReturn(Mono.just(1L));
+        when(modelMapper.map(testTeacherClassRequestDTO, TeacherClass.class)).thenReturn(TeacherClass.builder().teacherId(10L).classId(100L).workHours(6).build());
+        when(repository.save(any(TeacherClass.class))).thenReturn(Mono.just(savedTeacherClass));
+        when(modelMapper.map(savedTeacherClass, TeacherClassResponseDTO.class)).thenReturn(testTeacherClassResponseDTO);
+
+        teacherClassService.createTeacherClass(testTeacherClassRequestDTO).block();
+
+        verify(teacherWorkloadProjection).applyDelta(1L, 10L, 6);
+    }
+
+    @Test
+    @DisplayName("deleteTeacherClassByTeacherAndClass - Should remove the work hours from the workload projection")
+    void testDeleteTeacherClassByTeacherAndClass_UpdatesWorkloadProjection() {
+        setUpUserMocking(null);
+        testTeacherClass.setWorkHours(6);
+
+        when(repository.findVisibleByTeacherIdAndClassId(10L, 100L, null, null)).thenReturn(Mono.just(testTeacherClass));
+        when(repository.deleteById(1L)).thenReturn(Mono.empty());
+
+        StepVerifier.create(teacherClassService.deleteTeacherClassByTeacherAndClass(10L, 100L))
+                .verifyComplete();
+
+        verify(teacherWorkloadProjection).applyDelta(1L, 10L, -6);
+    }
+
+    @Test
+    @DisplayName("getSectionTeacherWorkloads - Should return workload of every teacher of the section in one lookup")
+    void testGetSectionTeacherWorkloads_ReturnsWorkloadPerTeacher() {
+        setUpUserMocking(5L);
+        TeacherResponseDTO teacher10 = TeacherResponseDTO.builder().id(10L).userId(100L).maxHours(20).build();
+        TeacherResponseDTO teacher20 = TeacherResponseDTO.builder().id(20L).userId(200L).maxHours(10).build();
+        java.util.List<Long> teacherIds = java.util.List.of(10L, 20L);
+
+        when(semesterService.getCurrentSemesterId()).thenReturn(Mono.just(1L));
+        when(repository.findTeacherIdsBySemesterIdAndSectionId(1L, 5L)).thenReturn(Flux.fromIterable(teacherIds));
+        when(teacherWorkloadProjection.getAssignedHours(1L, teacherIds)).thenReturn(Mono.just(java.util.Map.of(10L, 12, 20L, 14)));
+        when(teacherService.getTeachersByIds(teacherIds)).thenReturn(Flux.just(teacher20, teacher10));
+        when(userService.getUserInformationByIds(java.util.List.of(200L, 100L))).thenReturn(Flux.just(
+                UserInformationResponseDTO.builder().id(100L).name("Ana").build(),
+                UserInformationResponseDTO.builder().id(200L).name("Luis").build()));
+
+        java.util.List<TeacherWorkloadResponseDTO> result = teacherClassService.getSectionTeacherWorkloads(5L).collectList().block();
+
+        assertNotNull(result);
+        assertEquals(2, result.size());
+        assertEquals(10L, result.get(0).getTeacherId());
+        assertEquals("Ana", result.get(0).getTeacherName());
+        assertEquals(12, result.get(0).getTotalAssignedHours());
+        assertEquals(8, result.get(0).getAvailableHours());
+        assertEquals(0, result.get(0).getExceedsMaxHours());
+        assertEquals(20L, result.get(1).getTeacherId());
+        assertEquals("Luis", result.get(1).getTeacherName());
+        assertEquals(0, result.get(1).getAvailableHours());
+        assertEquals(4, result.get(1).getExceedsMaxHours());
+        verify(teacherService, never()).getTeacherById(anyLong());
+        verify(repository, never()).findVisibleBySemesterIdAndTeacherId(anyLong(), anyLong(), any(), any());
+        verify(userService, never()).getUserInformationById(anyLong());
+    }
+
+    @Test
+    @DisplayName("getSectionTeacherWorkloads - When section has no teachers returns empty")
+    void testGetSectionTeacherWorkloads_NoTeachers_ReturnsEmpty() {
+        setUpUserMocking(null);
+        when(semesterService.getCurrentSemesterId()).thenReturn(Mono.just(1L));
+        when(repository.findTeacherIdsBySemesterIdAndSectionId(1L, 5L)).thenReturn(Flux.empty());
+
+        StepVerifier.create(teacherClassService.getSectionTeacherWorkloads(5L))
+                .verifyComplete();
+
+        verifyNoInteractions(teacherWorkloadProjection);
+        verify(teacherService, never()).getTeachersByIds(anyCollection());
+    }
+
+    @Test
+    @DisplayName("getSectionTeacherWorkloads - When repository fails throws TeacherClassServerErrorException")
+    void testGetSectionTeacherWorkloads_RepositoryError_ThrowsException() {
+        setUpUserMocking(null);
+        when(semesterService.getCurrentSemesterId()).thenReturn(Mono.just(1L));
+        when(repository.findTeacherIdsBySemesterIdAndSectionId(1L, 5L)).thenReturn(Flux.error(new RuntimeException("Database error")));
+
+        StepVerifier.create(teacherClassService.getSectionTeacherWorkloads(5L))
+                .expectError(TeacherClassServerErrorException.class)
+                .verify();
+    }
+
+    @Test
+    @DisplayName("getSectionTeacherWorkloads - When section head requests another section throws AccessDeniedException")
+    void testGetSectionTeacherWorkloads_OtherSection_ThrowsAccessDenied() {
+        setUpUserMocking(7L);
+
+        StepVerifier.create(teacherClassService.getSectionTeacherWorkloads(5L))
+                .expectError(AccessDeniedException.class)
+                .verify();
+
+        verifyNoInteractions(repository, teacherWorkloadProjection);
+        verify(semesterService, never()).getCurrentSemesterId();
+    }
+
     // ==================== LIST PENDING DECISION CLASSES FOR CURRENT SEMESTER TESTS ====================
 
     @ParameterizedTest(name = "listPendingDecisionClassesForCurrentSemester - When user has section {0} returns filtered pending classes")
@@ -1466,8 +1636,7 @@ class TeacherClassServiceTest {
                 .build();
 
         when(semesterService.getCurrentSemesterId()).thenReturn(Mono.just(1L));
-        when(repository.findBySemesterIdAndStatusId(1L, STATUS_PENDING_ID)).thenReturn(Flux.just(pendingClass));
-        when(classService.isClassInSection(100L, userSection)).thenReturn(Mono.just(true));
+        when(repository.findVisibleBySemesterIdAndStatusId(1L, STATUS_PENDING_ID, null, userSection)).thenReturn(Flux.just(pendingClass));
         when(modelMapper.map(pendingClass, TeacherClassResponseDTO.class)).thenReturn(pendingResponseDTO);
 
         Flux<TeacherClassResponseDTO> result = teacherClassService.listPendingDecisionClassesForCurrentSemester();
@@ -1477,7 +1646,7 @@ class TeacherClassServiceTest {
                 .verifyComplete();
 
         verify(semesterService).getCurrentSemesterId();
-        verify(repository).findBySemesterIdAndStatusId(1L, STATUS_PENDING_ID);
+        verify(repository).findVisibleBySemesterIdAndStatusId(1L, STATUS_PENDING_ID, null, userSection);
     }
 
     @Test
@@ -1503,7 +1672,7 @@ class TeacherClassServiceTest {
                 .build();
 
         when(semesterService.getCurrentSemesterId()).thenReturn(Mono.just(1L));
-        when(repository.findBySemesterIdAndStatusId(1L, STATUS_PENDING_ID)).thenReturn(Flux.just(pendingClass));
+        when(repository.findVisibleBySemesterIdAndStatusId(1L, STATUS_PENDING_ID, 10L, null)).thenReturn(Flux.just(pendingClass));
         when(modelMapper.map(pendingClass, TeacherClassResponseDTO.class)).thenReturn(pendingResponseDTO);
 
         Flux<TeacherClassResponseDTO> result = teacherClassService.listPendingDecisionClassesForCurrentSemester();
@@ -1521,17 +1690,8 @@ class TeacherClassServiceTest {
     void testListPendingDecisionClassesForCurrentSemester_TeacherRole_FiltersOtherTeachers() {
         setUpTeacherMocking(99L); // Different teacher ID
 
-        TeacherClass pendingClass = TeacherClass.builder()
-                .id(1L)
-                .teacherId(10L) // Different from mocked teacher ID
-                .classId(100L)
-                .semesterId(1L)
-                .statusId(STATUS_PENDING_ID)
-                .decision(null)
-                .build();
-
         when(semesterService.getCurrentSemesterId()).thenReturn(Mono.just(1L));
-        when(repository.findBySemesterIdAndStatusId(1L, STATUS_PENDING_ID)).thenReturn(Flux.just(pendingClass));
+        when(repository.findVisibleBySemesterIdAndStatusId(1L, STATUS_PENDING_ID, 99L, null)).thenReturn(Flux.empty());
         
         Flux<TeacherClassResponseDTO> result = teacherClassService.listPendingDecisionClassesForCurrentSemester();
 
@@ -1582,7 +1742,7 @@ class TeacherClassServiceTest {
                 .build();
 
         when(semesterService.getCurrentSemesterId()).thenReturn(Mono.just(1L));
-        when(repository.findBySemesterIdAndStatusId(1L, STATUS_PENDING_ID))
+        when(repository.findVisibleBySemesterIdAndStatusId(1L, STATUS_PENDING_ID, null, null))
                 .thenReturn(Flux.just(pendingClass1, pendingClass2));
         when(modelMapper.map(pendingClass1, TeacherClassResponseDTO.class)).thenReturn(pendingResponseDTO1);
         when(modelMapper.map(pendingClass2, TeacherClassResponseDTO.class)).thenReturn(pendingResponseDTO2);
@@ -1595,14 +1755,16 @@ class TeacherClassServiceTest {
                 .verifyComplete();
 
         verify(semesterService).getCurrentSemesterId();
-        verify(repository).findBySemesterIdAndStatusId(1L, STATUS_PENDING_ID);
+        verify(repository).findVisibleBySemesterIdAndStatusId(1L, STATUS_PENDING_ID, null, null);
     }
 
     @Test
     @DisplayName("listPendingDecisionClassesForCurrentSemester - When no pending classes returns empty")
     void testListPendingDecisionClassesForCurrentSemester_NoPendingClasses_ReturnsEmpty() {
+        setUpUserMocking(null);
+
         when(semesterService.getCurrentSemesterId()).thenReturn(Mono.just(1L));
-        when(repository.findBySemesterIdAndStatusId(1L, STATUS_PENDING_ID)).thenReturn(Flux.empty());
+        when(repository.findVisibleBySemesterIdAndStatusId(1L, STATUS_PENDING_ID, null, null)).thenReturn(Flux.empty());
 
         Flux<TeacherClassResponseDTO> result = teacherClassService.listPendingDecisionClassesForCurrentSemester();
 
@@ -1610,7 +1772,7 @@ class TeacherClassServiceTest {
                 .verifyComplete();
 
         verify(semesterService).getCurrentSemesterId();
-        verify(repository).findBySemesterIdAndStatusId(1L, STATUS_PENDING_ID);
+        verify(repository).findVisibleBySemesterIdAndStatusId(1L, STATUS_PENDING_ID, null, null);
     }
 
     @Test
@@ -1625,14 +1787,16 @@ class TeacherClassServiceTest {
                 .verify();
 
         verify(semesterService).getCurrentSemesterId();
-        verify(repository, never()).findBySemesterIdAndStatusId(anyLong(), anyLong());
+        verify(repository, never()).findVisibleBySemesterIdAndStatusId(anyLong(), anyLong(), any(), any());
     }
 
     @Test
     @DisplayName("listPendingDecisionClassesForCurrentSemester - When repository fails throws TeacherClassServerErrorException")
     void testListPendingDecisionClassesForCurrentSemester_RepositoryFails_ThrowsException() {
+        setUpUserMocking(null);
+
         when(semesterService.getCurrentSemesterId()).thenReturn(Mono.just(1L));
-        when(repository.findBySemesterIdAndStatusId(1L, STATUS_PENDING_ID))
+        when(repository.findVisibleBySemesterIdAndStatusId(1L, STATUS_PENDING_ID, null, null))
                 .thenReturn(Flux.error(new RuntimeException("Repository error")));
 
         Flux<TeacherClassResponseDTO> result = teacherClassService.listPendingDecisionClassesForCurrentSemester();
@@ -1642,6 +1806,6 @@ class TeacherClassServiceTest {
                 .verify();
 
         verify(semesterService).getCurrentSemesterId();
-        verify(repository).findBySemesterIdAndStatusId(1L, STATUS_PENDING_ID);
+        verify(repository).findVisibleBySemesterIdAndStatusId(1L, STATUS_PENDING_ID, null, null);
     }
 }
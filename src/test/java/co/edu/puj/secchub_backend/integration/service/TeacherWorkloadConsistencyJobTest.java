@@ -0,0 +1,46 @@
+package co.edu.puj.secchub_backend.integration.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import co.edu.puj.secchub_backend.admin.contract.AdminModuleSemesterContract;
+import reactor.core.publisher.Mono;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TeacherWorkloadConsistencyJob Unit Test")
+class TeacherWorkloadConsistencyJobTest {
+
+    @Mock
+    private AdminModuleSemesterContract semesterService;
+    @Mock
+    private TeacherWorkloadProjection teacherWorkloadProjection;
+
+    @InjectMocks
+    private TeacherWorkloadConsistencyJob teacherWorkloadConsistencyJob;
+
+    @Test
+    @DisplayName("checkConsistency - Should reconcile the current semester")
+    void testCheckConsistency_ReconcilesCurrentSemester() {
+        when(semesterService.getCurrentSemesterId()).thenReturn(Mono.just(3L));
+        when(teacherWorkloadProjection.reconcile(3L)).thenReturn(Mono.just(2));
+
+        assertEquals(2, teacherWorkloadConsistencyJob.checkConsistency().block());
+        verify(teacherWorkloadProjection).reconcile(3L);
+    }
+
+    @Test
+    @DisplayName("checkConsistency - When there is no current semester returns zero")
+    void testCheckConsistency_NoCurrentSemester_ReturnsZero() {
+        when(semesterService.getCurrentSemesterId()).thenReturn(Mono.empty());
+
+        assertEquals(0, teacherWorkloadConsistencyJob.checkConsistency().block());
+        verifyNoInteractions(teacherWorkloadProjection);
+    }
+}
@@ -0,0 +1,189 @@
+package co.edu.puj.secchub_backend.integration.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import co.edu.puj.secchub_backend.config.LocalCacheInvalidationTransport;
+import co.edu.puj.secchub_backend.config.ReadModelInvalidations;
+import co.edu.puj.secchub_backend.integration.dto.TeacherAssignedHoursDTO;
+import co.edu.puj.secchub_backend.integration.repository.TeacherClassRepository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TeacherWorkloadProjection Unit Test")
+class TeacherWorkloadProjectionTest {
+
+    @Mock
+    private TeacherClassRepository repository;
+
+    private final LocalCacheInvalidationTransport transport = new LocalCacheInvalidationTransport();
+
+    private TeacherWorkloadProjection teacherWorkloadProjection;
+
+    @BeforeEach
+    void setUp() {
+        teacherWorkloadProjection = newProjection();
+    }
+
+    @Test
+    @DisplayName("getAssignedHours - Should load once from the database and serve later reads from memory")
+    void testGetAssignedHours_LoadsOnceThenServesFromMemory() {
+        when(repository.sumWorkHoursBySemesterIdAndTeacherIds(1L, List.of(10L)))
+                .thenReturn(Flux.just(new TeacherAssignedHoursDTO(10L, 12L)));
+
+        assertEquals(12, teacherWorkloadProjection.getAssignedHours(1L, 10L).block());
+        assertEquals(12, teacherWorkloadProjection.getAssignedHours(1L, 10L).block());
+
+        verify(repository, times(1)).sumWorkHoursBySemesterIdAndTeacherIds(1L, List.of(10L));
+    }
+
+    @Test
+    @DisplayName("getAssignedHours - When teacher has no assignments returns zero")
+    void testGetAssignedHours_NoAssignments_ReturnsZero() {
+        when(repository.sumWorkHoursBySemesterIdAndTeacherIds(1L, List.of(10L))).thenReturn(Flux.empty());
+
+        assertEquals(0, teacherWorkloadProjection.getAssignedHours(1L, 10L).block());
+    }
+
+    @Test
+    @DisplayName("getAssignedHours - Should load only the teachers not yet tracked in one query")
+    void testGetAssignedHours_Bulk_LoadsOnlyMissingTeachers() {
+        when(repository.sumWorkHoursBySemesterIdAndTeacherIds(1L, List.of(10L)))
+                .thenReturn(Flux.just(new TeacherAssignedHoursDTO(10L, 12L)));
+        when(repository.sumWorkHoursBySemesterIdAndTeacherIds(1L, List.of(20L, 30L)))
+                .thenReturn(Flux.just(new TeacherAssignedHoursDTO(20L, 8L)));
+
+        teacherWorkloadProjection.getAssignedHours(1L, 10L).block();
+        Map<Long, Integer> result = teacherWorkloadProjection.getAssignedHours(1L, List.of(10L, 20L, 30L)).block();
+
+        assertEquals(Map.of(10L, 12, 20L, 8, 30L, 0), result);
+        verify(repository).sumWorkHoursBySemesterIdAndTeacherIds(1L, List.of(20L, 30L));
+    }
+
+    @Test
+    @DisplayName("applyDelta - Should drop the tracked teacher so the next read reloads it")
+    void testApplyDelta_DropsTrackedTeacher() {
+        when(repository.sumWorkHoursBySemesterIdAndTeacherIds(1L, List.of(10L)))
+                .thenReturn(Flux.just(new TeacherAssignedHoursDTO(10L, 12L)))
+                .thenReturn(Flux.just(new TeacherAssignedHoursDTO(10L, 16L)));
+
+        teacherWorkloadProjection.getAssignedHours(1L, 10L).block();
+        teacherWorkloadProjection.applyDelta(1L, 10L, 6);
+        teacherWorkloadProjection.applyDelta(1L, 10L, -2);
+
+        assertEquals(16, teacherWorkloadProjection.getAssignedHours(1L, 10L).block());
+        assertEquals(16, teacherWorkloadProjection.getAssignedHours(1L, 10L).block());
+        verify(repository, times(2)).sumWorkHoursBySemesterIdAndTeacherIds(1L, List.of(10L));
+    }
+
+    @Test
+    @DisplayName("applyDelta - When a load is running should not store the value it read before the change")
+    void testApplyDelta_DuringLoad_DoesNotStoreStaleValue() {
+        Sinks.One<TeacherAssignedHoursDTO> slowLoad = Sinks.one();
+        when(repository.sumWorkHoursBySemesterIdAndTeacherIds(1L, List.of(10L)))
+                .thenReturn(slowLoad.asMono().flux())
+                .thenReturn(Flux.just(new TeacherAssignedHoursDTO(10L, 18L)));
+
+        AtomicReference<Integer> firstRead = new AtomicReference<>();
+        teacherWorkloadProjection.getAssignedHours(1L, 10L).subscribe(firstRead::set);
+        teacherWorkloadProjection.applyDelta(1L, 10L, 6);
+        slowLoad.tryEmitValue(new TeacherAssignedHoursDTO(10L, 12L));
+
+        assertEquals(12, firstRead.get());
+        assertEquals(18, teacherWorkloadProjection.getAssignedHours(1L, 10L).block());
+        verify(repository, times(2)).sumWorkHoursBySemesterIdAndTeacherIds(1L, List.of(10L));
+    }
+
+    @Test
+    @DisplayName("applyDelta - Should make other instances reload the teacher on their next read")
+    void testApplyDelta_OtherInstancesReload() {
+        TeacherWorkloadProjection otherInstance = newProjection();
+        when(repository.sumWorkHoursBySemesterIdAndTeacherIds(1L, List.of(10L)))
+                .thenReturn(Flux.just(new TeacherAssignedHoursDTO(10L, 12L)))
+                .thenReturn(Flux.just(new TeacherAssignedHoursDTO(10L, 12L)))
+                .thenReturn(Flux.just(new TeacherAssignedHoursDTO(10L, 15L)));
+
+        teacherWorkloadProjection.getAssignedHours(1L, 10L).block();
+        otherInstance.getAssignedHours(1L, 10L).block();
+        teacherWorkloadProjection.applyDelta(1L, 10L, 3);
+
+        assertEquals(15, teacherWorkloadProjection.getAssignedHours(1L, 10L).block());
+        assertEquals(15, otherInstance.getAssignedHours(1L, 10L).block());
+        verify(repository, times(4)).sumWorkHoursBySemesterIdAndTeacherIds(1L, List.of(10L));
+    }
+
+    @Test
+    @DisplayName("reconcile - Should correct drifted entries of the semester and report how many changed")
+    void testReconcile_CorrectsDriftedEntries() {
+        when(repository.sumWorkHoursBySemesterIdAndTeacherIds(eq(1L), anyCollection()))
+                .thenReturn(Flux.just(new TeacherAssignedHoursDTO(10L, 12L), new TeacherAssignedHoursDTO(20L, 8L)));
+        when(repository.sumWorkHoursBySemesterId(1L))
+                .thenReturn(Flux.just(new TeacherAssignedHoursDTO(10L, 12L), new TeacherAssignedHoursDTO(20L, 5L),
+                        new TeacherAssignedHoursDTO(30L, 3L)));
+
+        teacherWorkloadProjection.getAssignedHours(1L, List.of(10L, 20L, 30L)).block();
+
+        Integer corrected = teacherWorkloadProjection.reconcile(1L).block();
+
+        assertEquals(2, corrected);
+        assertEquals(Map.of(10L, 12, 20L, 5, 30L, 3),
+                teacherWorkloadProjection.getAssignedHours(1L, List.of(10L, 20L, 30L)).block());
+        verify(repository, times(1)).sumWorkHoursBySemesterIdAndTeacherIds(eq(1L), anyCollection());
+    }
+
+    @Test
+    @DisplayName("reconcile - Should not overwrite an entry that changed while the database was read")
+    void testReconcile_ChangeDuringQuery_KeepsReloadedEntry() {
+        Sinks.One<TeacherAssignedHoursDTO> slowReconcile = Sinks.one();
+        when(repository.sumWorkHoursBySemesterIdAndTeacherIds(1L, List.of(10L)))
+                .thenReturn(Flux.just(new TeacherAssignedHoursDTO(10L, 12L)))
+                .thenReturn(Flux.just(new TeacherAssignedHoursDTO(10L, 18L)));
+        when(repository.sumWorkHoursBySemesterId(1L)).thenReturn(slowReconcile.asMono().flux());
+
+        teacherWorkloadProjection.getAssignedHours(1L, 10L).block();
+        AtomicReference<Integer> corrected = new AtomicReference<>();
+        teacherWorkloadProjection.reconcile(1L).subscribe(corrected::set);
+        teacherWorkloadProjection.applyDelta(1L, 10L, 6);
+        teacherWorkloadProjection.getAssignedHours(1L, 10L).block();
+        slowReconcile.tryEmitValue(new TeacherAssignedHoursDTO(10L, 12L));
+
+        assertEquals(0, corrected.get());
+        assertEquals(18, teacherWorkloadProjection.getAssignedHours(1L, 10L).block());
+    }
+
+    @Test
+    @DisplayName("reconcile - When nothing drifted returns zero")
+    void testReconcile_NoDrift_ReturnsZero() {
+        when(repository.sumWorkHoursBySemesterIdAndTeacherIds(1L, List.of(10L)))
+                .thenReturn(Flux.just(new TeacherAssignedHoursDTO(10L, 12L)));
+        when(repository.sumWorkHoursBySemesterId(1L))
+                .thenReturn(Flux.just(new TeacherAssignedHoursDTO(10L, 12L)));
+
+        teacherWorkloadProjection.getAssignedHours(1L, 10L).block();
+
+        assertEquals(0, teacherWorkloadProjection.reconcile(1L).block());
+    }
+
+    /**
+     * Creates a projection listening to the shared transport, as the container would.
+     */
+    private TeacherWorkloadProjection newProjection() {
+        TeacherWorkloadProjection projection =
+                new TeacherWorkloadProjection(repository, new ReadModelInvalidations(transport));
+        projection.listenToRemoteChanges();
+        return projection;
+    }
+}
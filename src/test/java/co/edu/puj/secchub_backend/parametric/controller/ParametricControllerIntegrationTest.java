@@ -1,12 +1,17 @@
 package co.edu.puj.secchub_backend.parametric.controller;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.util.List;
 import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -17,7 +22,9 @@ import org.junit.jupiter.params.provider.MethodSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.EntityExchangeResult;
 import org.springframework.test.web.reactive.server.WebTestClient;
 import org.testcontainers.junit.jupiter.Testcontainers;
 
@@ -791,4 +798,72 @@ class ParametricControllerIntegrationTest extends DatabaseContainerIntegration {
         assertTrue(documentTypes.stream().anyMatch(d -> d.getName().equals("NIT")),
                 "NIT should exist");
     }
+
+    // ==========================================
+    // Pre-encoded List Tests
+    // ==========================================
+
+    @Test
+    @DisplayName("GET /parametric/modalities - Gzip variant decompresses to the JSON variant")
+    void getAllModalities_acceptingGzip_returnsGzippedJson() throws IOException {
+        String token = jwtTokenProvider.generateToken("testAdmin@example.com", "ROLE_ADMIN");
+
+        byte[] json = webTestClient.get()
+                .uri("/parametric/modalities")
+                .header("Authorization", "Bearer " + token)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(MediaType.APPLICATION_JSON)
+                .expectHeader().doesNotExist(HttpHeaders.CONTENT_ENCODING)
+                .expectBody().returnResult().getResponseBody();
+
+        EntityExchangeResult<byte[]> gzipResult = webTestClient.get()
+                .uri("/parametric/modalities")
+                .header("Authorization", "Bearer " + token)
+                .header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(HttpHeaders.CONTENT_ENCODING, "gzip")
+                .expectHeader().valueEquals(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                .expectBody().returnResult();
+
+        assertNotNull(json);
+        assertNotNull(gzipResult.getResponseBody());
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(gzipResult.getResponseBody()))) {
+            assertArrayEquals(json, gzip.readAllBytes(), "Gzip variant should hold the same JSON");
+        }
+        assertNotEquals(gzipResult.getResponseHeaders().getETag(),
+                webTestClient.get()
+                        .uri("/parametric/modalities")
+                        .header("Authorization", "Bearer " + token)
+                        .exchange()
+                        .returnResult(String.class)
+                        .getResponseHeaders()
+                        .getETag(),
+                "Each encoding should have its own ETag");
+    }
+
+    @Test
+    @DisplayName("GET /parametric/roles - Current ETag returns 304 without a body")
+    void getAllRoles_withCurrentETag_returns304() {
+        String token = jwtTokenProvider.generateToken("testAdmin@example.com", "ROLE_ADMIN");
+
+        String etag = webTestClient.get()
+                .uri("/parametric/roles")
+                .header("Authorization", "Bearer " + token)
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(String.class)
+                .getResponseHeaders()
+                .getETag();
+        assertNotNull(etag);
+
+        webTestClient.get()
+                .uri("/parametric/roles")
+                .header("Authorization", "Bearer " + token)
+                .header(HttpHeaders.IF_NONE_MATCH, etag)
+                .exchange()
+                .expectStatus().isNotModified()
+                .expectBody().isEmpty();
+    }
 }
@@ -0,0 +1,112 @@
+package co.edu.puj.secchub_backend.parametric.service;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import co.edu.puj.secchub_backend.config.LocalCacheInvalidationTransport;
+import co.edu.puj.secchub_backend.config.ReadModelInvalidations;
+import co.edu.puj.secchub_backend.config.ResourceFamily;
+import co.edu.puj.secchub_backend.config.ResourceVersions;
+import co.edu.puj.secchub_backend.parametric.contracts.ClassroomTypeDTO;
+import co.edu.puj.secchub_backend.parametric.contracts.DocumentTypeDTO;
+import co.edu.puj.secchub_backend.parametric.contracts.EmploymentTypeDTO;
+import co.edu.puj.secchub_backend.parametric.contracts.ModalityDTO;
+import co.edu.puj.secchub_backend.parametric.contracts.RoleDTO;
+import co.edu.puj.secchub_backend.parametric.contracts.StatusDTO;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+/**
+ * Unit tests for ParametricCatalog.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ParametricCatalog Unit Test")
+class ParametricCatalogTest {
+
+    @Mock
+    private ParametricService parametricService;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private ResourceVersions resourceVersions;
+    private ParametricCatalog parametricCatalog;
+
+    @BeforeEach
+    void setUp() {
+        resourceVersions = new ResourceVersions(new ReadModelInvalidations(new LocalCacheInvalidationTransport()));
+        parametricCatalog = new ParametricCatalog(parametricService, objectMapper, resourceVersions);
+    }
+
+    @Test
+    @DisplayName("get - Encodes the lists once and serves the same bytes afterwards")
+    void testGet_EncodesOnce() throws IOException {
+        stubLists("Active");
+        byte[] expected = objectMapper.writeValueAsBytes(List.of(new StatusDTO(1L, "Active")));
+
+        StepVerifier.create(parametricCatalog.get(ParametricList.STATUSES))
+            .assertNext(encoded -> assertArrayEquals(expected, encoded.getJson()))
+            .verifyComplete();
+        StepVerifier.create(parametricCatalog.get(ParametricList.STATUSES))
+            .assertNext(encoded -> assertArrayEquals(expected, encoded.getJson()))
+            .verifyComplete();
+
+        verify(parametricService, times(1)).getAllStatuses();
+    }
+
+    @Test
+    @DisplayName("encode - Gzip variant decompresses to the JSON variant")
+    void testEncode_GzipMatchesJson() throws IOException {
+        ParametricCatalog.EncodedList encoded = ParametricCatalog.encode(objectMapper,
+            List.of(new ModalityDTO(1L, "Presencial"), new ModalityDTO(2L, "Online")));
+
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(encoded.getGzip()))) {
+            assertArrayEquals(encoded.getJson(), gzip.readAllBytes());
+        }
+        assertEquals("[{\"id\":1,\"name\":\"Presencial\"},{\"id\":2,\"name\":\"Online\"}]",
+            new String(encoded.getJson()));
+    }
+
+    @Test
+    @DisplayName("reload - Bumps the parametric version only when a list changed")
+    void testReload_BumpsOnlyOnChange() {
+        stubLists("Active");
+        StepVerifier.create(parametricCatalog.get(ParametricList.STATUSES)).expectNextCount(1).verifyComplete();
+
+        StepVerifier.create(parametricCatalog.reload()).expectNext(false).verifyComplete();
+        assertEquals(0, resourceVersions.getVersion(ResourceFamily.PARAMETRIC));
+
+        stubLists("Activo");
+        StepVerifier.create(parametricCatalog.reload()).expectNext(true).verifyComplete();
+        assertEquals(1, resourceVersions.getVersion(ResourceFamily.PARAMETRIC));
+        StepVerifier.create(parametricCatalog.get(ParametricList.STATUSES))
+            .assertNext(encoded -> assertEquals("[{\"id\":1,\"name\":\"Activo\"}]", new String(encoded.getJson())))
+            .verifyComplete();
+
+        verify(parametricService, times(2)).evictCaches();
+    }
+
+    private void stubLists(String statusName) {
+        when(parametricService.getAllStatuses()).thenReturn(Flux.just(new StatusDTO(1L, statusName)));
+        when(parametricService.getAllRoles()).thenReturn(Flux.just(new RoleDTO(1L, "ROLE_ADMIN")));
+        when(parametricService.getAllDocumentTypes()).thenReturn(Flux.just(new DocumentTypeDTO(1L, "CC")));
+        when(parametricService.getAllEmploymentTypes()).thenReturn(Flux.just(new EmploymentTypeDTO(1L, "Full time")));
+        when(parametricService.getAllModalities()).thenReturn(Flux.just(new ModalityDTO(1L, "Presencial")));
+        when(parametricService.getAllClassroomTypes()).thenReturn(Flux.just(new ClassroomTypeDTO(1L, "Lab")));
+    }
+}
@@ -34,7 +34,10 @@ import co.edu.puj.secchub_backend.planning.dto.ClassResponseDTO;
 import co.edu.puj.secchub_backend.planning.dto.ClassScheduleRequestDTO;
 import co.edu.puj.secchub_backend.planning.dto.ClassScheduleResponseDTO;
 import co.edu.puj.secchub_backend.planning.dto.ClassroomScheduleConflictResponseDTO;
+import co.edu.puj.secchub_backend.planning.dto.SemesterTimetableResponseDTO;
 import co.edu.puj.secchub_backend.planning.dto.TeacherScheduleConflictResponseDTO;
+import co.edu.puj.secchub_backend.planning.dto.TimetableClassDTO;
+import co.edu.puj.secchub_backend.planning.service.SemesterTimetableProjection;
 import co.edu.puj.secchub_backend.security.jwt.JwtTokenProvider;
 import io.r2dbc.spi.ConnectionFactory;
 import reactor.core.publisher.Mono;
@@ -57,6 +60,9 @@ class PlanningControllerIntegrationTest extends DatabaseContainerIntegration {
     @Autowired
     private ConnectionFactory connectionFactory;
 
+    @Autowired
+    private SemesterTimetableProjection semesterTimetableProjection;
+
     @BeforeEach
     void setUp() {
         R2dbcTestUtils.executeScripts(connectionFactory,
@@ -2069,4 +2075,41 @@ class PlanningControllerIntegrationTest extends DatabaseContainerIntegration {
         assertTrue(conflicts.isEmpty() || !conflicts.isEmpty(),
                 "Query should execute successfully");
     }
+
+    // ==========================================
+    // GET /planning/semesters/{semesterId}/timetable
+    // ==========================================
+
+    @Test
+    @DisplayName("GET /planning/semesters/{semesterId}/timetable - Should return the timetable and 304 while unchanged")
+    void getSemesterTimetable_shouldReturnTimetableAndNotModifiedWhileUnchanged() {
+        // The fixtures are reloaded with SQL, so drop what previous tests left in memory
+        semesterTimetableProjection.evict(2L);
+        String token = jwtTokenProvider.generateToken("testAdmin@example.com", "ROLE_ADMIN");
+
+        var result = webTestClient.get()
+                .uri("/planning/semesters/2/timetable")
+                .header("Authorization", "Bearer " + token)
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(SemesterTimetableResponseDTO.class)
+                .returnResult();
+
+        SemesterTimetableResponseDTO timetable = result.getResponseBody();
+        String etag = result.getResponseHeaders().getETag();
+
+        assertNotNull(timetable);
+        assertNotNull(etag);
+        assertEquals(2L, timetable.getSemesterId());
+        assertEquals(List.of(1L, 2L, 3L, 4L),
+                timetable.getClasses().stream().map(TimetableClassDTO::getId).toList());
+
+        webTestClient.get()
+                .uri("/planning/semesters/2/timetable")
+                .header("Authorization", "Bearer " + token)
+                .header("If-None-Match", etag)
+                .exchange()
+                .expectStatus().isNotModified();
+    }
 }
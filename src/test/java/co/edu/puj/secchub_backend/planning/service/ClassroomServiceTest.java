@@ -37,6 +37,9 @@ class ClassroomServiceTest {
     @Mock
     private ClassroomRepository classroomRepository;
 
+    @Mock
+    private SemesterTimetableProjection semesterTimetableProjection;
+
     @Mock
     private ModelMapper modelMapper;
 
@@ -0,0 +1,176 @@
+package co.edu.puj.secchub_backend.planning.service;
+
+import co.edu.puj.secchub_backend.admin.contract.AdminModuleSemesterContract;
+import co.edu.puj.secchub_backend.admin.dto.SemesterResponseDTO;
+import co.edu.puj.secchub_backend.planning.dto.PlanningExportFormat;
+import co.edu.puj.secchub_backend.planning.dto.PlanningExportRowDTO;
+import co.edu.puj.secchub_backend.planning.exception.PlanningBadRequestException;
+import co.edu.puj.secchub_backend.planning.repository.SemesterPlanningExportRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link PlanningExportService}.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PlanningExportService Unit Test")
+class PlanningExportServiceTest {
+
+    @Mock
+    private SemesterPlanningExportRepository semesterPlanningExportRepository;
+
+    @Mock
+    private AdminModuleSemesterContract semesterService;
+
+    @InjectMocks
+    private PlanningExportService planningExportService;
+
+    private final DefaultDataBufferFactory bufferFactory = DefaultDataBufferFactory.sharedInstance;
+
+    private final PlanningExportRowDTO row = PlanningExportRowDTO.builder()
+            .classId(7L)
+            .courseName("Cálculo, Diferencial")
+            .sectionName("Matemáticas")
+            .classSection(1L)
+            .day("MONDAY")
+            .startTime(LocalTime.of(7, 0))
+            .endTime(LocalTime.of(9, 0))
+            .modality("Presencial")
+            .classroomRoom("101")
+            .classroomLocation("Edificio \"A\"")
+            .classroomCampus("Central")
+            .teachers("Ada Lovelace; Grace Hopper")
+            .teachingAssistants("=SUM(A1)")
+            .build();
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(semesterService.getSemesterById(3L))
+                .thenReturn(Mono.just(SemesterResponseDTO.builder().id(3L).year(2025).period(2).build()));
+    }
+
+    @Test
+    @DisplayName("exportSemesterPlanning - CSV export writes the header and one escaped line per schedule")
+    void testExportSemesterPlanning_Csv_WritesOneLinePerSchedule() {
+        when(semesterPlanningExportRepository.findSemesterSchedules(3L)).thenReturn(Flux.just(row, new PlanningExportRowDTO()));
+
+        SemesterPlanningExport export = planningExportService
+                .exportSemesterPlanning(3L, PlanningExportFormat.CSV, bufferFactory).block();
+
+        assertNotNull(export);
+        assertEquals("planning-2025-2.csv", export.fileName());
+        String csv = new String(join(export.content()), StandardCharsets.UTF_8);
+        String[] lines = csv.split("\r\n");
+        assertEquals(3, lines.length);
+        assertTrue(lines[0].startsWith("\uFEFFClass ID,Course,Section"));
+        assertEquals("7,\"Cálculo, Diferencial\",Matemáticas,1,MONDAY,07:00,09:00,Presencial,101,"
+                + "\"Edificio \"\"A\"\"\",Central,Ada Lovelace; Grace Hopper,'=SUM(A1)", lines[1]);
+        assertEquals(",,,,,,,,,,,,", lines[2]);
+    }
+
+    @Test
+    @DisplayName("exportSemesterPlanning - Large semesters are written in chunks instead of one buffer")
+    void testExportSemesterPlanning_LargeSemester_WritesChunks() {
+        int rows = PlanningExportService.CHUNK_ROWS * 4 + 1;
+        when(semesterPlanningExportRepository.findSemesterSchedules(3L))
+                .thenReturn(Flux.fromStream(IntStream.range(0, rows).mapToObj(i -> row.toBuilder().classId((long) i).build())));
+
+        SemesterPlanningExport export = planningExportService
+                .exportSemesterPlanning(3L, PlanningExportFormat.CSV, bufferFactory).block();
+
+        assertNotNull(export);
+        AtomicInteger lines = new AtomicInteger();
+        StepVerifier.create(export.content().map(buffer -> {
+                    lines.addAndGet((int) buffer.toString(StandardCharsets.UTF_8).chars().filter(c -> c == '\n').count());
+                    return buffer;
+                }))
+                .expectNextCount(6)
+                .verifyComplete();
+        assertEquals(rows + 1, lines.get());
+    }
+
+    @Test
+    @DisplayName("exportSemesterPlanning - XLSX export writes a workbook with one worksheet row per schedule")
+    void testExportSemesterPlanning_Xlsx_WritesWorkbook() throws IOException {
+        when(semesterPlanningExportRepository.findSemesterSchedules(3L)).thenReturn(Flux.just(row));
+
+        SemesterPlanningExport export = planningExportService
+                .exportSemesterPlanning(3L, PlanningExportFormat.XLSX, bufferFactory).block();
+
+        assertNotNull(export);
+        assertEquals("planning-2025-2.xlsx", export.fileName());
+        Map<String, String> entries = unzip(join(export.content()));
+        assertEquals(List.of("[Content_Types].xml", "_rels/.rels", "xl/workbook.xml", "xl/_rels/workbook.xml.rels",
+                "xl/worksheets/sheet1.xml"), List.copyOf(entries.keySet()));
+        String sheet = entries.get("xl/worksheets/sheet1.xml");
+        assertEquals(2, sheet.split("<row>", -1).length - 1);
+        assertTrue(sheet.contains("<t xml:space=\"preserve\">Edificio &quot;A&quot;</t>"));
+        assertTrue(sheet.contains("<t xml:space=\"preserve\">Cálculo, Diferencial</t>"));
+        assertTrue(sheet.endsWith("</sheetData></worksheet>"));
+    }
+
+    @Test
+    @DisplayName("exportSemesterPlanning - When the semester does not exist fails before streaming")
+    void testExportSemesterPlanning_SemesterNotFound_ThrowsException() {
+        when(semesterService.getSemesterById(9L)).thenReturn(Mono.error(new IllegalStateException("Semester was not found for id 9")));
+
+        StepVerifier.create(planningExportService.exportSemesterPlanning(9L, PlanningExportFormat.CSV, bufferFactory))
+                .expectError(PlanningBadRequestException.class)
+                .verify();
+        verifyNoInteractions(semesterPlanningExportRepository);
+    }
+
+    @Test
+    @DisplayName("fromExtension - Unsupported formats are rejected")
+    void testFromExtension_Unsupported_ThrowsException() {
+        assertEquals(PlanningExportFormat.XLSX, PlanningExportFormat.fromExtension("XLSX"));
+        assertThrows(PlanningBadRequestException.class, () -> PlanningExportFormat.fromExtension("pdf"));
+    }
+
+    private static byte[] join(Flux<DataBuffer> content) {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        content.doOnNext(buffer -> {
+            byte[] bytes = new byte[buffer.readableByteCount()];
+            buffer.read(bytes);
+            output.writeBytes(bytes);
+        }).blockLast();
+        return output.toByteArray();
+    }
+
+    private static Map<String, String> unzip(byte[] workbook) throws IOException {
+        Map<String, String> entries = new LinkedHashMap<>();
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(workbook))) {
+            ZipEntry entry;
+            while ((entry = zip.getNextEntry()) != null) {
+                entries.put(entry.getName(), new String(zip.readAllBytes(), StandardCharsets.UTF_8));
+            }
+        }
+        return entries;
+    }
+}
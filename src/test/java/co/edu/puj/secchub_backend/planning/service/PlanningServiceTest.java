@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.Arrays;
@@ -11,6 +12,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -24,6 +26,7 @@ import org.mockito.ArgumentMatchers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -32,6 +35,11 @@ import org.springframework.security.core.context.ReactiveSecurityContextHolder;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.transaction.reactive.TransactionalOperator;
 
+import co.edu.puj.secchub_backend.admin.contract.AdminModuleAccessScopeContract;
+import co.edu.puj.secchub_backend.admin.service.AccessScopeService;
+import co.edu.puj.secchub_backend.config.KeysetPage;
+import co.edu.puj.secchub_backend.config.KeysetPageRequest;
+import co.edu.puj.secchub_backend.config.SingleFlight;
 import co.edu.puj.secchub_backend.admin.contract.AdminModuleSemesterContract;
 import co.edu.puj.secchub_backend.admin.dto.SemesterResponseDTO;
 import co.edu.puj.secchub_backend.admin.service.CourseService;
@@ -43,6 +51,8 @@ import co.edu.puj.secchub_backend.planning.dto.ClassScheduleRequestDTO;
 import co.edu.puj.secchub_backend.planning.dto.ClassScheduleResponseDTO;
 import co.edu.puj.secchub_backend.planning.dto.ClassroomResponseDTO;
 import co.edu.puj.secchub_backend.planning.dto.ClassroomScheduleConflictResponseDTO;
+import co.edu.puj.secchub_backend.planning.dto.SemesterTimetableResponseDTO;
+import co.edu.puj.secchub_backend.planning.dto.TimetableClassDTO;
 import co.edu.puj.secchub_backend.planning.exception.ClassCreationException;
 import co.edu.puj.secchub_backend.planning.exception.ClassNotFoundException;
 import co.edu.puj.secchub_backend.planning.exception.ClassScheduleNotFoundException;
@@ -52,9 +62,12 @@ import co.edu.puj.secchub_backend.planning.model.Class;
 import co.edu.puj.secchub_backend.planning.model.ClassSchedule;
 import co.edu.puj.secchub_backend.planning.repository.ClassRepository;
 import co.edu.puj.secchub_backend.planning.repository.ClassScheduleRepository;
+import co.edu.puj.secchub_backend.planning.repository.ScheduleConflictRepository;
 import co.edu.puj.secchub_backend.security.service.UserService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
 import reactor.test.StepVerifier;
 
 @ExtendWith(MockitoExtension.class)
@@ -69,6 +82,8 @@ class PlanningServiceTest {
     @Mock
     private ClassScheduleRepository classScheduleRepository;
     @Mock
+    private ScheduleConflictRepository scheduleConflictRepository;
+    @Mock
     private UserService userService;
     @Mock
     private SectionService sectionService;
@@ -83,9 +98,18 @@ class PlanningServiceTest {
     @Mock
     private ClassroomService classroomService;
 
+    @Mock
+    private SemesterTimetableProjection semesterTimetableProjection;
+
     @Mock
     private TransactionalOperator transactionalOperator;
 
+    @Mock
+    private AdminModuleAccessScopeContract accessScopeService;
+
+    @Spy
+    private SingleFlight singleFlight = new SingleFlight(Duration.ZERO, new SimpleMeterRegistry());
+
     @InjectMocks
     private PlanningService planningService;
 
@@ -100,6 +124,9 @@ class PlanningServiceTest {
 
     @BeforeEach
     void setUp() {
+        AccessScopeService accessScopes = new AccessScopeService(userService, sectionService, teacherService);
+        lenient().when(accessScopeService.getCurrentAccessScope()).thenAnswer(invocation -> accessScopes.getCurrentAccessScope());
+
         testClass = Class.builder()
                 .id(1L)
                 .section(1L)
@@ -330,7 +357,7 @@ class PlanningServiceTest {
 
 
         when(semesterService.getCurrentSemesterId()).thenReturn(Mono.just(1L));
-        when(classRepository.findBySemesterId(1L)).thenReturn(Flux.fromIterable(userClasses));
+        when(classRepository.findVisibleBySemesterId(1L, userSection)).thenReturn(Flux.fromIterable(userClasses).filter(classEntity -> classEntity.getSection().equals(userSection)));
         when(classScheduleRepository.findByClassId(anyLong())).thenReturn(Flux.just(testSchedule));
         when(modelMapper.map(testSchedule, ClassScheduleResponseDTO.class)).thenReturn(testScheduleResponseDTO);
 
@@ -340,7 +367,7 @@ class PlanningServiceTest {
         assertEquals(1, result.size(), "Result size should be 1");
         assertEquals(userSection, result.get(0).getSection(), "Returned class section should match user section");
         verify(semesterService).getCurrentSemesterId();
-        verify(classRepository).findBySemesterId(1L);
+        verify(classRepository).findVisibleBySemesterId(1L, userSection);
     }
 
     @Test
@@ -348,7 +375,7 @@ class PlanningServiceTest {
     void testFindCurrentSemesterClasses_ReturnsClasses() {
         setupSecurityContext("ROLE_ADMIN");
         when(semesterService.getCurrentSemesterId()).thenReturn(Mono.just(1L));
-        when(classRepository.findBySemesterId(1L)).thenReturn(Flux.just(testClass));
+        when(classRepository.findVisibleBySemesterId(1L, null)).thenReturn(Flux.just(testClass));
         when(classScheduleRepository.findByClassId(1L)).thenReturn(Flux.just(testSchedule));
         when(modelMapper.map(testClass, ClassResponseDTO.class)).thenReturn(testClassResponseDTO);
         when(modelMapper.map(testSchedule, ClassScheduleResponseDTO.class)).thenReturn(testScheduleResponseDTO);
@@ -359,21 +386,22 @@ class PlanningServiceTest {
         assertEquals(1, result.size());
         assertEquals(1L, result.get(0).getId());
         verify(semesterService).getCurrentSemesterId();
-        verify(classRepository).findBySemesterId(1L);
+        verify(classRepository).findVisibleBySemesterId(1L, null);
     }
 
     @Test
     @DisplayName("findCurrentSemesterClasses - When no classes exist returns empty list")
     void testFindCurrentSemesterClasses_NoClassesExist_ReturnsEmptyList() {
+        setupSecurityContext("ROLE_ADMIN");
         when(semesterService.getCurrentSemesterId()).thenReturn(Mono.just(1L));
-        when(classRepository.findBySemesterId(1L)).thenReturn(Flux.empty());
+        when(classRepository.findVisibleBySemesterId(1L, null)).thenReturn(Flux.empty());
 
         List<ClassResponseDTO> result = planningService.findCurrentSemesterClasses().collectList().block();
 
         assertNotNull(result);
         assertTrue(result.isEmpty());
         verify(semesterService).getCurrentSemesterId();
-        verify(classRepository).findBySemesterId(1L);
+        verify(classRepository).findVisibleBySemesterId(1L, null);
     }
 
     @Test
@@ -402,7 +430,7 @@ class PlanningServiceTest {
                     .build();
         });
 
-        when(classRepository.findAll()).thenReturn(Flux.fromIterable(userClasses));
+        when(classRepository.findAllVisible(userSection)).thenReturn(Flux.fromIterable(userClasses).filter(classEntity -> classEntity.getSection().equals(userSection)));
         when(classScheduleRepository.findByClassId(anyLong())).thenReturn(Flux.just(testSchedule));
         when(modelMapper.map(testSchedule, ClassScheduleResponseDTO.class)).thenReturn(testScheduleResponseDTO);
 
@@ -411,26 +439,27 @@ class PlanningServiceTest {
         assertNotNull(result, "Result should not be null");
         assertEquals(1, result.size(), "Result size should be 1");
         assertEquals(userSection, result.get(0).getId(), "Returned class section should match user section");
-        verify(classRepository).findAll();
+        verify(classRepository).findAllVisible(userSection);
     }
 
     @Test
     @DisplayName("findAllClasses - When no classes exist returns empty list")
     void testFindAllClasses_NoClassesExist_ReturnsEmptyList() {
-        when(classRepository.findAll()).thenReturn(Flux.empty());
+        setupSecurityContext("ROLE_ADMIN");
+        when(classRepository.findAllVisible(null)).thenReturn(Flux.empty());
 
         List<ClassResponseDTO> result = planningService.findAllClasses().collectList().block();
 
         assertNotNull(result);
         assertTrue(result.isEmpty());
-        verify(classRepository).findAll();
+        verify(classRepository).findAllVisible(null);
     }
 
     @Test
     @DisplayName("findAllClasses - When class has no schedules returns DTO without schedules")
     void testFindAllClasses_ClassWithoutSchedules_ReturnsDTOWithoutSchedules() {
         setupSecurityContext("ROLE_ADMIN");
-        when(classRepository.findAll()).thenReturn(Flux.just(testClass));
+        when(classRepository.findAllVisible(null)).thenReturn(Flux.just(testClass));
         when(classScheduleRepository.findByClassId(1L)).thenReturn(Flux.empty());
         when(modelMapper.map(testClass, ClassResponseDTO.class)).thenReturn(testClassResponseDTO);
 
@@ -440,7 +469,7 @@ class PlanningServiceTest {
         assertEquals(1, result.size());
         assertEquals(1L, result.get(0).getId());
         assertTrue(result.get(0).getSchedules().isEmpty());
-        verify(classRepository).findAll();
+        verify(classRepository).findAllVisible(null);
     }
 
     @Test
@@ -450,7 +479,7 @@ class PlanningServiceTest {
         Class class2 = Class.builder().id(2L).section(2L).courseId(101L).build();
         ClassResponseDTO dto2 = ClassResponseDTO.builder().id(2L).section(2L).courseId(101L).build();
 
-        when(classRepository.findAll()).thenReturn(Flux.just(testClass, class2));
+        when(classRepository.findAllVisible(null)).thenReturn(Flux.just(testClass, class2));
         when(classScheduleRepository.findByClassId(1L)).thenReturn(Flux.just(testSchedule));
         when(classScheduleRepository.findByClassId(2L)).thenReturn(Flux.empty());
         when(modelMapper.map(testClass, ClassResponseDTO.class)).thenReturn(testClassResponseDTO);
@@ -461,18 +490,63 @@ class PlanningServiceTest {
 
         assertNotNull(result);
         assertEquals(2, result.size());
-        verify(classRepository).findAll();
+        verify(classRepository).findAllVisible(null);
     }
 
     @Test
     @DisplayName("findAllClasses - When error occurs throws PlanningServerErrorException")
     void testFindAllClasses_ErrorOccurs_ThrowsException() {
-        when(classRepository.findAll()).thenReturn(Flux.error(new RuntimeException("Database error")));
+        setupSecurityContext("ROLE_ADMIN");
+        when(classRepository.findAllVisible(null)).thenReturn(Flux.error(new RuntimeException("Database error")));
 
         Mono<List<ClassResponseDTO>> result = planningService.findAllClasses().collectList();
 
         assertThrows(PlanningServerErrorException.class, result::block);
-        verify(classRepository).findAll();
+        verify(classRepository).findAllVisible(null);
+    }
+
+    @Test
+    @DisplayName("findClassesPage - When more classes exist returns the page and the cursor of the next one")
+    void testFindClassesPage_MoreClasses_ReturnsNextCursor() {
+        setupSecurityContext("ROLE_ADMIN");
+        Class class2 = Class.builder().id(2L).semesterId(1L).build();
+
+        when(classRepository.findVisiblePage(null, null, null, 2, null)).thenReturn(Flux.just(testClass, class2));
+        when(classScheduleRepository.findByClassId(1L)).thenReturn(Flux.empty());
+        when(modelMapper.map(testClass, ClassResponseDTO.class)).thenReturn(testClassResponseDTO);
+
+        KeysetPage<ClassResponseDTO> result = planningService.findClassesPage(null, null, 1, false).block();
+
+        assertNotNull(result);
+        assertEquals(List.of(testClassResponseDTO), result.items());
+        assertEquals(KeysetPageRequest.cursorOf(1L, 1L), result.nextCursor());
+        assertNull(result.total());
+        verify(classRepository, never()).countVisible(any(), any());
+    }
+
+    @Test
+    @DisplayName("findClassesPage - When given a cursor continues after it and counts on request")
+    void testFindClassesPage_WithCursor_ContinuesAfterCursor() {
+        setupSecurityContext("ROLE_ADMIN");
+        when(classRepository.findVisiblePage(1L, 1L, 7L, KeysetPageRequest.DEFAULT_SIZE + 1, null)).thenReturn(Flux.empty());
+        when(classRepository.countVisible(1L, null)).thenReturn(Mono.just(7L));
+
+        KeysetPage<ClassResponseDTO> result = planningService
+                .findClassesPage(1L, KeysetPageRequest.cursorOf(1L, 7L), null, true).block();
+
+        assertNotNull(result);
+        assertTrue(result.items().isEmpty());
+        assertNull(result.nextCursor());
+        assertEquals(7L, result.total());
+    }
+
+    @Test
+    @DisplayName("findClassesPage - When cursor is invalid throws PlanningBadRequestException")
+    void testFindClassesPage_InvalidCursor_ThrowsBadRequest() {
+        Mono<KeysetPage<ClassResponseDTO>> result = planningService.findClassesPage(null, "not-a-cursor", null, false);
+
+        assertThrows(PlanningBadRequestException.class, result::block);
+        verifyNoInteractions(classRepository);
     }
 
     @ParameterizedTest(name = "findClassById - When class ID {0} is of user section and exists returns DTO")
@@ -559,7 +633,7 @@ class PlanningServiceTest {
                     .build();
         });
 
-        when(classRepository.findByCourseId(100L)).thenReturn(Flux.fromIterable(userClasses));
+        when(classRepository.findVisibleByCourseId(100L, userSection)).thenReturn(Flux.fromIterable(userClasses).filter(classEntity -> classEntity.getSection().equals(userSection)));
         when(classScheduleRepository.findByClassId(anyLong())).thenReturn(Flux.just(testSchedule));
         when(modelMapper.map(testSchedule, ClassScheduleResponseDTO.class)).thenReturn(testScheduleResponseDTO);
 
@@ -568,14 +642,14 @@ class PlanningServiceTest {
         assertNotNull(result, "Result should not be null");
         assertEquals(1, result.size(), "Result size should be 1");
         assertEquals(userSection, result.get(0).getSection(), "Returned class section should match user section");
-        verify(classRepository).findByCourseId(100L);
+        verify(classRepository).findVisibleByCourseId(100L, userSection);
     }
 
     @Test
     @DisplayName("findClassesByCourse - Should return classes for specified course")
     void testFindClassesByCourse_ReturnsClasses() {
         setupSecurityContext("ROLE_ADMIN");
-        when(classRepository.findByCourseId(100L)).thenReturn(Flux.just(testClass));
+        when(classRepository.findVisibleByCourseId(100L, null)).thenReturn(Flux.just(testClass));
         when(classScheduleRepository.findByClassId(1L)).thenReturn(Flux.just(testSchedule));
         when(modelMapper.map(testClass, ClassResponseDTO.class)).thenReturn(testClassResponseDTO);
         when(modelMapper.map(testSchedule, ClassScheduleResponseDTO.class)).thenReturn(testScheduleResponseDTO);
@@ -585,30 +659,32 @@ class PlanningServiceTest {
         assertNotNull(result);
         assertEquals(1, result.size());
         assertEquals(100L, result.get(0).getCourseId());
-        verify(classRepository).findByCourseId(100L);
+        verify(classRepository).findVisibleByCourseId(100L, null);
     }
 
     @Test
     @DisplayName("findClassesByCourse - When no classes exist returns empty list")
     void testFindClassesByCourse_NoClassesExist_ReturnsEmptyList() {
-        when(classRepository.findByCourseId(100L)).thenReturn(Flux.empty());
+        setupSecurityContext("ROLE_ADMIN");
+        when(classRepository.findVisibleByCourseId(100L, null)).thenReturn(Flux.empty());
 
         List<ClassResponseDTO> result = planningService.findClassesByCourse(100L).collectList().block();
 
         assertNotNull(result);
         assertTrue(result.isEmpty());
-        verify(classRepository).findByCourseId(100L);
+        verify(classRepository).findVisibleByCourseId(100L, null);
     }
 
     @Test
     @DisplayName("findClassesByCourse - When error occurs throws PlanningServerErrorException")
     void testFindClassesByCourse_ErrorOccurs_ThrowsException() {
-        when(classRepository.findByCourseId(100L)).thenReturn(Flux.error(new RuntimeException("Database error")));
+        setupSecurityContext("ROLE_ADMIN");
+        when(classRepository.findVisibleByCourseId(100L, null)).thenReturn(Flux.error(new RuntimeException("Database error")));
 
         Mono<List<ClassResponseDTO>> result = planningService.findClassesByCourse(100L).collectList();
 
         assertThrows(PlanningServerErrorException.class, result::block);
-        verify(classRepository).findByCourseId(100L);
+        verify(classRepository).findVisibleByCourseId(100L, null);
     }
 
     @ParameterizedTest(name = "findClassesBySection - Should only return own section {0} classes")
@@ -626,7 +702,7 @@ class PlanningServiceTest {
                     .build();
         });
 
-        when(classRepository.findBySection(userSection)).thenReturn(Flux.fromIterable(userClasses).filter(classEntity -> classEntity.getSection().equals(userSection)));
+        when(classRepository.findVisibleBySection(userSection, userSection)).thenReturn(Flux.fromIterable(userClasses).filter(classEntity -> classEntity.getSection().equals(userSection)));
         when(classScheduleRepository.findByClassId(anyLong())).thenReturn(Flux.just(testSchedule));
         when(modelMapper.map(testSchedule, ClassScheduleResponseDTO.class)).thenReturn(testScheduleResponseDTO);
 
@@ -635,10 +711,10 @@ class PlanningServiceTest {
         assertNotNull(resultOwnSection, "Result should not be null");
         assertEquals(1, resultOwnSection.size(), "Result size should be 1");
         assertEquals(userSection, resultOwnSection.get(0).getSection(), "Returned class section should match user section");
-        verify(classRepository).findBySection(userSection);
+        verify(classRepository).findVisibleBySection(userSection, userSection);
 
         Long otherSection = userSection == 1L ? 2L : 1L;
-        when(classRepository.findBySection(otherSection)).thenReturn(Flux.fromIterable(userClasses).filter(classEntity -> classEntity.getSection().equals(otherSection)));
+        when(classRepository.findVisibleBySection(otherSection, userSection)).thenReturn(Flux.empty());
         List<ClassResponseDTO> resultOtherSection = planningService.findClassesBySection(otherSection).collectList().block();
 
         assertNotNull(resultOtherSection, "Result should not be null");
@@ -649,7 +725,7 @@ class PlanningServiceTest {
     @DisplayName("findClassesBySection - Should return classes for specified section")
     void testFindClassesBySection_ReturnsClasses() {
         setupSecurityContext("ROLE_ADMIN");
-        when(classRepository.findBySection(1L)).thenReturn(Flux.just(testClass));
+        when(classRepository.findVisibleBySection(1L, null)).thenReturn(Flux.just(testClass));
         when(classScheduleRepository.findByClassId(1L)).thenReturn(Flux.just(testSchedule));
         when(modelMapper.map(testClass, ClassResponseDTO.class)).thenReturn(testClassResponseDTO);
         when(modelMapper.map(testSchedule, ClassScheduleResponseDTO.class)).thenReturn(testScheduleResponseDTO);
@@ -659,30 +735,32 @@ class PlanningServiceTest {
         assertNotNull(result);
         assertEquals(1, result.size());
         assertEquals(1L, result.get(0).getSection());
-        verify(classRepository).findBySection(1L);
+        verify(classRepository).findVisibleBySection(1L, null);
     }
 
     @Test
     @DisplayName("findClassesBySection - When no classes exist returns empty list")
     void testFindClassesBySection_NoClassesExist_ReturnsEmptyList() {
-        when(classRepository.findBySection(1L)).thenReturn(Flux.empty());
+        setupSecurityContext("ROLE_ADMIN");
+        when(classRepository.findVisibleBySection(1L, null)).thenReturn(Flux.empty());
 
         List<ClassResponseDTO> result = planningService.findClassesBySection(1L).collectList().block();
 
         assertNotNull(result);
         assertTrue(result.isEmpty());
-        verify(classRepository).findBySection(1L);
+        verify(classRepository).findVisibleBySection(1L, null);
     }
 
     @Test
     @DisplayName("findClassesBySection - When error occurs throws PlanningServerErrorException")
     void testFindClassesBySection_ErrorOccurs_ThrowsException() {
-        when(classRepository.findBySection(1L)).thenReturn(Flux.error(new RuntimeException("Database error")));
+        setupSecurityContext("ROLE_ADMIN");
+        when(classRepository.findVisibleBySection(1L, null)).thenReturn(Flux.error(new RuntimeException("Database error")));
 
         Mono<List<ClassResponseDTO>> result = planningService.findClassesBySection(1L).collectList();
 
         assertThrows(PlanningServerErrorException.class, result::block);
-        verify(classRepository).findBySection(1L);
+        verify(classRepository).findVisibleBySection(1L, null);
     }
 
     @ParameterizedTest(name = "findCurrentSemesterClassesByCourse - When course ID {0} returns classes based on user section")
@@ -701,7 +779,7 @@ class PlanningServiceTest {
         });
 
         when(semesterService.getCurrentSemesterId()).thenReturn(Mono.just(1L));
-        when(classRepository.findBySemesterIdAndCourseId(1L, 100L)).thenReturn(Flux.fromIterable(userClasses).filter(classEntity -> classEntity.getSection().equals(userSection)));
+        when(classRepository.findVisibleBySemesterIdAndCourseId(1L, 100L, userSection)).thenReturn(Flux.fromIterable(userClasses).filter(classEntity -> classEntity.getSection().equals(userSection)));
         when(classScheduleRepository.findByClassId(anyLong())).thenReturn(Flux.just(testSchedule));
         when(modelMapper.map(testSchedule, ClassScheduleResponseDTO.class)).thenReturn(testScheduleResponseDTO);
 
@@ -711,7 +789,7 @@ class PlanningServiceTest {
         assertEquals(1, result.size(), "Result size should be 1");
         assertEquals(userSection, result.get(0).getSection(), "Returned class section should match user section");
         verify(semesterService).getCurrentSemesterId();
-        verify(classRepository).findBySemesterIdAndCourseId(1L, 100L);
+        verify(classRepository).findVisibleBySemesterIdAndCourseId(1L, 100L, userSection);
     }
 
     @Test
@@ -719,7 +797,7 @@ class PlanningServiceTest {
     void testFindCurrentSemesterClassesByCourse_ReturnsClasses() {
         setupSecurityContext("ROLE_ADMIN");
         when(semesterService.getCurrentSemesterId()).thenReturn(Mono.just(1L));
-        when(classRepository.findBySemesterIdAndCourseId(1L, 100L)).thenReturn(Flux.just(testClass));
+        when(classRepository.findVisibleBySemesterIdAndCourseId(1L, 100L, null)).thenReturn(Flux.just(testClass));
         when(classScheduleRepository.findByClassId(1L)).thenReturn(Flux.just(testSchedule));
         when(modelMapper.map(testClass, ClassResponseDTO.class)).thenReturn(testClassResponseDTO);
         when(modelMapper.map(testSchedule, ClassScheduleResponseDTO.class)).thenReturn(testScheduleResponseDTO);
@@ -729,7 +807,7 @@ class PlanningServiceTest {
         assertNotNull(result);
         assertEquals(1, result.size());
         verify(semesterService).getCurrentSemesterId();
-        verify(classRepository).findBySemesterIdAndCourseId(1L, 100L);
+        verify(classRepository).findVisibleBySemesterIdAndCourseId(1L, 100L, null);
     }
 
     @Test
@@ -758,7 +836,7 @@ class PlanningServiceTest {
                     .build();
         });
 
-        when(classRepository.findBySemesterId(1L)).thenReturn(Flux.fromIterable(userClasses).filter(classEntity -> classEntity.getSection().equals(userSection)));
+        when(classRepository.findVisibleBySemesterId(1L, userSection)).thenReturn(Flux.fromIterable(userClasses).filter(classEntity -> classEntity.getSection().equals(userSection)));
         when(classScheduleRepository.findByClassId(anyLong())).thenReturn(Flux.just(testSchedule));
         when(modelMapper.map(testSchedule, ClassScheduleResponseDTO.class)).thenReturn(testScheduleResponseDTO);
 
@@ -767,14 +845,14 @@ class PlanningServiceTest {
         assertNotNull(resultOwnSection, "Result should not be null");
         assertEquals(1, resultOwnSection.size(), "Result size should be 1");
         assertEquals(userSection, resultOwnSection.get(0).getSection(), "Returned class section should match user section");
-        verify(classRepository).findBySemesterId(1L);
+        verify(classRepository).findVisibleBySemesterId(1L, userSection);
     }
 
     @Test
     @DisplayName("findClassesBySemester - Should return classes for specified semester")
     void testFindClassesBySemester_ReturnsClasses() {
         setupSecurityContext("ROLE_ADMIN");
-        when(classRepository.findBySemesterId(1L)).thenReturn(Flux.just(testClass));
+        when(classRepository.findVisibleBySemesterId(1L, null)).thenReturn(Flux.just(testClass));
         when(classScheduleRepository.findByClassId(1L)).thenReturn(Flux.just(testSchedule));
         when(modelMapper.map(testClass, ClassResponseDTO.class)).thenReturn(testClassResponseDTO);
         when(modelMapper.map(testSchedule, ClassScheduleResponseDTO.class)).thenReturn(testScheduleResponseDTO);
@@ -783,18 +861,19 @@ class PlanningServiceTest {
 
         assertNotNull(result);
         assertEquals(1, result.size());
-        verify(classRepository).findBySemesterId(1L);
+        verify(classRepository).findVisibleBySemesterId(1L, null);
     }
 
     @Test
     @DisplayName("findClassesBySemester - When error occurs throws PlanningServerErrorException")
     void testFindClassesBySemester_ErrorOccurs_ThrowsException() {
-        when(classRepository.findBySemesterId(1L)).thenReturn(Flux.error(new RuntimeException("Database error")));
+        setupSecurityContext("ROLE_ADMIN");
+        when(classRepository.findVisibleBySemesterId(1L, null)).thenReturn(Flux.error(new RuntimeException("Database error")));
 
         Mono<List<ClassResponseDTO>> result = planningService.findClassesBySemester(1L).collectList();
 
         assertThrows(PlanningServerErrorException.class, result::block);
-        verify(classRepository).findBySemesterId(1L);
+        verify(classRepository).findVisibleBySemesterId(1L, null);
     }
 
     // ==================== UPDATE CLASS TESTS ====================
@@ -1044,6 +1123,7 @@ class PlanningServiceTest {
 
         verify(classRepository).findById(1L);
         verify(classRepository).deleteById(1L);
+        verify(semesterTimetableProjection).classChanged(1L);
     }
 
     @Test
@@ -1056,6 +1136,7 @@ class PlanningServiceTest {
         assertThrows(ClassNotFoundException.class, result::block);
         verify(classRepository).findById(99L);
         verify(classRepository, never()).deleteById(any(Long.class));
+        verify(semesterTimetableProjection, never()).classChanged(any());
     }
 
 
@@ -1369,12 +1450,6 @@ class PlanningServiceTest {
                     .build();
         });
 
-        Class test = Class.builder()
-                .id(userSection)
-                .section(userSection)
-                .courseId(userSection)
-                .build();
-
         ClassSchedule testClassSchedule = ClassSchedule.builder()
                 .id(1L)
                 .classId(userSection)
@@ -1382,43 +1457,21 @@ class PlanningServiceTest {
                 .startTime(LocalTime.of(9, 0))
                 .build();
 
-        Class testNotSection = Class.builder()
-                .id(userSection == 1L ? 2L : 1L) // Different section
-                .section(userSection == 1L ? 2L : 1L)
-                .courseId(userSection == 1L ? 2L : 1L)
-                .build();
-        
-        ClassSchedule testClassScheduleNotSection = ClassSchedule.builder()
-        .id(2L)
-        .classId(userSection == 1L ? 2L : 1L) // Different section
-        .day("Monday")
-        .startTime(LocalTime.of(9, 0))
-        .build();
-
-        when(classRepository.findById(userSection)).thenReturn(Mono.just(test));
-        when(classRepository.findById(userSection == 1L ? 2L : 1L)).thenReturn(Mono.just(testNotSection));
-        when(classScheduleRepository.findByClassroomId(10L)).thenReturn(Flux.just(testClassSchedule, testClassScheduleNotSection));
+        when(classScheduleRepository.findVisibleByClassroomId(10L, userSection)).thenReturn(Flux.just(testClassSchedule));
 
         List<ClassScheduleResponseDTO> result = planningService.findClassSchedulesByClassroom(10L).collectList().block();
 
         assertNotNull(result, "Result should not be null");
         assertEquals(1, result.size(), "Result size should be 1");
         assertEquals(userSection, result.get(0).getClassId(), "Returned schedule classId should match user section");
-        verify(classScheduleRepository).findByClassroomId(10L);
-        verify(classRepository).findById(userSection);
+        verify(classScheduleRepository).findVisibleByClassroomId(10L, userSection);
     }
 
     @Test
     @DisplayName("findClassSchedulesByClassroom - Should return schedules for classroom")
     void testFindClassSchedulesByClassroom_ReturnsSchedules() {
         setupSecurityContext("ROLE_ADMIN");
-        Class test = Class.builder()
-                .id(1L)
-                .section(1L)
-                .courseId(100L)
-                .build();
-        when(classRepository.findById(1L)).thenReturn(Mono.just(test));
-        when(classScheduleRepository.findByClassroomId(10L)).thenReturn(Flux.just(testSchedule));
+        when(classScheduleRepository.findVisibleByClassroomId(10L, null)).thenReturn(Flux.just(testSchedule));
         when(modelMapper.map(testSchedule, ClassScheduleResponseDTO.class)).thenReturn(testScheduleResponseDTO);
 
         List<ClassScheduleResponseDTO> result = planningService.findClassSchedulesByClassroom(10L).collectList().block();
@@ -1426,8 +1479,7 @@ class PlanningServiceTest {
         assertNotNull(result);
         assertEquals(1, result.size());
         assertEquals(10L, result.get(0).getClassroomId());
-        verify(classScheduleRepository).findByClassroomId(10L);
-        verify(classRepository).findById(1L);
+        verify(classScheduleRepository).findVisibleByClassroomId(10L, null);
     }
 
     @ParameterizedTest(name = "findClassSchedulesByDay - Should only return schedules for own section {0}")
@@ -1446,12 +1498,6 @@ class PlanningServiceTest {
                     .build();
         });
 
-        Class test = Class.builder()
-                .id(userSection)
-                .section(userSection)
-                .courseId(userSection)
-                .build();
-
         ClassSchedule testClassSchedule = ClassSchedule.builder()
                 .id(1L)
                 .classId(userSection)
@@ -1459,42 +1505,20 @@ class PlanningServiceTest {
                 .startTime(LocalTime.of(9, 0))
                 .build();
 
-        Class testNotSection = Class.builder()
-                .id(userSection == 1L ? 2L : 1L) // Different section
-                .section(userSection == 1L ? 2L : 1L)
-                .courseId(userSection == 1L ? 2L : 1L)
-                .build();
-
-        ClassSchedule testClassScheduleNotSection = ClassSchedule.builder()
-                .id(2L)
-                .classId(userSection == 1L ? 2L : 1L) // Different section
-                .day("Monday")
-                .startTime(LocalTime.of(9, 0))
-                .build();
-
-        when(classRepository.findById(userSection)).thenReturn(Mono.just(test));
-        when(classRepository.findById(userSection == 1L ? 2L : 1L)).thenReturn(Mono.just(testNotSection));
-        when(classScheduleRepository.findByDay("Monday")).thenReturn(Flux.just(testClassSchedule, testClassScheduleNotSection));
+        when(classScheduleRepository.findVisibleByDay("Monday", userSection)).thenReturn(Flux.just(testClassSchedule));
 
         List<ClassScheduleResponseDTO> result = planningService.findClassSchedulesByDay("Monday").collectList().block();
         assertNotNull(result, "Result should not be null");
         assertEquals(1, result.size(), "Result size should be 1");
         assertEquals(userSection, result.get(0).getClassId(), "Returned schedule classId should match user section");
-        verify(classScheduleRepository).findByDay("Monday");
-        verify(classRepository).findById(userSection);
+        verify(classScheduleRepository).findVisibleByDay("Monday", userSection);
     }
 
     @Test
     @DisplayName("findClassSchedulesByDay - Should return schedules for day")
     void testFindClassSchedulesByDay_ReturnsSchedules() {
         setupSecurityContext("ROLE_ADMIN");
-        Class test = Class.builder()
-                .id(1L)
-                .section(1L)
-                .courseId(100L)
-                .build();
-        when(classRepository.findById(1L)).thenReturn(Mono.just(test));
-        when(classScheduleRepository.findByDay("Monday")).thenReturn(Flux.just(testSchedule));
+        when(classScheduleRepository.findVisibleByDay("Monday", null)).thenReturn(Flux.just(testSchedule));
         when(modelMapper.map(testSchedule, ClassScheduleResponseDTO.class)).thenReturn(testScheduleResponseDTO);
 
         List<ClassScheduleResponseDTO> result = planningService.findClassSchedulesByDay("Monday").collectList().block();
@@ -1502,8 +1526,7 @@ class PlanningServiceTest {
         assertNotNull(result);
         assertEquals(1, result.size());
         assertEquals("Monday", result.get(0).getDay());
-        verify(classScheduleRepository).findByDay("Monday");
-        verify(classRepository).findById(1L);
+        verify(classScheduleRepository).findVisibleByDay("Monday", null);
     }
 
     @ParameterizedTest(name = "findClassSchedulesByDisability - Should only return schedules for own section {0}")
@@ -1522,12 +1545,6 @@ class PlanningServiceTest {
                     .build();
         });
 
-        Class test = Class.builder()
-                .id(userSection)
-                .section(userSection)
-                .courseId(userSection)
-                .build();
-
         ClassSchedule testClassSchedule = ClassSchedule.builder()
                 .id(1L)
                 .classId(userSection)
@@ -1535,43 +1552,21 @@ class PlanningServiceTest {
                 .startTime(LocalTime.of(9, 0))
                 .build();
 
-        Class testNotSection = Class.builder()
-                .id(userSection == 1L ? 2L : 1L) // Different section
-                .section(userSection == 1L ? 2L : 1L)
-                .courseId(userSection == 1L ? 2L : 1L)
-                .build();
-        
-        ClassSchedule testClassScheduleNotSection = ClassSchedule.builder()
-        .id(2L)
-        .classId(userSection == 1L ? 2L : 1L) // Different section
-        .day("Monday")
-        .startTime(LocalTime.of(9, 0))
-        .build();
-
-        when(classRepository.findById(userSection)).thenReturn(Mono.just(test));
-        when(classRepository.findById(userSection == 1L ? 2L : 1L)).thenReturn(Mono.just(testNotSection));
-        when(classScheduleRepository.findByDisability(false)).thenReturn(Flux.just(testClassSchedule, testClassScheduleNotSection));
+        when(classScheduleRepository.findVisibleByDisability(false, userSection)).thenReturn(Flux.just(testClassSchedule));
 
         List<ClassScheduleResponseDTO> result = planningService.findClassSchedulesByDisability(false).collectList().block();
 
         assertNotNull(result, "Result should not be null");
         assertEquals(1, result.size(), "Result size should be 1");
         assertEquals(userSection, result.get(0).getClassId(), "Returned schedule classId should match user section");
-        verify(classScheduleRepository).findByDisability(false);
-        verify(classRepository).findById(userSection);
+        verify(classScheduleRepository).findVisibleByDisability(false, userSection);
     }
 
     @Test
     @DisplayName("findClassSchedulesByDisability - Should return schedules with disability flag")
     void testFindClassSchedulesByDisability_ReturnsSchedules() {
         setupSecurityContext("ROLE_ADMIN");
-        Class test = Class.builder()
-                .id(1L)
-                .section(1L)
-                .courseId(100L)
-                .build();
-        when(classRepository.findById(1L)).thenReturn(Mono.just(test));
-        when(classScheduleRepository.findByDisability(false)).thenReturn(Flux.just(testSchedule));
+        when(classScheduleRepository.findVisibleByDisability(false, null)).thenReturn(Flux.just(testSchedule));
         when(modelMapper.map(testSchedule, ClassScheduleResponseDTO.class)).thenReturn(testScheduleResponseDTO);
 
         List<ClassScheduleResponseDTO> result = planningService.findClassSchedulesByDisability(false).collectList().block();
@@ -1579,8 +1574,7 @@ class PlanningServiceTest {
         assertNotNull(result);
         assertEquals(1, result.size());
         assertEquals(false, result.get(0).getDisability());
-        verify(classScheduleRepository).findByDisability(false);
-        verify(classRepository).findById(1L);
+        verify(classScheduleRepository).findVisibleByDisability(false, null);
     }
 
     // ==================== UPDATE CLASS SCHEDULE TESTS ====================
@@ -2073,7 +2067,7 @@ class PlanningServiceTest {
                 .build();
 
         when(semesterService.getSemesterById(2L)).thenReturn(Mono.just(targetSemester));
-        when(classRepository.findBySemesterId(1L)).thenReturn(Flux.fromIterable(classes));
+        when(classRepository.findVisibleBySemesterId(1L, userSection)).thenReturn(Flux.just(sourceClass));
         when(classRepository.save(any(Class.class))).thenReturn(Mono.just(copiedClass));
         when(classScheduleRepository.findByClassId(sourceClass.getId())).thenReturn(Flux.just(sourceSchedule));
         when(classScheduleRepository.save(any(ClassSchedule.class))).thenReturn(Mono.just(copiedSchedule));
@@ -2090,7 +2084,7 @@ class PlanningServiceTest {
         assertNotNull(result);
         assertEquals(1, result.size());
         verify(semesterService).getSemesterById(2L);
-        verify(classRepository).findBySemesterId(1L);
+        verify(classRepository).findVisibleBySemesterId(1L, userSection);
         verify(classRepository, atLeastOnce()).save(any(Class.class));
         verify(classScheduleRepository, atLeastOnce()).save(any(ClassSchedule.class));
     }
@@ -2141,7 +2135,7 @@ class PlanningServiceTest {
                 .build();
         
         when(semesterService.getSemesterById(2L)).thenReturn(Mono.just(targetSemester));
-        when(classRepository.findBySemesterId(1L)).thenReturn(Flux.just(sourceClass));
+        when(classRepository.findVisibleBySemesterId(1L, null)).thenReturn(Flux.just(sourceClass));
         when(classRepository.save(any(Class.class))).thenReturn(Mono.just(copiedClass));
         when(classScheduleRepository.findByClassId(1L)).thenReturn(Flux.just(sourceSchedule));
         when(classScheduleRepository.save(any(ClassSchedule.class))).thenReturn(Mono.just(copiedSchedule));
@@ -2158,7 +2152,7 @@ class PlanningServiceTest {
         assertNotNull(result);
         assertEquals(1, result.size());
         verify(semesterService).getSemesterById(2L);
-        verify(classRepository).findBySemesterId(1L);
+        verify(classRepository).findVisibleBySemesterId(1L, null);
         verify(classRepository, atLeastOnce()).save(any(Class.class));
         verify(classScheduleRepository, atLeastOnce()).save(any(ClassSchedule.class));
     }
@@ -2199,7 +2193,7 @@ class PlanningServiceTest {
                 .build();
 
         when(semesterService.getSemesterById(2L)).thenReturn(Mono.just(targetSemester));
-        when(classRepository.findBySemesterId(1L)).thenReturn(Flux.just(sourceClass));
+        when(classRepository.findVisibleBySemesterId(1L, null)).thenReturn(Flux.just(sourceClass));
         when(classRepository.save(any(Class.class))).thenReturn(Mono.just(copiedClass));
         when(classScheduleRepository.findByClassId(1L)).thenReturn(Flux.empty());
         when(classScheduleRepository.findByClassId(2L)).thenReturn(Flux.empty());
@@ -2212,7 +2206,7 @@ class PlanningServiceTest {
         assertNotNull(result);
         assertEquals(1, result.size());
         verify(semesterService).getSemesterById(2L);
-        verify(classRepository).findBySemesterId(1L);
+        verify(classRepository).findVisibleBySemesterId(1L, null);
         verify(classRepository).save(any(Class.class));
         verify(classScheduleRepository, never()).save(any(ClassSchedule.class));
     }
@@ -2220,6 +2214,7 @@ class PlanningServiceTest {
     @Test
     @DisplayName("duplicateSemesterPlanning - When there are no classes returns empty list and does nothing")
     void testDuplicateSemesterPlanning_NoClasses_ReturnsEmptyList() {
+        setupSecurityContext("ROLE_ADMIN");
         SemesterResponseDTO targetSemester = SemesterResponseDTO.builder()
                 .id(2L)
                 .startDate(LocalDate.of(2025, 1, 10))
@@ -2227,13 +2222,13 @@ class PlanningServiceTest {
                 .build();
 
         when(semesterService.getSemesterById(2L)).thenReturn(Mono.just(targetSemester));
-        when(classRepository.findBySemesterId(1L)).thenReturn(Flux.empty());
+        when(classRepository.findVisibleBySemesterId(1L, null)).thenReturn(Flux.empty());
 
         List<ClassResponseDTO> result = planningService.duplicateSemesterPlanning(1L, 2L).collectList().block();
 
         assertNotNull(result);
         assertTrue(result.isEmpty());
-        verify(classRepository).findBySemesterId(1L);
+        verify(classRepository).findVisibleBySemesterId(1L, null);
         verify(classRepository, never()).save(any(Class.class));
         verify(classScheduleRepository, never()).save(any(ClassSchedule.class));
     }
@@ -2282,7 +2277,7 @@ class PlanningServiceTest {
 
         when(semesterService.getCurrentSemesterId()).thenReturn(Mono.just(2L));
         when(semesterService.getSemesterById(2L)).thenReturn(Mono.just(targetSemester));
-        when(classRepository.findBySemesterId(1L)).thenReturn(Flux.fromIterable(classes));
+        when(classRepository.findVisibleBySemesterId(1L, userSection)).thenReturn(Flux.just(sourceClass));
         when(classRepository.save(any(Class.class))).thenReturn(Mono.just(copiedClass));
         when(classScheduleRepository.findByClassId(sourceClass.getId())).thenReturn(Flux.empty());
         when(classScheduleRepository.findByClassId(2L)).thenReturn(Flux.empty());
@@ -2297,7 +2292,7 @@ class PlanningServiceTest {
         assertEquals(2L, result.get(0).getSemesterId());
         verify(semesterService).getCurrentSemesterId();
         verify(semesterService).getSemesterById(2L);
-        verify(classRepository).findBySemesterId(1L);
+        verify(classRepository).findVisibleBySemesterId(1L, userSection);
     }
 
     @Test
@@ -2337,7 +2332,7 @@ class PlanningServiceTest {
 
         when(semesterService.getCurrentSemesterId()).thenReturn(Mono.just(2L));
         when(semesterService.getSemesterById(2L)).thenReturn(Mono.just(targetSemester));
-        when(classRepository.findBySemesterId(1L)).thenReturn(Flux.just(sourceClass));
+        when(classRepository.findVisibleBySemesterId(1L, null)).thenReturn(Flux.just(sourceClass));
         when(classRepository.save(any(Class.class))).thenReturn(Mono.just(copiedClass));
         when(classScheduleRepository.findByClassId(1L)).thenReturn(Flux.empty());
         when(classScheduleRepository.findByClassId(2L)).thenReturn(Flux.empty());
@@ -2352,12 +2347,13 @@ class PlanningServiceTest {
         assertEquals(2L, result.get(0).getSemesterId());
         verify(semesterService).getCurrentSemesterId();
         verify(semesterService).getSemesterById(2L);
-        verify(classRepository).findBySemesterId(1L);
+        verify(classRepository).findVisibleBySemesterId(1L, null);
     }
 
     @Test
     @DisplayName("applySemesterPlanningToCurrent - When no classes in source semester returns empty list")
     void testApplySemesterPlanningToCurrent_NoClasses_ReturnsEmptyList() {
+        setupSecurityContext("ROLE_ADMIN");
         SemesterResponseDTO targetSemester = SemesterResponseDTO.builder()
                 .id(2L)
                 .startDate(LocalDate.of(2025, 1, 10))
@@ -2366,7 +2362,7 @@ class PlanningServiceTest {
 
         when(semesterService.getCurrentSemesterId()).thenReturn(Mono.just(2L));
         when(semesterService.getSemesterById(2L)).thenReturn(Mono.just(targetSemester));
-        when(classRepository.findBySemesterId(1L)).thenReturn(Flux.empty());
+        when(classRepository.findVisibleBySemesterId(1L, null)).thenReturn(Flux.empty());
 
         List<ClassResponseDTO> result = planningService.applySemesterPlanningToCurrent(1L).collectList().block();
 
@@ -2374,7 +2370,7 @@ class PlanningServiceTest {
         assertTrue(result.isEmpty());
         verify(semesterService).getCurrentSemesterId();
         verify(semesterService).getSemesterById(2L);
-        verify(classRepository).findBySemesterId(1L);
+        verify(classRepository).findVisibleBySemesterId(1L, null);
     }
 
     @Test
@@ -2542,6 +2538,7 @@ class PlanningServiceTest {
     @Test
     @DisplayName("duplicateSemesterPlanning - When source semester has no classes returns empty flux")
     void testDuplicateSemesterPlanning_NoClasses_ReturnsEmpty() {
+        setupSecurityContext("ROLE_ADMIN");
         SemesterResponseDTO targetSemester = SemesterResponseDTO.builder()
                 .id(2L)
                 .startDate(LocalDate.of(2025, 1, 10))
@@ -2549,14 +2546,14 @@ class PlanningServiceTest {
                 .build();
 
         when(semesterService.getSemesterById(2L)).thenReturn(Mono.just(targetSemester));
-        when(classRepository.findBySemesterId(1L)).thenReturn(Flux.empty());
+        when(classRepository.findVisibleBySemesterId(1L, null)).thenReturn(Flux.empty());
 
         List<ClassResponseDTO> result = planningService.duplicateSemesterPlanning(1L, 2L).collectList().block();
 
         assertNotNull(result);
         assertEquals(0, result.size());
         verify(semesterService).getSemesterById(2L);
-        verify(classRepository).findBySemesterId(1L);
+        verify(classRepository).findVisibleBySemesterId(1L, null);
         verify(classRepository, never()).save(any());
     }
 
@@ -2600,6 +2597,61 @@ class PlanningServiceTest {
         verify(classScheduleRepository).findByClassId(1L);
     }
 
+    // ==================== SEMESTER TIMETABLE TESTS ====================
+
+    @Test
+    @DisplayName("getSemesterTimetable - When user is admin returns every class of the timetable")
+    void testGetSemesterTimetable_Admin_ReturnsAllClasses() {
+        setupSecurityContext("ROLE_ADMIN");
+        SemesterTimetableResponseDTO timetable = timetableWithSections(1L, 2L);
+        when(semesterTimetableProjection.getTimetable(1L)).thenReturn(Mono.just(timetable));
+
+        SemesterTimetableResponseDTO result = planningService.getSemesterTimetable(1L).block();
+
+        assertSame(timetable, result);
+    }
+
+    @ParameterizedTest(name = "getSemesterTimetable - When user has section {0} returns only its classes")
+    @MethodSource("userSectionProvider")
+    @DisplayName("getSemesterTimetable - Should restrict the timetable to the user section keeping the version")
+    void testGetSemesterTimetable_BasedOnUserSection_ReturnsSectionClasses(Long userSection) {
+        setupSecurityContext("ROLE_USER");
+        when(userService.getUserIdByEmail(anyString())).thenReturn(Mono.just(1L));
+        when(sectionService.getSectionIdByUserId(1L)).thenReturn(Mono.just(userSection));
+        when(semesterTimetableProjection.getTimetable(1L)).thenReturn(Mono.just(timetableWithSections(1L, 2L, 3L)));
+
+        SemesterTimetableResponseDTO result = planningService.getSemesterTimetable(1L).block();
+
+        assertNotNull(result);
+        assertEquals(7L, result.getVersion());
+        assertEquals(userSection, result.getSectionId());
+        assertEquals(1, result.getClasses().size());
+        assertEquals(userSection, result.getClasses().get(0).getCourseSectionId());
+        verify(courseService, never()).getCourseSectionId(anyLong());
+    }
+
+    @Test
+    @DisplayName("getSemesterTimetable - When user has no section returns no classes")
+    void testGetSemesterTimetable_NoSection_ReturnsNoClasses() {
+        setupSecurityContext("ROLE_USER");
+        when(userService.getUserIdByEmail(anyString())).thenReturn(Mono.just(1L));
+        when(sectionService.getSectionIdByUserId(1L)).thenReturn(Mono.empty());
+        when(semesterTimetableProjection.getTimetable(1L)).thenReturn(Mono.just(timetableWithSections(1L, 2L)));
+
+        SemesterTimetableResponseDTO result = planningService.getSemesterTimetable(1L).block();
+
+        assertNotNull(result);
+        assertEquals(7L, result.getVersion());
+        assertTrue(result.getClasses().isEmpty());
+    }
+
+    private SemesterTimetableResponseDTO timetableWithSections(Long... sectionIds) {
+        List<TimetableClassDTO> classes = Arrays.stream(sectionIds)
+                .map(sectionId -> TimetableClassDTO.builder().id(sectionId * 10).courseSectionId(sectionId).build())
+                .toList();
+        return new SemesterTimetableResponseDTO(1L, 7L, null, classes);
+    }
+
     // ==================== SECURITY CONTEXT ====================
     private void setupSecurityContext(String role) {
         List<SimpleGrantedAuthority> authorities = Collections.singletonList(new SimpleGrantedAuthority(role));
@@ -2621,7 +2673,7 @@ class PlanningServiceTest {
         when(userService.getUserIdByEmail(anyString())).thenReturn(Mono.just(1L));
         when(sectionService.getSectionIdByUserId(1L)).thenReturn(Mono.just(userSection));
         
-        when(courseService.getCourseSectionId(anyLong())).thenAnswer(invocation -> {
+        lenient().when(courseService.getCourseSectionId(anyLong())).thenAnswer(invocation -> {
             Long classId = invocation.getArgument(0);
             if (classId.equals(1L)) return Mono.just(1L);
             else if (classId.equals(2L)) return Mono.just(2L);
@@ -3125,7 +3177,7 @@ class PlanningServiceTest {
         setupSecurityContext("ROLE_ADMIN");
 
         when(semesterService.getCurrentSemesterId()).thenReturn(Mono.just(currentSemesterId));
-        when(classRepository.findBySemesterIdAndNoClassroomAssigned(currentSemesterId))
+        when(classRepository.findVisibleBySemesterIdAndNoClassroomAssigned(currentSemesterId, null))
                 .thenReturn(Flux.just(classWithoutClassroom1, classWithoutClassroom2));
         when(classScheduleRepository.findByClassId(1L)).thenReturn(Flux.empty());
         when(classScheduleRepository.findByClassId(2L)).thenReturn(Flux.empty());
@@ -3139,17 +3191,18 @@ class PlanningServiceTest {
                 .verifyComplete();
 
         verify(semesterService).getCurrentSemesterId();
-        verify(classRepository).findBySemesterIdAndNoClassroomAssigned(currentSemesterId);
+        verify(classRepository).findVisibleBySemesterIdAndNoClassroomAssigned(currentSemesterId, null);
     }
 
     @Test
     @DisplayName("findClassesWithoutClassroomAssigned - When no classes without classroom exist returns empty")
     void testFindClassesWithoutClassroomAssigned_NoClasses_ReturnsEmpty() {
+        setupSecurityContext("ROLE_ADMIN");
         // Arrange
         Long currentSemesterId = 1L;
 
         when(semesterService.getCurrentSemesterId()).thenReturn(Mono.just(currentSemesterId));
-        when(classRepository.findBySemesterIdAndNoClassroomAssigned(currentSemesterId))
+        when(classRepository.findVisibleBySemesterIdAndNoClassroomAssigned(currentSemesterId, null))
                 .thenReturn(Flux.empty());
 
         // Act & Assert
@@ -3157,7 +3210,7 @@ class PlanningServiceTest {
                 .verifyComplete();
 
         verify(semesterService).getCurrentSemesterId();
-        verify(classRepository).findBySemesterIdAndNoClassroomAssigned(currentSemesterId);
+        verify(classRepository).findVisibleBySemesterIdAndNoClassroomAssigned(currentSemesterId, null);
     }
 
     @Test
@@ -3172,7 +3225,7 @@ class PlanningServiceTest {
                 .verify();
 
         verify(semesterService).getCurrentSemesterId();
-        verify(classRepository, never()).findBySemesterIdAndNoClassroomAssigned(anyLong());
+        verify(classRepository, never()).findVisibleBySemesterIdAndNoClassroomAssigned(anyLong(), any());
     }
 
     @Test
@@ -3181,7 +3234,6 @@ class PlanningServiceTest {
         // Arrange
         Long currentSemesterId = 1L;
         Long userSectionId = 1L;
-        Long courseSectionId = 1L;
         
         Class classInSection = Class.builder()
                 .id(1L)
@@ -3198,11 +3250,10 @@ class PlanningServiceTest {
         setupSecurityContext("ROLE_SECTION");
 
         when(semesterService.getCurrentSemesterId()).thenReturn(Mono.just(currentSemesterId));
-        when(classRepository.findBySemesterIdAndNoClassroomAssigned(currentSemesterId))
+        when(classRepository.findVisibleBySemesterIdAndNoClassroomAssigned(currentSemesterId, userSectionId))
                 .thenReturn(Flux.just(classInSection));
         when(userService.getUserIdByEmail("testUser@example.com")).thenReturn(Mono.just(10L));
         when(sectionService.getSectionIdByUserId(10L)).thenReturn(Mono.just(userSectionId));
-        when(courseService.getCourseSectionId(100L)).thenReturn(Mono.just(courseSectionId));
         when(classScheduleRepository.findByClassId(1L)).thenReturn(Flux.empty());
         when(modelMapper.map(classInSection, ClassResponseDTO.class)).thenReturn(responseDTO);
 
@@ -3212,10 +3263,9 @@ class PlanningServiceTest {
                 .verifyComplete();
 
         verify(semesterService).getCurrentSemesterId();
-        verify(classRepository).findBySemesterIdAndNoClassroomAssigned(currentSemesterId);
+        verify(classRepository).findVisibleBySemesterIdAndNoClassroomAssigned(currentSemesterId, userSectionId);
         verify(userService).getUserIdByEmail("testUser@example.com");
         verify(sectionService).getSectionIdByUserId(10L);
-        verify(courseService).getCourseSectionId(100L);
     }
 
     // ==================== FIND CLASSES WITHOUT TEACHER ASSIGNED TESTS ====================
@@ -3252,7 +3302,7 @@ class PlanningServiceTest {
         setupSecurityContext("ROLE_ADMIN");
 
         when(semesterService.getCurrentSemesterId()).thenReturn(Mono.just(currentSemesterId));
-        when(classRepository.findBySemesterIdAndNoConfirmedTeacherAssigned(currentSemesterId))
+        when(classRepository.findVisibleBySemesterIdAndNoConfirmedTeacherAssigned(currentSemesterId, null))
                 .thenReturn(Flux.just(classWithoutTeacher1, classWithoutTeacher2));
         when(classScheduleRepository.findByClassId(1L)).thenReturn(Flux.empty());
         when(classScheduleRepository.findByClassId(2L)).thenReturn(Flux.empty());
@@ -3266,17 +3316,18 @@ class PlanningServiceTest {
                 .verifyComplete();
 
         verify(semesterService).getCurrentSemesterId();
-        verify(classRepository).findBySemesterIdAndNoConfirmedTeacherAssigned(currentSemesterId);
+        verify(classRepository).findVisibleBySemesterIdAndNoConfirmedTeacherAssigned(currentSemesterId, null);
     }
 
     @Test
     @DisplayName("findClassesWithoutTeacherAssigned - When no classes without teacher exist returns empty")
     void testFindClassesWithoutTeacherAssigned_NoClasses_ReturnsEmpty() {
+        setupSecurityContext("ROLE_ADMIN");
         // Arrange
         Long currentSemesterId = 1L;
 
         when(semesterService.getCurrentSemesterId()).thenReturn(Mono.just(currentSemesterId));
-        when(classRepository.findBySemesterIdAndNoConfirmedTeacherAssigned(currentSemesterId))
+        when(classRepository.findVisibleBySemesterIdAndNoConfirmedTeacherAssigned(currentSemesterId, null))
                 .thenReturn(Flux.empty());
 
         // Act & Assert
@@ -3284,7 +3335,7 @@ class PlanningServiceTest {
                 .verifyComplete();
 
         verify(semesterService).getCurrentSemesterId();
-        verify(classRepository).findBySemesterIdAndNoConfirmedTeacherAssigned(currentSemesterId);
+        verify(classRepository).findVisibleBySemesterIdAndNoConfirmedTeacherAssigned(currentSemesterId, null);
     }
 
     @Test
@@ -3300,7 +3351,7 @@ class PlanningServiceTest {
                 .verify();
 
         verify(semesterService).getCurrentSemesterId();
-        verify(classRepository, never()).findBySemesterIdAndNoConfirmedTeacherAssigned(anyLong());
+        verify(classRepository, never()).findVisibleBySemesterIdAndNoConfirmedTeacherAssigned(anyLong(), any());
     }
 
     @Test
@@ -3309,7 +3360,6 @@ class PlanningServiceTest {
         // Arrange
         Long currentSemesterId = 1L;
         Long userSectionId = 1L;
-        Long courseSectionId = 1L;
         
         Class classInSection = Class.builder()
                 .id(1L)
@@ -3326,11 +3376,10 @@ class PlanningServiceTest {
         setupSecurityContext("ROLE_SECTION");
 
         when(semesterService.getCurrentSemesterId()).thenReturn(Mono.just(currentSemesterId));
-        when(classRepository.findBySemesterIdAndNoConfirmedTeacherAssigned(currentSemesterId))
+        when(classRepository.findVisibleBySemesterIdAndNoConfirmedTeacherAssigned(currentSemesterId, userSectionId))
                 .thenReturn(Flux.just(classInSection));
         when(userService.getUserIdByEmail("testUser@example.com")).thenReturn(Mono.just(10L));
         when(sectionService.getSectionIdByUserId(10L)).thenReturn(Mono.just(userSectionId));
-        when(courseService.getCourseSectionId(100L)).thenReturn(Mono.just(courseSectionId));
         when(classScheduleRepository.findByClassId(1L)).thenReturn(Flux.empty());
         when(modelMapper.map(classInSection, ClassResponseDTO.class)).thenReturn(responseDTO);
 
@@ -3340,10 +3389,9 @@ class PlanningServiceTest {
                 .verifyComplete();
 
         verify(semesterService).getCurrentSemesterId();
-        verify(classRepository).findBySemesterIdAndNoConfirmedTeacherAssigned(currentSemesterId);
+        verify(classRepository).findVisibleBySemesterIdAndNoConfirmedTeacherAssigned(currentSemesterId, userSectionId);
         verify(userService).getUserIdByEmail("testUser@example.com");
         verify(sectionService).getSectionIdByUserId(10L);
-        verify(courseService).getCourseSectionId(100L);
     }
 
     @Test
@@ -3388,7 +3436,7 @@ class PlanningServiceTest {
         setupSecurityContext("ROLE_ADMIN");
 
         when(semesterService.getCurrentSemesterId()).thenReturn(Mono.just(currentSemesterId));
-        when(classRepository.findBySemesterIdAndNoConfirmedTeacherAssigned(currentSemesterId))
+        when(classRepository.findVisibleBySemesterIdAndNoConfirmedTeacherAssigned(currentSemesterId, null))
                 .thenReturn(Flux.just(classWithoutTeacher));
         when(classScheduleRepository.findByClassId(1L)).thenReturn(Flux.just(schedule1, schedule2));
         when(modelMapper.map(classWithoutTeacher, ClassResponseDTO.class)).thenReturn(responseDTO);
@@ -3405,7 +3453,7 @@ class PlanningServiceTest {
                 .verifyComplete();
 
         verify(semesterService).getCurrentSemesterId();
-        verify(classRepository).findBySemesterIdAndNoConfirmedTeacherAssigned(currentSemesterId);
+        verify(classRepository).findVisibleBySemesterIdAndNoConfirmedTeacherAssigned(currentSemesterId, null);
         verify(classScheduleRepository).findByClassId(1L);
     }
 
@@ -3487,13 +3535,9 @@ class PlanningServiceTest {
 
         when(semesterService.getCurrentSemesterId()).thenReturn(Mono.just(currentSemesterId));
         when(classroomService.getAllClassrooms()).thenReturn(Flux.just(classroom));
-        when(classScheduleRepository.findClassesWithOverlappingSchedulesInSameClassroom(currentSemesterId, classroomId))
+        when(scheduleConflictRepository.findClassesWithOverlappingSchedulesInSameClassroom(currentSemesterId, classroomId))
                 .thenReturn(Flux.just(s1, s2, s3, s4, s5));
-        lenient().when(classRepository.findById(10L)).thenReturn(Mono.just(class1));
-        lenient().when(classRepository.findById(20L)).thenReturn(Mono.just(class2));
-        lenient().when(classRepository.findById(30L)).thenReturn(Mono.just(class3));
-        lenient().when(classRepository.findById(40L)).thenReturn(Mono.just(class4));
-        lenient().when(classRepository.findById(50L)).thenReturn(Mono.just(class5));
+        when(classRepository.findAllById(anyCollection())).thenReturn(Flux.just(class1, class2, class3, class4, class5));
 
 
         // Act & Assert
@@ -3573,7 +3617,7 @@ class PlanningServiceTest {
 
         verify(semesterService).getCurrentSemesterId();
         verify(classroomService).getAllClassrooms();
-        verify(classScheduleRepository).findClassesWithOverlappingSchedulesInSameClassroom(currentSemesterId, classroomId);
+        verify(scheduleConflictRepository).findClassesWithOverlappingSchedulesInSameClassroom(currentSemesterId, classroomId);
     }
 
     @Test
@@ -3610,7 +3654,7 @@ class PlanningServiceTest {
 
         when(semesterService.getCurrentSemesterId()).thenReturn(Mono.just(currentSemesterId));
         when(classroomService.getAllClassrooms()).thenReturn(Flux.just(classroom));
-        when(classScheduleRepository.findClassesWithOverlappingSchedulesInSameClassroom(currentSemesterId, classroomId))
+        when(scheduleConflictRepository.findClassesWithOverlappingSchedulesInSameClassroom(currentSemesterId, classroomId))
                 .thenReturn(Flux.just(s1, s2));
 
         
@@ -3654,7 +3698,7 @@ class PlanningServiceTest {
 
         when(semesterService.getCurrentSemesterId()).thenReturn(Mono.just(currentSemesterId));
         when(classroomService.getAllClassrooms()).thenReturn(Flux.just(classroom));
-        when(classScheduleRepository.findClassesWithOverlappingSchedulesInSameClassroom(currentSemesterId, classroomId))
+        when(scheduleConflictRepository.findClassesWithOverlappingSchedulesInSameClassroom(currentSemesterId, classroomId))
                 .thenReturn(Flux.just(s1, s2));
         
         // Act & Assert - Different days should not create conflicts
@@ -3770,21 +3814,18 @@ class PlanningServiceTest {
 
         when(semesterService.getCurrentSemesterId()).thenReturn(Mono.just(currentSemesterId));
         when(classroomService.getAllClassrooms()).thenReturn(Flux.just(classroom));
-        when(classScheduleRepository.findClassesWithOverlappingSchedulesInSameClassroom(currentSemesterId, classroomId))
+        when(scheduleConflictRepository.findClassesWithOverlappingSchedulesInSameClassroom(currentSemesterId, classroomId))
                 .thenReturn(Flux.just(s1, s2, s3, s4, s5));
-        lenient().when(classRepository.findById(10L)).thenReturn(Mono.just(class1));
-        lenient().when(classRepository.findById(20L)).thenReturn(Mono.just(class2));
-        lenient().when(classRepository.findById(30L)).thenReturn(Mono.just(class3));
-        lenient().when(classRepository.findById(40L)).thenReturn(Mono.just(class4));
-        lenient().when(classRepository.findById(50L)).thenReturn(Mono.just(class5));
+        when(classRepository.findAllById(anyCollection())).thenReturn(Flux.just(class1, class2, class3, class4, class5));
         when(userService.getUserIdByEmail("testUser@example.com")).thenReturn(Mono.just(50L));
 
         lenient().when(sectionService.getSectionIdByUserId(50L)).thenReturn(Mono.just(userSectionId));
-        lenient().when(courseService.getCourseSectionId(100L)).thenReturn(Mono.just(differentSectionId)); // Class 10 - different section
-        lenient().when(courseService.getCourseSectionId(101L)).thenReturn(Mono.just(userSectionId));      // Class 20 - user's section
-        lenient().when(courseService.getCourseSectionId(102L)).thenReturn(Mono.just(differentSectionId)); // Class 30 - different section
-        lenient().when(courseService.getCourseSectionId(103L)).thenReturn(Mono.just(userSectionId));      // Class 40 - user's section
-        lenient().when(courseService.getCourseSectionId(104L)).thenReturn(Mono.just(userSectionId));      // Class 50 - user's section
+        when(courseService.getCourseSectionIds(anyCollection())).thenReturn(Mono.just(Map.of(
+                100L, differentSectionId,  // Class 10 - different section
+                101L, userSectionId,       // Class 20 - user's section
+                102L, differentSectionId,  // Class 30 - different section
+                103L, userSectionId,       // Class 40 - user's section
+                104L, userSectionId)));    // Class 50 - user's section
 
         // Act
         List<ClassroomScheduleConflictResponseDTO> conflicts = planningService.getClassroomScheduleConflicts()
@@ -3808,6 +3849,71 @@ class PlanningServiceTest {
         verify(semesterService).getCurrentSemesterId();
         verify(classroomService).getAllClassrooms();
         verify(userService, atLeastOnce()).getUserIdByEmail("testUser@example.com");
+        verify(classRepository, times(1)).findAllById(anyCollection());
+        verify(classRepository, never()).findById(anyLong());
+        verify(courseService, times(1)).getCourseSectionIds(anyCollection());
+        verify(courseService, never()).getCourseSectionId(anyLong());
+    }
+
+    @Test
+    @DisplayName("getClassroomScheduleConflicts - Concurrent callers share one computation")
+    void testGetClassroomScheduleConflicts_ConcurrentCallers_ComputedOnce() {
+        // Arrange
+        Long currentSemesterId = 1L;
+        Long classroomId = 100L;
+
+        ClassroomResponseDTO classroom = ClassroomResponseDTO.builder()
+                .id(classroomId)
+                .room("A-101")
+                .build();
+
+        ClassSchedule s1 = ClassSchedule.builder()
+                .id(1L)
+                .classId(10L)
+                .classroomId(classroomId)
+                .day("Monday")
+                .startTime(LocalTime.of(9, 0))
+                .endTime(LocalTime.of(11, 0))
+                .build();
+
+        ClassSchedule s2 = ClassSchedule.builder()
+                .id(2L)
+                .classId(20L)
+                .classroomId(classroomId)
+                .day("Monday")
+                .startTime(LocalTime.of(10, 0))
+                .endTime(LocalTime.of(12, 0))
+                .build();
+
+        Class class1 = Class.builder().id(10L).courseId(100L).semesterId(currentSemesterId).build();
+        Class class2 = Class.builder().id(20L).courseId(101L).semesterId(currentSemesterId).build();
+
+        // Schedules are emitted once both callers wait on the computation
+        Sinks.Many<ClassSchedule> schedules = Sinks.many().replay().all();
+
+        setupSecurityContext("ROLE_ADMIN");
+
+        when(semesterService.getCurrentSemesterId()).thenReturn(Mono.just(currentSemesterId));
+        when(classroomService.getAllClassrooms()).thenReturn(Flux.just(classroom));
+        when(scheduleConflictRepository.findClassesWithOverlappingSchedulesInSameClassroom(currentSemesterId, classroomId))
+                .thenReturn(schedules.asFlux());
+        when(classRepository.findAllById(anyCollection())).thenReturn(Flux.just(class1, class2));
+
+        // Act
+        CompletableFuture<List<ClassroomScheduleConflictResponseDTO>> first =
+                planningService.getClassroomScheduleConflicts().collectList().toFuture();
+        CompletableFuture<List<ClassroomScheduleConflictResponseDTO>> second =
+                planningService.getClassroomScheduleConflicts().collectList().toFuture();
+        schedules.tryEmitNext(s1);
+        schedules.tryEmitNext(s2);
+        schedules.tryEmitComplete();
+
+        // Assert
+        assertEquals(1, first.join().size());
+        assertEquals(first.join(), second.join());
+        verify(classroomService, times(1)).getAllClassrooms();
+        verify(scheduleConflictRepository, times(1))
+                .findClassesWithOverlappingSchedulesInSameClassroom(currentSemesterId, classroomId);
     }
 
     // ========================================================================
@@ -3892,14 +3998,10 @@ class PlanningServiceTest {
 
         when(semesterService.getCurrentSemesterId()).thenReturn(Mono.just(currentSemesterId));
         when(teacherService.getAllTeachers()).thenReturn(Flux.just(teacher));
-        when(classScheduleRepository.findTeacherScheduleConflicts(currentSemesterId, teacherId))
+        when(scheduleConflictRepository.findTeacherScheduleConflicts(currentSemesterId, teacherId))
                 .thenReturn(Flux.just(s1, s2, s3, s4, s5));
-        when(userService.getUserInformationById(userId)).thenReturn(Mono.just(userInfo));
-        lenient().when(classRepository.findById(10L)).thenReturn(Mono.just(class1));
-        lenient().when(classRepository.findById(20L)).thenReturn(Mono.just(class2));
-        lenient().when(classRepository.findById(30L)).thenReturn(Mono.just(class3));
-        lenient().when(classRepository.findById(40L)).thenReturn(Mono.just(class4));
-        lenient().when(classRepository.findById(50L)).thenReturn(Mono.just(class5));
+        when(userService.getUserInformationByIds(anyCollection())).thenReturn(Flux.just(userInfo));
+        when(classRepository.findAllById(anyCollection())).thenReturn(Flux.just(class1, class2, class3, class4, class5));
 
         // Act & Assert
         // Expected clusters:
@@ -3975,7 +4077,7 @@ class PlanningServiceTest {
         });
 
         verify(semesterService).getCurrentSemesterId();
-        verify(userService, atLeast(1)).getUserInformationById(userId);
+        verify(userService, times(1)).getUserInformationByIds(anyCollection());
     }
 
     @Test
@@ -4009,7 +4111,7 @@ class PlanningServiceTest {
 
         when(semesterService.getCurrentSemesterId()).thenReturn(Mono.just(currentSemesterId));
         when(teacherService.getAllTeachers()).thenReturn(Flux.just(teacher));
-        when(classScheduleRepository.findTeacherScheduleConflicts(currentSemesterId, teacherId))
+        when(scheduleConflictRepository.findTeacherScheduleConflicts(currentSemesterId, teacherId))
                 .thenReturn(Flux.just(s1, s2));
 
         // Act & Assert
@@ -4051,7 +4153,7 @@ class PlanningServiceTest {
 
         when(semesterService.getCurrentSemesterId()).thenReturn(Mono.just(currentSemesterId));
         when(teacherService.getAllTeachers()).thenReturn(Flux.just(teacher));
-        when(classScheduleRepository.findTeacherScheduleConflicts(currentSemesterId, teacherId))
+        when(scheduleConflictRepository.findTeacherScheduleConflicts(currentSemesterId, teacherId))
                 .thenReturn(Flux.just(s1, s2));
 
         // Act & Assert
@@ -4136,22 +4238,19 @@ class PlanningServiceTest {
 
         when(semesterService.getCurrentSemesterId()).thenReturn(Mono.just(currentSemesterId));
         when(teacherService.getAllTeachers()).thenReturn(Flux.just(teacher));
-        when(classScheduleRepository.findTeacherScheduleConflicts(currentSemesterId, teacherId))
+        when(scheduleConflictRepository.findTeacherScheduleConflicts(currentSemesterId, teacherId))
                 .thenReturn(Flux.just(s1, s2, s3, s4, s5));
-        when(userService.getUserInformationById(userId)).thenReturn(Mono.just(userInfo));
-        lenient().when(classRepository.findById(10L)).thenReturn(Mono.just(class1));
-        lenient().when(classRepository.findById(20L)).thenReturn(Mono.just(class2));
-        lenient().when(classRepository.findById(30L)).thenReturn(Mono.just(class3));
-        lenient().when(classRepository.findById(40L)).thenReturn(Mono.just(class4));
-        lenient().when(classRepository.findById(50L)).thenReturn(Mono.just(class5));
+        when(userService.getUserInformationByIds(anyCollection())).thenReturn(Flux.just(userInfo));
+        when(classRepository.findAllById(anyCollection())).thenReturn(Flux.just(class1, class2, class3, class4, class5));
         when(userService.getUserIdByEmail("testUser@example.com")).thenReturn(Mono.just(50L));
 
         lenient().when(sectionService.getSectionIdByUserId(50L)).thenReturn(Mono.just(userSectionId));
-        lenient().when(courseService.getCourseSectionId(100L)).thenReturn(Mono.just(differentSectionId)); // Class 10 - different section
-        lenient().when(courseService.getCourseSectionId(101L)).thenReturn(Mono.just(userSectionId));      // Class 20 - user's section
-        lenient().when(courseService.getCourseSectionId(102L)).thenReturn(Mono.just(differentSectionId)); // Class 30 - different section
-        lenient().when(courseService.getCourseSectionId(103L)).thenReturn(Mono.just(userSectionId));      // Class 40 - user's section
-        lenient().when(courseService.getCourseSectionId(104L)).thenReturn(Mono.just(userSectionId));      // Class 50 - user's section
+        when(courseService.getCourseSectionIds(anyCollection())).thenReturn(Mono.just(Map.of(
+                100L, differentSectionId,  // Class 10 - different section
+                101L, userSectionId,       // Class 20 - user's section
+                102L, differentSectionId,  // Class 30 - different section
+                103L, userSectionId,       // Class 40 - user's section
+                104L, userSectionId)));    // Class 50 - user's section
 
         // Act
         List<co.edu.puj.secchub_backend.planning.dto.TeacherScheduleConflictResponseDTO> conflicts = 
@@ -4174,6 +4273,10 @@ class PlanningServiceTest {
 
         verify(semesterService).getCurrentSemesterId();
         verify(userService, atLeastOnce()).getUserIdByEmail("testUser@example.com");
+        verify(classRepository, times(1)).findAllById(anyCollection());
+        verify(classRepository, never()).findById(anyLong());
+        verify(courseService, times(1)).getCourseSectionIds(anyCollection());
+        verify(courseService, never()).getCourseSectionId(anyLong());
     }
 
     // ==================== PARAMETER PROVIDERS ====================
@@ -0,0 +1,76 @@
+package co.edu.puj.secchub_backend.planning.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import co.edu.puj.secchub_backend.planning.dto.SemesterTimetableResponseDTO;
+import co.edu.puj.secchub_backend.planning.repository.ClassRepository;
+import co.edu.puj.secchub_backend.planning.repository.SemesterPlanningCloneRepository;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SemesterPlanningRollover Unit Test")
+class SemesterPlanningRolloverTest {
+
+    @Mock
+    private ClassRepository classRepository;
+
+    @Mock
+    private SemesterPlanningCloneRepository semesterPlanningCloneRepository;
+
+    @Mock
+    private SemesterTimetableProjection semesterTimetableProjection;
+
+    @InjectMocks
+    private SemesterPlanningRollover semesterPlanningRollover;
+
+    @Test
+    @DisplayName("clonePlanning - Should copy classes and then their schedules")
+    void testClonePlanning_CopiesClassesAndSchedules() {
+        when(classRepository.existsBySemesterId(2L)).thenReturn(Mono.just(false));
+        when(semesterPlanningCloneRepository.cloneClasses(1L, 2L)).thenReturn(Mono.just(3L));
+        when(semesterPlanningCloneRepository.cloneClassSchedules(1L, 2L)).thenReturn(Mono.just(5L));
+
+        StepVerifier.create(semesterPlanningRollover.clonePlanning(1L, 2L))
+                .expectNext(8L)
+                .verifyComplete();
+
+        var inOrder = inOrder(semesterPlanningCloneRepository);
+        inOrder.verify(semesterPlanningCloneRepository).cloneClasses(1L, 2L);
+        inOrder.verify(semesterPlanningCloneRepository).cloneClassSchedules(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("clonePlanning - When the semester already has planning copies nothing")
+    void testClonePlanning_SemesterWithPlanning_CopiesNothing() {
+        when(classRepository.existsBySemesterId(2L)).thenReturn(Mono.just(true));
+
+        StepVerifier.create(semesterPlanningRollover.clonePlanning(1L, 2L))
+                .expectNext(0L)
+                .verifyComplete();
+
+        verifyNoInteractions(semesterPlanningCloneRepository);
+    }
+
+    @Test
+    @DisplayName("warm - Should reload the timetable of the semester")
+    void testWarm_ReloadsTimetable() {
+        when(semesterTimetableProjection.getTimetable(2L)).thenReturn(Mono.just(new SemesterTimetableResponseDTO()));
+
+        StepVerifier.create(semesterPlanningRollover.warm(2L))
+                .verifyComplete();
+
+        var inOrder = inOrder(semesterTimetableProjection);
+        inOrder.verify(semesterTimetableProjection).evict(2L);
+        inOrder.verify(semesterTimetableProjection).getTimetable(anyLong());
+    }
+}
@@ -0,0 +1,311 @@
+package co.edu.puj.secchub_backend.planning.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import co.edu.puj.secchub_backend.admin.contract.CourseChangedEvent;
+import co.edu.puj.secchub_backend.config.LocalCacheInvalidationTransport;
+import co.edu.puj.secchub_backend.config.ReadModelInvalidations;
+import co.edu.puj.secchub_backend.planning.dto.SemesterTimetableResponseDTO;
+import co.edu.puj.secchub_backend.planning.dto.TimetableClassDTO;
+import co.edu.puj.secchub_backend.planning.dto.TimetableScheduleDTO;
+import co.edu.puj.secchub_backend.planning.dto.TimetableTeacherDTO;
+import co.edu.puj.secchub_backend.planning.dto.TimetableTeachingAssistantDTO;
+import co.edu.puj.secchub_backend.planning.dto.TimetableTeachingAssistantScheduleDTO;
+import co.edu.puj.secchub_backend.planning.model.Classroom;
+import co.edu.puj.secchub_backend.planning.repository.SemesterTimetableRepository;
+import reactor.core.publisher.Flux;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SemesterTimetableProjection Unit Test")
+class SemesterTimetableProjectionTest {
+
+    @Mock
+    private SemesterTimetableRepository repository;
+
+    private final LocalCacheInvalidationTransport transport = new LocalCacheInvalidationTransport();
+
+    private SemesterTimetableProjection semesterTimetableProjection;
+
+    @BeforeEach
+    void setUp() {
+        semesterTimetableProjection = newProjection();
+    }
+
+    @Test
+    @DisplayName("getTimetable - Should load the semester once and join every part to its class")
+    void testGetTimetable_LoadsOnceAndJoinsParts() {
+        mockSemester(1L, "Room 101");
+
+        SemesterTimetableResponseDTO first = semesterTimetableProjection.getTimetable(1L).block();
+        SemesterTimetableResponseDTO second = semesterTimetableProjection.getTimetable(1L).block();
+
+        assertNotNull(first);
+        assertSame(first, second);
+        assertEquals(List.of(10L, 20L), first.getClasses().stream().map(TimetableClassDTO::getId).toList());
+
+        TimetableClassDTO timetableClass = first.getClasses().get(0);
+        assertEquals("Algorithms", timetableClass.getCourseName());
+        assertEquals("Room 101", timetableClass.getSchedules().get(0).getClassroomRoom());
+        assertEquals("Ada", timetableClass.getTeachers().get(0).getName());
+        assertEquals(1, timetableClass.getTeachingAssistants().get(0).getSchedules().size());
+        assertTrue(first.getClasses().get(1).getSchedules().isEmpty());
+
+        verify(repository, times(1)).findClassesBySemesterId(1L);
+        verify(repository, times(1)).findSchedulesBySemesterId(1L);
+    }
+
+    @Test
+    @DisplayName("classChanged - Should replace the class and increase the version")
+    void testClassChanged_ReplacesClassAndIncreasesVersion() {
+        mockSemester(1L, "Room 101");
+        SemesterTimetableResponseDTO before = semesterTimetableProjection.getTimetable(1L).block();
+        mockClass(10L, 1L, "Room 202");
+
+        semesterTimetableProjection.classChanged(10L);
+        SemesterTimetableResponseDTO after = semesterTimetableProjection.getTimetable(1L).block();
+
+        assertNotNull(before);
+        assertNotNull(after);
+        assertTrue(after.getVersion() > before.getVersion());
+        assertEquals("Room 202", after.getClasses().get(0).getSchedules().get(0).getClassroomRoom());
+        assertEquals(2, after.getClasses().size());
+    }
+
+    @Test
+    @DisplayName("classChanged - When the class no longer exists removes it from the timetable")
+    void testClassChanged_DeletedClass_RemovesIt() {
+        mockSemester(1L, "Room 101");
+        semesterTimetableProjection.getTimetable(1L).block();
+        mockDeletedClass(20L);
+
+        semesterTimetableProjection.classChanged(20L);
+        SemesterTimetableResponseDTO after = semesterTimetableProjection.getTimetable(1L).block();
+
+        assertNotNull(after);
+        assertEquals(List.of(10L), after.getClasses().stream().map(TimetableClassDTO::getId).toList());
+    }
+
+    @Test
+    @DisplayName("classChanged - When the class did not change keeps the version")
+    void testClassChanged_Unchanged_KeepsVersion() {
+        mockSemester(1L, "Room 101");
+        SemesterTimetableResponseDTO before = semesterTimetableProjection.getTimetable(1L).block();
+        mockClass(10L, 1L, "Room 101");
+
+        semesterTimetableProjection.classChanged(10L);
+        SemesterTimetableResponseDTO after = semesterTimetableProjection.getTimetable(1L).block();
+
+        assertNotNull(before);
+        assertNotNull(after);
+        assertEquals(before.getVersion(), after.getVersion());
+    }
+
+    @Test
+    @DisplayName("classChanged - When no timetable is tracked does not query the database")
+    void testClassChanged_NothingTracked_DoesNothing() {
+        semesterTimetableProjection.classChanged(10L);
+
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    @DisplayName("classroomChanged - Should update the classroom of the schedules using it in memory")
+    void testClassroomChanged_UpdatesSchedulesInMemory() {
+        mockSemester(1L, "Room 101");
+        SemesterTimetableResponseDTO before = semesterTimetableProjection.getTimetable(1L).block();
+        Classroom renamed = Classroom.builder().id(5L).room("Lab 1").location("Building A").campus("Main").build();
+
+        semesterTimetableProjection.classroomChanged(5L, renamed);
+        SemesterTimetableResponseDTO renamedTimetable = semesterTimetableProjection.getTimetable(1L).block();
+        semesterTimetableProjection.classroomChanged(5L, null);
+        SemesterTimetableResponseDTO deletedTimetable = semesterTimetableProjection.getTimetable(1L).block();
+
+        assertNotNull(before);
+        assertNotNull(renamedTimetable);
+        assertNotNull(deletedTimetable);
+        assertEquals("Lab 1", renamedTimetable.getClasses().get(0).getSchedules().get(0).getClassroomRoom());
+        assertTrue(renamedTimetable.getVersion() > before.getVersion());
+        assertNull(deletedTimetable.getClasses().get(0).getSchedules().get(0).getClassroomId());
+        verify(repository, never()).findClassesByClassId(anyLong());
+    }
+
+    @Test
+    @DisplayName("teachingAssistantChanged - Should refresh the class of the teaching assistant")
+    void testTeachingAssistantChanged_RefreshesItsClass() {
+        mockSemester(1L, "Room 101");
+        semesterTimetableProjection.getTimetable(1L).block();
+        mockClass(10L, 1L, "Room 101");
+
+        semesterTimetableProjection.teachingAssistantChanged(300L);
+
+        verify(repository).findTeachingAssistantsByClassId(10L);
+        verify(repository, never()).findTeachingAssistantsByClassId(20L);
+    }
+
+    @Test
+    @DisplayName("onCourseChanged - Should refresh the classes of the course")
+    void testOnCourseChanged_RefreshesClassesOfCourse() {
+        mockSemester(1L, "Room 101");
+        semesterTimetableProjection.getTimetable(1L).block();
+        mockClass(10L, 1L, "Room 101");
+        mockClass(20L, 1L, "Room 101");
+
+        semesterTimetableProjection.onCourseChanged(new CourseChangedEvent(100L));
+        semesterTimetableProjection.onCourseChanged(new CourseChangedEvent(999L));
+
+        verify(repository, times(1)).findClassesByClassId(10L);
+        verify(repository, times(1)).findClassesByClassId(20L);
+    }
+
+    @Test
+    @DisplayName("reconcile - Should correct the classes that drifted from the database")
+    void testReconcile_CorrectsDrift() {
+        mockSemester(1L, "Room 101");
+        semesterTimetableProjection.getTimetable(1L).block();
+        mockSemester(1L, "Room 303");
+
+        Integer corrected = semesterTimetableProjection.reconcile(1L).block();
+        SemesterTimetableResponseDTO after = semesterTimetableProjection.getTimetable(1L).block();
+
+        assertEquals(1, corrected);
+        assertNotNull(after);
+        assertEquals("Room 303", after.getClasses().get(0).getSchedules().get(0).getClassroomRoom());
+        assertEquals(0, semesterTimetableProjection.reconcile(2L).block());
+    }
+
+    @Test
+    @DisplayName("evict - Should load the semester again on the next read with a higher version")
+    void testEvict_ReloadsWithHigherVersion() {
+        mockSemester(1L, "Room 101");
+        SemesterTimetableResponseDTO before = semesterTimetableProjection.getTimetable(1L).block();
+
+        semesterTimetableProjection.evict(1L);
+        SemesterTimetableResponseDTO after = semesterTimetableProjection.getTimetable(1L).block();
+
+        assertNotNull(before);
+        assertNotNull(after);
+        assertTrue(after.getVersion() > before.getVersion());
+        verify(repository, times(2)).findClassesBySemesterId(1L);
+    }
+
+    @Test
+    @DisplayName("classChanged - Should refresh the class on the other instances tracking its semester")
+    void testClassChanged_RefreshesOtherInstances() {
+        SemesterTimetableProjection otherInstance = newProjection();
+        mockSemester(1L, "Room 101");
+        otherInstance.getTimetable(1L).block();
+        mockClass(10L, 1L, "Room 202");
+
+        semesterTimetableProjection.classChanged(10L);
+        SemesterTimetableResponseDTO after = otherInstance.getTimetable(1L).block();
+
+        assertNotNull(after);
+        assertEquals("Room 202", after.getClasses().get(0).getSchedules().get(0).getClassroomRoom());
+    }
+
+    @Test
+    @DisplayName("classroomChanged - Should make the other instances read the classes using the classroom again")
+    void testClassroomChanged_OtherInstancesReadClassesAgain() {
+        SemesterTimetableProjection otherInstance = newProjection();
+        mockSemester(1L, "Room 101");
+        otherInstance.getTimetable(1L).block();
+        mockClass(10L, 1L, "Lab 1");
+
+        semesterTimetableProjection.classroomChanged(5L, Classroom.builder().id(5L).room("Lab 1").build());
+        SemesterTimetableResponseDTO after = otherInstance.getTimetable(1L).block();
+
+        assertNotNull(after);
+        assertEquals("Lab 1", after.getClasses().get(0).getSchedules().get(0).getClassroomRoom());
+        verify(repository, never()).findClassesByClassId(20L);
+    }
+
+    @Test
+    @DisplayName("evict - Should stop tracking the semester on the other instances")
+    void testEvict_StopsTrackingOnOtherInstances() {
+        SemesterTimetableProjection otherInstance = newProjection();
+        mockSemester(1L, "Room 101");
+        otherInstance.getTimetable(1L).block();
+
+        semesterTimetableProjection.evict(1L);
+
+        assertTrue(otherInstance.getTrackedSemesterIds().isEmpty());
+    }
+
+    /**
+     * Creates a projection listening to the shared transport, as the container would.
+     */
+    private SemesterTimetableProjection newProjection() {
+        SemesterTimetableProjection projection =
+                new SemesterTimetableProjection(repository, new ReadModelInvalidations(transport));
+        projection.listenToRemoteChanges();
+        return projection;
+    }
+
+    /**
+     * Mocks a semester with two classes, the first with a schedule, a teacher and a teaching assistant.
+     */
+    private void mockSemester(Long semesterId, String room) {
+        when(repository.findClassesBySemesterId(semesterId))
+                .thenAnswer(invocation -> Flux.just(timetableClass(10L, semesterId), timetableClass(20L, semesterId)));
+        when(repository.findSchedulesBySemesterId(semesterId)).thenAnswer(invocation -> Flux.just(schedule(10L, room)));
+        when(repository.findTeachersBySemesterId(semesterId)).thenAnswer(invocation -> Flux.just(teacher(10L)));
+        when(repository.findTeachingAssistantsBySemesterId(semesterId))
+                .thenAnswer(invocation -> Flux.just(teachingAssistant(10L)));
+        when(repository.findTeachingAssistantSchedulesBySemesterId(semesterId))
+                .thenAnswer(invocation -> Flux.just(teachingAssistantSchedule()));
+    }
+
+    private void mockClass(Long classId, Long semesterId, String room) {
+        when(repository.findClassesByClassId(classId)).thenAnswer(invocation -> Flux.just(timetableClass(classId, semesterId)));
+        when(repository.findSchedulesByClassId(classId)).thenAnswer(invocation -> Flux.just(schedule(classId, room)));
+        when(repository.findTeachersByClassId(classId)).thenAnswer(invocation -> Flux.just(teacher(classId)));
+        when(repository.findTeachingAssistantsByClassId(classId))
+                .thenAnswer(invocation -> Flux.just(teachingAssistant(classId)));
+        when(repository.findTeachingAssistantSchedulesByClassId(classId))
+                .thenAnswer(invocation -> Flux.just(teachingAssistantSchedule()));
+    }
+
+    private void mockDeletedClass(Long classId) {
+        when(repository.findClassesByClassId(classId)).thenReturn(Flux.empty());
+        when(repository.findSchedulesByClassId(classId)).thenReturn(Flux.empty());
+        when(repository.findTeachersByClassId(classId)).thenReturn(Flux.empty());
+        when(repository.findTeachingAssistantsByClassId(classId)).thenReturn(Flux.empty());
+        when(repository.findTeachingAssistantSchedulesByClassId(classId)).thenReturn(Flux.empty());
+    }
+
+    private static TimetableClassDTO timetableClass(Long classId, Long semesterId) {
+        return TimetableClassDTO.builder().id(classId).semesterId(semesterId).courseId(100L).courseName("Algorithms")
+                .courseSectionId(1L).build();
+    }
+
+    private static TimetableScheduleDTO schedule(Long classId, String room) {
+        return TimetableScheduleDTO.builder().id(classId * 10).classId(classId).day("MONDAY")
+                .startTime(LocalTime.of(7, 0)).endTime(LocalTime.of(9, 0)).classroomId(5L).classroomRoom(room).build();
+    }
+
+    private static TimetableTeacherDTO teacher(Long classId) {
+        return TimetableTeacherDTO.builder().id(200L).classId(classId).teacherId(2L).name("Ada").lastName("Lovelace")
+                .workHours(4).decision(true).build();
+    }
+
+    private static TimetableTeachingAssistantDTO teachingAssistant(Long classId) {
+        return TimetableTeachingAssistantDTO.builder().id(300L).classId(classId).studentApplicationId(3L).weeklyHours(6L)
+                .build();
+    }
+
+    private static TimetableTeachingAssistantScheduleDTO teachingAssistantSchedule() {
+        return TimetableTeachingAssistantScheduleDTO.builder().id(400L).teachingAssistantId(300L).day("TUESDAY")
+                .startTime(LocalTime.of(10, 0)).endTime(LocalTime.of(12, 0)).build();
+    }
+}
@@ -5,7 +5,9 @@ import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 import java.sql.Time;
+import java.time.Duration;
 import java.time.LocalTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -22,6 +24,7 @@ import org.mockito.ArgumentMatchers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -30,8 +33,12 @@ import org.springframework.security.core.context.ReactiveSecurityContextHolder;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.transaction.reactive.TransactionalOperator;
 
+import co.edu.puj.secchub_backend.admin.contract.AdminModuleAccessScopeContract;
+import co.edu.puj.secchub_backend.admin.contract.AdminModuleTeacherContract;
+import co.edu.puj.secchub_backend.admin.service.AccessScopeService;
 import co.edu.puj.secchub_backend.admin.contract.AdminModuleSectionContract;
 import co.edu.puj.secchub_backend.admin.contract.AdminModuleSemesterContract;
+import co.edu.puj.secchub_backend.config.SingleFlight;
 import co.edu.puj.secchub_backend.integration.contract.IntegrationModuleStudentApplicationContract;
 import co.edu.puj.secchub_backend.planning.dto.TeachingAssistantRequestDTO;
 import co.edu.puj.secchub_backend.planning.dto.TeachingAssistantResponseDTO;
@@ -45,9 +52,11 @@ import co.edu.puj.secchub_backend.planning.exception.TeachingAssistantServerErro
 import co.edu.puj.secchub_backend.planning.model.TeachingAssistant;
 import co.edu.puj.secchub_backend.planning.model.TeachingAssistantSchedule;
 import co.edu.puj.secchub_backend.planning.repository.TeachingAssistantRepository;
+import co.edu.puj.secchub_backend.planning.repository.ScheduleConflictRepository;
 import co.edu.puj.secchub_backend.planning.repository.TeachingAssistantScheduleRepository;
 import co.edu.puj.secchub_backend.security.contract.SecurityModuleUserContract;
 import co.edu.puj.secchub_backend.security.contract.UserInformationResponseDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
@@ -61,6 +70,9 @@ class TeachingAssistantServiceTest {
     @Mock
     private TeachingAssistantScheduleRepository scheduleRepository;
 
+    @Mock
+    private ScheduleConflictRepository scheduleConflictRepository;
+
     @Mock
     private ModelMapper modelMapper;
 
@@ -73,12 +85,21 @@ class TeachingAssistantServiceTest {
     @Mock
     private IntegrationModuleStudentApplicationContract studentApplicationService;
 
+    @Mock
+    private SemesterTimetableProjection semesterTimetableProjection;
+
     @Mock
     private AdminModuleSemesterContract semesterService;
 
     @Mock
     private TransactionalOperator transactionalOperator;
 
+    @Mock
+    private AdminModuleAccessScopeContract accessScopeService;
+
+    @Spy
+    private SingleFlight singleFlight = new SingleFlight(Duration.ZERO, new SimpleMeterRegistry());
+
     @InjectMocks
     private TeachingAssistantService teachingAssistantService;
 
@@ -93,6 +114,9 @@ class TeachingAssistantServiceTest {
 
     @BeforeEach
     void setUp() {
+        AccessScopeService accessScopes = new AccessScopeService(userService, sectionService, mock(AdminModuleTeacherContract.class));
+        lenient().when(accessScopeService.getCurrentAccessScope()).thenAnswer(invocation -> accessScopes.getCurrentAccessScope());
+
         testTeachingAssistant = TeachingAssistant.builder()
                 .id(1L)
                 .classId(1L)
@@ -593,8 +617,8 @@ class TeachingAssistantServiceTest {
         setupSecurityContext("ROLE_USER");
         List<TeachingAssistant> teachingAssistants = setUpUserMocking(userSection);
 
-        when(teachingAssistantRepository.findAll())
-                .thenReturn(Flux.fromIterable(teachingAssistants));
+        when(teachingAssistantRepository.findAllVisible(userSection))
+                .thenReturn(Flux.just(teachingAssistants.get(0)));
         when(modelMapper.map(any(TeachingAssistant.class), eq(TeachingAssistantResponseDTO.class)))
                 .thenReturn(testTeachingAssistantResponseDTO);
 
@@ -602,7 +626,7 @@ class TeachingAssistantServiceTest {
 
         assertNotNull(result);
         assertEquals(1, result.size());
-        verify(teachingAssistantRepository, times(1)).findAll();
+        verify(teachingAssistantRepository, times(1)).findAllVisible(userSection);
     }
 
     @Test
@@ -618,7 +642,7 @@ class TeachingAssistantServiceTest {
                 .totalHours(120L)
                 .build();
 
-        when(teachingAssistantRepository.findAll())
+        when(teachingAssistantRepository.findAllVisible(null))
                 .thenReturn(Flux.just(testTeachingAssistant, ta2));
         when(modelMapper.map(any(TeachingAssistant.class), eq(TeachingAssistantResponseDTO.class)))
                 .thenReturn(testTeachingAssistantResponseDTO);
@@ -627,20 +651,21 @@ class TeachingAssistantServiceTest {
 
         assertNotNull(result);
         assertEquals(2, result.size());
-        verify(teachingAssistantRepository, times(1)).findAll();
+        verify(teachingAssistantRepository, times(1)).findAllVisible(null);
     }
 
     @Test
     @DisplayName("listAllTeachingAssistants - Returns empty list when none exist")
     void listAllTeachingAssistants_ReturnsEmpty() {
-        when(teachingAssistantRepository.findAll())
+        setupSecurityContext("ROLE_ADMIN");
+        when(teachingAssistantRepository.findAllVisible(null))
                 .thenReturn(Flux.empty());
 
         List<TeachingAssistantResponseDTO> result = teachingAssistantService.listAllTeachingAssistants().collectList().block();
 
         assertNotNull(result);
         assertTrue(result.isEmpty());
-        verify(teachingAssistantRepository, times(1)).findAll();
+        verify(teachingAssistantRepository, times(1)).findAllVisible(null);
     }
 
     // ==================== CREATE SCHEDULE ====================
@@ -975,7 +1000,7 @@ class TeachingAssistantServiceTest {
         
         when(userService.getUserIdByEmail(anyString())).thenReturn(Mono.just(1L));
         when(sectionService.getSectionIdByUserId(1L)).thenReturn(Mono.just(userSection));
-        when(studentApplicationService.isApplicationOfSection(anyLong(), eq(userSection)))
+        lenient().when(studentApplicationService.isApplicationOfSection(anyLong(), eq(userSection)))
                 .thenAnswer(invocation -> {
                     Long applicationId = invocation.getArgument(0);
                     if (applicationId.equals(userSection)) return Mono.just(true);
@@ -1070,9 +1095,9 @@ class TeachingAssistantServiceTest {
         setupSecurityContext("ROLE_ADMIN");
 
         when(semesterService.getCurrentSemesterId()).thenReturn(Mono.just(currentSemesterId));
-        when(scheduleRepository.findConflictingSchedulesWithDetailsBySemesterId(currentSemesterId))
+        when(scheduleConflictRepository.findApprovedSchedulesWithDetailsBySemesterId(currentSemesterId))
                 .thenReturn(Flux.just(s1, s2, s3, s4, s5));
-        when(userService.getUserInformationById(userId)).thenReturn(Mono.just(userInfo));
+        when(userService.getUserInformationByIds(List.of(userId))).thenReturn(Flux.just(userInfo));
 
         // Act
         // Expected clusters:
@@ -1146,8 +1171,8 @@ class TeachingAssistantServiceTest {
         });
 
         verify(semesterService).getCurrentSemesterId();
-        verify(scheduleRepository).findConflictingSchedulesWithDetailsBySemesterId(currentSemesterId);
-        verify(userService, times(3)).getUserInformationById(userId);
+        verify(scheduleConflictRepository).findApprovedSchedulesWithDetailsBySemesterId(currentSemesterId);
+        verify(userService, times(1)).getUserInformationByIds(List.of(userId));
     }
 
     @Test
@@ -1233,13 +1258,13 @@ class TeachingAssistantServiceTest {
         setupSecurityContext("ROLE_SECTION");
 
         when(semesterService.getCurrentSemesterId()).thenReturn(Mono.just(currentSemesterId));
-        when(scheduleRepository.findConflictingSchedulesWithDetailsBySemesterId(currentSemesterId))
+        when(scheduleConflictRepository.findApprovedSchedulesWithDetailsBySemesterId(currentSemesterId))
                 .thenReturn(Flux.just(s1, s2, s3, s4, s5));
         when(userService.getUserIdByEmail(anyString())).thenReturn(Mono.just(1L));
         when(sectionService.getSectionIdByUserId(1L)).thenReturn(Mono.just(userSectionId));
         when(studentApplicationService.isApplicationOfSection(1L, userSectionId)).thenReturn(Mono.just(true));
         when(studentApplicationService.isApplicationOfSection(2L, userSectionId)).thenReturn(Mono.just(false));
-        when(userService.getUserInformationById(userId)).thenReturn(Mono.just(userInfo));
+        when(userService.getUserInformationByIds(List.of(userId))).thenReturn(Flux.just(userInfo));
 
         // Act
         // Expected: Only 1 cluster with s2-s5 (TAs 20, 50) since they are in section 1 and overlap
@@ -1287,7 +1312,7 @@ class TeachingAssistantServiceTest {
         assertEquals(LocalTime.of(17, 0), s3s4Conflict.getConflictEndTime(), "Max end time should be 17:00");
 
         verify(semesterService).getCurrentSemesterId();
-        verify(scheduleRepository).findConflictingSchedulesWithDetailsBySemesterId(currentSemesterId);
+        verify(scheduleConflictRepository).findApprovedSchedulesWithDetailsBySemesterId(currentSemesterId);
     }
 
     @Test
@@ -1297,7 +1322,7 @@ class TeachingAssistantServiceTest {
         Long currentSemesterId = 1L;
 
         when(semesterService.getCurrentSemesterId()).thenReturn(Mono.just(currentSemesterId));
-        when(scheduleRepository.findConflictingSchedulesWithDetailsBySemesterId(currentSemesterId))
+        when(scheduleConflictRepository.findApprovedSchedulesWithDetailsBySemesterId(currentSemesterId))
                 .thenReturn(Flux.empty());
 
         // Act
@@ -1309,7 +1334,76 @@ class TeachingAssistantServiceTest {
         assertTrue(conflicts.isEmpty(), "Should return empty list when no conflicts");
 
         verify(semesterService).getCurrentSemesterId();
-        verify(scheduleRepository).findConflictingSchedulesWithDetailsBySemesterId(currentSemesterId);
+        verify(scheduleConflictRepository).findApprovedSchedulesWithDetailsBySemesterId(currentSemesterId);
+    }
+
+    @Test
+    @DisplayName("getTeachingAssistantScheduleConflicts - Generated dataset of 3000 TAs is clustered per user")
+    void testGetTeachingAssistantScheduleConflicts_LargeGeneratedDataset_ClustersPerUser() {
+        // Arrange
+        // 1000 users with 3 TA assignments each (3000 TAs, 6000 schedules).
+        // Per user only the first two Monday schedules overlap, every other schedule is free.
+        Long currentSemesterId = 1L;
+        int users = 1000;
+        int teachingAssistantsPerUser = 3;
+        List<TeachingAssistantScheduleWithDetailsDTO> schedules = new ArrayList<>();
+        long scheduleId = 1L;
+        long teachingAssistantId = 1L;
+        for (long userId = 1; userId <= users; userId++) {
+            for (int ta = 0; ta < teachingAssistantsPerUser; ta++, teachingAssistantId++) {
+                LocalTime mondayStart = LocalTime.of(8 + ta * 2 - (ta == 1 ? 1 : 0), 0);
+                schedules.add(TeachingAssistantScheduleWithDetailsDTO.builder()
+                        .scheduleId(scheduleId++)
+                        .teachingAssistantId(teachingAssistantId)
+                        .studentApplicationId(teachingAssistantId)
+                        .userId(userId)
+                        .classId(teachingAssistantId)
+                        .sectionId(1L)
+                        .day("Monday")
+                        .startTime(mondayStart)
+                        .endTime(mondayStart.plusHours(2))
+                        .build());
+                LocalTime wednesdayStart = LocalTime.of(8 + ta * 2, 0);
+                schedules.add(TeachingAssistantScheduleWithDetailsDTO.builder()
+                        .scheduleId(scheduleId++)
+                        .teachingAssistantId(teachingAssistantId)
+                        .studentApplicationId(teachingAssistantId)
+                        .userId(userId)
+                        .classId(teachingAssistantId)
+                        .sectionId(1L)
+                        .day("Wednesday")
+                        .startTime(wednesdayStart)
+                        .endTime(wednesdayStart.plusHours(1))
+                        .build());
+            }
+        }
+
+        setupSecurityContext("ROLE_ADMIN");
+
+        when(semesterService.getCurrentSemesterId()).thenReturn(Mono.just(currentSemesterId));
+        when(scheduleConflictRepository.findApprovedSchedulesWithDetailsBySemesterId(currentSemesterId))
+                .thenReturn(Flux.fromIterable(schedules));
+        when(userService.getUserInformationByIds(anyCollection())).thenAnswer(invocation ->
+                Flux.fromIterable(invocation.<java.util.Collection<Long>>getArgument(0))
+                        .map(id -> UserInformationResponseDTO.builder().id(id).name("Generated TA").build()));
+
+        // Act
+        List<TeachingAssistantScheduleConflictResponseDTO> conflicts = assertTimeout(Duration.ofSeconds(10),
+                () -> teachingAssistantService.getTeachingAssistantScheduleConflicts().block());
+
+        // Assert
+        assertNotNull(conflicts);
+        assertEquals(users, conflicts.size(), "Should have exactly one conflict cluster per user");
+        conflicts.forEach(conflict -> {
+            assertEquals("Monday", conflict.getDay());
+            assertEquals(2, conflict.getConflictTeachingAssistants().size());
+            assertEquals(LocalTime.of(8, 0), conflict.getConflictStartTime());
+            assertEquals(LocalTime.of(11, 0), conflict.getConflictEndTime());
+        });
+
+        verify(scheduleConflictRepository).findApprovedSchedulesWithDetailsBySemesterId(currentSemesterId);
+        verify(userService, times(1)).getUserInformationByIds(argThat(userIds -> userIds.size() == users));
+        verify(userService, never()).getUserInformationById(anyLong());
     }
 
     @Test
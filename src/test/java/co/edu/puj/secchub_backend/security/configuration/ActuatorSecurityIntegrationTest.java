@@ -0,0 +1,81 @@
+package co.edu.puj.secchub_backend.security.configuration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import co.edu.puj.secchub_backend.DatabaseContainerIntegration;
+import co.edu.puj.secchub_backend.R2dbcTestUtils;
+import co.edu.puj.secchub_backend.security.jwt.JwtTokenProvider;
+import io.r2dbc.spi.ConnectionFactory;
+
+@SpringBootTest
+@AutoConfigureWebTestClient
+@Testcontainers
+@DisplayName("Actuator Security Integration Tests")
+class ActuatorSecurityIntegrationTest extends DatabaseContainerIntegration {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Autowired
+    private ConnectionFactory connectionFactory;
+
+    @BeforeEach
+    void setUp() {
+        R2dbcTestUtils.executeScripts(connectionFactory,
+                "/test-cleanup.sql",
+                "/test-users.sql"
+        );
+    }
+
+    @Test
+    @DisplayName("GET /actuator/health - Should be public")
+    void health_withoutToken_returnsOk() {
+        webTestClient.get()
+                .uri("/actuator/health")
+                .exchange()
+                .expectStatus().isOk();
+    }
+
+    @Test
+    @DisplayName("GET /actuator/metrics - Should require authentication")
+    void metrics_withoutToken_returnsUnauthorized() {
+        webTestClient.get()
+                .uri("/actuator/metrics")
+                .exchange()
+                .expectStatus().isUnauthorized();
+    }
+
+    @Test
+    @DisplayName("GET /actuator/metrics - Should be forbidden for non-admin users")
+    void metrics_asUser_returnsForbidden() {
+        String token = jwtTokenProvider.generateToken("testUser@example.com", "ROLE_USER");
+
+        webTestClient.get()
+                .uri("/actuator/metrics")
+                .header("Authorization", "Bearer " + token)
+                .exchange()
+                .expectStatus().isForbidden();
+    }
+
+    @Test
+    @DisplayName("GET /actuator/metrics - Should be available to admins")
+    void metrics_asAdmin_returnsOk() {
+        String token = jwtTokenProvider.generateToken("testAdmin@example.com", "ROLE_ADMIN");
+
+        webTestClient.get()
+                .uri("/actuator/metrics")
+                .header("Authorization", "Bearer " + token)
+                .exchange()
+                .expectStatus().isOk();
+    }
+}
@@ -1,13 +1,17 @@
 package co.edu.puj.secchub_backend.security.service;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.lenient;
 
+import java.util.List;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
@@ -80,4 +84,19 @@ class PasswordEncoderServiceTest {
         // Then
         assertFalse(result, "Input should not match a different encoded value");
     }
+
+    @Test
+    @DisplayName("EncodeAll should encode every password in parallel keeping their order")
+    void encodeAll_encodesInParallel_andKeepsOrder() {
+        // Given
+        passwordEncoderService = new PasswordEncoderService(passwordEncoder, 4);
+        List<String> inputs = List.of("password123", "admin!@#", "user_pass", "12345678", "another", "last");
+        // When
+        List<String> encoded = passwordEncoderService.encodeAll(inputs).collectList().block();
+        // Then
+        assertEquals(inputs.size(), encoded.size(), "Every password should be encoded");
+        for (int i = 0; i < inputs.size(); i++) {
+            assertTrue(realEncoder.matches(inputs.get(i), encoded.get(i)), "Encoded values should keep the input order");
+        }
+    }
 }
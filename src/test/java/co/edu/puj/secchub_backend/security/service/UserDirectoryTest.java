@@ -0,0 +1,86 @@
+package co.edu.puj.secchub_backend.security.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.modelmapper.ModelMapper;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import co.edu.puj.secchub_backend.security.contract.UserChangedEvent;
+import co.edu.puj.secchub_backend.security.contract.UserInformationResponseDTO;
+import co.edu.puj.secchub_backend.security.model.User;
+import co.edu.puj.secchub_backend.security.repository.UserRepository;
+import reactor.core.publisher.Flux;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UserDirectory Unit Test")
+class UserDirectoryTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    private final ModelMapper modelMapper = new ModelMapper();
+
+    private UserDirectory userDirectory;
+
+    private final User ana = User.builder().id(1L).name("Ana").email("ana@uni.edu").build();
+    private final User luis = User.builder().id(2L).name("Luis").email("Luis@uni.edu").build();
+
+    @BeforeEach
+    void setUp() {
+        userDirectory = new UserDirectory(userRepository, modelMapper,
+            new ConcurrentMapCacheManager(UserDirectory.BY_ID_CACHE, UserDirectory.BY_EMAIL_CACHE));
+    }
+
+    @Test
+    @DisplayName("findByIds - Should load only the users missing from the cache with one query")
+    void testFindByIds_LoadsOnlyMissingUsers() {
+        when(userRepository.findAllById(List.of(1L, 2L))).thenReturn(Flux.just(ana, luis));
+        userDirectory.findByIds(List.of(1L, 2L)).blockLast();
+
+        when(userRepository.findAllById(List.of(3L))).thenReturn(Flux.empty());
+        List<UserInformationResponseDTO> result = userDirectory.findByIds(java.util.Arrays.asList(2L, 1L, 2L, null, 3L))
+            .collectList().block();
+
+        assertNotNull(result);
+        assertEquals(List.of(2L, 1L), result.stream().map(UserInformationResponseDTO::getId).toList());
+        verify(userRepository, times(1)).findAllById(List.of(1L, 2L));
+        verify(userRepository, times(1)).findAllById(List.of(3L));
+    }
+
+    @Test
+    @DisplayName("findByEmails - Should share the cached users with the lookup by id, ignoring email case")
+    void testFindByEmails_SharesCacheWithLookupById() {
+        when(userRepository.findAllById(List.of(2L))).thenReturn(Flux.just(luis));
+        userDirectory.findByIds(List.of(2L)).blockLast();
+
+        List<UserInformationResponseDTO> result = userDirectory.findByEmails(List.of("LUIS@uni.edu")).collectList().block();
+
+        assertNotNull(result);
+        assertEquals("Luis", result.get(0).getName());
+        verify(userRepository, never()).findByEmailIn(anyCollection());
+    }
+
+    @Test
+    @DisplayName("onUserChanged - Should evict the user by id and by its cached email")
+    void testOnUserChanged_EvictsUser() {
+        when(userRepository.findAllById(List.of(1L))).thenReturn(Flux.just(ana));
+        userDirectory.findByIds(List.of(1L)).blockLast();
+
+        userDirectory.onUserChanged(new UserChangedEvent(1L, "ana.new@uni.edu"));
+
+        when(userRepository.findByEmailIn(List.of("ana@uni.edu"))).thenReturn(Flux.empty());
+        assertEquals(0L, userDirectory.findByEmails(List.of("ana@uni.edu")).count().block());
+        userDirectory.findByIds(List.of(1L)).blockLast();
+        verify(userRepository, times(2)).findAllById(List.of(1L));
+    }
+}
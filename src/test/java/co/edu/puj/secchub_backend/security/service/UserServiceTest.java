@@ -16,14 +16,19 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.ReactiveSecurityContextHolder;
 import org.springframework.security.core.context.SecurityContext;
 
+import co.edu.puj.secchub_backend.security.contract.UserChangedEvent;
 import co.edu.puj.secchub_backend.security.contract.UserCreationRequestDTO;
+import co.edu.puj.secchub_backend.security.contract.UserCreationResultDTO;
 import co.edu.puj.secchub_backend.security.contract.UserInformationResponseDTO;
 import co.edu.puj.secchub_backend.security.exception.UserNotFoundException;
 import co.edu.puj.secchub_backend.security.model.User;
+import co.edu.puj.secchub_backend.security.repository.UserBatchRepository;
 import co.edu.puj.secchub_backend.security.repository.UserRepository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -35,12 +40,21 @@ class UserServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private UserBatchRepository userBatchRepository;
+
     @Mock
     private ModelMapper modelMapper;
 
     @Mock
     private PasswordEncoderService passwordEncoderService;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private UserDirectory userDirectory;
+
     @InjectMocks
     private UserService userService;
 
@@ -83,6 +97,72 @@ class UserServiceTest {
         verify(modelMapper).map(req, User.class);
         verify(passwordEncoderService).encode("plain");
         verify(userRepository).save(mapped);
+        verify(eventPublisher).publishEvent(new UserChangedEvent(7L, "u@d.com"));
+    }
+
+    @Test
+    @DisplayName("createUsers - Reports existing and repeated emails and inserts the rest with hashed passwords")
+    void testCreateUsers_ReportsDuplicatesAndInsertsRest() {
+        UserCreationRequestDTO first = UserCreationRequestDTO.builder().email("new@d.com").password("p1").build();
+        UserCreationRequestDTO existing = UserCreationRequestDTO.builder().email("Taken@d.com").password("p2").build();
+        UserCreationRequestDTO repeated = UserCreationRequestDTO.builder().email("NEW@d.com").password("p3").build();
+        UserCreationRequestDTO second = UserCreationRequestDTO.builder().email("other@d.com").password("p4").build();
+        User firstUser = User.builder().email("new@d.com").password("p1").build();
+        User secondUser = User.builder().email("other@d.com").password("p4").build();
+
+        when(userRepository.findExistingEmails(List.of("new@d.com", "Taken@d.com", "NEW@d.com", "other@d.com")))
+                .thenReturn(Flux.just("taken@d.com"));
+        when(modelMapper.map(first, User.class)).thenReturn(firstUser);
+        when(modelMapper.map(second, User.class)).thenReturn(secondUser);
+        when(passwordEncoderService.encodeAll(List.of("p1", "p4"))).thenReturn(Flux.just("h1", "h4"));
+        when(userBatchRepository.insertAll(List.of(firstUser, secondUser))).thenAnswer(invocation -> {
+            firstUser.setId(10L);
+            secondUser.setId(11L);
+            return Flux.just(firstUser, secondUser);
+        });
+
+        List<UserCreationResultDTO> results = userService.createUsers(List.of(first, existing, repeated, second))
+                .collectList().block();
+
+        assertNotNull(results);
+        assertEquals(List.of(UserCreationResultDTO.Status.CREATED, UserCreationResultDTO.Status.DUPLICATE_EMAIL,
+                UserCreationResultDTO.Status.DUPLICATE_EMAIL, UserCreationResultDTO.Status.CREATED),
+                results.stream().map(UserCreationResultDTO::getStatus).toList());
+        assertEquals(Arrays.asList(10L, null, null, 11L), results.stream().map(UserCreationResultDTO::getUserId).toList());
+        assertEquals("h1", firstUser.getPassword());
+        assertEquals("h4", secondUser.getPassword());
+        verify(eventPublisher).publishEvent(new UserChangedEvent(10L, "new@d.com"));
+        verify(eventPublisher).publishEvent(new UserChangedEvent(11L, "other@d.com"));
+        verify(userRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("createUsers - When an email is registered meanwhile inserts the users one by one")
+    void testCreateUsers_ConcurrentDuplicate_InsertsOneByOne() {
+        UserCreationRequestDTO first = UserCreationRequestDTO.builder().email("a@d.com").password("p1").build();
+        UserCreationRequestDTO second = UserCreationRequestDTO.builder().email("b@d.com").password("p2").build();
+        User firstUser = User.builder().email("a@d.com").password("p1").build();
+        User secondUser = User.builder().email("b@d.com").password("p2").build();
+
+        when(userRepository.findExistingEmails(List.of("a@d.com", "b@d.com"))).thenReturn(Flux.empty());
+        when(modelMapper.map(first, User.class)).thenReturn(firstUser);
+        when(modelMapper.map(second, User.class)).thenReturn(secondUser);
+        when(passwordEncoderService.encodeAll(List.of("p1", "p2"))).thenReturn(Flux.just("h1", "h2"));
+        when(userBatchRepository.insertAll(List.of(firstUser, secondUser)))
+                .thenReturn(Flux.error(new DuplicateKeyException("Duplicate entry 'b@d.com'")));
+        when(userRepository.save(firstUser)).thenAnswer(invocation -> {
+            firstUser.setId(20L);
+            return Mono.just(firstUser);
+        });
+        when(userRepository.save(secondUser)).thenReturn(Mono.error(new DuplicateKeyException("Duplicate entry 'b@d.com'")));
+
+        List<UserCreationResultDTO> results = userService.createUsers(List.of(first, second)).collectList().block();
+
+        assertNotNull(results);
+        assertEquals(UserCreationResultDTO.Status.CREATED, results.get(0).getStatus());
+        assertEquals(20L, results.get(0).getUserId());
+        assertEquals(UserCreationResultDTO.Status.DUPLICATE_EMAIL, results.get(1).getStatus());
+        verify(eventPublisher, times(1)).publishEvent(any(UserChangedEvent.class));
     }
 
     @Test
@@ -193,6 +273,18 @@ class UserServiceTest {
         verify(modelMapper).map(user, UserInformationResponseDTO.class);
     }
 
+    @Test
+    @DisplayName("getUserInformationByIds - Resolves the users through the user directory")
+    void testGetUserInformationByIds_DelegatesToDirectory() {
+        UserInformationResponseDTO dto = UserInformationResponseDTO.builder().id(1L).build();
+        when(userDirectory.findByIds(List.of(1L, 2L))).thenReturn(Flux.just(dto));
+
+        List<UserInformationResponseDTO> result = userService.getUserInformationByIds(List.of(1L, 2L)).collectList().block();
+
+        assertEquals(List.of(dto), result);
+        verifyNoInteractions(userRepository);
+    }
+
     @Test
     @DisplayName("getUserInformation - Uses ReactiveSecurityContextHolder to resolve current user")
     void testGetUserInformation_UsesSecurityContext_ReturnsDTO() {
@@ -0,0 +1,104 @@
+-- ============================================
+-- Query Plan Dataset - Scaled data for EXPLAIN checks
+-- ============================================
+-- Purpose: Fills the operational tables with enough rows for the optimizer
+-- to pick realistic plans, so full scans and unselective indexes show up.
+--
+-- Shape:
+-- - 6000 users (1-1000 teachers, 1001-6000 students)
+-- - 20 sections, 400 courses, 10 semesters (10 is current), 200 classrooms
+-- - 10000 classes with 20000 schedules, one teacher_class each
+-- - 10000 student applications with 20000 schedules
+-- - 5000 teaching assistants with 10000 schedules
+-- ============================================
+
+SET SESSION cte_max_recursion_depth = 20000;
+
+-- ==================
+-- 1. Users and teachers
+-- ==================
+INSERT INTO users (id, username, password, name, last_name, email, status_id, role_id, document_type_id, document_number)
+WITH RECURSIVE seq (n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < 6000)
+SELECT n, CONCAT('plan.user', n), 'password', CONCAT('Name', n), CONCAT('LastName', n),
+       CONCAT('plan.user', n, '@javeriana.edu.co'), 1, IF(n <= 1000, 4, 3), 1, CONCAT('10', n)
+FROM seq;
+
+INSERT INTO teacher (id, user_id, employment_type_id, max_hours)
+WITH RECURSIVE seq (n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < 1000)
+SELECT n, n, MOD(n, 2) + 1, IF(MOD(n, 2) = 0, 40, 20)
+FROM seq;
+
+-- ==================
+-- 2. Sections, courses, semesters and classrooms
+-- ==================
+INSERT INTO section (id, user_id, name, planning_closed)
+WITH RECURSIVE seq (n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < 20)
+SELECT n, NULL, CONCAT('Section ', n), FALSE
+FROM seq;
+
+INSERT INTO course (id, section_id, name, credits, description, is_valid, status_id)
+WITH RECURSIVE seq (n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < 400)
+SELECT n, MOD(n - 1, 20) + 1, CONCAT('Course ', n), 3, 'Query plan course', TRUE, 1
+FROM seq;
+
+INSERT INTO semester (id, period, year, is_current, start_date, end_date)
+WITH RECURSIVE seq (n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < 10)
+SELECT n, MOD(n - 1, 2) + 1, 2021 + (n - 1) DIV 2, n = 10,
+       MAKEDATE(2021 + (n - 1) DIV 2, 1 + MOD(n - 1, 2) * 182),
+       MAKEDATE(2021 + (n - 1) DIV 2, 150 + MOD(n - 1, 2) * 182)
+FROM seq;
+
+INSERT INTO classroom (id, classroom_type_id, campus, location, room, capacity)
+WITH RECURSIVE seq (n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < 200)
+SELECT n, MOD(n - 1, 4) + 1, 'Main Campus', CONCAT('Building ', MOD(n - 1, 10) + 1), CONCAT('Room ', n), 40
+FROM seq;
+
+-- ==================
+-- 3. Classes, schedules and teacher assignments
+-- ==================
+INSERT INTO class (id, section, course_id, semester_id, start_date, end_date, observation, capacity, status_id)
+WITH RECURSIVE seq (n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < 10000)
+SELECT n, 1, MOD(n - 1, 400) + 1, MOD(n - 1, 10) + 1, '2025-08-01', '2025-12-15', NULL, 30, 1
+FROM seq;
+
+INSERT INTO class_schedule (id, class_id, classroom_id, day, start_time, end_time, modality_id, disability)
+WITH RECURSIVE seq (n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < 20000)
+SELECT n, MOD(n - 1, 10000) + 1, IF(MOD(n, 50) = 0, NULL, MOD(n - 1, 200) + 1),
+       ELT(MOD(n - 1, 5) + 1, 'MONDAY', 'TUESDAY', 'WEDNESDAY', 'THURSDAY', 'FRIDAY'),
+       MAKETIME(7 + MOD(n - 1, 10), 0, 0), MAKETIME(9 + MOD(n - 1, 10), 0, 0), 1, FALSE
+FROM seq;
+
+INSERT INTO teacher_class (id, semester_id, teacher_id, class_id, work_hours, decision, status_id, start_date, end_date)
+WITH RECURSIVE seq (n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < 10000)
+SELECT n, MOD(n - 1, 10) + 1, MOD(n - 1, 1000) + 1, n, 4,
+       ELT(MOD(n - 1, 3) + 1, NULL, TRUE, FALSE), ELT(MOD(n - 1, 3) + 1, 4, 8, 9),
+       '2025-08-01', '2025-12-15'
+FROM seq;
+
+-- ==================
+-- 4. Student applications and teaching assistants
+-- ==================
+INSERT INTO student_application (id, user_id, course_id, section_id, semester_id, program, student_semester,
+                                 academic_average, was_teaching_assistant, course_average, application_date, status_id)
+WITH RECURSIVE seq (n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < 10000)
+SELECT n, 1001 + MOD(n - 1, 5000), MOD(n - 1, 400) + 1, IF(MOD(n, 2) = 0, MOD(n - 1, 20) + 1, NULL),
+       MOD(n - 1, 10) + 1, 'Ingenieria de Sistemas', 6, 4.20, FALSE, 4.50, '2025-07-01',
+       ELT(MOD(n - 1, 3) + 1, 4, 8, 9)
+FROM seq;
+
+INSERT INTO student_application_schedule (id, student_application_id, day, start_time, end_time)
+WITH RECURSIVE seq (n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < 20000)
+SELECT n, MOD(n - 1, 10000) + 1, ELT(MOD(n - 1, 5) + 1, 'MONDAY', 'TUESDAY', 'WEDNESDAY', 'THURSDAY', 'FRIDAY'),
+       MAKETIME(7 + MOD(n - 1, 10), 0, 0), MAKETIME(9 + MOD(n - 1, 10), 0, 0)
+FROM seq;
+
+INSERT INTO teaching_assistant (id, class_id, student_application_id, weekly_hours, weeks, total_hours)
+WITH RECURSIVE seq (n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < 5000)
+SELECT n, IF(MOD(n, 5) = 0, NULL, n * 2), n, 10, 16, 160
+FROM seq;
+
+INSERT INTO teaching_assistant_schedule (id, teaching_assistant_id, day, start_time, end_time)
+WITH RECURSIVE seq (n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < 10000)
+SELECT n, MOD(n - 1, 5000) + 1, ELT(MOD(n - 1, 5) + 1, 'MONDAY', 'TUESDAY', 'WEDNESDAY', 'THURSDAY', 'FRIDAY'),
+       MAKETIME(7 + MOD(n - 1, 10), 0, 0), MAKETIME(9 + MOD(n - 1, 10), 0, 0)
+FROM seq;